@@ -26,9 +26,11 @@ package io.evitadb.api;
 import io.evitadb.api.TransactionContract.CommitBehavior;
 import io.evitadb.api.exception.TransactionException;
 import io.evitadb.api.exception.UniqueValueViolationException;
+import io.evitadb.utils.Assert;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.EnumSet;
 
@@ -47,6 +49,8 @@ import java.util.EnumSet;
  * - **Commit behavior**: When to consider changes committed ({@link CommitBehavior})
  * - **Dry-run mode**: Test changes without persisting ({@link SessionFlags#DRY_RUN})
  * - **Binary mode**: Internal API mode for raw binary entities ({@link SessionFlags#BINARY})
+ * - **Bounded staleness**: Read-only session may be served from a shared, slightly older snapshot
+ *   ({@link #withMaxStaleness(Duration)})
  * - **Termination callback**: Optional cleanup logic on session close
  *
  * **Common Usage Patterns**
@@ -71,6 +75,11 @@ import java.util.EnumSet;
  * new SessionTraits("catalogName", session -> logger.info("Session closed"), SessionFlags.READ_WRITE)
  * ```
  *
+ * Read-only session accepting data at most 500 ms old:
+ * ```
+ * new SessionTraits("catalogName").withMaxStaleness(Duration.ofMillis(500))
+ * ```
+ *
  * **Thread-Safety**
  *
  * This record is immutable and thread-safe. Multiple threads can safely share the same `SessionTraits` instance to
@@ -80,14 +89,27 @@ import java.util.EnumSet;
  * @param flags           flags that alter session behaviour (read-only, read-write, dry-run, binary mode)
  * @param commitBehaviour when to consider a transaction committed (conflict resolution, WAL persistence, changes visible)
  * @param onTermination   callback function that will be executed once the session is closed (optional)
+ * @param maxStaleness    maximal age of the catalog snapshot a read-only session accepts (optional), when set
+ *                        the session may be bound to a snapshot shared with other sessions instead of the latest
+ *                        catalog version, see {@link #withMaxStaleness(Duration)}
  */
 public record SessionTraits(
 	@Nonnull String catalogName,
 	@Nonnull EnumSet<SessionFlags> flags,
 	@Nullable CommitBehavior commitBehaviour,
-	@Nullable EvitaSessionTerminationCallback onTermination
+	@Nullable EvitaSessionTerminationCallback onTermination,
+	@Nullable Duration maxStaleness
 ) {
 
+	public SessionTraits(
+		@Nonnull String catalogName,
+		@Nonnull EnumSet<SessionFlags> flags,
+		@Nullable CommitBehavior commitBehaviour,
+		@Nullable EvitaSessionTerminationCallback onTermination
+	) {
+		this(catalogName, flags, commitBehaviour, onTermination, null);
+	}
+
 	public SessionTraits(@Nonnull String catalogName) {
 		this(catalogName, null, CommitBehavior.defaultBehaviour(), (SessionFlags[]) null);
 	}
@@ -131,6 +153,38 @@ public record SessionTraits(
 		this(catalogName, null, CommitBehavior.defaultBehaviour(), flags);
 	}
 
+	/**
+	 * Returns a copy of these traits that accepts being served from a catalog snapshot that was the latest one at most
+	 * `maxStaleness` ago. Sessions with bounded staleness opened in short succession share a single catalog snapshot
+	 * instead of each binding to the latest catalog version, which reduces the number of concurrently retained catalog
+	 * versions and keeps the cached results computed for the shared snapshot valid for longer.
+	 *
+	 * The setting applies only to read-only sessions - read-write sessions always work with the latest catalog
+	 * version. The data visible in the session are never older than `maxStaleness` at the moment the session is
+	 * created.
+	 *
+	 * @param maxStaleness the maximal accepted age of the snapshot, must not be negative
+	 * @return new traits with the bounded staleness set
+	 */
+	@Nonnull
+	public SessionTraits withMaxStaleness(@Nonnull Duration maxStaleness) {
+		Assert.isTrue(
+			!maxStaleness.isNegative(),
+			"Maximal staleness of the session must not be negative!"
+		);
+		return new SessionTraits(this.catalogName, this.flags, this.commitBehaviour, this.onTermination, maxStaleness);
+	}
+
+	/**
+	 * Returns `true` if the session may be bound to a shared snapshot of the catalog that is not older than
+	 * {@link #maxStaleness()} instead of the latest catalog version.
+	 *
+	 * @return `true` if a positive maximal staleness is set and the session is read-only
+	 */
+	public boolean acceptsStaleSnapshot() {
+		return this.maxStaleness != null && !this.maxStaleness.isZero() && !isReadWrite();
+	}
+
 	/**
 	 * Returns `true` if the session operates in binary mode, returning entity bodies in raw binary format.
 	 *
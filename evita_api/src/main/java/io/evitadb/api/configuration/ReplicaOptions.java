@@ -0,0 +1,162 @@
+/*
+ *
+ *                         _ _        ____  ____
+ *               _____   _(_) |_ __ _|  _ \| __ )
+ *              / _ \ \ / / | __/ _` | | | |  _ \
+ *             |  __/\ V /| | || (_| | |_| | |_) |
+ *              \___| \_/ |_|\__\__,_|____/|____/
+ *
+ *   Copyright (c) 2026
+ *
+ *   Licensed under the Business Source License, Version 1.1 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://github.com/FgForrest/evitaDB/blob/master/LICENSE
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+
+package io.evitadb.api.configuration;
+
+import lombok.ToString;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Replica options define whether the server runs as a read-only replica of another (primary) evitaDB server and
+ * how it connects to it. The replica bootstraps the catalogs missing locally from full backups of the primary and
+ * then continuously tails the primary's write-ahead log over the gRPC change data capture API, applying
+ * the replicated transactions in the same order they were committed on the primary.
+ *
+ * @param primaryHost                 Host name of the primary server. When `null` the replica mode is disabled and
+ *                                    the server works as a standalone instance.
+ * @param primaryPort                 Port of the gRPC API of the primary server.
+ * @param primarySystemApiPort        Port of the system API of the primary server (used to fetch the generated
+ *                                    certificates of the primary server).
+ * @param tlsEnabled                  Whether the connection to the primary server uses TLS.
+ * @param pollIntervalInMilliseconds  Interval in milliseconds in which the replica polls the primary server for
+ *                                    new transactions when it has caught up with it.
+ * @param maxTransactionsPerPoll      The maximal number of transactions the replica fetches and applies within
+ *                                    a single poll. Bounds the time the replica spends in one poll when it is far
+ *                                    behind the primary.
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+public record ReplicaOptions(
+	@Nullable String primaryHost,
+	int primaryPort,
+	int primarySystemApiPort,
+	boolean tlsEnabled,
+	long pollIntervalInMilliseconds,
+	int maxTransactionsPerPoll
+) {
+	public static final int DEFAULT_PRIMARY_PORT = 5555;
+	public static final int DEFAULT_PRIMARY_SYSTEM_API_PORT = 5555;
+	public static final boolean DEFAULT_TLS_ENABLED = true;
+	public static final long DEFAULT_POLL_INTERVAL_IN_MILLISECONDS = 1000L;
+	public static final int DEFAULT_MAX_TRANSACTIONS_PER_POLL = 1000;
+
+	/**
+	 * Builder for the replica options. Recommended to use to avoid binary compatibility problems in the future.
+	 */
+	public static ReplicaOptions.Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Builder for the replica options. Recommended to use to avoid binary compatibility problems in the future.
+	 */
+	public static ReplicaOptions.Builder builder(@Nonnull ReplicaOptions replicaOptions) {
+		return new Builder(replicaOptions);
+	}
+
+	public ReplicaOptions() {
+		this(
+			null,
+			DEFAULT_PRIMARY_PORT,
+			DEFAULT_PRIMARY_SYSTEM_API_PORT,
+			DEFAULT_TLS_ENABLED,
+			DEFAULT_POLL_INTERVAL_IN_MILLISECONDS,
+			DEFAULT_MAX_TRANSACTIONS_PER_POLL
+		);
+	}
+
+	/**
+	 * Standard builder pattern implementation.
+	 */
+	@ToString
+	public static class Builder {
+		@Nullable private String primaryHost = null;
+		private int primaryPort = DEFAULT_PRIMARY_PORT;
+		private int primarySystemApiPort = DEFAULT_PRIMARY_SYSTEM_API_PORT;
+		private boolean tlsEnabled = DEFAULT_TLS_ENABLED;
+		private long pollIntervalInMilliseconds = DEFAULT_POLL_INTERVAL_IN_MILLISECONDS;
+		private int maxTransactionsPerPoll = DEFAULT_MAX_TRANSACTIONS_PER_POLL;
+
+		Builder() {
+		}
+
+		Builder(@Nonnull ReplicaOptions replicaOptions) {
+			this.primaryHost = replicaOptions.primaryHost();
+			this.primaryPort = replicaOptions.primaryPort();
+			this.primarySystemApiPort = replicaOptions.primarySystemApiPort();
+			this.tlsEnabled = replicaOptions.tlsEnabled();
+			this.pollIntervalInMilliseconds = replicaOptions.pollIntervalInMilliseconds();
+			this.maxTransactionsPerPoll = replicaOptions.maxTransactionsPerPoll();
+		}
+
+		@Nonnull
+		public ReplicaOptions.Builder primaryHost(@Nullable String primaryHost) {
+			this.primaryHost = primaryHost;
+			return this;
+		}
+
+		@Nonnull
+		public ReplicaOptions.Builder primaryPort(int primaryPort) {
+			this.primaryPort = primaryPort;
+			return this;
+		}
+
+		@Nonnull
+		public ReplicaOptions.Builder primarySystemApiPort(int primarySystemApiPort) {
+			this.primarySystemApiPort = primarySystemApiPort;
+			return this;
+		}
+
+		@Nonnull
+		public ReplicaOptions.Builder tlsEnabled(boolean tlsEnabled) {
+			this.tlsEnabled = tlsEnabled;
+			return this;
+		}
+
+		@Nonnull
+		public ReplicaOptions.Builder pollIntervalInMilliseconds(long pollIntervalInMilliseconds) {
+			this.pollIntervalInMilliseconds = pollIntervalInMilliseconds;
+			return this;
+		}
+
+		@Nonnull
+		public ReplicaOptions.Builder maxTransactionsPerPoll(int maxTransactionsPerPoll) {
+			this.maxTransactionsPerPoll = maxTransactionsPerPoll;
+			return this;
+		}
+
+		@Nonnull
+		public ReplicaOptions build() {
+			return new ReplicaOptions(
+				this.primaryHost,
+				this.primaryPort,
+				this.primarySystemApiPort,
+				this.tlsEnabled,
+				this.pollIntervalInMilliseconds,
+				this.maxTransactionsPerPoll
+			);
+		}
+	}
+}
@@ -63,6 +63,9 @@ import javax.annotation.Nullable;
  *                                              to a stream of changes that occur in the database, enabling near real-time
  *                                              data synchronization, event-driven architectures, and audit logging.
  * @param trafficRecording                      Defines settings for traffic recording.
+ * @param replica                               Defines settings for the read-only replica mode, in which the server
+ *                                              bootstraps its catalogs from another (primary) server and continuously
+ *                                              tails its write-ahead log.
  * @param readOnly                              Starts the database in full read-only mode, prohibiting write operations
  *                                              on `EntityContract` level and open read-write `EvitaSessionContract`.
  * @param quiet                                 If true, all output to the system console is suppressed.
@@ -78,6 +81,7 @@ public record ServerOptions(
 	int dropCollationKeysAfterSecondsOfInactivity,
 	@Nonnull ChangeDataCaptureOptions changeDataCapture,
 	@Nonnull TrafficRecordingOptions trafficRecording,
+	@Nonnull ReplicaOptions replica,
 	boolean readOnly,
 	boolean quiet
 ) {
@@ -122,8 +126,8 @@ public record ServerOptions(
 	}
 
 	/**
-	 * Canonical constructor that normalizes optional inputs: any `null` thread-pool, change-data-capture, or
-	 * traffic-recording component is replaced with its default build, so the resulting record never holds a
+	 * Canonical constructor that normalizes optional inputs: any `null` thread-pool, change-data-capture,
+	 * traffic-recording, or replica component is replaced with its default build, so the resulting record never holds a
 	 * `null` component.
 	 */
 	public ServerOptions(
@@ -136,6 +140,7 @@ public record ServerOptions(
 		int dropCollationKeysAfterSecondsOfInactivity,
 		@Nullable ChangeDataCaptureOptions changeDataCapture,
 		@Nullable TrafficRecordingOptions trafficRecording,
+		@Nullable ReplicaOptions replica,
 		boolean readOnly,
 		boolean quiet
 	) {
@@ -148,6 +153,7 @@ public record ServerOptions(
 		this.dropCollationKeysAfterSecondsOfInactivity = dropCollationKeysAfterSecondsOfInactivity;
 		this.changeDataCapture = changeDataCapture == null ? ChangeDataCaptureOptions.builder().build() : changeDataCapture;
 		this.trafficRecording = trafficRecording == null ? TrafficRecordingOptions.builder().build() : trafficRecording;
+		this.replica = replica == null ? ReplicaOptions.builder().build() : replica;
 		this.readOnly = readOnly;
 		this.quiet = quiet;
 	}
@@ -163,6 +169,7 @@ public record ServerOptions(
 			DEFAULT_DROP_COLLATION_KEYS_AFTER_SECONDS_OF_INACTIVITY,
 			ChangeDataCaptureOptions.builder().build(),
 			TrafficRecordingOptions.builder().build(),
+			ReplicaOptions.builder().build(),
 			DEFAULT_READ_ONLY,
 			DEFAULT_QUIET
 		);
@@ -182,6 +189,7 @@ public record ServerOptions(
 		private int dropCollationKeysAfterSecondsOfInactivity = DEFAULT_DROP_COLLATION_KEYS_AFTER_SECONDS_OF_INACTIVITY;
 		private ChangeDataCaptureOptions changeDataCapture = ChangeDataCaptureOptions.builder().build();
 		private TrafficRecordingOptions trafficRecording = TrafficRecordingOptions.builder().build();
+		private ReplicaOptions replica = ReplicaOptions.builder().build();
 		private boolean readOnly = DEFAULT_READ_ONLY;
 		private boolean quiet = DEFAULT_QUIET;
 
@@ -198,6 +206,7 @@ public record ServerOptions(
 			this.dropCollationKeysAfterSecondsOfInactivity = serverOptions.dropCollationKeysAfterSecondsOfInactivity();
 			this.trafficRecording = serverOptions.trafficRecording();
 			this.changeDataCapture = serverOptions.changeDataCapture();
+			this.replica = serverOptions.replica();
 			this.readOnly = serverOptions.readOnly();
 			this.quiet = serverOptions.quiet();
 		}
@@ -262,6 +271,12 @@ public record ServerOptions(
 			return this;
 		}
 
+		@Nonnull
+		public ServerOptions.Builder replica(@Nonnull ReplicaOptions replica) {
+			this.replica = replica;
+			return this;
+		}
+
 		@Nonnull
 		public ServerOptions.Builder readOnly(boolean readOnly) {
 			this.readOnly = readOnly;
@@ -286,6 +301,7 @@ public record ServerOptions(
 				this.dropCollationKeysAfterSecondsOfInactivity,
 				this.changeDataCapture,
 				this.trafficRecording,
+				this.replica,
 				this.readOnly,
 				this.quiet
 			);
@@ -54,6 +54,21 @@ import javax.annotation.Nonnull;
  *                                           to disk. For development (i.e. low traffic, immediate debugging) it can be
  *                                           set to 0. For production it should be set to a reasonable value
  *                                           (e.g. 60000 = minute).
+ * @param adaptiveSampling                   If true, the sampling decision is made when the session is closed rather
+ *                                           than when it's created. Sessions containing a slow or expensive operation,
+ *                                           an error, or a query of a shape that hasn't been seen recently are always
+ *                                           recorded, and only the remaining (frequent and cheap) sessions are
+ *                                           sampled according to `trafficSamplingPercentage`.
+ * @param adaptiveSamplingLatencyThresholdInMilliseconds
+ *                                           Operations taking at least this number of milliseconds make the session
+ *                                           always recorded in adaptive sampling mode.
+ * @param adaptiveSamplingFetchedSizeThresholdInBytes
+ *                                           Operations fetching at least this number of bytes from the disk make
+ *                                           the session always recorded in adaptive sampling mode.
+ * @param adaptiveSamplingShapeRetentionInMilliseconds
+ *                                           Time in milliseconds for which the query shape is considered recently seen
+ *                                           in adaptive sampling mode. A session containing a query of a shape that
+ *                                           was not seen within this time is always recorded.
  * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2024
  */
 public record TrafficRecordingOptions(
@@ -63,7 +78,11 @@ public record TrafficRecordingOptions(
 	long trafficDiskBufferSizeInBytes,
 	long exportFileChunkSizeInBytes,
 	int trafficSamplingPercentage,
-	long trafficFlushIntervalInMilliseconds
+	long trafficFlushIntervalInMilliseconds,
+	boolean adaptiveSampling,
+	long adaptiveSamplingLatencyThresholdInMilliseconds,
+	long adaptiveSamplingFetchedSizeThresholdInBytes,
+	long adaptiveSamplingShapeRetentionInMilliseconds
 ) {
 	public static final long DEFAULT_TRAFFIC_MEMORY_BUFFER = 4_194_304L;
 	public static final long DEFAULT_TRAFFIC_DISK_BUFFER = 33_554_432L;
@@ -72,6 +91,10 @@ public record TrafficRecordingOptions(
 	public static final boolean DEFAULT_TRAFFIC_SOURCE_QUERY_TRACKING = false;
 	public static final long DEFAULT_EXPORT_FILE_CHUNK_SIZE = 16_777_216L;
 	public static final long DEFAULT_TRAFFIC_FLUSH_INTERVAL = 60_000L;
+	public static final boolean DEFAULT_ADAPTIVE_SAMPLING = false;
+	public static final long DEFAULT_ADAPTIVE_SAMPLING_LATENCY_THRESHOLD = 1_000L;
+	public static final long DEFAULT_ADAPTIVE_SAMPLING_FETCHED_SIZE_THRESHOLD = 1_048_576L;
+	public static final long DEFAULT_ADAPTIVE_SAMPLING_SHAPE_RETENTION = 600_000L;
 
 	/**
 	 * Builder for the traffic recording options. Recommended to use to avoid binary compatibility problems
@@ -97,7 +120,11 @@ public record TrafficRecordingOptions(
 			DEFAULT_TRAFFIC_DISK_BUFFER,
 			DEFAULT_EXPORT_FILE_CHUNK_SIZE,
 			DEFAULT_TRAFFIC_SAMPLING_PERCENTAGE,
-			DEFAULT_TRAFFIC_FLUSH_INTERVAL
+			DEFAULT_TRAFFIC_FLUSH_INTERVAL,
+			DEFAULT_ADAPTIVE_SAMPLING,
+			DEFAULT_ADAPTIVE_SAMPLING_LATENCY_THRESHOLD,
+			DEFAULT_ADAPTIVE_SAMPLING_FETCHED_SIZE_THRESHOLD,
+			DEFAULT_ADAPTIVE_SAMPLING_SHAPE_RETENTION
 		);
 	}
 
@@ -122,6 +149,10 @@ public record TrafficRecordingOptions(
 		private long exportFileChunkSizeInBytes = DEFAULT_EXPORT_FILE_CHUNK_SIZE;
 		private int trafficSamplingPercentage = DEFAULT_TRAFFIC_SAMPLING_PERCENTAGE;
 		private long trafficFlushIntervalInMilliseconds = DEFAULT_TRAFFIC_FLUSH_INTERVAL;
+		private boolean adaptiveSampling = DEFAULT_ADAPTIVE_SAMPLING;
+		private long adaptiveSamplingLatencyThresholdInMilliseconds = DEFAULT_ADAPTIVE_SAMPLING_LATENCY_THRESHOLD;
+		private long adaptiveSamplingFetchedSizeThresholdInBytes = DEFAULT_ADAPTIVE_SAMPLING_FETCHED_SIZE_THRESHOLD;
+		private long adaptiveSamplingShapeRetentionInMilliseconds = DEFAULT_ADAPTIVE_SAMPLING_SHAPE_RETENTION;
 
 		Builder() {
 		}
@@ -134,6 +165,10 @@ public record TrafficRecordingOptions(
 			this.exportFileChunkSizeInBytes = trafficRecordingOptions.exportFileChunkSizeInBytes();
 			this.trafficSamplingPercentage = trafficRecordingOptions.trafficSamplingPercentage();
 			this.trafficFlushIntervalInMilliseconds = trafficRecordingOptions.trafficFlushIntervalInMilliseconds();
+			this.adaptiveSampling = trafficRecordingOptions.adaptiveSampling();
+			this.adaptiveSamplingLatencyThresholdInMilliseconds = trafficRecordingOptions.adaptiveSamplingLatencyThresholdInMilliseconds();
+			this.adaptiveSamplingFetchedSizeThresholdInBytes = trafficRecordingOptions.adaptiveSamplingFetchedSizeThresholdInBytes();
+			this.adaptiveSamplingShapeRetentionInMilliseconds = trafficRecordingOptions.adaptiveSamplingShapeRetentionInMilliseconds();
 		}
 
 		@Nonnull
@@ -178,6 +213,30 @@ public record TrafficRecordingOptions(
 			return this;
 		}
 
+		@Nonnull
+		public TrafficRecordingOptions.Builder adaptiveSampling(boolean adaptiveSampling) {
+			this.adaptiveSampling = adaptiveSampling;
+			return this;
+		}
+
+		@Nonnull
+		public TrafficRecordingOptions.Builder adaptiveSamplingLatencyThresholdInMilliseconds(long adaptiveSamplingLatencyThresholdInMilliseconds) {
+			this.adaptiveSamplingLatencyThresholdInMilliseconds = adaptiveSamplingLatencyThresholdInMilliseconds;
+			return this;
+		}
+
+		@Nonnull
+		public TrafficRecordingOptions.Builder adaptiveSamplingFetchedSizeThresholdInBytes(long adaptiveSamplingFetchedSizeThresholdInBytes) {
+			this.adaptiveSamplingFetchedSizeThresholdInBytes = adaptiveSamplingFetchedSizeThresholdInBytes;
+			return this;
+		}
+
+		@Nonnull
+		public TrafficRecordingOptions.Builder adaptiveSamplingShapeRetentionInMilliseconds(long adaptiveSamplingShapeRetentionInMilliseconds) {
+			this.adaptiveSamplingShapeRetentionInMilliseconds = adaptiveSamplingShapeRetentionInMilliseconds;
+			return this;
+		}
+
 		@Nonnull
 		public TrafficRecordingOptions build() {
 			return new TrafficRecordingOptions(
@@ -187,7 +246,11 @@ public record TrafficRecordingOptions(
 				this.trafficDiskBufferSizeInBytes,
 				this.exportFileChunkSizeInBytes,
 				this.trafficSamplingPercentage,
-				this.trafficFlushIntervalInMilliseconds
+				this.trafficFlushIntervalInMilliseconds,
+				this.adaptiveSampling,
+				this.adaptiveSamplingLatencyThresholdInMilliseconds,
+				this.adaptiveSamplingFetchedSizeThresholdInBytes,
+				this.adaptiveSamplingShapeRetentionInMilliseconds
 			);
 		}
 
@@ -91,6 +91,21 @@ import java.util.Optional;
  *                                              coarse {@link ConflictPolicy} scope with an optional set of
  *                                              {@link GranularConflictPolicy} refinements (see {@link ConflictResolution}).
  *                                              By default, conflicts are detected at {@link ConflictPolicy#ENTITY} level.
+ * @param deltaBatchingWindowInMillis           The time window in milliseconds during which transactions consisting
+ *                                              solely of commutative changes (e.g. attribute delta mutations on hot
+ *                                              counters) are held back in the conflict resolution stage so that
+ *                                              they could be merged into a single synthesized transaction - sharing
+ *                                              one catalog version, one WAL record and one trunk incorporation.
+ *                                              Each client still receives its own commit acknowledgement. Set to `0`
+ *                                              (the default) to disable the batching - every transaction is then
+ *                                              accepted separately and immediately.
+ * @param walTailCacheSizeBytes                 The number of bytes of off-heap memory that may be occupied by
+ *                                              the serialized records of the most recently appended transactions
+ *                                              kept in memory next to the Write-Ahead Log (WAL). Readers of the tail
+ *                                              of the WAL (change data capture catch-up, replicas, mutation history)
+ *                                              deserialize the cached records directly without file I/O. The budget
+ *                                              applies to each WAL separately. Set to `0` (the default) to disable
+ *                                              the cache.
  * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2024
  */
 public record TransactionOptions(
@@ -103,7 +118,9 @@ public record TransactionOptions(
 	long flushFrequencyInMillis,
 	long checkpointIntervalInMillis,
 	int conflictRingBufferSize,
-	@Nonnull ConflictResolution conflictPolicy
+	@Nonnull ConflictResolution conflictPolicy,
+	long deltaBatchingWindowInMillis,
+	long walTailCacheSizeBytes
 ) {
 	public static final Path DEFAULT_TX_DIRECTORY = Paths.get(System.getProperty("java.io.tmpdir"), "evita/transaction");
 	public static final long DEFAULT_TRANSACTION_MEMORY_BUFFER_LIMIT_SIZE = 16_777_216;
@@ -147,6 +164,16 @@ public record TransactionOptions(
 	public static final int DEFAULT_CHECKPOINT_INTERVAL = 1_000;
 	public static final int DEFAULT_CONFLICT_RING_BUFFER_SIZE = 65_536;
 	public static final ConflictResolution DEFAULT_CONFLICT_RESOLUTION = new ConflictResolution(ConflictPolicy.ENTITY);
+	/**
+	 * Delta batching is opt-in: holding a transaction back for the window adds the window to its acceptance
+	 * latency, which pays off only for workloads hammering a few hot counters from many concurrent sessions.
+	 */
+	public static final int DEFAULT_DELTA_BATCHING_WINDOW = 0;
+	/**
+	 * The WAL tail cache is opt-in: its budget is allocated per WAL (i.e. per catalog) from the direct memory of the
+	 * JVM, which must be sized accordingly.
+	 */
+	public static final long DEFAULT_WAL_TAIL_CACHE_SIZE = 0;
 
 	/**
 	 * Builder method is planned to be used only in tests.
@@ -169,7 +196,9 @@ public record TransactionOptions(
 			100,
 			0,
 			256,
-			DEFAULT_CONFLICT_RESOLUTION
+			DEFAULT_CONFLICT_RESOLUTION,
+			DEFAULT_DELTA_BATCHING_WINDOW,
+			DEFAULT_WAL_TAIL_CACHE_SIZE
 		);
 	}
 
@@ -198,7 +227,9 @@ public record TransactionOptions(
 			DEFAULT_FLUSH_FREQUENCY,
 			DEFAULT_CHECKPOINT_INTERVAL,
 			DEFAULT_CONFLICT_RING_BUFFER_SIZE,
-			DEFAULT_CONFLICT_RESOLUTION
+			DEFAULT_CONFLICT_RESOLUTION,
+			DEFAULT_DELTA_BATCHING_WINDOW,
+			DEFAULT_WAL_TAIL_CACHE_SIZE
 		);
 	}
 
@@ -212,7 +243,9 @@ public record TransactionOptions(
 		long flushFrequencyInMillis,
 		long checkpointIntervalInMillis,
 		int conflictRingBufferSize,
-		@Nullable ConflictResolution conflictPolicy
+		@Nullable ConflictResolution conflictPolicy,
+		long deltaBatchingWindowInMillis,
+		long walTailCacheSizeBytes
 	) {
 		this.transactionWorkDirectory = Optional.ofNullable(transactionWorkDirectory).orElse(DEFAULT_TX_DIRECTORY);
 		this.transactionMemoryBufferLimitSizeBytes = transactionMemoryBufferLimitSizeBytes;
@@ -225,6 +258,8 @@ public record TransactionOptions(
 		this.conflictRingBufferSize = conflictRingBufferSize;
 		// ConflictResolution is immutable, no defensive copy required; null falls back to the default
 		this.conflictPolicy = Optional.ofNullable(conflictPolicy).orElse(DEFAULT_CONFLICT_RESOLUTION);
+		this.deltaBatchingWindowInMillis = deltaBatchingWindowInMillis;
+		this.walTailCacheSizeBytes = walTailCacheSizeBytes;
 	}
 
 	/**
@@ -242,6 +277,8 @@ public record TransactionOptions(
 		private long checkpointInterval = DEFAULT_CHECKPOINT_INTERVAL;
 		private int conflictRingBufferSize = DEFAULT_CONFLICT_RING_BUFFER_SIZE;
 		private ConflictResolution conflictPolicy = DEFAULT_CONFLICT_RESOLUTION;
+		private long deltaBatchingWindow = DEFAULT_DELTA_BATCHING_WINDOW;
+		private long walTailCacheSizeBytes = DEFAULT_WAL_TAIL_CACHE_SIZE;
 
 		Builder() {
 		}
@@ -257,6 +294,8 @@ public record TransactionOptions(
 			this.checkpointInterval = transactionOptions.checkpointIntervalInMillis;
 			this.conflictRingBufferSize = transactionOptions.conflictRingBufferSize;
 			this.conflictPolicy = transactionOptions.conflictPolicy;
+			this.deltaBatchingWindow = transactionOptions.deltaBatchingWindowInMillis;
+			this.walTailCacheSizeBytes = transactionOptions.walTailCacheSizeBytes;
 		}
 
 		@Nonnull
@@ -374,6 +413,30 @@ public record TransactionOptions(
 			return this;
 		}
 
+		/**
+		 * Sets the window during which transactions consisting solely of commutative changes are collected to be
+		 * merged into a single synthesized transaction.
+		 *
+		 * @param deltaBatchingWindow window in milliseconds, `0` to disable the batching
+		 */
+		@Nonnull
+		public TransactionOptions.Builder deltaBatchingWindowInMillis(long deltaBatchingWindow) {
+			this.deltaBatchingWindow = deltaBatchingWindow;
+			return this;
+		}
+
+		/**
+		 * Sets the off-heap memory budget for the serialized records of the most recently appended transactions
+		 * cached next to each WAL.
+		 *
+		 * @param walTailCacheSizeBytes budget in bytes, `0` to disable the cache
+		 */
+		@Nonnull
+		public TransactionOptions.Builder walTailCacheSizeBytes(long walTailCacheSizeBytes) {
+			this.walTailCacheSizeBytes = walTailCacheSizeBytes;
+			return this;
+		}
+
 		@Nonnull
 		public TransactionOptions build() {
 			return new TransactionOptions(
@@ -386,7 +449,9 @@ public record TransactionOptions(
 				this.flushFrequency,
 				this.checkpointInterval,
 				this.conflictRingBufferSize,
-				this.conflictPolicy
+				this.conflictPolicy,
+				this.deltaBatchingWindow,
+				this.walTailCacheSizeBytes
 			);
 		}
 
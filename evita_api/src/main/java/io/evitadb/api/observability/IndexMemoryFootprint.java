@@ -0,0 +1,99 @@
+/*
+ *
+ *                         _ _        ____  ____
+ *               _____   _(_) |_ __ _|  _ \| __ )
+ *              / _ \ \ / / | __/ _` | | | |  _ \
+ *             |  __/\ V /| | || (_| | |_| | |_) |
+ *              \___| \_/ |_|\__\__,_|____/|____/
+ *
+ *   Copyright (c) 2026
+ *
+ *   Licensed under the Business Source License, Version 1.1 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://github.com/FgForrest/evitaDB/blob/master/LICENSE
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.evitadb.api.observability;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * Estimated heap memory occupied by a single kind of in-memory index data structure of an entity collection. The
+ * estimates are aggregated over all entity indexes of the collection (the global one and all reduced ones) and over
+ * both scopes, so that there is a single row for each combination of the structure, the reference and the attribute.
+ * The values are approximations computed from the sizes of the bitmaps, the number of entries in the B+ trees and
+ * the estimated sizes of the indexed values - they are meant for finding the indexes that are worth dropping or
+ * reconfiguring, not for an exact accounting of the heap.
+ *
+ * @param entityType    the entity type (collection) the indexes belong to
+ * @param referenceName the name of the reference the indexed data relate to, null for entity-level data
+ * @param attributeName the name of the attribute (or sortable attribute compound) the structure indexes, null for
+ *                      structures not related to a particular attribute
+ * @param structure     the kind of the index data structure
+ * @param indexCount    the number of index data structures aggregated in this row
+ * @param sizeInBytes   the estimated heap memory occupied by the data structures in bytes
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+public record IndexMemoryFootprint(
+	@Nonnull String entityType,
+	@Nullable String referenceName,
+	@Nullable String attributeName,
+	@Nonnull IndexStructure structure,
+	int indexCount,
+	long sizeInBytes
+) implements Serializable {
+	@Serial private static final long serialVersionUID = -2394168320773645861L;
+
+	/**
+	 * The kind of the index data structure the memory is accounted to.
+	 */
+	public enum IndexStructure {
+
+		/**
+		 * Bitmaps of primary keys of all entities (and of entities having the particular language) in the index.
+		 */
+		ENTITY_IDS,
+		/**
+		 * Value to records trees of filterable attributes. The trees are shared with the unique and sort indexes of
+		 * the same attribute, so their memory is accounted only here.
+		 */
+		FILTER,
+		/**
+		 * Standalone unique indexes that are not folded into the shared value tree of the filter index.
+		 */
+		UNIQUE,
+		/**
+		 * Sorted arrays of record ids of sortable attributes and sortable attribute compounds.
+		 */
+		SORT,
+		/**
+		 * Chains of records ordered by the predecessor attributes.
+		 */
+		CHAIN,
+		/**
+		 * Price indexes split by price list and currency.
+		 */
+		PRICE,
+		/**
+		 * Facet indexes of the faceted references.
+		 */
+		FACET,
+		/**
+		 * Hierarchy tree of the hierarchical entities.
+		 */
+		HIERARCHY
+
+	}
+
+}
@@ -0,0 +1,74 @@
+/*
+ *
+ *                         _ _        ____  ____
+ *               _____   _(_) |_ __ _|  _ \| __ )
+ *              / _ \ \ / / | __/ _` | | | |  _ \
+ *             |  __/\ V /| | || (_| | |_| | |_) |
+ *              \___| \_/ |_|\__\__,_|____/|____/
+ *
+ *   Copyright (c) 2026
+ *
+ *   Licensed under the Business Source License, Version 1.1 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://github.com/FgForrest/evitaDB/blob/master/LICENSE
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.evitadb.api.observability;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * Aggregated statistics of all queries of the same shape executed in a single catalog since the server was started
+ * (or since the catalog was loaded). The shape of the query keeps its structure - constraint names, targeted
+ * attributes, references and the queried collection - but abstracts from the concrete values, so that the queries
+ * differing only in the filtered values or the requested page are aggregated together. The statistics are the
+ * evitaDB counterpart of the `pg_stat_statements` view known from PostgreSQL and allow finding the queries that
+ * consume the most resources without recording the traffic.
+ *
+ * The latency values are measured from the moment the query planning starts until the response is assembled
+ * (including entity fetching) and are expressed in microseconds. Percentiles are approximate - their relative error
+ * doesn't exceed ~6 %.
+ *
+ * @param fingerprint                  hexadecimal hash of the `shape`, short stable identifier of the shape used
+ *                                     also as a label of the Prometheus metrics
+ * @param entityType                   the queried entity type, null for queries not targeting a single collection
+ * @param shape                        the query with literal values replaced by placeholders
+ * @param callCount                    number of executed queries of this shape
+ * @param totalDurationInMicroseconds  sum of the latencies of all executed queries of this shape
+ * @param meanDurationInMicroseconds   the mean latency
+ * @param p99DurationInMicroseconds    the 99th percentile of the latency
+ * @param maxDurationInMicroseconds    the highest latency observed
+ * @param recordsScanned               total number of records scanned (included in the calculation) by all queries
+ * @param recordsReturned              total number of records returned by all queries
+ * @param ioFetchCount                 total number of records fetched from the disk by all queries
+ * @param ioFetchedSizeBytes           total size of the data fetched from the disk by all queries in bytes
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+public record QueryShapeStatistics(
+	@Nonnull String fingerprint,
+	@Nullable String entityType,
+	@Nonnull String shape,
+	long callCount,
+	long totalDurationInMicroseconds,
+	long meanDurationInMicroseconds,
+	long p99DurationInMicroseconds,
+	long maxDurationInMicroseconds,
+	long recordsScanned,
+	long recordsReturned,
+	long ioFetchCount,
+	long ioFetchedSizeBytes
+) implements Serializable {
+	@Serial private static final long serialVersionUID = 4136470927318652074L;
+
+}
@@ -0,0 +1,318 @@
+/*
+ *
+ *                         _ _        ____  ____
+ *               _____   _(_) |_ __ _|  _ \| __ )
+ *              / _ \ \ / / | __/ _` | | | |  _ \
+ *             |  __/\ V /| | || (_| | |_| | |_) |
+ *              \___| \_/ |_|\__\__,_|____/|____/
+ *
+ *   Copyright (c) 2026
+ *
+ *   Licensed under the Business Source License, Version 1.1 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://github.com/FgForrest/evitaDB/blob/master/LICENSE
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.evitadb.api.proxy.impl;
+
+import io.evitadb.api.exception.AttributeNotFoundException;
+import io.evitadb.api.proxy.SealedEntityProxy;
+import io.evitadb.api.proxy.impl.entity.GetAttributeMethodClassifier;
+import io.evitadb.api.proxy.impl.entity.GetReferenceMethodClassifier;
+import io.evitadb.api.requestResponse.data.EntityContract;
+import io.evitadb.api.requestResponse.data.EntityEditor.EntityBuilder;
+import io.evitadb.api.requestResponse.data.structure.Entity;
+import io.evitadb.api.requestResponse.data.structure.EntityDecorator;
+import io.evitadb.api.requestResponse.data.structure.ExistingEntityBuilder;
+import io.evitadb.api.requestResponse.data.structure.InternalEntityBuilder;
+import io.evitadb.api.requestResponse.schema.AttributeSchemaContract;
+import io.evitadb.api.requestResponse.schema.EntitySchemaContract;
+import io.evitadb.dataType.EvitaDataTypes;
+import io.evitadb.exception.GenericEvitaInternalError;
+import io.evitadb.function.ExceptionRethrowingFunction;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Optional;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+import static java.util.Optional.ofNullable;
+
+/**
+ * Common ancestor of the entity proxies generated at compile time by
+ * {@link io.evitadb.api.proxy.processor.EntityProxyProcessor}. The generated classes implement the getters of
+ * the client contract by reading the wrapped {@link EntityContract} directly, so there is no ByteBuddy class
+ * generation nor method classification involved when the proxy is instantiated or called. This class implements
+ * the {@link SealedEntityProxy} contract so that the generated proxies may be passed to all session methods
+ * (enrichment, upsert) in the same way as the proxies generated at runtime by {@link ProxycianFactory}.
+ *
+ * The generated proxies are read-only views - their contracts contain only getters. The {@link #entityBuilder()}
+ * is still available for the client code that wants to modify the entity via the proxy.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+public abstract class AbstractGeneratedEntityProxy implements SealedEntityProxy, Serializable {
+	@Serial private static final long serialVersionUID = 4327560936810528841L;
+	/**
+	 * Suffix appended to the binary name of the client contract to form the name of the generated proxy class.
+	 */
+	public static final String GENERATED_CLASS_SUFFIX = "$EvitaGeneratedProxy";
+	/**
+	 * Name of the public static field of the generated class holding the function that creates the proxy instance.
+	 */
+	public static final String FACTORY_FIELD_NAME = "FACTORY";
+
+	/**
+	 * The client contract the proxy was generated for.
+	 */
+	private final Class<?> proxyClass;
+	/**
+	 * The wrapped entity the proxy reads the data from.
+	 */
+	private final EntityContract entity;
+	/**
+	 * Lazily created builder that allows to modify the wrapped entity.
+	 */
+	@Nullable private InternalEntityBuilder entityBuilder;
+
+	protected AbstractGeneratedEntityProxy(@Nonnull Class<?> proxyClass, @Nonnull EntityContract entity) {
+		this.proxyClass = proxyClass;
+		this.entity = entity;
+	}
+
+	@Nonnull
+	@Override
+	public Class<?> getProxyClass() {
+		return this.proxyClass;
+	}
+
+	@Nonnull
+	@Override
+	public EntityContract entity() {
+		return entityBuilderIfPresent()
+			.map(EntityContract.class::cast)
+			.orElse(this.entity);
+	}
+
+	@Nullable
+	@Override
+	public Integer getPrimaryKey() {
+		return this.entity.getPrimaryKey();
+	}
+
+	@Override
+	public int getPrimaryKeyOrThrowException() {
+		return this.entity.getPrimaryKeyOrThrowException();
+	}
+
+	@Nonnull
+	@Override
+	public EntityBuilder entityBuilder() {
+		if (this.entityBuilder == null) {
+			if (this.entity instanceof EntityDecorator entityDecorator) {
+				this.entityBuilder = new ExistingEntityBuilder(entityDecorator);
+			} else if (this.entity instanceof Entity theEntity) {
+				this.entityBuilder = new ExistingEntityBuilder(theEntity);
+			} else if (this.entity instanceof InternalEntityBuilder theBuilder) {
+				this.entityBuilder = theBuilder;
+			} else {
+				throw new GenericEvitaInternalError("Unexpected entity type: " + this.entity.getClass().getName());
+			}
+		}
+		return this.entityBuilder;
+	}
+
+	@Nonnull
+	@Override
+	public Optional<? extends EntityBuilder> entityBuilderIfPresent() {
+		return ofNullable(this.entityBuilder);
+	}
+
+	@Nonnull
+	@Override
+	public Optional<EntityBuilderWithCallback> getEntityBuilderWithCallback(@Nonnull Propagation propagation) {
+		return ofNullable(this.entityBuilder)
+			.map(it -> new EntityBuilderWithCallback(it, null));
+	}
+
+	@Nonnull
+	@Override
+	public Stream<EntityBuilderWithCallback> getReferencedEntityBuildersWithCallback(@Nonnull Propagation propagation) {
+		// generated proxies expose only primary keys of referenced entities, so there are no referenced entity builders
+		return Stream.empty();
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (o == null || getClass() != o.getClass()) return false;
+		return this.entity.equals(((AbstractGeneratedEntityProxy) o).entity);
+	}
+
+	@Override
+	public int hashCode() {
+		return this.entity.hashCode();
+	}
+
+	@Override
+	public String toString() {
+		return this.proxyClass.getSimpleName() + ": " + this.entity;
+	}
+
+	/**
+	 * Getter of a single attribute held in a static field of the generated class. The attribute schema lookup and
+	 * the default value provider are resolved lazily on the first call and reused for all the entities sharing
+	 * the same entity schema instance - they're resolved again only when the entity comes with a different schema
+	 * (e.g. after the schema has been changed).
+	 */
+	protected static final class AttributeGetter {
+		/**
+		 * Name of the attribute.
+		 */
+		private final String attributeName;
+		/**
+		 * Return type of the getter method (possibly primitive).
+		 */
+		private final Class<?> requestedType;
+		/**
+		 * Attribute schema and default value provider resolved for the last seen entity schema.
+		 */
+		@Nullable private volatile ResolvedAttribute resolvedAttribute;
+
+		public AttributeGetter(@Nonnull String attributeName, @Nonnull Class<?> requestedType) {
+			this.attributeName = attributeName;
+			this.requestedType = requestedType;
+		}
+
+		/**
+		 * Returns the value of the attribute of the passed entity converted to the return type of the getter.
+		 *
+		 * @param entity entity to read the attribute from
+		 * @return attribute value converted to the return type of the getter
+		 * @throws AttributeNotFoundException when the attribute is not known in the entity schema
+		 */
+		@Nullable
+		public Serializable get(@Nonnull EntityContract entity) {
+			final EntitySchemaContract entitySchema = entity.getSchema();
+			ResolvedAttribute resolved = this.resolvedAttribute;
+			if (resolved == null || resolved.entitySchema() != entitySchema) {
+				final AttributeSchemaContract attributeSchema = entitySchema.getAttribute(this.attributeName)
+					.orElseThrow(() -> new AttributeNotFoundException(this.attributeName, entitySchema));
+				resolved = new ResolvedAttribute(
+					entitySchema,
+					attributeSchema,
+					this.requestedType.isPrimitive() ? EvitaDataTypes.toWrappedForm(this.requestedType) : this.requestedType,
+					GetAttributeMethodClassifier.createDefaultValueProvider(attributeSchema, this.requestedType)
+				);
+				this.resolvedAttribute = resolved;
+			}
+			return GetAttributeMethodClassifier.getAttributeValue(
+				entity, resolved.attributeSchema(), resolved.wrappedType(), resolved.defaultValueProvider()
+			);
+		}
+
+	}
+
+	/**
+	 * Getter of primary keys of the entities referenced by a single reference held in a static field of the generated
+	 * class. The extraction function is resolved lazily on the first call and reused for all the entities sharing
+	 * the same entity schema instance in the same way as in {@link AttributeGetter}.
+	 */
+	protected static final class ReferenceGetter {
+		/**
+		 * Name of the reference.
+		 */
+		private final String referenceName;
+		/**
+		 * Collection or array type returned by the getter method or null if it returns a single primary key.
+		 */
+		@Nullable private final Class<?> collectionType;
+		/**
+		 * Type of the returned primary key or of the collection / array item.
+		 */
+		private final Class<? extends Serializable> itemType;
+		/**
+		 * Extraction function resolved for the last seen entity schema.
+		 */
+		@Nullable private volatile ResolvedReference resolvedReference;
+
+		public ReferenceGetter(
+			@Nonnull String referenceName,
+			@Nullable Class<?> collectionType,
+			@Nonnull Class<? extends Serializable> itemType
+		) {
+			this.referenceName = referenceName;
+			this.collectionType = collectionType;
+			this.itemType = itemType;
+		}
+
+		/**
+		 * Returns the primary keys of the entities referenced by the passed entity in the form of the return type
+		 * of the getter.
+		 *
+		 * @param entity entity to read the references from
+		 * @return primary key, collection or array of primary keys of the referenced entities
+		 * @throws io.evitadb.api.exception.ReferenceNotFoundException when the reference is not known in the entity schema
+		 * @throws io.evitadb.api.exception.AmbiguousReferenceException when a single primary key is requested for
+		 * a reference allowing multiple referenced entities
+		 */
+		@Nullable
+		public Object get(@Nonnull EntityContract entity) {
+			final EntitySchemaContract entitySchema = entity.getSchema();
+			ResolvedReference resolved = this.resolvedReference;
+			if (resolved == null || resolved.entitySchema() != entitySchema) {
+				resolved = new ResolvedReference(
+					entitySchema,
+					GetReferenceMethodClassifier.getEntityId(
+						entitySchema.getReferenceOrThrowException(this.referenceName),
+						this.collectionType,
+						this.itemType
+					)
+				);
+				this.resolvedReference = resolved;
+			}
+			try {
+				return resolved.extractor().apply(entity);
+			} catch (RuntimeException e) {
+				throw e;
+			} catch (Exception e) {
+				throw new GenericEvitaInternalError(
+					"Failed to read reference `" + this.referenceName + "`: " + e.getMessage(), e
+				);
+			}
+		}
+
+	}
+
+	/**
+	 * Attribute schema and default value provider resolved for a particular entity schema instance.
+	 */
+	private record ResolvedAttribute(
+		@Nonnull EntitySchemaContract entitySchema,
+		@Nonnull AttributeSchemaContract attributeSchema,
+		@Nonnull Class<?> wrappedType,
+		@Nonnull UnaryOperator<Serializable> defaultValueProvider
+	) {
+	}
+
+	/**
+	 * Primary key extraction function resolved for a particular entity schema instance.
+	 */
+	private record ResolvedReference(
+		@Nonnull EntitySchemaContract entitySchema,
+		@Nonnull ExceptionRethrowingFunction<EntityContract, Object> extractor
+	) {
+	}
+
+}
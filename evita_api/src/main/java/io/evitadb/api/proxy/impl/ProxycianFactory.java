@@ -69,8 +69,10 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.io.Serializable;
 import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
 import java.lang.reflect.Parameter;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -118,6 +120,11 @@ public class ProxycianFactory implements ProxyFactory {
 	 */
 	private static final ConcurrentHashMap<ProxyEntityCacheKey, BestMatchingEntityConstructorWithExtractionLambda<?>> ENTITY_CONSTRUCTOR_CACHE = CollectionUtils.createConcurrentHashMap(256);
 	private static final ConcurrentHashMap<ProxyEntityCacheKey, BestMatchingReferenceConstructorWithExtractionLambda<?>> REFERENCE_CONSTRUCTOR_CACHE = CollectionUtils.createConcurrentHashMap(256);
+	/**
+	 * Cache for the factories of the proxies generated at compile time (see {@link AbstractGeneratedEntityProxy}),
+	 * empty optional marks the contracts with no generated proxy that must be handled at runtime.
+	 */
+	private static final ConcurrentHashMap<Class<?>, Optional<Function<EntityContract, ?>>> GENERATED_PROXY_FACTORY_CACHE = CollectionUtils.createConcurrentHashMap(256);
 	/**
 	 * The map of recipes provided from outside that are used to build the proxy.
 	 */
@@ -222,6 +229,14 @@ public class ProxycianFactory implements ProxyFactory {
 				);
 			} else {
 				if (expectedType.isInterface()) {
+					// prefer the proxy generated at compile time unless the client registered its own recipe
+					// or needs to initialize the runtime proxy state
+					if (stateInitializer == null && !recipes.containsKey(cacheKey)) {
+						final Function<EntityContract, ?> generatedProxyFactory = getGeneratedProxyFactory(expectedType);
+						if (generatedProxyFactory != null) {
+							return expectedType.cast(generatedProxyFactory.apply(entity));
+						}
+					}
 					final SealedEntityProxyState proxyState = new SealedEntityProxyState(
 						entity, referencedEntitySchemas, expectedType, recipes, collectedRecipes, reflectionLookup
 					);
@@ -270,6 +285,45 @@ public class ProxycianFactory implements ProxyFactory {
 		}
 	}
 
+	/**
+	 * Returns the factory of the proxy generated at compile time for the passed contract, or null if there is no
+	 * such proxy and the contract must be implemented at runtime. The lookup result is cached.
+	 */
+	@Nullable
+	private static Function<EntityContract, ?> getGeneratedProxyFactory(@Nonnull Class<?> expectedType) {
+		return GENERATED_PROXY_FACTORY_CACHE
+			.computeIfAbsent(expectedType, ProxycianFactory::findGeneratedProxyFactory)
+			.orElse(null);
+	}
+
+	/**
+	 * Locates the class generated by {@link io.evitadb.api.proxy.processor.EntityProxyProcessor} for the passed
+	 * contract using the {@link AbstractGeneratedEntityProxy#GENERATED_CLASS_SUFFIX} naming convention and reads its
+	 * factory function.
+	 */
+	@SuppressWarnings("unchecked")
+	@Nonnull
+	private static Optional<Function<EntityContract, ?>> findGeneratedProxyFactory(@Nonnull Class<?> expectedType) {
+		final ClassLoader classLoader = expectedType.getClassLoader();
+		if (classLoader == null) {
+			return Optional.empty();
+		}
+		try {
+			final Class<?> generatedClass = Class.forName(
+				expectedType.getName() + AbstractGeneratedEntityProxy.GENERATED_CLASS_SUFFIX, true, classLoader
+			);
+			if (AbstractGeneratedEntityProxy.class.isAssignableFrom(generatedClass) && expectedType.isAssignableFrom(generatedClass)) {
+				final Field factoryField = generatedClass.getField(AbstractGeneratedEntityProxy.FACTORY_FIELD_NAME);
+				return Optional.of((Function<EntityContract, ?>) factoryField.get(null));
+			} else {
+				return Optional.empty();
+			}
+		} catch (ClassNotFoundException | NoSuchFieldException | IllegalAccessException | ClassCastException e) {
+			// no (usable) generated proxy - the contract will be implemented at runtime
+			return Optional.empty();
+		}
+	}
+
 	/**
 	 * Creates a new proxy instance for passed {@link EntityContract} and {@link ReferenceContract} instance.
 	 */
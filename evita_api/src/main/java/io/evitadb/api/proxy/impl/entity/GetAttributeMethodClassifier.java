@@ -106,6 +106,69 @@ public class GetAttributeMethodClassifier extends DirectMethodClassification<Obj
 		return defaultValueProvider;
 	}
 
+	/**
+	 * Returns the value of the attribute converted to the requested type using the same rules as the runtime
+	 * generated proxy methods. The attribute schema and the default value provider are resolved on each call - the
+	 * proxies generated at compile time cache them in
+	 * {@link io.evitadb.api.proxy.impl.AbstractGeneratedEntityProxy.AttributeGetter} instead.
+	 *
+	 * @param entity        entity to read the attribute from
+	 * @param attributeName name of the attribute
+	 * @param requestedType type the value should be converted to
+	 * @return attribute value converted to a requestedType
+	 * @throws AttributeNotFoundException when the attribute is not known in the entity schema
+	 */
+	@Nullable
+	public static Serializable getAttributeValue(
+		@Nonnull EntityContract entity,
+		@Nonnull String attributeName,
+		@Nonnull Class<?> requestedType
+	) {
+		final EntitySchemaContract entitySchema = entity.getSchema();
+		final AttributeSchemaContract attributeSchema = entitySchema.getAttribute(attributeName)
+			.orElseThrow(() -> new AttributeNotFoundException(attributeName, entitySchema));
+		return getAttributeValue(
+			entity, attributeSchema,
+			requestedType.isPrimitive() ? EvitaDataTypes.toWrappedForm(requestedType) : requestedType,
+			createDefaultValueProvider(attributeSchema, requestedType)
+		);
+	}
+
+	/**
+	 * Returns the value of the attribute converted to the requested type using the attribute schema and the default
+	 * value provider resolved upfront. The proxies generated at compile time resolve them once per entity schema
+	 * and reuse them for all the calls (see {@link io.evitadb.api.proxy.impl.AbstractGeneratedEntityProxy.AttributeGetter}).
+	 *
+	 * @param entity               entity to read the attribute from
+	 * @param attributeSchema      schema of the attribute in the entity schema
+	 * @param wrappedType          type the value should be converted to in its wrapped form
+	 * @param defaultValueProvider provider of the value when the attribute is missing
+	 * @return attribute value converted to a wrappedType
+	 */
+	@Nullable
+	public static Serializable getAttributeValue(
+		@Nonnull EntityContract entity,
+		@Nonnull AttributeSchemaContract attributeSchema,
+		@Nonnull Class<?> wrappedType,
+		@Nonnull UnaryOperator<Serializable> defaultValueProvider
+	) {
+		if (attributeSchema.isLocalized()) {
+			return wrappedType.isEnum() ?
+				getLocalizedAttributeAsAnEnum(entity, attributeSchema.getName(), wrappedType, defaultValueProvider) :
+				getLocalizedAttributeAsSingleValue(
+					entity, attributeSchema.getName(), wrappedType, attributeSchema.getIndexedDecimalPlaces(),
+					defaultValueProvider
+				);
+		} else {
+			return wrappedType.isEnum() ?
+				getAttributeAsAnEnum(entity, attributeSchema.getName(), wrappedType, defaultValueProvider) :
+				getAttributeAsSingleValue(
+					entity, attributeSchema.getName(), wrappedType, attributeSchema.getIndexedDecimalPlaces(),
+					defaultValueProvider
+				);
+		}
+	}
+
 	/**
 	 * Tries to identify attribute name from the class field related to the constructor parameter.
 	 *
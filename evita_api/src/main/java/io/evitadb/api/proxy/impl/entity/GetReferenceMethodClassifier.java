@@ -1434,9 +1434,16 @@ public class GetReferenceMethodClassifier extends DirectMethodClassification<Obj
 
 	/**
 	 * Method returns implementation of the method returning referenced entities in the form of integer primary key.
+	 * The method is also used by the proxies generated at compile time, so that their reference getters behave
+	 * exactly as the ones implemented at runtime.
+	 *
+	 * @param referenceSchema schema of the reference the getter reads
+	 * @param collectionType  collection or array type the method returns or null if it returns a single value
+	 * @param itemType        type of the returned primary key (or of the collection / array item)
+	 * @return function extracting the primary keys of referenced entities from the entity
 	 */
 	@Nonnull
-	private static ExceptionRethrowingFunction<EntityContract, Object> getEntityId(
+	public static ExceptionRethrowingFunction<EntityContract, Object> getEntityId(
 		@Nonnull ReferenceSchemaContract referenceSchema,
 		@Nullable Class<?> collectionType,
 		@Nonnull Class<? extends Serializable> itemType
@@ -0,0 +1,525 @@
+/*
+ *
+ *                         _ _        ____  ____
+ *               _____   _(_) |_ __ _|  _ \| __ )
+ *              / _ \ \ / / | __/ _` | | | |  _ \
+ *             |  __/\ V /| | || (_| | |_| | |_) |
+ *              \___| \_/ |_|\__\__,_|____/|____/
+ *
+ *   Copyright (c) 2026
+ *
+ *   Licensed under the Business Source License, Version 1.1 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://github.com/FgForrest/evitaDB/blob/master/LICENSE
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.evitadb.api.proxy.processor;
+
+import io.evitadb.api.proxy.WithEntityContract;
+import io.evitadb.api.proxy.impl.AbstractGeneratedEntityProxy;
+import io.evitadb.api.requestResponse.data.EntityContract;
+import io.evitadb.api.requestResponse.data.annotation.Attribute;
+import io.evitadb.api.requestResponse.data.annotation.AttributeRef;
+import io.evitadb.api.requestResponse.data.annotation.Entity;
+import io.evitadb.api.requestResponse.data.annotation.EntityRef;
+import io.evitadb.api.requestResponse.data.annotation.PrimaryKey;
+import io.evitadb.api.requestResponse.data.annotation.PrimaryKeyRef;
+import io.evitadb.api.requestResponse.data.annotation.Reference;
+import io.evitadb.api.requestResponse.data.annotation.ReferenceRef;
+import io.evitadb.api.requestResponse.data.annotation.ReflectedReference;
+import io.evitadb.utils.ReflectionLookup;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Annotation processor that generates proxy implementations of the client entity contracts at compile time, so that
+ * {@link io.evitadb.api.proxy.impl.ProxycianFactory} doesn't need to generate the proxy class with ByteBuddy and
+ * classify its methods when the contract is used for the first time, and the method calls are not routed through
+ * the Proxycian dispatchers.
+ *
+ * The processor handles interfaces annotated with {@link EntityRef} or {@link Entity} whose abstract methods are all
+ * simple getters of:
+ *
+ * - the primary key ({@link PrimaryKey}, {@link PrimaryKeyRef})
+ * - a single-valued attribute ({@link Attribute}, {@link AttributeRef}) of a type supported by evitaDB or an enum
+ * - primary keys of referenced entities ({@link Reference}, {@link ReferenceRef}, {@link ReflectedReference})
+ *   returned as `Integer`, `int[]`, `Integer[]` or a `List`, `Set` or `Collection` of `Integer`
+ *
+ * Such getters read the data directly from the wrapped {@link EntityContract} in the generated class. Contracts
+ * containing anything else (referenced entities or references wrapped into custom contracts, prices, associated
+ * data, setters, methods relying on implicit name matching) are skipped and are implemented at runtime by
+ * {@link io.evitadb.api.proxy.impl.ProxycianFactory} as before.
+ *
+ * The generated class extends {@link AbstractGeneratedEntityProxy}, is placed in the package of the contract and is
+ * named by appending {@link AbstractGeneratedEntityProxy#GENERATED_CLASS_SUFFIX} to the binary name of the contract,
+ * which is the convention the factory uses to find it.
+ *
+ * The processor is registered as a `javax.annotation.processing.Processor` service, so it's discovered automatically
+ * when the `evita_api` artifact is on the processor path of the client build (which is the class path unless
+ * the build specifies the processor path explicitly).
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+@SupportedAnnotationTypes({
+	"io.evitadb.api.requestResponse.data.annotation.EntityRef",
+	"io.evitadb.api.requestResponse.data.annotation.Entity"
+})
+public class EntityProxyProcessor extends AbstractProcessor {
+	/**
+	 * Types (other than primitives and enums) that may be returned by the generated attribute getters.
+	 */
+	private static final Set<String> SUPPORTED_ATTRIBUTE_TYPES = Set.of(
+		"java.lang.String",
+		"java.lang.Byte",
+		"java.lang.Short",
+		"java.lang.Integer",
+		"java.lang.Long",
+		"java.lang.Boolean",
+		"java.lang.Character",
+		"java.math.BigDecimal",
+		"java.time.OffsetDateTime",
+		"java.time.LocalDateTime",
+		"java.time.LocalDate",
+		"java.time.LocalTime",
+		"java.util.Locale",
+		"java.util.Currency",
+		"java.util.UUID",
+		"io.evitadb.dataType.DateTimeRange",
+		"io.evitadb.dataType.BigDecimalNumberRange",
+		"io.evitadb.dataType.ByteNumberRange",
+		"io.evitadb.dataType.ShortNumberRange",
+		"io.evitadb.dataType.IntegerNumberRange",
+		"io.evitadb.dataType.LongNumberRange",
+		"io.evitadb.dataType.Predecessor",
+		"io.evitadb.dataType.ReferencedEntityPredecessor"
+	);
+	/**
+	 * Interfaces whose methods are implemented by {@link AbstractGeneratedEntityProxy} or need no implementation.
+	 */
+	private static final Set<String> IMPLEMENTED_INTERFACES = Set.of(
+		Serializable.class.getName(),
+		WithEntityContract.class.getName()
+	);
+	/**
+	 * Names of the methods implemented by {@link AbstractGeneratedEntityProxy} the contract methods must not clash with.
+	 */
+	private static final Set<String> RESERVED_METHOD_NAMES = Set.of(
+		"getProxyClass", "entity", "getPrimaryKey", "getPrimaryKeyOrThrowException", "entityBuilder",
+		"entityBuilderIfPresent", "getEntityBuilderWithCallback", "getReferencedEntityBuildersWithCallback"
+	);
+
+	/**
+	 * Prefix of the static fields of the generated class holding the attribute getters.
+	 */
+	private static final String ATTRIBUTE_GETTER_FIELD_PREFIX = "ATTRIBUTE_GETTER_";
+	/**
+	 * Canonical name of {@link AbstractGeneratedEntityProxy.AttributeGetter}, which is not accessible from here.
+	 */
+	private static final String ATTRIBUTE_GETTER_CLASS_NAME = AbstractGeneratedEntityProxy.class.getName() + ".AttributeGetter";
+	/**
+	 * Prefix of the static fields of the generated class holding the reference getters.
+	 */
+	private static final String REFERENCE_GETTER_FIELD_PREFIX = "REFERENCE_GETTER_";
+	/**
+	 * Canonical name of {@link AbstractGeneratedEntityProxy.ReferenceGetter}, which is not accessible from here.
+	 */
+	private static final String REFERENCE_GETTER_CLASS_NAME = AbstractGeneratedEntityProxy.class.getName() + ".ReferenceGetter";
+	/**
+	 * Collection types (in addition to arrays) that may be returned by the generated reference getters.
+	 */
+	private static final Set<String> SUPPORTED_REFERENCE_COLLECTION_TYPES = Set.of(
+		List.class.getName(),
+		Set.class.getName(),
+		Collection.class.getName()
+	);
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+		for (TypeElement annotation : annotations) {
+			for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+				if (element.getKind() == ElementKind.INTERFACE) {
+					processContract((TypeElement) element);
+				}
+			}
+		}
+		// the annotations are shared with the runtime and other processors, we never claim them
+		return false;
+	}
+
+	/**
+	 * Generates the proxy class for the passed contract if all its methods can be implemented at compile time.
+	 */
+	private void processContract(@Nonnull TypeElement contract) {
+		final String unsupportedReason = getUnsupportedReason(contract);
+		if (unsupportedReason != null) {
+			this.processingEnv.getMessager().printMessage(
+				Kind.NOTE,
+				"Proxy of `" + contract.getQualifiedName() + "` will be generated at runtime: " + unsupportedReason,
+				contract
+			);
+			return;
+		}
+
+		final Map<String, String> methodBodies = new LinkedHashMap<>(16);
+		final List<String> attributeGetters = new ArrayList<>(16);
+		final List<String> referenceGetters = new ArrayList<>(16);
+		for (ExecutableElement method : ElementFilter.methodsIn(this.processingEnv.getElementUtils().getAllMembers(contract))) {
+			if (!method.getModifiers().contains(Modifier.ABSTRACT) || isImplemented(method)) {
+				continue;
+			}
+			final String methodName = method.getSimpleName().toString();
+			if (methodBodies.containsKey(methodName)) {
+				continue;
+			}
+			final String body = createMethodBody(method, attributeGetters, referenceGetters);
+			if (body == null) {
+				this.processingEnv.getMessager().printMessage(
+					Kind.NOTE,
+					"Proxy of `" + contract.getQualifiedName() + "` will be generated at runtime: method `" +
+						methodName + "` is not a simple primary key, attribute or referenced primary key getter.",
+					method
+				);
+				return;
+			}
+			methodBodies.put(methodName, "\tpublic " + method.getReturnType() + " " + methodName + "() {\n\t\t" + body + "\n\t}\n");
+		}
+
+		writeProxyClass(contract, attributeGetters, referenceGetters, methodBodies);
+	}
+
+	/**
+	 * Returns the reason why the proxy of the contract cannot be generated at compile time or null if it can.
+	 */
+	@Nullable
+	private String getUnsupportedReason(@Nonnull TypeElement contract) {
+		if (!contract.getTypeParameters().isEmpty()) {
+			return "generic contracts are not supported.";
+		}
+		Element enclosingElement = contract;
+		while (enclosingElement instanceof TypeElement typeElement) {
+			if (typeElement.getModifiers().contains(Modifier.PRIVATE)) {
+				return "the contract is not accessible from its package.";
+			}
+			if (typeElement.getNestingKind() == NestingKind.LOCAL || typeElement.getNestingKind() == NestingKind.ANONYMOUS) {
+				return "local contracts are not supported.";
+			}
+			enclosingElement = typeElement.getEnclosingElement();
+		}
+		return getUnsupportedSuperInterface(contract);
+	}
+
+	/**
+	 * Walks through all super-interfaces of the contract and returns the reason if there is an evitaDB interface
+	 * whose methods cannot be implemented by the generated class.
+	 */
+	@Nullable
+	private String getUnsupportedSuperInterface(@Nonnull TypeElement type) {
+		for (TypeMirror superInterface : type.getInterfaces()) {
+			final TypeElement superElement = (TypeElement) ((DeclaredType) superInterface).asElement();
+			final String superName = superElement.getQualifiedName().toString();
+			if (IMPLEMENTED_INTERFACES.contains(superName)) {
+				continue;
+			}
+			if (superName.startsWith("io.evitadb.")) {
+				return "the contract extends `" + superName + "`.";
+			}
+			final String reason = getUnsupportedSuperInterface(superElement);
+			if (reason != null) {
+				return reason;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Returns true if the method is declared by an interface implemented by {@link AbstractGeneratedEntityProxy}.
+	 */
+	private static boolean isImplemented(@Nonnull ExecutableElement method) {
+		final Element declaringType = method.getEnclosingElement();
+		return declaringType instanceof TypeElement typeElement &&
+			(IMPLEMENTED_INTERFACES.contains(typeElement.getQualifiedName().toString()) ||
+				Object.class.getName().equals(typeElement.getQualifiedName().toString()));
+	}
+
+	/**
+	 * Creates the body of the generated getter or returns null if the method cannot be implemented at compile time.
+	 * The attribute and reference getters read the value via {@link AbstractGeneratedEntityProxy.AttributeGetter}
+	 * or {@link AbstractGeneratedEntityProxy.ReferenceGetter} held in a static field of the generated class, whose
+	 * declaration is added to the passed list.
+	 */
+	@Nullable
+	private String createMethodBody(
+		@Nonnull ExecutableElement method,
+		@Nonnull List<String> attributeGetters,
+		@Nonnull List<String> referenceGetters
+	) {
+		if (!method.getParameters().isEmpty() || !method.getTypeParameters().isEmpty()) {
+			return null;
+		}
+		if (RESERVED_METHOD_NAMES.contains(method.getSimpleName().toString())) {
+			// the only reserved method we can implement is the one compatible with SealedEntityProxy#getPrimaryKey
+			final boolean compatiblePrimaryKeyGetter = "getPrimaryKey".contentEquals(method.getSimpleName()) &&
+				isDeclaredType(method.getReturnType(), Integer.class.getName());
+			if (!compatiblePrimaryKeyGetter) {
+				return null;
+			}
+		}
+		final TypeMirror returnType = method.getReturnType();
+		if (method.getAnnotation(PrimaryKey.class) != null || method.getAnnotation(PrimaryKeyRef.class) != null) {
+			if (returnType.getKind() == TypeKind.INT) {
+				return "return entity().getPrimaryKeyOrThrowException();";
+			} else if (isDeclaredType(returnType, Integer.class.getName())) {
+				return "return entity().getPrimaryKey();";
+			} else {
+				return null;
+			}
+		}
+
+		final String referenceName = getReferenceName(method);
+		if (referenceName != null) {
+			return createReferenceGetterBody(referenceName, returnType, referenceGetters);
+		}
+
+		final String attributeName = getAttributeName(method);
+		if (attributeName == null || !isSupportedAttributeType(returnType)) {
+			return null;
+		}
+		final String castType = returnType.getKind().isPrimitive() ?
+			this.processingEnv.getTypeUtils().boxedClass((PrimitiveType) returnType).getQualifiedName().toString() :
+			this.processingEnv.getTypeUtils().erasure(returnType).toString();
+		final String getterField = ATTRIBUTE_GETTER_FIELD_PREFIX + attributeGetters.size();
+		attributeGetters.add(
+			"\tprivate static final " + ATTRIBUTE_GETTER_CLASS_NAME + " " + getterField + " = new " + ATTRIBUTE_GETTER_CLASS_NAME +
+				"(\"" + escape(attributeName) + "\", " + this.processingEnv.getTypeUtils().erasure(returnType) + ".class);"
+		);
+		return "return (" + castType + ") " + getterField + ".get(entity());";
+	}
+
+	/**
+	 * Creates the body of the getter returning primary keys of referenced entities or returns null if the return type
+	 * is not supported. The supported types are the ones the runtime method classifier implements by
+	 * {@link io.evitadb.api.proxy.impl.entity.GetReferenceMethodClassifier#getEntityId}.
+	 */
+	@Nullable
+	private static String createReferenceGetterBody(
+		@Nonnull String referenceName,
+		@Nonnull TypeMirror returnType,
+		@Nonnull List<String> referenceGetters
+	) {
+		final String collectionType;
+		final String itemType;
+		if (isDeclaredType(returnType, Integer.class.getName())) {
+			collectionType = "null";
+			itemType = Integer.class.getName();
+		} else if (returnType.getKind() == TypeKind.ARRAY) {
+			final TypeMirror componentType = ((ArrayType) returnType).getComponentType();
+			if (componentType.getKind() == TypeKind.INT) {
+				itemType = "int";
+			} else if (isDeclaredType(componentType, Integer.class.getName())) {
+				itemType = Integer.class.getName();
+			} else {
+				return null;
+			}
+			collectionType = itemType + "[].class";
+		} else if (returnType.getKind() == TypeKind.DECLARED) {
+			final DeclaredType declaredType = (DeclaredType) returnType;
+			final String typeName = ((TypeElement) declaredType.asElement()).getQualifiedName().toString();
+			if (!SUPPORTED_REFERENCE_COLLECTION_TYPES.contains(typeName) ||
+				declaredType.getTypeArguments().size() != 1 ||
+				!isDeclaredType(declaredType.getTypeArguments().get(0), Integer.class.getName())) {
+				return null;
+			}
+			collectionType = typeName + ".class";
+			itemType = Integer.class.getName();
+		} else {
+			return null;
+		}
+		final String getterField = REFERENCE_GETTER_FIELD_PREFIX + referenceGetters.size();
+		referenceGetters.add(
+			"\tprivate static final " + REFERENCE_GETTER_CLASS_NAME + " " + getterField + " = new " + REFERENCE_GETTER_CLASS_NAME +
+				"(\"" + escape(referenceName) + "\", " + collectionType + ", " + itemType + ".class);"
+		);
+		return "return (" + returnType + ") " + getterField + ".get(entity());";
+	}
+
+	/**
+	 * Returns the reference name the method refers to using the same rules as the runtime method classifier, or null
+	 * if the method is not annotated as a reference getter.
+	 */
+	@Nullable
+	private static String getReferenceName(@Nonnull ExecutableElement method) {
+		final Reference reference = method.getAnnotation(Reference.class);
+		final ReflectedReference reflectedReference = method.getAnnotation(ReflectedReference.class);
+		final ReferenceRef referenceRef = method.getAnnotation(ReferenceRef.class);
+		final String explicitName;
+		if (reference != null) {
+			explicitName = reference.name();
+		} else if (reflectedReference != null) {
+			explicitName = reflectedReference.name();
+		} else if (referenceRef != null) {
+			return referenceRef.value();
+		} else {
+			return null;
+		}
+		return explicitName.isBlank() ?
+			ReflectionLookup.getPropertyNameFromMethodNameIfPossible(method.getSimpleName().toString()).orElse(null) :
+			explicitName;
+	}
+
+	/**
+	 * Returns the attribute name the method refers to using the same rules as the runtime method classifier, or null
+	 * if the method is not annotated as an attribute getter.
+	 */
+	@Nullable
+	private static String getAttributeName(@Nonnull ExecutableElement method) {
+		final Attribute attribute = method.getAnnotation(Attribute.class);
+		final AttributeRef attributeRef = method.getAnnotation(AttributeRef.class);
+		final String explicitName;
+		if (attribute != null) {
+			explicitName = attribute.name();
+		} else if (attributeRef != null) {
+			explicitName = attributeRef.value();
+		} else {
+			return null;
+		}
+		return explicitName.isBlank() ?
+			ReflectionLookup.getPropertyNameFromMethodNameIfPossible(method.getSimpleName().toString()).orElse(null) :
+			explicitName;
+	}
+
+	/**
+	 * Returns true if the type is a primitive, an enum or one of {@link #SUPPORTED_ATTRIBUTE_TYPES}.
+	 */
+	private static boolean isSupportedAttributeType(@Nonnull TypeMirror type) {
+		if (type.getKind().isPrimitive()) {
+			return type.getKind() != TypeKind.FLOAT && type.getKind() != TypeKind.DOUBLE;
+		} else if (type.getKind() == TypeKind.DECLARED) {
+			final TypeElement typeElement = (TypeElement) ((DeclaredType) type).asElement();
+			return typeElement.getKind() == ElementKind.ENUM ||
+				SUPPORTED_ATTRIBUTE_TYPES.contains(typeElement.getQualifiedName().toString());
+		} else {
+			return false;
+		}
+	}
+
+	/**
+	 * Returns true if the type is a declared type of passed name.
+	 */
+	private static boolean isDeclaredType(@Nonnull TypeMirror type, @Nonnull String className) {
+		return type.getKind() == TypeKind.DECLARED &&
+			((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName().contentEquals(className);
+	}
+
+	/**
+	 * Writes the source of the generated proxy class.
+	 */
+	private void writeProxyClass(
+		@Nonnull TypeElement contract,
+		@Nonnull List<String> attributeGetters,
+		@Nonnull List<String> referenceGetters,
+		@Nonnull Map<String, String> methodBodies
+	) {
+		final String packageName = this.processingEnv.getElementUtils().getPackageOf(contract).getQualifiedName().toString();
+		final String binaryName = this.processingEnv.getElementUtils().getBinaryName(contract).toString();
+		final String simpleName = (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1)) +
+			AbstractGeneratedEntityProxy.GENERATED_CLASS_SUFFIX;
+		final String contractName = contract.getQualifiedName().toString();
+		try {
+			final JavaFileObject sourceFile = this.processingEnv.getFiler().createSourceFile(
+				packageName.isEmpty() ? simpleName : packageName + "." + simpleName, contract
+			);
+			try (PrintWriter writer = new PrintWriter(sourceFile.openWriter())) {
+				if (!packageName.isEmpty()) {
+					writer.println("package " + packageName + ";");
+					writer.println();
+				}
+				writer.println("@javax.annotation.processing.Generated(\"" + EntityProxyProcessor.class.getName() + "\")");
+				if (!referenceGetters.isEmpty()) {
+					// the reference getters cast the result to the parameterized collection type
+					writer.println("@SuppressWarnings(\"unchecked\")");
+				}
+				writer.println(
+					"public final class " + simpleName + " extends " + AbstractGeneratedEntityProxy.class.getName() +
+						" implements " + contractName + " {"
+				);
+				writer.println("\tprivate static final long serialVersionUID = 1L;");
+				writer.println(
+					"\tpublic static final java.util.function.Function<" + EntityContract.class.getName() + ", " + contractName +
+						"> " + AbstractGeneratedEntityProxy.FACTORY_FIELD_NAME + " = " + simpleName + "::new;"
+				);
+				for (String attributeGetter : attributeGetters) {
+					writer.println(attributeGetter);
+				}
+				for (String referenceGetter : referenceGetters) {
+					writer.println(referenceGetter);
+				}
+				writer.println();
+				writer.println("\tprivate " + simpleName + "(" + EntityContract.class.getName() + " entity) {");
+				writer.println("\t\tsuper(" + contractName + ".class, entity);");
+				writer.println("\t}");
+				for (String methodBody : methodBodies.values()) {
+					writer.println();
+					writer.println("\t@Override");
+					writer.print(methodBody);
+				}
+				writer.println("}");
+			}
+		} catch (IOException e) {
+			this.processingEnv.getMessager().printMessage(
+				Kind.ERROR,
+				"Failed to generate proxy of `" + contractName + "`: " + e.getMessage(),
+				contract
+			);
+		}
+	}
+
+	/**
+	 * Escapes the string so that it may be used as a Java string literal.
+	 */
+	@Nonnull
+	private static String escape(@Nonnull String value) {
+		return value.replace("\\", "\\\\").replace("\"", "\\\"");
+	}
+
+}
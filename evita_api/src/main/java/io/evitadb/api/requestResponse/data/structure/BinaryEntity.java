@@ -6,7 +6,7 @@
  *             |  __/\ V /| | || (_| | |_| | |_) |
  *              \___| \_/ |_|\__\__,_|____/|____/
  *
- *   Copyright (c) 2023-2025
+ *   Copyright (c) 2023-2026
  *
  *   Licensed under the Business Source License, Version 1.1 (the "License");
  *   you may not use this file except in compliance with the License.
@@ -30,7 +30,9 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.io.Serial;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 
 import static java.util.Optional.ofNullable;
@@ -66,6 +68,48 @@ public class BinaryEntity implements EntityClassifier {
 		return this.schema.getName();
 	}
 
+	/**
+	 * Returns the entity storage part as a read-only buffer that shares the underlying bytes.
+	 */
+	@Nonnull
+	public ByteBuffer getEntityStoragePartBuffer() {
+		return ByteBuffer.wrap(this.entityStoragePart).asReadOnlyBuffer();
+	}
+
+	/**
+	 * Returns the attribute storage parts as read-only buffers that share the underlying bytes.
+	 */
+	@Nonnull
+	public ByteBuffer[] getAttributeStoragePartBuffers() {
+		return wrap(this.attributeStorageParts);
+	}
+
+	/**
+	 * Returns the associated data storage parts as read-only buffers that share the underlying bytes.
+	 */
+	@Nonnull
+	public ByteBuffer[] getAssociatedDataStoragePartBuffers() {
+		return wrap(this.associatedDataStorageParts);
+	}
+
+	/**
+	 * Returns the price storage part as a read-only buffer that shares the underlying bytes, or null if the entity
+	 * has no prices.
+	 */
+	@Nullable
+	public ByteBuffer getPriceStoragePartBuffer() {
+		return this.priceStoragePart == null ? null : ByteBuffer.wrap(this.priceStoragePart).asReadOnlyBuffer();
+	}
+
+	/**
+	 * Returns the reference storage part as a read-only buffer that shares the underlying bytes, or null if the entity
+	 * has no references.
+	 */
+	@Nullable
+	public ByteBuffer getReferenceStoragePartBuffer() {
+		return this.referenceStoragePart == null ? null : ByteBuffer.wrap(this.referenceStoragePart).asReadOnlyBuffer();
+	}
+
 	public int estimateSize() {
 		return MemoryMeasuringConstants.OBJECT_HEADER_SIZE
 			+ 5 * MemoryMeasuringConstants.ARRAY_BASE_SIZE
@@ -76,4 +120,19 @@ public class BinaryEntity implements EntityClassifier {
 			+ ofNullable(this.referenceStoragePart).map(it -> it.length).orElse(0);
 	}
 
+	/**
+	 * Wraps the passed byte arrays into read-only buffers without copying.
+	 */
+	@Nonnull
+	private static ByteBuffer[] wrap(@Nullable byte[][] parts) {
+		if (parts == null) {
+			return new ByteBuffer[0];
+		}
+		final ByteBuffer[] buffers = new ByteBuffer[parts.length];
+		for (int i = 0; i < parts.length; i++) {
+			buffers[i] = ByteBuffer.wrap(parts[i]).asReadOnlyBuffer();
+		}
+		return buffers;
+	}
+
 }
@@ -0,0 +1,215 @@
+/*
+ *
+ *                         _ _        ____  ____
+ *               _____   _(_) |_ __ _|  _ \| __ )
+ *              / _ \ \ / / | __/ _` | | | |  _ \
+ *             |  __/\ V /| | || (_| | |_| | |_) |
+ *              \___| \_/ |_|\__\__,_|____/|____/
+ *
+ *   Copyright (c) 2026
+ *
+ *   Licensed under the Business Source License, Version 1.1 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://github.com/FgForrest/evitaDB/blob/master/LICENSE
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.evitadb.api.requestResponse.data.structure;
+
+import io.evitadb.api.requestResponse.schema.EntitySchemaContract;
+import io.evitadb.utils.MemoryMeasuringConstants;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.Serial;
+import java.nio.ByteBuffer;
+
+/**
+ * {@link BinaryEntity} backed by read-only buffers that share the memory of the received message instead of owning
+ * copies of the storage parts. The buffer accessors return the parts without copying, the byte array accessors copy
+ * the part on the first access only.
+ *
+ * The buffers are not serializable - the entity is replaced by the plain {@link BinaryEntity} when serialized.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+public class BufferedBinaryEntity extends BinaryEntity {
+	@Serial private static final long serialVersionUID = 2546371209856315204L;
+
+	private final transient ByteBuffer entityStoragePartBuffer;
+	private final transient ByteBuffer[] attributeStoragePartBuffers;
+	private final transient ByteBuffer[] associatedDataStoragePartBuffers;
+	@Nullable private final transient ByteBuffer priceStoragePartBuffer;
+	@Nullable private final transient ByteBuffer referenceStoragePartBuffer;
+	private transient byte[] entityStoragePart;
+	private transient byte[][] attributeStorageParts;
+	private transient byte[][] associatedDataStorageParts;
+	private transient byte[] priceStoragePart;
+	private transient byte[] referenceStoragePart;
+
+	public BufferedBinaryEntity(
+		@Nonnull EntitySchemaContract schema,
+		@Nonnull Integer primaryKey,
+		@Nonnull ByteBuffer entityStoragePart,
+		@Nonnull ByteBuffer[] attributeStorageParts,
+		@Nonnull ByteBuffer[] associatedDataStorageParts,
+		@Nullable ByteBuffer priceStoragePart,
+		@Nullable ByteBuffer referenceStoragePart
+	) {
+		super(schema, primaryKey, null, null, null, null, null, new BinaryEntity[0]);
+		this.entityStoragePartBuffer = entityStoragePart;
+		this.attributeStoragePartBuffers = attributeStorageParts;
+		this.associatedDataStoragePartBuffers = associatedDataStorageParts;
+		this.priceStoragePartBuffer = priceStoragePart;
+		this.referenceStoragePartBuffer = referenceStoragePart;
+	}
+
+	@Override
+	public byte[] getEntityStoragePart() {
+		if (this.entityStoragePart == null) {
+			this.entityStoragePart = toByteArray(this.entityStoragePartBuffer);
+		}
+		return this.entityStoragePart;
+	}
+
+	@Override
+	public byte[][] getAttributeStorageParts() {
+		if (this.attributeStorageParts == null) {
+			this.attributeStorageParts = toByteArrays(this.attributeStoragePartBuffers);
+		}
+		return this.attributeStorageParts;
+	}
+
+	@Override
+	public byte[][] getAssociatedDataStorageParts() {
+		if (this.associatedDataStorageParts == null) {
+			this.associatedDataStorageParts = toByteArrays(this.associatedDataStoragePartBuffers);
+		}
+		return this.associatedDataStorageParts;
+	}
+
+	@Override
+	public byte[] getPriceStoragePart() {
+		if (this.priceStoragePart == null && this.priceStoragePartBuffer != null) {
+			this.priceStoragePart = toByteArray(this.priceStoragePartBuffer);
+		}
+		return this.priceStoragePart;
+	}
+
+	@Override
+	public byte[] getReferenceStoragePart() {
+		if (this.referenceStoragePart == null && this.referenceStoragePartBuffer != null) {
+			this.referenceStoragePart = toByteArray(this.referenceStoragePartBuffer);
+		}
+		return this.referenceStoragePart;
+	}
+
+	@Nonnull
+	@Override
+	public ByteBuffer getEntityStoragePartBuffer() {
+		return this.entityStoragePartBuffer.duplicate();
+	}
+
+	@Nonnull
+	@Override
+	public ByteBuffer[] getAttributeStoragePartBuffers() {
+		return duplicate(this.attributeStoragePartBuffers);
+	}
+
+	@Nonnull
+	@Override
+	public ByteBuffer[] getAssociatedDataStoragePartBuffers() {
+		return duplicate(this.associatedDataStoragePartBuffers);
+	}
+
+	@Nullable
+	@Override
+	public ByteBuffer getPriceStoragePartBuffer() {
+		return this.priceStoragePartBuffer == null ? null : this.priceStoragePartBuffer.duplicate();
+	}
+
+	@Nullable
+	@Override
+	public ByteBuffer getReferenceStoragePartBuffer() {
+		return this.referenceStoragePartBuffer == null ? null : this.referenceStoragePartBuffer.duplicate();
+	}
+
+	@Override
+	public int estimateSize() {
+		int size = MemoryMeasuringConstants.OBJECT_HEADER_SIZE
+			+ 5 * MemoryMeasuringConstants.ARRAY_BASE_SIZE
+			+ this.entityStoragePartBuffer.remaining();
+		for (ByteBuffer part : this.attributeStoragePartBuffers) {
+			size += MemoryMeasuringConstants.ARRAY_BASE_SIZE + part.remaining();
+		}
+		for (ByteBuffer part : this.associatedDataStoragePartBuffers) {
+			size += MemoryMeasuringConstants.ARRAY_BASE_SIZE + part.remaining();
+		}
+		if (this.priceStoragePartBuffer != null) {
+			size += this.priceStoragePartBuffer.remaining();
+		}
+		if (this.referenceStoragePartBuffer != null) {
+			size += this.referenceStoragePartBuffer.remaining();
+		}
+		return size;
+	}
+
+	/**
+	 * Replaces the buffered entity with the plain {@link BinaryEntity} owning the copies of the storage parts.
+	 */
+	@Serial
+	private Object writeReplace() {
+		return new BinaryEntity(
+			getSchema(),
+			getPrimaryKey(),
+			getEntityStoragePart(),
+			getAttributeStorageParts(),
+			getAssociatedDataStorageParts(),
+			getPriceStoragePart(),
+			getReferenceStoragePart(),
+			getReferencedEntities()
+		);
+	}
+
+	/**
+	 * Copies the remaining content of the buffer without moving its position.
+	 */
+	@Nonnull
+	private static byte[] toByteArray(@Nonnull ByteBuffer buffer) {
+		final byte[] bytes = new byte[buffer.remaining()];
+		buffer.duplicate().get(bytes);
+		return bytes;
+	}
+
+	/**
+	 * Copies the remaining content of all the buffers without moving their positions.
+	 */
+	@Nonnull
+	private static byte[][] toByteArrays(@Nonnull ByteBuffer[] buffers) {
+		final byte[][] parts = new byte[buffers.length][];
+		for (int i = 0; i < buffers.length; i++) {
+			parts[i] = toByteArray(buffers[i]);
+		}
+		return parts;
+	}
+
+	/**
+	 * Duplicates the buffers so that the caller can't move the positions of the shared ones.
+	 */
+	@Nonnull
+	private static ByteBuffer[] duplicate(@Nonnull ByteBuffer[] buffers) {
+		final ByteBuffer[] duplicates = new ByteBuffer[buffers.length];
+		for (int i = 0; i < buffers.length; i++) {
+			duplicates[i] = buffers[i].duplicate();
+		}
+		return duplicates;
+	}
+
+}
@@ -150,6 +150,26 @@ public class MutationPredicateContext {
 		}
 	}
 
+	/**
+	 * Moves the last known index of the mutation forward by the given number of mutations. Used when the top-level
+	 * mutations of the transaction are not passed through the predicate at all (because they cannot match it), but
+	 * the following mutations must still receive the same index as if they were processed one by one. Only
+	 * applicable to the {@link StreamDirection#FORWARD} direction.
+	 *
+	 * @param mutationCount the number of skipped top-level mutations
+	 */
+	public void skip(int mutationCount) {
+		Assert.isPremiseValid(
+			this.direction == StreamDirection.FORWARD,
+			"Mutations can be skipped only in the forward direction!"
+		);
+		Assert.isPremiseValid(
+			mutationCount >= 0 && this.index + mutationCount <= this.mutationCount,
+			() -> "Index " + (this.index + mutationCount) + " is out of bounds <0," + this.mutationCount + ">!"
+		);
+		this.index += mutationCount;
+	}
+
 	/**
 	 * Prevents advancement of the mutation context temporarily while executing the provided lambda.
 	 * This method ensures that nested calls are not allowed by validating the current state before execution.
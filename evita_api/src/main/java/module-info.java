@@ -21,6 +21,7 @@
  *   limitations under the License.
  */
 
+import io.evitadb.api.proxy.processor.EntityProxyProcessor;
 import io.evitadb.api.query.expression.object.accessor.ObjectElementAccessor;
 import io.evitadb.api.query.expression.object.accessor.ObjectPropertyAccessor;
 import io.evitadb.api.query.expression.object.accessor.entity.AssociatedDataContractAccessor;
@@ -49,6 +50,9 @@ module evita.api {
 		AssociatedDataContractAccessor,
 		ReferencesContractAccessor;
 
+	provides javax.annotation.processing.Processor with
+		EntityProxyProcessor;
+
 	exports io.evitadb.api;
 	exports io.evitadb.api.configuration;
 	exports io.evitadb.api.configuration.metric;
@@ -57,6 +61,7 @@ module evita.api {
 	exports io.evitadb.api.task;
 	exports io.evitadb.api.proxy;
 	exports io.evitadb.api.proxy.impl;
+	exports io.evitadb.api.proxy.processor;
 	exports io.evitadb.api.requestResponse;
 	exports io.evitadb.api.requestResponse.cdc;
 	exports io.evitadb.api.requestResponse.data;
@@ -106,5 +111,6 @@ module evita.api {
 	requires evita.common;
 	requires evita.query;
 	requires static proxycian.bytebuddy;
+	requires static java.compiler;
 
 }
@@ -50,12 +50,16 @@ import io.evitadb.api.requestResponse.cdc.ChangeSystemCapture;
 import io.evitadb.api.requestResponse.cdc.ChangeSystemCaptureRequest;
 import io.evitadb.api.requestResponse.cdc.HostSystemEvent;
 import io.evitadb.api.requestResponse.data.DevelopmentConstants;
+import io.evitadb.api.requestResponse.data.mutation.EntityMutation;
+import io.evitadb.api.requestResponse.data.mutation.EntityUpsertMutation;
+import io.evitadb.api.requestResponse.mutation.CatalogBoundMutation;
 import io.evitadb.api.requestResponse.mutation.EngineMutation;
 import io.evitadb.api.requestResponse.progress.Progress;
 import io.evitadb.api.requestResponse.progress.ProgressingFuture;
 import io.evitadb.api.requestResponse.schema.CatalogSchemaContract;
 import io.evitadb.api.requestResponse.schema.CatalogSchemaEditor.CatalogSchemaBuilder;
 import io.evitadb.api.requestResponse.schema.builder.InternalCatalogSchemaBuilder;
+import io.evitadb.api.requestResponse.schema.mutation.LocalCatalogSchemaMutation;
 import io.evitadb.api.requestResponse.schema.mutation.engine.CreateCatalogSchemaMutation;
 import io.evitadb.api.requestResponse.schema.mutation.engine.DuplicateCatalogMutation;
 import io.evitadb.api.requestResponse.schema.mutation.engine.MakeCatalogAliveMutation;
@@ -67,6 +71,7 @@ import io.evitadb.api.requestResponse.schema.mutation.engine.SetCatalogMutabilit
 import io.evitadb.api.requestResponse.schema.mutation.engine.SetCatalogStateMutation;
 import io.evitadb.api.requestResponse.schema.mutation.engine.UpgradeCatalogFormatMutation;
 import io.evitadb.api.requestResponse.mutation.infrastructure.TransactionMutation;
+import io.evitadb.api.task.ServerTask;
 import io.evitadb.core.cache.CacheSupervisor;
 import io.evitadb.core.cache.CollationKeyCacheSweeper;
 import io.evitadb.core.cache.HeapMemoryCacheSupervisor;
@@ -75,6 +80,7 @@ import io.evitadb.core.catalog.Catalog;
 import io.evitadb.core.catalog.UnusableCatalog;
 import io.evitadb.core.cdc.EngineStatisticsPublisher;
 import io.evitadb.core.cdc.SystemChangeObserver;
+import io.evitadb.core.collection.task.AttributeIndexBackfillTask;
 import io.evitadb.core.engine.ExpandedEngineState;
 import io.evitadb.core.exception.CatalogCorruptedException;
 import io.evitadb.core.exception.CatalogInactiveException;
@@ -91,6 +97,7 @@ import io.evitadb.core.metric.event.system.RequestThreadPoolStatisticsEvent;
 import io.evitadb.core.metric.event.system.ScheduledExecutorStatisticsEvent;
 import io.evitadb.core.metric.event.system.TransactionThreadPoolStatisticsEvent;
 import io.evitadb.core.query.algebra.Formula;
+import io.evitadb.core.replication.CatalogReplicator;
 import io.evitadb.core.session.EvitaInternalSessionContract;
 import io.evitadb.core.session.EvitaSession;
 import io.evitadb.core.session.SessionRegistry;
@@ -99,8 +106,10 @@ import io.evitadb.core.session.SuspensionInformation;
 import io.evitadb.core.session.task.SessionKiller;
 import io.evitadb.core.transaction.engine.EngineTransactionManager;
 import io.evitadb.core.transaction.engine.operators.DefaultUpgradeExecutor;
+import io.evitadb.core.transaction.stage.mutation.ServerEntityUpsertMutation;
 import io.evitadb.exception.GenericEvitaInternalError;
 import io.evitadb.function.Functions;
+import io.evitadb.index.mutation.ConsistencyCheckingLocalMutationExecutor.ImplicitMutationBehavior;
 import io.evitadb.spi.store.catalog.shared.model.LogRecordReference;
 import io.evitadb.spi.store.engine.EnginePersistenceService;
 import io.evitadb.spi.store.engine.EnginePersistenceServiceFactory;
@@ -123,6 +132,7 @@ import java.io.Closeable;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
@@ -177,6 +187,11 @@ public final class Evita implements EvitaContract {
 	 * updated from the session registry (when the session is closed).
 	 */
 	private final Map<String, SessionRegistry> catalogSessionRegistries = CollectionUtils.createConcurrentHashMap(64);
+	/**
+	 * Keeps the running {@link AttributeIndexBackfillTask tasks} keyed by the catalog name and the entity type
+	 * (separated by a colon) so that the backfill of a single entity collection is never driven by multiple tasks.
+	 */
+	private final Map<String, AttributeIndexBackfillTask> attributeIndexBackfillTasks = CollectionUtils.createConcurrentHashMap(16);
 	/**
 	 * Formula supervisor is an entry point to the Evita cache. The idea is that each {@link Formula} can be identified by
 	 * its {@link Formula#getHash()} method and when the supervisor identifies that certain formula
@@ -1048,12 +1063,98 @@ public final class Evita implements EvitaContract {
 	 */
 	public void registerRestoredCatalog(@Nonnull String catalogName) {
 		assertActive();
-		applyMutation(new RestoreCatalogSchemaMutation(catalogName))
+		// the writability was verified when the restoration was requested (replicated catalogs are restored in read-only mode)
+		this.engineTransactionManager.applyMutation(new RestoreCatalogSchemaMutation(catalogName), null)
 			.onCompletion()
 			.toCompletableFuture()
 			.join();
 	}
 
+	/**
+	 * Method for internal use. Activates the catalog replicated from the primary evitaDB instance. This is the only
+	 * way how to activate a catalog in the engine switched to read-only mode by {@link #setReadOnly()}.
+	 *
+	 * @param catalogName name of the restored replicated catalog
+	 */
+	public void activateReplicatedCatalog(@Nonnull String catalogName) {
+		assertActive();
+		this.engineTransactionManager.applyMutation(new SetCatalogStateMutation(catalogName, true), null)
+			.onCompletion()
+			.toCompletableFuture()
+			.join();
+	}
+
+	/**
+	 * Method for internal use. Creates a replicator that keeps the catalogs of this instance in sync with
+	 * the catalogs of the primary instance according to {@link ServerOptions#replica()} settings. The replicator is
+	 * neither bootstrapped nor started - it's the caller's responsibility to do so and to close it.
+	 *
+	 * @param primary the primary evitaDB instance (usually a remote client)
+	 * @return new replicator
+	 */
+	@Nonnull
+	public CatalogReplicator createReplicator(@Nonnull EvitaContract primary) {
+		assertActive();
+		return new CatalogReplicator(this, primary, this.configuration.server().replica(), this.serviceExecutor);
+	}
+
+	/**
+	 * Method for internal use. Applies the mutations of a single transaction replicated from the primary evitaDB
+	 * instance to the catalog of this (replica) instance. The mutations are applied in a single read-write session,
+	 * so that they pass through the regular transactional pipeline (conflict resolution, WAL, trunk incorporation)
+	 * as one transaction. This is the only way how to write to the engine switched to read-only mode by
+	 * {@link #setReadOnly()} - the catalog-level read-only flag is still respected.
+	 *
+	 * @param catalogName name of the catalog the transaction belongs to
+	 * @param mutations   top-level mutations of the replicated transaction in their original order, only
+	 *                    {@link EntityMutation} and {@link LocalCatalogSchemaMutation} are expected
+	 * @return future completed with the versions of the catalog once the changes of the transaction become visible
+	 */
+	@Nonnull
+	public CompletionStage<CommitVersions> applyReplicatedTransaction(
+		@Nonnull String catalogName,
+		@Nonnull List<? extends CatalogBoundMutation> mutations
+	) {
+		assertActive();
+		final SessionTraits traits = new SessionTraits(
+			catalogName,
+			CommitBehavior.WAIT_FOR_CHANGES_VISIBLE,
+			SessionFlags.READ_WRITE
+		);
+		final CreatedSession createdSession = this.createSessionInternal(traits, true);
+		try {
+			createdSession.session().execute(
+				session -> {
+					for (CatalogBoundMutation mutation : mutations) {
+						if (mutation instanceof EntityUpsertMutation upsertMutation) {
+							// primary keys were already assigned by the primary instance
+							session.applyMutation(
+								new ServerEntityUpsertMutation(
+									upsertMutation, EnumSet.allOf(ImplicitMutationBehavior.class), true, true
+								)
+							);
+						} else if (mutation instanceof EntityMutation entityMutation) {
+							session.applyMutation(entityMutation);
+						} else if (mutation instanceof LocalCatalogSchemaMutation schemaMutation) {
+							session.updateCatalogSchema(schemaMutation);
+						} else {
+							throw new GenericEvitaInternalError(
+								"Unexpected top-level mutation `" + mutation.getClass().getName() +
+									"` in replicated transaction of catalog `" + catalogName + "`!"
+							);
+						}
+					}
+				}
+			);
+			return createdSession.commitProgress().on(CommitBehavior.WAIT_FOR_CHANGES_VISIBLE);
+		} catch (RuntimeException ex) {
+			createdSession.commitProgress().completeExceptionally(ex);
+			throw ex;
+		} finally {
+			createdSession.session().closeNow(CommitBehavior.WAIT_FOR_CHANGES_VISIBLE);
+		}
+	}
+
 	/**
 	 * Retrieves a stream of committed mutations starting with a {@link TransactionMutation} that will transition
 	 * the engine to the given version. The stream goes through all the mutations in this transaction and continues
@@ -1280,6 +1381,10 @@ public final class Evita implements EvitaContract {
 						);
 						if (updatedCatalog instanceof Catalog theUpdatedCatalog) {
 							theUpdatedCatalog.notifyCatalogPresentInLiveView();
+							// resume backfill of attribute indexes interrupted by the previous shutdown
+							if (!readOnly && !this.readOnly && afterReplay != null) {
+								scheduleAttributeIndexBackfill(theUpdatedCatalog);
+							}
 						}
 						// Emit the host event so HOST-area subscribers learn that the
 						// post-WAL-replay catalog reference has settled on this host. This path
@@ -1642,6 +1747,46 @@ public final class Evita implements EvitaContract {
 		if (schemaAdvanced) {
 			notifyCatalogSchemaUpdated(catalog.getName(), catalog.getSchema().version());
 		}
+
+		// schedule backfill of the attribute indexes that were left unfinished by the schema changes
+		if (!this.readOnly) {
+			scheduleAttributeIndexBackfill(catalog);
+		}
+	}
+
+	/**
+	 * Submits {@link AttributeIndexBackfillTask} for each entity collection of the catalog that has pending attribute
+	 * index backfill and isn't already being backfilled by a running task.
+	 *
+	 * @param catalog the catalog that has just been installed into the live view
+	 */
+	private void scheduleAttributeIndexBackfill(@Nonnull Catalog catalog) {
+		for (String entityType : catalog.getEntityTypes()) {
+			final boolean pendingBackfill = catalog.getCollectionForEntityInternal(entityType)
+				.map(it -> !it.getAttributeIndexBackfill().isEmpty())
+				.orElse(false);
+			if (pendingBackfill) {
+				final String key = catalog.getName() + ":" + entityType;
+				final AttributeIndexBackfillTask task = new AttributeIndexBackfillTask(catalog.getName(), entityType, this);
+				if (this.attributeIndexBackfillTasks.putIfAbsent(key, task) == null) {
+					this.serviceExecutor.submit((ServerTask<?, Void>) task)
+						.whenComplete((result, throwable) -> {
+							this.attributeIndexBackfillTasks.remove(key, task);
+							if (throwable == null) {
+								// the schema might have been changed again after the task observed the finished backfill
+								getCatalogInstance(catalog.getName())
+									.filter(Catalog.class::isInstance)
+									.ifPresent(it -> scheduleAttributeIndexBackfill((Catalog) it));
+							} else {
+								log.error(
+									"Attribute index backfill of entity collection `{}` in catalog `{}` failed.",
+									entityType, catalog.getName(), throwable
+								);
+							}
+						});
+				}
+			}
+		}
 	}
 
 	/**
@@ -1751,6 +1896,18 @@ public final class Evita implements EvitaContract {
 	 */
 	@Nonnull
 	private CreatedSession createSessionInternal(@Nonnull SessionTraits sessionTraits) {
+		return createSessionInternal(sessionTraits, false);
+	}
+
+	/**
+	 * Creates {@link EvitaSession} instance and registers all appropriate termination callbacks along.
+	 *
+	 * @param sessionTraits the traits of the session
+	 * @param replication   true if the session applies transactions replicated from the primary instance and is
+	 *                      therefore allowed to write even if the engine is in read-only mode
+	 */
+	@Nonnull
+	private CreatedSession createSessionInternal(@Nonnull SessionTraits sessionTraits, boolean replication) {
 		final SessionRegistry catalogSessionRegistry = this.catalogSessionRegistries.computeIfAbsent(
 			sessionTraits.catalogName(),
 			__ -> {
@@ -1765,7 +1922,7 @@ public final class Evita implements EvitaContract {
 
 		final EvitaInternalSessionContract newSession = catalogSessionRegistry.createSession(
 			sessionRegistry -> {
-				if (this.readOnly) {
+				if (this.readOnly && !replication) {
 					isTrue(!sessionTraits.isReadWrite() || sessionTraits.isDryRun(), ReadOnlyException::engineReadOnly);
 				}
 
@@ -1785,9 +1942,10 @@ public final class Evita implements EvitaContract {
 					};
 
 				final EvitaInternalSessionContract internalSession = sessionRegistry.addSession(
-					catalog.supportsTransaction(),
-					() -> new EvitaSession(
-						this, catalog, this.reflectionLookup,
+					catalog,
+					sessionTraits,
+					sessionCatalog -> new EvitaSession(
+						this, sessionCatalog, this.reflectionLookup,
 						terminationCallback,
 						ofNullable(sessionTraits.commitBehaviour()).orElse(CommitBehavior.defaultBehaviour()),
 						sessionTraits,
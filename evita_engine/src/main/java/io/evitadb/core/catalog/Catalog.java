@@ -45,6 +45,8 @@ import io.evitadb.api.exception.SchemaNotFoundException;
 import io.evitadb.api.exception.TemporalDataNotAvailableException;
 import io.evitadb.api.exception.TransactionException;
 import io.evitadb.api.file.FileForFetch;
+import io.evitadb.api.observability.IndexMemoryFootprint;
+import io.evitadb.api.observability.QueryShapeStatistics;
 import io.evitadb.api.observability.trace.TracingContext;
 import io.evitadb.api.proxy.ProxyFactory;
 import io.evitadb.api.requestResponse.EvitaRequest;
@@ -90,6 +92,7 @@ import io.evitadb.core.buffer.TransactionalDataStoreMemoryBuffer;
 import io.evitadb.core.buffer.TrappedChanges;
 import io.evitadb.core.buffer.WarmUpDataStoreMemoryBuffer;
 import io.evitadb.core.cache.CacheSupervisor;
+import io.evitadb.core.collection.AttributeIndexBackfill;
 import io.evitadb.core.collection.EntityCollection;
 import io.evitadb.core.collection.EntityCollection.EntityCollectionHeaderWithCollection;
 import io.evitadb.core.exception.StorageImplementationNotFoundException;
@@ -98,10 +101,14 @@ import io.evitadb.core.executor.Scheduler;
 import io.evitadb.core.expression.trigger.FacetExpressionTriggerFactory;
 import io.evitadb.core.expression.trigger.HistogramExpressionTriggerFactory;
 import io.evitadb.core.management.FileManagementService;
+import io.evitadb.core.metric.event.query.QueryShapeStatisticsEvent;
+import io.evitadb.core.metric.event.storage.IndexMemoryFootprintEvent;
 import io.evitadb.core.query.QueryPlan;
 import io.evitadb.core.query.QueryPlanner;
 import io.evitadb.core.query.QueryPlanningContext;
 import io.evitadb.core.query.algebra.Formula;
+import io.evitadb.core.query.statistics.QueryPhaseStatisticsRegistry;
+import io.evitadb.core.query.statistics.QueryShapeStatisticsRegistry;
 import io.evitadb.core.sequence.SequenceService;
 import io.evitadb.core.sequence.SequenceType;
 import io.evitadb.core.traffic.TrafficRecordingEngine;
@@ -161,6 +168,7 @@ import java.util.*;
 import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
@@ -203,6 +211,10 @@ public final class Catalog
 	 */
 	private static final ThreadLocal<Deque<Set<String>>> PENDING_TRIGGER_REBUILDS =
 		ThreadLocal.withInitial(ArrayDeque::new);
+	/**
+	 * Number of the most expensive query shapes periodically exported as metrics.
+	 */
+	private static final int OBSERVED_QUERY_SHAPES = 20;
 
 	@Getter private final long id = TransactionalObjectVersion.SEQUENCE.nextId();
 	/**
@@ -324,6 +336,21 @@ public final class Catalog
 	 * Traffic recorder used for recording the traffic in the catalog.
 	 */
 	@Getter private final TrafficRecordingEngine trafficRecordingEngine;
+	/**
+	 * Always-on aggregated statistics of the queries executed in the catalog, shared by all catalog versions.
+	 */
+	@Getter private final QueryShapeStatisticsRegistry queryShapeStatisticsRegistry;
+	/**
+	 * Always-on histograms of the query phase durations of the queries executed in the catalog, shared by all catalog
+	 * versions.
+	 */
+	@Getter private final QueryPhaseStatisticsRegistry queryPhaseStatistics;
+	/**
+	 * Memoized estimate of the memory occupied by the entity indexes of this catalog version. The estimate is computed
+	 * lazily on first request - the catalog version is immutable (except for the warm-up phase), so the estimate stays
+	 * valid for the entire life of the instance.
+	 */
+	private final AtomicReference<List<IndexMemoryFootprint>> indexMemoryFootprint = new AtomicReference<>();
 	/**
 	 * Contains reference to the archived catalog index that allows fast lookups for entities across all types.
 	 *
@@ -629,6 +656,8 @@ public final class Catalog
 			newCatalogVersionConsumer,
 			catalogVersion
 		);
+		this.queryShapeStatisticsRegistry = new QueryShapeStatisticsRegistry();
+		this.queryPhaseStatistics = new QueryPhaseStatisticsRegistry();
 		this.trafficRecordingEngine = new TrafficRecordingEngine(
 			internalCatalogSchema.getName(),
 			this.state,
@@ -704,6 +733,8 @@ public final class Catalog
 			.filter(it -> !it.isEmpty())
 			.ifPresent(this.archiveCatalogIndex::set);
 		this.cacheSupervisor = cacheSupervisor;
+		this.queryShapeStatisticsRegistry = new QueryShapeStatisticsRegistry();
+		this.queryPhaseStatistics = new QueryPhaseStatisticsRegistry();
 		this.trafficRecordingEngine = new TrafficRecordingEngine(
 			catalogSchema.getName(),
 			this.state,
@@ -776,6 +807,8 @@ public final class Catalog
 		this.persistenceService = persistenceService;
 		this.cacheSupervisor = previousCatalogVersion.cacheSupervisor;
 		this.trafficRecordingEngine = previousCatalogVersion.trafficRecordingEngine;
+		this.queryShapeStatisticsRegistry = previousCatalogVersion.queryShapeStatisticsRegistry;
+		this.queryPhaseStatistics = previousCatalogVersion.queryPhaseStatistics;
 		this.entityTypeSequence = previousCatalogVersion.entityTypeSequence;
 		this.proxyFactory = previousCatalogVersion.proxyFactory;
 		this.evitaConfiguration = previousCatalogVersion.evitaConfiguration;
@@ -1681,8 +1714,9 @@ public final class Catalog
 			);
 		}
 
-		final Map<String, EntityCollection> possiblyUpdatedCollections = transactionalLayer.getStateCopyWithCommittedChanges(
-			this.entityCollections);
+		final Map<String, EntityCollection> possiblyUpdatedCollections = mergeEntityCollections(
+			collectionChanges, transactionalLayer
+		);
 		final CatalogIndex possiblyUpdatedCatalogIndex = transactionalLayer.getStateCopyWithCommittedChanges(
 			this.catalogIndex);
 		final CatalogIndex theArchiveCatalogIndex = this.archiveCatalogIndex.get();
@@ -1737,6 +1771,68 @@ public final class Catalog
 		}
 	}
 
+	/**
+	 * Creates the committed version of {@link #entityCollections} map. The entity collections touched by the merged
+	 * transactions are independent of each other (each of them owns its schema, indexes and storage changes), so when
+	 * there is more than one of them, their transactional memory is merged in parallel on {@link #transactionalExecutor}
+	 * and the map is then assembled from the already merged copies. This is the most expensive part of the trunk
+	 * incorporation when the transactions touch multiple collections at once.
+	 *
+	 * The cross-collection dependencies stay ordered: the mutations (including the reflected references and global
+	 * unique attribute changes in the catalog index) are still replayed sequentially in the order of the WAL, and
+	 * the catalog-level structures (schema, catalog indexes) are merged on the calling thread.
+	 *
+	 * @param collectionChanges  diff layer of the {@link #entityCollections} map, or `null` when no collection was
+	 *                           created, removed or renamed
+	 * @param transactionalLayer the maintainer resolving committed state
+	 * @return the committed entity collections by their entity type
+	 */
+	@Nonnull
+	private Map<String, EntityCollection> mergeEntityCollections(
+		@Nullable MapChanges<String, EntityCollection> collectionChanges,
+		@Nonnull TransactionalLayerMaintainer transactionalLayer
+	) {
+		final List<EntityCollection> dirtyCollections = new ArrayList<>(this.entityCollections.size());
+		for (EntityCollection entityCollection : this.entityCollections.values()) {
+			if (transactionalLayer.getTransactionalMemoryLayerIfExists(entityCollection) != null) {
+				dirtyCollections.add(entityCollection);
+			}
+		}
+		if (dirtyCollections.size() < 2) {
+			// nothing to parallelize
+			return transactionalLayer.getStateCopyWithCommittedChanges(this.entityCollections);
+		}
+
+		// the transactional memory is bound to the thread, the workers must see the very same transaction
+		final Transaction transaction = Transaction.getTransaction().orElse(null);
+		final List<EntityCollection> mergedCollections = transactionalLayer.getStateCopiesWithCommittedChanges(
+			dirtyCollections,
+			this.transactionalExecutor,
+			merge -> Transaction.executeInTransactionIfProvided(transaction, merge, false)
+		);
+		final IdentityHashMap<EntityCollection, EntityCollection> premergedCollections = new IdentityHashMap<>(
+			dirtyCollections.size()
+		);
+		for (int i = 0; i < dirtyCollections.size(); i++) {
+			premergedCollections.put(dirtyCollections.get(i), mergedCollections.get(i));
+		}
+		log.debug(
+			"Merged {} entity collections of catalog `{}` in parallel.", dirtyCollections.size(), getName()
+		);
+
+		final Map<String, EntityCollection> committedCollections = this.entityCollections.createCopyWithMergedTransactionalMemory(
+			collectionChanges, transactionalLayer, new PremergedCollectionMerger(transactionalLayer, premergedCollections)
+		);
+		// the merge with a custom value merger doesn't dispose of the map's own layer
+		transactionalLayer.removeTransactionalMemoryLayerIfExists(this.entityCollections);
+		Assert.isPremiseValid(
+			premergedCollections.isEmpty(),
+			() -> "Entity collections `" + premergedCollections.values().stream().map(EntityCollection::getEntityType).toList() +
+				"` were merged, but are not part of the committed catalog!"
+		);
+		return committedCollections;
+	}
+
 	/**
 	 * Commits a Write-Ahead Log (WAL) for and processes the transaction.
 	 *
@@ -1938,6 +2034,32 @@ public final class Catalog
 		}
 	}
 
+	/**
+	 * Returns true if any of the entity collections has an attribute index backfill pending.
+	 */
+	public boolean isAttributeIndexBackfillPending() {
+		for (EntityCollection entityCollection : this.entityCollections.values()) {
+			if (!entityCollection.getAttributeIndexBackfill().isEmpty()) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Advances the pending attribute index backfills of all entity collections within the time budget of
+	 * {@link AttributeIndexBackfill#ROUND_TIME_BUDGET_MILLIS}. The method is called at the end of each trunk
+	 * incorporation round, so that the backfill piggybacks on the catalog versions created by the regular transactions.
+	 */
+	public void advanceAttributeIndexBackfill() {
+		final long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(AttributeIndexBackfill.ROUND_TIME_BUDGET_MILLIS);
+		for (EntityCollection entityCollection : this.entityCollections.values()) {
+			if (!entityCollection.getAttributeIndexBackfill().isEmpty()) {
+				entityCollection.advanceAttributeIndexBackfill(deadlineNanos);
+			}
+		}
+	}
+
 	/**
 	 * Creates an isolated WAL (Write-Ahead Log) service for the specified transaction ID.
 	 *
@@ -1991,6 +2113,38 @@ public final class Catalog
 		this.transactionManager.notifyCatalogPresentInLiveView(this);
 	}
 
+	/**
+	 * Returns the estimated memory footprint of the entity indexes of all collections in the catalog, grouped by
+	 * the entity type and ordered by the size descending within each group. The estimate is memoized for the catalog
+	 * version, catalogs in the {@link CatalogState#WARMING_UP} state are mutated in place and are therefore estimated
+	 * on each call.
+	 *
+	 * @see io.evitadb.index.EntityIndexMemoryEstimator
+	 */
+	@Nonnull
+	public List<IndexMemoryFootprint> getIndexMemoryFootprint() {
+		if (getCatalogState() == CatalogState.WARMING_UP) {
+			return estimateIndexMemoryFootprint();
+		}
+		final List<IndexMemoryFootprint> memoizedFootprint = this.indexMemoryFootprint.get();
+		if (memoizedFootprint == null) {
+			final List<IndexMemoryFootprint> footprint = estimateIndexMemoryFootprint();
+			return this.indexMemoryFootprint.compareAndSet(null, footprint) ? footprint : this.indexMemoryFootprint.get();
+		}
+		return memoizedFootprint;
+	}
+
+	/**
+	 * Returns the aggregated statistics of all query shapes executed in the catalog since it was loaded,
+	 * ordered by the total time spent executing them in descending order.
+	 *
+	 * @return snapshot of the query shape statistics
+	 */
+	@Nonnull
+	public List<QueryShapeStatistics> getQueryShapeStatistics() {
+		return this.queryShapeStatisticsRegistry.getStatistics();
+	}
+
 	/**
 	 * Method for internal use - allows emitting start events when observability facilities are already initialized.
 	 * If we didn't postpone this initialization, events would become lost.
@@ -1999,11 +2153,46 @@ public final class Catalog
 		try {
 			this.persistenceService.emitObservabilityEvents();
 			this.transactionManager.emitObservabilityEvents();
+			emitQueryShapeStatistics();
+			emitIndexMemoryFootprint();
 		} catch (Throwable t) {
 			log.error("Emitting observability events failed!", t);
 		}
 	}
 
+	/**
+	 * Emits {@link QueryShapeStatisticsEvent} for the {@link #OBSERVED_QUERY_SHAPES} most expensive query shapes.
+	 * The number of exported shapes is limited to keep the cardinality of the Prometheus metrics under control.
+	 */
+	private void emitQueryShapeStatistics() {
+		final String catalogName = getName();
+		for (QueryShapeStatistics statistics : this.queryShapeStatisticsRegistry.getStatistics(OBSERVED_QUERY_SHAPES)) {
+			new QueryShapeStatisticsEvent(catalogName, statistics).commit();
+		}
+	}
+
+	/**
+	 * Estimates the memory footprint of the entity indexes of all collections in the catalog.
+	 */
+	@Nonnull
+	private List<IndexMemoryFootprint> estimateIndexMemoryFootprint() {
+		final List<IndexMemoryFootprint> result = new ArrayList<>(64);
+		for (EntityCollection entityCollection : this.entityCollections.values()) {
+			result.addAll(entityCollection.estimateIndexMemoryFootprint());
+		}
+		return Collections.unmodifiableList(result);
+	}
+
+	/**
+	 * Emits {@link IndexMemoryFootprintEvent} for each kind of the index data structure of each entity collection.
+	 */
+	private void emitIndexMemoryFootprint() {
+		final String catalogName = getName();
+		for (IndexMemoryFootprint footprint : getIndexMemoryFootprint()) {
+			new IndexMemoryFootprintEvent(catalogName, footprint).commit();
+		}
+	}
+
 	/**
 	 * We need to forget all volatile data when the data written to catalog aren't going to be committed (incorporated
 	 * in the final state).
@@ -2371,13 +2560,18 @@ public final class Catalog
 		@Nonnull CatalogSchemaContract catalogSchema,
 		@Nonnull EntityCollection entityCollection
 	) {
-		if (!ArrayUtils.isEmpty(modifyEntitySchemaMutation.getSchemaMutations())) {
-			entityCollection.updateSchema(
-				sessionId,
-				catalogSchema,
-				modifyEntitySchemaMutation.getSchemaMutations()
-			);
+		if (ArrayUtils.isEmpty(modifyEntitySchemaMutation.getSchemaMutations())) {
+			// the empty mutation is issued by the attribute index backfill task only when the catalog is idle - there
+			// are no transactions to interleave the backfill with, so it's completed at once instead of consuming
+			// a catalog version per each step (see #advanceAttributeIndexBackfill), the schema itself doesn't change
+			entityCollection.completeAttributeIndexBackfill();
+			return catalogSchema;
 		}
+		entityCollection.updateSchema(
+			sessionId,
+			catalogSchema,
+			modifyEntitySchemaMutation.getSchemaMutations()
+		);
 		return CatalogSchema._internalBuildWithUpdatedVersion(
 			catalogSchema,
 			getEntitySchemaAccessor()
@@ -2617,6 +2811,38 @@ public final class Catalog
 		}
 	}
 
+	/**
+	 * Resolves the committed entity collections during the commit-time merge of {@link Catalog#entityCollections}.
+	 * The collections that were merged upfront in parallel (see {@link Catalog#mergeEntityCollections}) are handed back
+	 * as they are - each of them exactly once - while the untouched collections are merged the ordinary way.
+	 *
+	 * @param transactionalLayer   the maintainer resolving committed state
+	 * @param premergedCollections committed copies of the dirty collections keyed by their original instance,
+	 *                             the entries are removed as they are consumed
+	 */
+	private record PremergedCollectionMerger(
+		@Nonnull TransactionalLayerMaintainer transactionalLayer,
+		@Nonnull IdentityHashMap<EntityCollection, EntityCollection> premergedCollections
+	) implements MapChanges.ValueMerger<String, EntityCollection> {
+
+		@Nonnull
+		@Override
+		public EntityCollection mergeSurviving(@Nonnull String key, @Nullable EntityCollection collection) {
+			Assert.isPremiseValid(
+				collection != null, () -> "Entity collection `" + key + "` is unexpectedly NULL!"
+			);
+			final EntityCollection premergedCollection = this.premergedCollections.remove(collection);
+			return premergedCollection == null ?
+				this.transactionalLayer.getStateCopyWithCommittedChanges(collection) : premergedCollection;
+		}
+
+		@Override
+		public void releaseRemoved(@Nonnull String key, @Nonnull EntityCollection collection) {
+			collection.removeLayer(this.transactionalLayer);
+		}
+
+	}
+
 	/**
 	 * This implementation just manipulates with the set of EntityIndex in entity collection.
 	 */
@@ -30,6 +30,7 @@ import io.evitadb.api.requestResponse.cdc.ChangeCapturePublisher;
 import io.evitadb.api.requestResponse.cdc.ChangeCatalogCapture;
 import io.evitadb.api.requestResponse.cdc.ChangeCatalogCaptureRequest;
 import io.evitadb.api.requestResponse.mutation.CatalogBoundMutation;
+import io.evitadb.api.requestResponse.mutation.infrastructure.TransactionMutation;
 import io.evitadb.core.catalog.Catalog;
 import io.evitadb.core.executor.DelayedAsyncTask;
 import io.evitadb.core.executor.Scheduler;
@@ -49,6 +50,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 
 /**
  * Implementation of the {@link ChangeObserverContract} that observes and captures changes to a catalog
@@ -68,7 +70,9 @@ import java.util.concurrent.atomic.AtomicReference;
  * The observer implements an optimization strategy where publishers with identical criteria are shared
  * among multiple subscribers to reduce resource usage and improve performance.
  *
- * TOBEDONE #879 - potential performance optimization if current one is slow
+ * The mutations are dispatched to the publishers via {@link ChangeCatalogCaptureDispatchIndex}, which routes each
+ * mutation only to the publishers whose criteria can match it, so that the dispatch cost doesn't grow with
+ * the number of distinct subscription criteria observing other parts of the catalog.
  *
  * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2025
  * @see ChangeObserverContract
@@ -93,6 +97,19 @@ public class CatalogChangeObserver implements ChangeCatalogObserverContract {
 	 * Map of all active publishers. A unique UUID identifies each publisher.
 	 */
 	private final Map<ChangeCatalogCriteriaBundle, ChangeCatalogCaptureSharedPublisher> uniquePublishers;
+	/**
+	 * Counter of modifications of {@link #uniquePublishers}, incremented after each change of the map.
+	 */
+	private final AtomicLong publishersModificationCount = new AtomicLong(0L);
+	/**
+	 * Dispatch index of the {@link #uniquePublishers}, rebuilt lazily when the map is modified.
+	 */
+	private volatile DispatchIndexSnapshot dispatchIndex;
+	/**
+	 * Index of the last processed mutation within its transaction. Accessed only from the thread processing
+	 * the mutations.
+	 */
+	private int mutationIndex;
 	/**
 	 * Cleaning task that removes inactive publishers from the list of unique publishers once a while.
 	 */
@@ -109,6 +126,10 @@ public class CatalogChangeObserver implements ChangeCatalogObserverContract {
 	 * Counter for the number of events sent to subscribers, categorized by entity type.
 	 */
 	private final Map<String, AtomicLong> sentEventsByEntityType = CollectionUtils.createConcurrentHashMap(32);
+	/**
+	 * Statistics of the capture frames shared among the subscribers of all publishers.
+	 */
+	private final ChangeCaptureFrameStatistics frameStatistics = new ChangeCaptureFrameStatistics();
 
 	/**
 	 * Whether this observer is still active and can fire new events.
@@ -147,9 +168,12 @@ public class CatalogChangeObserver implements ChangeCatalogObserverContract {
 	@Override
 	public void processMutation(@Nonnull CatalogBoundMutation mutation) {
 		assertActive();
-		for (ChangeCatalogCaptureSharedPublisher sharedPublisher : this.uniquePublishers.values()) {
-			sharedPublisher.processMutation(mutation);
-		}
+		final int theMutationIndex = mutation instanceof TransactionMutation ? 0 : this.mutationIndex + 1;
+		this.mutationIndex = theMutationIndex;
+		getDispatchIndex().forEachTarget(
+			mutation,
+			sharedPublisher -> sharedPublisher.processMutation(mutation, theMutationIndex)
+		);
 	}
 
 	@Override
@@ -180,7 +204,7 @@ public class CatalogChangeObserver implements ChangeCatalogObserverContract {
 		// Specifics related to the start version and index, and provided content are handled in the isolated publisher.
 		final ChangeCatalogCapturePublisher changeCatalogCapturePublisher = new ChangeCatalogCapturePublisher(
 			// create or reuse the shared publisher
-			criteriaBundle -> this.uniquePublishers.computeIfAbsent(
+			criteriaBundle -> registerPublisher(
 				criteriaBundle,
 				cb -> {
 					log.info(
@@ -193,13 +217,16 @@ public class CatalogChangeObserver implements ChangeCatalogObserverContract {
 						this.cdcOptions.recentEventsCacheLimit(),
 						this.cdcOptions.subscriberBufferSize(),
 						cb,
+						this.frameStatistics,
 						this::updateStatistics,
 						publisher -> {
 							log.info(
 								"Closing shared CDC publisher for catalog '{}' and criteria: {}",
 								catalogName, cb
 							);
-							this.uniquePublishers.remove(publisher);
+							if (this.uniquePublishers.remove(publisher) != null) {
+								this.publishersModificationCount.incrementAndGet();
+							}
 						}
 					);
 				}
@@ -246,6 +273,7 @@ public class CatalogChangeObserver implements ChangeCatalogObserverContract {
 				.values()
 				.forEach(it -> IOUtils.closeQuietly(it::close));
 			this.uniquePublishers.clear();
+			this.publishersModificationCount.incrementAndGet();
 			this.currentCatalog.set(null);
 			IOUtils.closeQuietly(this.cleaner::close);
 		}
@@ -269,14 +297,69 @@ public class CatalogChangeObserver implements ChangeCatalogObserverContract {
 	 * @return the milliseconds deviation to the next scheduled run (always zero)
 	 */
 	long cleanInactivePublishers() {
-		this.uniquePublishers.values().removeIf(
-			publisher -> {
-				publisher.checkSubscribersLeft();
-				return publisher.isClosed();
-			});
+		if (
+			this.uniquePublishers.values().removeIf(
+				publisher -> {
+					publisher.checkSubscribersLeft();
+					return publisher.isClosed();
+				})
+		) {
+			this.publishersModificationCount.incrementAndGet();
+		}
 		return 0L;
 	}
 
+	/**
+	 * Returns the shared publisher for the given criteria, creating it if necessary. When a new publisher is created,
+	 * the dispatch index is invalidated so that the publisher starts receiving mutations. Reusing an existing publisher
+	 * keeps the current dispatch index valid.
+	 *
+	 * @param criteriaBundle the criteria of the publisher
+	 * @param factory        the factory creating a new publisher
+	 * @return the shared publisher
+	 */
+	@Nonnull
+	private ChangeCatalogCaptureSharedPublisher registerPublisher(
+		@Nonnull ChangeCatalogCriteriaBundle criteriaBundle,
+		@Nonnull Function<ChangeCatalogCriteriaBundle, ChangeCatalogCaptureSharedPublisher> factory
+	) {
+		final AtomicBoolean created = new AtomicBoolean();
+		final ChangeCatalogCaptureSharedPublisher publisher = this.uniquePublishers.computeIfAbsent(
+			criteriaBundle,
+			cb -> {
+				created.set(true);
+				return factory.apply(cb);
+			}
+		);
+		if (created.get()) {
+			// the counter is incremented after the map change so that a dispatch index built for it contains the change
+			this.publishersModificationCount.incrementAndGet();
+		}
+		return publisher;
+	}
+
+	/**
+	 * Returns the dispatch index of the current shared publishers, rebuilding it if the publishers changed since
+	 * the index was built.
+	 *
+	 * @return the dispatch index
+	 */
+	@Nonnull
+	private ChangeCatalogCaptureDispatchIndex<ChangeCatalogCaptureSharedPublisher> getDispatchIndex() {
+		final long modificationCount = this.publishersModificationCount.get();
+		final DispatchIndexSnapshot snapshot = this.dispatchIndex;
+		if (snapshot != null && snapshot.modificationCount() == modificationCount) {
+			return snapshot.index();
+		}
+		final ChangeCatalogCaptureDispatchIndex<ChangeCatalogCaptureSharedPublisher> index =
+			ChangeCatalogCaptureDispatchIndex.create(
+				this.uniquePublishers.values(),
+				ChangeCatalogCaptureSharedPublisher::getCriteria
+			);
+		this.dispatchIndex = new DispatchIndexSnapshot(modificationCount, index);
+		return index;
+	}
+
 	/**
 	 * Collects and emits statistics related to change data capture (CDC) operations.
 	 */
@@ -299,7 +382,9 @@ public class CatalogChangeObserver implements ChangeCatalogObserverContract {
 				this.uniquePublishers.size(),
 				subscriberCount,
 				laggingSubscriberCount,
-				this.sentEvents.get()
+				this.sentEvents.get(),
+				this.frameStatistics.sumSerializedThenReset(),
+				this.frameStatistics.sumReusedThenReset()
 			).commit();
 
 			this.sentEventsByArea
@@ -348,4 +433,16 @@ public class CatalogChangeObserver implements ChangeCatalogObserverContract {
 		}
 	}
 
+	/**
+	 * Dispatch index built for a particular state of the shared publishers.
+	 *
+	 * @param modificationCount the value of the modification counter the index was built for
+	 * @param index             the dispatch index
+	 */
+	private record DispatchIndexSnapshot(
+		long modificationCount,
+		@Nonnull ChangeCatalogCaptureDispatchIndex<ChangeCatalogCaptureSharedPublisher> index
+	) {
+	}
+
 }
@@ -0,0 +1,155 @@
+/*
+ *
+ *                         _ _        ____  ____
+ *               _____   _(_) |_ __ _|  _ \| __ )
+ *              / _ \ \ / / | __/ _` | | | |  _ \
+ *             |  __/\ V /| | || (_| | |_| | |_) |
+ *              \___| \_/ |_|\__\__,_|____/|____/
+ *
+ *   Copyright (c) 2026
+ *
+ *   Licensed under the Business Source License, Version 1.1 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://github.com/FgForrest/evitaDB/blob/master/LICENSE
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+
+package io.evitadb.core.cdc;
+
+
+import io.evitadb.api.requestResponse.cdc.ChangeCapture;
+import io.evitadb.api.requestResponse.cdc.ChangeCaptureContent;
+import lombok.Getter;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Immutable delivery unit of a single change capture at a particular {@link ChangeCaptureContent} level, shared by
+ * all subscribers of the same {@link ChangeCatalogCaptureSharedPublisher} (i.e. subscribers with equal
+ * {@link ChangeCatalogCriteriaBundle}) that requested the same content. Besides the capture itself, the frame
+ * memoizes its wire representations - the first subscriber that needs the capture in a particular wire format pays
+ * the conversion / serialization cost, all other subscribers reuse the very same (immutable) result.
+ *
+ * The wire format is identified by an opaque key provided by the transport layer (the key must implement
+ * {@link Object#equals(Object)} and {@link Object#hashCode()} properly), so that the engine doesn't need to know
+ * anything about the particular protocols.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+@ThreadSafe
+public final class ChangeCaptureFrame<T extends ChangeCapture> {
+	/**
+	 * The capture already converted to the {@link #content} level.
+	 */
+	@Getter @Nonnull private final T capture;
+	/**
+	 * The content level of the {@link #capture}.
+	 */
+	@Getter @Nonnull private final ChangeCaptureContent content;
+	/**
+	 * Statistics collecting the number of serialized and reused wire representations, or null if the frame is not
+	 * shared and its usage should not be tracked.
+	 */
+	@Nullable private final ChangeCaptureFrameStatistics statistics;
+	/**
+	 * Memoized wire representations stored as pairs of format key and payload. The array is replaced (never
+	 * modified) when a new representation is added, so that the readers don't need any locking.
+	 */
+	@Nonnull private volatile Object[] serialized = new Object[0];
+
+	/**
+	 * Creates a frame that is not shared with other subscribers and whose usage is not tracked in statistics.
+	 *
+	 * @param capture the capture already converted to the content level
+	 * @param content the content level of the capture
+	 * @return new unshared frame
+	 */
+	@Nonnull
+	public static <T extends ChangeCapture> ChangeCaptureFrame<T> unshared(
+		@Nonnull T capture,
+		@Nonnull ChangeCaptureContent content
+	) {
+		return new ChangeCaptureFrame<>(capture, content, null);
+	}
+
+	ChangeCaptureFrame(
+		@Nonnull T capture,
+		@Nonnull ChangeCaptureContent content,
+		@Nullable ChangeCaptureFrameStatistics statistics
+	) {
+		this.capture = capture;
+		this.content = content;
+		this.statistics = statistics;
+	}
+
+	/**
+	 * Returns the wire representation of the capture in the requested format. The representation is computed by
+	 * the provided serializer only once per frame and format, all subsequent calls return the memoized result.
+	 * The result must therefore be immutable.
+	 *
+	 * @param format     the key identifying the wire format
+	 * @param serializer the function converting the capture into the wire format
+	 * @return the wire representation of the capture
+	 */
+	@Nonnull
+	public <F> F getOrSerialize(@Nonnull Object format, @Nonnull Function<? super T, F> serializer) {
+		final F existing = find(this.serialized, format);
+		if (existing != null) {
+			if (this.statistics != null) {
+				this.statistics.registerReuse();
+			}
+			return existing;
+		}
+		synchronized (this) {
+			final Object[] current = this.serialized;
+			final F concurrentlyComputed = find(current, format);
+			if (concurrentlyComputed != null) {
+				if (this.statistics != null) {
+					this.statistics.registerReuse();
+				}
+				return concurrentlyComputed;
+			}
+			final F payload = Objects.requireNonNull(serializer.apply(this.capture));
+			final Object[] extended = Arrays.copyOf(current, current.length + 2);
+			extended[current.length] = format;
+			extended[current.length + 1] = payload;
+			this.serialized = extended;
+			if (this.statistics != null) {
+				this.statistics.registerSerialization();
+			}
+			return payload;
+		}
+	}
+
+	/**
+	 * Finds the payload for the given format in the array of format-payload pairs.
+	 *
+	 * @param serialized the array of format-payload pairs
+	 * @param format     the format key to look for
+	 * @return the payload or null if the format has not been serialized yet
+	 */
+	@Nullable
+	private static <F> F find(@Nonnull Object[] serialized, @Nonnull Object format) {
+		for (int i = 0; i < serialized.length; i += 2) {
+			if (format.equals(serialized[i])) {
+				//noinspection unchecked
+				return (F) serialized[i + 1];
+			}
+		}
+		return null;
+	}
+
+}
@@ -0,0 +1,77 @@
+/*
+ *
+ *                         _ _        ____  ____
+ *               _____   _(_) |_ __ _|  _ \| __ )
+ *              / _ \ \ / / | __/ _` | | | |  _ \
+ *             |  __/\ V /| | || (_| | |_| | |_) |
+ *              \___| \_/ |_|\__\__,_|____/|____/
+ *
+ *   Copyright (c) 2026
+ *
+ *   Licensed under the Business Source License, Version 1.1 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://github.com/FgForrest/evitaDB/blob/master/LICENSE
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+
+package io.evitadb.core.cdc;
+
+
+import javax.annotation.concurrent.ThreadSafe;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters of wire representations of {@link ChangeCaptureFrame} computed and reused across all shared publishers
+ * of a single observer. The counters survive closing of the publishers and are reset each time they're read, so that
+ * the periodically emitted events carry the increments since the previous emission (exported as counters).
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+@ThreadSafe
+final class ChangeCaptureFrameStatistics {
+	/**
+	 * The number of wire representations computed (conversion / serialization cost paid).
+	 */
+	private final LongAdder serialized = new LongAdder();
+	/**
+	 * The number of times a memoized wire representation was reused for another subscriber.
+	 */
+	private final LongAdder reused = new LongAdder();
+
+	/**
+	 * Registers a newly computed wire representation.
+	 */
+	void registerSerialization() {
+		this.serialized.increment();
+	}
+
+	/**
+	 * Registers a reuse of an already computed wire representation.
+	 */
+	void registerReuse() {
+		this.reused.increment();
+	}
+
+	/**
+	 * Returns the number of wire representations computed since the last call and resets the counter.
+	 */
+	long sumSerializedThenReset() {
+		return this.serialized.sumThenReset();
+	}
+
+	/**
+	 * Returns the number of wire representations reused since the last call and resets the counter.
+	 */
+	long sumReusedThenReset() {
+		return this.reused.sumThenReset();
+	}
+
+}
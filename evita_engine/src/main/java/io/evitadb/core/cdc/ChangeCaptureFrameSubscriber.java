@@ -0,0 +1,52 @@
+/*
+ *
+ *                         _ _        ____  ____
+ *               _____   _(_) |_ __ _|  _ \| __ )
+ *              / _ \ \ / / | __/ _` | | | |  _ \
+ *             |  __/\ V /| | || (_| | |_| | |_) |
+ *              \___| \_/ |_|\__\__,_|____/|____/
+ *
+ *   Copyright (c) 2026
+ *
+ *   Licensed under the Business Source License, Version 1.1 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://github.com/FgForrest/evitaDB/blob/master/LICENSE
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+
+package io.evitadb.core.cdc;
+
+
+import io.evitadb.api.requestResponse.cdc.ChangeCapture;
+
+import javax.annotation.Nonnull;
+import java.util.concurrent.Flow.Subscriber;
+
+/**
+ * Extension of the {@link Subscriber} that wants to receive the captures wrapped in {@link ChangeCaptureFrame}
+ * shared with other subscribers of the same publisher. Subscribers implementing this interface receive all
+ * the captures via {@link #onNextFrame(ChangeCaptureFrame)} instead of {@link #onNext(Object)}, which allows
+ * transport layers fanning out the same captures to many clients to convert each capture to the wire format only
+ * once.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+public interface ChangeCaptureFrameSubscriber<T extends ChangeCapture> extends Subscriber<T> {
+
+	/**
+	 * Method invoked with the next capture (at the content level requested by the subscriber) wrapped in a frame.
+	 * The frame may be shared with other subscribers and must not be retained longer than necessary.
+	 *
+	 * @param frame the frame containing the next capture
+	 */
+	void onNextFrame(@Nonnull ChangeCaptureFrame<T> frame);
+
+}
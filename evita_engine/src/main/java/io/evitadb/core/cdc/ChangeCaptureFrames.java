@@ -0,0 +1,165 @@
+/*
+ *
+ *                         _ _        ____  ____
+ *               _____   _(_) |_ __ _|  _ \| __ )
+ *              / _ \ \ / / | __/ _` | | | |  _ \
+ *             |  __/\ V /| | || (_| | |_| | |_) |
+ *              \___| \_/ |_|\__\__,_|____/|____/
+ *
+ *   Copyright (c) 2026
+ *
+ *   Licensed under the Business Source License, Version 1.1 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://github.com/FgForrest/evitaDB/blob/master/LICENSE
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+
+package io.evitadb.core.cdc;
+
+
+import io.evitadb.api.requestResponse.cdc.ChangeCapture;
+import io.evitadb.api.requestResponse.cdc.ChangeCaptureContent;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.ThreadSafe;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Table of {@link ChangeCaptureFrame frames} shared by all subscriptions of a single shared publisher. A capture is
+ * uniquely identified by its {@link WalPointer} within the publisher (all subscribers share the same criteria), so
+ * the frames are keyed by the pointer and the requested content level. Captures read from the ring buffer and
+ * captures read from the WAL by lagging subscribers thus end up in the same frame.
+ *
+ * The table is only an optimization - frames that are evicted are simply recreated on the next request. The table
+ * is pruned together with the ring buffer of the publisher and its size is additionally capped.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+@ThreadSafe
+final class ChangeCaptureFrames<T extends ChangeCapture> {
+	/**
+	 * Statistics shared by all the frames of the observer.
+	 */
+	@Nonnull private final ChangeCaptureFrameStatistics statistics;
+	/**
+	 * Maximum number of frames kept in the table.
+	 */
+	private final int maxFrames;
+	/**
+	 * The frames ordered by the position of the capture and content level.
+	 */
+	private final ConcurrentSkipListMap<FrameKey, ChangeCaptureFrame<T>> frames = new ConcurrentSkipListMap<>();
+
+	/**
+	 * Creates a new table of frames.
+	 *
+	 * @param statistics the statistics to register frame usage in
+	 * @param maxFrames  the maximum number of frames kept in the table
+	 */
+	ChangeCaptureFrames(@Nonnull ChangeCaptureFrameStatistics statistics, int maxFrames) {
+		this.statistics = statistics;
+		this.maxFrames = Math.max(1, maxFrames);
+	}
+
+	/**
+	 * Returns the shared frame for the given capture and content level, creating it if necessary.
+	 *
+	 * @param capture the capture in full (body) content
+	 * @param content the content level requested by the subscriber
+	 * @return the shared frame
+	 */
+	@Nonnull
+	ChangeCaptureFrame<T> getFrame(@Nonnull T capture, @Nonnull ChangeCaptureContent content) {
+		final FrameKey key = new FrameKey(capture.version(), capture.index(), content);
+		final ChangeCaptureFrame<T> existing = this.frames.get(key);
+		if (existing != null) {
+			return existing;
+		}
+		final ChangeCaptureFrame<T> frame = this.frames.computeIfAbsent(
+			key, k -> new ChangeCaptureFrame<>(capture.as(content), content, this.statistics)
+		);
+		// keep the table bounded - the oldest frames are the least likely to be requested again
+		while (this.frames.size() > this.maxFrames) {
+			this.frames.pollFirstEntry();
+		}
+		return frame;
+	}
+
+	/**
+	 * Removes all frames of captures with a catalog version lower than the given one.
+	 *
+	 * @param catalogVersion the first catalog version to keep
+	 */
+	void forgetUntil(long catalogVersion) {
+		this.frames.headMap(new FrameKey(catalogVersion, Integer.MIN_VALUE, null)).clear();
+	}
+
+	/**
+	 * Removes all frames of captures with a catalog version greater than the given one.
+	 *
+	 * @param catalogVersion the last catalog version to keep
+	 */
+	void forgetAfter(long catalogVersion) {
+		this.frames.tailMap(new FrameKey(catalogVersion + 1, Integer.MIN_VALUE, null)).clear();
+	}
+
+	/**
+	 * Removes all frames.
+	 */
+	void clear() {
+		this.frames.clear();
+	}
+
+	/**
+	 * Returns the number of frames in the table.
+	 */
+	int size() {
+		return this.frames.size();
+	}
+
+	/**
+	 * Key of the frame in the table. Keys without content (used as range bounds) precede all keys with the same
+	 * position.
+	 *
+	 * @param version the catalog version of the capture
+	 * @param index   the index of the capture within the catalog version
+	 * @param content the content level of the frame
+	 */
+	private record FrameKey(
+		long version,
+		int index,
+		ChangeCaptureContent content
+	) implements Comparable<FrameKey> {
+
+		@Override
+		public int compareTo(FrameKey o) {
+			final int versionComparison = Long.compare(this.version, o.version);
+			if (versionComparison != 0) {
+				return versionComparison;
+			}
+			final int indexComparison = Integer.compare(this.index, o.index);
+			if (indexComparison != 0) {
+				return indexComparison;
+			}
+			if (this.content == o.content) {
+				return 0;
+			} else if (this.content == null) {
+				return -1;
+			} else if (o.content == null) {
+				return 1;
+			} else {
+				return this.content.compareTo(o.content);
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,292 @@
+/*
+ *
+ *                         _ _        ____  ____
+ *               _____   _(_) |_ __ _|  _ \| __ )
+ *              / _ \ \ / / | __/ _` | | | |  _ \
+ *             |  __/\ V /| | || (_| | |_| | |_) |
+ *              \___| \_/ |_|\__\__,_|____/|____/
+ *
+ *   Copyright (c) 2026
+ *
+ *   Licensed under the Business Source License, Version 1.1 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://github.com/FgForrest/evitaDB/blob/master/LICENSE
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+
+package io.evitadb.core.cdc;
+
+import io.evitadb.api.requestResponse.cdc.ChangeCatalogCaptureCriteria;
+import io.evitadb.api.requestResponse.cdc.DataSite;
+import io.evitadb.api.requestResponse.cdc.SchemaSite;
+import io.evitadb.api.requestResponse.data.mutation.EntityMutation;
+import io.evitadb.api.requestResponse.mutation.CatalogBoundMutation;
+import io.evitadb.api.requestResponse.mutation.infrastructure.TransactionMutation;
+import io.evitadb.api.requestResponse.schema.mutation.SchemaMutation;
+import io.evitadb.api.requestResponse.schema.mutation.catalog.CreateEntitySchemaMutation;
+import io.evitadb.api.requestResponse.schema.mutation.catalog.ModifyEntitySchemaMutation;
+import io.evitadb.api.requestResponse.schema.mutation.catalog.ModifyEntitySchemaNameMutation;
+import io.evitadb.api.requestResponse.schema.mutation.catalog.RemoveEntitySchemaMutation;
+import io.evitadb.utils.CollectionUtils;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Immutable routing table that dispatches the top-level catalog mutations only to the targets (shared publishers)
+ * whose {@link ChangeCatalogCriteriaBundle criteria} can possibly match them. Without the index every mutation would
+ * be evaluated by the predicates of all the publishers, which makes the dispatch cost linear to the number of
+ * distinct subscription criteria.
+ *
+ * The targets are indexed by the capture area and the entity type:
+ *
+ * - {@link TransactionMutation transaction mutations} are always dispatched to all targets, because they
+ *   initialize the catalog version in the predicate contexts of the publishers
+ * - {@link EntityMutation entity mutations} are dispatched to the targets observing the data area of all entity
+ *   types and to the targets observing the data area of the mutation's entity type
+ * - top-level {@link SchemaMutation schema mutations} of a particular entity collection are dispatched to
+ *   the targets observing the schema area of all entity types and to the targets observing the schema area of
+ *   the mutation's entity type, other schema mutations only to the targets observing the schema area of all
+ *   entity types
+ * - targets with empty criteria, or criteria without area, receive all mutations
+ *
+ * The routing is intentionally a superset - the predicates of the targets still decide which captures are
+ * produced. The operation, the primary key, and the container type / name are not indexed, because they're
+ * evaluated on the nested local mutations, which may differ from the top-level mutation the index sees (e.g. an
+ * entity upsert contains attribute removals).
+ *
+ * Targets that don't receive a mutation must still account for it in their predicate context, so that the capture
+ * indexes remain the same as when the mutations are processed one by one (see
+ * {@link io.evitadb.api.requestResponse.mutation.MutationPredicateContext#skip(int)}).
+ *
+ * @param <T> the type of the dispatch target
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+@Immutable
+public final class ChangeCatalogCaptureDispatchIndex<T> {
+	/**
+	 * All indexed targets.
+	 */
+	@Nonnull private final List<T> allTargets;
+	/**
+	 * Targets receiving all data mutations.
+	 */
+	@Nonnull private final List<T> dataTargets;
+	/**
+	 * Targets receiving data mutations of a particular entity type (not containing {@link #dataTargets}).
+	 */
+	@Nonnull private final Map<String, List<T>> dataTargetsByEntityType;
+	/**
+	 * Targets receiving all schema mutations.
+	 */
+	@Nonnull private final List<T> schemaTargets;
+	/**
+	 * Targets receiving schema mutations of a particular entity type (not containing {@link #schemaTargets}).
+	 */
+	@Nonnull private final Map<String, List<T>> schemaTargetsByEntityType;
+
+	/**
+	 * Creates a dispatch index for the given targets.
+	 *
+	 * @param targets           the targets to index
+	 * @param criteriaExtractor the function returning the criteria of the target
+	 * @param <T>               the type of the dispatch target
+	 * @return the dispatch index
+	 */
+	@Nonnull
+	public static <T> ChangeCatalogCaptureDispatchIndex<T> create(
+		@Nonnull Collection<T> targets,
+		@Nonnull Function<T, ChangeCatalogCriteriaBundle> criteriaExtractor
+	) {
+		final List<T> allTargets = new ArrayList<>(targets.size());
+		final List<T> allMutationTargets = new ArrayList<>(targets.size());
+		final List<T> dataTargets = new ArrayList<>(targets.size());
+		final List<T> schemaTargets = new ArrayList<>(targets.size());
+		final Map<String, List<T>> dataTargetsByEntityType = CollectionUtils.createHashMap(16);
+		final Map<String, List<T>> schemaTargetsByEntityType = CollectionUtils.createHashMap(16);
+		for (T target : targets) {
+			allTargets.add(target);
+			final ChangeCatalogCaptureCriteria[] criteria = criteriaExtractor.apply(target).criteria();
+			if (criteria.length == 0) {
+				allMutationTargets.add(target);
+				continue;
+			}
+			boolean allData = false;
+			boolean allSchema = false;
+			final Set<String> dataEntityTypes = new LinkedHashSet<>(criteria.length);
+			final Set<String> schemaEntityTypes = new LinkedHashSet<>(criteria.length);
+			for (ChangeCatalogCaptureCriteria criterion : criteria) {
+				if (criterion.area() == null) {
+					allData = true;
+					allSchema = true;
+				} else {
+					switch (criterion.area()) {
+						case DATA -> {
+							final String entityType = criterion.site() instanceof DataSite dataSite ?
+								dataSite.entityType() : null;
+							if (entityType == null) {
+								allData = true;
+							} else {
+								dataEntityTypes.add(entityType);
+							}
+						}
+						case SCHEMA -> {
+							final String entityType = criterion.site() instanceof SchemaSite schemaSite ?
+								schemaSite.entityType() : null;
+							if (entityType == null) {
+								allSchema = true;
+							} else {
+								schemaEntityTypes.add(entityType);
+							}
+						}
+						case INFRASTRUCTURE -> {
+							// transaction mutations are dispatched to all targets anyway
+						}
+					}
+				}
+			}
+			if (allData && allSchema) {
+				allMutationTargets.add(target);
+				continue;
+			}
+			if (allData) {
+				dataTargets.add(target);
+			} else {
+				dataEntityTypes.forEach(
+					entityType -> dataTargetsByEntityType.computeIfAbsent(entityType, et -> new ArrayList<>(4)).add(target)
+				);
+			}
+			if (allSchema) {
+				schemaTargets.add(target);
+			} else {
+				schemaEntityTypes.forEach(
+					entityType -> schemaTargetsByEntityType.computeIfAbsent(entityType, et -> new ArrayList<>(4)).add(target)
+				);
+			}
+		}
+		// targets receiving everything are merged into both wildcard lists
+		dataTargets.addAll(allMutationTargets);
+		schemaTargets.addAll(allMutationTargets);
+		return new ChangeCatalogCaptureDispatchIndex<>(
+			allTargets, dataTargets, freeze(dataTargetsByEntityType), schemaTargets, freeze(schemaTargetsByEntityType)
+		);
+	}
+
+	/**
+	 * Returns the entity type the top-level schema mutation relates to, or null if the mutation alters the catalog
+	 * schema itself.
+	 *
+	 * @param mutation the top-level schema mutation
+	 * @return the entity type or null
+	 */
+	@Nullable
+	private static String getSchemaEntityType(@Nonnull SchemaMutation mutation) {
+		if (mutation instanceof ModifyEntitySchemaMutation modifyEntitySchemaMutation) {
+			return modifyEntitySchemaMutation.getName();
+		} else if (mutation instanceof CreateEntitySchemaMutation createEntitySchemaMutation) {
+			return createEntitySchemaMutation.getName();
+		} else if (mutation instanceof RemoveEntitySchemaMutation removeEntitySchemaMutation) {
+			return removeEntitySchemaMutation.getName();
+		} else if (mutation instanceof ModifyEntitySchemaNameMutation modifyEntitySchemaNameMutation) {
+			return modifyEntitySchemaNameMutation.getName();
+		} else {
+			return null;
+		}
+	}
+
+	/**
+	 * Converts the lists in the map to unmodifiable ones.
+	 */
+	@Nonnull
+	private static <T> Map<String, List<T>> freeze(@Nonnull Map<String, List<T>> targetsByEntityType) {
+		if (targetsByEntityType.isEmpty()) {
+			return Collections.emptyMap();
+		}
+		final Map<String, List<T>> result = CollectionUtils.createHashMap(targetsByEntityType.size());
+		for (Entry<String, List<T>> entry : targetsByEntityType.entrySet()) {
+			result.put(entry.getKey(), List.copyOf(entry.getValue()));
+		}
+		return Collections.unmodifiableMap(result);
+	}
+
+	private ChangeCatalogCaptureDispatchIndex(
+		@Nonnull List<T> allTargets,
+		@Nonnull List<T> dataTargets,
+		@Nonnull Map<String, List<T>> dataTargetsByEntityType,
+		@Nonnull List<T> schemaTargets,
+		@Nonnull Map<String, List<T>> schemaTargetsByEntityType
+	) {
+		this.allTargets = List.copyOf(allTargets);
+		this.dataTargets = List.copyOf(dataTargets);
+		this.dataTargetsByEntityType = dataTargetsByEntityType;
+		this.schemaTargets = List.copyOf(schemaTargets);
+		this.schemaTargetsByEntityType = schemaTargetsByEntityType;
+	}
+
+	/**
+	 * Returns all indexed targets.
+	 *
+	 * @return unmodifiable list of all targets
+	 */
+	@Nonnull
+	public List<T> getAllTargets() {
+		return this.allTargets;
+	}
+
+	/**
+	 * Passes all targets whose criteria can match the given top-level mutation to the consumer. Each target is
+	 * passed at most once.
+	 *
+	 * @param mutation the top-level catalog mutation
+	 * @param consumer the consumer of the targets
+	 */
+	public void forEachTarget(@Nonnull CatalogBoundMutation mutation, @Nonnull Consumer<T> consumer) {
+		if (mutation instanceof EntityMutation entityMutation) {
+			dispatch(this.dataTargets, this.dataTargetsByEntityType.get(entityMutation.getEntityType()), consumer);
+		} else if (mutation instanceof SchemaMutation schemaMutation) {
+			final String entityType = getSchemaEntityType(schemaMutation);
+			dispatch(
+				this.schemaTargets,
+				entityType == null ? null : this.schemaTargetsByEntityType.get(entityType),
+				consumer
+			);
+		} else {
+			// transaction mutations and any other mutations are dispatched to everyone
+			this.allTargets.forEach(consumer);
+		}
+	}
+
+	/**
+	 * Passes all targets in both (disjoint) lists to the consumer.
+	 */
+	private static <T> void dispatch(@Nonnull List<T> wildcardTargets, @Nullable List<T> entityTypeTargets, @Nonnull Consumer<T> consumer) {
+		for (T target : wildcardTargets) {
+			consumer.accept(target);
+		}
+		if (entityTypeTargets != null) {
+			for (T target : entityTypeTargets) {
+				consumer.accept(target);
+			}
+		}
+	}
+
+}
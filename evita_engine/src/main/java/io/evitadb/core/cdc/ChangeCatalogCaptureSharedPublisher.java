@@ -29,6 +29,7 @@ import io.evitadb.api.requestResponse.cdc.ChangeCaptureContent;
 import io.evitadb.api.requestResponse.cdc.ChangeCatalogCapture;
 import io.evitadb.api.requestResponse.mutation.CatalogBoundMutation;
 import io.evitadb.api.requestResponse.mutation.MutationPredicate;
+import io.evitadb.api.requestResponse.mutation.MutationPredicateContext;
 import io.evitadb.api.requestResponse.mutation.infrastructure.TransactionMutation;
 import io.evitadb.core.buffer.RingBuffer.OutsideScopeException;
 import io.evitadb.core.catalog.Catalog;
@@ -67,6 +68,10 @@ import java.util.stream.Stream;
  * allowing it to clean up data that is no longer needed. It also provides thread-safe access to the change
  * catalog captures.
  *
+ * Subscribers implementing {@link ChangeCaptureFrameSubscriber} receive the captures wrapped in
+ * {@link ChangeCaptureFrame frames} shared by all subscribers of this publisher requesting the same content, so that
+ * the conversion to the wire format is paid only once per capture and format.
+ *
  * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2025
  */
 @Slf4j
@@ -142,6 +147,12 @@ public class ChangeCatalogCaptureSharedPublisher implements Flow.Publisher<Chang
 	 */
 	private final MutationPredicate sharedPredicate;
 
+	/**
+	 * Frames of the captures shared by all subscribers of this publisher requesting the same content, so that
+	 * transport layers convert each capture to their wire format only once.
+	 */
+	private final ChangeCaptureFrames<ChangeCatalogCapture> frames;
+
 	/**
 	 * Map tracking the number of subscribers for each catalog version. This allows
 	 * efficient cleanup of data that is no longer needed by any subscriber - i.e. lowering memory usage.
@@ -156,13 +167,15 @@ public class ChangeCatalogCaptureSharedPublisher implements Flow.Publisher<Chang
 	 * @param bufferSize           the size of the ring buffer for storing recent changes
 	 * @param subscriberBufferSize the size of the buffer for each subscriber
 	 * @param criteria             the criteria used to filter mutations for this publisher
+	 * @param frameStatistics      the statistics to register the usage of the shared capture frames in
 	 */
-	public ChangeCatalogCaptureSharedPublisher(
+	ChangeCatalogCaptureSharedPublisher(
 		@Nonnull Catalog catalog,
 		@Nonnull ExecutorService cdcExecutor,
 		int bufferSize,
 		int subscriberBufferSize,
 		@Nonnull ChangeCatalogCriteriaBundle criteria,
+		@Nonnull ChangeCaptureFrameStatistics frameStatistics,
 		@Nonnull Consumer<ChangeCatalogCapture> onNextConsumer,
 		@Nonnull Consumer<ChangeCatalogCriteriaBundle> onClose
 	) {
@@ -175,6 +188,8 @@ public class ChangeCatalogCaptureSharedPublisher implements Flow.Publisher<Chang
 		this.bufferSize = bufferSize;
 		// Create a shared predicate that will be used to filter mutations
 		this.sharedPredicate = this.criteria.createPredicate(null, null);
+		// each capture may be kept in two content levels
+		this.frames = new ChangeCaptureFrames<>(frameStatistics, bufferSize * ChangeCaptureContent.values().length);
 	}
 
 	/**
@@ -214,11 +229,15 @@ public class ChangeCatalogCaptureSharedPublisher implements Flow.Publisher<Chang
 
 	/**
 	 * Processes a mutation and adds it to the ring buffer if it matches the shared predicate.
-	 * This method is called for each mutation that occurs in the catalog.
+	 * This method is called for each transaction mutation that occurs in the catalog and for each mutation of
+	 * the transaction that can match the criteria of this publisher (see {@link ChangeCatalogCaptureDispatchIndex}).
 	 *
-	 * @param mutation the mutation to process
+	 * @param mutation      the mutation to process
+	 * @param mutationIndex the index of the mutation within its transaction (the transaction mutation has index 0),
+	 *                      the mutations of the transaction that were not passed to this publisher are skipped
+	 *                      in the predicate context so that the captures keep their indexes
 	 */
-	public void processMutation(@Nonnull CatalogBoundMutation mutation) {
+	public void processMutation(@Nonnull CatalogBoundMutation mutation, int mutationIndex) {
 		if (this.lastCaptures == null && mutation instanceof TransactionMutation tm) {
 			this.lock.lock();
 			try {
@@ -237,6 +256,11 @@ public class ChangeCatalogCaptureSharedPublisher implements Flow.Publisher<Chang
 			}
 		}
 		if (this.lastCaptures != null) {
+			if (!(mutation instanceof TransactionMutation)) {
+				// account for the preceding mutations of the transaction that couldn't match our criteria
+				final MutationPredicateContext context = this.sharedPredicate.getContext();
+				context.skip(mutationIndex - 1 - context.getIndex());
+			}
 			// we don't actively check for non-closed condition here to speed up the process
 			// only process mutations that match our criteria
 			// convert the mutation to change catalog captures (if any) and add them to the ring buffer
@@ -255,6 +279,7 @@ public class ChangeCatalogCaptureSharedPublisher implements Flow.Publisher<Chang
 		if (this.lastCaptures != null) {
 			this.lastCaptures.clearAllAfter(catalogVersion);
 		}
+		this.frames.forgetAfter(catalogVersion);
 	}
 
 	/**
@@ -324,6 +349,7 @@ public class ChangeCatalogCaptureSharedPublisher implements Flow.Publisher<Chang
 				if (this.lastCaptures != null) {
 					this.lastCaptures.clearAll();
 				}
+				this.frames.clear();
 				// cancel all subscriptions
 				for (DefaultChangeCaptureSubscription<ChangeCatalogCapture> subscription : this.subscribers.values()) {
 					subscription.cancel();
@@ -345,6 +371,16 @@ public class ChangeCatalogCaptureSharedPublisher implements Flow.Publisher<Chang
 		return this.closed.get();
 	}
 
+	/**
+	 * Returns the criteria used to filter mutations for this publisher.
+	 *
+	 * @return the criteria bundle
+	 */
+	@Nonnull
+	public ChangeCatalogCriteriaBundle getCriteria() {
+		return this.criteria;
+	}
+
 	/**
 	 * Retrieves the total number of active subscribers currently registered in the publisher.
 	 *
@@ -434,7 +470,8 @@ public class ChangeCatalogCaptureSharedPublisher implements Flow.Publisher<Chang
 						this.cdcExecutor,
 						this::fillBuffer,
 						this.onNextConsumer,
-						this::unsubscribe
+						this::unsubscribe,
+						this.frames
 					);
 				}
 			);
@@ -569,6 +606,8 @@ public class ChangeCatalogCaptureSharedPublisher implements Flow.Publisher<Chang
 			// last remaining entry empties the map
 			Entry<Long, Integer> lowestUsedEntry = this.versionSubscribersCount.firstEntry();
 			if (lowestUsedEntry != null) {
+				// frames of captures no subscriber will deliver anymore are not needed
+				this.frames.forgetUntil(lowestUsedEntry.getKey());
 				// if the lowest available catalog version is lower than the lowest used catalog version
 				if (lowestAvailableCatalogVersion < lowestUsedEntry.getKey()) {
 					// it means that we keep unnecessary data in the ring buffer and we may strip it
@@ -644,6 +683,12 @@ public class ChangeCatalogCaptureSharedPublisher implements Flow.Publisher<Chang
 					this.lastCaptures.clearAllUntil(this.versionSubscribersCount.firstKey());
 				}
 			}
+			final Entry<Long, Integer> lowestUsedEntry = this.versionSubscribersCount.firstEntry();
+			if (lowestUsedEntry == null) {
+				this.frames.clear();
+			} else {
+				this.frames.forgetUntil(lowestUsedEntry.getKey());
+			}
 		}
 	}
 
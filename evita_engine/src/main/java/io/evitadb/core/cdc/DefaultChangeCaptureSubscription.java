@@ -36,6 +36,7 @@ import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.util.Queue;
 import java.util.UUID;
 import java.util.concurrent.ArrayBlockingQueue;
@@ -100,6 +101,12 @@ public class DefaultChangeCaptureSubscription<T extends ChangeCapture> implement
 	 */
 	@Nonnull private final Consumer<T> onNextConsumer;
 
+	/**
+	 * Table of frames shared with other subscriptions of the same publisher, or null if the publisher doesn't share
+	 * the frames. Used only when the subscriber is a {@link ChangeCaptureFrameSubscriber}.
+	 */
+	@Nullable private final ChangeCaptureFrames<T> frames;
+
 	/**
 	 * Queue that buffers catalog change events before they are delivered to the subscriber.
 	 */
@@ -154,8 +161,37 @@ public class DefaultChangeCaptureSubscription<T extends ChangeCapture> implement
 		@Nonnull TriConsumer<WalPointer, DefaultChangeCaptureSubscription<T>, Queue<T>> queueFiller,
 		@Nonnull Consumer<T> onNextConsumer,
 		@Nonnull Consumer<UUID> onCancellation
+	) {
+		this(
+			subscriptionId, bufferSize, specification, subscriber, executorService,
+			queueFiller, onNextConsumer, onCancellation, null
+		);
+	}
+
+	/**
+	 * Creates a new subscription for catalog change events sharing the delivered frames with other subscriptions.
+	 *
+	 * @param subscriptionId  unique identifier for this subscription
+	 * @param bufferSize      size of the buffer queue for catalog change events
+	 * @param specification   specification containing the starting point for the subscription and the requested content
+	 * @param subscriber      the subscriber that will receive catalog change events
+	 * @param queueFiller     function that fills the queue with catalog change events
+	 * @param executorService executor service for asynchronous processing
+	 * @param frames          table of frames shared by the subscriptions of the same publisher
+	 */
+	DefaultChangeCaptureSubscription(
+		@Nonnull UUID subscriptionId,
+		int bufferSize,
+		@Nonnull WalPointerWithContent specification,
+		@Nonnull Subscriber<? super T> subscriber,
+		@Nonnull ExecutorService executorService,
+		@Nonnull TriConsumer<WalPointer, DefaultChangeCaptureSubscription<T>, Queue<T>> queueFiller,
+		@Nonnull Consumer<T> onNextConsumer,
+		@Nonnull Consumer<UUID> onCancellation,
+		@Nullable ChangeCaptureFrames<T> frames
 	) {
 		this.subscriptionId = subscriptionId;
+		this.frames = frames;
 		this.subscriber = subscriber;
 		this.queue = new ArrayBlockingQueue<>(bufferSize);
 		this.trackedVersion = specification.version();
@@ -319,9 +355,7 @@ public class DefaultChangeCaptureSubscription<T extends ChangeCapture> implement
 			}
 			this.requested.decrementAndGet();
 			try {
-				final T finalCapture = capture.as(this.content);
-				this.onNextConsumer.accept(finalCapture);
-				this.subscriber.onNext(finalCapture);
+				deliver(capture);
 			} catch (Throwable onNextException) {
 				onError(onNextException);
 			}
@@ -351,6 +385,28 @@ public class DefaultChangeCaptureSubscription<T extends ChangeCapture> implement
 		}
 	}
 
+	/**
+	 * Converts the capture to the content level requested by the subscriber and delivers it. Subscribers
+	 * implementing {@link ChangeCaptureFrameSubscriber} receive the capture wrapped in a frame, which is shared with
+	 * other subscriptions of the same publisher when the publisher provides the {@link #frames} table.
+	 *
+	 * @param capture the capture in the content it was stored in the queue
+	 */
+	private void deliver(@Nonnull T capture) {
+		if (this.subscriber instanceof ChangeCaptureFrameSubscriber<?> frameSubscriber) {
+			final ChangeCaptureFrame<T> frame = this.frames == null ?
+				ChangeCaptureFrame.unshared(capture.as(this.content), this.content) :
+				this.frames.getFrame(capture, this.content);
+			this.onNextConsumer.accept(frame.getCapture());
+			//noinspection unchecked
+			((ChangeCaptureFrameSubscriber<T>) frameSubscriber).onNextFrame(frame);
+		} else {
+			final T finalCapture = capture.as(this.content);
+			this.onNextConsumer.accept(finalCapture);
+			this.subscriber.onNext(finalCapture);
+		}
+	}
+
 	/**
 	 * Processes the queue of catalog change events and delivers them to the subscriber.
 	 * This method is responsible for:
@@ -388,9 +444,7 @@ public class DefaultChangeCaptureSubscription<T extends ChangeCapture> implement
 					this.lastIndex = capture.index();
 
 					// Deliver the event to the subscriber
-					final T finalCapture = capture.as(this.content);
-					this.onNextConsumer.accept(finalCapture);
-					this.subscriber.onNext(finalCapture);
+					deliver(capture);
 				} catch (Throwable onNextException) {
 					// If the subscriber throws an exception during onNext, propagate it and stop processing
 					onError(onNextException);
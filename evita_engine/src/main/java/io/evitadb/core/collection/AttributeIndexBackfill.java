@@ -0,0 +1,400 @@
+/*
+ *
+ *                         _ _        ____  ____
+ *               _____   _(_) |_ __ _|  _ \| __ )
+ *              / _ \ \ / / | __/ _` | | | |  _ \
+ *             |  __/\ V /| | || (_| | |_| | |_) |
+ *              \___| \_/ |_|\__\__,_|____/|____/
+ *
+ *   Copyright (c) 2026
+ *
+ *   Licensed under the Business Source License, Version 1.1 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://github.com/FgForrest/evitaDB/blob/master/LICENSE
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.evitadb.core.collection;
+
+import io.evitadb.api.requestResponse.schema.AttributeSchemaContract;
+import io.evitadb.api.requestResponse.schema.AttributeUniquenessType;
+import io.evitadb.api.requestResponse.schema.EntityAttributeSchemaContract;
+import io.evitadb.api.requestResponse.schema.dto.EntityAttributeSchema;
+import io.evitadb.api.requestResponse.schema.dto.EntitySchema;
+import io.evitadb.core.query.AttributeSchemaAccessor.AttributeTrait;
+import io.evitadb.dataType.Scope;
+import io.evitadb.index.bitmap.BaseBitmap;
+import io.evitadb.index.bitmap.Bitmap;
+import io.evitadb.spi.store.catalog.persistence.storageParts.index.AttributeIndexBackfillStoragePart;
+import io.evitadb.spi.store.catalog.persistence.storageParts.index.AttributeIndexBackfillStoragePart.AttributeIndexBackfillJob;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable state of the attribute index backfill of a single {@link EntityCollection}. When the indexing traits
+ * (filterability, sortability) of an entity attribute change in a collection that already contains entities, the schema
+ * change itself is committed immediately and the existing entities are re-indexed gradually in batches of
+ * {@link #BATCH_SIZE} entities. Until the backfill of the attribute finishes, the index is in the "building" state -
+ * the query planner refuses to use the traits that are not fully indexed yet (see
+ * {@link #isIndexReady(String, Scope, AttributeTrait)}) and every entity touched by a mutation is re-indexed
+ * before the mutation is applied, so that the index under construction stays consistent. The uniqueness changes are
+ * never backfilled - they may fail on the existing data and are therefore applied synchronously by the schema change.
+ *
+ * The batches are processed within the trunk incorporation rounds of each node independently (they are not recorded
+ * in the WAL) - the state is persisted together with the indexes it describes, so that any node may be at a different
+ * stage of the backfill without affecting the query results.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+public final class AttributeIndexBackfill {
+	/**
+	 * State with no pending backfill.
+	 */
+	public static final AttributeIndexBackfill EMPTY = new AttributeIndexBackfill(List.of());
+	/**
+	 * Number of entities re-indexed in a single step, the time budget of the round is checked between the steps.
+	 */
+	public static final int BATCH_SIZE = 1_000;
+	/**
+	 * Time in milliseconds a single trunk incorporation round may spend with the backfill of all its collections.
+	 */
+	public static final long ROUND_TIME_BUDGET_MILLIS = 50L;
+	/**
+	 * Unfinished backfill jobs in the order they were scheduled.
+	 */
+	private final List<AttributeIndexBackfillJob> jobs;
+
+	/**
+	 * Restores the state from the storage part.
+	 *
+	 * @param storagePart the stored state or `null` if no state was ever stored
+	 * @return the restored state
+	 */
+	@Nonnull
+	public static AttributeIndexBackfill fromStoragePart(@Nullable AttributeIndexBackfillStoragePart storagePart) {
+		return storagePart == null || storagePart.jobs().isEmpty() ?
+			EMPTY : new AttributeIndexBackfill(storagePart.jobs());
+	}
+
+	/**
+	 * Creates a backfill job for the attribute whose indexing traits have been changed from `indexedSchema`
+	 * to a different setting. The entities in `primaryKeys` are expected to be indexed according to `indexedSchema`.
+	 *
+	 * @param indexedSchema the attribute schema the existing entities are indexed with
+	 * @param primaryKeys   the primary keys of all the entities of the collection
+	 * @return the new job
+	 */
+	@Nonnull
+	public static AttributeIndexBackfillJob createJob(
+		@Nonnull AttributeSchemaContract indexedSchema,
+		@Nonnull Bitmap primaryKeys
+	) {
+		final Map<Scope, AttributeUniquenessType> uniqueness = new EnumMap<>(Scope.class);
+		uniqueness.putAll(indexedSchema.getUniquenessTypeInScopes());
+		final Set<Scope> filterable = EnumSet.noneOf(Scope.class);
+		filterable.addAll(indexedSchema.getFilterableInScopes());
+		final Set<Scope> sortable = EnumSet.noneOf(Scope.class);
+		sortable.addAll(indexedSchema.getSortableInScopes());
+		return new AttributeIndexBackfillJob(
+			indexedSchema.getName(), uniqueness, filterable, sortable,
+			primaryKeys.size(), new BaseBitmap(primaryKeys)
+		);
+	}
+
+	/**
+	 * Returns true if the indexing traits of both attribute schemas are the same in all scopes.
+	 *
+	 * @param first  the first attribute schema
+	 * @param second the second attribute schema
+	 * @return true if the existing entities don't need to be re-indexed when `first` changes to `second`
+	 */
+	public static boolean hasSameIndexTraits(
+		@Nonnull AttributeSchemaContract first,
+		@Nonnull AttributeSchemaContract second
+	) {
+		for (Scope scope : Scope.values()) {
+			if (
+				first.getUniquenessType(scope) != second.getUniquenessType(scope) ||
+					first.isFilterableInScope(scope) != second.isFilterableInScope(scope) ||
+					first.isSortableInScope(scope) != second.isSortableInScope(scope)
+			) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Returns true if the uniqueness of both attribute schemas is the same in all scopes.
+	 *
+	 * @param first  the first attribute schema
+	 * @param second the second attribute schema
+	 * @return true if the change from `first` to `second` cannot violate the uniqueness of the existing values
+	 */
+	public static boolean hasSameUniqueness(
+		@Nonnull AttributeSchemaContract first,
+		@Nonnull AttributeSchemaContract second
+	) {
+		for (Scope scope : Scope.values()) {
+			if (first.getUniquenessType(scope) != second.getUniquenessType(scope)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Creates the indexed attribute schema of the job - i.e. the current attribute schema with the indexing traits
+	 * the pending entities are indexed with.
+	 *
+	 * @param job           the backfill job
+	 * @param currentSchema the current attribute schema
+	 * @return the attribute schema describing the indexes of the pending entities
+	 */
+	@Nonnull
+	public static EntityAttributeSchema createIndexedSchema(
+		@Nonnull AttributeIndexBackfillJob job,
+		@Nonnull EntityAttributeSchemaContract currentSchema
+	) {
+		//noinspection unchecked,rawtypes
+		return EntityAttributeSchema._internalBuild(
+			currentSchema.getName(),
+			currentSchema.getDescription(),
+			currentSchema.getDeprecationNotice(),
+			job.indexedUniqueness(),
+			job.indexedFilterable(),
+			job.indexedSortable(),
+			currentSchema.isLocalized(),
+			currentSchema.isNullable(),
+			currentSchema.isRepresentative(),
+			(Class) currentSchema.getType(),
+			(Serializable) currentSchema.getDefaultValue(),
+			currentSchema.getIndexedDecimalPlaces(),
+			currentSchema.getConflictResolutionOverride()
+		);
+	}
+
+	private AttributeIndexBackfill(@Nonnull List<AttributeIndexBackfillJob> jobs) {
+		this.jobs = Collections.unmodifiableList(jobs);
+	}
+
+	/**
+	 * Converts the state to the storage part.
+	 *
+	 * @return the storage part representing this state
+	 */
+	@Nonnull
+	public AttributeIndexBackfillStoragePart toStoragePart() {
+		return new AttributeIndexBackfillStoragePart(this.jobs);
+	}
+
+	/**
+	 * Returns true if there is no unfinished backfill.
+	 */
+	public boolean isEmpty() {
+		return this.jobs.isEmpty();
+	}
+
+	/**
+	 * Returns the unfinished backfill jobs in the order they were scheduled.
+	 */
+	@Nonnull
+	public List<AttributeIndexBackfillJob> getJobs() {
+		return this.jobs;
+	}
+
+	/**
+	 * Returns the unfinished backfill jobs of the attribute. The attribute has multiple jobs when its traits changed
+	 * again before the previous backfill finished - the jobs have disjoint sets of pending entities, each indexed with
+	 * the traits remembered by its job.
+	 *
+	 * @param attributeName the name of the attribute
+	 * @return the jobs or an empty list if the attribute indexes are complete
+	 */
+	@Nonnull
+	public List<AttributeIndexBackfillJob> getJobs(@Nonnull String attributeName) {
+		List<AttributeIndexBackfillJob> result = null;
+		for (AttributeIndexBackfillJob job : this.jobs) {
+			if (job.attributeName().equals(attributeName)) {
+				if (result == null) {
+					result = new ArrayList<>(2);
+				}
+				result.add(job);
+			}
+		}
+		return result == null ? List.of() : result;
+	}
+
+	/**
+	 * Returns true if the entity with the passed primary key still needs to be re-indexed by any of the jobs.
+	 *
+	 * @param primaryKey the primary key of the entity
+	 * @return true if the entity is not re-indexed yet
+	 */
+	public boolean isPending(int primaryKey) {
+		for (AttributeIndexBackfillJob job : this.jobs) {
+			if (job.pendingPrimaryKeys().contains(primaryKey)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the number of entities still pending in all unfinished jobs (an entity pending in several jobs is
+	 * counted multiple times).
+	 */
+	public long getPendingCount() {
+		long pending = 0;
+		for (AttributeIndexBackfillJob job : this.jobs) {
+			pending += job.pendingPrimaryKeys().size();
+		}
+		return pending;
+	}
+
+	/**
+	 * Returns the overall progress of all unfinished jobs in percents.
+	 */
+	public int getProgress() {
+		long total = 0;
+		long pending = 0;
+		for (AttributeIndexBackfillJob job : this.jobs) {
+			total += job.entityCount();
+			pending += job.pendingPrimaryKeys().size();
+		}
+		return total == 0 ? 100 : (int) ((total - pending) * 100 / total);
+	}
+
+	/**
+	 * Returns true if the index of the attribute required for the passed trait contains all the entities in
+	 * the passed scope - i.e. either there is no backfill of the attribute running, or the trait was already enabled
+	 * before each of the running jobs of the attribute started and their pending entities are indexed for it.
+	 *
+	 * @param attributeName the name of the attribute
+	 * @param scope         the scope of the index
+	 * @param trait         the trait the index is required for
+	 * @return true if the index can be used by the query planner
+	 */
+	public boolean isIndexReady(@Nonnull String attributeName, @Nonnull Scope scope, @Nonnull AttributeTrait trait) {
+		for (AttributeIndexBackfillJob job : this.jobs) {
+			if (job.attributeName().equals(attributeName)) {
+				final boolean indexedAsUnique = job.indexedUniqueness()
+					.getOrDefault(scope, AttributeUniquenessType.NOT_UNIQUE) != AttributeUniquenessType.NOT_UNIQUE;
+				final boolean ready = switch (trait) {
+					case UNIQUE -> indexedAsUnique;
+					// unique values are shadowed into the filter index
+					case FILTERABLE -> indexedAsUnique || job.indexedFilterable().contains(scope);
+					case SORTABLE -> job.indexedSortable().contains(scope);
+				};
+				if (!ready) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Returns the primary keys of the entities to be re-indexed in the next batch. The entities are taken from
+	 * the oldest job in ascending order so that the batch is deterministic.
+	 *
+	 * @param size the maximal size of the batch
+	 * @return the primary keys of the entities to re-index
+	 */
+	@Nonnull
+	public int[] nextBatch(int size) {
+		if (this.jobs.isEmpty()) {
+			return new int[0];
+		}
+		final Bitmap pendingPrimaryKeys = this.jobs.get(0).pendingPrimaryKeys();
+		return pendingPrimaryKeys.getRange(0, Math.min(size, pendingPrimaryKeys.size()));
+	}
+
+	/**
+	 * Returns new state with the job appended after the existing jobs. The existing jobs of the same attribute are
+	 * kept - the caller is responsible for the pending entities of the jobs of the same attribute being disjoint.
+	 * The job with no pending entities is not added at all.
+	 *
+	 * @param job the job to add
+	 * @return the new state
+	 */
+	@Nonnull
+	public AttributeIndexBackfill withAddedJob(@Nonnull AttributeIndexBackfillJob job) {
+		if (job.pendingPrimaryKeys().isEmpty()) {
+			return this;
+		}
+		final List<AttributeIndexBackfillJob> newJobs = new ArrayList<>(this.jobs.size() + 1);
+		newJobs.addAll(this.jobs);
+		newJobs.add(job);
+		return new AttributeIndexBackfill(newJobs);
+	}
+
+	/**
+	 * Returns new state without the jobs of the attribute.
+	 *
+	 * @param attributeName the name of the attribute
+	 * @return the new state
+	 */
+	@Nonnull
+	public AttributeIndexBackfill withoutJob(@Nonnull String attributeName) {
+		if (getJobs(attributeName).isEmpty()) {
+			return this;
+		}
+		final List<AttributeIndexBackfillJob> newJobs = new ArrayList<>(this.jobs.size());
+		for (AttributeIndexBackfillJob existingJob : this.jobs) {
+			if (!existingJob.attributeName().equals(attributeName)) {
+				newJobs.add(existingJob);
+			}
+		}
+		return newJobs.isEmpty() ? EMPTY : new AttributeIndexBackfill(newJobs);
+	}
+
+	/**
+	 * Returns new state with the passed entities removed from the pending sets of all jobs. The jobs with no pending
+	 * entities left are dropped.
+	 *
+	 * @param primaryKeys the primary keys of the re-indexed entities
+	 * @return the new state
+	 */
+	@Nonnull
+	public AttributeIndexBackfill withProcessed(@Nonnull int... primaryKeys) {
+		final List<AttributeIndexBackfillJob> newJobs = new ArrayList<>(this.jobs.size());
+		for (AttributeIndexBackfillJob job : this.jobs) {
+			final BaseBitmap pendingPrimaryKeys = new BaseBitmap(job.pendingPrimaryKeys());
+			pendingPrimaryKeys.removeAll(primaryKeys);
+			if (!pendingPrimaryKeys.isEmpty()) {
+				newJobs.add(
+					new AttributeIndexBackfillJob(
+						job.attributeName(), job.indexedUniqueness(), job.indexedFilterable(), job.indexedSortable(),
+						job.entityCount(), pendingPrimaryKeys
+					)
+				);
+			}
+		}
+		return newJobs.isEmpty() ? EMPTY : new AttributeIndexBackfill(newJobs);
+	}
+
+	@Override
+	public String toString() {
+		return "AttributeIndexBackfill{" +
+			"jobs=" + this.jobs +
+			'}';
+	}
+
+}
@@ -34,6 +34,7 @@ import io.evitadb.api.exception.InvalidMutationException;
 import io.evitadb.api.exception.InvalidSchemaMutationException;
 import io.evitadb.api.exception.SchemaAlteringException;
 import io.evitadb.api.exception.SchemaNotFoundException;
+import io.evitadb.api.observability.IndexMemoryFootprint;
 import io.evitadb.api.query.FilterConstraint;
 import io.evitadb.api.query.Query;
 import io.evitadb.api.query.filter.FilterBy;
@@ -69,8 +70,10 @@ import io.evitadb.api.requestResponse.data.structure.predicate.ReferenceContract
 import io.evitadb.api.requestResponse.extraResult.QueryTelemetry;
 import io.evitadb.api.requestResponse.extraResult.QueryTelemetry.QueryPhase;
 import io.evitadb.api.requestResponse.progress.ProgressingFuture;
+import io.evitadb.api.requestResponse.schema.AttributeSchemaContract;
 import io.evitadb.api.requestResponse.schema.Cardinality;
 import io.evitadb.api.requestResponse.schema.CatalogSchemaContract;
+import io.evitadb.api.requestResponse.schema.EntityAttributeSchemaContract;
 import io.evitadb.api.requestResponse.schema.EntitySchemaContract;
 import io.evitadb.api.requestResponse.schema.EntitySchemaDecorator;
 import io.evitadb.api.requestResponse.schema.NamedSchemaContract;
@@ -125,6 +128,7 @@ import io.evitadb.function.Functions;
 import io.evitadb.dataType.EvitaDataTypes;
 import io.evitadb.index.*;
 import io.evitadb.index.attribute.FilterIndex;
+import io.evitadb.index.bitmap.BaseBitmap;
 import io.evitadb.index.bitmap.Bitmap;
 import io.evitadb.index.map.MapChanges;
 import io.evitadb.index.map.MapChanges.ValueMerger;
@@ -152,6 +156,8 @@ import io.evitadb.spi.store.catalog.persistence.StorageDescriptor;
 import io.evitadb.spi.store.catalog.persistence.StoragePartPersistenceService;
 import io.evitadb.spi.store.catalog.persistence.storageParts.KeyCompressor;
 import io.evitadb.spi.store.catalog.persistence.storageParts.StoragePart;
+import io.evitadb.spi.store.catalog.persistence.storageParts.index.AttributeIndexBackfillStoragePart;
+import io.evitadb.spi.store.catalog.persistence.storageParts.index.AttributeIndexBackfillStoragePart.AttributeIndexBackfillJob;
 import io.evitadb.spi.store.catalog.persistence.storageParts.index.AttributeIndexKey;
 import io.evitadb.spi.store.catalog.persistence.storageParts.schema.EntitySchemaStoragePart;
 import io.evitadb.spi.store.catalog.shared.model.LogRecordReference;
@@ -327,6 +333,11 @@ public final class EntityCollection implements
 	 * prescription.
 	 */
 	private TransactionalReference<EntitySchemaDecorator> schema;
+	/**
+	 * Contains the state of the attribute index backfill - i.e. the attributes whose indexing traits were changed
+	 * by the schema mutation, but whose indexes haven't been rebuilt for all existing entities yet.
+	 */
+	private final TransactionalReference<AttributeIndexBackfill> indexBackfill;
 
 	/**
 	 * Retrieves the last assigned internal primary key for pricing within the entity collection.
@@ -416,6 +427,11 @@ public final class EntityCollection implements
 						throw new SchemaNotFoundException(catalogName, entityHeader.entityType());
 					}
 				});
+			this.indexBackfill = new TransactionalReference<>(
+				AttributeIndexBackfill.fromStoragePart(
+					storagePartPersistenceService.getStoragePart(catalogVersion, 1, AttributeIndexBackfillStoragePart.class)
+				)
+			);
 			// init entity indexes
 			if (entityHeader.globalEntityIndexPrimaryKey() == null) {
 				Assert.isPremiseValid(
@@ -476,6 +492,7 @@ public final class EntityCollection implements
 		final String entityType = previousCollection.getSchema().getName();
 		this.entityTypePrimaryKey = previousCollection.entityTypePrimaryKey;
 		this.initialSchema = previousCollection.getInternalSchema();
+		this.indexBackfill = new TransactionalReference<>(previousCollection.getAttributeIndexBackfill());
 		this.catalogPersistenceService = catalogPersistenceService;
 
 		this.persistenceService = catalogPersistenceService.getOrCreateEntityCollectionPersistenceService(
@@ -532,6 +549,7 @@ public final class EntityCollection implements
 		@Nonnull CatalogState catalogState,
 		int entityTypePrimaryKey,
 		@Nonnull EntitySchema entitySchema,
+		@Nonnull AttributeIndexBackfill indexBackfill,
 		@Nonnull AtomicInteger pkSequence,
 		@Nonnull AtomicInteger indexPkSequence,
 		@Nonnull AtomicInteger pricePkSequence,
@@ -545,6 +563,7 @@ public final class EntityCollection implements
 		this.trafficRecorder = trafficRecorder;
 		this.entityTypePrimaryKey = entityTypePrimaryKey;
 		this.initialSchema = entitySchema;
+		this.indexBackfill = new TransactionalReference<>(indexBackfill);
 		this.pkSequence = pkSequence;
 		this.catalogPersistenceService = catalogPersistenceService;
 		this.persistenceService = persistenceService;
@@ -970,6 +989,7 @@ public final class EntityCollection implements
 	) throws SchemaAlteringException {
 		// internal schema is expected to be produced on the server side
 		final EntitySchema originalSchema = getInternalSchema();
+		final AttributeIndexBackfill originalIndexBackfill = getAttributeIndexBackfill();
 		try {
 			EntitySchema updatedSchema = originalSchema;
 			final Set<String> updatedReferenceSchemas = CollectionUtils.createHashSet(originalSchema.getReferences().size());
@@ -997,11 +1017,18 @@ public final class EntityCollection implements
 				// assertAllReferencedEntitiesExist(newSchema);
 				// assertReferences(newSchema);
 				exchangeSchema(originalSchema, updatedSchema);
+				planAttributeIndexBackfill(originalSchema, updatedSchema);
+			}
+
+			// in the warm-up state there are no trunk incorporation rounds to advance the backfill with
+			if (!Transaction.isTransactionAvailable()) {
+				completeAttributeIndexBackfill();
 			}
 		} catch (RuntimeException ex) {
 			// revert all changes in the schema (for current transaction) if anything failed
 			final EntitySchemaDecorator decorator = new EntitySchemaDecorator(() -> this.catalog.getSchema(), originalSchema);
 			this.schema.set(decorator);
+			this.indexBackfill.set(originalIndexBackfill);
 			throw ex;
 		} finally {
 			// finally, store the updated catalog schema to disk
@@ -1028,6 +1055,17 @@ public final class EntityCollection implements
 		);
 	}
 
+	/**
+	 * Estimates the heap memory occupied by all entity indexes of this collection. The computation walks all index
+	 * data structures and is not cheap - the callers are expected to cache the result.
+	 *
+	 * @see EntityIndexMemoryEstimator
+	 */
+	@Nonnull
+	public List<IndexMemoryFootprint> estimateIndexMemoryFootprint() {
+		return EntityIndexMemoryEstimator.estimate(getEntityType(), this.indexes.values());
+	}
+
 	/**
 	 * Checks whether the process, task, or operation has been terminated.
 	 *
@@ -1452,6 +1490,42 @@ public final class EntityCollection implements
 		return this.schema == null ? this.initialSchema : Objects.requireNonNull(this.schema.get()).getDelegate();
 	}
 
+	/**
+	 * Returns the state of the attribute index backfill - i.e. the attributes whose indexes are still being built
+	 * after the change of their indexing traits.
+	 */
+	@Nonnull
+	public AttributeIndexBackfill getAttributeIndexBackfill() {
+		return Objects.requireNonNull(this.indexBackfill.get());
+	}
+
+	/**
+	 * Re-indexes the batches of {@link AttributeIndexBackfill#BATCH_SIZE} entities pending in the attribute index
+	 * backfill until the backfill is finished or the deadline passes. At least one batch is processed when there is
+	 * any backfill pending. The method is called within each trunk incorporation round, so that the backfill doesn't
+	 * consume catalog versions nor emits change captures of its own.
+	 *
+	 * @param deadlineNanos the {@link System#nanoTime()} after which no new batch is started
+	 */
+	public void advanceAttributeIndexBackfill(long deadlineNanos) {
+		while (!getAttributeIndexBackfill().isEmpty()) {
+			backfillAttributeIndexes(getAttributeIndexBackfill().nextBatch(AttributeIndexBackfill.BATCH_SIZE));
+			if (System.nanoTime() - deadlineNanos >= 0L) {
+				break;
+			}
+		}
+	}
+
+	/**
+	 * Re-indexes all the entities pending in the attribute index backfill at once. The method is used when there is
+	 * nothing to interleave the backfill with - in the warm-up state and in the idle catalog.
+	 */
+	public void completeAttributeIndexBackfill() {
+		while (!getAttributeIndexBackfill().isEmpty()) {
+			backfillAttributeIndexes(getAttributeIndexBackfill().nextBatch(AttributeIndexBackfill.BATCH_SIZE));
+		}
+	}
+
 	/**
 	 * Returns entity index by its key. If such index doesn't exist, NULL is returned.
 	 */
@@ -1739,6 +1813,7 @@ public final class EntityCollection implements
 	public void removeLayer(@Nonnull TransactionalLayerMaintainer transactionalLayer) {
 		transactionalLayer.removeTransactionalMemoryLayerIfExists(this);
 		this.schema.removeLayer(transactionalLayer);
+		this.indexBackfill.removeLayer(transactionalLayer);
 		this.indexes.removeLayer(transactionalLayer);
 		this.indexesByPrimaryKey.removeLayer(transactionalLayer);
 	}
@@ -1772,6 +1847,8 @@ public final class EntityCollection implements
 				transactionalLayer.getStateCopyWithCommittedChanges(this.schema)
 					.map(EntitySchemaDecorator::getDelegate)
 					.orElseThrow(() -> new GenericEvitaInternalError("Schema was unexpectedly found null after transaction completion!")),
+				transactionalLayer.getStateCopyWithCommittedChanges(this.indexBackfill)
+					.orElse(AttributeIndexBackfill.EMPTY),
 				this.pkSequence,
 				this.indexPkSequence,
 				this.pricePkSequence,
@@ -1791,6 +1868,10 @@ public final class EntityCollection implements
 				);
 				transactionalLayer.removeTransactionalMemoryLayerIfExists(this.schema);
 			}
+			Assert.isPremiseValid(
+				transactionalLayer.getTransactionalMemoryLayerIfExists(this.indexBackfill) == null,
+				"Attribute index backfill is unexpectedly modified!"
+			);
 			Assert.isPremiseValid(
 				transactionalLayer.getTransactionalMemoryLayerIfExists(this.indexes) == null,
 				"Indexes are unexpectedly modified!"
@@ -1808,6 +1889,7 @@ public final class EntityCollection implements
 					CatalogState.ALIVE,
 					this.entityTypePrimaryKey,
 					getInternalSchema(),
+					getAttributeIndexBackfill(),
 					this.pkSequence,
 					this.indexPkSequence,
 					this.pricePkSequence,
@@ -1851,6 +1933,7 @@ public final class EntityCollection implements
 			catalogState,
 			this.entityTypePrimaryKey,
 			internalSchema,
+			getAttributeIndexBackfill(),
 			this.pkSequence,
 			this.indexPkSequence,
 			this.pricePkSequence,
@@ -1883,6 +1966,7 @@ public final class EntityCollection implements
 			catalogState,
 			this.entityTypePrimaryKey,
 			this.getInternalSchema(),
+			getAttributeIndexBackfill(),
 			this.pkSequence,
 			this.indexPkSequence,
 			this.pricePkSequence,
@@ -2567,8 +2651,14 @@ public final class EntityCollection implements
 		@Nonnull LocalMutationExecutorCollector localMutationExecutorCollector,
 		@Nonnull Class<T> requestedType
 	) {
-		// prepare collectors
 		final int entityPrimaryKey = Objects.requireNonNull(entityMutation.getEntityPrimaryKey());
+		// the entity must be re-indexed by the pending attribute index backfill before the mutation touches
+		// the indexes, otherwise the mutation would remove / insert its values using the traits it's not indexed with
+		if (getAttributeIndexBackfill().isPending(entityPrimaryKey)) {
+			backfillAttributeIndexes(entityPrimaryKey);
+		}
+
+		// prepare collectors
 		final ContainerizedLocalMutationExecutor changeCollector = new ContainerizedLocalMutationExecutor(
 			this.dataStoreBuffer,
 			this.dataStoreReader,
@@ -2619,6 +2709,170 @@ public final class EntityCollection implements
 
 	}
 
+	/**
+	 * Schedules the attribute index backfill for all entity attributes whose indexing traits (filterability,
+	 * sortability) differ between the original and the updated schema. The existing entities stay indexed according
+	 * to the original traits and are re-indexed gradually by {@link #advanceAttributeIndexBackfill(long)}. The jobs of
+	 * the removed attributes are dropped.
+	 *
+	 * The change of the uniqueness is data dependent - the existing values may violate the new constraint. Such
+	 * attributes are re-indexed synchronously, so that the violation fails the schema change (and reverts it) instead
+	 * of leaving the backfill stuck in the background.
+	 *
+	 * When the backfill of the attribute is still running, its pending entities are indexed with yet another set of
+	 * traits - the running jobs are kept and their entities are re-indexed directly to the updated traits later on,
+	 * while the new job covers only the entities already indexed according to the original schema. The attribute thus
+	 * may have several jobs with disjoint sets of pending entities, each remembering the traits of its own entities.
+	 *
+	 * @param originalSchema the schema before the update
+	 * @param updatedSchema  the schema after the update
+	 */
+	private void planAttributeIndexBackfill(@Nonnull EntitySchema originalSchema, @Nonnull EntitySchema updatedSchema) {
+		final AttributeIndexBackfill originalIndexBackfill = getAttributeIndexBackfill();
+		AttributeIndexBackfill indexBackfill = originalIndexBackfill;
+		for (AttributeIndexBackfillJob job : originalIndexBackfill.getJobs()) {
+			if (updatedSchema.getAttribute(job.attributeName()).isEmpty()) {
+				indexBackfill = indexBackfill.withoutJob(job.attributeName());
+			}
+		}
+
+		Bitmap allPrimaryKeys = null;
+		for (EntityAttributeSchemaContract updatedAttribute : updatedSchema.getAttributes().values()) {
+			final EntityAttributeSchemaContract originalAttribute = originalSchema.getAttribute(updatedAttribute.getName())
+				.orElse(null);
+			if (originalAttribute == null || AttributeIndexBackfill.hasSameIndexTraits(originalAttribute, updatedAttribute)) {
+				continue;
+			}
+			if (allPrimaryKeys == null) {
+				final BaseBitmap primaryKeys = new BaseBitmap();
+				getGlobalIndexIfExists().ifPresent(it -> primaryKeys.addAll(it.getAllPrimaryKeys()));
+				getGlobalArchiveIndexIfExists().ifPresent(it -> primaryKeys.addAll(it.getAllPrimaryKeys()));
+				allPrimaryKeys = primaryKeys;
+			}
+			final List<AttributeIndexBackfillJob> runningJobs = indexBackfill.getJobs(originalAttribute.getName());
+			final BaseBitmap indexedByOriginal = new BaseBitmap(allPrimaryKeys);
+			for (AttributeIndexBackfillJob runningJob : runningJobs) {
+				indexedByOriginal.removeAll(runningJob.pendingPrimaryKeys());
+			}
+			if (AttributeIndexBackfill.hasSameUniqueness(originalAttribute, updatedAttribute)) {
+				indexBackfill = indexBackfill.withoutJob(originalAttribute.getName());
+				for (AttributeIndexBackfillJob runningJob : runningJobs) {
+					// the entities of the job already indexed according to the updated traits need no re-indexing
+					if (!AttributeIndexBackfill.hasSameIndexTraits(
+						AttributeIndexBackfill.createIndexedSchema(runningJob, updatedAttribute), updatedAttribute
+					)) {
+						indexBackfill = indexBackfill.withAddedJob(runningJob);
+					}
+				}
+				indexBackfill = indexBackfill.withAddedJob(AttributeIndexBackfill.createJob(originalAttribute, indexedByOriginal));
+			} else {
+				// throws UniqueValueViolationException when the existing values don't satisfy the new uniqueness
+				final List<AttributeSchemaContract> targetSchema = List.of(updatedAttribute);
+				for (AttributeIndexBackfillJob runningJob : runningJobs) {
+					final List<AttributeSchemaContract> indexedSchema = List.of(
+						AttributeIndexBackfill.createIndexedSchema(runningJob, originalAttribute)
+					);
+					for (int primaryKey : runningJob.pendingPrimaryKeys().getArray()) {
+						reindexEntityAttributes(primaryKey, indexedSchema, targetSchema);
+					}
+				}
+				final List<AttributeSchemaContract> indexedSchema = List.of(originalAttribute);
+				for (int primaryKey : indexedByOriginal.getArray()) {
+					reindexEntityAttributes(primaryKey, indexedSchema, targetSchema);
+				}
+				indexBackfill = indexBackfill.withoutJob(originalAttribute.getName());
+			}
+		}
+
+		if (indexBackfill != originalIndexBackfill) {
+			updateAttributeIndexBackfill(indexBackfill);
+		}
+	}
+
+	/**
+	 * Re-indexes the passed entities for all the backfill jobs they're pending in and removes them from the jobs.
+	 *
+	 * @param primaryKeys the primary keys of the entities to re-index
+	 */
+	private void backfillAttributeIndexes(@Nonnull int... primaryKeys) {
+		final AttributeIndexBackfill indexBackfill = getAttributeIndexBackfill();
+		final EntitySchema entitySchema = getInternalSchema();
+		for (int primaryKey : primaryKeys) {
+			final List<AttributeSchemaContract> indexedSchemas = new ArrayList<>(indexBackfill.getJobs().size());
+			final List<AttributeSchemaContract> targetSchemas = new ArrayList<>(indexBackfill.getJobs().size());
+			for (AttributeIndexBackfillJob job : indexBackfill.getJobs()) {
+				if (job.pendingPrimaryKeys().contains(primaryKey)) {
+					final EntityAttributeSchemaContract attributeSchema = Objects.requireNonNull(
+						entitySchema.getAttributeOrNull(job.attributeName())
+					);
+					indexedSchemas.add(AttributeIndexBackfill.createIndexedSchema(job, attributeSchema));
+					targetSchemas.add(attributeSchema);
+				}
+			}
+			if (!indexedSchemas.isEmpty()) {
+				reindexEntityAttributes(primaryKey, indexedSchemas, targetSchemas);
+			}
+		}
+		updateAttributeIndexBackfill(indexBackfill.withProcessed(primaryKeys));
+	}
+
+	/**
+	 * Moves the attribute values of a single entity from the index structures of the indexed schemas to the index
+	 * structures of the target schemas (the lists are aligned by position).
+	 *
+	 * @param primaryKey     the primary key of the entity
+	 * @param indexedSchemas the attribute schemas the entity is currently indexed with
+	 * @param targetSchemas  the attribute schemas the entity should be indexed with
+	 */
+	private void reindexEntityAttributes(
+		int primaryKey,
+		@Nonnull List<AttributeSchemaContract> indexedSchemas,
+		@Nonnull List<AttributeSchemaContract> targetSchemas
+	) {
+		final ContainerizedLocalMutationExecutor changeCollector = new ContainerizedLocalMutationExecutor(
+			this.dataStoreBuffer,
+			this.dataStoreReader,
+			this.catalog.getVersion(),
+			primaryKey,
+			EntityExistence.MUST_EXIST,
+			this.catalog::getInternalSchema,
+			this::getInternalSchema,
+			theEntityType -> this.catalog.getCollectionForEntityInternal(theEntityType)
+				.map(EntityCollection::getDataStoreReader)
+				.orElse(null),
+			this::nextInternalPriceId,
+			false
+		);
+		final EntityIndexLocalMutationExecutor entityIndexUpdater = new EntityIndexLocalMutationExecutor(
+			changeCollector,
+			primaryKey,
+			this.entityIndexCreator,
+			this.catalog.getCatalogIndexMaintainer(),
+			this::getInternalSchema,
+			this::nextInternalPriceId,
+			() -> {
+				throw new GenericEvitaInternalError("Full entity is not available during the attribute index backfill.");
+			},
+			null,
+			null,
+			null,
+			this.catalog
+		);
+		for (int i = 0; i < indexedSchemas.size(); i++) {
+			entityIndexUpdater.reindexEntityAttribute(indexedSchemas.get(i), targetSchemas.get(i));
+		}
+	}
+
+	/**
+	 * Replaces the state of the attribute index backfill and stores it to the persistent storage.
+	 *
+	 * @param indexBackfill the new state
+	 */
+	private void updateAttributeIndexBackfill(@Nonnull AttributeIndexBackfill indexBackfill) {
+		this.indexBackfill.set(indexBackfill);
+		this.dataStoreBuffer.update(this.catalog.getVersion(), indexBackfill.toStoragePart());
+	}
+
 	/**
 	 * Returns new, unique {@link PriceInternalIdContainer#getInternalPriceId()} from the sequence.
 	 * See {@link PriceInternalIdContainer} to see the reasons behind it.
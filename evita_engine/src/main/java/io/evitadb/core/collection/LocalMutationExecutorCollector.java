@@ -302,7 +302,11 @@ class LocalMutationExecutorCollector {
 				);
 			}
 			if (addToWAL) {
-				this.entityMutations.add(entityMutation);
+				// server-side wrappers carry only the processing flags and are not meant to be persisted
+				this.entityMutations.add(
+					entityMutation instanceof ServerEntityMutation serverEntityMutation ?
+						serverEntityMutation.getDelegate() : entityMutation
+				);
 			}
 
 			for (final LocalMutation<?, ?> localMutation : localMutations) {
@@ -0,0 +1,40 @@
+/*
+ *
+ *                         _ _        ____  ____
+ *               _____   _(_) |_ __ _|  _ \| __ )
+ *              / _ \ \ / / | __/ _` | | | |  _ \
+ *             |  __/\ V /| | || (_| | |_| | |_) |
+ *              \___| \_/ |_|\__\__,_|____/|____/
+ *
+ *   Copyright (c) 2026
+ *
+ *   Licensed under the Business Source License, Version 1.1 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://github.com/FgForrest/evitaDB/blob/master/LICENSE
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.evitadb.core.collection.task;
+
+import javax.annotation.Nonnull;
+
+/**
+ * AttributeIndexBackfillSettings encapsulates the identification of the entity collection whose attribute indexes
+ * are being backfilled by {@link AttributeIndexBackfillTask}.
+ *
+ * @param catalogName name of the catalog the entity collection belongs to
+ * @param entityType  type of the entity collection whose attribute indexes are being backfilled
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+public record AttributeIndexBackfillSettings(
+	@Nonnull String catalogName,
+	@Nonnull String entityType
+) {
+}
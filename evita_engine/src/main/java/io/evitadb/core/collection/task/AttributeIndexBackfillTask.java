@@ -0,0 +1,125 @@
+/*
+ *
+ *                         _ _        ____  ____
+ *               _____   _(_) |_ __ _|  _ \| __ )
+ *              / _ \ \ / / | __/ _` | | | |  _ \
+ *             |  __/\ V /| | || (_| | |_| | |_) |
+ *              \___| \_/ |_|\__\__,_|____/|____/
+ *
+ *   Copyright (c) 2026
+ *
+ *   Licensed under the Business Source License, Version 1.1 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://github.com/FgForrest/evitaDB/blob/master/LICENSE
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.evitadb.core.collection.task;
+
+import io.evitadb.api.TransactionContract.CommitBehavior;
+import io.evitadb.api.requestResponse.schema.mutation.catalog.ModifyEntitySchemaMutation;
+import io.evitadb.core.Evita;
+import io.evitadb.core.catalog.Catalog;
+import io.evitadb.core.collection.AttributeIndexBackfill;
+import io.evitadb.core.collection.EntityCollection;
+import io.evitadb.core.executor.ClientCallableTask;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Task that watches the background backfill of attribute indexes of a single entity collection after a schema change
+ * that made an existing attribute filterable or sortable. The schema change itself is committed immediately and
+ * the collection keeps the not-yet-reindexed entities in its {@link AttributeIndexBackfill} state. The backfill is
+ * advanced by each trunk incorporation round of the catalog, so that it interleaves with the regular transactions
+ * without consuming catalog versions of its own. Only when the catalog stays idle for {@link #IDLE_INTERVAL_MILLIS},
+ * the task commits an empty {@link ModifyEntitySchemaMutation} for the collection, which completes the remaining
+ * backfill of the collection at once - there is nothing to interleave it with, and the idle catalog thus consumes
+ * a single catalog version instead of one per each backfill step.
+ *
+ * The task finishes when there are no pending entities left, or when the catalog or the collection disappears.
+ * The progress reported in the task status reflects the share of already reindexed entities.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+@Slf4j
+public class AttributeIndexBackfillTask extends ClientCallableTask<AttributeIndexBackfillSettings, Void> {
+	/**
+	 * The time in milliseconds the task waits for the regular transactions to advance the backfill.
+	 */
+	private static final long IDLE_INTERVAL_MILLIS = 100L;
+	private final Evita evita;
+
+	public AttributeIndexBackfillTask(
+		@Nonnull String catalogName,
+		@Nonnull String entityType,
+		@Nonnull Evita evita
+	) {
+		super(
+			catalogName,
+			AttributeIndexBackfillTask.class.getSimpleName(),
+			"Attribute index backfill of entity collection `" + entityType + "` in catalog `" + catalogName + "`",
+			new AttributeIndexBackfillSettings(catalogName, entityType),
+			(task) -> ((AttributeIndexBackfillTask) task).doBackfill()
+		);
+		this.evita = evita;
+	}
+
+	/**
+	 * Waits until the backfill of the entity collection is finished, committing the pacing transactions only when
+	 * the catalog is idle.
+	 */
+	private Void doBackfill() {
+		final AttributeIndexBackfillSettings settings = getStatus().settings();
+		AttributeIndexBackfill backfill = getBackfill(settings);
+		while (!backfill.isEmpty()) {
+			this.updateProgress(backfill.getProgress());
+			final long pendingCount = backfill.getPendingCount();
+			try {
+				Thread.sleep(IDLE_INTERVAL_MILLIS);
+			} catch (InterruptedException e) {
+				// the backfill keeps advancing within the trunk incorporation rounds of further transactions
+				Thread.currentThread().interrupt();
+				return null;
+			}
+			backfill = getBackfill(settings);
+			if (!backfill.isEmpty() && backfill.getPendingCount() >= pendingCount) {
+				this.evita.updateCatalog(
+					settings.catalogName(),
+					session -> {
+						session.updateCatalogSchema(new ModifyEntitySchemaMutation(settings.entityType()));
+					},
+					CommitBehavior.WAIT_FOR_CHANGES_VISIBLE
+				);
+				backfill = getBackfill(settings);
+			}
+		}
+		log.info(
+			"Attribute index backfill of entity collection `{}` in catalog `{}` finished.",
+			settings.entityType(), settings.catalogName()
+		);
+		return null;
+	}
+
+	/**
+	 * Returns the current backfill state of the entity collection, or empty state if the catalog or the collection
+	 * no longer exists.
+	 */
+	@Nonnull
+	private AttributeIndexBackfill getBackfill(@Nonnull AttributeIndexBackfillSettings settings) {
+		return this.evita.getCatalogInstance(settings.catalogName())
+			.filter(Catalog.class::isInstance)
+			.map(Catalog.class::cast)
+			.flatMap(it -> it.getCollectionForEntityInternal(settings.entityType()))
+			.map(EntityCollection::getAttributeIndexBackfill)
+			.orElse(AttributeIndexBackfill.EMPTY);
+	}
+
+}
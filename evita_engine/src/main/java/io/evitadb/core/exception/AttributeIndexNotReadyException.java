@@ -0,0 +1,57 @@
+/*
+ *
+ *                         _ _        ____  ____
+ *               _____   _(_) |_ __ _|  _ \| __ )
+ *              / _ \ \ / / | __/ _` | | | |  _ \
+ *             |  __/\ V /| | || (_| | |_| | |_) |
+ *              \___| \_/ |_|\__\__,_|____/|____/
+ *
+ *   Copyright (c) 2026
+ *
+ *   Licensed under the Business Source License, Version 1.1 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://github.com/FgForrest/evitaDB/blob/master/LICENSE
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.evitadb.core.exception;
+
+import io.evitadb.api.requestResponse.schema.EntitySchemaContract;
+import io.evitadb.dataType.Scope;
+import io.evitadb.exception.EvitaInvalidUsageException;
+
+import javax.annotation.Nonnull;
+import java.io.Serial;
+
+/**
+ * Exception is thrown when there is attempt to filter or sort by an attribute whose index is still being built
+ * after its indexing traits have been changed in the schema. The query can be retried when the backfill task
+ * finishes.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+public class AttributeIndexNotReadyException extends EvitaInvalidUsageException {
+	@Serial private static final long serialVersionUID = 6071530528848452019L;
+
+	public AttributeIndexNotReadyException(
+		@Nonnull String attributeName,
+		@Nonnull String what,
+		@Nonnull Scope scope,
+		@Nonnull EntitySchemaContract entitySchema,
+		int progress
+	) {
+		super(
+			"The " + what + " index of attribute with name `" + attributeName + "` in entity `" +
+				entitySchema.getName() + "` is still being built in scope `" + scope + "` (" + progress + " % done) " +
+				"and cannot be used yet. Please retry the query when the index backfill finishes."
+		);
+	}
+
+}
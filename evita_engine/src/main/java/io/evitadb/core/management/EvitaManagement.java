@@ -238,6 +238,38 @@ public class EvitaManagement implements EvitaManagementContract, Closeable {
 		@Nonnull InputStream inputStream
 	) throws UnexpectedIOException {
 		this.evita.assertActiveAndWritable();
+		return restoreCatalogFromStream(catalogName, totalBytesExpected, inputStream);
+	}
+
+	/**
+	 * Method for internal use. Restores the catalog replicated from the primary evitaDB instance from its backup.
+	 * Unlike {@link #restoreCatalog(String, long, InputStream)} the method works even in the engine switched to
+	 * read-only mode by {@link Evita#setReadOnly()}.
+	 *
+	 * @param catalogName        name of the restored catalog
+	 * @param totalBytesExpected total bytes expected to be read from the input stream
+	 * @param inputStream        the input stream with the backup of the primary catalog
+	 * @return the restoration task
+	 */
+	@Nonnull
+	public Task<?, Void> restoreReplicatedCatalog(
+		@Nonnull String catalogName,
+		long totalBytesExpected,
+		@Nonnull InputStream inputStream
+	) throws UnexpectedIOException {
+		this.evita.assertActive();
+		return restoreCatalogFromStream(catalogName, totalBytesExpected, inputStream);
+	}
+
+	/**
+	 * Stores the contents of the stream to a temporary file and submits the restoration task for it.
+	 */
+	@Nonnull
+	private Task<?, Void> restoreCatalogFromStream(
+		@Nonnull String catalogName,
+		long totalBytesExpected,
+		@Nonnull InputStream inputStream
+	) throws UnexpectedIOException {
 		// if the file is not a locally stored export file, store it to the export directory first
 		final UUID fileId = UUIDUtil.randomUUID();
 		final Path tempFile = this.fileManagementService.createTempFile(fileId + ".zip");
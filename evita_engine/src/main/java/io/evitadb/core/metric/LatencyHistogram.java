@@ -0,0 +1,189 @@
+/*
+ *
+ *                         _ _        ____  ____
+ *               _____   _(_) |_ __ _|  _ \| __ )
+ *              / _ \ \ / / | __/ _` | | | |  _ \
+ *             |  __/\ V /| | || (_| | |_| | |_) |
+ *              \___| \_/ |_|\__\__,_|____/|____/
+ *
+ *   Copyright (c) 2026
+ *
+ *   Licensed under the Business Source License, Version 1.1 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://github.com/FgForrest/evitaDB/blob/master/LICENSE
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.evitadb.core.metric;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.ThreadSafe;
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free histogram of latencies with logarithmic buckets. Each power of two is divided into
+ * {@link #SUB_BUCKET_COUNT} linear sub-buckets, so the relative error of the reported percentiles never exceeds
+ * 1/{@link #SUB_BUCKET_COUNT} (~6 %) while the histogram occupies a fixed amount of memory regardless of the number
+ * and the range of the recorded values. Minimum, maximum and mean are tracked exactly.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+@ThreadSafe
+public class LatencyHistogram {
+	/**
+	 * Number of bits used for the linear sub-buckets of each power of two.
+	 */
+	private static final int SUB_BUCKET_BITS = 4;
+	/**
+	 * Number of linear sub-buckets of each power of two.
+	 */
+	private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+	/**
+	 * Number of buckets needed to cover all non-negative long values.
+	 */
+	private static final int BUCKET_COUNT = (64 - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+	/**
+	 * Counts of the values in particular buckets.
+	 */
+	private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+	/**
+	 * Number of recorded values.
+	 */
+	private final LongAdder count = new LongAdder();
+	/**
+	 * Sum of all recorded values.
+	 */
+	private final LongAdder sum = new LongAdder();
+	/**
+	 * The lowest recorded value.
+	 */
+	private final AtomicLong min = new AtomicLong(Long.MAX_VALUE);
+	/**
+	 * The highest recorded value.
+	 */
+	private final AtomicLong max = new AtomicLong(0L);
+
+	/**
+	 * Returns index of the bucket the value belongs to.
+	 */
+	static int getBucketIndex(long value) {
+		if (value < SUB_BUCKET_COUNT) {
+			return (int) value;
+		}
+		final int exponent = 63 - Long.numberOfLeadingZeros(value);
+		final int subBucket = (int) ((value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1));
+		return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT + subBucket;
+	}
+
+	/**
+	 * Returns the highest value that belongs to the bucket with passed index.
+	 */
+	static long getBucketUpperBound(int index) {
+		if (index < SUB_BUCKET_COUNT) {
+			return index;
+		}
+		final int shift = index / SUB_BUCKET_COUNT - 1;
+		final long subBucket = index % SUB_BUCKET_COUNT;
+		final long upperBound = ((SUB_BUCKET_COUNT + subBucket + 1) << shift) - 1;
+		// the last bucket would overflow
+		return upperBound < 0 ? Long.MAX_VALUE : upperBound;
+	}
+
+	/**
+	 * Records a single value. Negative values are recorded as zero.
+	 *
+	 * @param value the value to record
+	 */
+	public void record(long value) {
+		final long theValue = Math.max(0L, value);
+		this.buckets.incrementAndGet(getBucketIndex(theValue));
+		this.count.increment();
+		this.sum.add(theValue);
+		this.min.accumulateAndGet(theValue, Math::min);
+		this.max.accumulateAndGet(theValue, Math::max);
+	}
+
+	/**
+	 * Returns the number of recorded values.
+	 */
+	public long getCount() {
+		return this.count.sum();
+	}
+
+	/**
+	 * Returns the value below which the given percentage of the recorded values falls. The value is the upper bound
+	 * of the bucket the percentile falls into, capped by the maximal recorded value.
+	 *
+	 * @param percentile percentile in range (0, 100]
+	 * @return the value at the percentile or zero if no value was recorded
+	 */
+	public long getValueAtPercentile(double percentile) {
+		final long totalCount = getCount();
+		if (totalCount == 0L) {
+			return 0L;
+		}
+		final long rank = Math.max(1L, (long) Math.ceil(percentile / 100.0 * totalCount));
+		long accumulated = 0L;
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			accumulated += this.buckets.get(i);
+			if (accumulated >= rank) {
+				return Math.min(getBucketUpperBound(i), this.max.get());
+			}
+		}
+		return this.max.get();
+	}
+
+	/**
+	 * Creates a summary of the recorded values.
+	 *
+	 * @return summary of the histogram
+	 */
+	@Nonnull
+	public Summary getSummary() {
+		final long theCount = getCount();
+		return new Summary(
+			theCount,
+			theCount == 0L ? 0L : this.min.get(),
+			theCount == 0L ? 0L : this.sum.sum() / theCount,
+			getValueAtPercentile(50.0),
+			getValueAtPercentile(90.0),
+			getValueAtPercentile(99.0),
+			this.max.get()
+		);
+	}
+
+	/**
+	 * Immutable summary of the {@link LatencyHistogram}. All values share the unit of the recorded values.
+	 *
+	 * @param count number of recorded values
+	 * @param min   the lowest recorded value
+	 * @param mean  the arithmetic mean of the recorded values
+	 * @param p50   the median
+	 * @param p90   the 90th percentile
+	 * @param p99   the 99th percentile
+	 * @param max   the highest recorded value
+	 */
+	public record Summary(
+		long count,
+		long min,
+		long mean,
+		long p50,
+		long p90,
+		long p99,
+		long max
+	) implements Serializable {
+		@Serial private static final long serialVersionUID = -2378710632471537281L;
+	}
+
+}
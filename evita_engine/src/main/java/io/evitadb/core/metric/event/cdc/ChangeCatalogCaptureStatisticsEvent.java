@@ -66,18 +66,32 @@ public class ChangeCatalogCaptureStatisticsEvent extends AbstractChangeCatalogCa
 	@ExportMetric(metricType = MetricType.COUNTER)
 	private final long eventsPublishedTotal;
 
+	@Label("Serialized frames")
+	@Description("The number of capture frames converted to the wire format of a transport layer.")
+	@ExportMetric(metricType = MetricType.COUNTER)
+	private final long framesSerializedTotal;
+
+	@Label("Reused frames")
+	@Description("The number of deliveries reusing the wire format of a capture frame converted for another subscriber.")
+	@ExportMetric(metricType = MetricType.COUNTER)
+	private final long framesReusedTotal;
+
 	public ChangeCatalogCaptureStatisticsEvent(
 		@Nonnull String catalogName,
 		int sharedPublishers,
 		int subscribers,
 		int laggingSubscribers,
-		long eventsPublishedTotal
+		long eventsPublishedTotal,
+		long framesSerializedTotal,
+		long framesReusedTotal
 	) {
 		super(catalogName);
 		this.sharedPublishers = sharedPublishers;
 		this.subscribers = subscribers;
 		this.laggingSubscribers = laggingSubscribers;
 		this.eventsPublishedTotal = eventsPublishedTotal;
+		this.framesSerializedTotal = framesSerializedTotal;
+		this.framesReusedTotal = framesReusedTotal;
 	}
 
 }
@@ -0,0 +1,111 @@
+/*
+ *
+ *                         _ _        ____  ____
+ *               _____   _(_) |_ __ _|  _ \| __ )
+ *              / _ \ \ / / | __/ _` | | | |  _ \
+ *             |  __/\ V /| | || (_| | |_| | |_) |
+ *              \___| \_/ |_|\__\__,_|____/|____/
+ *
+ *   Copyright (c) 2026
+ *
+ *   Licensed under the Business Source License, Version 1.1 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://github.com/FgForrest/evitaDB/blob/master/LICENSE
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.evitadb.core.metric.event.query;
+
+import io.evitadb.api.configuration.metric.MetricType;
+import io.evitadb.api.observability.QueryShapeStatistics;
+import io.evitadb.api.observability.annotation.ExportMetric;
+import io.evitadb.api.observability.annotation.ExportMetricLabel;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import lombok.Getter;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Event that is fired in regular intervals for each of the most expensive query shapes of the catalog, capturing
+ * the statistics aggregated by {@link io.evitadb.core.query.statistics.QueryShapeStatisticsRegistry}. The shape is
+ * identified by its fingerprint only (the full shape may be long) - the shape behind the fingerprint can be looked up
+ * via the system API.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+@Name(AbstractQueryEvent.PACKAGE_NAME + ".QueryShapeStatistics")
+@Description("Event that is fired in regular intervals capturing aggregated statistics of the most expensive query shapes.")
+@Label("Query shape statistics")
+@Getter
+public class QueryShapeStatisticsEvent extends AbstractQueryEvent {
+	@Label("Entity type")
+	@Description("The name of the related entity type (collection).")
+	@ExportMetricLabel
+	private final String entityType;
+
+	@Label("Query shape fingerprint")
+	@Description("The hash of the query shape (the query with literal values replaced by placeholders).")
+	@ExportMetricLabel
+	private final String shapeFingerprint;
+
+	@Label("Query calls")
+	@Description("The number of executed queries of the shape.")
+	@ExportMetric(metricType = MetricType.GAUGE)
+	private final long calls;
+
+	@Label("Total query duration in microseconds")
+	@Description("The sum of latencies of all executed queries of the shape in microseconds.")
+	@ExportMetric(metricType = MetricType.GAUGE)
+	private final long totalDurationMicroseconds;
+
+	@Label("99th percentile of the query duration in microseconds")
+	@Description("The 99th percentile of latencies of the executed queries of the shape in microseconds.")
+	@ExportMetric(metricType = MetricType.GAUGE)
+	private final long p99DurationMicroseconds;
+
+	@Label("Maximal query duration in microseconds")
+	@Description("The highest latency of the executed queries of the shape in microseconds.")
+	@ExportMetric(metricType = MetricType.GAUGE)
+	private final long maxDurationMicroseconds;
+
+	@Label("Records scanned")
+	@Description("The total number of records scanned by the executed queries of the shape.")
+	@ExportMetric(metricType = MetricType.GAUGE)
+	private final long recordsScanned;
+
+	@Label("Records returned")
+	@Description("The total number of records returned by the executed queries of the shape.")
+	@ExportMetric(metricType = MetricType.GAUGE)
+	private final long recordsReturned;
+
+	@Label("Fetched size in bytes")
+	@Description("The total size of the data fetched from the disk by the executed queries of the shape in Bytes.")
+	@ExportMetric(metricType = MetricType.GAUGE)
+	private final long fetchedSizeBytes;
+
+	public QueryShapeStatisticsEvent(
+		@Nonnull String catalogName,
+		@Nonnull QueryShapeStatistics statistics
+	) {
+		super(catalogName);
+		this.entityType = statistics.entityType();
+		this.shapeFingerprint = statistics.fingerprint();
+		this.calls = statistics.callCount();
+		this.totalDurationMicroseconds = statistics.totalDurationInMicroseconds();
+		this.p99DurationMicroseconds = statistics.p99DurationInMicroseconds();
+		this.maxDurationMicroseconds = statistics.maxDurationInMicroseconds();
+		this.recordsScanned = statistics.recordsScanned();
+		this.recordsReturned = statistics.recordsReturned();
+		this.fetchedSizeBytes = statistics.ioFetchedSizeBytes();
+	}
+
+}
@@ -0,0 +1,85 @@
+/*
+ *
+ *                         _ _        ____  ____
+ *               _____   _(_) |_ __ _|  _ \| __ )
+ *              / _ \ \ / / | __/ _` | | | |  _ \
+ *             |  __/\ V /| | || (_| | |_| | |_) |
+ *              \___| \_/ |_|\__\__,_|____/|____/
+ *
+ *   Copyright (c) 2026
+ *
+ *   Licensed under the Business Source License, Version 1.1 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://github.com/FgForrest/evitaDB/blob/master/LICENSE
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.evitadb.core.metric.event.storage;
+
+import io.evitadb.api.configuration.metric.MetricType;
+import io.evitadb.api.observability.IndexMemoryFootprint;
+import io.evitadb.api.observability.annotation.ExportMetric;
+import io.evitadb.api.observability.annotation.ExportMetricLabel;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import lombok.Getter;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Event that is fired in regular intervals for each kind of the in-memory index data structure of each entity
+ * collection, capturing its estimated memory footprint computed by {@link io.evitadb.index.EntityIndexMemoryEstimator}.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+@Name(AbstractStorageEvent.PACKAGE_NAME + ".IndexMemoryFootprint")
+@Description("Event that is fired in regular intervals capturing the estimated memory footprint of the in-memory indexes.")
+@Label("Index memory footprint")
+@Getter
+public class IndexMemoryFootprintEvent extends AbstractStorageEvent {
+	@Label("Entity type")
+	@Description("The name of the related entity type (collection).")
+	@ExportMetricLabel
+	private final String entityType;
+
+	@Label("Reference name")
+	@Description("The name of the reference the indexed data relate to, N/A for entity-level data.")
+	@ExportMetricLabel
+	private final String referenceName;
+
+	@Label("Attribute name")
+	@Description("The name of the indexed attribute, N/A for structures not related to a particular attribute.")
+	@ExportMetricLabel
+	private final String attributeName;
+
+	@Label("Index structure")
+	@Description("The kind of the index data structure: ENTITY_IDS, FILTER, UNIQUE, SORT, CHAIN, PRICE, FACET or HIERARCHY.")
+	@ExportMetricLabel
+	private final String indexStructure;
+
+	@Label("Estimated memory size in Bytes")
+	@Description("The estimated amount of heap memory occupied by the index data structures in Bytes.")
+	@ExportMetric(metricType = MetricType.GAUGE)
+	private final long sizeBytes;
+
+	public IndexMemoryFootprintEvent(
+		@Nonnull String catalogName,
+		@Nonnull IndexMemoryFootprint footprint
+	) {
+		super(catalogName);
+		this.entityType = footprint.entityType();
+		this.referenceName = footprint.referenceName();
+		this.attributeName = footprint.attributeName();
+		this.indexStructure = footprint.structure().name();
+		this.sizeBytes = footprint.sizeInBytes();
+	}
+
+}
@@ -0,0 +1,89 @@
+/*
+ *
+ *                         _ _        ____  ____
+ *               _____   _(_) |_ __ _|  _ \| __ )
+ *              / _ \ \ / / | __/ _` | | | |  _ \
+ *             |  __/\ V /| | || (_| | |_| | |_) |
+ *              \___| \_/ |_|\__\__,_|____/|____/
+ *
+ *   Copyright (c) 2026
+ *
+ *   Licensed under the Business Source License, Version 1.1 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://github.com/FgForrest/evitaDB/blob/master/LICENSE
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.evitadb.core.metric.event.storage;
+
+import io.evitadb.api.configuration.metric.MetricType;
+import io.evitadb.api.observability.annotation.ExportMetric;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import lombok.Getter;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Event that is fired periodically for each OffsetIndex file whose pool of Kryo instances used for reading
+ * the records was used since the previous event, reporting the usage in the meantime.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+@Name(AbstractStorageEvent.PACKAGE_NAME + ".OffsetIndexKryoPool")
+@Description("Event that is fired periodically, reporting the usage of the pool of read Kryo instances of an OffsetIndex file since the previous event.")
+@Label("OffsetIndex Kryo pool usage")
+@Getter
+public class OffsetIndexKryoPoolEvent extends AbstractDataFileEvent {
+
+	@Label("Created Kryo instances")
+	@Description("The number of Kryo instances created because no stripe of the pool had a free instance for the reader.")
+	@ExportMetric(metricType = MetricType.COUNTER)
+	private final long created;
+
+	@Label("Reused Kryo instances")
+	@Description("The number of Kryo instances served from the pool.")
+	@ExportMetric(metricType = MetricType.COUNTER)
+	private final long reused;
+
+	@Label("Stolen Kryo instances")
+	@Description("The number of Kryo instances served from another stripe of the pool than the stripe of the reader.")
+	@ExportMetric(metricType = MetricType.COUNTER)
+	private final long stolen;
+
+	@Label("Contended pool accesses")
+	@Description("The number of failed attempts to take or return a Kryo instance because another thread accessed the same pool slot concurrently.")
+	@ExportMetric(metricType = MetricType.COUNTER)
+	private final long contended;
+
+	@Label("Discarded Kryo instances")
+	@Description("The number of returned Kryo instances that were not kept in the pool because it was full or they were obsolete.")
+	@ExportMetric(metricType = MetricType.COUNTER)
+	private final long discarded;
+
+	public OffsetIndexKryoPoolEvent(
+		@Nonnull String catalogName,
+		@Nonnull FileType fileType,
+		@Nonnull String name,
+		long created,
+		long reused,
+		long stolen,
+		long contended,
+		long discarded
+	) {
+		super(catalogName, fileType, name);
+		this.created = created;
+		this.reused = reused;
+		this.stolen = stolen;
+		this.contended = contended;
+		this.discarded = discarded;
+	}
+}
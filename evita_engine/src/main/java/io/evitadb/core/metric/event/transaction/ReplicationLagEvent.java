@@ -0,0 +1,80 @@
+/*
+ *
+ *                         _ _        ____  ____
+ *               _____   _(_) |_ __ _|  _ \| __ )
+ *              / _ \ \ / / | __/ _` | | | |  _ \
+ *             |  __/\ V /| | || (_| | |_| | |_) |
+ *              \___| \_/ |_|\__\__,_|____/|____/
+ *
+ *   Copyright (c) 2026
+ *
+ *   Licensed under the Business Source License, Version 1.1 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://github.com/FgForrest/evitaDB/blob/master/LICENSE
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+
+package io.evitadb.core.metric.event.transaction;
+
+import io.evitadb.api.configuration.metric.MetricType;
+import io.evitadb.api.observability.annotation.ExportMetric;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import lombok.Getter;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Event that is fired by the read-only replica each time it polls the primary server for new transactions and
+ * captures how far the replicated catalog lags behind the primary.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+@Name(AbstractTransactionEvent.PACKAGE_NAME + ".ReplicationLag")
+@Description("Event that is fired when the replica polls the primary server, capturing the replication lag of the catalog.")
+@Label("Replication lag")
+@Getter
+public class ReplicationLagEvent extends AbstractTransactionEvent {
+	@Label("Primary catalog version")
+	@Description("The last catalog version written to the WAL of the primary server known to the replica.")
+	@ExportMetric(metricType = MetricType.GAUGE)
+	private final long primaryCatalogVersion;
+
+	@Label("Replica catalog version")
+	@Description("The catalog version the replica has applied.")
+	@ExportMetric(metricType = MetricType.GAUGE)
+	private final long replicaCatalogVersion;
+
+	@Label("Lag in versions")
+	@Description("The number of catalog versions the replica is behind the primary server.")
+	@ExportMetric(metricType = MetricType.GAUGE)
+	private final long lagVersions;
+
+	@Label("Lag in milliseconds")
+	@Description("The time elapsed since the oldest transaction of the primary server not yet applied on the replica was committed, zero when the replica has caught up.")
+	@ExportMetric(metricType = MetricType.GAUGE)
+	private final long lagMilliseconds;
+
+	public ReplicationLagEvent(
+		@Nonnull String catalogName,
+		long primaryCatalogVersion,
+		long replicaCatalogVersion,
+		long lagMilliseconds
+	) {
+		super(catalogName);
+		this.primaryCatalogVersion = primaryCatalogVersion;
+		this.replicaCatalogVersion = replicaCatalogVersion;
+		this.lagVersions = Math.max(0L, primaryCatalogVersion - replicaCatalogVersion);
+		this.lagMilliseconds = lagMilliseconds;
+	}
+
+}
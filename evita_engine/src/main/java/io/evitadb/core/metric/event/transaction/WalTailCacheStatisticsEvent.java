@@ -0,0 +1,95 @@
+/*
+ *
+ *                         _ _        ____  ____
+ *               _____   _(_) |_ __ _|  _ \| __ )
+ *              / _ \ \ / / | __/ _` | | | |  _ \
+ *             |  __/\ V /| | || (_| | |_| | |_) |
+ *              \___| \_/ |_|\__\__,_|____/|____/
+ *
+ *   Copyright (c) 2026
+ *
+ *   Licensed under the Business Source License, Version 1.1 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://github.com/FgForrest/evitaDB/blob/master/LICENSE
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+
+package io.evitadb.core.metric.event.transaction;
+
+import io.evitadb.api.configuration.metric.MetricType;
+import io.evitadb.api.observability.annotation.ExportMetric;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import lombok.Getter;
+
+import javax.annotation.Nullable;
+
+/**
+ * Event that is fired in regular intervals capturing the statistics of the off-heap cache of the most recently
+ * appended transactions of the shared WAL.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+@Name(AbstractTransactionEvent.PACKAGE_NAME + ".WalTailCacheStatistics")
+@Description("Event that is fired in regular intervals capturing the statistics of the WAL tail cache.")
+@Label("WAL tail cache statistics")
+@Getter
+public class WalTailCacheStatisticsEvent extends AbstractTransactionEvent {
+	@Label("Cache capacity in Bytes")
+	@Description("The configured off-heap memory budget of the WAL tail cache in Bytes.")
+	@ExportMetric(metricType = MetricType.GAUGE)
+	private final long capacityBytes;
+
+	@Label("Occupied Bytes")
+	@Description("The off-heap memory occupied by the cached WAL records in Bytes.")
+	@ExportMetric(metricType = MetricType.GAUGE)
+	private final long occupiedBytes;
+
+	@Label("Cached transactions")
+	@Description("The number of transactions whose WAL records are cached.")
+	@ExportMetric(metricType = MetricType.GAUGE)
+	private final int cachedTransactions;
+
+	@Label("Cache hits")
+	@Description("The number of transactions read from the cache since the previous observation.")
+	@ExportMetric(metricType = MetricType.COUNTER)
+	private final long hits;
+
+	@Label("Cache misses")
+	@Description("The number of reads that had to fall back to the WAL file since the previous observation.")
+	@ExportMetric(metricType = MetricType.COUNTER)
+	private final long misses;
+
+	@Label("Evicted transactions")
+	@Description("The number of transactions evicted from the cache to respect its capacity since the previous observation.")
+	@ExportMetric(metricType = MetricType.COUNTER)
+	private final long evictions;
+
+	public WalTailCacheStatisticsEvent(
+		@Nullable String catalogName,
+		long capacityBytes,
+		long occupiedBytes,
+		int cachedTransactions,
+		long hits,
+		long misses,
+		long evictions
+	) {
+		super(catalogName);
+		this.capacityBytes = capacityBytes;
+		this.occupiedBytes = occupiedBytes;
+		this.cachedTransactions = cachedTransactions;
+		this.hits = hits;
+		this.misses = misses;
+		this.evictions = evictions;
+	}
+
+}
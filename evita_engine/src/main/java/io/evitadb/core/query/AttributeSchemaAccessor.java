@@ -32,12 +32,14 @@ import io.evitadb.api.requestResponse.schema.GlobalAttributeSchemaContract;
 import io.evitadb.api.requestResponse.schema.NamedSchemaContract;
 import io.evitadb.api.requestResponse.schema.ReferenceSchemaContract;
 import io.evitadb.api.requestResponse.schema.SortableAttributeCompoundSchemaContract;
+import io.evitadb.core.collection.AttributeIndexBackfill;
+import io.evitadb.core.collection.EntityCollection;
+import io.evitadb.core.exception.AttributeIndexNotReadyException;
 import io.evitadb.core.exception.AttributeNotFilterableException;
 import io.evitadb.core.exception.AttributeNotSortableException;
 import io.evitadb.core.exception.ReferenceNotIndexedException;
 import io.evitadb.dataType.Scope;
 import io.evitadb.exception.EvitaInvalidUsageException;
-import lombok.RequiredArgsConstructor;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -55,9 +57,11 @@ import static java.util.Optional.ofNullable;
  * outside which is used for localization of attributes in "prefetched" entities of different types (i.e. when
  * {@link io.evitadb.api.query.head.Collection} constraint is not specified in the query).
  *
+ * The accessor also refuses the attributes whose indexes required for the requested traits are still being built
+ * by the {@link AttributeIndexBackfill} - the planner must not use an index that doesn't contain all the entities.
+ *
  * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2023
  */
-@RequiredArgsConstructor
 public class AttributeSchemaAccessor {
 	/**
 	 * Mandatory catalog schema where the {@link GlobalAttributeSchemaContract} are stored.
@@ -74,6 +78,11 @@ public class AttributeSchemaAccessor {
 	 * for.
 	 */
 	@Nullable private final Function<EntitySchemaContract, ReferenceSchemaContract> referenceSchemaAccessor;
+	/**
+	 * Lambda that provides the {@link AttributeIndexBackfill} state of the entity collection by its entity type.
+	 * When null, the readiness of the attribute indexes is not verified.
+	 */
+	@Nullable private final Function<String, AttributeIndexBackfill> indexBackfillAccessor;
 
 	/**
 	 * Verifies that the provided attribute schema meets the required traits and returns it.
@@ -101,6 +110,39 @@ public class AttributeSchemaAccessor {
 		@Nullable EntitySchemaContract entitySchema,
 		@Nullable ReferenceSchemaContract referenceSchema,
 		@Nonnull AttributeTrait[] requiredTrait
+	) {
+		return verifyAndReturn(
+			attributeName, requestedScopes, attributeSchema, catalogSchema, entitySchema, referenceSchema,
+			requiredTrait, null
+		);
+	}
+
+	/**
+	 * Verifies that the provided attribute schema meets the required traits and that the indexes required for these
+	 * traits are not being built by the {@link AttributeIndexBackfill} of the entity collection, and returns it.
+	 *
+	 * @param attributeName         the name of the attribute to verify
+	 * @param requestedScopes       the scopes requested in the input query
+	 * @param attributeSchema       the attribute schema to verify
+	 * @param catalogSchema         the catalog schema used for attribute lookup
+	 * @param entitySchema          the optional entity schema used for additional context
+	 * @param referenceSchema       the optional reference schema used for additional context
+	 * @param requiredTrait         the required traits that the attribute must satisfy
+	 * @param indexBackfillAccessor the optional accessor of the backfill state of the entity collection
+	 * @return the verified attribute schema
+	 * @throws AttributeIndexNotReadyException  when the index required for the trait is still being built
+	 * @see #verifyAndReturn(String, Set, AttributeSchemaContract, CatalogSchemaContract, EntitySchemaContract, ReferenceSchemaContract, AttributeTrait[])
+	 */
+	@Nonnull
+	public static AttributeSchemaContract verifyAndReturn(
+		@Nonnull String attributeName,
+		@Nonnull Set<Scope> requestedScopes,
+		@Nullable AttributeSchemaContract attributeSchema,
+		@Nonnull CatalogSchemaContract catalogSchema,
+		@Nullable EntitySchemaContract entitySchema,
+		@Nullable ReferenceSchemaContract referenceSchema,
+		@Nonnull AttributeTrait[] requiredTrait,
+		@Nullable Function<String, AttributeIndexBackfill> indexBackfillAccessor
 	) {
 		notNull(
 			attributeSchema,
@@ -153,6 +195,22 @@ public class AttributeSchemaAccessor {
 		if (exception != null) {
 			throw exception;
 		}
+		// backfill covers only entity attributes
+		if (indexBackfillAccessor != null && entitySchema != null && referenceSchema == null) {
+			final AttributeIndexBackfill indexBackfill = indexBackfillAccessor.apply(entitySchema.getName());
+			if (!indexBackfill.isEmpty()) {
+				for (AttributeTrait attributeTrait : requiredTrait) {
+					for (Scope scope : requestedScopes) {
+						if (!indexBackfill.isIndexReady(attributeName, scope, attributeTrait)) {
+							throw new AttributeIndexNotReadyException(
+								attributeName, attributeTrait.name().toLowerCase(), scope, entitySchema,
+								indexBackfill.getProgress()
+							);
+						}
+					}
+				}
+			}
+		}
 		return attributeSchema;
 	}
 
@@ -160,18 +218,40 @@ public class AttributeSchemaAccessor {
 		@Nonnull CatalogSchemaContract catalogSchema,
 		@Nullable EntitySchemaContract entitySchema
 	) {
-		this.catalogSchema = catalogSchema;
-		this.entitySchema = entitySchema;
-		this.referenceSchemaAccessor = null;
+		this(catalogSchema, entitySchema, null, null);
+	}
+
+	public AttributeSchemaAccessor(
+		@Nonnull CatalogSchemaContract catalogSchema,
+		@Nullable EntitySchemaContract entitySchema,
+		@Nullable Function<EntitySchemaContract, ReferenceSchemaContract> referenceSchemaAccessor
+	) {
+		this(catalogSchema, entitySchema, referenceSchemaAccessor, null);
 	}
 
 	public AttributeSchemaAccessor(@Nonnull QueryPlanningContext queryContext) {
 		this(
 			queryContext.getCatalogSchema(),
-			queryContext.isEntityTypeKnown() ? queryContext.getSchema() : null
+			queryContext.isEntityTypeKnown() ? queryContext.getSchema() : null,
+			null,
+			entityType -> queryContext.getEntityCollection(entityType)
+				.map(EntityCollection::getAttributeIndexBackfill)
+				.orElse(AttributeIndexBackfill.EMPTY)
 		);
 	}
 
+	private AttributeSchemaAccessor(
+		@Nonnull CatalogSchemaContract catalogSchema,
+		@Nullable EntitySchemaContract entitySchema,
+		@Nullable Function<EntitySchemaContract, ReferenceSchemaContract> referenceSchemaAccessor,
+		@Nullable Function<String, AttributeIndexBackfill> indexBackfillAccessor
+	) {
+		this.catalogSchema = catalogSchema;
+		this.entitySchema = entitySchema;
+		this.referenceSchemaAccessor = referenceSchemaAccessor;
+		this.indexBackfillAccessor = indexBackfillAccessor;
+	}
+
 	/**
 	 * Returns {@link AttributeSchemaContract} of particular `attributeName` or throws exception.
 	 * This method looks for the attributes in internal {@link #entitySchema} and doesn't allow provisioning of
@@ -203,7 +283,8 @@ public class AttributeSchemaAccessor {
 				attributeName, requestedScopes, attributeSchemaProvider.getAttribute(attributeName).orElse(null),
 				this.catalogSchema, this.entitySchema,
 				referenceSchema,
-				requiredTrait
+				requiredTrait,
+				this.indexBackfillAccessor
 			);
 		}
 	}
@@ -238,7 +319,8 @@ public class AttributeSchemaAccessor {
 				.orElse(null);
 		}
 		return verifyAndReturn(
-			attributeName, requestedScopes, attributeSchema, this.catalogSchema, entitySchema, referenceSchema, requiredTrait
+			attributeName, requestedScopes, attributeSchema, this.catalogSchema, entitySchema, referenceSchema, requiredTrait,
+			this.indexBackfillAccessor
 		);
 	}
 
@@ -306,7 +388,8 @@ public class AttributeSchemaAccessor {
 		}
 		return verifyAndReturn(
 			attributeName, requestedScopes, resultSchema, this.catalogSchema, entitySchema, referenceSchema,
-			new AttributeTrait[] {AttributeTrait.SORTABLE}
+			new AttributeTrait[] {AttributeTrait.SORTABLE},
+			this.indexBackfillAccessor
 		);
 	}
 
@@ -317,7 +400,8 @@ public class AttributeSchemaAccessor {
 	@Nonnull
 	public AttributeSchemaAccessor withReferenceSchemaAccessor(@Nonnull String referenceName) {
 		return new AttributeSchemaAccessor(
-			this.catalogSchema, this.entitySchema, entitySchema -> entitySchema.getReferenceOrThrowException(referenceName)
+			this.catalogSchema, this.entitySchema, entitySchema -> entitySchema.getReferenceOrThrowException(referenceName),
+			this.indexBackfillAccessor
 		);
 	}
 
@@ -54,6 +54,7 @@ import io.evitadb.core.collection.EntityCollection;
 import io.evitadb.core.query.algebra.Formula;
 import io.evitadb.core.query.algebra.prefetch.PrefetchOrder;
 import io.evitadb.core.query.algebra.prefetch.SelectionFormula;
+import io.evitadb.core.query.algebra.price.FilteredPriceRecordsLookupCache;
 import io.evitadb.core.query.extraResult.CacheableEvitaResponseExtraResultComputer;
 import io.evitadb.core.query.extraResult.EvitaResponseExtraResultComputer;
 import io.evitadb.core.query.fetch.ReferencedEntityFetcher;
@@ -146,6 +147,11 @@ public class QueryExecutionContext implements Closeable {
 	 * kept here for reuse within this single execution; {@link #close()} hands them all back.
 	 */
 	private Deque<int[]> buffers;
+	/**
+	 * Contains lazy initialized registry of price record lookups resolved within this execution, so that the price
+	 * sorter and the price histogram don't resolve the prices of the same entities repeatedly.
+	 */
+	private FilteredPriceRecordsLookupCache filteredPriceRecordsLookupCache;
 
 	/**
 	 * Returns true if the context is inside {@link QueryPlanner#verifyConsistentResultsInAllPlans(QueryPlanningContext, List, List, QueryPlanBuilder)}  method.
@@ -502,6 +508,21 @@ public class QueryExecutionContext implements Closeable {
 			.orElseGet(SharedBufferPool.INSTANCE::obtain);
 	}
 
+	/**
+	 * Returns the registry of price record lookups already resolved within this execution. Consumers resolving
+	 * {@link io.evitadb.core.query.algebra.price.FilteredPriceRecordsLookupResult} for the entities of the query
+	 * should go through it to share the work with the other price related consumers of the same query.
+	 *
+	 * @return the per-execution price record lookup registry
+	 */
+	@Nonnull
+	public FilteredPriceRecordsLookupCache getFilteredPriceRecordsLookupCache() {
+		if (this.filteredPriceRecordsLookupCache == null) {
+			this.filteredPriceRecordsLookupCache = new FilteredPriceRecordsLookupCache();
+		}
+		return this.filteredPriceRecordsLookupCache;
+	}
+
 	/**
 	 * Borrowed buffer is returned to local queue for reuse. The buffer stays with this context until {@link #close()}
 	 * releases it to the shared pool, so returning it merely makes it available to the next
@@ -384,19 +384,28 @@ public class QueryPlan {
 
 				executionContext.finalizeTelemetry();
 
-				ofNullable(this.queryContext.getQueryFinishedEvent())
-					.ifPresent(
-						it -> it.finish(
-							prefetchedDataSuitableForFiltering,
-							this.filter.getEstimatedCardinality(),
-							this.primaryKeys == null ? 0 : this.primaryKeys.length,
-							this.totalRecordCount,
-							result.getIoFetchCount(),
-							result.getIoFetchedSizeBytes(),
-							this.filter.getEstimatedCost(),
-							this.filter.getCost()
-						).commit()
+				final FinishedEvent queryFinishedEvent = this.queryContext.getQueryFinishedEvent();
+				if (queryFinishedEvent != null) {
+					final int recordsReturned = this.primaryKeys == null ? 0 : this.primaryKeys.length;
+					queryFinishedEvent.finish(
+						prefetchedDataSuitableForFiltering,
+						this.filter.getEstimatedCardinality(),
+						recordsReturned,
+						this.totalRecordCount,
+						result.getIoFetchCount(),
+						result.getIoFetchedSizeBytes(),
+						this.filter.getEstimatedCost(),
+						this.filter.getCost()
+					).commit();
+					// only the top level queries carry the finished event, so the nested ones are not aggregated
+					this.queryContext.recordQueryShapeStatistics(
+						this.filter.getEstimatedCardinality(),
+						recordsReturned,
+						result.getIoFetchCount(),
+						result.getIoFetchedSizeBytes()
 					);
+					this.queryContext.recordQueryPhaseStatistics();
+				}
 				return result;
 			} finally {
 				executionContext.popStep();
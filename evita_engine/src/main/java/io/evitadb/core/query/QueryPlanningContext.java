@@ -65,6 +65,9 @@ import io.evitadb.core.query.policy.BitmapFavouringNoCachePolicy;
 import io.evitadb.core.query.policy.DefaultPolicy;
 import io.evitadb.core.query.policy.PlanningPolicy;
 import io.evitadb.core.query.policy.PlanningPolicy.PrefetchPolicy;
+import io.evitadb.core.query.statistics.QueryPhaseStatisticsRegistry;
+import io.evitadb.core.query.statistics.QueryPhaseTimer;
+import io.evitadb.core.query.statistics.QueryShapeStatisticsRegistry;
 import io.evitadb.core.session.EvitaSession;
 import io.evitadb.dataType.Scope;
 import io.evitadb.exception.GenericEvitaInternalError;
@@ -147,6 +150,16 @@ public class QueryPlanningContext implements LocaleProvider, PrefetchStrategyRes
 	 * the metrics point of view and must not be reported as one.
 	 */
 	@Nullable @Getter private final FinishedEvent queryFinishedEvent;
+	/**
+	 * Value of {@link System#nanoTime()} when the context was created - i.e. when the planning of the query started.
+	 */
+	private final long createdNanos = System.nanoTime();
+	/**
+	 * Always-on timer of the query phases aggregated into the {@link QueryPhaseStatisticsRegistry} of the catalog.
+	 * Unlike the {@link #telemetryStack} it is created regardless of the telemetry being requested, but only for
+	 * the top-level queries (i.e. those carrying {@link #queryFinishedEvent}).
+	 */
+	@Nullable private final QueryPhaseTimer phaseTimer;
 	/**
 	 * Contains reference to the catalog that is targeted by {@link #evitaRequest}.
 	 */
@@ -474,6 +487,7 @@ public class QueryPlanningContext implements LocaleProvider, PrefetchStrategyRes
 		this.indexesByPk = (Map<Integer, Index<?>>) indexesByPk;
 		this.cacheSupervisor = cacheSupervisor;
 		this.queryFinishedEvent = event;
+		this.phaseTimer = event == null ? null : new QueryPhaseTimer();
 		this.internalExecutionContext = createExecutionContext();
 	}
 
@@ -738,10 +752,15 @@ public class QueryPlanningContext implements LocaleProvider, PrefetchStrategyRes
 	 * {@link #popStep()} does nothing, so the two stay balanced without the caller ever testing for it.
 	 * Callers are still expected to pop in a `finally` block: a step that is never popped is closed only by
 	 * {@link #finalizeTelemetry()}, and its reported duration then stretches all the way to the end of the query.
+	 * Regardless of the telemetry, the top-level context also feeds the step into the allocation-free
+	 * {@link QueryPhaseTimer}.
 	 *
 	 * @param phase phase of the query evaluation the new step measures
 	 */
 	public void pushStep(@Nonnull QueryPhase phase) {
+		if (this.phaseTimer != null) {
+			this.phaseTimer.push(phase);
+		}
 		if (!this.telemetryStack.isEmpty()) {
 			this.telemetryStack.push(
 				this.telemetryStack.peek().addStep(phase)
@@ -761,6 +780,9 @@ public class QueryPlanningContext implements LocaleProvider, PrefetchStrategyRes
 	 * @param messageSupplier description of the step, invoked only when telemetry is being collected
 	 */
 	public void pushStep(@Nonnull QueryPhase phase, @Nonnull Supplier<String> messageSupplier) {
+		if (this.phaseTimer != null) {
+			this.phaseTimer.push(phase);
+		}
 		if (!this.telemetryStack.isEmpty()) {
 			this.telemetryStack.push(
 				this.telemetryStack.peek().addStep(phase, messageSupplier.get())
@@ -804,6 +826,9 @@ public class QueryPlanningContext implements LocaleProvider, PrefetchStrategyRes
 	 * unconditionally in a `finally` block.
 	 */
 	public void popStep() {
+		if (this.phaseTimer != null) {
+			this.phaseTimer.pop();
+		}
 		if (!this.telemetryStack.isEmpty()) {
 			this.telemetryStack.pop().finish();
 		}
@@ -820,6 +845,9 @@ public class QueryPlanningContext implements LocaleProvider, PrefetchStrategyRes
 	 * @param messageSupplier description of the outcome, invoked only when telemetry is being collected
 	 */
 	public void popStep(@Nonnull Supplier<String> messageSupplier) {
+		if (this.phaseTimer != null) {
+			this.phaseTimer.pop();
+		}
 		if (!this.telemetryStack.isEmpty()) {
 			this.telemetryStack.pop().finish(messageSupplier.get());
 		}
@@ -908,6 +936,44 @@ public class QueryPlanningContext implements LocaleProvider, PrefetchStrategyRes
 		return this.evitaRequest.getQueryPriceMode();
 	}
 
+	/**
+	 * Records the finished query into the always-on {@link QueryShapeStatisticsRegistry} of the catalog. The latency
+	 * is measured from the creation of this context, so it covers both the planning and the execution of the query.
+	 * The method is expected to be called only for the top level queries.
+	 *
+	 * @param recordsScanned     number of records scanned (included in the calculation)
+	 * @param recordsReturned    number of records returned to the client
+	 * @param ioFetchCount       number of records fetched from the disk
+	 * @param ioFetchedSizeBytes size of the data fetched from the disk in bytes
+	 */
+	public void recordQueryShapeStatistics(
+		int recordsScanned,
+		int recordsReturned,
+		int ioFetchCount,
+		int ioFetchedSizeBytes
+	) {
+		this.catalog.getQueryShapeStatisticsRegistry().record(
+			this.evitaRequest.getEntityType(),
+			this.evitaRequest.getQuery(),
+			System.nanoTime() - this.createdNanos,
+			recordsScanned,
+			recordsReturned,
+			ioFetchCount,
+			ioFetchedSizeBytes
+		);
+	}
+
+	/**
+	 * Records the durations of the query phases measured by the {@link #phaseTimer} into the always-on
+	 * {@link QueryPhaseStatisticsRegistry} of the catalog. Does nothing for nested queries, which have no timer
+	 * - their time is already included in the phases of the top level query.
+	 */
+	public void recordQueryPhaseStatistics() {
+		if (this.phaseTimer != null) {
+			this.catalog.getQueryPhaseStatistics().record(this.evitaRequest.getEntityType(), this.phaseTimer);
+		}
+	}
+
 	/**
 	 * Returns schema of the catalog.
 	 */
@@ -65,6 +65,13 @@ public abstract class AbstractCacheableFormula extends AbstractFormula implement
 		return this.memoizedResult;
 	}
 
+	@Override
+	public int computeCardinality() {
+		// formulas observed by the cache supervisor must materialize their result so that it can be recorded
+		// and possibly cached - counting without materialization would make them invisible to the cache
+		return this.computationCallback == null ? super.computeCardinality() : compute().size();
+	}
+
 	@Override
 	public FlattenedFormula toSerializableFormula(long formulaHash, @Nonnull LongHashFunction hashFunction) {
 		// by this time computation result should be already memoized
@@ -67,6 +67,11 @@ public abstract class AbstractFormula implements Formula {
 	 * {@link Formula#compute()} will return this memoized result without paying the computational costs
 	 */
 	@Nullable protected Bitmap memoizedResult;
+	/**
+	 * Contains a memoized result of {@link #computeCardinalityInternal()} once {@link #computeCardinality()} is invoked
+	 * for the first time without the {@link #memoizedResult} being available.
+	 */
+	@Nullable private Integer memoizedCardinality;
 	/**
 	 * Contains memoized value of {@link #getEstimatedCost()}  of this formula.
 	 */
@@ -201,6 +206,17 @@ public abstract class AbstractFormula implements Formula {
 		return this.memoizedResult;
 	}
 
+	@Override
+	public int computeCardinality() {
+		if (this.memoizedResult != null) {
+			return this.memoizedResult.size();
+		}
+		if (this.memoizedCardinality == null) {
+			this.memoizedCardinality = computeCardinalityInternal();
+		}
+		return this.memoizedCardinality;
+	}
+
 	@Nullable
 	@Override
 	public Bitmap getMemoizedResult() {
@@ -212,6 +228,7 @@ public abstract class AbstractFormula implements Formula {
 	@Override
 	public void clearMemory() {
 		this.memoizedResult = null;
+		this.memoizedCardinality = null;
 		this.cost = null;
 		this.costToPerformance = null;
 	}
@@ -438,6 +455,22 @@ public abstract class AbstractFormula implements Formula {
 		return theResult.isEmpty() ? EmptyBitmap.INSTANCE : theResult;
 	}
 
+	/**
+	 * Computes the cardinality of the conjunction (AND) of the given {@link PersistentRoaringBitmap} array without
+	 * materializing the intersection. Counterpart of {@link #computeConjunctionResult(PersistentRoaringBitmap[])}.
+	 *
+	 * @param bitmaps the bitmaps to intersect
+	 * @return the number of records in the intersection, zero if the array is empty
+	 */
+	protected static int computeConjunctionCardinality(@Nonnull PersistentRoaringBitmap[] bitmaps) {
+		for (final PersistentRoaringBitmap bitmap : bitmaps) {
+			if (bitmap.isEmpty()) {
+				return 0;
+			}
+		}
+		return RoaringBitmapBackedBitmap.andCardinality(bitmaps);
+	}
+
 	/**
 	 * Computes the cost of a conjunction operation over pre-sorted formulas, short-circuiting on empty results.
 	 *
@@ -498,6 +531,17 @@ public abstract class AbstractFormula implements Formula {
 		return min;
 	}
 
+	/**
+	 * Internal (not cached) computation of the number of records produced by this formula. Default implementation
+	 * computes the full result and returns its size - formulas that can count their result without materializing
+	 * it should override this method.
+	 *
+	 * @return number of records the {@link #computeInternal()} method would produce
+	 */
+	protected int computeCardinalityInternal() {
+		return compute().size();
+	}
+
 	/**
 	 * Internal (not cached) computation operation of this formula.
 	 *
@@ -72,6 +72,21 @@ public interface Formula extends TransactionalDataRelatedStructure, PrettyPrinta
 	@Nonnull
 	Bitmap compute();
 
+	/**
+	 * Computes the number of records in the product of this formula. The result equals `compute().size()`, but
+	 * formulas performing set algebra (AND / OR / NOT) may count the records without materializing the result
+	 * bitmap, which saves allocations on paths that are interested only in counts (facet summary counts, hierarchy
+	 * statistics, total record counts).
+	 *
+	 * When the result of {@link #compute()} is already memoized, its size is returned directly. The count itself
+	 * is memoized as well, but it never populates the {@link #compute()} result.
+	 *
+	 * @return number of records the {@link #compute()} method would produce
+	 */
+	default int computeCardinality() {
+		return compute().size();
+	}
+
 	/**
 	 * Returns the result of this formula **if it is already available without performing any computation**, and
 	 * `null` otherwise. This method never computes anything and never memoizes anything - it is the read-only
@@ -198,6 +198,11 @@ public class AndFormula extends AbstractBitmapCacheableFormula {
 		return computeConjunctionResult(getRoaringBitmaps());
 	}
 
+	@Override
+	protected int computeCardinalityInternal() {
+		return computeConjunctionCardinality(getRoaringBitmaps());
+	}
+
 	@Override
 	public String toString() {
 		if (ArrayUtils.isEmpty(this.bitmaps)) {
@@ -280,4 +280,30 @@ public class NotFormula extends AbstractCacheableFormula {
 		return theResult.isEmpty() ? EmptyBitmap.INSTANCE : theResult;
 	}
 
+	@Override
+	protected int computeCardinalityInternal() {
+		if (this.subtractedBitmap != null && this.supersetBitmap != null) {
+			// X \ X = ∅ — guards against direct construction with the same bitmap on both sides
+			if (this.supersetBitmap.isEmpty() || this.subtractedBitmap == this.supersetBitmap) {
+				return 0;
+			}
+			return PersistentRoaringBitmap.andNotCardinality(
+				RoaringBitmapBackedBitmap.getRoaringBitmap(this.supersetBitmap),
+				RoaringBitmapBackedBitmap.getRoaringBitmap(this.subtractedBitmap)
+			);
+		} else if (getSubtractedFormula() == getSupersetFormula()) {
+			// X \ X = ∅ — guards against direct construction with the same formula on both sides
+			return 0;
+		} else {
+			final Bitmap supersetBitmap = getSupersetFormula().compute();
+			if (supersetBitmap.isEmpty()) {
+				return 0;
+			}
+			return PersistentRoaringBitmap.andNotCardinality(
+				RoaringBitmapBackedBitmap.getRoaringBitmap(supersetBitmap),
+				RoaringBitmapBackedBitmap.getRoaringBitmap(getSubtractedFormula().compute())
+			);
+		}
+	}
+
 }
@@ -186,6 +186,11 @@ public class OrFormula extends AbstractBitmapCacheableFormula {
 		return theResult.isEmpty() ? EmptyBitmap.INSTANCE : theResult;
 	}
 
+	@Override
+	protected int computeCardinalityInternal() {
+		return RoaringBitmapBackedBitmap.orCardinality(getRoaringBitmaps());
+	}
+
 	/*
 		PRIVATE METHODS
 	 */
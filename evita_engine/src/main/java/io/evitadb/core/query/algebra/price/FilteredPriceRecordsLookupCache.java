@@ -0,0 +1,145 @@
+/*
+ *
+ *                         _ _        ____  ____
+ *               _____   _(_) |_ __ _|  _ \| __ )
+ *              / _ \ \ / / | __/ _` | | | |  _ \
+ *             |  __/\ V /| | || (_| | |_| | |_) |
+ *              \___| \_/ |_|\__\__,_|____/|____/
+ *
+ *   Copyright (c) 2026
+ *
+ *   Licensed under the Business Source License, Version 1.1 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://github.com/FgForrest/evitaDB/blob/master/LICENSE
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+
+package io.evitadb.core.query.algebra.price;
+
+import io.evitadb.core.query.QueryExecutionContext;
+import io.evitadb.core.query.algebra.price.filteredPriceRecords.FilteredPriceRecords;
+import io.evitadb.roaringbitmap.PersistentRoaringBitmap;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Per-query registry of already resolved {@link FilteredPriceRecordsLookupResult lookup results}. Resolving price
+ * records of tens of thousands of entities is not cheap and the same lookup (same entity primary keys paired against
+ * the same {@link FilteredPriceRecordAccessor accessors}) is requested by several consumers of a single query - the
+ * price sorter, the price discount comparator and the price histogram. The first consumer pays the price, the others
+ * reuse the result.
+ *
+ * The registry lives in {@link QueryExecutionContext} so it never outlives the query and is never shared among
+ * alternative query plans. The entries are matched by the identity of the accessors (in their iteration order) and by
+ * the content of the entity primary key bitmap.
+ *
+ * **Important:** the {@link FilteredPriceRecordsLookupResult#getPriceRecords()} array of a shared result is ordered
+ * by entity primary key and other consumers rely on it - consumers that need a different order (sorting) must work
+ * on a copy.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+@NotThreadSafe
+public class FilteredPriceRecordsLookupCache {
+	/**
+	 * Already resolved lookups. There are only a few distinct lookups in a single query, so linear search suffices.
+	 */
+	private final List<Entry> entries = new ArrayList<>(4);
+
+	/**
+	 * Returns the lookup result for `filterTo` entity primary keys and `filteredPriceRecordAccessors` if it was already
+	 * resolved within this query, otherwise `null`. The method never computes anything.
+	 *
+	 * @param filterTo                     bitmap of entity primary keys to match against
+	 * @param filteredPriceRecordAccessors accessors providing the price records
+	 * @return already resolved lookup result or `null`
+	 */
+	@Nullable
+	public FilteredPriceRecordsLookupResult get(
+		@Nonnull PersistentRoaringBitmap filterTo,
+		@Nonnull Collection<FilteredPriceRecordAccessor> filteredPriceRecordAccessors
+	) {
+		for (Entry entry : this.entries) {
+			if (entry.matches(filterTo, filteredPriceRecordAccessors)) {
+				return entry.result();
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the lookup result for `filterTo` entity primary keys and `filteredPriceRecordAccessors` - either
+	 * the one resolved earlier within this query, or a freshly resolved one that is registered for later reuse.
+	 *
+	 * @param filterTo                     bitmap of entity primary keys to match against
+	 * @param filteredPriceRecordAccessors accessors providing the price records
+	 * @param context                      current query execution context
+	 * @return lookup result containing matched prices (ordered by entity primary key) and unmatched entity ids
+	 */
+	@Nonnull
+	public FilteredPriceRecordsLookupResult getOrCompute(
+		@Nonnull PersistentRoaringBitmap filterTo,
+		@Nonnull Collection<FilteredPriceRecordAccessor> filteredPriceRecordAccessors,
+		@Nonnull QueryExecutionContext context
+	) {
+		final FilteredPriceRecordsLookupResult existingResult = get(filterTo, filteredPriceRecordAccessors);
+		if (existingResult != null) {
+			return existingResult;
+		}
+		final FilteredPriceRecordsLookupResult result = FilteredPriceRecords.collectFilteredPriceRecordsFromPriceRecordAccessors(
+			filteredPriceRecordAccessors, filterTo, context
+		);
+		this.entries.add(new Entry(filterTo, filteredPriceRecordAccessors, result));
+		return result;
+	}
+
+	/**
+	 * Single resolved lookup.
+	 *
+	 * @param filterTo  entity primary keys the lookup was resolved for
+	 * @param accessors accessors the lookup was resolved with
+	 * @param result    resolved lookup result
+	 */
+	private record Entry(
+		@Nonnull PersistentRoaringBitmap filterTo,
+		@Nonnull Collection<FilteredPriceRecordAccessor> accessors,
+		@Nonnull FilteredPriceRecordsLookupResult result
+	) {
+
+		/**
+		 * Returns true if this entry was resolved for the same accessor instances and equal entity primary keys.
+		 */
+		boolean matches(
+			@Nonnull PersistentRoaringBitmap filterTo,
+			@Nonnull Collection<FilteredPriceRecordAccessor> accessors
+		) {
+			if (this.accessors.size() != accessors.size()) {
+				return false;
+			}
+			final Iterator<FilteredPriceRecordAccessor> thisIt = this.accessors.iterator();
+			final Iterator<FilteredPriceRecordAccessor> thatIt = accessors.iterator();
+			while (thisIt.hasNext()) {
+				if (thisIt.next() != thatIt.next()) {
+					return false;
+				}
+			}
+			return this.filterTo == filterTo || this.filterTo.equals(filterTo);
+		}
+
+	}
+
+}
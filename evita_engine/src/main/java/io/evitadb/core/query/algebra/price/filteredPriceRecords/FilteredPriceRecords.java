@@ -54,6 +54,7 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Consumer;
+import java.util.function.IntConsumer;
 
 import static java.util.Optional.empty;
 import static java.util.Optional.of;
@@ -402,6 +403,53 @@ public interface FilteredPriceRecords extends Serializable {
 		@Nonnull QueryExecutionContext context
 	) {
 		final CompositeObjectArray<PriceRecordContract> collectedPriceRecords = new CompositeObjectArray<>(PriceRecordContract.class, false);
+		final RoaringBitmapWriter<PersistentRoaringBitmap> notFoundWriter = RoaringBitmapBackedBitmap.buildWriter();
+		visitFilteredPriceRecordsFromPriceRecordAccessors(
+			filteredPriceRecordAccessors, filterTo, context,
+			collectedPriceRecords::add, notFoundWriter::add
+		);
+
+		final PersistentRoaringBitmap notFound = notFoundWriter.get();
+		return notFound.isEmpty() ?
+			new FilteredPriceRecordsLookupResult(collectedPriceRecords.toArray()) :
+			new FilteredPriceRecordsLookupResult(collectedPriceRecords.toArray(), new BaseBitmap(notFound));
+	}
+
+	/**
+	 * Streaming counterpart of {@link #collectFilteredPriceRecordsFromPriceRecordAccessors(Collection, PersistentRoaringBitmap, QueryExecutionContext)}.
+	 * Passes the very same price records to `priceRecordConsumer` while they are being looked up, so that consumers
+	 * interested only in an aggregate of the prices (e.g. the price histogram) can fold them on the fly without
+	 * materializing the whole {@link PriceRecordContract} array. Entities without any price are silently skipped.
+	 *
+	 * @param filteredPriceRecordAccessors accessors providing price records to filter
+	 * @param filterTo                    bitmap of entity primary keys to match against
+	 * @param context                     current query execution context
+	 * @param priceRecordConsumer         consumer receiving the matched price records in entity primary key order
+	 */
+	static void foldFilteredPriceRecordsFromPriceRecordAccessors(
+		@Nonnull Collection<FilteredPriceRecordAccessor> filteredPriceRecordAccessors,
+		@Nonnull PersistentRoaringBitmap filterTo,
+		@Nonnull QueryExecutionContext context,
+		@Nonnull Consumer<PriceRecordContract> priceRecordConsumer
+	) {
+		visitFilteredPriceRecordsFromPriceRecordAccessors(
+			filteredPriceRecordAccessors, filterTo, context,
+			priceRecordConsumer, entityId -> {}
+		);
+	}
+
+	/**
+	 * Iterates over all entity primary keys in `filterTo` and looks up their prices in the `filteredPriceRecordAccessors`.
+	 * The prices of the first accessor that knows the entity are passed to `priceRecordConsumer`, the entities not
+	 * known by any of the accessors are passed to `notFoundConsumer`.
+	 */
+	private static void visitFilteredPriceRecordsFromPriceRecordAccessors(
+		@Nonnull Collection<FilteredPriceRecordAccessor> filteredPriceRecordAccessors,
+		@Nonnull PersistentRoaringBitmap filterTo,
+		@Nonnull QueryExecutionContext context,
+		@Nonnull Consumer<PriceRecordContract> priceRecordConsumer,
+		@Nonnull IntConsumer notFoundConsumer
+	) {
 		final PriceRecordLookup[] priceRecordIterators = new PriceRecordLookup[filteredPriceRecordAccessors.size()];
 		int prIdx = 0;
 		for (FilteredPriceRecordAccessor accessor : filteredPriceRecordAccessors) {
@@ -412,7 +460,6 @@ public interface FilteredPriceRecords extends Serializable {
 		try {
 			// prepare writer for sorted output entity ids
 			final BatchArrayIterator entityIdIterator = new RoaringBitmapBatchArrayIterator(filterTo.getBatchIterator(), buffer);
-			final RoaringBitmapWriter<PersistentRoaringBitmap> notFoundWriter = RoaringBitmapBackedBitmap.buildWriter();
 
 			// iterate through all entity ids
 			while (entityIdIterator.hasNext()) {
@@ -425,7 +472,7 @@ public interface FilteredPriceRecords extends Serializable {
 					for (PriceRecordLookup priceRecordIt : priceRecordIterators) {
 						final boolean anyPriceFound = priceRecordIt.forEachPriceOfEntity(
 							entityId, lastExpectedEntity,
-							collectedPriceRecords::add
+							priceRecordConsumer
 						);
 						if (anyPriceFound) {
 							noPriceFoundAtAll = false;
@@ -434,15 +481,10 @@ public interface FilteredPriceRecords extends Serializable {
 					}
 
 					if (noPriceFoundAtAll) {
-						notFoundWriter.add(entityId);
+						notFoundConsumer.accept(entityId);
 					}
 				}
 			}
-
-			final PersistentRoaringBitmap notFound = notFoundWriter.get();
-			return notFound.isEmpty() ?
-				new FilteredPriceRecordsLookupResult(collectedPriceRecords.toArray()) :
-				new FilteredPriceRecordsLookupResult(collectedPriceRecords.toArray(), new BaseBitmap(notFound));
 		} finally {
 			SharedBufferPool.INSTANCE.free(buffer);
 		}
@@ -525,13 +525,35 @@ public class ExtraResultPlanningVisitor implements ConstraintVisitor {
 		);
 	}
 
+	/**
+	 * Returns the {@link FilterBy} constraint the statistics of the given {@link StatisticsBase} are computed
+	 * against - i.e. the original filter with the parts irrelevant for the statistics stripped, or `null` when
+	 * no filter applies. The result allows the producers to inspect the shape of the statistics filter without
+	 * planning its formula.
+	 *
+	 * @param statisticsBase  the statistics base, `null` is treated as {@link StatisticsBase#WITHOUT_USER_FILTER}
+	 * @param referenceSchema the reference schema of the hierarchy the statistics are computed for, `null` for self
+	 * @return the filter for the statistics base or `null` if no filter applies
+	 */
+	@Nullable
+	public FilterBy getFilterByForStatisticsBase(
+		@Nullable StatisticsBase statisticsBase,
+		@Nullable ReferenceSchemaContract referenceSchema
+	) {
+		return rewriteFilterByForStatisticsBase(
+			statisticsBase == null ? StatisticsBase.WITHOUT_USER_FILTER : statisticsBase,
+			referenceSchema
+		);
+	}
+
 	/**
 	 * Constraint-tree analogue of the formula-tree mutators used by {@link #shortcutFormula}. Walks a deep clone of
 	 * the original {@link FilterBy} and drops the constraint nodes that match the strip rules for the given
 	 * {@link StatisticsBase}, returning the resulting filter — or `null` when the rewrite leaves nothing applicable.
 	 *
-	 * Used exclusively by {@link #fallbackFormula}; the resulting `FilterBy` is fed to a nested
-	 * {@link FilterByVisitor} pass against the queried collection's `GlobalEntityIndex`.
+	 * Used by {@link #fallbackFormula}, where the resulting `FilterBy` is fed to a nested
+	 * {@link FilterByVisitor} pass against the queried collection's `GlobalEntityIndex`, and by
+	 * {@link #getFilterByForStatisticsBase}.
 	 */
 	@Nullable
 	private FilterBy rewriteFilterByForStatisticsBase(
@@ -784,21 +806,6 @@ public class ExtraResultPlanningVisitor implements ConstraintVisitor {
 		);
 	}
 
-	/**
-	 * Method finds sorter of specified type in the current {@link #sorters} or sorters that are chained in it as secondary
-	 * or tertiary sorters.
-	 */
-	@Nullable
-	public <T extends Sorter> T findSorter(@Nonnull Class<T> sorterType) {
-		for (Sorter sorter : this.sorters) {
-			if (sorterType.isInstance(sorter)) {
-				//noinspection unchecked
-				return (T) sorter;
-			}
-		}
-		return null;
-	}
-
 	@Override
 	public void visit(@Nonnull Constraint<?> constraint) {
 		final RequireConstraint requireConstraint = (RequireConstraint) constraint;
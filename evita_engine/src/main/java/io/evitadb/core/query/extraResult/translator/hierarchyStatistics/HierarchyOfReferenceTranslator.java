@@ -154,6 +154,9 @@ public class HierarchyOfReferenceTranslator
 						return FormulaFactory.or(formulas);
 					},
 					null,
+					// the statistics of the referenced hierarchy count distinct referencing entities, which
+					// cannot be derived from the statistics maintained in the referenced hierarchy index
+					null,
 					hierarchyOfReference.getEmptyHierarchicalEntityBehaviour(),
 					sorter,
 					() -> {
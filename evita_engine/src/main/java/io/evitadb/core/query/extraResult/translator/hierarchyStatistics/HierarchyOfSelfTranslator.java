@@ -24,8 +24,15 @@
 package io.evitadb.core.query.extraResult.translator.hierarchyStatistics;
 
 import io.evitadb.api.exception.EntityIsNotHierarchicalException;
+import io.evitadb.api.query.ConstraintContainer;
+import io.evitadb.api.query.FilterConstraint;
 import io.evitadb.api.query.RequireConstraint;
+import io.evitadb.api.query.filter.And;
+import io.evitadb.api.query.filter.EntityLocaleEquals;
+import io.evitadb.api.query.filter.EntityScope;
+import io.evitadb.api.query.filter.FilterBy;
 import io.evitadb.api.query.filter.HierarchyFilterConstraint;
+import io.evitadb.api.query.filter.UserFilter;
 import io.evitadb.api.query.require.EmptyHierarchicalEntityBehaviour;
 import io.evitadb.api.query.require.HierarchyOfSelf;
 import io.evitadb.api.requestResponse.EvitaRequest;
@@ -39,6 +46,7 @@ import io.evitadb.core.query.extraResult.ExtraResultPlanningVisitor;
 import io.evitadb.core.query.extraResult.ExtraResultProducer;
 import io.evitadb.core.query.extraResult.translator.RequireConstraintTranslator;
 import io.evitadb.core.query.extraResult.translator.hierarchyStatistics.producer.HierarchyStatisticsProducer;
+import io.evitadb.core.query.extraResult.translator.hierarchyStatistics.producer.MaintainedHierarchyStatistics;
 import io.evitadb.core.query.sort.NestedContextSorter;
 import io.evitadb.dataType.Scope;
 import io.evitadb.index.EntityIndexKey;
@@ -52,8 +60,10 @@ import io.evitadb.utils.Assert;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.util.Collections;
+import java.util.Locale;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * This implementation of {@link RequireConstraintTranslator} converts {@link HierarchyOfSelf} to
@@ -140,6 +150,10 @@ public class HierarchyOfSelfTranslator
 						queriedEntityType, scopes, cachedGlobal
 					);
 				},
+				statisticsBase -> resolveMaintainedStatistics(
+					extraResultPlanner.getFilterByForStatisticsBase(statisticsBase, null),
+					globalIndex
+				),
 				EmptyHierarchicalEntityBehaviour.LEAVE_EMPTY,
 				sorter,
 				() -> {
@@ -153,4 +167,51 @@ public class HierarchyOfSelfTranslator
 		return hierarchyStatisticsProducer;
 	}
 
+	/**
+	 * Returns {@link MaintainedHierarchyStatistics} when the statistics filter is empty or contains only the entity
+	 * locale and scope constraints (the scope is implicitly satisfied by the global index of the single scope).
+	 * In such case the counts equal to the ones incrementally maintained by the hierarchy index. Otherwise `null` is
+	 * returned and the counts are computed using the filtering formula.
+	 *
+	 * @param statisticsFilter the filter the statistics are computed against, `null` if no filter applies
+	 * @param globalIndex      the global index of the queried entity
+	 * @return maintained statistics or `null` if they cannot be used
+	 */
+	@Nullable
+	private static MaintainedHierarchyStatistics resolveMaintainedStatistics(
+		@Nullable FilterBy statisticsFilter,
+		@Nonnull GlobalEntityIndex globalIndex
+	) {
+		if (statisticsFilter == null) {
+			return new MaintainedHierarchyStatistics(globalIndex, null);
+		}
+		final AtomicReference<Locale> locale = new AtomicReference<>();
+		return isLocaleOrScopeFilter(statisticsFilter, locale) ?
+			new MaintainedHierarchyStatistics(globalIndex, locale.get()) : null;
+	}
+
+	/**
+	 * Returns true if the constraint is a conjunction of (at most single) entity locale and scope constraints.
+	 * The found locale is stored in the `locale` reference.
+	 */
+	private static boolean isLocaleOrScopeFilter(
+		@Nonnull FilterConstraint constraint,
+		@Nonnull AtomicReference<Locale> locale
+	) {
+		if (constraint instanceof EntityLocaleEquals localeEquals) {
+			return locale.compareAndSet(null, localeEquals.getLocale()) || localeEquals.getLocale().equals(locale.get());
+		} else if (constraint instanceof EntityScope) {
+			return true;
+		} else if (constraint instanceof FilterBy || constraint instanceof And || constraint instanceof UserFilter) {
+			for (FilterConstraint child : ((ConstraintContainer<FilterConstraint>) constraint).getChildren()) {
+				if (!isLocaleOrScopeFilter(child, locale)) {
+					return false;
+				}
+			}
+			return true;
+		} else {
+			return false;
+		}
+	}
+
 }
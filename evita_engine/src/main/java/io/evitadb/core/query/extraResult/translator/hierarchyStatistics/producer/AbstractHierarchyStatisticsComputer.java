@@ -158,6 +158,18 @@ abstract class AbstractHierarchyStatisticsComputer {
 			.toList();
 	}
 
+	/**
+	 * Returns the statistics maintained by the {@link io.evitadb.index.hierarchy.HierarchyIndex} if they can be used
+	 * for the {@link #statisticsBase} instead of computing the counts from the filtering formulas. The maintained
+	 * statistics are never used when the empty nodes are to be removed from the result, because such computation
+	 * needs the formulas of all the visited nodes anyway.
+	 */
+	@Nullable
+	protected MaintainedHierarchyStatistics getMaintainedStatistics() {
+		final Function<StatisticsBase, MaintainedHierarchyStatistics> producer = this.context.maintainedStatisticsProducer();
+		return producer == null || this.context.removeEmptyResults() ? null : producer.apply(this.statisticsBase);
+	}
+
 	/**
 	 * Method implementation differs across different computer types.
 	 */
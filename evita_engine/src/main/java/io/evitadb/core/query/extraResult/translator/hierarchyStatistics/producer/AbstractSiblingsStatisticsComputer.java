@@ -81,7 +81,8 @@ abstract class AbstractSiblingsStatisticsComputer extends AbstractHierarchyStati
 			filterPredicate,
 			value -> this.context.directlyQueriedEntitiesFormulaProducer().apply(value, this.statisticsBase),
 			this.entityFetcher,
-			this.statisticsType
+			this.statisticsType,
+			getMaintainedStatistics()
 		);
 		parentNode.ifPresentOrElse(
 			parentNodeId -> {
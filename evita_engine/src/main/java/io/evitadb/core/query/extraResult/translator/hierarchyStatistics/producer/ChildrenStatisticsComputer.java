@@ -84,7 +84,8 @@ public class ChildrenStatisticsComputer extends AbstractHierarchyStatisticsCompu
 			filterPredicate,
 			value -> this.context.directlyQueriedEntitiesFormulaProducer().apply(value, this.statisticsBase),
 			this.entityFetcher,
-			this.statisticsType
+			this.statisticsType,
+			getMaintainedStatistics()
 		);
 		if (this.context.hierarchyFilter() instanceof HierarchyWithinRoot) {
 			// if there is within hierarchy root query we start at root nodes
@@ -57,6 +57,7 @@ import java.util.function.Supplier;
  * @param fetchRequirementCollector              Reference to the collector of requirements for entity prefetch phase.
  * @param directlyQueriedEntitiesFormulaProducer Contains a function that produces bitmap of queried entity ids connected with particular hierarchical entity.
  * @param hierarchyFilterPredicateProducer       lambda that creates a {@link HierarchyFilteringPredicate} based respecting the statistics base
+ * @param maintainedStatisticsProducer           lambda that provides {@link MaintainedHierarchyStatistics} for the statistics base, or returns `null` if the statistics base filter is not simple enough to use them
  * @param removeEmptyResults                     Contains true if hierarchy statistics should be stripped of results with zero occurrences.
  */
 public record HierarchyProducerContext(
@@ -69,6 +70,7 @@ public record HierarchyProducerContext(
 	@Nullable FetchRequirementCollector fetchRequirementCollector,
 	@Nonnull IntObjBiFunction<StatisticsBase, Formula> directlyQueriedEntitiesFormulaProducer,
 	@Nullable Function<StatisticsBase, HierarchyFilteringPredicate> hierarchyFilterPredicateProducer,
+	@Nullable Function<StatisticsBase, MaintainedHierarchyStatistics> maintainedStatisticsProducer,
 	boolean removeEmptyResults
 ) {
 
@@ -150,6 +150,7 @@ public class HierarchyStatisticsProducer implements ExtraResultProducer {
 	 *                                               with particular hierarchical entity
 	 * @param behaviour                              controls whether items with {@link LevelInfo#queriedEntityCount()} equal to zero should be excluded
 	 * @param hierarchyFilterPredicateProducer       lambda that creates a {@link HierarchyFilteringPredicate} based respecting the statistics base
+	 * @param maintainedStatisticsProducer           lambda that provides {@link MaintainedHierarchyStatistics} for the statistics base if they can be used
 	 * @param sorter                                 sorter for sorting {@link LevelInfo}
 	 * @param interpretationLambda                   lambda that allows additional configuration of the {@link AbstractHierarchyStatisticsComputer}
 	 */
@@ -163,6 +164,7 @@ public class HierarchyStatisticsProducer implements ExtraResultProducer {
 		@Nullable FetchRequirementCollector fetchRequirementCollector,
 		@Nonnull IntObjBiFunction<StatisticsBase, Formula> directlyQueriedEntitiesFormulaProducer,
 		@Nullable Function<StatisticsBase, HierarchyFilteringPredicate> hierarchyFilterPredicateProducer,
+		@Nullable Function<StatisticsBase, MaintainedHierarchyStatistics> maintainedStatisticsProducer,
 		@Nonnull EmptyHierarchicalEntityBehaviour behaviour,
 		@Nullable NestedContextSorter sorter,
 		@Nonnull Runnable interpretationLambda
@@ -180,6 +182,7 @@ public class HierarchyStatisticsProducer implements ExtraResultProducer {
 					fetchRequirementCollector,
 					directlyQueriedEntitiesFormulaProducer,
 					hierarchyFilterPredicateProducer,
+					maintainedStatisticsProducer,
 					behaviour == EmptyHierarchicalEntityBehaviour.REMOVE_EMPTY
 				)
 			);
@@ -0,0 +1,68 @@
+/*
+ *
+ *                         _ _        ____  ____
+ *               _____   _(_) |_ __ _|  _ \| __ )
+ *              / _ \ \ / / | __/ _` | | | |  _ \
+ *             |  __/\ V /| | || (_| | |_| | |_) |
+ *              \___| \_/ |_|\__\__,_|____/|____/
+ *
+ *   Copyright (c) 2026
+ *
+ *   Licensed under the Business Source License, Version 1.1 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://github.com/FgForrest/evitaDB/blob/master/LICENSE
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+
+package io.evitadb.core.query.extraResult.translator.hierarchyStatistics.producer;
+
+import io.evitadb.api.query.require.StatisticsBase;
+import io.evitadb.index.EntityIndex;
+import io.evitadb.index.hierarchy.HierarchyIndex;
+import io.evitadb.index.hierarchy.HierarchyNodeStatistics;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Locale;
+
+/**
+ * Provides the {@link io.evitadb.api.requestResponse.extraResult.Hierarchy.LevelInfo} counts directly from
+ * the {@link HierarchyNodeStatistics} incrementally maintained by the {@link HierarchyIndex}. The instance is
+ * available only when the {@link StatisticsBase} filter of the self-hierarchy statistics is either empty or
+ * limited to the entity locale (and scope) - i.e. the typical menu rendering scenario. In such case the counts of
+ * the visible nodes are read in constant time and the subtrees of the nodes not present in the output don't need to
+ * be traversed at all.
+ *
+ * @param entityIndex    the entity index owning the hierarchy index that maintains the statistics
+ * @param locale         the locale the counted nodes must have, or `null` if all nodes are counted
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+public record MaintainedHierarchyStatistics(
+	@Nonnull EntityIndex entityIndex,
+	@Nullable Locale locale
+) {
+
+	/**
+	 * Returns the number of direct children of the node matching the locale.
+	 */
+	public int getChildrenCount(int entityPrimaryKey) {
+		return this.entityIndex.getChildrenCount(entityPrimaryKey, this.locale);
+	}
+
+	/**
+	 * Returns the number of queried entities in the subtree of the node - for the self-hierarchy statistics they
+	 * equal to the descendant nodes matching the locale (regardless of the locales of the nodes in between).
+	 */
+	public int getQueriedEntityCount(int entityPrimaryKey) {
+		return this.entityIndex.getDescendantCount(entityPrimaryKey, this.locale);
+	}
+
+}
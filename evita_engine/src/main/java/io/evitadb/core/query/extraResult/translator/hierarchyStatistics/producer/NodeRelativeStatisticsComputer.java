@@ -105,7 +105,8 @@ public class NodeRelativeStatisticsComputer extends AbstractHierarchyStatisticsC
 				filterPredicate,
 				value -> this.context.directlyQueriedEntitiesFormulaProducer().apply(value, this.statisticsBase),
 				this.entityFetcher,
-				this.statisticsType
+				this.statisticsType,
+				getMaintainedStatistics()
 			);
 			this.context.entityIndex().traverseHierarchyFromNode(
 				visitor,
@@ -99,7 +99,9 @@ public class ParentStatisticsComputer extends AbstractHierarchyStatisticsCompute
 				filterPredicate,
 				value -> this.context.directlyQueriedEntitiesFormulaProducer().apply(value, this.statisticsBase),
 				this.entityFetcher,
-				this.statisticsType
+				this.statisticsType,
+				// the parent visitor consumes the formulas of the start node, so the counts must be computed
+				null
 			);
 
 			Assert.isTrue(
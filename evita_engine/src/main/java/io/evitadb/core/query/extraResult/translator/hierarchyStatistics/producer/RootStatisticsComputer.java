@@ -82,7 +82,8 @@ public class RootStatisticsComputer extends AbstractHierarchyStatisticsComputer
 			filterPredicate,
 			value -> this.context.directlyQueriedEntitiesFormulaProducer().apply(value, this.statisticsBase),
 			this.entityFetcher,
-			this.statisticsType
+			this.statisticsType,
+			getMaintainedStatistics()
 		);
 		this.context.entityIndex().traverseHierarchy(
 			visitor,
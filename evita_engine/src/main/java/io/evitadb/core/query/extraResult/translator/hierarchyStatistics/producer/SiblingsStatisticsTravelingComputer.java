@@ -75,6 +75,16 @@ public class SiblingsStatisticsTravelingComputer extends AbstractSiblingsStatist
 		);
 	}
 
+	/**
+	 * The traveling computer results are consumed by {@link io.evitadb.core.query.extraResult.translator.hierarchyStatistics.visitor.ParentStatisticsHierarchyVisitor}
+	 * which aggregates their formulas, so the counts must always be computed.
+	 */
+	@Nullable
+	@Override
+	protected MaintainedHierarchyStatistics getMaintainedStatistics() {
+		return null;
+	}
+
 	@Override
 	protected int getDistanceCompensation() {
 		return -1;
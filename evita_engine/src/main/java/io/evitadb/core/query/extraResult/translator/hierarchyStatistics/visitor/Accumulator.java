@@ -31,6 +31,7 @@ import io.evitadb.core.query.QueryExecutionContext;
 import io.evitadb.core.query.algebra.Formula;
 import io.evitadb.core.query.algebra.utils.FormulaFactory;
 import io.evitadb.core.query.extraResult.translator.hierarchyStatistics.producer.HierarchyEntityFetcher;
+import io.evitadb.core.query.extraResult.translator.hierarchyStatistics.producer.MaintainedHierarchyStatistics;
 import io.evitadb.utils.Assert;
 import lombok.Getter;
 
@@ -84,6 +85,11 @@ public class Accumulator {
 	 * (respecting current query filter).
 	 */
 	private final Supplier<Formula> directlyQueriedEntitiesFormulaProducer;
+	/**
+	 * Optional statistics maintained by the hierarchy index. When present, the counts in {@link #toLevelInfo(EnumSet)}
+	 * are read from them instead of being computed from the formulas and registered children.
+	 */
+	@Nullable private final MaintainedHierarchyStatistics maintainedStatistics;
 	/**
 	 * Mutable container for gradually added children.
 	 */
@@ -133,6 +139,7 @@ public class Accumulator {
 		this.entityPrimaryKey = entity == null ? -1 : entity.getPrimaryKeyOrThrowException();
 		this.entityFetcher = null;
 		this.directlyQueriedEntitiesFormulaProducer = directlyQueriedEntitiesFormulaProducer;
+		this.maintainedStatistics = null;
 	}
 
 	/**
@@ -146,6 +153,21 @@ public class Accumulator {
 		int entityPrimaryKey,
 		@Nonnull HierarchyEntityFetcher entityFetcher,
 		@Nonnull Supplier<Formula> directlyQueriedEntitiesFormulaProducer
+	) {
+		this(executionContext, requested, entityPrimaryKey, entityFetcher, directlyQueriedEntitiesFormulaProducer, null);
+	}
+
+	/**
+	 * Constructor for the lazy-fetch path that reads the counts from the statistics maintained by the hierarchy
+	 * index (if they're passed) instead of computing them from the formulas.
+	 */
+	public Accumulator(
+		@Nonnull QueryExecutionContext executionContext,
+		boolean requested,
+		int entityPrimaryKey,
+		@Nonnull HierarchyEntityFetcher entityFetcher,
+		@Nonnull Supplier<Formula> directlyQueriedEntitiesFormulaProducer,
+		@Nullable MaintainedHierarchyStatistics maintainedStatistics
 	) {
 		this.executionContext = executionContext;
 		this.requested = requested;
@@ -153,6 +175,7 @@ public class Accumulator {
 		this.entityPrimaryKey = entityPrimaryKey;
 		this.entityFetcher = entityFetcher;
 		this.directlyQueriedEntitiesFormulaProducer = directlyQueriedEntitiesFormulaProducer;
+		this.maintainedStatistics = maintainedStatistics;
 	}
 
 	/**
@@ -168,6 +191,7 @@ public class Accumulator {
 		this.entityFetcher = null;
 		this.requested = false;
 		this.directlyQueriedEntitiesFormulaProducer = directlyQueriedEntitiesFormulaProducer;
+		this.maintainedStatistics = null;
 	}
 
 	/**
@@ -229,12 +253,22 @@ public class Accumulator {
 		return new LevelInfo(
 			resolvedEntity,
 			this.requested,
-			statisticsTypes.contains(StatisticsType.QUERIED_ENTITY_COUNT) ? getQueriedEntitiesFormula().compute().size() : null,
+			statisticsTypes.contains(StatisticsType.QUERIED_ENTITY_COUNT) ? getQueriedEntityCount() : null,
 			statisticsTypes.contains(StatisticsType.CHILDREN_COUNT) ? getChildrenCount() : null,
 			getChildrenAsLevelInfo(statisticsTypes)
 		);
 	}
 
+	/**
+	 * Returns the number of queried entities of this accumulator - either from the maintained statistics or computed
+	 * from the {@link #getQueriedEntitiesFormula()}.
+	 */
+	public int getQueriedEntityCount() {
+		return this.maintainedStatistics == null ?
+			getQueriedEntitiesFormula().computeCardinality() :
+			this.maintainedStatistics.getQueriedEntityCount(this.entityPrimaryKey);
+	}
+
 	/**
 	 * Converts accumulator data of the immediate children to immutable list of {@link LevelInfo}.
 	 */
@@ -288,7 +322,9 @@ public class Accumulator {
 	 * the {@link #children} and the count of omitted children that were not requested in the output.
 	 */
 	public int getChildrenCount() {
-		return this.omittedChildren + this.children.size();
+		return this.maintainedStatistics == null ?
+			this.omittedChildren + this.children.size() :
+			this.maintainedStatistics.getChildrenCount(this.entityPrimaryKey);
 	}
 
 	/**
@@ -332,7 +368,9 @@ public class Accumulator {
 	 * computing the entire tree.
 	 */
 	public boolean hasQueriedEntity() {
-		if (!this.hasQueriedEntity) {
+		if (!this.hasQueriedEntity && this.maintainedStatistics != null) {
+			this.hasQueriedEntity = this.maintainedStatistics.getQueriedEntityCount(this.entityPrimaryKey) > 0;
+		} else if (!this.hasQueriedEntity) {
 			if (!getDirectlyQueriedEntitiesFormula().compute().isEmpty()) {
 				this.hasQueriedEntity = true;
 			}
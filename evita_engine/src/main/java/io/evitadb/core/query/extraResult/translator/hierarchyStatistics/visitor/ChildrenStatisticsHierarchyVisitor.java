@@ -31,6 +31,7 @@ import io.evitadb.core.query.QueryExecutionContext;
 import io.evitadb.core.query.algebra.Formula;
 import io.evitadb.core.query.algebra.base.EmptyFormula;
 import io.evitadb.core.query.extraResult.translator.hierarchyStatistics.producer.HierarchyEntityFetcher;
+import io.evitadb.core.query.extraResult.translator.hierarchyStatistics.producer.MaintainedHierarchyStatistics;
 import io.evitadb.index.hierarchy.HierarchyNode;
 import io.evitadb.index.hierarchy.HierarchyVisitor;
 import io.evitadb.index.hierarchy.predicate.HierarchyFilteringPredicate;
@@ -40,6 +41,7 @@ import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.util.ArrayDeque;
 import java.util.Deque;
 import java.util.EnumSet;
@@ -102,6 +104,11 @@ public class ChildrenStatisticsHierarchyVisitor implements HierarchyVisitor {
 	 * {@link HierarchyNode}.
 	 */
 	private final IntFunction<Formula> queriedEntityComputer;
+	/**
+	 * Optional statistics maintained by the hierarchy index. When present, the counts are read from them and
+	 * the subtrees of the nodes not present in the output are not traversed at all.
+	 */
+	@Nullable private final MaintainedHierarchyStatistics maintainedStatistics;
 	/**
 	 * The root accumulator that holds the computation result.
 	 */
@@ -116,7 +123,8 @@ public class ChildrenStatisticsHierarchyVisitor implements HierarchyVisitor {
 		@Nonnull HierarchyFilteringPredicate filterPredicate,
 		@Nonnull IntFunction<Formula> queuedEntityComputer,
 		@Nonnull HierarchyEntityFetcher entityFetcher,
-		@Nonnull EnumSet<StatisticsType> statisticsType
+		@Nonnull EnumSet<StatisticsType> statisticsType,
+		@Nullable MaintainedHierarchyStatistics maintainedStatistics
 	) {
 		this.executionContext = executionContext;
 		this.removeEmptyResults = removeEmptyResults;
@@ -133,6 +141,7 @@ public class ChildrenStatisticsHierarchyVisitor implements HierarchyVisitor {
 		this.entityFetcher = entityFetcher;
 		this.statisticsType = statisticsType;
 		this.queriedEntityComputer = queuedEntityComputer;
+		this.maintainedStatistics = maintainedStatistics;
 	}
 
 	@Nonnull
@@ -175,7 +184,8 @@ public class ChildrenStatisticsHierarchyVisitor implements HierarchyVisitor {
 							this.requestedPredicate.test(entityPrimaryKey),
 							entityPrimaryKey,
 							this.entityFetcher,
-							() -> this.queriedEntityComputer.apply(node.entityPrimaryKey())
+							() -> this.queriedEntityComputer.apply(node.entityPrimaryKey()),
+							this.maintainedStatistics
 						)
 					);
 					// traverse subtree - filling up the accumulator on previous row
@@ -203,7 +213,9 @@ public class ChildrenStatisticsHierarchyVisitor implements HierarchyVisitor {
 					} else {
 						topAccumulator.add(finalizedAccumulator);
 					}
-				} else if (!this.statisticsType.isEmpty() || this.removeEmptyResults) {
+				} else if (this.maintainedStatistics == null && (!this.statisticsType.isEmpty() || this.removeEmptyResults)) {
+					// the maintained statistics (when available) already cover this subtree in the parent counts,
+					// so the subtree needs to be traversed only without them
 					// and create element in accumulator that will be filled in
 					final Accumulator theOmmissionAccumulator = new Accumulator(
 						this.executionContext,
@@ -33,16 +33,13 @@ import io.evitadb.core.query.extraResult.ExtraResultPlanningVisitor.ProcessingSc
 import io.evitadb.core.query.extraResult.ExtraResultProducer;
 import io.evitadb.core.query.extraResult.translator.RequireConstraintTranslator;
 import io.evitadb.core.query.extraResult.translator.histogram.producer.PriceHistogramProducer;
-import io.evitadb.core.query.sort.price.FilteredPricesSorter;
 import io.evitadb.dataType.Scope;
 import io.evitadb.utils.Assert;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import java.util.Optional;
 import java.util.Set;
 
-import static java.util.Optional.ofNullable;
 
 /**
  * This implementation of {@link RequireConstraintTranslator} converts {@link PriceHistogram} to
@@ -55,7 +52,7 @@ import static java.util.Optional.ofNullable;
  * has already been constructed with its per-inner-record side-output enabled — the filter planner reads
  * {@code QueryPlanningContext.isPriceHistogramRequested()} at LP-construction time and sets the flag on each
  * LP built outside {@code userFilter} scope. The translator therefore does NOT rewrite the tree; it just
- * hands the filtering formula and the optional sorter result straight to the producer. The producer relaxes
+ * hands the filtering formula straight to the producer. The producer relaxes
  * the tree (price-between carriers peeled) at fabrication time and harvests the histogram-aware accessors
  * from that single relaxed view — no separate strip pass is needed at planning.
  *
@@ -82,20 +79,13 @@ public class PriceHistogramTranslator implements RequireConstraintTranslator<Pri
 			);
 		}
 
-		// find FilteredPricesSorter among the sorters (if any)
-		final Optional<FilteredPricesSorter> filteredPricesSorter = ofNullable(
-			extraResultPlanner.findSorter(FilteredPricesSorter.class)
-		);
-
-		// create price histogram producer that computes the result
+		// create price histogram producer that computes the result - price records already resolved by the price
+		// sorter are shared through the query execution context at the time the histogram is computed
 		return new PriceHistogramProducer(
 			priceHistogram.getRequestedBucketCount(),
 			priceHistogram.getBehavior(),
 			extraResultPlanner.getQueryContext(),
-			extraResultPlanner.getFilteringFormula(),
-			filteredPricesSorter
-				.map(FilteredPricesSorter::getPriceRecordsLookupResult)
-				.orElse(null)
+			extraResultPlanner.getFilteringFormula()
 		);
 	}
 
@@ -23,6 +23,7 @@
 
 package io.evitadb.core.query.extraResult.translator.histogram.producer;
 
+import com.carrotsearch.hppc.IntIntHashMap;
 import io.evitadb.api.query.require.HistogramBehavior;
 import io.evitadb.api.query.require.QueryPriceMode;
 import io.evitadb.api.requestResponse.schema.dto.EntitySchema;
@@ -39,13 +40,15 @@ import io.evitadb.core.query.extraResult.CacheableEvitaResponseExtraResultComput
 import io.evitadb.core.query.extraResult.translator.histogram.cache.CacheableHistogram;
 import io.evitadb.core.query.extraResult.translator.histogram.cache.CacheableHistogramContract;
 import io.evitadb.core.query.extraResult.translator.histogram.cache.FlattenedHistogramComputer;
-import io.evitadb.core.query.sort.price.FilteredPriceRecordsCollector;
+import io.evitadb.core.query.sort.price.FilteredPricesSorter;
 import io.evitadb.index.bitmap.Bitmap;
 import io.evitadb.index.bitmap.RoaringBitmapBackedBitmap;
 import io.evitadb.index.price.model.priceRecord.PriceRecord;
 import io.evitadb.index.price.model.priceRecord.PriceRecordContract;
+import io.evitadb.roaringbitmap.PersistentRoaringBitmap;
 import io.evitadb.utils.ArrayUtils;
 import io.evitadb.utils.Assert;
+import lombok.Getter;
 import net.openhft.hashing.LongHashFunction;
 
 import javax.annotation.Nonnull;
@@ -53,7 +56,6 @@ import javax.annotation.Nullable;
 import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.Comparator;
 import java.util.Objects;
 import java.util.function.Consumer;
 import java.util.function.ToIntFunction;
@@ -68,18 +70,25 @@ import static java.util.Optional.ofNullable;
  * The computation strategy depends on what {@link io.evitadb.api.requestResponse.data.PriceInnerRecordHandling}
  * the matched entities use:
  *
- * - **`NONE` / `SUM`**: the per-entity price records collected by the main formula path are fed directly to the
- *   histogram cruncher via the existing {@link FilteredPriceRecordsCollector} path.
+ * - **`NONE` / `SUM`**: the per-entity price records are streamed from the {@link FilteredPriceRecordAccessor}s and
+ *   folded into per-amount occurrence counts on the fly - no intermediate {@link PriceRecordContract} array is
+ *   materialized. When the price records of the filtering result were already resolved within the same query
+ *   (e.g. by {@link FilteredPricesSorter}) and registered in
+ *   {@link QueryExecutionContext#getFilteredPriceRecordsLookupCache()}, they are folded from there instead.
  * - **`LOWEST_PRICE`**: the filter planner constructs every outer {@link LowestPriceTerminationFormula} in
  *   the filtering tree with its `collectPerInnerRecordPrices` flag enabled, so {@code computeInternal()}
  *   populates a per-inner-record side-output funnel alongside the regular per-entity result. When every
  *   {@link FilteredPriceRecordAccessor} in {@link #filteredPriceRecordAccessors} exposes that side-output
  *   (checked by {@link #allAccessorsExposePerInnerRecordHistogram()}), the
- *   {@link FilteredPriceRecordsCollector} is bypassed and the per-inner-record records are merged directly.
+ *   per-entity lookup is bypassed and the per-inner-record records are merged and folded directly.
  *   This ensures the histogram reports one bucket data point per inner-record-id rather than one per entity.
  *
- * The computed result is memoized in {@link #memoizedResult}; the intermediate price records array is memoized in
- * {@link #memoizedPriceRecords}. Both fields are `null` until {@link #compute()} is first invoked.
+ * Both histogram crunchers accept weighted data points, so folding the records to distinct price amounts with their
+ * occurrence counts produces the very same histogram as bucketing every single record, while sorting only
+ * the distinct amounts.
+ *
+ * The computed result is memoized in {@link #memoizedResult}; the intermediate folded price amounts are memoized in
+ * {@link #memoizedPriceAmounts}. Both fields are `null` until {@link #compute()} is first invoked.
  */
 public class PriceHistogramComputer implements CacheableEvitaResponseExtraResultComputer<CacheableHistogramContract> {
 	/**
@@ -127,11 +136,6 @@ public class PriceHistogramComputer implements CacheableEvitaResponseExtraResult
 	 * used in filtering formula processing.
 	 */
 	@Nonnull private final Collection<FilteredPriceRecordAccessor> filteredPriceRecordAccessors;
-	/**
-	 * Contains existing {@link FilteredPriceRecordsLookupResult} if it was already produced by filtering or sorter logic.
-	 * We can reuse already computed data in this producer and save precious ticks.
-	 */
-	@Nullable private final FilteredPriceRecordsLookupResult priceRecordsLookupResult;
 	/**
 	 * Contains memoized value of {@link #getHash()} method.
 	 */
@@ -157,10 +161,15 @@ public class PriceHistogramComputer implements CacheableEvitaResponseExtraResult
 	 */
 	private final Long transactionalIdHash;
 	/**
-	 * Contains price record array that all price records that represents source records for price histogram computation.
-	 * It is initialized during {@link #compute()} method and result is memoized, so it's ensured it's computed only once.
+	 * Contains distinct price amounts (in ascending order) along with the count of price records having this amount
+	 * that represent the source data for price histogram computation. It is initialized during {@link #compute()}
+	 * method and result is memoized, so it's ensured it's computed only once.
+	 */
+	private PriceAmountOccurrence[] memoizedPriceAmounts;
+	/**
+	 * Contains the number of price records folded into {@link #memoizedPriceAmounts}.
 	 */
-	private PriceRecordContract[] memoizedPriceRecords;
+	private int memoizedPriceRecordCount;
 	/**
 	 * Contains result - computed histogram. The value is initialized during {@link #compute()} method, and it is
 	 * memoized, so it's ensured it's computed only once.
@@ -174,41 +183,39 @@ public class PriceHistogramComputer implements CacheableEvitaResponseExtraResult
 	 * @param bucketCount        requested number of buckets
 	 * @param behavior           histogram behavior (STANDARD, OPTIMIZED, EQUALIZED, EQUALIZED_OPTIMIZED)
 	 * @param indexedPricePlaces number of decimal places for price indexing
-	 * @param priceRecords       sorted array of price records
-	 * @param priceRetriever     function to extract price value from price record
-	 * @return histogram data cruncher or null if price records are empty
+	 * @param priceAmounts       distinct price amounts with their occurrence counts in ascending order
+	 * @return histogram data cruncher or null if price amounts are empty
 	 */
 	@Nullable
-	private static HistogramDataCruncherContract<PriceRecordContract> createHistogramDataCruncher(
+	private static HistogramDataCruncherContract<PriceAmountOccurrence> createHistogramDataCruncher(
 		int bucketCount,
 		@Nonnull HistogramBehavior behavior,
 		int indexedPricePlaces,
-		@Nonnull PriceRecordContract[] priceRecords,
-		@Nonnull ToIntFunction<PriceRecordContract> priceRetriever
+		@Nonnull PriceAmountOccurrence[] priceAmounts
 	) {
-		if (ArrayUtils.isEmpty(priceRecords)) {
+		if (ArrayUtils.isEmpty(priceAmounts)) {
 			return null;
 		}
 
 		return switch (behavior) {
 			case STANDARD -> new HistogramDataCruncher<>(
-				"price histogram", bucketCount, indexedPricePlaces, priceRecords,
-				priceRetriever,
-				value -> 1,
+				"price histogram", bucketCount, indexedPricePlaces, priceAmounts,
+				PriceAmountOccurrence::amount,
+				PriceAmountOccurrence::occurrences,
 				value -> indexedPricePlaces == 0 ? new BigDecimal(value) : new BigDecimal(value).scaleByPowerOfTen(-1 * indexedPricePlaces),
 				value -> indexedPricePlaces == 0 ? value.intValueExact() : value.scaleByPowerOfTen(indexedPricePlaces).intValueExact()
 			);
 			case OPTIMIZED -> HistogramDataCruncher.createOptimalHistogram(
-				"price histogram", bucketCount, indexedPricePlaces, priceRecords,
-				priceRetriever,
-				value -> 1,
+				"price histogram", bucketCount, indexedPricePlaces, priceAmounts,
+				PriceAmountOccurrence::amount,
+				PriceAmountOccurrence::occurrences,
 				value -> indexedPricePlaces == 0 ? new BigDecimal(value) : new BigDecimal(value).scaleByPowerOfTen(-1 * indexedPricePlaces),
 				value -> indexedPricePlaces == 0 ? value.intValueExact() : value.scaleByPowerOfTen(indexedPricePlaces).intValueExact()
 			);
 			case EQUALIZED -> new EqualizedHistogramDataCruncher<>(
-				"price histogram", bucketCount, indexedPricePlaces, priceRecords,
-				priceRetriever,
-				value -> 1,
+				"price histogram", bucketCount, indexedPricePlaces, priceAmounts,
+				PriceAmountOccurrence::amount,
+				PriceAmountOccurrence::occurrences,
 				value -> indexedPricePlaces == 0 ? new BigDecimal(value) : new BigDecimal(value).scaleByPowerOfTen(-1 * indexedPricePlaces),
 				EqualizedHistogramDataCruncher.BucketCountMode.EXACT
 			);
@@ -216,9 +223,9 @@ public class PriceHistogramComputer implements CacheableEvitaResponseExtraResult
 				"price histogram",
 				bucketCount,
 				indexedPricePlaces,
-				priceRecords,
-				priceRetriever,
-				value -> 1,
+				priceAmounts,
+				PriceAmountOccurrence::amount,
+				PriceAmountOccurrence::occurrences,
 				value -> indexedPricePlaces == 0 ? new BigDecimal(value) : new BigDecimal(value).scaleByPowerOfTen(-1 * indexedPricePlaces),
 				EqualizedHistogramDataCruncher.BucketCountMode.ADAPTIVE
 			);
@@ -232,13 +239,11 @@ public class PriceHistogramComputer implements CacheableEvitaResponseExtraResult
 		@Nonnull QueryPriceMode queryPriceMode,
 		@Nonnull Formula filteringFormula,
 		@Nullable Formula filteringFormulaWithFilteredOutRecords,
-		@Nonnull Collection<FilteredPriceRecordAccessor> filteredPriceRecordAccessors,
-		@Nullable FilteredPriceRecordsLookupResult priceRecordsLookupResult
+		@Nonnull Collection<FilteredPriceRecordAccessor> filteredPriceRecordAccessors
 	) {
 		this(
 			null, bucketCount, behavior, indexedPricePlaces, queryPriceMode,
-			filteringFormula, filteringFormulaWithFilteredOutRecords, filteredPriceRecordAccessors,
-			priceRecordsLookupResult
+			filteringFormula, filteringFormulaWithFilteredOutRecords, filteredPriceRecordAccessors
 		);
 	}
 
@@ -250,8 +255,7 @@ public class PriceHistogramComputer implements CacheableEvitaResponseExtraResult
 		@Nonnull QueryPriceMode queryPriceMode,
 		@Nonnull Formula filteringFormula,
 		@Nullable Formula filteringFormulaWithFilteredOutRecords,
-		@Nonnull Collection<FilteredPriceRecordAccessor> filteredPriceRecordAccessors,
-		@Nullable FilteredPriceRecordsLookupResult priceRecordsLookupResult
+		@Nonnull Collection<FilteredPriceRecordAccessor> filteredPriceRecordAccessors
 	) {
 		this.onComputationCallback = null;
 		this.bucketCount = bucketCount;
@@ -261,7 +265,6 @@ public class PriceHistogramComputer implements CacheableEvitaResponseExtraResult
 		this.filteringFormula = filteringFormula;
 		this.filteringFormulaWithFilteredOutRecords = filteringFormulaWithFilteredOutRecords;
 		this.filteredPriceRecordAccessors = filteredPriceRecordAccessors;
-		this.priceRecordsLookupResult = priceRecordsLookupResult;
 
 		this.hash = HASH_FUNCTION.hashLongs(
 			new long[]{
@@ -332,7 +335,7 @@ public class PriceHistogramComputer implements CacheableEvitaResponseExtraResult
 			if (this.memoizedResult == null) {
 				return Long.MAX_VALUE;
 			} else {
-				this.cost = getPriceRecords().length * getOperationCost();
+				this.cost = this.memoizedPriceRecordCount * getOperationCost();
 			}
 		}
 		return this.cost;
@@ -389,7 +392,7 @@ public class PriceHistogramComputer implements CacheableEvitaResponseExtraResult
 		return new PriceHistogramComputer(
 			selfOperator, this.bucketCount, this.behavior, this.indexedPricePlaces, this.queryPriceMode,
 			this.filteringFormula, this.filteringFormulaWithFilteredOutRecords,
-			this.filteredPriceRecordAccessors, this.priceRecordsLookupResult
+			this.filteredPriceRecordAccessors
 		);
 	}
 
@@ -397,35 +400,17 @@ public class PriceHistogramComputer implements CacheableEvitaResponseExtraResult
 	@Override
 	public CacheableHistogramContract compute() {
 		if (this.memoizedResult == null) {
-			final PriceRecordContract[] priceRecords = getPriceRecords();
-			if (!ArrayUtils.isEmpty(priceRecords)) {
-				// initialize comparator and price extractor according to query price mode
-				final Comparator<PriceRecordContract> priceComparator;
-				final ToIntFunction<PriceRecordContract> priceRetriever;
-				if (this.queryPriceMode == QueryPriceMode.WITH_TAX) {
-					priceComparator = Comparator.comparingInt(PriceRecordContract::priceWithTax);
-					priceRetriever = PriceRecordContract::priceWithTax;
-				} else {
-					priceComparator = Comparator.comparingInt(PriceRecordContract::priceWithoutTax);
-					priceRetriever = PriceRecordContract::priceWithoutTax;
-				}
-
-				// sort prices by price in ascending order (histograms are always sorted from low to high value)
-				Arrays.sort(priceRecords, priceComparator);
+			final PriceAmountOccurrence[] priceAmounts = getPriceAmounts();
+			// create cruncher that will compute the histogram (amounts are already sorted in ascending order)
+			final HistogramDataCruncherContract<PriceAmountOccurrence> histogramCruncher = createHistogramDataCruncher(
+				this.bucketCount, this.behavior, this.indexedPricePlaces, priceAmounts
+			);
 
-				// create cruncher that will compute the histogram
-				final HistogramDataCruncherContract<PriceRecordContract> histogramCruncher = createHistogramDataCruncher(
-					this.bucketCount, this.behavior, this.indexedPricePlaces, priceRecords, priceRetriever
+			if (histogramCruncher != null) {
+				this.memoizedResult = new CacheableHistogram(
+					histogramCruncher.getHistogram(),
+					histogramCruncher.getMaxValue()
 				);
-
-				if (histogramCruncher != null) {
-					this.memoizedResult = new CacheableHistogram(
-						histogramCruncher.getHistogram(),
-						histogramCruncher.getMaxValue()
-					);
-				} else {
-					this.memoizedResult = CacheableHistogramContract.EMPTY;
-				}
 			} else {
 				this.memoizedResult = CacheableHistogramContract.EMPTY;
 			}
@@ -436,32 +421,42 @@ public class PriceHistogramComputer implements CacheableEvitaResponseExtraResult
 	}
 
 	/**
-	 * Collects the price records to compute price histogram from. It finds out all price related formulas and extracts
-	 * the price records that survived filtering. The logic also "disables" the {@link PricePredicate} used in formulas
-	 * within {@link UserFilterFormula}. These must be ignored while computing price histogram.
+	 * Folds the price records to compute price histogram from into distinct price amounts with their occurrence
+	 * counts. It finds out all price related formulas and extracts the price records that survived filtering.
+	 * The logic also "disables" the {@link PricePredicate} used in formulas within {@link UserFilterFormula}. These
+	 * must be ignored while computing price histogram.
 	 *
 	 * Branching:
 	 *
 	 * - When every accessor in {@link #filteredPriceRecordAccessors} exposes the per-inner-record
 	 *   side-output prepared at construction time by {@link LowestPriceTerminationFormula} (or its
-	 *   flattened cache sibling {@link FlattenedFormulaWithFilteredPricesForHistogram}), the
-	 *   {@link FilteredPriceRecordsCollector} is bypassed entirely so the histogram reports one bucket
-	 *   data point per inner record id, not per entity. The {@code PriceHistogramTranslator} collects
-	 *   this accessor list from a {@code withoutUserFilter} view of the filtering tree so the inner
-	 *   {@link LowestPriceTerminationFormula} produced by {@code priceBetween} (which would otherwise
-	 *   double-count the same entities) does not show up here.
-	 * - Otherwise (`NONE`/`SUM` handling, mixed catalog, or no LOWEST_PRICE LP at all) the existing
-	 *   collector path runs unchanged.
+	 *   flattened cache sibling {@link FlattenedFormulaWithFilteredPricesForHistogram}), the per-entity
+	 *   lookup is bypassed entirely so the histogram reports one bucket data point per inner record id,
+	 *   not per entity. The {@code PriceHistogramTranslator} collects this accessor list from a
+	 *   {@code withoutUserFilter} view of the filtering tree so the inner {@link LowestPriceTerminationFormula}
+	 *   produced by {@code priceBetween} (which would otherwise double-count the same entities) does not show
+	 *   up here.
+	 * - Otherwise (`NONE`/`SUM` handling, mixed catalog, or no LOWEST_PRICE LP at all) the per-entity price
+	 *   records are streamed into the fold by {@link #foldPerEntityPriceRecords(PriceAmountFolder)}.
 	 */
-	private PriceRecordContract[] getPriceRecords() {
-		if (this.memoizedPriceRecords == null) {
+	@Nonnull
+	private PriceAmountOccurrence[] getPriceAmounts() {
+		if (this.memoizedPriceAmounts == null) {
+			final PriceAmountFolder folder = new PriceAmountFolder(
+				this.queryPriceMode == QueryPriceMode.WITH_TAX ?
+					PriceRecordContract::priceWithTax : PriceRecordContract::priceWithoutTax
+			);
 			if (allAccessorsExposePerInnerRecordHistogram()) {
-				this.memoizedPriceRecords = collectPerInnerRecordHistogramRecords();
+				for (PriceRecordContract priceRecord : collectPerInnerRecordHistogramRecords()) {
+					folder.accept(priceRecord);
+				}
 			} else {
-				this.memoizedPriceRecords = collectViaPriceRecordsCollector();
+				foldPerEntityPriceRecords(folder);
 			}
+			this.memoizedPriceRecordCount = folder.getFoldedRecords();
+			this.memoizedPriceAmounts = folder.toSortedOccurrences();
 		}
-		return this.memoizedPriceRecords;
+		return this.memoizedPriceAmounts;
 	}
 
 	/**
@@ -495,50 +490,104 @@ public class PriceHistogramComputer implements CacheableEvitaResponseExtraResult
 	}
 
 	/**
-	 * Original per-entity collector path used for `NONE`/`SUM` handling — bypassed by the per-inner-record
-	 * histogram path above when every accessor exposes the histogram-aware side-output. Three sub-branches:
+	 * Per-entity path used for `NONE`/`SUM` handling — bypassed by the per-inner-record histogram path above when
+	 * every accessor exposes the histogram-aware side-output. The histogram covers the entities of the filtering
+	 * result plus the entities excluded only by the price-between user filter (if any), so that it reflects
+	 * the prices that would be reachable if the user cleared the price slider. Each entity contributes its prices
+	 * exactly once:
 	 *
-	 * 1. **No price-between user filter** (`filteringFormulaWithFilteredOutRecords == null`) — the
-	 *    filtering result itself is the full histogram baseline; the collector's per-entity output is
-	 *    returned verbatim.
-	 * 2. **Price-between user filter present, no records filtered out** — the filtering result still
-	 *    covers the baseline since no entity was actually excluded by the price-between predicate; the
-	 *    collector's output is returned verbatim, avoiding a redundant combine call.
-	 * 3. **Price-between user filter present, with filtered-out records** — the relaxed remainder is
-	 *    combined with the filtering-result records so the histogram reflects the entities that would be
-	 *    reachable if the user cleared the price slider.
+	 * 1. **Filtering result already resolved** by another consumer of this query (typically {@link FilteredPricesSorter})
+	 *    — its price records are folded from the shared lookup and only the excluded remainder is streamed.
+	 * 2. **Otherwise** — the union of the filtering result and the excluded remainder is streamed in a single pass
+	 *    without materializing any price record array.
 	 */
-	@Nonnull
-	private PriceRecordContract[] collectViaPriceRecordsCollector() {
-		// create price records collector reusing existing data or computing them from scratch
-		final FilteredPriceRecordsCollector priceRecordsCollector = this.priceRecordsLookupResult == null ?
-			new FilteredPriceRecordsCollector(
-				RoaringBitmapBackedBitmap.getRoaringBitmap(this.filteringFormula.compute()),
-				this.filteredPriceRecordAccessors,
-				this.context
-			) :
-			new FilteredPriceRecordsCollector(
-				this.priceRecordsLookupResult,
-				this.filteredPriceRecordAccessors,
-				this.context
+	private void foldPerEntityPriceRecords(@Nonnull PriceAmountFolder folder) {
+		final PersistentRoaringBitmap filteringResult = RoaringBitmapBackedBitmap.getRoaringBitmap(
+			this.filteringFormula.compute()
+		);
+		// compute the remainder with altered filtering formula - entities filtered out solely by price between query
+		PersistentRoaringBitmap filteredOutRemainder = null;
+		if (this.filteringFormulaWithFilteredOutRecords != null) {
+			final Bitmap pricePredicateFilteredOutEntities = this.filteringFormulaWithFilteredOutRecords.compute();
+			if (!pricePredicateFilteredOutEntities.isEmpty()) {
+				filteredOutRemainder = PersistentRoaringBitmap.andNot(
+					RoaringBitmapBackedBitmap.getRoaringBitmap(pricePredicateFilteredOutEntities),
+					filteringResult
+				);
+			}
+		}
+
+		// the context is missing only when the computer is exercised in isolation (cost measurements)
+		final FilteredPriceRecordsLookupResult sharedLookupResult = this.context == null ?
+			null :
+			this.context.getFilteredPriceRecordsLookupCache().get(filteringResult, this.filteredPriceRecordAccessors);
+		final PersistentRoaringBitmap entitiesToStream;
+		if (sharedLookupResult != null) {
+			for (PriceRecordContract priceRecord : sharedLookupResult.getPriceRecords()) {
+				folder.accept(priceRecord);
+			}
+			entitiesToStream = filteredOutRemainder;
+		} else {
+			entitiesToStream = filteredOutRemainder == null ?
+				filteringResult : PersistentRoaringBitmap.or(filteringResult, filteredOutRemainder);
+		}
+
+		if (entitiesToStream != null && !entitiesToStream.isEmpty()) {
+			FilteredPriceRecords.foldFilteredPriceRecordsFromPriceRecordAccessors(
+				this.filteredPriceRecordAccessors, entitiesToStream, this.context, folder
 			);
+		}
+	}
 
-		// collect all price records that match filtering formula computation (ignoring price between query)
-		if (this.filteringFormulaWithFilteredOutRecords == null) {
-			// there were no entity pks filtered out due to price between query, we can simply reuse
-			// the filtering query result
-			return priceRecordsCollector.getResult().getPriceRecords();
+	/**
+	 * Single data point of the price histogram - distinct price amount and the number of price records having it.
+	 *
+	 * @param amount      price amount (with or without tax according to the query price mode)
+	 * @param occurrences number of price records with this amount
+	 */
+	private record PriceAmountOccurrence(int amount, int occurrences) {
+	}
+
+	/**
+	 * Consumer folding the streamed price records into occurrence counts of their distinct price amounts.
+	 */
+	private static final class PriceAmountFolder implements Consumer<PriceRecordContract> {
+		/**
+		 * Function extracting the price amount according to the query price mode.
+		 */
+		@Nonnull private final ToIntFunction<PriceRecordContract> priceRetriever;
+		/**
+		 * Occurrence counts indexed by the price amount.
+		 */
+		private final IntIntHashMap occurrences = new IntIntHashMap(256);
+		/**
+		 * Number of all folded price records.
+		 */
+		@Getter private int foldedRecords;
+
+		PriceAmountFolder(@Nonnull ToIntFunction<PriceRecordContract> priceRetriever) {
+			this.priceRetriever = priceRetriever;
 		}
-		// now compute the remainder with altered filtering formula
-		final Bitmap pricePredicateFilteredOutEntities = this.filteringFormulaWithFilteredOutRecords.compute();
-		if (pricePredicateFilteredOutEntities.isEmpty()) {
-			// we can simply reuse the filtering query result as is, nothing has been filtered out
-			return priceRecordsCollector.getResult().getPriceRecords();
+
+		@Override
+		public void accept(PriceRecordContract priceRecord) {
+			this.occurrences.addTo(this.priceRetriever.applyAsInt(priceRecord), 1);
+			this.foldedRecords++;
+		}
+
+		/**
+		 * Returns the folded price amounts sorted in ascending order (histograms are always sorted from low
+		 * to high value).
+		 */
+		@Nonnull
+		PriceAmountOccurrence[] toSortedOccurrences() {
+			final int[] amounts = this.occurrences.keys().toArray();
+			Arrays.sort(amounts);
+			final PriceAmountOccurrence[] result = new PriceAmountOccurrence[amounts.length];
+			for (int i = 0; i < amounts.length; i++) {
+				result[i] = new PriceAmountOccurrence(amounts[i], this.occurrences.get(amounts[i]));
+			}
+			return result;
 		}
-		// we have to combine filtering query result with computed remainder in order to get all price records
-		// regardless of the price between query
-		return priceRecordsCollector.combineResultWithAndReturnPriceRecords(
-			RoaringBitmapBackedBitmap.getRoaringBitmap(pricePredicateFilteredOutEntities)
-		);
 	}
 }
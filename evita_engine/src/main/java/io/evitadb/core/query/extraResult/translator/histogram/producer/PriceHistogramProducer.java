@@ -33,7 +33,6 @@ import io.evitadb.core.query.algebra.base.EmptyFormula;
 import io.evitadb.core.query.algebra.facet.UserFilterFormula;
 import io.evitadb.core.query.algebra.price.FilteredOutPriceRecordAccessor;
 import io.evitadb.core.query.algebra.price.FilteredPriceRecordAccessor;
-import io.evitadb.core.query.algebra.price.FilteredPriceRecordsLookupResult;
 import io.evitadb.core.query.algebra.utils.visitor.FormulaFinder;
 import io.evitadb.core.query.algebra.utils.visitor.FormulaFinder.LookUp;
 import io.evitadb.core.query.extraResult.ExtraResultProducer;
@@ -79,11 +78,6 @@ public class PriceHistogramProducer implements ExtraResultProducer {
 	 * sorting.
 	 */
 	@Nonnull private final Formula filteringFormula;
-	/**
-	 * Contains existing {@link FilteredPriceRecordsLookupResult} if it was already produced by filtering or sorter logic.
-	 * We can reuse already computed data in this producer and save precious ticks.
-	 */
-	@Nullable private final FilteredPriceRecordsLookupResult priceRecordsLookupResult;
 
 	@Nullable
 	@Override
@@ -154,7 +148,7 @@ public class PriceHistogramProducer implements ExtraResultProducer {
 			this.queryContext.getQueryPriceMode(),
 			this.filteringFormula,
 			filteringFormulaWithFilteredOutRecords,
-			filteredPriceRecordAccessors, this.priceRecordsLookupResult
+			filteredPriceRecordAccessors
 		);
 	}
 
@@ -90,7 +90,7 @@ public class MemoizingFacetCalculator implements FacetCalculator, ImpactCalculat
 		this.executionContext = queryContext;
 		this.baseFormula = queryContext.analyse(optimizedFormula);
 		this.baseFormulaWithoutUserFilter = baseFormulaWithoutUserFilter;
-		this.baseMatchCount = baseFormula.compute().size();
+		this.baseMatchCount = baseFormula.computeCardinality();
 		this.facetFormulaGenerator = new FacetFormulaGenerator(
 			queryContext::isFacetGroupConjunction,
 			queryContext::isFacetGroupDisjunction,
@@ -116,7 +116,7 @@ public class MemoizingFacetCalculator implements FacetCalculator, ImpactCalculat
 		// initialize the formula
 		hypotheticalFormula.initialize(this.executionContext);
 		// compute the hypothetical result
-		final int hypotheticalCount = hypotheticalFormula.compute().size();
+		final int hypotheticalCount = hypotheticalFormula.computeCardinality();
 		// and return computed impact
 		final int difference = hypotheticalCount - this.baseMatchCount;
 		return new RequestImpact(
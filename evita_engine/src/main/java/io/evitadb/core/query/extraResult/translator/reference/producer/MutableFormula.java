@@ -145,6 +145,11 @@ class MutableFormula implements Formula {
 		return getInnerFormula().compute();
 	}
 
+	@Override
+	public int computeCardinality() {
+		return getInnerFormula().computeCardinality();
+	}
+
 	@Nullable
 	@Override
 	public Bitmap getMemoizedResult() {
@@ -1020,7 +1020,7 @@ public class ReferenceSummaryProducer implements ExtraResultProducer {
 					final Formula entityMatchingAnyOfGroupFacetFormula = this.countCalculator.createGroupCountFormula(
 						referenceSchema, groupAcc.getGroupId(), allFacetEntityIds
 					);
-					final int entityMatchingAnyOfGroupFacet = entityMatchingAnyOfGroupFacetFormula.compute().size();
+					final int entityMatchingAnyOfGroupFacet = entityMatchingAnyOfGroupFacetFormula.computeCardinality();
 					if (entityMatchingAnyOfGroupFacet == 0) {
 						continue;
 					}
@@ -1299,7 +1299,7 @@ public class ReferenceSummaryProducer implements ExtraResultProducer {
 				);
 			}
 			// this is the most expensive call in this very class
-			return this.resultFormula.compute().size();
+			return this.resultFormula.computeCardinality();
 		}
 	}
 
@@ -27,7 +27,6 @@ import io.evitadb.core.query.QueryExecutionContext;
 import io.evitadb.core.query.algebra.Formula;
 import io.evitadb.core.query.algebra.price.FilteredPriceRecordAccessor;
 import io.evitadb.core.query.algebra.price.FilteredPriceRecordsLookupResult;
-import io.evitadb.core.query.algebra.price.filteredPriceRecords.FilteredPriceRecords;
 import io.evitadb.core.query.extraResult.translator.histogram.producer.PriceHistogramProducer;
 import io.evitadb.dataType.array.CompositeObjectArray;
 import io.evitadb.index.price.model.priceRecord.PriceRecord;
@@ -128,7 +127,9 @@ public class FilteredPriceRecordsCollector {
 	/**
 	 * This method collects set of price records that corresponds with entity PKs in computed bitmap and that can be
 	 * used for sorting them. Method fills that information in the `result` I/O parameter and returns also integer
-	 * array of entity ids for which the price records were not found.
+	 * array of entity ids for which the price records were not found. The lookup is shared with other consumers
+	 * of the same query via {@link QueryExecutionContext#getFilteredPriceRecordsLookupCache()} - the returned price
+	 * record array must not be reordered in place.
 	 */
 	@Nonnull
 	protected FilteredPriceRecordsLookupResult computeResult(
@@ -136,9 +137,9 @@ public class FilteredPriceRecordsCollector {
 		@Nonnull Collection<FilteredPriceRecordAccessor> filteredPriceRecordAccessors,
 		@Nonnull QueryExecutionContext context
 	) {
-		return FilteredPriceRecords.collectFilteredPriceRecordsFromPriceRecordAccessors(
-			filteredPriceRecordAccessors,
+		return context.getFilteredPriceRecordsLookupCache().getOrCompute(
 			filteredResults,
+			filteredPriceRecordAccessors,
 			context
 		);
 	}
@@ -38,7 +38,6 @@ import io.evitadb.index.bitmap.RoaringBitmapBackedBitmap;
 import io.evitadb.index.price.model.priceRecord.PriceRecord;
 import io.evitadb.index.price.model.priceRecord.PriceRecordContract;
 import io.evitadb.utils.Assert;
-import lombok.Getter;
 import io.evitadb.roaringbitmap.PersistentRoaringBitmap;
 
 import javax.annotation.Nonnull;
@@ -91,7 +90,7 @@ public class FilteredPricesSorter implements Sorter {
 	 * Contains DTO that holds array of all {@link PriceRecord} that match entity primary keys produced by filtering
 	 * formula and also array of entity primary keys that are not linked to any price.
 	 */
-	@Getter private FilteredPriceRecordsLookupResult priceRecordsLookupResult;
+	private FilteredPriceRecordsLookupResult priceRecordsLookupResult;
 
 	public FilteredPricesSorter(
 		@Nonnull OrderDirection sortOrder,
@@ -134,8 +133,10 @@ public class FilteredPricesSorter implements Sorter {
 			);
 		}
 
-		// now sort filtered prices by passed comparator
-		final PriceRecordContract[] translatedResult = this.priceRecordsLookupResult.getPriceRecords();
+		// now sort filtered prices by passed comparator - the lookup result is shared with other consumers of the query
+		// that rely on its entity primary key ordering, so we need to sort a copy
+		final PriceRecordContract[] lookedUpRecords = this.priceRecordsLookupResult.getPriceRecords();
+		final PriceRecordContract[] translatedResult = Arrays.copyOf(lookedUpRecords, lookedUpRecords.length);
 		Arrays.sort(translatedResult, getPriceRecordComparator());
 
 		// determine the count and set of non-found (not-sorted) entities
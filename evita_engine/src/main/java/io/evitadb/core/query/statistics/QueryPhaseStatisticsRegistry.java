@@ -0,0 +1,200 @@
+/*
+ *
+ *                         _ _        ____  ____
+ *               _____   _(_) |_ __ _|  _ \| __ )
+ *              / _ \ \ / / | __/ _` | | | |  _ \
+ *             |  __/\ V /| | || (_| | |_| | |_) |
+ *              \___| \_/ |_|\__\__,_|____/|____/
+ *
+ *   Copyright (c) 2026
+ *
+ *   Licensed under the Business Source License, Version 1.1 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://github.com/FgForrest/evitaDB/blob/master/LICENSE
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.evitadb.core.query.statistics;
+
+import io.evitadb.api.requestResponse.extraResult.QueryTelemetry.QueryPhase;
+import io.evitadb.utils.CollectionUtils;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Always-on registry of the durations of the {@link QueryPhaseTimer#REPORTED_PHASES query phases} of a single
+ * catalog, aggregated into histograms per entity type and phase. The registry is shared by all versions of
+ * the catalog and is updated at the end of each top-level query - regardless of whether the query requested
+ * the telemetry or not - so that the latency regressions can be attributed to planning, filtering, sorting or
+ * entity fetching in the dashboards.
+ *
+ * Recording is lock-free and allocation-free for already known entity types - the histograms have a fixed
+ * {@link #BUCKET_UPPER_BOUNDS_IN_MICROSECONDS bucket layout} and consist only of {@link LongAdder adders}.
+ * The number of entity types is bounded by the catalog schema, so the registry doesn't need any limit.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+@ThreadSafe
+public class QueryPhaseStatisticsRegistry {
+	/**
+	 * Upper bounds (inclusive) of the histogram buckets in microseconds - exponential buckets from 50 µs to ~6.5 s.
+	 * The implicit last bucket collects all the longer durations.
+	 */
+	public static final long[] BUCKET_UPPER_BOUNDS_IN_MICROSECONDS;
+	/**
+	 * Key used for the queries that don't target a single entity collection.
+	 */
+	private static final String NO_ENTITY_TYPE = "";
+
+	static {
+		BUCKET_UPPER_BOUNDS_IN_MICROSECONDS = new long[18];
+		for (int i = 0; i < BUCKET_UPPER_BOUNDS_IN_MICROSECONDS.length; i++) {
+			BUCKET_UPPER_BOUNDS_IN_MICROSECONDS[i] = 50L << i;
+		}
+	}
+
+	/**
+	 * Histograms of the reported phases indexed by the entity type.
+	 */
+	private final ConcurrentHashMap<String, PhaseHistogram[]> histograms = CollectionUtils.createConcurrentHashMap(16);
+
+	/**
+	 * Records the phase durations of a single finished top-level query.
+	 *
+	 * @param entityType the queried entity type, null for queries not targeting a single collection
+	 * @param timer      the timer that measured the phases of the query
+	 */
+	public void record(@Nullable String entityType, @Nonnull QueryPhaseTimer timer) {
+		final String key = entityType == null ? NO_ENTITY_TYPE : entityType;
+		PhaseHistogram[] phaseHistograms = this.histograms.get(key);
+		if (phaseHistograms == null) {
+			phaseHistograms = this.histograms.computeIfAbsent(key, QueryPhaseStatisticsRegistry::createPhaseHistograms);
+		}
+		for (int i = 0; i < phaseHistograms.length; i++) {
+			final long durationInNanos = timer.getDurationInNanos(i);
+			if (durationInNanos >= 0L) {
+				phaseHistograms[i].record(TimeUnit.NANOSECONDS.toMicros(durationInNanos));
+			}
+		}
+	}
+
+	/**
+	 * Passes snapshots of all non-empty histograms to the consumer.
+	 *
+	 * @param consumer the consumer of the snapshots
+	 */
+	public void forEach(@Nonnull Consumer<QueryPhaseHistogram> consumer) {
+		for (Map.Entry<String, PhaseHistogram[]> entry : this.histograms.entrySet()) {
+			final String entityType = NO_ENTITY_TYPE.equals(entry.getKey()) ? null : entry.getKey();
+			final PhaseHistogram[] phaseHistograms = entry.getValue();
+			for (int i = 0; i < phaseHistograms.length; i++) {
+				final QueryPhaseHistogram snapshot = phaseHistograms[i].toSnapshot(entityType, QueryPhaseTimer.REPORTED_PHASES[i]);
+				if (snapshot.count() > 0L) {
+					consumer.accept(snapshot);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Creates empty histograms for all reported phases.
+	 */
+	@Nonnull
+	private static PhaseHistogram[] createPhaseHistograms(@Nonnull String entityType) {
+		final PhaseHistogram[] result = new PhaseHistogram[QueryPhaseTimer.REPORTED_PHASES.length];
+		for (int i = 0; i < result.length; i++) {
+			result[i] = new PhaseHistogram();
+		}
+		return result;
+	}
+
+	/**
+	 * Immutable snapshot of the histogram of a single phase.
+	 *
+	 * @param entityType        the queried entity type, null for queries not targeting a single collection
+	 * @param phase             the measured phase
+	 * @param bucketCounts      non-cumulative counts of the buckets, the bucket on index `i` corresponds to
+	 *                          {@link #BUCKET_UPPER_BOUNDS_IN_MICROSECONDS}`[i]`, the last one collects all the longer
+	 *                          durations
+	 * @param sumInMicroseconds sum of all recorded durations in microseconds
+	 */
+	public record QueryPhaseHistogram(
+		@Nullable String entityType,
+		@Nonnull QueryPhase phase,
+		@Nonnull long[] bucketCounts,
+		long sumInMicroseconds
+	) {
+
+		/**
+		 * Returns the total number of recorded durations.
+		 */
+		public long count() {
+			long count = 0L;
+			for (long bucketCount : this.bucketCounts) {
+				count += bucketCount;
+			}
+			return count;
+		}
+
+	}
+
+	/**
+	 * Lock-free histogram with the fixed bucket layout.
+	 */
+	private static class PhaseHistogram {
+		/**
+		 * Counts of the buckets, the last one collects durations exceeding all the upper bounds.
+		 */
+		private final LongAdder[] buckets = new LongAdder[BUCKET_UPPER_BOUNDS_IN_MICROSECONDS.length + 1];
+		/**
+		 * Sum of the recorded durations in microseconds.
+		 */
+		private final LongAdder sum = new LongAdder();
+
+		PhaseHistogram() {
+			for (int i = 0; i < this.buckets.length; i++) {
+				this.buckets[i] = new LongAdder();
+			}
+		}
+
+		/**
+		 * Records a single duration.
+		 */
+		void record(long durationInMicros) {
+			int bucket = 0;
+			while (bucket < BUCKET_UPPER_BOUNDS_IN_MICROSECONDS.length && durationInMicros > BUCKET_UPPER_BOUNDS_IN_MICROSECONDS[bucket]) {
+				bucket++;
+			}
+			this.buckets[bucket].increment();
+			this.sum.add(durationInMicros);
+		}
+
+		/**
+		 * Creates a snapshot of the histogram. The snapshot is not atomic - the values recorded concurrently with its
+		 * creation may be reflected only partially.
+		 */
+		@Nonnull
+		QueryPhaseHistogram toSnapshot(@Nullable String entityType, @Nonnull QueryPhase phase) {
+			final long[] counts = new long[this.buckets.length];
+			for (int i = 0; i < counts.length; i++) {
+				counts[i] = this.buckets[i].sum();
+			}
+			return new QueryPhaseHistogram(entityType, phase, counts, this.sum.sum());
+		}
+	}
+
+}
@@ -0,0 +1,136 @@
+/*
+ *
+ *                         _ _        ____  ____
+ *               _____   _(_) |_ __ _|  _ \| __ )
+ *              / _ \ \ / / | __/ _` | | | |  _ \
+ *             |  __/\ V /| | || (_| | |_| | |_) |
+ *              \___| \_/ |_|\__\__,_|____/|____/
+ *
+ *   Copyright (c) 2026
+ *
+ *   Licensed under the Business Source License, Version 1.1 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://github.com/FgForrest/evitaDB/blob/master/LICENSE
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.evitadb.core.query.statistics;
+
+import io.evitadb.api.requestResponse.extraResult.QueryTelemetry.QueryPhase;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.NotThreadSafe;
+import java.util.Arrays;
+
+/**
+ * Measures the time spent in the {@link #REPORTED_PHASES reported phases} of a single top-level query. The timer
+ * mirrors the `pushStep` / `popStep` calls of the query planning context, but unlike the {@link QueryPhase query
+ * telemetry} it is always on and it doesn't allocate anything after its creation - it only keeps a stack of open
+ * phases and a few primitive arrays indexed by the slot of the reported phase.
+ *
+ * When a reported phase is nested in the very same phase (e.g. a nested query), only the outermost occurrence is
+ * measured so that the time is not counted twice.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+@NotThreadSafe
+public class QueryPhaseTimer {
+	/**
+	 * Phases whose durations are aggregated - together they cover the whole query processing without overlaps.
+	 */
+	public static final QueryPhase[] REPORTED_PHASES = {
+		QueryPhase.PLANNING,
+		QueryPhase.EXECUTION_PREFETCH,
+		QueryPhase.EXECUTION_FILTER,
+		QueryPhase.EXECUTION_SORT_AND_SLICE,
+		QueryPhase.EXTRA_RESULTS_FABRICATION,
+		QueryPhase.FETCHING
+	};
+	/**
+	 * Index of the slot in {@link #REPORTED_PHASES} by the {@link QueryPhase#ordinal()}, -1 for not reported phases.
+	 */
+	private static final int[] SLOT_BY_ORDINAL;
+
+	static {
+		SLOT_BY_ORDINAL = new int[QueryPhase.values().length];
+		Arrays.fill(SLOT_BY_ORDINAL, -1);
+		for (int i = 0; i < REPORTED_PHASES.length; i++) {
+			SLOT_BY_ORDINAL[REPORTED_PHASES[i].ordinal()] = i;
+		}
+	}
+
+	/**
+	 * Stack of the currently open phases, the head is at {@link #depth} - 1.
+	 */
+	private QueryPhase[] openPhases = new QueryPhase[16];
+	/**
+	 * Number of currently open phases.
+	 */
+	private int depth;
+	/**
+	 * Number of nested occurrences of the reported phase that are currently open, indexed by the slot.
+	 */
+	private final int[] openCount = new int[REPORTED_PHASES.length];
+	/**
+	 * Time in nanoseconds when the outermost occurrence of the reported phase was opened, indexed by the slot.
+	 */
+	private final long[] openedAt = new long[REPORTED_PHASES.length];
+	/**
+	 * Accumulated duration of the reported phase in nanoseconds, indexed by the slot. Negative value means
+	 * the phase has not been entered at all.
+	 */
+	private final long[] durations = new long[REPORTED_PHASES.length];
+
+	public QueryPhaseTimer() {
+		Arrays.fill(this.durations, -1L);
+	}
+
+	/**
+	 * Opens the phase.
+	 *
+	 * @param phase the phase being started
+	 */
+	public void push(@Nonnull QueryPhase phase) {
+		if (this.depth == this.openPhases.length) {
+			this.openPhases = Arrays.copyOf(this.openPhases, this.depth << 1);
+		}
+		this.openPhases[this.depth++] = phase;
+		final int slot = SLOT_BY_ORDINAL[phase.ordinal()];
+		if (slot >= 0 && this.openCount[slot]++ == 0) {
+			this.openedAt[slot] = System.nanoTime();
+		}
+	}
+
+	/**
+	 * Closes the most recently opened phase. Does nothing if there is no open phase.
+	 */
+	public void pop() {
+		if (this.depth > 0) {
+			final QueryPhase phase = this.openPhases[--this.depth];
+			this.openPhases[this.depth] = null;
+			final int slot = SLOT_BY_ORDINAL[phase.ordinal()];
+			if (slot >= 0 && --this.openCount[slot] == 0) {
+				final long duration = System.nanoTime() - this.openedAt[slot];
+				this.durations[slot] = this.durations[slot] < 0L ? duration : this.durations[slot] + duration;
+			}
+		}
+	}
+
+	/**
+	 * Returns the accumulated duration of the reported phase.
+	 *
+	 * @param slot index of the phase in {@link #REPORTED_PHASES}
+	 * @return duration in nanoseconds or a negative number if the phase has not been finished at all
+	 */
+	public long getDurationInNanos(int slot) {
+		return this.durations[slot];
+	}
+
+}
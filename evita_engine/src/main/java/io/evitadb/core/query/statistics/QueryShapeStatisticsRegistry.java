@@ -0,0 +1,240 @@
+/*
+ *
+ *                         _ _        ____  ____
+ *               _____   _(_) |_ __ _|  _ \| __ )
+ *              / _ \ \ / / | __/ _` | | | |  _ \
+ *             |  __/\ V /| | || (_| | |_| | |_) |
+ *              \___| \_/ |_|\__\__,_|____/|____/
+ *
+ *   Copyright (c) 2026
+ *
+ *   Licensed under the Business Source License, Version 1.1 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://github.com/FgForrest/evitaDB/blob/master/LICENSE
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.evitadb.core.query.statistics;
+
+import io.evitadb.api.observability.QueryShapeStatistics;
+import io.evitadb.api.query.Query;
+import io.evitadb.api.query.visitor.QueryShapeVisitor;
+import io.evitadb.core.metric.LatencyHistogram;
+import io.evitadb.core.metric.LatencyHistogram.Summary;
+import io.evitadb.utils.CollectionUtils;
+import net.openhft.hashing.LongHashFunction;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Always-on registry of aggregated statistics of the queries executed in a single catalog, keyed by the shape of
+ * the query (see {@link QueryShapeVisitor}). The registry is shared by all versions of the catalog and is updated
+ * at the end of each top-level query, so that the most expensive query shapes can be found without recording
+ * the traffic or enabling the query telemetry.
+ *
+ * The hot path is lock-free - the accumulator of an already known shape is looked up without locking and all its
+ * counters are {@link LongAdder adders} or {@link LatencyHistogram lock-free histograms}. The number of distinct
+ * shapes is limited by {@link #MAX_SHAPES} - queries of the shapes that don't fit into the registry are accumulated
+ * in a single {@link #OTHER_SHAPES} bucket, so that the totals stay correct even for a workload with an unusual
+ * number of distinct shapes.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+@ThreadSafe
+public class QueryShapeStatisticsRegistry {
+	/**
+	 * Maximal number of distinct shapes tracked by the registry.
+	 */
+	public static final int MAX_SHAPES = 512;
+	/**
+	 * Shape of the bucket accumulating all the queries whose shape didn't fit into the registry.
+	 */
+	public static final String OTHER_SHAPES = "<other>";
+	/**
+	 * Comparator ordering the statistics from the most expensive shape (in terms of the total time spent) to the
+	 * cheapest one.
+	 */
+	private static final Comparator<QueryShapeStatistics> BY_TOTAL_DURATION_DESC =
+		Comparator.comparingLong(QueryShapeStatistics::totalDurationInMicroseconds).reversed();
+	/**
+	 * Index of the accumulators by the query shape.
+	 */
+	private final ConcurrentHashMap<String, ShapeAccumulator> shapes = CollectionUtils.createConcurrentHashMap(64);
+	/**
+	 * Accumulator of the queries whose shape didn't fit into {@link #shapes}.
+	 */
+	private final ShapeAccumulator otherShapes = new ShapeAccumulator(null, OTHER_SHAPES);
+
+	/**
+	 * Records a single executed top-level query.
+	 *
+	 * @param entityType        the queried entity type, null for queries not targeting a single collection
+	 * @param query             the executed query
+	 * @param durationInNanos   the latency of the query in nanoseconds
+	 * @param recordsScanned    number of records scanned (included in the calculation)
+	 * @param recordsReturned   number of records returned to the client
+	 * @param ioFetchCount      number of records fetched from the disk
+	 * @param ioFetchedSizeBytes size of the data fetched from the disk in bytes
+	 */
+	public void record(
+		@Nullable String entityType,
+		@Nonnull Query query,
+		long durationInNanos,
+		int recordsScanned,
+		int recordsReturned,
+		int ioFetchCount,
+		int ioFetchedSizeBytes
+	) {
+		final String shape = QueryShapeVisitor.toShape(query);
+		ShapeAccumulator accumulator = this.shapes.get(shape);
+		if (accumulator == null) {
+			accumulator = this.shapes.size() < MAX_SHAPES ?
+				this.shapes.computeIfAbsent(shape, theShape -> new ShapeAccumulator(entityType, theShape)) :
+				this.otherShapes;
+		}
+		accumulator.record(durationInNanos, recordsScanned, recordsReturned, ioFetchCount, ioFetchedSizeBytes);
+	}
+
+	/**
+	 * Returns the statistics of all the tracked shapes ordered by the total time spent descending.
+	 *
+	 * @return the statistics of all tracked shapes
+	 */
+	@Nonnull
+	public List<QueryShapeStatistics> getStatistics() {
+		return getStatistics(Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Returns the statistics of the most expensive shapes (in terms of the total time spent) ordered by the total
+	 * time spent descending.
+	 *
+	 * @param limit maximal number of returned shapes
+	 * @return the statistics of at most `limit` most expensive shapes
+	 */
+	@Nonnull
+	public List<QueryShapeStatistics> getStatistics(int limit) {
+		final List<QueryShapeStatistics> result = new ArrayList<>(this.shapes.size() + 1);
+		for (ShapeAccumulator accumulator : this.shapes.values()) {
+			result.add(accumulator.toStatistics());
+		}
+		if (this.otherShapes.getCallCount() > 0L) {
+			result.add(this.otherShapes.toStatistics());
+		}
+		result.sort(BY_TOTAL_DURATION_DESC);
+		return result.size() > limit ? result.subList(0, limit) : result;
+	}
+
+	/**
+	 * Accumulates statistics of the queries of a single shape.
+	 */
+	private static class ShapeAccumulator {
+		/**
+		 * The queried entity type, null for queries not targeting a single collection.
+		 */
+		@Nullable private final String entityType;
+		/**
+		 * The shape of the query.
+		 */
+		@Nonnull private final String shape;
+		/**
+		 * Hexadecimal hash of the {@link #shape}.
+		 */
+		@Nonnull private final String fingerprint;
+		/**
+		 * Histogram of the latencies in microseconds, also provides the call count and the maximum.
+		 */
+		private final LatencyHistogram latencies = new LatencyHistogram();
+		/**
+		 * Sum of the latencies in microseconds.
+		 */
+		private final LongAdder totalDurationInMicros = new LongAdder();
+		/**
+		 * Sum of the records scanned by the queries.
+		 */
+		private final LongAdder recordsScanned = new LongAdder();
+		/**
+		 * Sum of the records returned by the queries.
+		 */
+		private final LongAdder recordsReturned = new LongAdder();
+		/**
+		 * Sum of the records fetched from the disk by the queries.
+		 */
+		private final LongAdder ioFetchCount = new LongAdder();
+		/**
+		 * Sum of the bytes fetched from the disk by the queries.
+		 */
+		private final LongAdder ioFetchedSizeBytes = new LongAdder();
+
+		ShapeAccumulator(@Nullable String entityType, @Nonnull String shape) {
+			this.entityType = entityType;
+			this.shape = shape;
+			this.fingerprint = Long.toHexString(LongHashFunction.xx3().hashChars(shape));
+		}
+
+		/**
+		 * Records a single executed query.
+		 */
+		void record(
+			long durationInNanos,
+			int recordsScanned,
+			int recordsReturned,
+			int ioFetchCount,
+			int ioFetchedSizeBytes
+		) {
+			final long durationInMicros = TimeUnit.NANOSECONDS.toMicros(durationInNanos);
+			this.latencies.record(durationInMicros);
+			this.totalDurationInMicros.add(durationInMicros);
+			this.recordsScanned.add(recordsScanned);
+			this.recordsReturned.add(recordsReturned);
+			this.ioFetchCount.add(ioFetchCount);
+			this.ioFetchedSizeBytes.add(ioFetchedSizeBytes);
+		}
+
+		/**
+		 * Returns the number of recorded queries.
+		 */
+		long getCallCount() {
+			return this.latencies.getCount();
+		}
+
+		/**
+		 * Creates a snapshot of the accumulated statistics. The snapshot is not atomic - the values recorded
+		 * concurrently with its creation may be reflected only in some of its fields.
+		 */
+		@Nonnull
+		QueryShapeStatistics toStatistics() {
+			final Summary summary = this.latencies.getSummary();
+			return new QueryShapeStatistics(
+				this.fingerprint,
+				this.entityType,
+				this.shape,
+				summary.count(),
+				this.totalDurationInMicros.sum(),
+				summary.mean(),
+				summary.p99(),
+				summary.max(),
+				this.recordsScanned.sum(),
+				this.recordsReturned.sum(),
+				this.ioFetchCount.sum(),
+				this.ioFetchedSizeBytes.sum()
+			);
+		}
+	}
+
+}
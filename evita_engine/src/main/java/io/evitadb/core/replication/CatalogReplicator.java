@@ -0,0 +1,495 @@
+/*
+ *
+ *                         _ _        ____  ____
+ *               _____   _(_) |_ __ _|  _ \| __ )
+ *              / _ \ \ / / | __/ _` | | | |  _ \
+ *             |  __/\ V /| | || (_| | |_| | |_) |
+ *              \___| \_/ |_|\__\__,_|____/|____/
+ *
+ *   Copyright (c) 2026
+ *
+ *   Licensed under the Business Source License, Version 1.1 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://github.com/FgForrest/evitaDB/blob/master/LICENSE
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+
+package io.evitadb.core.replication;
+
+import io.evitadb.api.CatalogState;
+import io.evitadb.api.CommitProgress.CommitVersions;
+import io.evitadb.api.EvitaContract;
+import io.evitadb.api.EvitaSessionContract;
+import io.evitadb.api.configuration.ReplicaOptions;
+import io.evitadb.api.file.FileForFetch;
+import io.evitadb.api.requestResponse.cdc.ChangeCaptureContent;
+import io.evitadb.api.requestResponse.cdc.ChangeCatalogCapture;
+import io.evitadb.api.requestResponse.cdc.ChangeCatalogCaptureRecords;
+import io.evitadb.api.requestResponse.cdc.ChangeCatalogCaptureRequest;
+import io.evitadb.api.requestResponse.mutation.CatalogBoundMutation;
+import io.evitadb.api.requestResponse.mutation.infrastructure.TransactionMutation;
+import io.evitadb.core.Evita;
+import io.evitadb.core.executor.DelayedAsyncTask;
+import io.evitadb.core.executor.Scheduler;
+import io.evitadb.core.metric.event.transaction.ReplicationLagEvent;
+import io.evitadb.exception.GenericEvitaInternalError;
+import io.evitadb.utils.Assert;
+import io.evitadb.utils.IOUtils;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Keeps the catalogs of a read-only replica in sync with the catalogs of the primary evitaDB instance.
+ *
+ * The replication has two phases:
+ *
+ * 1. **bootstrap** ({@link #bootstrap()}) - each catalog of the primary that is missing locally is restored from
+ *    a full backup of the primary catalog (including its WAL) and activated; after that the engine is switched to
+ *    read-only mode so that no client can diverge the replica from the primary,
+ * 2. **tailing** ({@link #start()}) - the replica periodically reads the mutations of the primary catalogs following
+ *    the local catalog version from the change data capture API of the primary and applies them transaction by
+ *    transaction using {@link Evita#applyReplicatedTransaction(String, List)}. Each replicated transaction passes
+ *    through the regular transactional pipeline of the replica as a single transaction, so that it is written to
+ *    the local WAL and incorporated to the trunk the same way as on the primary and receives the very same catalog
+ *    version - any difference in versions means the replica has diverged from the primary and the replication of
+ *    the catalog is stopped. Each poll also compares the catalog names of the primary with the local ones - catalogs
+ *    created on the primary after the bootstrap are restored from their full backups the same way as during
+ *    the bootstrap.
+ *
+ * The engine-level changes other than the catalog creation are not replicated - when a catalog disappears from
+ * the primary (it was removed or renamed), the replica logs a warning and keeps serving the last replicated state of
+ * the catalog.
+ *
+ * The tailing can be temporarily suspended by {@link #pause()} and continued by {@link #resume()} - the replica keeps
+ * serving the data of the last applied transaction in the meantime.
+ *
+ * Only catalogs in {@link CatalogState#ALIVE} state on the primary can be replicated - catalogs in warm-up state have
+ * no WAL to tail. The replication lag of each catalog is published in {@link ReplicationLagEvent} after each poll.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+@Slf4j
+public class CatalogReplicator implements Closeable {
+	/**
+	 * The local (replica) evitaDB instance.
+	 */
+	private final Evita evita;
+	/**
+	 * The primary evitaDB instance (usually a remote client).
+	 */
+	private final EvitaContract primary;
+	/**
+	 * The replica configuration.
+	 */
+	private final ReplicaOptions options;
+	/**
+	 * The task that periodically polls the primary for new transactions.
+	 */
+	private final DelayedAsyncTask pollTask;
+	/**
+	 * Names of the catalogs whose replication was stopped because the replica diverged from the primary.
+	 */
+	private final Set<String> divergedCatalogs = ConcurrentHashMap.newKeySet();
+	/**
+	 * Names of the local catalogs that no longer exist on the primary (they were removed or renamed there).
+	 */
+	private final Set<String> orphanedCatalogs = ConcurrentHashMap.newKeySet();
+	/**
+	 * Lock guarding the poll so that the transactions are never applied by two threads at once.
+	 */
+	private final ReentrantLock pollLock = new ReentrantLock();
+	/**
+	 * True when the tailing was suspended by {@link #pause()}.
+	 */
+	private final AtomicBoolean paused = new AtomicBoolean();
+
+	public CatalogReplicator(
+		@Nonnull Evita evita,
+		@Nonnull EvitaContract primary,
+		@Nonnull ReplicaOptions options,
+		@Nonnull Scheduler scheduler
+	) {
+		this.evita = evita;
+		this.primary = primary;
+		this.options = options;
+		this.pollTask = new DelayedAsyncTask(
+			null,
+			"Catalog replication",
+			scheduler,
+			this::pollSafely,
+			options.pollIntervalInMilliseconds(),
+			TimeUnit.MILLISECONDS,
+			0L
+		);
+	}
+
+	/**
+	 * Restores all catalogs of the primary that are missing in the replica from the full backups of the primary
+	 * catalogs, activates them, and switches the replica engine to read-only mode. The method blocks until all
+	 * catalogs are restored.
+	 */
+	public void bootstrap() {
+		final Set<String> localCatalogs = this.evita.getCatalogNames();
+		for (String catalogName : this.primary.getCatalogNames()) {
+			if (!isReplicable(catalogName)) {
+				log.warn(
+					"Catalog `{}` is not in ALIVE state on the primary server and will not be replicated.",
+					catalogName
+				);
+				continue;
+			}
+			if (!localCatalogs.contains(catalogName)) {
+				restoreFromPrimary(catalogName);
+			}
+			if (this.evita.getCatalogState(catalogName).orElse(null) == CatalogState.INACTIVE) {
+				this.evita.activateReplicatedCatalog(catalogName);
+			}
+		}
+		if (!this.evita.isReadOnly()) {
+			this.evita.setReadOnly();
+		}
+	}
+
+	/**
+	 * Starts tailing the WAL of the primary catalogs.
+	 */
+	public void start() {
+		this.pollTask.scheduleImmediately();
+	}
+
+	/**
+	 * Suspends tailing the WAL of the primary catalogs. The poll currently in progress (if any) is finished, but no
+	 * other poll is executed until {@link #resume()} is called.
+	 */
+	public void pause() {
+		this.paused.set(true);
+	}
+
+	/**
+	 * Continues tailing the WAL of the primary catalogs suspended by {@link #pause()}. The missed transactions are
+	 * fetched immediately.
+	 */
+	public void resume() {
+		if (this.paused.compareAndSet(true, false)) {
+			this.pollTask.scheduleImmediately();
+		}
+	}
+
+	/**
+	 * Returns true if the tailing was suspended by {@link #pause()}.
+	 */
+	public boolean isPaused() {
+		return this.paused.get();
+	}
+
+	/**
+	 * Returns true if the replication of the catalog was stopped because the replica diverged from the primary.
+	 *
+	 * @param catalogName name of the catalog
+	 */
+	public boolean isDiverged(@Nonnull String catalogName) {
+		return this.divergedCatalogs.contains(catalogName);
+	}
+
+	/**
+	 * Restores the catalogs created on the primary since the last poll and fetches and applies all transactions
+	 * available on the primary that haven't been applied yet (up to {@link ReplicaOptions#maxTransactionsPerPoll()}
+	 * per catalog).
+	 *
+	 * @return true if there are more transactions waiting on the primary for any of the catalogs
+	 */
+	public boolean poll() {
+		this.pollLock.lock();
+		try {
+			synchronizeCatalogs();
+			boolean morePending = false;
+			for (String catalogName : this.evita.getCatalogNames()) {
+				if (this.divergedCatalogs.contains(catalogName) || !isReplicable(catalogName)) {
+					continue;
+				}
+				morePending |= replicateCatalog(catalogName);
+			}
+			return morePending;
+		} finally {
+			this.pollLock.unlock();
+		}
+	}
+
+	@Override
+	public void close() {
+		IOUtils.closeQuietly(this.pollTask::close);
+	}
+
+	/**
+	 * Executes {@link #poll()} and converts its result to the value expected by {@link DelayedAsyncTask} - when there
+	 * are more transactions waiting on the primary the task is re-scheduled immediately, when the replicator is paused
+	 * the task is paused as well.
+	 */
+	private long pollSafely() {
+		if (this.paused.get()) {
+			return -1L;
+		}
+		try {
+			return poll() ? this.options.pollIntervalInMilliseconds() : 0L;
+		} catch (RuntimeException ex) {
+			log.error("Replication from the primary server failed, will retry in next poll.", ex);
+			return 0L;
+		}
+	}
+
+	/**
+	 * Returns true if the catalog is in the state that allows its replication on the primary.
+	 */
+	private boolean isReplicable(@Nonnull String catalogName) {
+		return this.primary.getCatalogState(catalogName).orElse(null) == CatalogState.ALIVE;
+	}
+
+	/**
+	 * Compares the catalogs of the primary with the local ones. The catalogs created on the primary are restored from
+	 * their full backups and activated, the catalogs that no longer exist on the primary are reported, because
+	 * the replication of the catalog removal or rename is not supported.
+	 */
+	private void synchronizeCatalogs() {
+		final Set<String> primaryCatalogs = this.primary.getCatalogNames();
+		final Set<String> localCatalogs = this.evita.getCatalogNames();
+		for (String catalogName : primaryCatalogs) {
+			// catalogs in warm-up state are picked up once they become alive
+			if (!localCatalogs.contains(catalogName) && isReplicable(catalogName)) {
+				restoreFromPrimary(catalogName);
+				this.evita.activateReplicatedCatalog(catalogName);
+			}
+		}
+		this.orphanedCatalogs.removeIf(primaryCatalogs::contains);
+		for (String catalogName : localCatalogs) {
+			if (!primaryCatalogs.contains(catalogName) && this.orphanedCatalogs.add(catalogName)) {
+				log.warn(
+					"Catalog `{}` no longer exists on the primary server - it was either removed or renamed, which " +
+						"is not supported by the replication. The replica keeps serving its last replicated state.",
+					catalogName
+				);
+			}
+		}
+	}
+
+	/**
+	 * Restores the catalog from the full backup of the primary catalog and waits until it's registered locally.
+	 *
+	 * @param catalogName name of the catalog to restore
+	 */
+	private void restoreFromPrimary(@Nonnull String catalogName) {
+		log.info("Bootstrapping catalog `{}` from the full backup of the primary server.", catalogName);
+		final FileForFetch backup = this.primary.management().fullBackupCatalog(catalogName).join();
+		try {
+			try (final InputStream inputStream = this.primary.management().fetchFile(backup.fileId())) {
+				this.evita.management()
+					.restoreReplicatedCatalog(catalogName, backup.totalSizeInBytes(), inputStream)
+					.getFutureResult()
+					.join();
+			} catch (IOException ex) {
+				throw new GenericEvitaInternalError(
+					"Failed to fetch the backup of catalog `" + catalogName + "` from the primary server!", ex
+				);
+			}
+		} finally {
+			try {
+				this.primary.management().deleteFile(backup.fileId());
+			} catch (RuntimeException ex) {
+				log.warn("Failed to remove the backup of catalog `{}` from the primary server.", catalogName, ex);
+			}
+		}
+	}
+
+	/**
+	 * Fetches the transactions following the local version of the catalog from the primary and applies them.
+	 *
+	 * @param catalogName name of the replicated catalog
+	 * @return true if there are more transactions waiting on the primary
+	 */
+	private boolean replicateCatalog(@Nonnull String catalogName) {
+		final long localVersion = this.evita.queryCatalog(
+			catalogName, (Function<EvitaSessionContract, Long>) EvitaSessionContract::getCatalogVersion
+		);
+		final ReplicationBatch batch = this.primary.queryCatalog(
+			catalogName,
+			(Function<EvitaSessionContract, ReplicationBatch>) session -> fetchTransactions(session, localVersion)
+		);
+
+		long appliedVersion = localVersion;
+		try {
+			for (ReplicatedTransaction transaction : batch.transactions()) {
+				final CommitVersions versions = this.evita.applyReplicatedTransaction(catalogName, transaction.mutations())
+					.toCompletableFuture()
+					.join();
+				if (versions.catalogVersion() != transaction.version()) {
+					this.divergedCatalogs.add(catalogName);
+					log.error(
+						"Replica of catalog `{}` diverged from the primary server - transaction of version {} was " +
+							"applied as version {}. Replication of the catalog is stopped.",
+						catalogName, transaction.version(), versions.catalogVersion()
+					);
+					return false;
+				}
+				appliedVersion = versions.catalogVersion();
+			}
+		} finally {
+			new ReplicationLagEvent(
+				catalogName,
+				Math.max(batch.primaryVersion(), appliedVersion),
+				appliedVersion,
+				appliedVersion >= batch.primaryVersion() ?
+					0L : batch.oldestPendingTimestamp() == null ?
+					0L : Math.max(0L, System.currentTimeMillis() - batch.oldestPendingTimestamp().toInstant().toEpochMilli())
+			).commit();
+		}
+		return batch.morePending();
+	}
+
+	/**
+	 * Reads the transactions following the given version from the primary catalog and groups their top-level
+	 * mutations. The mutations are read in the change capture records - the first capture of each record
+	 * carries the top-level mutation itself, the rest of the record contains its local mutations, which are part
+	 * of the top-level mutation and must be skipped.
+	 *
+	 * @param session      session to the primary catalog
+	 * @param localVersion the version of the local catalog
+	 * @return fetched complete transactions
+	 */
+	@Nonnull
+	private ReplicationBatch fetchTransactions(@Nonnull EvitaSessionContract session, long localVersion) {
+		final long primaryVersion = session.getCatalogVersion();
+		if (primaryVersion <= localVersion) {
+			return new ReplicationBatch(primaryVersion, List.of(), false, null);
+		}
+
+		final List<ReplicatedTransaction> transactions = new ArrayList<>(16);
+		final ChangeCatalogCaptureRequest request = ChangeCatalogCaptureRequest.builder()
+			.sinceVersion(localVersion + 1)
+			.content(ChangeCaptureContent.BODY)
+			.build();
+		TransactionMutation currentTransaction = null;
+		List<CatalogBoundMutation> currentMutations = null;
+		try (
+			final Stream<List<ChangeCatalogCapture>> records = ChangeCatalogCaptureRecords.groupIntoRecords(
+				session.getMutationsHistoryForward(request)
+			)
+		) {
+			final Iterator<List<ChangeCatalogCapture>> it = records.iterator();
+			while (it.hasNext()) {
+				final ChangeCatalogCapture leadCapture = it.next().get(0);
+				final CatalogBoundMutation body = leadCapture.body();
+				if (body instanceof TransactionMutation transactionMutation) {
+					if (currentTransaction != null) {
+						transactions.add(toTransaction(currentTransaction, currentMutations));
+					}
+					if (transactions.size() >= this.options.maxTransactionsPerPoll()) {
+						// there are more transactions than we can process in a single poll
+						return new ReplicationBatch(
+							primaryVersion, transactions, true, transactionMutation.getCommitTimestamp()
+						);
+					}
+					currentTransaction = transactionMutation;
+					currentMutations = new ArrayList<>(transactionMutation.getMutationCount());
+				} else if (currentTransaction != null && body != null) {
+					final long transactionVersion = currentTransaction.getVersion();
+					Assert.isPremiseValid(
+						leadCapture.version() == transactionVersion,
+						() -> "Mutation of version " + leadCapture.version() + " found in transaction " +
+							transactionVersion + "!"
+					);
+					currentMutations.add(body);
+				} else {
+					throw new GenericEvitaInternalError(
+						"Unexpected change capture `" + leadCapture + "` in the WAL of the primary server!"
+					);
+				}
+			}
+		}
+		if (currentTransaction != null) {
+			if (currentMutations.size() == currentTransaction.getMutationCount()) {
+				transactions.add(toTransaction(currentTransaction, currentMutations));
+			} else {
+				// the transaction is not completely written yet, it will be fetched again in the next poll
+				return new ReplicationBatch(primaryVersion, transactions, true, currentTransaction.getCommitTimestamp());
+			}
+		}
+		return new ReplicationBatch(
+			primaryVersion, transactions, false,
+			transactions.isEmpty() ? null : transactions.get(0).commitTimestamp()
+		);
+	}
+
+	/**
+	 * Creates a replicated transaction verifying that all its mutations were read.
+	 */
+	@Nonnull
+	private static ReplicatedTransaction toTransaction(
+		@Nonnull TransactionMutation transactionMutation,
+		@Nonnull List<CatalogBoundMutation> mutations
+	) {
+		Assert.isPremiseValid(
+			mutations.size() == transactionMutation.getMutationCount(),
+			() -> "Transaction " + transactionMutation.getVersion() + " declares " +
+				transactionMutation.getMutationCount() + " mutations, but " + mutations.size() + " were read!"
+		);
+		return new ReplicatedTransaction(
+			transactionMutation.getVersion(),
+			transactionMutation.getCommitTimestamp(),
+			mutations
+		);
+	}
+
+	/**
+	 * Single transaction read from the primary.
+	 *
+	 * @param version         the catalog version of the transaction on the primary
+	 * @param commitTimestamp the time the transaction was committed on the primary
+	 * @param mutations       the top-level mutations of the transaction in their original order
+	 */
+	private record ReplicatedTransaction(
+		long version,
+		@Nonnull OffsetDateTime commitTimestamp,
+		@Nonnull List<CatalogBoundMutation> mutations
+	) {
+	}
+
+	/**
+	 * Result of a single fetch from the primary catalog.
+	 *
+	 * @param primaryVersion         the catalog version visible on the primary at the moment of the fetch
+	 * @param transactions           complete transactions to apply
+	 * @param morePending            true if there are more transactions on the primary not included in the batch
+	 * @param oldestPendingTimestamp commit timestamp of the oldest transaction not yet applied on the replica
+	 */
+	private record ReplicationBatch(
+		long primaryVersion,
+		@Nonnull List<ReplicatedTransaction> transactions,
+		boolean morePending,
+		@Nullable OffsetDateTime oldestPendingTimestamp
+	) {
+	}
+
+}
@@ -44,6 +44,7 @@ import io.evitadb.api.task.ServerTask;
 import io.evitadb.api.task.TaskStatus;
 import io.evitadb.core.traffic.TrafficRecordingExportSettings;
 import io.evitadb.core.traffic.TrafficRecordingSettings;
+import io.evitadb.core.traffic.TrafficReplaySettings;
 import io.evitadb.exception.EvitaInvalidUsageException;
 
 import javax.annotation.Nonnull;
@@ -322,4 +323,29 @@ public interface EvitaInternalSessionContract extends EvitaSessionContract, Traf
 		long chunkFileSizeInBytes
 	) throws EvitaInvalidUsageException;
 
+	/**
+	 * Replays the traffic currently kept in the traffic recording buffer of this catalog against the target catalog
+	 * and measures the latencies of the replayed operations. The resulting file contains latency statistics per
+	 * query shape (both recorded and replayed), so that the performance of two evitaDB versions or configurations
+	 * can be compared using the same real-world traffic.
+	 *
+	 * @param targetCatalogName name of the catalog the traffic is replayed against (may be this catalog)
+	 * @param since             limits the replay to the traffic recorded since the given time, all buffered traffic
+	 *                          is replayed when NULL
+	 * @param speedFactor       speed of the replay relative to the original pace of the traffic, zero replays
+	 *                          the traffic as fast as possible
+	 * @param parallelism       maximal number of sessions replayed in parallel
+	 * @param replayMutations   true if recorded mutations should be replayed as well (they modify the target catalog)
+	 * @return a {@code ServerTask} instance that will resolve to a reference of the file with the replay report
+	 * @throws EvitaInvalidUsageException if the target catalog doesn't exist
+	 */
+	@Nonnull
+	ServerTask<TrafficReplaySettings, FileForFetch> replayTrafficRecording(
+		@Nonnull String targetCatalogName,
+		@Nullable OffsetDateTime since,
+		double speedFactor,
+		int parallelism,
+		boolean replayMutations
+	) throws EvitaInvalidUsageException;
+
 }
@@ -95,8 +95,10 @@ import io.evitadb.core.query.response.ServerEntityDecorator;
 import io.evitadb.core.traffic.TrafficRecordingEngine;
 import io.evitadb.core.traffic.TrafficRecordingExportSettings;
 import io.evitadb.core.traffic.TrafficRecordingSettings;
+import io.evitadb.core.traffic.TrafficReplaySettings;
 import io.evitadb.core.traffic.task.TrafficRecorderTask;
 import io.evitadb.core.traffic.task.TrafficRecordingExportTask;
+import io.evitadb.core.traffic.task.TrafficReplayTask;
 import io.evitadb.core.transaction.Transaction;
 import io.evitadb.core.transaction.TransactionWalFinalizer;
 import io.evitadb.dataType.Scope;
@@ -1752,6 +1754,33 @@ public final class EvitaSession implements EvitaInternalSessionContract {
 		return trafficRecordingExportTask;
 	}
 
+	@Nonnull
+	@Override
+	public ServerTask<TrafficReplaySettings, FileForFetch> replayTrafficRecording(
+		@Nonnull String targetCatalogName,
+		@Nullable OffsetDateTime since,
+		double speedFactor,
+		int parallelism,
+		boolean replayMutations
+	) {
+		isTrue(
+			!isReadOnly(),
+			ReadOnlyException::sessionReadOnly
+		);
+		// fail fast when the target catalog doesn't exist
+		this.evita.getCatalogInstanceOrThrowException(targetCatalogName);
+
+		final Scheduler scheduler = this.evita.getServiceExecutor();
+		final ServerTask<TrafficReplaySettings, FileForFetch> trafficReplayTask = new TrafficReplayTask(
+			getCatalogName(), targetCatalogName, since, speedFactor, parallelism, replayMutations,
+			this.evita,
+			this.catalog.getTrafficRecordingEngine(),
+			this.evita.management().exportService()
+		);
+		scheduler.submit(trafficReplayTask);
+		return trafficReplayTask;
+	}
+
 	/**
 	 * Returns a transaction wrapped in optional. If no transaction is bound to the session, an empty optional is returned.
 	 *
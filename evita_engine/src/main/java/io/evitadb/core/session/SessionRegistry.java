@@ -72,6 +72,8 @@ import static java.util.Optional.ofNullable;
  * - **Session Lifecycle**: Creates, registers, and removes sessions
  * - **Suspension Handling**: Supports catalog rename/replace by suspending session creation
  * - **Version Tracking**: Tracks which catalog versions are consumed by active sessions
+ * - **Shared Snapshots**: Binds read-only sessions with bounded staleness ({@link SessionTraits#maxStaleness()}) to
+ *   a single shared catalog snapshot, so that they don't retain a catalog version each
  * - **Thread Safety**: All operations are thread-safe using concurrent data structures
  *
  * ## Thread Safety Model
@@ -118,6 +120,16 @@ public final class SessionRegistry {
 	 * tied to them indexed by catalog names.
 	 */
 	private final ConcurrentHashMap<String, VersionConsumingSessions> catalogConsumedVersions;
+	/**
+	 * Lock guarding the acquisition, refresh and release of the {@link #sharedSnapshot}.
+	 */
+	private final ReentrantLock sharedSnapshotLock = new ReentrantLock();
+	/**
+	 * Catalog snapshot shared by the read-only sessions with bounded staleness. The snapshot is registered as
+	 * a consumer of its catalog version for as long as it's held, so that the version can't be released between
+	 * two sessions bound to it. Guarded by {@link #sharedSnapshotLock}.
+	 */
+	@Nullable private SharedSnapshot sharedSnapshot;
 
 	/**
 	 * Created data store to be shared among all SessionRegistry instances.
@@ -180,6 +192,8 @@ public final class SessionRegistry {
 		@Nonnull SuspendOperation suspendOperation
 	) {
 		if (this.currentSuspension.compareAndSet(null, new InSuspension(suspendOperation))) {
+			// the catalog is about to be replaced or closed, sessions must not be bound to the old snapshot anymore
+			releaseSharedSnapshot(true);
 			// init information about closed sessions
 			final SuspensionInformation suspensionInformation = new SuspensionInformation(
 				this.activeSessions.size()
@@ -274,6 +288,7 @@ public final class SessionRegistry {
 			// clear the information about forcefully closed sessions after 5 minutes
 			this.lastSuspensionInfo.set(null);
 		}
+		releaseSharedSnapshot(false);
 	}
 
 	/**
@@ -291,18 +306,37 @@ public final class SessionRegistry {
 	/**
 	 * Creates and registers new session to the registry.
 	 * Method checks that there is only a single active session when catalog is in warm-up mode.
+	 *
+	 * Read-only sessions accepting bounded staleness ({@link SessionTraits#acceptsStaleSnapshot()}) are bound to
+	 * the shared catalog snapshot as long as it's fresh enough, all other sessions are bound to the passed catalog.
+	 *
+	 * @param catalog        the current catalog instance
+	 * @param sessionTraits  the traits of the created session
+	 * @param sessionFactory the factory creating the session bound to the catalog instance passed in the argument
 	 */
 	@Nonnull
 	public EvitaInternalSessionContract addSession(
-		boolean transactional,
-		@Nonnull Supplier<EvitaSession> sessionSupplier
+		@Nonnull Catalog catalog,
+		@Nonnull SessionTraits sessionTraits,
+		@Nonnull Function<Catalog, EvitaSession> sessionFactory
 	) {
 		return handleSuspension(() -> {
+			final boolean transactional = catalog.supportsTransaction();
 			if (!transactional && !this.activeSessions.isEmpty()) {
 				throw new ConcurrentInitializationException(this.activeSessions.keySet().iterator().next());
 			}
 
-			final EvitaSession newSession = sessionSupplier.get();
+			final Catalog sessionCatalog = transactional && sessionTraits.acceptsStaleSnapshot() ?
+				acquireSharedSnapshot(catalog, sessionTraits) : null;
+			final EvitaSession newSession;
+			try {
+				newSession = sessionFactory.apply(sessionCatalog == null ? catalog : sessionCatalog);
+			} catch (RuntimeException ex) {
+				if (sessionCatalog != null) {
+					releaseSharedSnapshotLease(sessionCatalog, sessionTraits);
+				}
+				throw ex;
+			}
 			final long catalogVersion = newSession.getCatalogVersion();
 			final String catalogName = newSession.getCatalogName();
 
@@ -321,6 +355,10 @@ public final class SessionRegistry {
 					this.sharedDataStore.addSession(sessionTuple);
 				}
 			);
+			if (sessionCatalog != null) {
+				// the session holds its own registration of the snapshot version now
+				releaseSharedSnapshotLease(sessionCatalog, sessionTraits);
+			}
 
 			return newSessionProxy;
 		});
@@ -381,6 +419,10 @@ public final class SessionRegistry {
 						);
 				}
 			);
+			if (session.getSessionTraits().acceptsStaleSnapshot()) {
+				// don't retain the outdated shared snapshot longer than necessary
+				releaseSharedSnapshot(false);
+			}
 		}
 	}
 
@@ -421,6 +463,8 @@ public final class SessionRegistry {
 	 */
 	@Nonnull
 	public SessionRegistry withDifferentCatalogSupplier(@Nonnull Supplier<Catalog> catalogSupplier) {
+		// the shared snapshot belongs to the catalog of this registry
+		releaseSharedSnapshot(true);
 		return new SessionRegistry(
 			this.tracingContext,
 			catalogSupplier,
@@ -432,6 +476,104 @@ public final class SessionRegistry {
 		);
 	}
 
+	/**
+	 * Returns the shared catalog snapshot the session with bounded staleness should be bound to. The snapshot is
+	 * reused when it's still the latest catalog version (in which case its freshness is confirmed) or when it was
+	 * confirmed as the latest version no longer than {@link SessionTraits#maxStaleness()} ago. Otherwise, the current
+	 * catalog becomes the new shared snapshot.
+	 *
+	 * The returned snapshot version is registered as consumed on behalf of the session (the lease), so that it can't
+	 * be released before the session registers itself. The lease must be returned by
+	 * {@link #releaseSharedSnapshotLease(Catalog, SessionTraits)}.
+	 *
+	 * @param currentCatalog the current catalog instance
+	 * @param sessionTraits  the traits of the created session
+	 * @return the catalog snapshot the session should be bound to
+	 */
+	@Nonnull
+	private Catalog acquireSharedSnapshot(@Nonnull Catalog currentCatalog, @Nonnull SessionTraits sessionTraits) {
+		final VersionConsumingSessions consumers = this.catalogConsumedVersions.computeIfAbsent(
+			currentCatalog.getName(), k -> new VersionConsumingSessions()
+		);
+		final long now = System.nanoTime();
+		//noinspection DataFlowIssue
+		final long maxStalenessNanos = sessionTraits.maxStaleness().toNanos();
+		final SharedSnapshot replacedSnapshot;
+		final Catalog snapshotCatalog;
+		this.sharedSnapshotLock.lock();
+		try {
+			final SharedSnapshot snapshot = this.sharedSnapshot;
+			if (snapshot != null && snapshot.isLatestVersionOf(currentCatalog)) {
+				// the snapshot is still the latest version - prolong its validity
+				this.sharedSnapshot = snapshot.confirmedAt(now, maxStalenessNanos);
+				replacedSnapshot = null;
+			} else if (snapshot != null && snapshot.isFreshEnough(currentCatalog, now, maxStalenessNanos)) {
+				replacedSnapshot = null;
+			} else {
+				consumers.registerSessionConsumingCatalogInVersion(currentCatalog.getVersion(), sessionTraits);
+				this.sharedSnapshot = new SharedSnapshot(currentCatalog, sessionTraits, now, maxStalenessNanos);
+				replacedSnapshot = snapshot;
+			}
+			snapshotCatalog = this.sharedSnapshot.catalog();
+			consumers.registerSessionConsumingCatalogInVersion(snapshotCatalog.getVersion(), sessionTraits);
+		} finally {
+			this.sharedSnapshotLock.unlock();
+		}
+		if (replacedSnapshot != null) {
+			// the release may trigger the cleanup of the versions no longer used, do it outside the lock
+			replacedSnapshot.release(this.catalogConsumedVersions, this.catalogSupplier);
+		}
+		return snapshotCatalog;
+	}
+
+	/**
+	 * Returns the lease of the shared snapshot version taken by {@link #acquireSharedSnapshot(Catalog, SessionTraits)}.
+	 *
+	 * @param snapshotCatalog the catalog snapshot the lease was taken for
+	 * @param sessionTraits   the traits of the created session
+	 */
+	private void releaseSharedSnapshotLease(@Nonnull Catalog snapshotCatalog, @Nonnull SessionTraits sessionTraits) {
+		this.catalogConsumedVersions.get(snapshotCatalog.getName())
+			.unregisterSessionConsumingCatalogInVersion(
+				snapshotCatalog.getVersion(), sessionTraits, this.catalogSupplier
+			);
+	}
+
+	/**
+	 * Releases the shared catalog snapshot so that its catalog version is no longer retained on its behalf.
+	 *
+	 * @param unconditionally when false, the snapshot is released only if it is not the latest catalog version and
+	 *                        it's too old to be used for any new session
+	 */
+	private void releaseSharedSnapshot(boolean unconditionally) {
+		final SharedSnapshot releasedSnapshot;
+		this.sharedSnapshotLock.lock();
+		try {
+			final SharedSnapshot snapshot = this.sharedSnapshot;
+			if (snapshot == null) {
+				return;
+			}
+			if (!unconditionally) {
+				final Catalog currentCatalog;
+				try {
+					currentCatalog = this.catalogSupplier.get();
+				} catch (RuntimeException ex) {
+					// catalog is not available right now, we'll try next time
+					return;
+				}
+				if (snapshot.isLatestVersionOf(currentCatalog) ||
+					snapshot.isFreshEnough(currentCatalog, System.nanoTime(), snapshot.maxStalenessNanos())) {
+					return;
+				}
+			}
+			releasedSnapshot = snapshot;
+			this.sharedSnapshot = null;
+		} finally {
+			this.sharedSnapshotLock.unlock();
+		}
+		releasedSnapshot.release(this.catalogConsumedVersions, this.catalogSupplier);
+	}
+
 	/**
 	 * Handles a suspension operation based on the current state.
 	 * If there is an active suspend operation, it evaluates its behavior and
@@ -690,6 +832,63 @@ public final class SessionRegistry {
 
 	}
 
+	/**
+	 * Catalog snapshot shared by the read-only sessions with bounded staleness.
+	 *
+	 * @param catalog           the catalog instance the sessions are bound to
+	 * @param traits            the traits the snapshot version was registered as consumed with
+	 * @param confirmedAtNanos  the {@link System#nanoTime()} when the snapshot was last known to be the latest version
+	 * @param maxStalenessNanos the longest staleness accepted by the sessions bound to the snapshot
+	 */
+	private record SharedSnapshot(
+		@Nonnull Catalog catalog,
+		@Nonnull SessionTraits traits,
+		long confirmedAtNanos,
+		long maxStalenessNanos
+	) {
+
+		/**
+		 * Returns true if the snapshot represents the same catalog version as the current catalog.
+		 */
+		boolean isLatestVersionOf(@Nonnull Catalog currentCatalog) {
+			return this.catalog == currentCatalog ||
+				(this.catalog.getCatalogId().equals(currentCatalog.getCatalogId()) &&
+					this.catalog.getVersion() == currentCatalog.getVersion());
+		}
+
+		/**
+		 * Returns true if the snapshot belongs to the same catalog and was confirmed as its latest version no longer
+		 * than `maxStalenessNanos` ago.
+		 */
+		boolean isFreshEnough(@Nonnull Catalog currentCatalog, long now, long maxStalenessNanos) {
+			return this.catalog.getCatalogId().equals(currentCatalog.getCatalogId()) &&
+				this.catalog.getVersion() <= currentCatalog.getVersion() &&
+				now - this.confirmedAtNanos <= maxStalenessNanos;
+		}
+
+		/**
+		 * Returns a copy of the snapshot confirmed to be the latest catalog version at the given moment.
+		 */
+		@Nonnull
+		SharedSnapshot confirmedAt(long now, long maxStalenessNanos) {
+			return new SharedSnapshot(
+				this.catalog, this.traits, now, Math.max(this.maxStalenessNanos, maxStalenessNanos)
+			);
+		}
+
+		/**
+		 * Unregisters the snapshot as a consumer of its catalog version.
+		 */
+		void release(
+			@Nonnull ConcurrentHashMap<String, VersionConsumingSessions> catalogConsumedVersions,
+			@Nonnull Supplier<Catalog> catalogSupplier
+		) {
+			catalogConsumedVersions.get(this.catalog.getName())
+				.unregisterSessionConsumingCatalogInVersion(this.catalog.getVersion(), this.traits, catalogSupplier);
+		}
+
+	}
+
 	/**
 	 * This record is used to keep information about the current suspension period.
 	 */
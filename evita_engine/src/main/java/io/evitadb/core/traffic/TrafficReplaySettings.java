@@ -0,0 +1,55 @@
+/*
+ *
+ *                         _ _        ____  ____
+ *               _____   _(_) |_ __ _|  _ \| __ )
+ *              / _ \ \ / / | __/ _` | | | |  _ \
+ *             |  __/\ V /| | || (_| | |_| | |_) |
+ *              \___| \_/ |_|\__\__,_|____/|____/
+ *
+ *   Copyright (c) 2026
+ *
+ *   Licensed under the Business Source License, Version 1.1 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://github.com/FgForrest/evitaDB/blob/master/LICENSE
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.evitadb.core.traffic;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.time.OffsetDateTime;
+
+/**
+ * TrafficReplaySettings class encapsulates configuration settings for a replay of the traffic currently kept in
+ * the traffic recording buffer of a catalog (see {@link io.evitadb.core.traffic.task.TrafficReplayTask}).
+ *
+ * @param catalogName       Specifies the name of the catalog whose recorded traffic is being replayed.
+ * @param targetCatalogName Specifies the name of the catalog the traffic is replayed against. It may be the same
+ *                          catalog the traffic was recorded in.
+ * @param since             Limits the replay to the traffic recorded since the given time. When not set, all
+ *                          the traffic kept in the buffer is replayed.
+ * @param speedFactor       Defines the speed of the replay relative to the original pace of the traffic - `1` for
+ *                          the original pace, `2` for twice as fast and so on. Zero replays the traffic as fast as
+ *                          possible.
+ * @param parallelism       Defines the maximal number of sessions replayed in parallel.
+ * @param replayMutations   When true, the recorded mutations are replayed as well, otherwise only the read
+ *                          operations are replayed.
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+public record TrafficReplaySettings(
+	@Nonnull String catalogName,
+	@Nonnull String targetCatalogName,
+	@Nullable OffsetDateTime since,
+	double speedFactor,
+	int parallelism,
+	boolean replayMutations
+) {
+}
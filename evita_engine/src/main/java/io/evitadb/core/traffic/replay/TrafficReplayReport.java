@@ -0,0 +1,171 @@
+/*
+ *
+ *                         _ _        ____  ____
+ *               _____   _(_) |_ __ _|  _ \| __ )
+ *              / _ \ \ / / | __/ _` | | | |  _ \
+ *             |  __/\ V /| | || (_| | |_| | |_) |
+ *              \___| \_/ |_|\__\__,_|____/|____/
+ *
+ *   Copyright (c) 2026
+ *
+ *   Licensed under the Business Source License, Version 1.1 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://github.com/FgForrest/evitaDB/blob/master/LICENSE
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.evitadb.core.traffic.replay;
+
+import io.evitadb.api.requestResponse.trafficRecording.TrafficRecordingCaptureRequest.TrafficRecordingType;
+import io.evitadb.core.metric.LatencyHistogram.Summary;
+
+import javax.annotation.Nonnull;
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Result of a single {@link TrafficReplayer} run. The report contains latency statistics for each distinct shape
+ * (see {@link io.evitadb.api.query.visitor.QueryShapeVisitor}) of the replayed operations, both as they were
+ * originally recorded and as they were measured during the replay, so that two releases can be compared using
+ * the same production traffic.
+ *
+ * @param started         time the replay started
+ * @param duration        wall-clock duration of the replay
+ * @param speedFactor     speed factor the replay ran with, zero means maximal throughput
+ * @param sessionCount    number of replayed sessions
+ * @param replayedRecords number of replayed operations
+ * @param failedRecords   number of replayed operations that finished with an error
+ * @param skippedRecords  number of operations that were recorded but could not be (or were not requested to be)
+ *                        replayed
+ * @param maxLag          the biggest delay of an operation behind its scheduled time in the timed replay, which
+ *                        signals that the replay couldn't keep up with the requested speed
+ * @param shapes          statistics of particular shapes ordered by the total replayed time descending
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+public record TrafficReplayReport(
+	@Nonnull OffsetDateTime started,
+	@Nonnull Duration duration,
+	double speedFactor,
+	int sessionCount,
+	long replayedRecords,
+	long failedRecords,
+	long skippedRecords,
+	@Nonnull Duration maxLag,
+	@Nonnull List<ShapeStatistics> shapes
+) implements Serializable {
+	@Serial private static final long serialVersionUID = 3389372615402372114L;
+	/**
+	 * Header of the CSV produced by {@link #toCsv()}.
+	 */
+	private static final String CSV_HEADER = "type;shape;count;failed;" +
+		"recordedMeanMs;recordedP50Ms;recordedP90Ms;recordedP99Ms;recordedMaxMs;" +
+		"replayedMeanMs;replayedP50Ms;replayedP90Ms;replayedP99Ms;replayedMaxMs";
+
+	/**
+	 * Renders the shape statistics as CSV (semicolon separated, one shape per line) with the header line. Latencies are
+	 * reported in milliseconds.
+	 *
+	 * @return CSV representation of the report
+	 */
+	@Nonnull
+	public String toCsv() {
+		final StringBuilder sb = new StringBuilder(128 * (this.shapes.size() + 1));
+		sb.append(CSV_HEADER).append('\n');
+		for (ShapeStatistics shape : this.shapes) {
+			sb.append(shape.type()).append(';')
+				.append('"').append(shape.shape().replace("\"", "\"\"")).append('"').append(';')
+				.append(shape.count()).append(';')
+				.append(shape.failed()).append(';');
+			appendCsv(sb, shape.recorded());
+			sb.append(';');
+			appendCsv(sb, shape.replayed());
+			sb.append('\n');
+		}
+		return sb.toString();
+	}
+
+	@Nonnull
+	@Override
+	public String toString() {
+		final StringBuilder sb = new StringBuilder(256 + 256 * this.shapes.size());
+		sb.append("Traffic replay started at ").append(this.started)
+			.append(" finished in ").append(this.duration)
+			.append(" (speed: ").append(this.speedFactor > 0 ? this.speedFactor + "x" : "max throughput").append(")\n")
+			.append("   - sessions: ").append(this.sessionCount).append('\n')
+			.append("   - replayed operations: ").append(this.replayedRecords)
+			.append(" (failed: ").append(this.failedRecords)
+			.append(", skipped: ").append(this.skippedRecords).append(")\n")
+			.append("   - max lag: ").append(this.maxLag).append('\n');
+		for (ShapeStatistics shape : this.shapes) {
+			sb.append('\n').append(shape.type()).append(' ').append(shape.shape()).append('\n')
+				.append("   count: ").append(shape.count()).append(", failed: ").append(shape.failed()).append('\n')
+				.append("   recorded [ms]: ").append(formatMillis(shape.recorded())).append('\n')
+				.append("   replayed [ms]: ").append(formatMillis(shape.replayed())).append('\n');
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * Appends latency summary in milliseconds as CSV columns.
+	 */
+	private static void appendCsv(@Nonnull StringBuilder sb, @Nonnull Summary summary) {
+		sb.append(toMillis(summary.mean())).append(';')
+			.append(toMillis(summary.p50())).append(';')
+			.append(toMillis(summary.p90())).append(';')
+			.append(toMillis(summary.p99())).append(';')
+			.append(toMillis(summary.max()));
+	}
+
+	/**
+	 * Formats latency summary in milliseconds for human readers.
+	 */
+	@Nonnull
+	private static String formatMillis(@Nonnull Summary summary) {
+		return "mean " + toMillis(summary.mean()) +
+			", p50 " + toMillis(summary.p50()) +
+			", p90 " + toMillis(summary.p90()) +
+			", p99 " + toMillis(summary.p99()) +
+			", max " + toMillis(summary.max());
+	}
+
+	/**
+	 * Converts nanoseconds to milliseconds with three decimal places.
+	 */
+	@Nonnull
+	private static String toMillis(long nanos) {
+		return String.format(Locale.ROOT, "%.3f", nanos / 1_000_000.0);
+	}
+
+	/**
+	 * Latency statistics of a single shape of the replayed operations. All latencies are in nanoseconds.
+	 *
+	 * @param type     type of the replayed operations
+	 * @param shape    shape of the operations
+	 * @param count    number of replayed operations of this shape
+	 * @param failed   number of operations of this shape that finished with an error
+	 * @param recorded latencies of the operations as they were originally recorded (millisecond precision)
+	 * @param replayed latencies of the operations measured by the replay
+	 */
+	public record ShapeStatistics(
+		@Nonnull TrafficRecordingType type,
+		@Nonnull String shape,
+		long count,
+		long failed,
+		@Nonnull Summary recorded,
+		@Nonnull Summary replayed
+	) implements Serializable {
+		@Serial private static final long serialVersionUID = -6128396409125418310L;
+	}
+
+}
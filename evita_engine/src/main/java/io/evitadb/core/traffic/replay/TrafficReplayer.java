@@ -0,0 +1,513 @@
+/*
+ *
+ *                         _ _        ____  ____
+ *               _____   _(_) |_ __ _|  _ \| __ )
+ *              / _ \ \ / / | __/ _` | | | |  _ \
+ *             |  __/\ V /| | || (_| | |_| | |_) |
+ *              \___| \_/ |_|\__\__,_|____/|____/
+ *
+ *   Copyright (c) 2026
+ *
+ *   Licensed under the Business Source License, Version 1.1 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://github.com/FgForrest/evitaDB/blob/master/LICENSE
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.evitadb.core.traffic.replay;
+
+import io.evitadb.api.EvitaContract;
+import io.evitadb.api.EvitaSessionContract;
+import io.evitadb.api.SessionTraits;
+import io.evitadb.api.SessionTraits.SessionFlags;
+import io.evitadb.api.query.Query;
+import io.evitadb.api.query.QueryUtils;
+import io.evitadb.api.query.filter.EntityScope;
+import io.evitadb.api.query.require.EntityContentRequire;
+import io.evitadb.api.query.require.EntityFetch;
+import io.evitadb.api.query.require.SeparateEntityContentRequireContainer;
+import io.evitadb.api.query.visitor.QueryShapeVisitor;
+import io.evitadb.api.requestResponse.data.EntityClassifier;
+import io.evitadb.api.requestResponse.data.mutation.EntityMutation;
+import io.evitadb.api.requestResponse.mutation.Mutation;
+import io.evitadb.api.requestResponse.schema.mutation.LocalCatalogSchemaMutation;
+import io.evitadb.api.requestResponse.trafficRecording.EntityEnrichmentContainer;
+import io.evitadb.api.requestResponse.trafficRecording.EntityFetchContainer;
+import io.evitadb.api.requestResponse.trafficRecording.MutationContainer;
+import io.evitadb.api.requestResponse.trafficRecording.QueryContainer;
+import io.evitadb.api.requestResponse.trafficRecording.TrafficRecording;
+import io.evitadb.api.requestResponse.trafficRecording.TrafficRecordingCaptureRequest.TrafficRecordingType;
+import io.evitadb.core.metric.LatencyHistogram;
+import io.evitadb.core.traffic.replay.TrafficReplayReport.ShapeStatistics;
+import io.evitadb.dataType.Scope;
+import io.evitadb.exception.GenericEvitaInternalError;
+import io.evitadb.utils.Assert;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+import java.util.function.IntConsumer;
+import java.util.stream.Stream;
+
+/**
+ * Replays recorded traffic (see {@link io.evitadb.api.traffic.TrafficRecordingReader}) against a target evitaDB
+ * instance - either an embedded {@link io.evitadb.core.Evita} or a remote client, since only
+ * the {@link EvitaContract} is required. The recordings are grouped by the sessions they were captured in and each
+ * session is replayed in its own session against the target catalog, in the same order of operations.
+ *
+ * The replay runs in one of two modes:
+ *
+ * - **timed** (speed factor greater than zero): each operation is issued at the time it was recorded relative to
+ *   the first replayed operation, divided by the speed factor - i.e. `1` replays the traffic at its original pace,
+ *   `2` twice as fast and so on; the replayed sessions thus overlap in the same way as the original ones did
+ * - **maximal throughput** (speed factor {@link #MAX_THROUGHPUT}): the sessions are replayed as fast as possible
+ *   with the configured parallelism
+ *
+ * Queries, entity fetches and enrichments are replayed always - enrichments are replayed as fetches of the entity
+ * with the same requirements, since the partially fetched entity they enriched is not part of the recording.
+ * Mutations are replayed only when explicitly requested, because they change the data of the target catalog.
+ * Sessions containing mutations are then replayed in read-write sessions. Source queries (GraphQL, REST) are not
+ * replayed on their own - the evitaDB queries they were translated to are part of the recording and are replayed
+ * instead.
+ *
+ * The latencies of the replayed operations are aggregated by their shape
+ * (see {@link QueryShapeVisitor}) into {@link LatencyHistogram histograms}, which are reported together with
+ * the originally recorded latencies in {@link TrafficReplayReport}.
+ *
+ * The replay can be cancelled - the cancellation is checked before each replayed operation and periodically while
+ * waiting for the scheduled time of the next one.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+@Slf4j
+public class TrafficReplayer {
+	/**
+	 * Speed factor that replays the recorded traffic as fast as possible.
+	 */
+	public static final double MAX_THROUGHPUT = 0.0;
+	/**
+	 * The longest period the timed replay sleeps for without checking the cancellation.
+	 */
+	private static final long CANCELLATION_CHECK_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(100L);
+	/**
+	 * Target evitaDB instance the traffic is replayed against.
+	 */
+	@Nonnull private final EvitaContract target;
+	/**
+	 * Name of the catalog in the target instance the traffic is replayed against.
+	 */
+	@Nonnull private final String catalogName;
+	/**
+	 * Speed factor of the replay, see class documentation.
+	 */
+	private final double speedFactor;
+	/**
+	 * Maximal number of sessions replayed in parallel.
+	 */
+	private final int parallelism;
+	/**
+	 * True if the recorded mutations should be replayed as well.
+	 */
+	private final boolean replayMutations;
+
+	public TrafficReplayer(
+		@Nonnull EvitaContract target,
+		@Nonnull String catalogName,
+		double speedFactor,
+		int parallelism,
+		boolean replayMutations
+	) {
+		Assert.isTrue(speedFactor >= 0.0, "Speed factor must not be negative!");
+		Assert.isTrue(parallelism > 0, "Parallelism must be greater than zero!");
+		this.target = target;
+		this.catalogName = catalogName;
+		this.speedFactor = speedFactor;
+		this.parallelism = parallelism;
+		this.replayMutations = replayMutations;
+	}
+
+	/**
+	 * Replays the passed recordings and returns the report with the measured latencies. The method blocks until all
+	 * recorded sessions are replayed. The recordings are expected in the order provided by
+	 * {@link io.evitadb.api.traffic.TrafficRecordingReader#getRecordings} - i.e. the operations of a single session
+	 * in the order they were executed.
+	 *
+	 * @param recordings       the recordings to replay
+	 * @param progressObserver optional observer receiving the percentage of already replayed sessions
+	 * @return the report of the replay
+	 */
+	@Nonnull
+	public TrafficReplayReport replay(
+		@Nonnull Stream<TrafficRecording> recordings,
+		@Nullable IntConsumer progressObserver
+	) {
+		return replay(recordings, progressObserver, () -> false);
+	}
+
+	/**
+	 * Replays the passed recordings the same way as {@link #replay(Stream, IntConsumer)} does, but stops replaying
+	 * further operations as soon as the `cancellationRequested` returns true.
+	 *
+	 * @param recordings            the recordings to replay
+	 * @param progressObserver      optional observer receiving the percentage of already replayed sessions
+	 * @param cancellationRequested supplier returning true when the replay should be cancelled
+	 * @return the report of the replay
+	 * @throws CancellationException when the replay was cancelled
+	 */
+	@Nonnull
+	public TrafficReplayReport replay(
+		@Nonnull Stream<TrafficRecording> recordings,
+		@Nullable IntConsumer progressObserver,
+		@Nonnull BooleanSupplier cancellationRequested
+	) {
+		final ReplayRun run = new ReplayRun(cancellationRequested);
+		final List<ReplayedSession> sessions = groupBySessions(recordings, run);
+		if (sessions.isEmpty()) {
+			return run.toReport(0, Duration.ZERO);
+		}
+
+		final OffsetDateTime origin = sessions.get(0).start();
+		final AtomicInteger finishedSessions = new AtomicInteger();
+		final AtomicInteger threadCounter = new AtomicInteger();
+		final ExecutorService executor = Executors.newFixedThreadPool(
+			Math.min(this.parallelism, sessions.size()),
+			runnable -> {
+				final Thread thread = new Thread(runnable, "evita-traffic-replay-" + threadCounter.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			}
+		);
+		final long startNanos = System.nanoTime();
+		try {
+			final List<Future<?>> futures = new ArrayList<>(sessions.size());
+			for (ReplayedSession session : sessions) {
+				futures.add(
+					executor.submit(() -> {
+						replaySession(session, origin, startNanos, run);
+						if (progressObserver != null) {
+							progressObserver.accept(finishedSessions.incrementAndGet() * 100 / sessions.size());
+						}
+					})
+				);
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+			if (run.cancelled) {
+				throw new CancellationException("Traffic replay was cancelled.");
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new GenericEvitaInternalError("Traffic replay was interrupted.", e);
+		} catch (ExecutionException e) {
+			throw new GenericEvitaInternalError(
+				"Traffic replay failed: " + e.getCause().getMessage(),
+				"Traffic replay failed.",
+				e.getCause()
+			);
+		} finally {
+			executor.shutdownNow();
+		}
+		return run.toReport(sessions.size(), Duration.ofNanos(System.nanoTime() - startNanos));
+	}
+
+	/**
+	 * Groups the replayable recordings by their sessions and orders the sessions by the time of their first
+	 * replayable operation.
+	 */
+	@Nonnull
+	private List<ReplayedSession> groupBySessions(@Nonnull Stream<TrafficRecording> recordings, @Nonnull ReplayRun run) {
+		final Map<UUID, List<TrafficRecording>> recordingsBySession = new LinkedHashMap<>(256);
+		try (recordings) {
+			recordings.forEach(
+				recording -> {
+					if (recording instanceof MutationContainer && !this.replayMutations) {
+						run.skippedRecords.increment();
+					} else if (isReplayable(recording)) {
+						recordingsBySession.computeIfAbsent(recording.sessionId(), __ -> new ArrayList<>(16)).add(recording);
+					}
+				}
+			);
+		}
+		return recordingsBySession.values()
+			.stream()
+			.map(
+				sessionRecordings -> new ReplayedSession(
+					sessionRecordings,
+					sessionRecordings.get(0).created(),
+					sessionRecordings.stream().anyMatch(MutationContainer.class::isInstance)
+				)
+			)
+			.sorted(Comparator.comparing(ReplayedSession::start))
+			.toList();
+	}
+
+	/**
+	 * Replays all operations of a single recorded session in a new session of the target catalog.
+	 */
+	private void replaySession(
+		@Nonnull ReplayedSession session,
+		@Nonnull OffsetDateTime origin,
+		long startNanos,
+		@Nonnull ReplayRun run
+	) {
+		if (!waitForScheduledTime(session.start(), origin, startNanos, run)) {
+			return;
+		}
+		final SessionTraits traits = session.readWrite() ?
+			new SessionTraits(this.catalogName, SessionFlags.READ_WRITE) : new SessionTraits(this.catalogName);
+		try (final EvitaSessionContract evitaSession = this.target.createSession(traits)) {
+			for (TrafficRecording recording : session.recordings()) {
+				if (!waitForScheduledTime(recording.created(), origin, startNanos, run)) {
+					return;
+				}
+				replayRecording(evitaSession, recording, run);
+			}
+		} catch (RuntimeException ex) {
+			// typically the commit of the replayed read-write session failed
+			log.warn("Replayed session `{}` failed: {}", session.recordings().get(0).sessionId(), ex.getMessage());
+		}
+	}
+
+	/**
+	 * Sleeps until the time the operation recorded at `created` should be replayed at. Doesn't sleep in the maximal
+	 * throughput mode. If the replay is already behind the schedule, the lag is recorded.
+	 *
+	 * @return false if the replay was cancelled and the operation must not be replayed
+	 */
+	private boolean waitForScheduledTime(
+		@Nonnull OffsetDateTime created,
+		@Nonnull OffsetDateTime origin,
+		long startNanos,
+		@Nonnull ReplayRun run
+	) {
+		if (this.speedFactor != MAX_THROUGHPUT) {
+			final long offsetNanos = (long) (Duration.between(origin, created).toNanos() / this.speedFactor);
+			long delayNanos = startNanos + offsetNanos - System.nanoTime();
+			if (delayNanos <= 0) {
+				run.maxLagNanos.accumulateAndGet(-delayNanos, Math::max);
+			}
+			while (delayNanos > 0 && !run.isCancelled()) {
+				try {
+					TimeUnit.NANOSECONDS.sleep(Math.min(delayNanos, CANCELLATION_CHECK_INTERVAL_NANOS));
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new GenericEvitaInternalError("Traffic replay was interrupted.", e);
+				}
+				delayNanos = startNanos + offsetNanos - System.nanoTime();
+			}
+		}
+		return !run.isCancelled();
+	}
+
+	/**
+	 * Replays a single recorded operation and records its latency.
+	 */
+	private void replayRecording(
+		@Nonnull EvitaSessionContract session,
+		@Nonnull TrafficRecording recording,
+		@Nonnull ReplayRun run
+	) {
+		final Runnable operation;
+		final String shape;
+		if (recording instanceof QueryContainer queryContainer) {
+			shape = QueryShapeVisitor.toShape(queryContainer.query());
+			operation = () -> session.query(queryContainer.query(), EntityClassifier.class);
+		} else if (recording instanceof EntityFetchContainer fetchContainer) {
+			shape = QueryShapeVisitor.toShape(fetchContainer.query());
+			operation = () -> fetchEntity(session, fetchContainer.query(), fetchContainer.primaryKey());
+		} else if (recording instanceof EntityEnrichmentContainer enrichmentContainer) {
+			shape = QueryShapeVisitor.toShape(enrichmentContainer.query());
+			operation = () -> fetchEntity(session, enrichmentContainer.query(), enrichmentContainer.primaryKey());
+		} else if (recording instanceof MutationContainer mutationContainer) {
+			final Mutation mutation = mutationContainer.mutation();
+			if (mutation instanceof EntityMutation entityMutation) {
+				shape = mutation.getClass().getSimpleName() + "(" + entityMutation.getEntityType() + ")";
+				operation = () -> session.applyMutation(entityMutation);
+			} else if (mutation instanceof LocalCatalogSchemaMutation schemaMutation) {
+				shape = mutation.getClass().getSimpleName();
+				operation = () -> session.updateCatalogSchema(schemaMutation);
+			} else {
+				run.skippedRecords.increment();
+				return;
+			}
+		} else {
+			return;
+		}
+
+		final ShapeAccumulator accumulator = run.shapes.computeIfAbsent(
+			new ShapeKey(recording.type(), shape), ShapeAccumulator::new
+		);
+		final long start = System.nanoTime();
+		try {
+			operation.run();
+		} catch (RuntimeException ex) {
+			accumulator.failed.increment();
+			run.failedRecords.increment();
+		} finally {
+			accumulator.replayed.record(System.nanoTime() - start);
+			accumulator.recorded.record(TimeUnit.MILLISECONDS.toNanos(recording.durationInMilliseconds()));
+			run.replayedRecords.increment();
+		}
+	}
+
+	/**
+	 * Fetches the entity identified by the primary key with the requirements and scopes of the recorded fetch query.
+	 */
+	private static void fetchEntity(@Nonnull EvitaSessionContract session, @Nonnull Query query, int primaryKey) {
+		final String entityType = query.getCollection() == null ? null : query.getCollection().getEntityType();
+		Assert.isTrue(entityType != null, "Recorded fetch query doesn't contain entity type!");
+		final EntityFetch entityFetch = QueryUtils.findRequire(
+			query, EntityFetch.class, SeparateEntityContentRequireContainer.class
+		);
+		final EntityScope entityScope = QueryUtils.findFilter(query, EntityScope.class);
+		session.getEntity(
+			entityType,
+			primaryKey,
+			entityScope == null ? Scope.DEFAULT_SCOPES : entityScope.getScope().toArray(Scope[]::new),
+			entityFetch == null ? new EntityContentRequire[0] : entityFetch.getRequirements()
+		);
+	}
+
+	/**
+	 * Returns true if the recording represents an operation that can be replayed.
+	 */
+	private static boolean isReplayable(@Nonnull TrafficRecording recording) {
+		return recording instanceof QueryContainer ||
+			recording instanceof EntityFetchContainer ||
+			recording instanceof EntityEnrichmentContainer ||
+			recording instanceof MutationContainer;
+	}
+
+	/**
+	 * Operations of a single recorded session.
+	 *
+	 * @param recordings replayable operations in the order they were executed
+	 * @param start      time of the first replayable operation
+	 * @param readWrite  true if the session needs to be replayed in read-write mode
+	 */
+	private record ReplayedSession(
+		@Nonnull List<TrafficRecording> recordings,
+		@Nonnull OffsetDateTime start,
+		boolean readWrite
+	) {
+	}
+
+	/**
+	 * Key identifying the shape of the replayed operations.
+	 *
+	 * @param type  type of the operation
+	 * @param shape shape of the operation
+	 */
+	private record ShapeKey(
+		@Nonnull TrafficRecordingType type,
+		@Nonnull String shape
+	) {
+	}
+
+	/**
+	 * Latencies collected for a single shape.
+	 */
+	private static class ShapeAccumulator {
+		private final ShapeKey key;
+		private final LatencyHistogram recorded = new LatencyHistogram();
+		private final LatencyHistogram replayed = new LatencyHistogram();
+		private final LongAdder failed = new LongAdder();
+
+		ShapeAccumulator(@Nonnull ShapeKey key) {
+			this.key = key;
+		}
+
+		@Nonnull
+		ShapeStatistics toStatistics() {
+			return new ShapeStatistics(
+				this.key.type(),
+				this.key.shape(),
+				this.replayed.getCount(),
+				this.failed.sum(),
+				this.recorded.getSummary(),
+				this.replayed.getSummary()
+			);
+		}
+
+	}
+
+	/**
+	 * Mutable state of a single replay run shared by all replaying threads.
+	 */
+	private class ReplayRun {
+		private final OffsetDateTime started = OffsetDateTime.now();
+		private final BooleanSupplier cancellationRequested;
+		private final Map<ShapeKey, ShapeAccumulator> shapes = new ConcurrentHashMap<>(64);
+		private final LongAdder replayedRecords = new LongAdder();
+		private final LongAdder failedRecords = new LongAdder();
+		private final LongAdder skippedRecords = new LongAdder();
+		private final AtomicLong maxLagNanos = new AtomicLong();
+		private volatile boolean cancelled;
+
+		ReplayRun(@Nonnull BooleanSupplier cancellationRequested) {
+			this.cancellationRequested = cancellationRequested;
+		}
+
+		/**
+		 * Returns true if the cancellation of the replay was requested. The answer is remembered once positive.
+		 */
+		boolean isCancelled() {
+			if (!this.cancelled && this.cancellationRequested.getAsBoolean()) {
+				this.cancelled = true;
+			}
+			return this.cancelled;
+		}
+
+		@Nonnull
+		TrafficReplayReport toReport(int sessionCount, @Nonnull Duration duration) {
+			return new TrafficReplayReport(
+				this.started,
+				duration,
+				TrafficReplayer.this.speedFactor,
+				sessionCount,
+				this.replayedRecords.sum(),
+				this.failedRecords.sum(),
+				this.skippedRecords.sum(),
+				Duration.ofNanos(this.maxLagNanos.get()),
+				this.shapes.values()
+					.stream()
+					.map(ShapeAccumulator::toStatistics)
+					.sorted(
+						Comparator.comparingLong(
+							(ShapeStatistics it) -> it.replayed().mean() * it.count()
+						).reversed()
+					)
+					.toList()
+			);
+		}
+
+	}
+
+}
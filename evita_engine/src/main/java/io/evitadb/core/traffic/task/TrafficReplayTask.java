@@ -0,0 +1,177 @@
+/*
+ *
+ *                         _ _        ____  ____
+ *               _____   _(_) |_ __ _|  _ \| __ )
+ *              / _ \ \ / / | __/ _` | | | |  _ \
+ *             |  __/\ V /| | || (_| | |_| | |_) |
+ *              \___| \_/ |_|\__\__,_|____/|____/
+ *
+ *   Copyright (c) 2026
+ *
+ *   Licensed under the Business Source License, Version 1.1 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://github.com/FgForrest/evitaDB/blob/master/LICENSE
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.evitadb.core.traffic.task;
+
+import io.evitadb.api.EvitaContract;
+import io.evitadb.api.exception.IndexNotReady;
+import io.evitadb.api.file.FileForFetch;
+import io.evitadb.api.requestResponse.trafficRecording.TrafficRecording;
+import io.evitadb.api.requestResponse.trafficRecording.TrafficRecordingCaptureRequest;
+import io.evitadb.api.requestResponse.trafficRecording.TrafficRecordingContent;
+import io.evitadb.api.task.TaskStatus.TaskTrait;
+import io.evitadb.core.executor.ClientCallableTask;
+import io.evitadb.core.traffic.TrafficRecordingEngine;
+import io.evitadb.core.traffic.TrafficReplaySettings;
+import io.evitadb.core.traffic.replay.TrafficReplayReport;
+import io.evitadb.core.traffic.replay.TrafficReplayer;
+import io.evitadb.exception.GenericEvitaInternalError;
+import io.evitadb.exception.UnexpectedIOException;
+import io.evitadb.spi.export.ExportService;
+import io.evitadb.spi.export.model.ExportFileHandle;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Task that replays the traffic currently kept in the traffic recording buffer of a catalog against a target catalog
+ * of the same evitaDB instance using {@link TrafficReplayer} and stores the resulting
+ * {@link TrafficReplayReport report} as a downloadable CSV file with latency statistics per query shape. Cancelling
+ * the task stops the replay before the next replayed operation.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+@Slf4j
+public class TrafficReplayTask extends ClientCallableTask<TrafficReplaySettings, FileForFetch> {
+	/**
+	 * Number of attempts to wait for the traffic recording index to be built.
+	 */
+	private static final int INDEX_WAIT_ATTEMPTS = 600;
+	/**
+	 * Interval between the attempts to wait for the traffic recording index to be built.
+	 */
+	private static final long INDEX_WAIT_INTERVAL_MILLIS = 100L;
+	private final EvitaContract evita;
+	private final TrafficRecordingEngine trafficRecordingEngine;
+	private final ExportService exportService;
+
+	public TrafficReplayTask(
+		@Nonnull String catalogName,
+		@Nonnull String targetCatalogName,
+		@Nullable OffsetDateTime since,
+		double speedFactor,
+		int parallelism,
+		boolean replayMutations,
+		@Nonnull EvitaContract evita,
+		@Nonnull TrafficRecordingEngine trafficRecordingEngine,
+		@Nonnull ExportService exportService
+	) {
+		super(
+			catalogName,
+			TrafficReplayTask.class.getSimpleName(),
+			"Traffic replay of catalog `" + catalogName + "` against catalog `" + targetCatalogName + "`",
+			new TrafficReplaySettings(catalogName, targetCatalogName, since, speedFactor, parallelism, replayMutations),
+			(task) -> ((TrafficReplayTask) task).doReplay(),
+			TaskTrait.CAN_BE_STARTED, TaskTrait.CAN_BE_CANCELLED
+		);
+		this.evita = evita;
+		this.trafficRecordingEngine = trafficRecordingEngine;
+		this.exportService = exportService;
+	}
+
+	/**
+	 * Returns the stream of recordings matching the request. The index of the recordings is built lazily on the first
+	 * request, so the method waits until it's ready.
+	 */
+	@Nonnull
+	private Stream<TrafficRecording> getRecordings(@Nonnull TrafficRecordingCaptureRequest request) {
+		for (int attempt = 1; ; attempt++) {
+			try {
+				return this.trafficRecordingEngine.getRecordings(request);
+			} catch (IndexNotReady ex) {
+				if (attempt == INDEX_WAIT_ATTEMPTS) {
+					throw ex;
+				}
+				try {
+					Thread.sleep(INDEX_WAIT_INTERVAL_MILLIS);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new GenericEvitaInternalError("Traffic replay task finished abnormally (interrupt).", e);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Replays the recorded traffic and returns the file with the report.
+	 */
+	@Nonnull
+	private FileForFetch doReplay() {
+		final TrafficReplaySettings settings = getStatus().settings();
+		final TrafficReplayer replayer = new TrafficReplayer(
+			this.evita,
+			settings.targetCatalogName(),
+			settings.speedFactor(),
+			settings.parallelism(),
+			settings.replayMutations()
+		);
+		final Stream<TrafficRecording> recordings = getRecordings(
+			TrafficRecordingCaptureRequest.builder()
+				.content(TrafficRecordingContent.BODY)
+				.since(settings.since())
+				.build()
+		);
+		// the cancellation of the task only completes its future, so the replay must check it between the operations
+		final TrafficReplayReport report = replayer.replay(
+			recordings, this::updateProgress, getFutureResult()::isCancelled
+		);
+		log.info("Traffic replay of catalog `{}` finished:\n{}", settings.catalogName(), report);
+
+		final ExportFileHandle exportFileHandle = this.exportService.storeFile(
+			"traffic_replay_" + settings.catalogName() + "_" +
+				report.started().format(DateTimeFormatter.ISO_OFFSET_DATE_TIME) + ".csv",
+			"Latencies of traffic of catalog `" + settings.catalogName() + "` replayed against catalog `" +
+				settings.targetCatalogName() + "` at " + report.started().format(DateTimeFormatter.ISO_OFFSET_DATE_TIME) + ".",
+			"text/csv",
+			this.getClass().getSimpleName()
+		);
+		try (exportFileHandle) {
+			exportFileHandle.outputStream().write(report.toCsv().getBytes(StandardCharsets.UTF_8));
+		} catch (IOException e) {
+			throw new UnexpectedIOException(
+				"Failed to write traffic replay report for catalog `" + settings.catalogName() + "`: " + e.getMessage(),
+				"Failed to write traffic replay report.",
+				e
+			);
+		}
+
+		try {
+			return exportFileHandle.fileForFetchFuture().get(1L, TimeUnit.MINUTES);
+		} catch (Exception e) {
+			throw new GenericEvitaInternalError(
+				"Unexpected error when retrieving the traffic replay report file for catalog `" +
+					settings.catalogName() + "`: " + e.getMessage(),
+				"Failed to retrieve the traffic replay report file after successful creation!",
+				e
+			);
+		}
+	}
+
+}
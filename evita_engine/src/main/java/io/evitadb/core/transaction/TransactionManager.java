@@ -183,6 +183,10 @@ public class TransactionManager implements Closeable {
 	 * asynchronous reactive manner.
 	 */
 	private final SubmissionPublisher<ConflictResolutionAndWalAppendingTransactionTask> transactionalPipeline;
+	/**
+	 * The first stage of the {@link #transactionalPipeline}, kept to accept the transactions it holds back on close.
+	 */
+	private final ConflictResolutionAndWalAppendingTransactionStage conflictResolutionStage;
 	/**
 	 * Change observer that is used to notify all registered {@link io.evitadb.api.requestResponse.cdc.ChangeCapturePublisher} about changes in the
 	 * catalog.
@@ -384,7 +388,8 @@ public class TransactionManager implements Closeable {
 		this.conflictResolution = this.configuration.transaction().conflictPolicy();
 		this.requestExecutor = requestExecutor;
 		this.transactionalExecutor = transactionalExecutor;
-		this.transactionalPipeline = createTransactionalPublisher();
+		this.conflictResolutionStage = createConflictResolutionStage();
+		this.transactionalPipeline = createTransactionalPublisher(this.conflictResolutionStage);
 		this.newCatalogVersionConsumer = newCatalogVersionConsumer;
 		this.transactionAcceptanceTimeout = this.configuration.transaction().waitForTransactionAcceptanceInMillis();
 		final ChangeDataCaptureOptions cdcOptions = this.configuration.server().changeDataCapture();
@@ -1493,6 +1498,15 @@ public class TransactionManager implements Closeable {
 						);
 					}
 
+					// advance the pending attribute index backfills within the round - the backfill is not recorded in
+					// the WAL, each node (and each WAL replay) re-indexes the entities on its own, so that it consumes
+					// neither catalog versions nor change captures of its own
+					if (latestCatalog.isAttributeIndexBackfillPending()) {
+						lastTransaction = createTransaction(lastTransactionMutation, lastTransaction, transactionHandler);
+						Transaction.executeInTransactionIfProvided(lastTransaction, latestCatalog::advanceAttributeIndexBackfill);
+						lastTransaction.close();
+					}
+
 					// we've run out of mutation, or the timeout has been exceeded, create a new catalog version now
 					// and update the last finalized transaction ID and catalog version
 					// From here on the collect has begun: the flush pops every trapped change, advances every page
@@ -1723,6 +1737,8 @@ public class TransactionManager implements Closeable {
 	@Override
 	public void close() throws IOException {
 		IOUtils.closeQuietly(
+			// accept the commutative transactions held back for merging before the pipeline stops
+			this.conflictResolutionStage::close,
 			this.transactionalPipeline::close,
 			this.changeObserver::close,
 			this.walDrainingTask::close,
@@ -1844,18 +1860,38 @@ public class TransactionManager implements Closeable {
 	 * - trunk incorporation (applying transaction from shared WAL in order to the shared catalog view) plus
 	 * catalog snapshot propagation (propagating new catalog version to the "live view" of the evitaDB engine)
 	 *
+	 * @param conflictResolutionStage the first stage of the pipeline created by {@link #createConflictResolutionStage()}
 	 * @return the submission publisher for conflict resolution transaction tasks
 	 */
 	@Nonnull
-	private SubmissionPublisher<ConflictResolutionAndWalAppendingTransactionTask> createTransactionalPublisher() {
+	private SubmissionPublisher<ConflictResolutionAndWalAppendingTransactionTask> createTransactionalPublisher(
+		@Nonnull ConflictResolutionAndWalAppendingTransactionStage conflictResolutionStage
+	) {
 		final int maxBufferCapacity = this.configuration.server().transactionThreadPool().queueSize();
 		final Executor unrejectableExecutor = ProgressingFuture.unrejectableExecutor(this.transactionalExecutor);
 
 		final SubmissionPublisher<ConflictResolutionAndWalAppendingTransactionTask> txPublisher = new SubmissionPublisher<>(
 			unrejectableExecutor, maxBufferCapacity
 		);
+		txPublisher.subscribe(conflictResolutionStage);
+		return txPublisher;
+	}
+
+	/**
+	 * Creates the first stage of the transactional pipeline (conflict resolution and WAL appending) already
+	 * subscribed by the second stage (trunk incorporation). See {@link #createTransactionalPublisher}.
+	 *
+	 * @return the conflict resolution stage
+	 */
+	@Nonnull
+	private ConflictResolutionAndWalAppendingTransactionStage createConflictResolutionStage() {
+		final int maxBufferCapacity = this.configuration.server().transactionThreadPool().queueSize();
+		final Executor unrejectableExecutor = ProgressingFuture.unrejectableExecutor(this.transactionalExecutor);
+
 		final ConflictResolutionAndWalAppendingTransactionStage stage1 = new ConflictResolutionAndWalAppendingTransactionStage(
-			unrejectableExecutor, maxBufferCapacity, this,
+			unrejectableExecutor, maxBufferCapacity,
+			this.configuration.transaction().deltaBatchingWindowInMillis(),
+			this,
 			// do nothing on error
 			(transactionTask, throwable) -> {
 			}
@@ -1866,9 +1902,8 @@ public class TransactionManager implements Closeable {
 			this::retryTransactionProcessing
 		);
 
-		txPublisher.subscribe(stage1);
 		stage1.subscribe(stage2);
-		return txPublisher;
+		return stage1;
 	}
 
 	/**
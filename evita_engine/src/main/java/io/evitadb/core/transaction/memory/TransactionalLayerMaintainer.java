@@ -35,6 +35,8 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.NotThreadSafe;
 import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
@@ -44,7 +46,14 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * Transactional layer is a temporary storage for storing {@link TransactionalLayerCreator#createLayer()} objects.
@@ -72,11 +81,21 @@ public class TransactionalLayerMaintainer {
 	 */
 	private final LongObjectHashMap<TransactionalLayerEntry<?>> transactionalLayer;
 	/**
-	 * Internal flag that allows to avoid marking the used transactional layer as {@link TransactionalLayerState#DISCARDED}.
+	 * Threads that currently avoid marking the used transactional layer as {@link TransactionalLayerState#DISCARDED}.
 	 * It's used when we need merged transactional state within the current transaction leaving the modification state
-	 * intact for further {@link #commit()}.
+	 * intact for further {@link #commit()}. The flag is kept per thread, because during
+	 * {@link #getStateCopiesWithCommittedChanges(List, Executor, Function) a parallel merge} each worker may ask for
+	 * the non-discarding copy of its own sub-tree independently of the others.
 	 */
-	private final AtomicBoolean avoidDiscardingState = new AtomicBoolean();
+	private final Set<Thread> threadsAvoidingDiscardingState = ConcurrentHashMap.newKeySet();
+	/**
+	 * Flag is set to TRUE while {@link #getStateCopiesWithCommittedChanges(List, Executor, Function)} merges multiple
+	 * producers in parallel. While set, all accesses to {@link #transactionalLayer} registry are serialized, because
+	 * the primitive map is not safe for concurrent modification. The flag is a plain field - it's written only by
+	 * the thread orchestrating the merge before the workers are submitted to the executor and after all of them have
+	 * finished, which establishes the necessary happens-before relation.
+	 */
+	private boolean concurrentMerge;
 	/**
 	 * This flag is set to FALSE when transaction is committed. From this moment on no transactional memory layer is
 	 * allowed to be created.
@@ -188,7 +207,7 @@ public class TransactionalLayerMaintainer {
 		if (this.currentSavepoint != null) {
 			recordSavepointRemovalIfNeeded(id, removedValue);
 		}
-		this.transactionalLayer.remove(id);
+		removeEntry(id);
 		return removedValue.getItem();
 	}
 
@@ -206,7 +225,7 @@ public class TransactionalLayerMaintainer {
 		if (this.currentSavepoint != null) {
 			recordSavepointRemovalIfNeeded(id, entry);
 		}
-		this.transactionalLayer.remove(id);
+		removeEntry(id);
 		return entry.getItem();
 	}
 
@@ -236,7 +255,7 @@ public class TransactionalLayerMaintainer {
 
 		transactionalMemory = layerCreator.createLayer();
 		if (transactionalMemory != null) {
-			this.transactionalLayer.put(id, new TransactionalLayerEntry<>(layerCreator, transactionalMemory));
+			putEntry(id, new TransactionalLayerEntry<>(layerCreator, transactionalMemory));
 			// the layer was created within an open savepoint — mark it so rollbackSavepoint drops it entirely
 			recordSavepointCreationIfNeeded(id);
 		}
@@ -300,12 +319,12 @@ public class TransactionalLayerMaintainer {
 	) {
 		try {
 			Assert.isTrue(
-				this.avoidDiscardingState.compareAndSet(false, true),
+				this.threadsAvoidingDiscardingState.add(Thread.currentThread()),
 				"Calling getStateCopyWithCommittedChangesWithoutDiscardingState in nested way is not allowed (we don't maintain stack)!"
 			);
 			return getStateCopyWithCommittedChanges(transactionalLayerProducer);
 		} finally {
-			this.avoidDiscardingState.set(false);
+			this.threadsAvoidingDiscardingState.remove(Thread.currentThread());
 		}
 	}
 
@@ -321,6 +340,120 @@ public class TransactionalLayerMaintainer {
 		return transactionalStateProducer.createCopyWithMergedTransactionalMemory(this);
 	}
 
+	/**
+	 * Does the same as {@link #getStateCopyWithCommittedChanges(TransactionalStateProducer)} for each of the passed
+	 * producers, but merges them in parallel using the passed executor. The producers must be independent of each
+	 * other - i.e. no diff layer may be reachable from more than one of them - which is the case for example for
+	 * the entity collections of the catalog (each of them owns its own schema, indexes and storage changes).
+	 *
+	 * The calling thread takes part in the merge - it claims the producers one by one along with the workers
+	 * submitted to the executor - so the method makes progress even if the executor is saturated or rejects the
+	 * workers, and it never waits for a worker that hasn't started yet. It waits only for the producers already
+	 * claimed by the running workers.
+	 *
+	 * The transactional memory is bound to a thread, so the `workerContext` is expected to bind the transaction of
+	 * the calling thread to the worker thread for the duration of the passed merge.
+	 *
+	 * @param producers     independent producers to merge
+	 * @param executor      executor to run the workers in
+	 * @param workerContext wraps the merge of a single producer executed on a worker thread
+	 * @return committed copies of the producers in the same order as the producers were passed
+	 */
+	@Nonnull
+	public <S> List<S> getStateCopiesWithCommittedChanges(
+		@Nonnull List<? extends TransactionalStateProducer<S>> producers,
+		@Nonnull Executor executor,
+		@Nonnull Function<Supplier<S>, S> workerContext
+	) {
+		final int count = producers.size();
+		if (count < 2) {
+			final List<S> result = new ArrayList<>(count);
+			for (TransactionalStateProducer<S> producer : producers) {
+				result.add(getStateCopyWithCommittedChanges(producer));
+			}
+			return result;
+		}
+
+		Assert.isPremiseValid(
+			!this.concurrentMerge,
+			"Calling getStateCopiesWithCommittedChanges in nested way is not allowed!"
+		);
+		final Object[] result = new Object[count];
+		final AtomicInteger nextProducer = new AtomicInteger();
+		final CountDownLatch finishedProducers = new CountDownLatch(count);
+		final AtomicReference<Throwable> failure = new AtomicReference<>();
+		final Runnable worker = () -> mergeClaimedProducers(
+			producers, result, nextProducer, finishedProducers, failure, workerContext
+		);
+		this.concurrentMerge = true;
+		try {
+			for (int i = 1; i < count; i++) {
+				try {
+					executor.execute(worker);
+				} catch (RejectedExecutionException ex) {
+					// the calling thread will process the remaining producers itself
+					break;
+				}
+			}
+			// the calling thread is bound to the transaction already
+			mergeClaimedProducers(producers, result, nextProducer, finishedProducers, failure, Supplier::get);
+			// wait only for producers claimed by the workers that are already running
+			finishedProducers.await();
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new GenericEvitaInternalError("Interrupted while waiting for the parallel merge to finish!", ex);
+		} finally {
+			this.concurrentMerge = false;
+		}
+
+		final Throwable theFailure = failure.get();
+		if (theFailure instanceof RuntimeException runtimeException) {
+			throw runtimeException;
+		} else if (theFailure instanceof Error error) {
+			throw error;
+		} else if (theFailure != null) {
+			throw new GenericEvitaInternalError("Parallel merge of the transactional memory failed!", theFailure);
+		}
+		//noinspection unchecked
+		return (List<S>) Arrays.asList(result);
+	}
+
+	/**
+	 * Claims the producers one by one from the shared `nextProducer` counter and merges them until there is none left.
+	 * Once any merge fails, the remaining producers are only claimed and counted down, but not merged anymore.
+	 *
+	 * @param producers         all producers being merged
+	 * @param result            array collecting the merged copies at the positions of their producers
+	 * @param nextProducer      index of the next producer to claim
+	 * @param finishedProducers latch counted down for each claimed producer
+	 * @param failure           the first failure of any merge
+	 * @param context           wraps the merge of a single producer
+	 */
+	private <S> void mergeClaimedProducers(
+		@Nonnull List<? extends TransactionalStateProducer<S>> producers,
+		@Nonnull Object[] result,
+		@Nonnull AtomicInteger nextProducer,
+		@Nonnull CountDownLatch finishedProducers,
+		@Nonnull AtomicReference<Throwable> failure,
+		@Nonnull Function<Supplier<S>, S> context
+	) {
+		final int count = producers.size();
+		for (int i = nextProducer.getAndIncrement(); i < count; i = nextProducer.getAndIncrement()) {
+			try {
+				if (failure.get() == null) {
+					final TransactionalStateProducer<S> producer = producers.get(i);
+					result[i] = context.apply(() -> getStateCopyWithCommittedChanges(producer));
+				}
+			} catch (Throwable ex) {
+				if (!failure.compareAndSet(null, ex)) {
+					failure.get().addSuppressed(ex);
+				}
+			} finally {
+				finishedProducers.countDown();
+			}
+		}
+	}
+
 	/**
 	 * Resolves the diff layer owned by the passed producer, lets it merge that layer into a new committed instance and
 	 * disposes of the layer afterwards.
@@ -341,7 +474,7 @@ public class TransactionalLayerMaintainer {
 			transactionalLayerForItem == null ? null : transactionalLayerForItem.getItem(),
 			this
 		);
-		if (!this.avoidDiscardingState.get() && transactionalLayerForItem != null) {
+		if (transactionalLayerForItem != null && !this.threadsAvoidingDiscardingState.contains(Thread.currentThread())) {
 			transactionalLayerForItem.discard();
 		}
 		return copyWithCommittedChanges;
@@ -633,7 +766,14 @@ public class TransactionalLayerMaintainer {
 	 */
 	@Nullable
 	private <T> TransactionalLayerEntry<T> getEntryIfExists(long id, @Nonnull TransactionalLayerCreator<T> creator) {
-		final TransactionalLayerEntry<?> entry = this.transactionalLayer.get(id);
+		final TransactionalLayerEntry<?> entry;
+		if (this.concurrentMerge) {
+			synchronized (this.transactionalLayer) {
+				entry = this.transactionalLayer.get(id);
+			}
+		} else {
+			entry = this.transactionalLayer.get(id);
+		}
 		if (entry == null) {
 			return null;
 		}
@@ -650,6 +790,37 @@ public class TransactionalLayerMaintainer {
 		return (TransactionalLayerEntry<T>) entry;
 	}
 
+	/**
+	 * Registers the entry in the {@link #transactionalLayer} registry, serializing the access during a parallel merge.
+	 *
+	 * @param id    id of the layer creator
+	 * @param entry the entry to register
+	 */
+	private void putEntry(long id, @Nonnull TransactionalLayerEntry<?> entry) {
+		if (this.concurrentMerge) {
+			synchronized (this.transactionalLayer) {
+				this.transactionalLayer.put(id, entry);
+			}
+		} else {
+			this.transactionalLayer.put(id, entry);
+		}
+	}
+
+	/**
+	 * Removes the entry from the {@link #transactionalLayer} registry, serializing the access during a parallel merge.
+	 *
+	 * @param id id of the layer creator
+	 */
+	private void removeEntry(long id) {
+		if (this.concurrentMerge) {
+			synchronized (this.transactionalLayer) {
+				this.transactionalLayer.remove(id);
+			}
+		} else {
+			this.transactionalLayer.remove(id);
+		}
+	}
+
 	/**
 	 * Opaque handle for a savepoint opened via {@link #openSavepoint()}. It holds, per touched layer, the memento
 	 * captured at first touch (or the {@link #CREATED_IN_SAVEPOINT} sentinel for layers created while the savepoint
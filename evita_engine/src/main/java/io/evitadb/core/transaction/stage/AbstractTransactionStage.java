@@ -145,6 +145,13 @@ public sealed abstract class AbstractTransactionStage<T extends TransactionTask>
 	@Override
 	public final void onComplete() {
 		log.debug("Transaction stage completed for catalog `{}`!", this.transactionManager.getCatalogName());
+		try {
+			handleComplete();
+		} catch (Throwable ex) {
+			log.error(
+				"Error while completing {} stage for catalog `{}`!", getName(), this.transactionManager.getCatalogName(), ex
+			);
+		}
 		this.completed = true;
 	}
 
@@ -163,6 +170,14 @@ public sealed abstract class AbstractTransactionStage<T extends TransactionTask>
 	 */
 	protected abstract void handleNext(@Nonnull T task);
 
+	/**
+	 * Called when the upstream publisher completes and no more tasks will be delivered to this stage. The stage
+	 * should finish the processing of the tasks it still holds. Does nothing by default.
+	 */
+	protected void handleComplete() {
+		// no tasks held by default
+	}
+
 	/**
 	 * Pushes a target task to the next transaction stage.
 	 * If the target task's future is null, it completes the future with a new catalog version.
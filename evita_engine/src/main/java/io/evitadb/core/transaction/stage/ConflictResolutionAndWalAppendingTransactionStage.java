@@ -28,6 +28,7 @@ import io.evitadb.api.CommitProgressRecord;
 import io.evitadb.api.TransactionContract.CommitBehavior;
 import io.evitadb.api.exception.ConflictingCatalogMutationException;
 import io.evitadb.api.exception.TransactionException;
+import io.evitadb.api.requestResponse.mutation.conflict.CommutativeConflictKey;
 import io.evitadb.api.requestResponse.mutation.conflict.ConflictKey;
 import io.evitadb.api.requestResponse.mutation.infrastructure.TransactionMutation;
 import io.evitadb.core.catalog.Catalog;
@@ -40,20 +41,26 @@ import io.evitadb.core.transaction.TransactionManager;
 import io.evitadb.core.transaction.stage.ConflictResolutionAndWalAppendingTransactionStage.ConflictResolutionAndWalAppendingTransactionTask;
 import io.evitadb.core.transaction.stage.TrunkIncorporationTransactionStage.TrunkIncorporationTransactionTask;
 import io.evitadb.spi.store.catalog.exception.CatalogWriteAheadLastTransactionMismatchException;
+import io.evitadb.spi.store.catalog.shared.model.CompositeLogRecordReference;
 import io.evitadb.spi.store.catalog.shared.model.LogRecordReference;
 import io.evitadb.utils.Assert;
 import lombok.extern.slf4j.Slf4j;
 
 import javax.annotation.Nonnull;
-import javax.annotation.concurrent.NotThreadSafe;
+import javax.annotation.concurrent.ThreadSafe;
 import java.time.OffsetDateTime;
 import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Flow;
 import java.util.concurrent.Flow.Subscriber;
 import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.BiConsumer;
@@ -75,13 +82,44 @@ import java.util.function.BiConsumer;
  * for group commit: under load a transaction can wait for the tail of an in-flight force plus the next one,
  * so WAL-persistence latency at the high percentiles rises while throughput does.
  *
+ * When the delta batching window is configured, transactions consisting solely of commutative changes (typically
+ * attribute delta mutations of hot counters) are not accepted one by one. They are held back for the window and
+ * then merged into a single synthesized transaction - one catalog version, one WAL record, one trunk incorporation
+ * - while every client still receives its own acknowledgement through {@link MergedCommitProgressRecord}. Conflicts
+ * are still resolved for each merged transaction separately (against its own snapshot version), so a conflicting
+ * member is rejected without affecting the rest of the batch. Any other transaction closes the window right away,
+ * so the relative order of all transactions is preserved. The window is flushed from a timer thread, which is why
+ * the acceptance itself runs under {@link #acceptanceLock}. The held back transactions are accepted right away also
+ * when the stage completes or is closed, because no further transaction will arrive to close the window.
+ *
+ * The stage is touched by several threads, so its state is guarded by two locks:
+ *
+ * - {@link #acceptanceLock} serializes {@link #handleNext}, the timer flush of an expired delta batch,
+ *   {@link #handleComplete} and {@link #close} - i.e. conflict resolution, catalog version assignment and the WAL
+ *   append happen for one transaction (or one merged batch) at a time and in the order of acceptance
+ * - {@link #pendingDurabilityLock} guards the queue of transactions waiting for the WAL force, which is shared by
+ *   the appending thread and the syncing task; {@link #syncInFlight} admits only one syncing task at a time
+ *
+ * The acceptance never waits for the WAL force while holding {@link #acceptanceLock}, and the syncing task never
+ * acquires {@link #acceptanceLock}, so the two locks are never nested in the opposite order.
+ *
  * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2024
  */
 @Slf4j
-@NotThreadSafe
+@ThreadSafe
 public final class ConflictResolutionAndWalAppendingTransactionStage
 	extends AbstractTransactionStage<ConflictResolutionAndWalAppendingTransactionTask>
-	implements Flow.Processor<ConflictResolutionAndWalAppendingTransactionTask, TrunkIncorporationTransactionTask> {
+	implements Flow.Processor<ConflictResolutionAndWalAppendingTransactionTask, TrunkIncorporationTransactionTask>, AutoCloseable {
+
+	/**
+	 * Maximal number of commutative transactions merged into a single synthesized transaction.
+	 */
+	static final int MAX_DELTA_BATCH_SIZE = 256;
+	/**
+	 * Maximal summary WAL size of commutative transactions merged into a single synthesized transaction - kept far
+	 * below any sensible WAL file size limit, because a transaction cannot be split across WAL files.
+	 */
+	static final long MAX_DELTA_BATCH_SIZE_IN_BYTES = 1_048_576L;
 
 	/**
 	 * Publisher that emits {@link TrunkIncorporationTransactionTask} objects to be processed by the next stage.
@@ -125,16 +163,52 @@ public final class ConflictResolutionAndWalAppendingTransactionStage
 	 * concern, not something a commit path should attempt.
 	 */
 	private volatile Throwable walDurabilityFailure;
+	/**
+	 * The window in milliseconds commutative transactions are held back for to be merged, zero when delta batching
+	 * is disabled.
+	 */
+	private final long deltaBatchingWindowInMillis;
+	/**
+	 * Serializes the acceptance of transactions (conflict resolution, version assignment and WAL append) between
+	 * the thread delivering the tasks, the timer flushing an expired delta batch and the thread completing or closing
+	 * the stage - the catalog versions must be assigned and appended in a single uninterrupted sequence. It is taken
+	 * even when delta batching is disabled, so that the contract doesn't depend on the configuration.
+	 */
+	private final ReentrantLock acceptanceLock = new ReentrantLock();
+	/**
+	 * Commutative transactions held back to be merged, in arrival order. Guarded by {@link #acceptanceLock}.
+	 */
+	private final List<ConflictResolutionAndWalAppendingTransactionTask> deltaBatch = new ArrayList<>(32);
+	/**
+	 * Sum of the WAL sizes of the transactions in {@link #deltaBatch}. Guarded by {@link #acceptanceLock}.
+	 */
+	private long deltaBatchSizeInBytes;
+	/**
+	 * Incremented with each flush of the {@link #deltaBatch} so that the timer scheduled for an already flushed
+	 * batch does not cut the window of the next one short. Guarded by {@link #acceptanceLock}.
+	 */
+	private long deltaBatchGeneration;
 
 	public ConflictResolutionAndWalAppendingTransactionStage(
 		@Nonnull Executor executor,
 		int maxBufferCapacity,
 		@Nonnull TransactionManager transactionManager,
 		@Nonnull BiConsumer<TransactionTask, Throwable> onException
+	) {
+		this(executor, maxBufferCapacity, 0L, transactionManager, onException);
+	}
+
+	public ConflictResolutionAndWalAppendingTransactionStage(
+		@Nonnull Executor executor,
+		int maxBufferCapacity,
+		long deltaBatchingWindowInMillis,
+		@Nonnull TransactionManager transactionManager,
+		@Nonnull BiConsumer<TransactionTask, Throwable> onException
 	) {
 		super(transactionManager, onException);
 		this.executor = executor;
 		this.publisher = new SubmissionPublisher<>(executor, maxBufferCapacity);
+		this.deltaBatchingWindowInMillis = deltaBatchingWindowInMillis;
 	}
 
 	@Override
@@ -158,7 +232,56 @@ public final class ConflictResolutionAndWalAppendingTransactionStage
 			"Future is unexpectedly null in the first stage!"
 		);
 
-		// refuse up front once the WAL has stopped being able to accept durable writes - see the field
+		assertWalDurable(task);
+
+		this.acceptanceLock.lock();
+		try {
+			if (this.deltaBatchingWindowInMillis <= 0L) {
+				acceptTransaction(task, false);
+			} else if (isEligibleForDeltaBatching(task)) {
+				if (!this.deltaBatch.isEmpty() &&
+					this.deltaBatchSizeInBytes + task.walSizeInBytes() > MAX_DELTA_BATCH_SIZE_IN_BYTES) {
+					flushDeltaBatch();
+				}
+				if (this.deltaBatch.isEmpty()) {
+					scheduleDeltaBatchFlush(this.deltaBatchGeneration);
+				}
+				this.deltaBatch.add(task);
+				this.deltaBatchSizeInBytes += task.walSizeInBytes();
+				if (this.deltaBatch.size() >= MAX_DELTA_BATCH_SIZE) {
+					flushDeltaBatch();
+				}
+			} else {
+				// the held back transactions arrived earlier and must keep their place in the catalog version order
+				flushDeltaBatch();
+				acceptTransaction(task, false);
+			}
+		} finally {
+			this.acceptanceLock.unlock();
+		}
+	}
+
+	@Override
+	protected void handleComplete() {
+		flushDeltaBatchNow();
+	}
+
+	/**
+	 * Accepts the commutative transactions held back in the delta batch without waiting for the batching window to
+	 * elapse. The stage keeps handing the accepted transactions to the next stage once they are durable.
+	 */
+	@Override
+	public void close() {
+		flushDeltaBatchNow();
+	}
+
+	/**
+	 * Refuses the task up front once the WAL has stopped being able to accept durable writes - see
+	 * {@link #walDurabilityFailure}.
+	 *
+	 * @param task the task to be accepted
+	 */
+	private void assertWalDurable(@Nonnull ConflictResolutionAndWalAppendingTransactionTask task) {
 		final Throwable durabilityFailure = this.walDurabilityFailure;
 		if (durabilityFailure != null) {
 			throw new TransactionException(
@@ -167,7 +290,19 @@ public final class ConflictResolutionAndWalAppendingTransactionStage
 				durabilityFailure
 			);
 		}
+	}
 
+	/**
+	 * Resolves conflicts of the transaction, assigns it a catalog version and appends it to the shared WAL.
+	 *
+	 * @param task                the transaction to accept
+	 * @param conflictsIdentified TRUE when the conflict keys of the transaction have already been examined and
+	 *                            registered under the next catalog version (the case of a merged transaction)
+	 */
+	private void acceptTransaction(
+		@Nonnull ConflictResolutionAndWalAppendingTransactionTask task,
+		boolean conflictsIdentified
+	) {
 		final long expectedCatalogVersion = this.transactionManager.getLastAssignedCatalogVersion() + 1L;
 		// track how many catalog versions / schema deltas must be rolled back if something throws below
 		// resolveConflicts either succeeds (and both effects are applied) or rolls its own effects back
@@ -176,7 +311,7 @@ public final class ConflictResolutionAndWalAppendingTransactionStage
 		int droppedCatalogSchemaVersionDelta = 0;
 		try {
 			// first resolve conflicts with previously committed transactions and reserve a catalog version
-			final CommitVersions commitVersions = resolveConflicts(task, expectedCatalogVersion);
+			final CommitVersions commitVersions = resolveConflicts(task, expectedCatalogVersion, conflictsIdentified);
 			droppedCatalogVersions = 1;
 			droppedCatalogSchemaVersionDelta = task.catalogSchemaVersionDelta();
 			// create the WAL append event up-front so it spans the actual append operation;
@@ -221,6 +356,166 @@ public final class ConflictResolutionAndWalAppendingTransactionStage
 		}
 	}
 
+	/**
+	 * Returns TRUE when the transaction may be merged with other ones - i.e. when all its conflict keys are
+	 * commutative and none of them is constrained to a range. Such transactions can never conflict with each other
+	 * and their conflict examination never registers a partial set of keys, so a rejected member of the batch
+	 * leaves no trace in the conflict ring buffer. Transactions changing the catalog schema are never merged.
+	 *
+	 * @param task the transaction to examine
+	 * @return TRUE when the transaction can be merged with other commutative transactions
+	 */
+	private static boolean isEligibleForDeltaBatching(@Nonnull ConflictResolutionAndWalAppendingTransactionTask task) {
+		if (task.catalogSchemaVersionDelta() != 0 || task.conflictKeys().isEmpty()) {
+			return false;
+		}
+		for (ConflictKey conflictKey : task.conflictKeys()) {
+			if (!(conflictKey instanceof CommutativeConflictKey<?> commutativeKey) || commutativeKey.isConstrainedToRange()) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Schedules the flush of the delta batch of the passed generation once the batching window elapses.
+	 *
+	 * @param generation the generation of the batch that is being opened
+	 */
+	private void scheduleDeltaBatchFlush(long generation) {
+		CompletableFuture.delayedExecutor(this.deltaBatchingWindowInMillis, TimeUnit.MILLISECONDS, this.executor)
+			.execute(() -> {
+				this.acceptanceLock.lock();
+				try {
+					// the batch might have been flushed (and a new one opened) in the meantime
+					if (this.deltaBatchGeneration == generation) {
+						flushDeltaBatch();
+					}
+				} finally {
+					this.acceptanceLock.unlock();
+				}
+			});
+	}
+
+	/**
+	 * Flushes the delta batch under {@link #acceptanceLock} - the timer flushing an expired batch may race with it.
+	 */
+	private void flushDeltaBatchNow() {
+		this.acceptanceLock.lock();
+		try {
+			flushDeltaBatch();
+		} finally {
+			this.acceptanceLock.unlock();
+		}
+	}
+
+	/**
+	 * Accepts all the transactions held back in the delta batch. Conflicts are resolved for each of them separately
+	 * - all under the same reserved catalog version, so that their conflict keys are registered under the version
+	 * the merged transaction will be assigned. The members that passed are then merged into a single synthesized
+	 * transaction accepted the usual way. The method never throws - failures are reported to the affected clients.
+	 *
+	 * Must be called under {@link #acceptanceLock}.
+	 */
+	private void flushDeltaBatch() {
+		if (this.deltaBatch.isEmpty()) {
+			return;
+		}
+		final List<ConflictResolutionAndWalAppendingTransactionTask> batch = new ArrayList<>(this.deltaBatch);
+		this.deltaBatch.clear();
+		this.deltaBatchSizeInBytes = 0L;
+		this.deltaBatchGeneration++;
+
+		if (batch.size() == 1) {
+			// nothing to merge with - accept it as is
+			final ConflictResolutionAndWalAppendingTransactionTask task = batch.get(0);
+			try {
+				acceptTransaction(task, false);
+			} catch (Throwable ex) {
+				handleException(task, ex);
+			}
+			return;
+		}
+
+		final long expectedCatalogVersion = this.transactionManager.getLastAssignedCatalogVersion() + 1L;
+		final List<ConflictResolutionAndWalAppendingTransactionTask> accepted = new ArrayList<>(batch.size());
+		for (ConflictResolutionAndWalAppendingTransactionTask task : batch) {
+			try {
+				assertWalDurable(task);
+				// a failing examination registers no key (see `isEligibleForDeltaBatching`), so there is
+				// nothing to roll back for the rejected member and the keys of the others stay in place
+				this.transactionManager.identifyConflicts(
+					task.sessionCatalogVersion(),
+					expectedCatalogVersion,
+					task.commitProgress().getCommitStartTime(),
+					task.conflictKeys()
+				);
+				accepted.add(task);
+			} catch (Throwable ex) {
+				if (ex instanceof ConflictingCatalogMutationException conflict) {
+					new TransactionConflictEvent(task.catalogName(), conflict).commit();
+				}
+				handleException(task, ex);
+			}
+		}
+		if (accepted.isEmpty()) {
+			return;
+		}
+
+		final ConflictResolutionAndWalAppendingTransactionTask mergedTask = mergeTasks(accepted);
+		log.debug(
+			"Merging {} commutative transactions of catalog `{}` into transaction {}.",
+			accepted.size(), mergedTask.catalogName(), mergedTask.transactionId()
+		);
+		try {
+			acceptTransaction(mergedTask, true);
+		} catch (Throwable ex) {
+			// the merged record forwards the failure to every member
+			handleException(mergedTask, ex);
+		}
+	}
+
+	/**
+	 * Synthesizes a single transaction from the passed commutative ones. The mutations of the members follow each
+	 * other in the order of the list, the merged transaction takes over the identity of the first member and its
+	 * commit progress fans out to the commit progress of each member.
+	 *
+	 * @param tasks the transactions to merge, at least two
+	 * @return the synthesized transaction
+	 */
+	@Nonnull
+	private static ConflictResolutionAndWalAppendingTransactionTask mergeTasks(
+		@Nonnull List<ConflictResolutionAndWalAppendingTransactionTask> tasks
+	) {
+		final ConflictResolutionAndWalAppendingTransactionTask first = tasks.get(0);
+		long sessionCatalogVersion = first.sessionCatalogVersion();
+		int mutationCount = 0;
+		long walSizeInBytes = 0L;
+		final Set<ConflictKey> conflictKeys = new HashSet<>(tasks.size() * 2);
+		final List<LogRecordReference> walReferences = new ArrayList<>(tasks.size());
+		final List<CommitProgressRecord> commitProgress = new ArrayList<>(tasks.size());
+		for (ConflictResolutionAndWalAppendingTransactionTask task : tasks) {
+			sessionCatalogVersion = Math.min(sessionCatalogVersion, task.sessionCatalogVersion());
+			mutationCount += task.mutationCount();
+			walSizeInBytes += task.walSizeInBytes();
+			conflictKeys.addAll(task.conflictKeys());
+			walReferences.add(task.walReference());
+			commitProgress.add(task.commitProgress());
+		}
+		return new ConflictResolutionAndWalAppendingTransactionTask(
+			first.catalogName(),
+			sessionCatalogVersion,
+			first.transactionId(),
+			mutationCount,
+			walSizeInBytes,
+			0,
+			conflictKeys,
+			new CompositeLogRecordReference(walReferences),
+			new MergedCommitProgressRecord(commitProgress),
+			first.transactionQueuedEvent()
+		);
+	}
+
 	/**
 	 * Records a written-but-not-yet-durable transaction and makes sure a sync task is on its way.
 	 *
@@ -579,20 +874,28 @@ public final class ConflictResolutionAndWalAppendingTransactionStage
 	 * @param task the {@link ConflictResolutionAndWalAppendingTransactionTask} containing the necessary details of the transaction,
 	 *             including catalog name, conflict keys, and commit progress
 	 * @param expectedCatalogVersion the expected catalog version prior to resolving conflicts
+	 * @param conflictsIdentified TRUE when the conflict keys were already examined and registered under
+	 *                            the expected catalog version (each member of a merged transaction separately)
 	 */
 	@Nonnull
-	private CommitVersions resolveConflicts(@Nonnull ConflictResolutionAndWalAppendingTransactionTask task, long expectedCatalogVersion) {
+	private CommitVersions resolveConflicts(
+		@Nonnull ConflictResolutionAndWalAppendingTransactionTask task,
+		long expectedCatalogVersion,
+		boolean conflictsIdentified
+	) {
 		final TransactionAcceptedEvent conflictResolutionEvent = new TransactionAcceptedEvent(task.catalogName());
 
 		// the expected catalog version doubles as the reservation under which the transaction's conflict
 		// keys are registered in the ring buffer — the successor check compares later snapshots against
 		// this commit version, and rollbackFailedTask releases exactly the keys registered under it
-		this.transactionManager.identifyConflicts(
-			task.sessionCatalogVersion(),
-			expectedCatalogVersion,
-			task.commitProgress().getCommitStartTime(),
-			task.conflictKeys()
-		);
+		if (!conflictsIdentified) {
+			this.transactionManager.identifyConflicts(
+				task.sessionCatalogVersion(),
+				expectedCatalogVersion,
+				task.commitProgress().getCommitStartTime(),
+				task.conflictKeys()
+			);
+		}
 
 		// assign new catalog version — from this point on, an exception must roll back the reservation
 		final long assignedCatalogVersion = this.transactionManager.getNextCatalogVersionToAssign();
@@ -0,0 +1,108 @@
+/*
+ *
+ *                         _ _        ____  ____
+ *               _____   _(_) |_ __ _|  _ \| __ )
+ *              / _ \ \ / / | __/ _` | | | |  _ \
+ *             |  __/\ V /| | || (_| | |_| | |_) |
+ *              \___| \_/ |_|\__\__,_|____/|____/
+ *
+ *   Copyright (c) 2026
+ *
+ *   Licensed under the Business Source License, Version 1.1 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://github.com/FgForrest/evitaDB/blob/master/LICENSE
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.evitadb.core.transaction.stage;
+
+import io.evitadb.api.CommitProgress.CommitVersions;
+import io.evitadb.api.CommitProgressRecord;
+import io.evitadb.api.TransactionContract.CommitBehavior;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.annotation.Nonnull;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+/**
+ * Commit progress of a transaction synthesized by merging several commutative transactions in
+ * {@link ConflictResolutionAndWalAppendingTransactionStage}. The record travels through the rest of the pipeline
+ * (trunk incorporation, pending commit progress registry, watchdog) in place of the records of the merged
+ * transactions and forwards every completion - successful or exceptional - to each of them, so that every client
+ * receives its own acknowledgement with the catalog version shared by the whole merged transaction.
+ *
+ * The record's own termination stage is left at {@link CommitBehavior#WAIT_FOR_CHANGES_VISIBLE} - the termination
+ * callbacks of the individual sessions are driven by the forwarded completions according to their own termination
+ * stages.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+@Slf4j
+final class MergedCommitProgressRecord extends CommitProgressRecord {
+	/**
+	 * Commit progress records of the merged transactions in the order they were merged.
+	 */
+	@Nonnull private final List<CommitProgressRecord> members;
+
+	MergedCommitProgressRecord(@Nonnull List<CommitProgressRecord> members) {
+		this.members = List.copyOf(members);
+	}
+
+	/**
+	 * Returns the commit progress records of the merged transactions.
+	 */
+	@Nonnull
+	List<CommitProgressRecord> getMembers() {
+		return this.members;
+	}
+
+	@Override
+	public void completeExceptionally(@Nonnull Throwable exception) {
+		super.completeExceptionally(exception);
+		for (CommitProgressRecord member : this.members) {
+			try {
+				member.completeExceptionally(exception);
+			} catch (RuntimeException ex) {
+				// one failing member must not leave the others waiting
+				log.error("Failed to propagate the failure of a merged transaction to its member.", ex);
+			}
+		}
+	}
+
+	@Override
+	public void complete(@Nonnull CommitBehavior commitBehavior, @Nonnull CommitVersions commitVersions) {
+		super.complete(commitBehavior, commitVersions);
+		for (CommitProgressRecord member : this.members) {
+			member.complete(commitBehavior, commitVersions);
+		}
+	}
+
+	@Override
+	public void complete(
+		@Nonnull CommitBehavior commitBehavior,
+		@Nonnull CommitVersions commitVersions,
+		@Nonnull Executor executor
+	) {
+		super.complete(commitBehavior, commitVersions, executor);
+		for (CommitProgressRecord member : this.members) {
+			member.complete(commitBehavior, commitVersions, executor);
+		}
+	}
+
+	@Override
+	public void complete(@Nonnull CommitVersions commitVersions) {
+		super.complete(commitVersions);
+		for (CommitProgressRecord member : this.members) {
+			member.complete(commitVersions);
+		}
+	}
+
+}
@@ -0,0 +1,316 @@
+/*
+ *
+ *                         _ _        ____  ____
+ *               _____   _(_) |_ __ _|  _ \| __ )
+ *              / _ \ \ / / | __/ _` | | | |  _ \
+ *             |  __/\ V /| | || (_| | |_| | |_) |
+ *              \___| \_/ |_|\__\__,_|____/|____/
+ *
+ *   Copyright (c) 2026
+ *
+ *   Licensed under the Business Source License, Version 1.1 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://github.com/FgForrest/evitaDB/blob/master/LICENSE
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.evitadb.index;
+
+import io.evitadb.api.observability.IndexMemoryFootprint;
+import io.evitadb.api.observability.IndexMemoryFootprint.IndexStructure;
+import io.evitadb.dataType.EvitaDataTypes;
+import io.evitadb.index.attribute.ChainIndex;
+import io.evitadb.index.attribute.FilterIndex;
+import io.evitadb.index.attribute.SortIndex;
+import io.evitadb.index.attribute.UniqueIndex;
+import io.evitadb.index.bitmap.Bitmap;
+import io.evitadb.index.bitmap.RoaringBitmapBackedBitmap;
+import io.evitadb.index.facet.FacetReferenceIndex;
+import io.evitadb.index.invertedIndex.ValueToRecord;
+import io.evitadb.index.price.PriceListAndCurrencyPriceIndex;
+import io.evitadb.index.price.PriceListAndCurrencyPriceSuperIndex;
+import io.evitadb.index.price.model.priceRecord.PriceRecord;
+import io.evitadb.spi.store.catalog.persistence.storageParts.index.AttributeIndexKey;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import static io.evitadb.utils.MemoryMeasuringConstants.ARRAY_BASE_SIZE;
+import static io.evitadb.utils.MemoryMeasuringConstants.INT_SIZE;
+import static io.evitadb.utils.MemoryMeasuringConstants.OBJECT_HEADER_SIZE;
+import static io.evitadb.utils.MemoryMeasuringConstants.REFERENCE_SIZE;
+
+/**
+ * Visitor that walks the in-memory data structures of {@link EntityIndex entity indexes} and estimates the heap memory
+ * they occupy. The estimates are aggregated by the {@link IndexStructure}, the reference and the attribute into
+ * {@link IndexMemoryFootprint} rows, so that the global index and all the reduced indexes of the same reference
+ * contribute to a single row.
+ *
+ * The estimation doesn't measure the heap - it combines the exact sizes of the roaring bitmaps with the number of
+ * entries in the B+ trees multiplied by the amortized cost of a single entry and the estimated sizes of the indexed
+ * values. The shared value trees of the filter indexes are accounted only once (under {@link IndexStructure#FILTER}),
+ * the unique and sort index views over them contribute only the structures they own.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+@NotThreadSafe
+public class EntityIndexMemoryEstimator {
+	/**
+	 * Number of entries kept in a single leaf node of the B+ trees (see the `DEFAULT_VALUE_BLOCK_SIZE` of the trees).
+	 */
+	private static final int B_PLUS_TREE_BLOCK_SIZE = 64;
+	/**
+	 * Amortized cost of a single entry in the B+ tree - the key and value slots in the leaf arrays and the share
+	 * of the leaf node itself (object header, two arrays and the size counter).
+	 */
+	static final int B_PLUS_TREE_ENTRY_SIZE = 2 * REFERENCE_SIZE +
+		(OBJECT_HEADER_SIZE + 2 * ARRAY_BASE_SIZE + INT_SIZE) / B_PLUS_TREE_BLOCK_SIZE + 1;
+	/**
+	 * Cost of a single entry in the hash map - the map node with the hash, key, value and next references and the boxed
+	 * integer key.
+	 */
+	static final int MAP_ENTRY_SIZE = OBJECT_HEADER_SIZE + 3 * REFERENCE_SIZE + INT_SIZE +
+		OBJECT_HEADER_SIZE + INT_SIZE;
+	/**
+	 * Cost of a single {@link PriceRecord} held by the price super indexes.
+	 */
+	static final int PRICE_RECORD_SIZE = OBJECT_HEADER_SIZE + 5 * INT_SIZE + REFERENCE_SIZE;
+	/**
+	 * Cost of a single node of the hierarchy tree - the node itself, its entry in the item map, its slot in the level
+	 * index and its cached statistics.
+	 */
+	static final int HIERARCHY_NODE_SIZE = OBJECT_HEADER_SIZE + 2 * INT_SIZE + REFERENCE_SIZE +
+		MAP_ENTRY_SIZE + INT_SIZE +
+		MAP_ENTRY_SIZE + OBJECT_HEADER_SIZE + 4 * INT_SIZE;
+	/**
+	 * Estimated size of a unique value whose type has no fixed size (i.e. a string) - the unique indexes don't
+	 * provide cheap access to their values, so a string of 16 characters is assumed.
+	 */
+	static final int VARIABLE_SIZE_VALUE_SIZE = 8 * (((16 * 2) + 45) / 8);
+
+	/**
+	 * The entity type the visited indexes belong to.
+	 */
+	private final String entityType;
+	/**
+	 * Accumulated index count and size for each aggregation key.
+	 */
+	private final Map<FootprintKey, long[]> accumulators = new HashMap<>(64);
+
+	/**
+	 * Estimates the memory footprint of all passed indexes of the single entity collection.
+	 *
+	 * @param entityType the entity type the indexes belong to
+	 * @param indexes    the entity indexes to visit
+	 * @return the estimates ordered by the size descending
+	 */
+	@Nonnull
+	public static List<IndexMemoryFootprint> estimate(
+		@Nonnull String entityType,
+		@Nonnull Collection<? extends EntityIndex> indexes
+	) {
+		final EntityIndexMemoryEstimator estimator = new EntityIndexMemoryEstimator(entityType);
+		for (EntityIndex index : indexes) {
+			estimator.visit(index);
+		}
+		return estimator.getResult();
+	}
+
+	/**
+	 * Returns estimated size of the bitmap in bytes. Roaring bitmaps report their exact size, other implementations
+	 * are estimated as plain int arrays.
+	 */
+	static long estimateSize(@Nonnull Bitmap bitmap) {
+		if (bitmap instanceof RoaringBitmapBackedBitmap roaringBitmapBackedBitmap) {
+			return OBJECT_HEADER_SIZE + roaringBitmapBackedBitmap.getRoaringBitmap().getLongSizeInBytes();
+		} else {
+			return ARRAY_BASE_SIZE + (long) bitmap.size() * INT_SIZE;
+		}
+	}
+
+	EntityIndexMemoryEstimator(@Nonnull String entityType) {
+		this.entityType = entityType;
+	}
+
+	/**
+	 * Visits all the data structures of the passed entity index and accumulates their estimated sizes.
+	 */
+	void visit(@Nonnull EntityIndex index) {
+		final String referenceName = index.getIndexKey().referenceName();
+
+		long entityIdsSize = estimateSize(index.entityIds);
+		for (Bitmap languageIds : index.entityIdsByLanguage.values()) {
+			entityIdsSize += MAP_ENTRY_SIZE + estimateSize(languageIds);
+		}
+		accumulate(referenceName, null, IndexStructure.ENTITY_IDS, entityIdsSize);
+
+		visitAttributes(index, referenceName);
+		visitPrices(index, referenceName);
+
+		for (Entry<String, FacetReferenceIndex> entry : index.getFacetingEntities().entrySet()) {
+			accumulate(entry.getKey(), null, IndexStructure.FACET, estimateSize(entry.getValue()));
+		}
+
+		final int hierarchySize = index.getHierarchySizeIncludingOrphans();
+		if (hierarchySize > 0) {
+			accumulate(referenceName, null, IndexStructure.HIERARCHY, (long) hierarchySize * HIERARCHY_NODE_SIZE);
+		}
+	}
+
+	/**
+	 * Returns the accumulated estimates ordered by the size descending.
+	 */
+	@Nonnull
+	List<IndexMemoryFootprint> getResult() {
+		final List<IndexMemoryFootprint> result = new ArrayList<>(this.accumulators.size());
+		for (Entry<FootprintKey, long[]> entry : this.accumulators.entrySet()) {
+			final FootprintKey key = entry.getKey();
+			final long[] accumulator = entry.getValue();
+			result.add(
+				new IndexMemoryFootprint(
+					this.entityType, key.referenceName(), key.attributeName(), key.structure(),
+					Math.toIntExact(accumulator[0]), accumulator[1]
+				)
+			);
+		}
+		result.sort(Comparator.comparingLong(IndexMemoryFootprint::sizeInBytes).reversed());
+		return result;
+	}
+
+	/**
+	 * Visits filter, unique, sort and chain indexes of the attributes.
+	 */
+	private void visitAttributes(@Nonnull EntityIndex index, @Nullable String indexReferenceName) {
+		for (AttributeIndexKey key : index.getFilterIndexes()) {
+			final FilterIndex filterIndex = index.getFilterIndex(key);
+			if (filterIndex != null) {
+				long size = OBJECT_HEADER_SIZE;
+				for (ValueToRecord bucket : filterIndex.getHistogramOfAllRecords().getBuckets()) {
+					size += B_PLUS_TREE_ENTRY_SIZE + EvitaDataTypes.estimateSize(bucket.getValue()) +
+						estimateSize(bucket.getRecordIds());
+				}
+				if (filterIndex.getRangeIndex() != null) {
+					// each record contributes to the start and end bitmap of its range threshold
+					size += (long) filterIndex.getRangeIndex().size() * 2 * (B_PLUS_TREE_ENTRY_SIZE + INT_SIZE);
+				}
+				accumulate(resolveReferenceName(key, indexReferenceName), key.attributeName(), IndexStructure.FILTER, size);
+			}
+		}
+		for (AttributeIndexKey key : index.getUniqueIndexes()) {
+			final UniqueIndex uniqueIndex = index.attributeIndex.getStandaloneUniqueIndex(key);
+			if (uniqueIndex != null) {
+				final long valueSize = Number.class.isAssignableFrom(uniqueIndex.getType()) ?
+					OBJECT_HEADER_SIZE + 2L * INT_SIZE : VARIABLE_SIZE_VALUE_SIZE;
+				final long size = OBJECT_HEADER_SIZE + estimateSize(uniqueIndex.getRecordIds()) +
+					uniqueIndex.size() * (B_PLUS_TREE_ENTRY_SIZE + valueSize);
+				accumulate(resolveReferenceName(key, indexReferenceName), key.attributeName(), IndexStructure.UNIQUE, size);
+			}
+		}
+		for (AttributeIndexKey key : index.getSortIndexes()) {
+			final SortIndex sortIndex = index.getSortIndex(key);
+			if (sortIndex != null) {
+				// sorted record ids and their positions - the values are held by the shared value tree
+				final long size = OBJECT_HEADER_SIZE + (long) sortIndex.size() * (INT_SIZE + B_PLUS_TREE_ENTRY_SIZE);
+				accumulate(resolveReferenceName(key, indexReferenceName), key.attributeName(), IndexStructure.SORT, size);
+			}
+		}
+		for (AttributeIndexKey key : index.getChainIndexes()) {
+			final ChainIndex chainIndex = index.getChainIndex(key);
+			if (chainIndex != null) {
+				// the element array plus the predecessor and chain lookup maps
+				final long size = OBJECT_HEADER_SIZE + (long) chainIndex.size() * (INT_SIZE + 2 * MAP_ENTRY_SIZE);
+				accumulate(resolveReferenceName(key, indexReferenceName), key.attributeName(), IndexStructure.CHAIN, size);
+			}
+		}
+	}
+
+	/**
+	 * Visits the price indexes split by price list and currency. Only the super indexes own the price records,
+	 * the reference indexes hold just their ids.
+	 */
+	private void visitPrices(@Nonnull EntityIndex index, @Nullable String referenceName) {
+		long size = 0L;
+		for (PriceListAndCurrencyPriceIndex priceIndex : index.getPriceIndex().getPriceListAndCurrencyIndexes()) {
+			final int priceCount = priceIndex.getIndexedPriceIds().length;
+			size += OBJECT_HEADER_SIZE + MAP_ENTRY_SIZE +
+				estimateSize(priceIndex.getIndexedPriceEntityIds()) +
+				ARRAY_BASE_SIZE + (long) priceCount * INT_SIZE;
+			if (priceIndex instanceof PriceListAndCurrencyPriceSuperIndex) {
+				size += (long) priceCount * (PRICE_RECORD_SIZE + REFERENCE_SIZE);
+			}
+		}
+		if (size > 0L) {
+			accumulate(referenceName, null, IndexStructure.PRICE, size);
+		}
+	}
+
+	/**
+	 * Returns estimated size of the facet index of a single reference.
+	 */
+	private static long estimateSize(@Nonnull FacetReferenceIndex facetReferenceIndex) {
+		long size = OBJECT_HEADER_SIZE;
+		final Map<Integer, Bitmap> notGroupedFacets = facetReferenceIndex.getNotGroupedFacetsAsMap().orElse(Map.of());
+		for (Bitmap entityIds : notGroupedFacets.values()) {
+			size += MAP_ENTRY_SIZE + estimateSize(entityIds);
+		}
+		for (Map<Integer, Bitmap> groupFacets : facetReferenceIndex.getGroupsAsMap().values()) {
+			size += MAP_ENTRY_SIZE + OBJECT_HEADER_SIZE;
+			for (Bitmap entityIds : groupFacets.values()) {
+				size += MAP_ENTRY_SIZE + estimateSize(entityIds);
+			}
+		}
+		return size;
+	}
+
+	/**
+	 * Returns the reference name of the attribute - the reference attributes of the global index carry the reference
+	 * name in their key, the attributes of the reduced indexes take it from the owning index.
+	 */
+	@Nullable
+	private static String resolveReferenceName(@Nonnull AttributeIndexKey key, @Nullable String indexReferenceName) {
+		return key.referenceName() == null ? indexReferenceName : key.referenceName();
+	}
+
+	/**
+	 * Adds the size of a single data structure to the accumulator of its aggregation key.
+	 */
+	private void accumulate(
+		@Nullable String referenceName,
+		@Nullable String attributeName,
+		@Nonnull IndexStructure structure,
+		long sizeInBytes
+	) {
+		final long[] accumulator = this.accumulators.computeIfAbsent(
+			new FootprintKey(referenceName, attributeName, structure),
+			key -> new long[2]
+		);
+		accumulator[0]++;
+		accumulator[1] += sizeInBytes;
+	}
+
+	/**
+	 * Aggregation key of the estimates.
+	 */
+	private record FootprintKey(
+		@Nullable String referenceName,
+		@Nullable String attributeName,
+		@Nonnull IndexStructure structure
+	) {
+	}
+
+}
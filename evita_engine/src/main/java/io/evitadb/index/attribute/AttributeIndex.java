@@ -1383,6 +1383,18 @@ public abstract sealed class AttributeIndex implements AttributeIndexContract,
 		return owner != null ? owner : this.uniqueViewIndex.get(lookupKey);
 	}
 
+	/**
+	 * Returns the standalone (owner) {@link UniqueIndex} for passed lookup key. Unique indexes folded into the shared
+	 * value index are not returned - they are mere views that own no data of their own.
+	 *
+	 * @param lookupKey the key of the unique index
+	 * @return NULL value when there is no standalone unique index associated with the key
+	 */
+	@Nullable
+	public UniqueIndex getStandaloneUniqueIndex(@Nonnull AttributeIndexKey lookupKey) {
+		return this.uniqueIndex.get(lookupKey);
+	}
+
 	/**
 	 * Synthesizes the full set of {@link AttributeIndexStorageKey} entries currently held by this
 	 * index — one key per UNIQUE / FILTER / SORT / CHAIN sub-index — and adds them into `target`.
@@ -693,6 +693,13 @@ public class ChainIndex implements
 		return this.predecessors.isEmpty();
 	}
 
+	/**
+	 * Returns count of record ids in all chains of the index.
+	 */
+	public int size() {
+		return this.elements.getLength();
+	}
+
 	@Nonnull
 	@Override
 	public SortedRecordsSupplier getAscendingOrderRecordsSupplier() {
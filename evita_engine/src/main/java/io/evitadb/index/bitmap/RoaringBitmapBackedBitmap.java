@@ -23,6 +23,7 @@
 
 package io.evitadb.index.bitmap;
 
+import io.evitadb.roaringbitmap.FastAggregation;
 import io.evitadb.roaringbitmap.ImmutableBitmapDataProvider;
 import io.evitadb.roaringbitmap.PeekableIntIterator;
 import io.evitadb.roaringbitmap.PersistentRoaringBitmap;
@@ -30,6 +31,7 @@ import io.evitadb.roaringbitmap.RoaringBitmapWriter;
 import io.evitadb.utils.ArrayUtils;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.PrimitiveIterator;
@@ -56,6 +58,19 @@ public interface RoaringBitmapBackedBitmap extends Bitmap {
 	 * Distinct from every `int`, so a real {@link Integer#MIN_VALUE} record id remains representable.
 	 */
 	long NO_PREVIOUS_VALUE = Long.MIN_VALUE;
+	/**
+	 * Maximal cardinality of the smallest bitmap of a conjunction for which {@link #and(PersistentRoaringBitmap[])}
+	 * considers the galloping strategy. The per-value skipping cost grows linearly with the smallest bitmap, while
+	 * the container-wise AND is dominated by the number of shared containers - {@code ConjunctionStrategyBenchmark}
+	 * measured the break-even point between 128 and 256 values regardless of the density of the large bitmaps.
+	 */
+	int GALLOPING_MAX_CARDINALITY = 128;
+	/**
+	 * Minimal ratio between the cardinality of every other bitmap of a conjunction and the cardinality of the smallest
+	 * one, for which {@link #and(PersistentRoaringBitmap[])} prefers the galloping strategy over the container-wise
+	 * one (see {@code ConjunctionStrategyBenchmark}).
+	 */
+	int GALLOPING_CARDINALITY_RATIO = 64;
 
 	/**
 	 * Creates {@link PersistentRoaringBitmap} from the array of integers, adaptively picking the
@@ -229,8 +244,12 @@ public interface RoaringBitmapBackedBitmap extends Bitmap {
 	 * Computes {@link Bitmap} by applying conjunction (AND / intersection) on all passed bitmaps
 	 * in an optimal way. Returns {@link EmptyBitmap#INSTANCE} when the input array is empty or when
 	 * any of the bitmaps is empty (since the intersection must be empty). Returns a {@link BaseBitmap}
-	 * wrapping the single element when the array has exactly one bitmap. Bitmaps containing negative
-	 * record ids are handled separately due to {@link PersistentRoaringBitmap} treating integers as unsigned.
+	 * wrapping the single element when the array has exactly one bitmap.
+	 *
+	 * The strategy is picked according to the cardinality ratios of the inputs (see {@link #isGallopingPreferred}):
+	 * when the smallest bitmap is tiny compared to all the others, its values drive a leapfrog intersection that
+	 * gallops through the other bitmaps ({@link #andByGalloping}), otherwise the bitmaps are intersected
+	 * container by container ({@link #andByContainers}).
 	 */
 	@Nonnull
 	static Bitmap and(@Nonnull PersistentRoaringBitmap[] theBitmaps) {
@@ -245,38 +264,178 @@ public interface RoaringBitmapBackedBitmap extends Bitmap {
 		}
 		if (theBitmaps.length == 1) {
 			return new BaseBitmap(theBitmaps[0]);
+		} else if (isGallopingPreferred(theBitmaps)) {
+			return andByGalloping(theBitmaps);
 		} else {
-			long min = Integer.MAX_VALUE;
-			long max = 0L;
-			final List<PersistentRoaringBitmap> roaringBitmaps = new ArrayList<>(theBitmaps.length);
-			final List<PersistentRoaringBitmap> negativeRoaringBitmaps = new ArrayList<>(theBitmaps.length);
-			for (final PersistentRoaringBitmap theBitmap : theBitmaps) {
-				final int first = theBitmap.first();
-				final int last = theBitmap.last();
-				final int leftBound = Math.min(first, last);
-				final int rightBound = Math.max(first, last);
-				if (leftBound >= 0) {
-					min = Math.min(min, leftBound);
-					max = Math.max(max, rightBound);
-					roaringBitmaps.add(theBitmap);
-				} else {
-					negativeRoaringBitmaps.add(theBitmap);
-				}
-			}
+			return andByContainers(theBitmaps);
+		}
+	}
 
-			PersistentRoaringBitmap intermediateResult;
-			if (roaringBitmaps.isEmpty()) {
-				intermediateResult = negativeRoaringBitmaps.get(0);
-			} else if (roaringBitmaps.size() == 1) {
-				intermediateResult = roaringBitmaps.get(0);
+	/**
+	 * Computes {@link Bitmap} by applying conjunction (AND / intersection) on all passed bitmaps container by
+	 * container. The strategy pays off when the bitmaps have comparable cardinalities - see
+	 * {@link #and(PersistentRoaringBitmap[])} for the adaptive variant. All bitmaps are expected to be non-empty
+	 * and there must be at least two of them.
+	 */
+	@Nonnull
+	static Bitmap andByContainers(@Nonnull PersistentRoaringBitmap[] theBitmaps) {
+		long min = Integer.MAX_VALUE;
+		long max = 0L;
+		final List<PersistentRoaringBitmap> roaringBitmaps = new ArrayList<>(theBitmaps.length);
+		final List<PersistentRoaringBitmap> negativeRoaringBitmaps = new ArrayList<>(theBitmaps.length);
+		for (final PersistentRoaringBitmap theBitmap : theBitmaps) {
+			final int first = theBitmap.first();
+			final int last = theBitmap.last();
+			final int leftBound = Math.min(first, last);
+			final int rightBound = Math.max(first, last);
+			if (leftBound >= 0) {
+				min = Math.min(min, leftBound);
+				max = Math.max(max, rightBound);
+				roaringBitmaps.add(theBitmap);
 			} else {
-				intermediateResult = PersistentRoaringBitmap.and(roaringBitmaps.iterator(), min, max + 1);
+				negativeRoaringBitmaps.add(theBitmap);
+			}
+		}
+
+		PersistentRoaringBitmap intermediateResult;
+		if (roaringBitmaps.isEmpty()) {
+			intermediateResult = negativeRoaringBitmaps.get(0);
+		} else if (roaringBitmaps.size() == 1) {
+			intermediateResult = roaringBitmaps.get(0);
+		} else {
+			intermediateResult = PersistentRoaringBitmap.and(roaringBitmaps.iterator(), min, max + 1);
+		}
+		for (final PersistentRoaringBitmap theBitmap : negativeRoaringBitmaps) {
+			intermediateResult = PersistentRoaringBitmap.and(theBitmap, intermediateResult);
+		}
+		return new BaseBitmap(intermediateResult);
+	}
+
+	/**
+	 * Computes {@link Bitmap} by applying conjunction (AND / intersection) on all passed bitmaps using a leapfrog
+	 * (galloping) intersection: the values of the smallest bitmap drive {@link PeekableIntIterator}s of all the other
+	 * bitmaps, which skip whole containers and gallop within them via
+	 * {@link PeekableIntIterator#advanceIfNeeded(int)}. No intermediate containers are allocated, and the work is
+	 * proportional to the cardinality of the smallest bitmap rather than to the sizes of the bigger ones. All bitmaps
+	 * are expected to be non-empty and there must be at least two of them.
+	 */
+	@Nonnull
+	static Bitmap andByGalloping(@Nonnull PersistentRoaringBitmap[] theBitmaps) {
+		final int smallestIndex = getSmallestBitmapIndex(theBitmaps);
+		final int[] buffer = new int[theBitmaps[smallestIndex].getCardinality()];
+		final int count = leapfrogIntersection(theBitmaps, smallestIndex, buffer);
+		if (count == 0) {
+			return EmptyBitmap.INSTANCE;
+		}
+		final PersistentRoaringBitmap result = new PersistentRoaringBitmap();
+		// values are produced in unsigned order, which is exactly the order the bitmap appends them in
+		result.addN(buffer, 0, count);
+		return new BaseBitmap(result);
+	}
+
+	/**
+	 * Decides whether {@link #andByGalloping} is expected to outperform {@link #andByContainers} for passed
+	 * (non-empty) bitmaps. Galloping is preferred when the smallest bitmap holds only a handful of values
+	 * ({@link #GALLOPING_MAX_CARDINALITY}) and every other bitmap is at least {@link #GALLOPING_CARDINALITY_RATIO}
+	 * times larger - in such case the container-wise intersection spends most of its time on containers of
+	 * the large bitmaps, that are eventually intersected with only a handful of values.
+	 */
+	static boolean isGallopingPreferred(@Nonnull PersistentRoaringBitmap[] theBitmaps) {
+		final int smallestIndex = getSmallestBitmapIndex(theBitmaps);
+		final long smallestCardinality = theBitmaps[smallestIndex].getLongCardinality();
+		if (smallestCardinality > GALLOPING_MAX_CARDINALITY) {
+			return false;
+		}
+		final long threshold = smallestCardinality * GALLOPING_CARDINALITY_RATIO;
+		for (int i = 0; i < theBitmaps.length; i++) {
+			if (i != smallestIndex && theBitmaps[i].getLongCardinality() < threshold) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Computes the cardinality of the conjunction (AND / intersection) of all passed bitmaps without materializing
+	 * the intersection. Unlike {@link #and(PersistentRoaringBitmap[])} there is no need to treat bitmaps with negative
+	 * record ids separately - the count of the shared elements doesn't depend on their (unsigned) ordering.
+	 */
+	static int andCardinality(@Nonnull PersistentRoaringBitmap[] theBitmaps) {
+		if (theBitmaps.length > 1 && isGallopingPreferred(theBitmaps)) {
+			return leapfrogIntersection(theBitmaps, getSmallestBitmapIndex(theBitmaps), null);
+		}
+		return FastAggregation.andCardinality(theBitmaps);
+	}
+
+	/**
+	 * Computes the cardinality of the disjunction (OR / union) of all passed bitmaps without materializing the union.
+	 */
+	static int orCardinality(@Nonnull PersistentRoaringBitmap[] theBitmaps) {
+		return FastAggregation.orCardinality(theBitmaps);
+	}
+
+	/**
+	 * Returns index of the bitmap with the lowest cardinality in the passed array.
+	 */
+	private static int getSmallestBitmapIndex(@Nonnull PersistentRoaringBitmap[] theBitmaps) {
+		int smallestIndex = 0;
+		long smallestCardinality = theBitmaps[0].getLongCardinality();
+		for (int i = 1; i < theBitmaps.length; i++) {
+			final long cardinality = theBitmaps[i].getLongCardinality();
+			if (cardinality < smallestCardinality) {
+				smallestCardinality = cardinality;
+				smallestIndex = i;
+			}
+		}
+		return smallestIndex;
+	}
+
+	/**
+	 * Performs leapfrog intersection of the passed bitmaps driven by the bitmap at `smallestIndex`. Whenever one of
+	 * the other iterators overshoots the current candidate, the driving iterator is advanced directly to the value
+	 * the other iterator stopped at, so both sides skip the values that cannot be part of the intersection.
+	 * Iterators work in unsigned order, which is consistent across all the bitmaps, so negative record ids need no
+	 * special treatment.
+	 *
+	 * @param buffer array to write the intersection into (must fit the whole smallest bitmap), or `null` when only
+	 *               the cardinality of the intersection is requested
+	 * @return the number of values in the intersection
+	 */
+	private static int leapfrogIntersection(
+		@Nonnull PersistentRoaringBitmap[] theBitmaps,
+		int smallestIndex,
+		@Nullable int[] buffer
+	) {
+		final PeekableIntIterator driver = theBitmaps[smallestIndex].getIntIterator();
+		final PeekableIntIterator[] followers = new PeekableIntIterator[theBitmaps.length - 1];
+		for (int i = 0, j = 0; i < theBitmaps.length; i++) {
+			if (i != smallestIndex) {
+				followers[j++] = theBitmaps[i].getIntIterator();
+			}
+		}
+		int count = 0;
+		candidates:
+		while (driver.hasNext()) {
+			final int candidate = driver.next();
+			for (final PeekableIntIterator follower : followers) {
+				follower.advanceIfNeeded(candidate);
+				if (!follower.hasNext()) {
+					// one of the bitmaps has been exhausted - no other value can be part of the intersection
+					break candidates;
+				}
+				final int nextValue = follower.peekNext();
+				if (nextValue != candidate) {
+					// skip all driver values lower than the value the follower stopped at
+					driver.advanceIfNeeded(nextValue);
+					continue candidates;
+				}
 			}
-			for (final PersistentRoaringBitmap theBitmap : negativeRoaringBitmaps) {
-				intermediateResult = PersistentRoaringBitmap.and(theBitmap, intermediateResult);
+			if (buffer != null) {
+				buffer[count] = candidate;
 			}
-			return new BaseBitmap(intermediateResult);
+			count++;
 		}
+		return count;
 	}
 
 	/**
@@ -37,7 +37,8 @@ import static io.evitadb.utils.Assert.isPremiseValid;
  *
  * The hierarchy index is special-cased: the manifest carries only a `hierarchyIndex` boolean
  * flag, not a key set. When `false`, the loader returns a fresh empty `HierarchyIndex` rather
- * than throwing; when `true`, a missing storage part is a fatal corruption signal.
+ * than throwing; when `true`, a missing storage part is a fatal corruption signal. The per-node statistics
+ * of the index are not persisted - they're recomputed from the tree and the per-locale entity-id bitmaps.
  */
 public final class HierarchyIndexLoader implements ComponentLoader {
 
@@ -58,7 +59,10 @@ public final class HierarchyIndexLoader implements ComponentLoader {
 			"Hierarchy index with id " + entityIndexId + " was not found in persistent storage!"
 		);
 		return new LoadedComponentBundle.Hierarchy(
-			new HierarchyIndex(part.getRoots(), part.getLevelIndex(), part.getItemIndex(), part.getOrphans())
+			new HierarchyIndex(
+				part.getRoots(), part.getLevelIndex(), part.getItemIndex(), part.getOrphans(),
+				context.entityIdsByLanguage()
+			)
 		);
 	}
 
@@ -44,6 +44,7 @@ import io.evitadb.index.bitmap.Bitmap;
 import io.evitadb.index.bitmap.EmptyBitmap;
 import io.evitadb.index.bitmap.RoaringBitmapBackedBitmap;
 import io.evitadb.index.bool.TransactionalBoolean;
+import io.evitadb.index.hierarchy.HierarchyNodeStatistics.LocalizedCounts;
 import io.evitadb.index.hierarchy.predicate.HierarchyFilteringPredicate;
 import io.evitadb.index.hierarchy.suppliers.HierarchyByParentBitmapSupplier;
 import io.evitadb.index.hierarchy.suppliers.HierarchyByParentIncludingSelfBitmapSupplier;
@@ -68,7 +69,9 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.OptionalInt;
@@ -80,6 +83,7 @@ import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import static io.evitadb.core.transaction.Transaction.isTransactionAvailable;
+import static io.evitadb.utils.CollectionUtils.createHashMap;
 import static java.util.Optional.empty;
 import static java.util.Optional.of;
 import static java.util.Optional.ofNullable;
@@ -134,6 +138,18 @@ public class HierarchyIndex
 	 * specified.
 	 */
 	private final TransactionalIntArray orphans;
+	/**
+	 * Index contains incrementally maintained {@link HierarchyNodeStatistics} of the nodes. The statistics are
+	 * derived data - they're not persisted and are recomputed when the index is loaded. Nodes with no locales and
+	 * no children have no record here (they're represented by {@link HierarchyNodeStatistics#EMPTY}).
+	 */
+	private final TransactionalMap<Integer, HierarchyNodeStatistics> statistics;
+	/**
+	 * This is internal flag that tracks whether the {@link #statistics} changed without the tree itself being
+	 * changed (i.e. a locale of the node was added or removed). Such change needs to be propagated to the new
+	 * instance of the index on commit, but doesn't need to be persisted.
+	 */
+	private final TransactionalBoolean statisticsDirty;
 	/**
 	 * Contains cached result of {@link #getAllHierarchyNodesFormula()} call.
 	 */
@@ -148,6 +164,8 @@ public class HierarchyIndex
 		this.levelIndex = new TransactionalMap<>(new HashMap<>(32), TransactionalIntArray.class, TransactionalIntArray::new);
 		this.itemIndex = new TransactionalMap<>(new HashMap<>(32));
 		this.orphans = new TransactionalIntArray();
+		this.statistics = new TransactionalMap<>(new HashMap<>(32));
+		this.statisticsDirty = new TransactionalBoolean();
 		this.memoizedAllNodeFormula = EmptyFormula.INSTANCE;
 	}
 
@@ -160,11 +178,58 @@ public class HierarchyIndex
 	 * @param orphans    array of entity primary keys not reachable from any root node
 	 */
 	public HierarchyIndex(@Nonnull int[] roots, @Nonnull Map<Integer, TransactionalIntArray> levelIndex, @Nonnull Map<Integer, HierarchyNode> itemIndex, @Nonnull int[] orphans) {
+		this(roots, levelIndex, itemIndex, orphans, null, Collections.emptyMap());
+	}
+
+	/**
+	 * Creates a new hierarchy index pre-populated with existing data. The {@link #statistics} are either taken over
+	 * from the passed `statistics` map, or (if it's `null`) computed from scratch using the locales of the entities
+	 * in `entityIdsByLanguage`.
+	 *
+	 * @param roots               array of root entity primary keys (sorted ascending)
+	 * @param levelIndex          map from parent entity primary key to its direct children's primary keys
+	 * @param itemIndex           map from entity primary key to its {@link HierarchyNode} information
+	 * @param orphans             array of entity primary keys not reachable from any root node
+	 * @param statistics          already computed statistics of the nodes or `null` if they should be computed
+	 * @param entityIdsByLanguage entity primary keys partitioned by locale, used only when `statistics` is `null`
+	 */
+	private HierarchyIndex(
+		@Nonnull int[] roots,
+		@Nonnull Map<Integer, TransactionalIntArray> levelIndex,
+		@Nonnull Map<Integer, HierarchyNode> itemIndex,
+		@Nonnull int[] orphans,
+		@Nullable Map<Integer, HierarchyNodeStatistics> statistics,
+		@Nonnull Map<Locale, ? extends Bitmap> entityIdsByLanguage
+	) {
 		this.dirty = new TransactionalBoolean();
 		this.roots = new TransactionalIntArray(roots);
 		this.levelIndex = new TransactionalMap<>(levelIndex, TransactionalIntArray.class, TransactionalIntArray::new);
 		this.itemIndex = new TransactionalMap<>(itemIndex);
 		this.orphans = new TransactionalIntArray(orphans);
+		this.statisticsDirty = new TransactionalBoolean();
+		if (statistics == null) {
+			final Map<Integer, HierarchyNodeStatistics> computedStatistics = createHashMap(itemIndex.size());
+			for (Entry<Locale, ? extends Bitmap> entry : entityIdsByLanguage.entrySet()) {
+				final Locale locale = entry.getKey();
+				final OfInt it = entry.getValue().iterator();
+				while (it.hasNext()) {
+					final int entityPrimaryKey = it.nextInt();
+					if (itemIndex.containsKey(entityPrimaryKey)) {
+						computedStatistics.merge(
+							entityPrimaryKey,
+							HierarchyNodeStatistics.EMPTY.withLocale(locale, true),
+							(existing, added) -> existing.withLocale(locale, true)
+						);
+					}
+				}
+			}
+			for (int rootNode : roots) {
+				recomputeSubtreeStatistics(rootNode, computedStatistics);
+			}
+			this.statistics = new TransactionalMap<>(computedStatistics);
+		} else {
+			this.statistics = new TransactionalMap<>(statistics);
+		}
 		this.memoizedAllNodeFormula = createAllHierarchyNodesFormula();
 	}
 
@@ -177,6 +242,26 @@ public class HierarchyIndex
 	 * @param orphans    array of entity primary keys not reachable from any root node
 	 */
 	public HierarchyIndex(@Nonnull int[] roots, @Nonnull LevelIndex[] levelIndex, @Nonnull Map<Integer, HierarchyNode> itemIndex, @Nonnull int[] orphans) {
+		this(roots, levelIndex, itemIndex, orphans, Collections.emptyMap());
+	}
+
+	/**
+	 * Creates a new hierarchy index pre-populated from persisted {@link LevelIndex} storage parts and computes
+	 * the {@link HierarchyNodeStatistics} of all nodes respecting the locales of the entities.
+	 *
+	 * @param roots               array of root entity primary keys (sorted ascending)
+	 * @param levelIndex          array of {@link LevelIndex} entries loaded from persistent storage
+	 * @param itemIndex           map from entity primary key to its {@link HierarchyNode} information
+	 * @param orphans             array of entity primary keys not reachable from any root node
+	 * @param entityIdsByLanguage entity primary keys partitioned by locale of the owner entity index
+	 */
+	public HierarchyIndex(
+		@Nonnull int[] roots,
+		@Nonnull LevelIndex[] levelIndex,
+		@Nonnull Map<Integer, HierarchyNode> itemIndex,
+		@Nonnull int[] orphans,
+		@Nonnull Map<Locale, ? extends Bitmap> entityIdsByLanguage
+	) {
 		this(
 			roots,
 			Arrays.stream(levelIndex)
@@ -191,7 +276,9 @@ public class HierarchyIndex
 					)
 				),
 			itemIndex,
-			orphans
+			orphans,
+			null,
+			entityIdsByLanguage
 		);
 	}
 
@@ -254,6 +341,12 @@ public class HierarchyIndex
 				this.orphans.add(entityPrimaryKey);
 			}
 		}
+		if (this.levelIndex.containsKey(entityPrimaryKey)) {
+			// the node (possibly with the former orphans) got attached to the tree - compute its statistics
+			// and add its contribution to all its ancestors
+			final HierarchyNodeStatistics nodeStatistics = recomputeSubtreeStatistics(entityPrimaryKey, this.statistics);
+			propagateStatisticsToAncestors(entityPrimaryKey, 1, nodeStatistics);
+		}
 		if (!isTransactionAvailable()) {
 			resetMemoizedValues();
 		}
@@ -274,12 +367,56 @@ public class HierarchyIndex
 		final HierarchyNode removedNode = internalRemoveHierarchy(entityPrimaryKey);
 		Assert.notNull(removedNode, "No hierarchy was set for entity with primary key " + entityPrimaryKey + "!");
 		this.dirty.setToTrue();
+		// the counts of the removed node are no longer relevant, only its locales need to be kept
+		storeStatistics(
+			entityPrimaryKey,
+			getNodeStatistics(entityPrimaryKey).withCounts(0, Collections.emptyMap()),
+			this.statistics
+		);
 		if (!isTransactionAvailable()) {
 			resetMemoizedValues();
 		}
 		return removedNode.parentEntityPrimaryKey();
 	}
 
+	/**
+	 * Registers the locale of the entity and updates the localized statistics of all ancestors of the node
+	 * (provided the node is attached to the tree).
+	 *
+	 * @param entityPrimaryKey the primary key of the entity that gained the locale
+	 * @param locale           the locale the entity gained
+	 */
+	@Override
+	public void addNodeLocale(int entityPrimaryKey, @Nonnull Locale locale) {
+		final HierarchyNodeStatistics nodeStatistics = getNodeStatistics(entityPrimaryKey);
+		if (!nodeStatistics.hasLocale(locale)) {
+			this.statisticsDirty.setToTrue();
+			storeStatistics(entityPrimaryKey, nodeStatistics.withLocale(locale, true), this.statistics);
+			if (this.levelIndex.containsKey(entityPrimaryKey)) {
+				propagateLocaleToAncestors(entityPrimaryKey, 1, locale);
+			}
+		}
+	}
+
+	/**
+	 * Unregisters the locale of the entity and updates the localized statistics of all ancestors of the node
+	 * (provided the node is attached to the tree).
+	 *
+	 * @param entityPrimaryKey the primary key of the entity that lost the locale
+	 * @param locale           the locale the entity lost
+	 */
+	@Override
+	public void removeNodeLocale(int entityPrimaryKey, @Nonnull Locale locale) {
+		final HierarchyNodeStatistics nodeStatistics = getNodeStatistics(entityPrimaryKey);
+		if (nodeStatistics.hasLocale(locale)) {
+			this.statisticsDirty.setToTrue();
+			storeStatistics(entityPrimaryKey, nodeStatistics.withLocale(locale, false), this.statistics);
+			if (this.levelIndex.containsKey(entityPrimaryKey)) {
+				propagateLocaleToAncestors(entityPrimaryKey, -1, locale);
+			}
+		}
+	}
+
 	/**
 	 * Returns a bitmap of all hierarchy nodes reachable from the roots, ordered according to the
 	 * specified traversal mode.
@@ -757,6 +894,39 @@ public class HierarchyIndex
 		return this.itemIndex.isEmpty();
 	}
 
+	/**
+	 * Returns the number of direct children of the node read from the incrementally maintained statistics.
+	 *
+	 * @param parentNode the primary key of the node whose children to count
+	 * @param locale     when non-null, only the children having this locale are counted
+	 * @return number of direct children, or zero if the node is not attached to the tree
+	 */
+	@Override
+	public int getChildrenCount(int parentNode, @Nullable Locale locale) {
+		final TransactionalIntArray children = this.levelIndex.get(parentNode);
+		if (children == null) {
+			return 0;
+		} else if (locale == null) {
+			return children.getLength();
+		} else {
+			return getNodeStatistics(parentNode).getLocalizedChildrenCount(locale);
+		}
+	}
+
+	/**
+	 * Returns the number of nodes in the subtree of the node (node itself excluded) read from the incrementally
+	 * maintained statistics.
+	 *
+	 * @param parentNode the primary key of the node whose subtree to count
+	 * @param locale     when non-null, only the nodes having the locale count
+	 * @return number of descendant nodes, or zero if the node is not attached to the tree
+	 */
+	@Override
+	public int getDescendantCount(int parentNode, @Nullable Locale locale) {
+		return this.levelIndex.containsKey(parentNode) ?
+			getNodeStatistics(parentNode).getDescendantCount(locale) : 0;
+	}
+
 	/**
 	 * Method returns formula that contains all nodes attached to the tree (i.e. except {@link #orphans}.
 	 */
@@ -944,12 +1114,15 @@ public class HierarchyIndex
 	) {
 		// we can safely throw away dirty flag now
 		final boolean isDirty = transactionalLayer.getStateCopyWithCommittedChanges(this.dirty);
-		if (isDirty) {
+		final boolean isStatisticsDirty = transactionalLayer.getStateCopyWithCommittedChanges(this.statisticsDirty);
+		if (isDirty || isStatisticsDirty) {
 			return new HierarchyIndex(
 				transactionalLayer.getStateCopyWithCommittedChanges(this.roots),
 				transactionalLayer.getStateCopyWithCommittedChanges(this.levelIndex),
 				transactionalLayer.getStateCopyWithCommittedChanges(this.itemIndex),
-				transactionalLayer.getStateCopyWithCommittedChanges(this.orphans)
+				transactionalLayer.getStateCopyWithCommittedChanges(this.orphans),
+				transactionalLayer.getStateCopyWithCommittedChanges(this.statistics),
+				Collections.emptyMap()
 			);
 		} else {
 			return this;
@@ -968,6 +1141,8 @@ public class HierarchyIndex
 		this.levelIndex.removeLayer(transactionalLayer);
 		this.itemIndex.removeLayer(transactionalLayer);
 		this.orphans.removeLayer(transactionalLayer);
+		this.statistics.removeLayer(transactionalLayer);
+		this.statisticsDirty.removeLayer(transactionalLayer);
 	}
 
 	/**
@@ -981,6 +1156,11 @@ public class HierarchyIndex
 	private HierarchyNode internalRemoveHierarchy(int entityPrimaryKey) {
 		// remove optional previous location
 		if (this.itemIndex.containsKey(entityPrimaryKey)) {
+			if (this.levelIndex.containsKey(entityPrimaryKey)) {
+				// the node is attached to the tree - subtract its contribution from all its ancestors
+				final HierarchyNodeStatistics nodeStatistics = getNodeStatistics(entityPrimaryKey);
+				propagateStatisticsToAncestors(entityPrimaryKey, -1, nodeStatistics);
+			}
 			final HierarchyNode previousLocation = this.itemIndex.remove(entityPrimaryKey);
 			if (this.orphans.contains(entityPrimaryKey)) {
 				// the node was already orphan - we can safely remove the information
@@ -1326,6 +1506,153 @@ public class HierarchyIndex
 			EmptyFormula.INSTANCE : new ConstantFormula(new BaseBitmap(roaringBitmap));
 	}
 
+	/**
+	 * Returns the statistics of the node or {@link HierarchyNodeStatistics#EMPTY} if there are none.
+	 *
+	 * @param entityPrimaryKey the primary key of the node
+	 * @return the statistics of the node
+	 */
+	@Nonnull
+	private HierarchyNodeStatistics getNodeStatistics(int entityPrimaryKey) {
+		final HierarchyNodeStatistics nodeStatistics = this.statistics.get(entityPrimaryKey);
+		return nodeStatistics == null ? HierarchyNodeStatistics.EMPTY : nodeStatistics;
+	}
+
+	/**
+	 * Stores the statistics of the node to the `target` map, statistics with no locales and no counts are removed
+	 * instead so that the map holds only the records carrying some information.
+	 *
+	 * @param entityPrimaryKey the primary key of the node
+	 * @param nodeStatistics   the statistics to store
+	 * @param target           the map to store the statistics into
+	 */
+	private static void storeStatistics(
+		int entityPrimaryKey,
+		@Nonnull HierarchyNodeStatistics nodeStatistics,
+		@Nonnull Map<Integer, HierarchyNodeStatistics> target
+	) {
+		if (nodeStatistics.locales().isEmpty() && nodeStatistics.descendantCount() == 0 && nodeStatistics.localizedCounts().isEmpty()) {
+			target.remove(entityPrimaryKey);
+		} else {
+			target.put(entityPrimaryKey, nodeStatistics);
+		}
+	}
+
+	/**
+	 * Recomputes the statistics of the entire subtree of the (attached) node from scratch in post-order traversal
+	 * and stores them into the `target` map. The locales of the nodes are expected to be already present there.
+	 *
+	 * @param entityPrimaryKey the primary key of the subtree root
+	 * @param target           the map to read the locales from and store the computed statistics into
+	 * @return the computed statistics of the subtree root
+	 */
+	@Nonnull
+	private HierarchyNodeStatistics recomputeSubtreeStatistics(
+		int entityPrimaryKey,
+		@Nonnull Map<Integer, HierarchyNodeStatistics> target
+	) {
+		int descendantCount = 0;
+		final Map<Locale, LocalizedCounts> localizedCounts = new HashMap<>(8);
+		final TransactionalIntArray children = this.levelIndex.get(entityPrimaryKey);
+		if (children != null) {
+			final OfInt it = children.iterator();
+			while (it.hasNext()) {
+				final HierarchyNodeStatistics childStatistics = recomputeSubtreeStatistics(it.nextInt(), target);
+				descendantCount += 1 + childStatistics.descendantCount();
+				for (Locale locale : childStatistics.getSubtreeLocales()) {
+					final int self = childStatistics.hasLocale(locale) ? 1 : 0;
+					final LocalizedCounts counts = localizedCounts.getOrDefault(locale, LocalizedCounts.EMPTY);
+					localizedCounts.put(
+						locale,
+						new LocalizedCounts(
+							counts.childrenCount() + self,
+							counts.descendantCount() + self + childStatistics.getDescendantCount(locale)
+						)
+					);
+				}
+			}
+		}
+		final HierarchyNodeStatistics existingStatistics = target.get(entityPrimaryKey);
+		final HierarchyNodeStatistics nodeStatistics = (existingStatistics == null ? HierarchyNodeStatistics.EMPTY : existingStatistics)
+			.withCounts(descendantCount, localizedCounts);
+		storeStatistics(entityPrimaryKey, nodeStatistics, target);
+		return nodeStatistics;
+	}
+
+	/**
+	 * Adds (`sign` = 1) or subtracts (`sign` = -1) the contribution of the attached node and its subtree to
+	 * the statistics of all its ancestors.
+	 *
+	 * @param entityPrimaryKey the primary key of the node
+	 * @param sign             1 when the node is being attached, -1 when it's being detached
+	 * @param nodeStatistics   the statistics of the node
+	 */
+	private void propagateStatisticsToAncestors(
+		int entityPrimaryKey,
+		int sign,
+		@Nonnull HierarchyNodeStatistics nodeStatistics
+	) {
+		final Set<Locale> subtreeLocales = nodeStatistics.getSubtreeLocales();
+		final Map<Locale, int[]> localizedDeltas = createHashMap(subtreeLocales.size());
+		for (Locale locale : subtreeLocales) {
+			final int self = nodeStatistics.hasLocale(locale) ? 1 : 0;
+			localizedDeltas.put(locale, new int[]{sign * self, sign * (self + nodeStatistics.getDescendantCount(locale))});
+		}
+		propagateToAncestors(entityPrimaryKey, sign * (1 + nodeStatistics.descendantCount()), localizedDeltas);
+	}
+
+	/**
+	 * Adds (`sign` = 1) or subtracts (`sign` = -1) the attached node to / from the localized statistics of all its
+	 * ancestors when the node gains or loses the locale. The descendants of the node are not affected.
+	 *
+	 * @param entityPrimaryKey the primary key of the node
+	 * @param sign             1 when the node gained the locale, -1 when it lost it
+	 * @param locale           the gained / lost locale
+	 */
+	private void propagateLocaleToAncestors(
+		int entityPrimaryKey,
+		int sign,
+		@Nonnull Locale locale
+	) {
+		final Map<Locale, int[]> localizedDeltas = createHashMap(1);
+		localizedDeltas.put(locale, new int[]{sign, sign});
+		propagateToAncestors(entityPrimaryKey, 0, localizedDeltas);
+	}
+
+	/**
+	 * Walks the parent chain of the attached node up to the root and applies the deltas to the statistics of all
+	 * visited ancestors. The children count delta is applied only to the direct parent, the descendant count deltas
+	 * to all the ancestors regardless of their locales - the same way the queried entity formula of the hierarchy
+	 * statistics counts all nodes of the subtree matching the locale.
+	 *
+	 * @param entityPrimaryKey the primary key of the node
+	 * @param descendantDelta  the delta of the unfiltered descendant count
+	 * @param localizedDeltas  the deltas of the localized counts - [children count delta, descendant count delta]
+	 */
+	private void propagateToAncestors(
+		int entityPrimaryKey,
+		int descendantDelta,
+		@Nonnull Map<Locale, int[]> localizedDeltas
+	) {
+		Map<Locale, int[]> currentDeltas = localizedDeltas;
+		final HierarchyNode node = this.itemIndex.get(entityPrimaryKey);
+		Integer parentPrimaryKey = node == null ? null : node.parentEntityPrimaryKey();
+		while (parentPrimaryKey != null && (descendantDelta != 0 || !currentDeltas.isEmpty())) {
+			final HierarchyNodeStatistics parentStatistics = getNodeStatistics(parentPrimaryKey);
+			storeStatistics(parentPrimaryKey, parentStatistics.withDeltas(descendantDelta, currentDeltas), this.statistics);
+			if (currentDeltas == localizedDeltas && !currentDeltas.isEmpty()) {
+				// the children count delta applies only to the direct parent
+				final Map<Locale, int[]> ancestorDeltas = createHashMap(currentDeltas.size());
+				for (Entry<Locale, int[]> entry : currentDeltas.entrySet()) {
+					ancestorDeltas.put(entry.getKey(), new int[]{0, entry.getValue()[1]});
+				}
+				currentDeltas = ancestorDeltas;
+			}
+			final HierarchyNode parentNode = this.itemIndex.get(parentPrimaryKey);
+			parentPrimaryKey = parentNode == null ? null : parentNode.parentEntityPrimaryKey();
+		}
+	}
+
 	/**
 	 * Method resets all memoized values.
 	 */
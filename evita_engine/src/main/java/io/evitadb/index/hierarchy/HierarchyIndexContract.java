@@ -31,6 +31,7 @@ import io.evitadb.index.hierarchy.predicate.HierarchyFilteringPredicate;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.util.Locale;
 import java.util.OptionalInt;
 import java.util.function.UnaryOperator;
 
@@ -73,6 +74,33 @@ public interface HierarchyIndexContract {
 	 @Nullable
 	Integer removeNode(int entityPrimaryKey);
 
+	/**
+	 * Method registers that the entity with `entityPrimaryKey` has the passed `locale`. The information feeds
+	 * the incrementally maintained {@link HierarchyNodeStatistics} - the entity doesn't need to be placed in the tree
+	 * yet, its locales are taken into an account at the moment it's attached.
+	 */
+	void addNodeLocale(int entityPrimaryKey, @Nonnull Locale locale);
+
+	/**
+	 * Method removes the information that the entity with `entityPrimaryKey` has the passed `locale`. Counterpart
+	 * of {@link #addNodeLocale(int, Locale)}.
+	 */
+	void removeNodeLocale(int entityPrimaryKey, @Nonnull Locale locale);
+
+	/**
+	 * Method returns the number of direct children of the `parentNode` read from the incrementally maintained
+	 * statistics - either all of them (`locale` is `null`) or only those having the passed locale. Returns zero for
+	 * the nodes that are not attached to the tree.
+	 */
+	int getChildrenCount(int parentNode, @Nullable Locale locale);
+
+	/**
+	 * Method returns the number of nodes in the subtree of the `parentNode` (the node itself excluded) read from
+	 * the incrementally maintained statistics - either all of them (`locale` is `null`) or only those having
+	 * the passed locale. Returns zero for the nodes that are not attached to the tree.
+	 */
+	int getDescendantCount(int parentNode, @Nullable Locale locale);
+
 	/**
 	 * Method returns all nodes that are reachable from all root nodes traversed in particular mode and sorted on each
 	 * level using provided sorter function.
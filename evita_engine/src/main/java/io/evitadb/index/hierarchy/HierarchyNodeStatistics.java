@@ -0,0 +1,190 @@
+/*
+ *
+ *                         _ _        ____  ____
+ *               _____   _(_) |_ __ _|  _ \| __ )
+ *              / _ \ \ / / | __/ _` | | | |  _ \
+ *             |  __/\ V /| | || (_| | |_| | |_) |
+ *              \___| \_/ |_|\__\__,_|____/|____/
+ *
+ *   Copyright (c) 2026
+ *
+ *   Licensed under the Business Source License, Version 1.1 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://github.com/FgForrest/evitaDB/blob/master/LICENSE
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.evitadb.index.hierarchy;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable DTO holding the incrementally maintained statistics of a single node of the {@link HierarchyIndex}.
+ * The statistics mirror the unfiltered hierarchy statistics computation (optionally narrowed to the entities having
+ * a particular locale) so that they could be read in constant time instead of traversing the subtree:
+ *
+ * - the descendant count equals to the number of all nodes in the subtree of the node (the node itself excluded)
+ * - the localized descendant count for locale `L` equals to the number of nodes in the subtree having the locale `L`
+ *   (the node itself excluded) regardless of the locales of the nodes in between, which is exactly what the queried
+ *   entity formula (the locale filter and-ed with the subtree nodes) counts
+ * - the localized children count for locale `L` equals to the number of direct children having the locale `L`,
+ *   which are the children the locale filtered traversal visits
+ *
+ * The unfiltered children count is not held here, it's the size of the children array in the level index.
+ * The counts are valid only for the nodes attached to the tree - the statistics of the orphan nodes are recomputed
+ * at the moment they get attached. The {@link #locales()} are tracked for all entities of the hierarchical
+ * collection (even those not yet placed in the tree) so that the statistics could be computed when they are placed.
+ *
+ * @param locales          locales of the entity represented by the node
+ * @param descendantCount  number of all nodes in the subtree of this node
+ * @param localizedCounts  counts of the nodes having the locale (key)
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+public record HierarchyNodeStatistics(
+	@Nonnull Set<Locale> locales,
+	int descendantCount,
+	@Nonnull Map<Locale, LocalizedCounts> localizedCounts
+) implements Serializable {
+	@Serial private static final long serialVersionUID = -2894129063487003622L;
+	/**
+	 * Statistics of a node without any locale and children.
+	 */
+	public static final HierarchyNodeStatistics EMPTY = new HierarchyNodeStatistics(
+		Collections.emptySet(), 0, Collections.emptyMap()
+	);
+
+	/**
+	 * Returns the number of direct children having the passed locale.
+	 */
+	public int getLocalizedChildrenCount(@Nonnull Locale locale) {
+		final LocalizedCounts counts = this.localizedCounts.get(locale);
+		return counts == null ? 0 : counts.childrenCount();
+	}
+
+	/**
+	 * Returns the number of nodes in the subtree of this node (node itself excluded) - either all of them
+	 * (`locale` is `null`) or only those having the passed locale.
+	 */
+	public int getDescendantCount(@Nullable Locale locale) {
+		if (locale == null) {
+			return this.descendantCount;
+		} else {
+			final LocalizedCounts counts = this.localizedCounts.get(locale);
+			return counts == null ? 0 : counts.descendantCount();
+		}
+	}
+
+	/**
+	 * Returns all locales of this node and of the nodes in its subtree.
+	 */
+	@Nonnull
+	public Set<Locale> getSubtreeLocales() {
+		if (this.localizedCounts.isEmpty()) {
+			return this.locales;
+		}
+		final Set<Locale> subtreeLocales = new HashSet<>(this.locales);
+		subtreeLocales.addAll(this.localizedCounts.keySet());
+		return subtreeLocales;
+	}
+
+	/**
+	 * Returns true if the entity represented by the node has the passed locale.
+	 */
+	public boolean hasLocale(@Nonnull Locale locale) {
+		return this.locales.contains(locale);
+	}
+
+	/**
+	 * Returns a copy of the statistics with the passed locale added to / removed from the node locales.
+	 */
+	@Nonnull
+	public HierarchyNodeStatistics withLocale(@Nonnull Locale locale, boolean present) {
+		final Set<Locale> newLocales = new HashSet<>(this.locales);
+		if (present) {
+			newLocales.add(locale);
+		} else {
+			newLocales.remove(locale);
+		}
+		return new HierarchyNodeStatistics(
+			newLocales.isEmpty() ? Collections.emptySet() : Collections.unmodifiableSet(newLocales),
+			this.descendantCount,
+			this.localizedCounts
+		);
+	}
+
+	/**
+	 * Returns a copy of the statistics with the counts replaced by the passed ones, the locales of the node are kept.
+	 */
+	@Nonnull
+	public HierarchyNodeStatistics withCounts(int descendantCount, @Nonnull Map<Locale, LocalizedCounts> localizedCounts) {
+		return new HierarchyNodeStatistics(
+			this.locales,
+			descendantCount,
+			localizedCounts.isEmpty() ? Collections.emptyMap() : Collections.unmodifiableMap(localizedCounts)
+		);
+	}
+
+	/**
+	 * Returns a copy of the statistics with the unfiltered descendant count changed by `descendantDelta` and
+	 * the localized counts of the `localizedDeltas` locales changed by the respective deltas. The first element of
+	 * the delta array is the children count delta, the second one is the descendant count delta.
+	 */
+	@Nonnull
+	public HierarchyNodeStatistics withDeltas(int descendantDelta, @Nonnull Map<Locale, int[]> localizedDeltas) {
+		if (localizedDeltas.isEmpty()) {
+			return new HierarchyNodeStatistics(this.locales, this.descendantCount + descendantDelta, this.localizedCounts);
+		}
+		final Map<Locale, LocalizedCounts> newCounts = new HashMap<>(this.localizedCounts);
+		for (Map.Entry<Locale, int[]> entry : localizedDeltas.entrySet()) {
+			final LocalizedCounts current = newCounts.getOrDefault(entry.getKey(), LocalizedCounts.EMPTY);
+			final LocalizedCounts updated = new LocalizedCounts(
+				current.childrenCount() + entry.getValue()[0],
+				current.descendantCount() + entry.getValue()[1]
+			);
+			if (updated.childrenCount() == 0 && updated.descendantCount() == 0) {
+				newCounts.remove(entry.getKey());
+			} else {
+				newCounts.put(entry.getKey(), updated);
+			}
+		}
+		return new HierarchyNodeStatistics(
+			this.locales,
+			this.descendantCount + descendantDelta,
+			newCounts.isEmpty() ? Collections.emptyMap() : Collections.unmodifiableMap(newCounts)
+		);
+	}
+
+	/**
+	 * Counts of the node narrowed to the nodes having a particular locale.
+	 *
+	 * @param childrenCount   number of direct children having the locale
+	 * @param descendantCount number of nodes in the subtree having the locale
+	 */
+	public record LocalizedCounts(
+		int childrenCount,
+		int descendantCount
+	) implements Serializable {
+		@Serial private static final long serialVersionUID = 4530187614785329514L;
+		/**
+		 * Counts of the locale no node in the subtree has.
+		 */
+		public static final LocalizedCounts EMPTY = new LocalizedCounts(0, 0);
+	}
+
+}
@@ -72,6 +72,7 @@ import java.util.function.Supplier;
  * - `executeAttributeUpsert` — insert or replace an attribute value in all relevant index structures
  * - `executeAttributeRemoval` — remove an attribute value from all relevant index structures
  * - `executeAttributeDelta` — atomically apply a numeric delta to an indexed attribute value
+ * - `executeAttributeReindex` — move an existing attribute value between index structures after a schema change
  * - `insertInitialSuiteOfSortableAttributeCompounds` — bootstrap compound sort indexes for a new entity or locale
  * - `removeEntireSuiteOfSortableAttributeCompounds` — tear down compound sort indexes when an entity or locale is removed
  *
@@ -240,6 +241,57 @@ public interface AttributeIndexMutator {
 		}
 	}
 
+	/**
+	 * Re-indexes an existing attribute value after the indexing traits (uniqueness, filterability, sortability) of
+	 * the attribute have been changed in the schema. The value is removed from all index structures it was indexed
+	 * in according to `indexedAttributeSchema` (the traits the value was indexed with) and inserted into the index
+	 * structures required by `attributeSchema` (the current schema). Nothing happens when the traits don't differ
+	 * in the scope of the index.
+	 *
+	 * The catalog-level global unique index and the sortable attribute compounds are not touched - neither of them
+	 * depends on the traits of the attribute itself.
+	 *
+	 * @param executor               the executor that owns the target index and provides schema / primary-key context
+	 * @param referenceSchema        the reference schema when the index is a reduced index of the reference, `null`
+	 *                               for the global index
+	 * @param indexedAttributeSchema the attribute schema with the traits the value is currently indexed with
+	 * @param attributeSchema        the current attribute schema the value should be indexed with
+	 * @param index                  the index the value is moved within
+	 * @param attributeValue         the existing attribute value
+	 * @throws io.evitadb.api.exception.UniqueValueViolationException if the value violates the newly required
+	 *                               unique constraint
+	 */
+	static void executeAttributeReindex(
+		@Nonnull EntityIndexLocalMutationExecutor executor,
+		@Nullable ReferenceSchemaContract referenceSchema,
+		@Nonnull AttributeSchemaContract indexedAttributeSchema,
+		@Nonnull AttributeSchemaContract attributeSchema,
+		@Nonnull EntityIndex index,
+		@Nonnull AttributeValue attributeValue
+	) {
+		final Scope scope = index.getIndexKey().scope();
+		if (
+			indexedAttributeSchema.getUniquenessType(scope) == attributeSchema.getUniquenessType(scope) &&
+				indexedAttributeSchema.isFilterableInScope(scope) == attributeSchema.isFilterableInScope(scope) &&
+				indexedAttributeSchema.isSortableInScope(scope) == attributeSchema.isSortableInScope(scope)
+		) {
+			return;
+		}
+
+		final Set<Locale> allowedLocales = executor.getEntitySchema().getLocales();
+		final Locale locale = attributeValue.key().locale();
+		final int primaryKey = executor.getPrimaryKeyToIndex(IndexType.ATTRIBUTE_INDEX, Target.EXISTING);
+		final Serializable value = NumberUtils.normalizeForIndexing(
+			Objects.requireNonNull(attributeValue.value()), attributeSchema.getIndexedDecimalPlaces()
+		);
+		index.removeAttribute(
+			referenceSchema, indexedAttributeSchema, allowedLocales, scope, locale, value, primaryKey
+		);
+		index.upsertAttribute(
+			referenceSchema, attributeSchema, allowedLocales, scope, locale, value, primaryKey
+		);
+	}
+
 	/**
 	 * Applies a {@link RemoveAttributeMutation} to the relevant attribute indexes.
 	 *
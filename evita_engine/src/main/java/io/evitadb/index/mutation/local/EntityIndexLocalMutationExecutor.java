@@ -55,6 +55,7 @@ import io.evitadb.api.requestResponse.data.mutation.scope.SetEntityScopeMutation
 import io.evitadb.api.requestResponse.data.structure.Entity;
 import io.evitadb.api.requestResponse.data.structure.Price.PriceKey;
 import io.evitadb.api.requestResponse.data.structure.RepresentativeReferenceKey;
+import io.evitadb.api.requestResponse.schema.AttributeSchemaContract;
 import io.evitadb.api.requestResponse.schema.EntitySchemaContract;
 import io.evitadb.api.requestResponse.schema.ReferenceIndexType;
 import io.evitadb.api.requestResponse.schema.ReferenceSchemaContract;
@@ -113,6 +114,8 @@ import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.function.ToIntBiFunction;
 
+import static io.evitadb.index.mutation.local.HierarchyPlacementMutator.addLocale;
+import static io.evitadb.index.mutation.local.HierarchyPlacementMutator.removeLocale;
 import static io.evitadb.index.mutation.local.HierarchyPlacementMutator.removeParent;
 import static io.evitadb.index.mutation.local.HierarchyPlacementMutator.setParent;
 import static io.evitadb.utils.Assert.isPremiseValid;
@@ -774,6 +777,7 @@ public class EntityIndexLocalMutationExecutor implements LocalMutationExecutor {
 		int epk
 	) {
 		targetIndex.upsertLanguage(locale, epk, entitySchema);
+		addLocale(entitySchema, targetIndex, epk, locale);
 	}
 
 	/**
@@ -792,6 +796,7 @@ public class EntityIndexLocalMutationExecutor implements LocalMutationExecutor {
 		int epk
 	) {
 		targetIndex.removeLanguage(locale, epk);
+		removeLocale(entitySchema, targetIndex, epk, locale);
 	}
 
 	/**
@@ -1176,6 +1181,58 @@ public class EntityIndexLocalMutationExecutor implements LocalMutationExecutor {
 		}
 	}
 
+	/**
+	 * Method re-indexes the existing values of the entity attribute after its indexing traits have been changed in
+	 * the schema. The values are moved from the index structures required by `indexedAttributeSchema` (the traits
+	 * the entity is currently indexed with) to the structures required by `attributeSchema` both in the global index
+	 * and in all the reduced indexes the entity-level attributes are propagated to.
+	 *
+	 * @param indexedAttributeSchema the attribute schema with the traits the entity is currently indexed with
+	 * @param attributeSchema        the current attribute schema
+	 */
+	public void reindexEntityAttribute(
+		@Nonnull AttributeSchemaContract indexedAttributeSchema,
+		@Nonnull AttributeSchemaContract attributeSchema
+	) {
+		final ExistingAttributeValueSupplier existingValueSupplier =
+			getStoragePartExistingDataFactory().getNormalizedEntityAttributeValueSupplier();
+		final String attributeName = attributeSchema.getName();
+		final List<AttributeValue> attributeValues;
+		if (attributeSchema.isLocalized()) {
+			final Set<Locale> locales = existingValueSupplier.getEntityExistingAttributeLocales();
+			attributeValues = new ArrayList<>(locales.size());
+			for (Locale locale : locales) {
+				existingValueSupplier.getAttributeValue(new AttributeKey(attributeName, locale))
+					.filter(Droppable::exists)
+					.ifPresent(attributeValues::add);
+			}
+		} else {
+			attributeValues = existingValueSupplier.getAttributeValue(new AttributeKey(attributeName))
+				.filter(Droppable::exists)
+				.map(List::of)
+				.orElse(List.of());
+		}
+		if (attributeValues.isEmpty()) {
+			return;
+		}
+
+		final BiConsumer<ReferenceSchemaContract, EntityIndex> reindexer = (referenceSchema, index) -> {
+			for (AttributeValue attributeValue : attributeValues) {
+				AttributeIndexMutator.executeAttributeReindex(
+					this, referenceSchema, indexedAttributeSchema, attributeSchema, index, attributeValue
+				);
+			}
+		};
+		reindexer.accept(null, getOrCreateIndex(new EntityIndexKey(EntityIndexType.GLOBAL, getScope())));
+		// entity-level attributes are indexed once per unique reduced index (see `AttributeMutationFanOut`)
+		fanOutUniquePerIndex(
+			ReferenceIndexType.FOR_FILTERING_AND_PARTITIONING,
+			(referenceSchema, indexForRemoval, indexForUpsert) -> reindexer.accept(referenceSchema, indexForUpsert),
+			Droppable::exists, true,
+			ReferenceIndexMutator.IterationPath.BOTH
+		);
+	}
+
 	/**
 	 * Retrieves or creates an instance of ExistingDataSupplierFactory for the current storage part.
 	 * If the factory is not already created, it initializes the factory using the root primary key and the type.
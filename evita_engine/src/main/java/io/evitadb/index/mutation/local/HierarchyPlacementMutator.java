@@ -23,13 +23,16 @@
 
 package io.evitadb.index.mutation.local;
 
+import io.evitadb.api.requestResponse.schema.EntitySchemaContract;
 import io.evitadb.api.requestResponse.schema.dto.EntitySchema;
 import io.evitadb.dataType.Scope;
 import io.evitadb.index.EntityIndex;
+import io.evitadb.index.EntityIndexType;
 import io.evitadb.utils.Assert;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.util.Locale;
 
 /**
  * Co-location interface for hierarchy placement mutation routines that keep {@link EntityIndexLocalMutationExecutor}
@@ -128,4 +131,60 @@ public interface HierarchyPlacementMutator {
 		}
 	}
 
+	/**
+	 * Records the locale of an entity in the {@link io.evitadb.index.hierarchy.HierarchyIndex} of the supplied
+	 * {@link EntityIndex} so that the incrementally maintained locale-specific hierarchy statistics stay up to date.
+	 *
+	 * The method is invoked alongside {@link EntityIndex#upsertLanguage(Locale, int, EntitySchemaContract)} and it's
+	 * a no-op for non-hierarchical entities, non-global indexes (the hierarchy placement is maintained only in
+	 * the global index) and scopes without hierarchy indexing.
+	 *
+	 * @param entitySchema      the schema of the entity gaining the locale
+	 * @param entityIndex       the index whose embedded hierarchy index will be updated
+	 * @param primaryKeyToIndex the primary key of the entity gaining the locale
+	 * @param locale            the locale the entity gains
+	 */
+	static void addLocale(
+		@Nonnull EntitySchemaContract entitySchema,
+		@Nonnull EntityIndex entityIndex,
+		int primaryKeyToIndex,
+		@Nonnull Locale locale
+	) {
+		if (isHierarchyMaintainedIn(entitySchema, entityIndex)) {
+			entityIndex.addNodeLocale(primaryKeyToIndex, locale);
+		}
+	}
+
+	/**
+	 * Removes the locale of an entity from the {@link io.evitadb.index.hierarchy.HierarchyIndex} of the supplied
+	 * {@link EntityIndex}, mirroring {@link #addLocale(EntitySchemaContract, EntityIndex, int, Locale)}.
+	 *
+	 * @param entitySchema      the schema of the entity losing the locale
+	 * @param entityIndex       the index whose embedded hierarchy index will be updated
+	 * @param primaryKeyToIndex the primary key of the entity losing the locale
+	 * @param locale            the locale the entity loses
+	 */
+	static void removeLocale(
+		@Nonnull EntitySchemaContract entitySchema,
+		@Nonnull EntityIndex entityIndex,
+		int primaryKeyToIndex,
+		@Nonnull Locale locale
+	) {
+		if (isHierarchyMaintainedIn(entitySchema, entityIndex)) {
+			entityIndex.removeNodeLocale(primaryKeyToIndex, locale);
+		}
+	}
+
+	/**
+	 * Returns true if the hierarchy placement of the entities is maintained in the passed index.
+	 */
+	private static boolean isHierarchyMaintainedIn(
+		@Nonnull EntitySchemaContract entitySchema,
+		@Nonnull EntityIndex entityIndex
+	) {
+		return entitySchema.isWithHierarchy() &&
+			entityIndex.getIndexKey().type() == EntityIndexType.GLOBAL &&
+			entitySchema.isHierarchyIndexedInScope(entityIndex.getIndexKey().scope());
+	}
+
 }
@@ -0,0 +1,102 @@
+/*
+ *
+ *                         _ _        ____  ____
+ *               _____   _(_) |_ __ _|  _ \| __ )
+ *              / _ \ \ / / | __/ _` | | | |  _ \
+ *             |  __/\ V /| | || (_| | |_| | |_) |
+ *              \___| \_/ |_|\__\__,_|____/|____/
+ *
+ *   Copyright (c) 2026
+ *
+ *   Licensed under the Business Source License, Version 1.1 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://github.com/FgForrest/evitaDB/blob/master/LICENSE
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.evitadb.spi.store.catalog.persistence.storageParts.index;
+
+import io.evitadb.api.requestResponse.schema.AttributeUniquenessType;
+import io.evitadb.dataType.Scope;
+import io.evitadb.index.bitmap.Bitmap;
+import io.evitadb.spi.store.catalog.persistence.storageParts.KeyCompressor;
+import io.evitadb.spi.store.catalog.persistence.storageParts.StoragePart;
+
+import javax.annotation.Nonnull;
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Storage part keeps the state of the attribute index backfill jobs of the entity collection, i.e. the attributes
+ * whose indexing traits (uniqueness, filterability, sortability) have been changed by the schema mutation, but whose
+ * indexes haven't been rebuilt for all existing entities yet. Storage part has always id fixed to 1 because there is
+ * only one backfill state in the entity collection.
+ *
+ * @param jobs the list of unfinished backfill jobs in the order they were scheduled
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+public record AttributeIndexBackfillStoragePart(
+	@Nonnull List<AttributeIndexBackfillJob> jobs
+) implements StoragePart {
+	@Serial private static final long serialVersionUID = 4250918233447591216L;
+
+	@Nonnull
+	@Override
+	public Long getStoragePartPK() {
+		return 1L;
+	}
+
+	@Override
+	public long computeUniquePartIdAndSet(@Nonnull KeyCompressor keyCompressor) {
+		return 1L;
+	}
+
+	@Nonnull
+	@Override
+	public String toString() {
+		return "AttributeIndexBackfillStoragePart{" +
+			"jobs=" + this.jobs +
+			'}';
+	}
+
+	/**
+	 * Single backfill job of an entity attribute. The job remembers the indexing traits the existing entities are
+	 * indexed with (i.e. the traits before the schema change) and the primary keys of the entities that still need
+	 * to be re-indexed according to the current attribute schema.
+	 *
+	 * @param attributeName      the name of the attribute whose indexes are being rebuilt
+	 * @param indexedUniqueness  the uniqueness the pending entities are indexed with
+	 * @param indexedFilterable  the scopes the pending entities are indexed as filterable in
+	 * @param indexedSortable    the scopes the pending entities are indexed as sortable in
+	 * @param entityCount        the total count of entities the job was scheduled for
+	 * @param pendingPrimaryKeys the primary keys of the entities that haven't been re-indexed yet
+	 */
+	public record AttributeIndexBackfillJob(
+		@Nonnull String attributeName,
+		@Nonnull Map<Scope, AttributeUniquenessType> indexedUniqueness,
+		@Nonnull Set<Scope> indexedFilterable,
+		@Nonnull Set<Scope> indexedSortable,
+		int entityCount,
+		@Nonnull Bitmap pendingPrimaryKeys
+	) implements Serializable {
+		@Serial private static final long serialVersionUID = -2934129044357361209L;
+
+		@Nonnull
+		@Override
+		public String toString() {
+			return this.attributeName + " (" + this.pendingPrimaryKeys.size() + "/" + this.entityCount + " pending)";
+		}
+
+	}
+
+}
@@ -0,0 +1,56 @@
+/*
+ *
+ *                         _ _        ____  ____
+ *               _____   _(_) |_ __ _|  _ \| __ )
+ *              / _ \ \ / / | __/ _` | | | |  _ \
+ *             |  __/\ V /| | || (_| | |_| | |_) |
+ *              \___| \_/ |_|\__\__,_|____/|____/
+ *
+ *   Copyright (c) 2026
+ *
+ *   Licensed under the Business Source License, Version 1.1 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://github.com/FgForrest/evitaDB/blob/master/LICENSE
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.evitadb.spi.store.catalog.shared.model;
+
+import io.evitadb.utils.Assert;
+
+import javax.annotation.Nonnull;
+import java.util.List;
+
+/**
+ * Reference to the contents of several isolated write-ahead logs that are meant to be appended to the shared WAL
+ * as a single transaction. The persistence layer copies the referenced contents one after another (in the order
+ * of the list) right behind the leading transaction mutation, so that the resulting WAL record is indistinguishable
+ * from a record of a single transaction containing all the mutations.
+ *
+ * The reference is used when several commutative transactions are merged into one synthesized transaction in
+ * the conflict resolution stage - the mutation count and the size declared by the leading transaction mutation
+ * must equal to the sums over all the referenced parts.
+ *
+ * @param references the references to the isolated WAL contents in the order they are to be appended
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+public record CompositeLogRecordReference(
+	@Nonnull List<LogRecordReference> references
+) implements LogRecordReference {
+
+	public CompositeLogRecordReference {
+		Assert.isPremiseValid(
+			!references.isEmpty(),
+			"Composite log record reference must contain at least one reference!"
+		);
+		references = List.copyOf(references);
+	}
+
+}
@@ -42,6 +42,7 @@ module evita.engine {
 	exports io.evitadb.core.exception;
 	exports io.evitadb.core.executor;
 	exports io.evitadb.core.management;
+	exports io.evitadb.core.metric;
 	exports io.evitadb.core.metric.event;
 	exports io.evitadb.core.metric.event.cache;
 	exports io.evitadb.core.metric.event.cdc;
@@ -52,16 +53,19 @@ module evita.engine {
 	exports io.evitadb.core.metric.event.transaction;
 	exports io.evitadb.core.query;
 	exports io.evitadb.core.query.response;
+	exports io.evitadb.core.query.statistics;
 	exports io.evitadb.core.query.algebra.price.filteredPriceRecords;
 	exports io.evitadb.core.query.algebra.price.predicate;
 	exports io.evitadb.core.query.algebra.price.termination;
 	exports io.evitadb.core.query.algebra;
 	exports io.evitadb.core.query.extraResult.translator.histogram.cache;
 	exports io.evitadb.core.query.fetch;
+	exports io.evitadb.core.replication;
 	exports io.evitadb.core.session;
 	exports io.evitadb.core.sequence;
 	exports io.evitadb.core.session.task;
 	exports io.evitadb.core.traffic;
+	exports io.evitadb.core.traffic.replay;
 	exports io.evitadb.core.transaction;
 	exports io.evitadb.core.transaction.conflict;
 	exports io.evitadb.core.transaction.memory;
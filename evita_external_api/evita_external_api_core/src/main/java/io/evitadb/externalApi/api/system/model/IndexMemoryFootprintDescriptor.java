@@ -0,0 +1,103 @@
+/*
+ *
+ *                         _ _        ____  ____
+ *               _____   _(_) |_ __ _|  _ \| __ )
+ *              / _ \ \ / / | __/ _` | | | |  _ \
+ *             |  __/\ V /| | || (_| | |_| | |_) |
+ *              \___| \_/ |_|\__\__,_|____/|____/
+ *
+ *   Copyright (c) 2026
+ *
+ *   Licensed under the Business Source License, Version 1.1 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://github.com/FgForrest/evitaDB/blob/master/LICENSE
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.evitadb.externalApi.api.system.model;
+
+import io.evitadb.externalApi.api.model.ObjectDescriptor;
+import io.evitadb.externalApi.api.model.PropertyDescriptor;
+
+import java.util.List;
+
+import static io.evitadb.externalApi.api.model.PrimitivePropertyDataTypeDescriptor.nonNull;
+import static io.evitadb.externalApi.api.model.PrimitivePropertyDataTypeDescriptor.nullable;
+
+/**
+ * Descriptor of {@link io.evitadb.api.observability.IndexMemoryFootprint}.
+ *
+ * Note: this descriptor has static structure.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+public interface IndexMemoryFootprintDescriptor {
+
+	PropertyDescriptor ENTITY_TYPE = PropertyDescriptor.builder()
+		.name("entityType")
+		.description("""
+			The entity type (collection) the indexes belong to.
+			""")
+		.type(nonNull(String.class))
+		.build();
+	PropertyDescriptor REFERENCE_NAME = PropertyDescriptor.builder()
+		.name("referenceName")
+		.description("""
+			The name of the reference the indexed data relate to, null for entity-level data.
+			""")
+		.type(nullable(String.class))
+		.build();
+	PropertyDescriptor ATTRIBUTE_NAME = PropertyDescriptor.builder()
+		.name("attributeName")
+		.description("""
+			The name of the attribute (or sortable attribute compound) the structure indexes, null for structures not
+			related to a particular attribute.
+			""")
+		.type(nullable(String.class))
+		.build();
+	PropertyDescriptor STRUCTURE = PropertyDescriptor.builder()
+		.name("structure")
+		.description("""
+			The kind of the index data structure: ENTITY_IDS, FILTER, UNIQUE, SORT, CHAIN, PRICE, FACET or HIERARCHY.
+			""")
+		.type(nonNull(String.class))
+		.build();
+	PropertyDescriptor INDEX_COUNT = PropertyDescriptor.builder()
+		.name("indexCount")
+		.description("""
+			The number of index data structures aggregated in this row.
+			""")
+		.type(nonNull(Integer.class))
+		.build();
+	PropertyDescriptor SIZE_IN_BYTES = PropertyDescriptor.builder()
+		.name("sizeInBytes")
+		.description("""
+			The estimated heap memory occupied by the data structures in bytes.
+			""")
+		.type(nonNull(Long.class))
+		.build();
+
+	ObjectDescriptor THIS = ObjectDescriptor.builder()
+		.name("IndexMemoryFootprint")
+		.description("""
+			Estimated heap memory occupied by a single kind of in-memory index data structure of an entity collection,
+			aggregated over all entity indexes of the collection. The values are approximations meant for finding
+			the indexes that are worth dropping or reconfiguring.
+			""")
+		.staticProperties(List.of(
+			ENTITY_TYPE,
+			REFERENCE_NAME,
+			ATTRIBUTE_NAME,
+			STRUCTURE,
+			INDEX_COUNT,
+			SIZE_IN_BYTES
+		))
+		.build();
+}
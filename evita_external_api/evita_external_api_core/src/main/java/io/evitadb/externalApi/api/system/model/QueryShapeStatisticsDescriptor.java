@@ -0,0 +1,152 @@
+/*
+ *
+ *                         _ _        ____  ____
+ *               _____   _(_) |_ __ _|  _ \| __ )
+ *              / _ \ \ / / | __/ _` | | | |  _ \
+ *             |  __/\ V /| | || (_| | |_| | |_) |
+ *              \___| \_/ |_|\__\__,_|____/|____/
+ *
+ *   Copyright (c) 2026
+ *
+ *   Licensed under the Business Source License, Version 1.1 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://github.com/FgForrest/evitaDB/blob/master/LICENSE
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.evitadb.externalApi.api.system.model;
+
+import io.evitadb.externalApi.api.model.ObjectDescriptor;
+import io.evitadb.externalApi.api.model.PropertyDescriptor;
+
+import java.util.List;
+
+import static io.evitadb.externalApi.api.model.PrimitivePropertyDataTypeDescriptor.nonNull;
+import static io.evitadb.externalApi.api.model.PrimitivePropertyDataTypeDescriptor.nullable;
+
+/**
+ * Descriptor of {@link io.evitadb.api.observability.QueryShapeStatistics}.
+ *
+ * Note: this descriptor has static structure.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+public interface QueryShapeStatisticsDescriptor {
+
+	PropertyDescriptor FINGERPRINT = PropertyDescriptor.builder()
+		.name("fingerprint")
+		.description("""
+			Hexadecimal hash of the `shape` - short stable identifier of the shape, which is also used as a label
+			of the Prometheus metrics.
+			""")
+		.type(nonNull(String.class))
+		.build();
+	PropertyDescriptor ENTITY_TYPE = PropertyDescriptor.builder()
+		.name("entityType")
+		.description("""
+			The queried entity type, null for queries not targeting a single collection.
+			""")
+		.type(nullable(String.class))
+		.build();
+	PropertyDescriptor SHAPE = PropertyDescriptor.builder()
+		.name("shape")
+		.description("""
+			The query with literal values replaced by placeholders.
+			""")
+		.type(nonNull(String.class))
+		.build();
+	PropertyDescriptor CALL_COUNT = PropertyDescriptor.builder()
+		.name("callCount")
+		.description("""
+			Number of executed queries of this shape.
+			""")
+		.type(nonNull(Long.class))
+		.build();
+	PropertyDescriptor TOTAL_DURATION_IN_MICROSECONDS = PropertyDescriptor.builder()
+		.name("totalDurationInMicroseconds")
+		.description("""
+			Sum of the latencies of all executed queries of this shape in microseconds.
+			""")
+		.type(nonNull(Long.class))
+		.build();
+	PropertyDescriptor MEAN_DURATION_IN_MICROSECONDS = PropertyDescriptor.builder()
+		.name("meanDurationInMicroseconds")
+		.description("""
+			The mean latency of the queries of this shape in microseconds.
+			""")
+		.type(nonNull(Long.class))
+		.build();
+	PropertyDescriptor P99_DURATION_IN_MICROSECONDS = PropertyDescriptor.builder()
+		.name("p99DurationInMicroseconds")
+		.description("""
+			The 99th percentile of the latency of the queries of this shape in microseconds.
+			""")
+		.type(nonNull(Long.class))
+		.build();
+	PropertyDescriptor MAX_DURATION_IN_MICROSECONDS = PropertyDescriptor.builder()
+		.name("maxDurationInMicroseconds")
+		.description("""
+			The highest latency of the queries of this shape in microseconds.
+			""")
+		.type(nonNull(Long.class))
+		.build();
+	PropertyDescriptor RECORDS_SCANNED = PropertyDescriptor.builder()
+		.name("recordsScanned")
+		.description("""
+			Total number of records scanned (included in the calculation) by all queries of this shape.
+			""")
+		.type(nonNull(Long.class))
+		.build();
+	PropertyDescriptor RECORDS_RETURNED = PropertyDescriptor.builder()
+		.name("recordsReturned")
+		.description("""
+			Total number of records returned by all queries of this shape.
+			""")
+		.type(nonNull(Long.class))
+		.build();
+	PropertyDescriptor IO_FETCH_COUNT = PropertyDescriptor.builder()
+		.name("ioFetchCount")
+		.description("""
+			Total number of records fetched from the disk by all queries of this shape.
+			""")
+		.type(nonNull(Long.class))
+		.build();
+	PropertyDescriptor IO_FETCHED_SIZE_BYTES = PropertyDescriptor.builder()
+		.name("ioFetchedSizeBytes")
+		.description("""
+			Total size of the data fetched from the disk by all queries of this shape in bytes.
+			""")
+		.type(nonNull(Long.class))
+		.build();
+
+	ObjectDescriptor THIS = ObjectDescriptor.builder()
+		.name("QueryShapeStatistics")
+		.description("""
+			Aggregated statistics of all queries of the same shape executed in a single catalog since the catalog was
+			loaded. The shape of the query keeps its structure but abstracts from the concrete values, so that the queries
+			differing only in the filtered values or the requested page are aggregated together. Percentiles are
+			approximate.
+			""")
+		.staticProperties(List.of(
+			FINGERPRINT,
+			ENTITY_TYPE,
+			SHAPE,
+			CALL_COUNT,
+			TOTAL_DURATION_IN_MICROSECONDS,
+			MEAN_DURATION_IN_MICROSECONDS,
+			P99_DURATION_IN_MICROSECONDS,
+			MAX_DURATION_IN_MICROSECONDS,
+			RECORDS_SCANNED,
+			RECORDS_RETURNED,
+			IO_FETCH_COUNT,
+			IO_FETCHED_SIZE_BYTES
+		))
+		.build();
+}
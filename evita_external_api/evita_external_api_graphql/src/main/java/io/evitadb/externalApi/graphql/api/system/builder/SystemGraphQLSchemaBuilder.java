@@ -106,6 +106,8 @@ import io.evitadb.externalApi.api.model.mutation.MutationDescriptor;
 import io.evitadb.externalApi.api.system.model.CatalogContractDescriptor;
 import io.evitadb.externalApi.api.system.model.CatalogDescriptor;
 import io.evitadb.externalApi.api.system.model.CatalogUnionDescriptor;
+import io.evitadb.externalApi.api.system.model.IndexMemoryFootprintDescriptor;
+import io.evitadb.externalApi.api.system.model.QueryShapeStatisticsDescriptor;
 import io.evitadb.externalApi.api.system.model.UnusableCatalogDescriptor;
 import io.evitadb.externalApi.api.system.model.cdc.CatalogInstalledIntoLiveViewDescriptor;
 import io.evitadb.externalApi.api.system.model.cdc.CatalogRemovedFromLiveViewDescriptor;
@@ -130,7 +132,9 @@ import io.evitadb.externalApi.graphql.api.system.model.SwitchCatalogToAliveState
 import io.evitadb.externalApi.graphql.api.system.model.SystemRootDescriptor;
 import io.evitadb.externalApi.graphql.api.system.resolver.dataFetcher.CatalogDataFetcher;
 import io.evitadb.externalApi.graphql.api.system.resolver.dataFetcher.CatalogsDataFetcher;
+import io.evitadb.externalApi.graphql.api.system.resolver.dataFetcher.IndexMemoryFootprintDataFetcher;
 import io.evitadb.externalApi.graphql.api.system.resolver.dataFetcher.LivenessDataFetcher;
+import io.evitadb.externalApi.graphql.api.system.resolver.dataFetcher.QueryShapeStatisticsDataFetcher;
 import io.evitadb.externalApi.graphql.api.system.resolver.mutatingDataFetcher.CreateCatalogMutatingDataFetcher;
 import io.evitadb.externalApi.graphql.api.system.resolver.mutatingDataFetcher.DeleteCatalogIfExistsMutatingDataFetcher;
 import io.evitadb.externalApi.graphql.api.system.resolver.mutatingDataFetcher.RenameCatalogMutatingDataFetcher;
@@ -193,6 +197,8 @@ public class SystemGraphQLSchemaBuilder extends FinalGraphQLSchemaBuilder<GraphQ
 		final GraphQLObjectType unusableCatalogObject = buildUnusableCatalogObject();
 		this.buildingContext.registerType(unusableCatalogObject);
 		this.buildingContext.registerType(buildCatalogUnion(catalogObject, unusableCatalogObject));
+		this.buildingContext.registerType(QueryShapeStatisticsDescriptor.THIS.to(this.objectBuilderTransformer).build());
+		this.buildingContext.registerType(IndexMemoryFootprintDescriptor.THIS.to(this.objectBuilderTransformer).build());
 		this.buildingContext.registerType(ScopedAttributeUniquenessTypeDescriptor.THIS.to(this.objectBuilderTransformer).build());
 		this.buildingContext.registerType(ScopedGlobalAttributeUniquenessTypeDescriptor.THIS.to(this.objectBuilderTransformer).build());
 		this.buildingContext.registerType(ScopedReferenceIndexTypeDescriptor.THIS.to(this.objectBuilderTransformer).build());
@@ -240,6 +246,8 @@ public class SystemGraphQLSchemaBuilder extends FinalGraphQLSchemaBuilder<GraphQ
 		this.buildingContext.registerQueryField(buildLivenessField());
 		this.buildingContext.registerQueryField(buildCatalogField());
 		this.buildingContext.registerQueryField(buildCatalogsField());
+		this.buildingContext.registerQueryField(buildQueryShapeStatisticsField());
+		this.buildingContext.registerQueryField(buildIndexMemoryFootprintField());
 
 		this.buildingContext.registerMutationField(buildCreateCatalogField());
 		this.buildingContext.registerMutationField(buildSwitchCatalogToAliveStateField());
@@ -666,6 +674,42 @@ public class SystemGraphQLSchemaBuilder extends FinalGraphQLSchemaBuilder<GraphQ
 		);
 	}
 
+	@Nonnull
+	private BuiltFieldDescriptor buildQueryShapeStatisticsField() {
+		final GraphQLFieldDefinition queryShapeStatisticsField = SystemRootDescriptor.QUERY_SHAPE_STATISTICS
+			.to(this.staticEndpointBuilderTransformer)
+			.argument(CatalogQueryHeaderDescriptor.NAME.to(this.argumentBuilderTransformer))
+			.build();
+
+		return new BuiltFieldDescriptor(
+			queryShapeStatisticsField,
+			new AsyncDataFetcher(
+				new QueryShapeStatisticsDataFetcher(this.evita),
+				this.buildingContext.getConfig(),
+				this.buildingContext.getTracingContext(),
+				this.buildingContext.getEvita()
+			)
+		);
+	}
+
+	@Nonnull
+	private BuiltFieldDescriptor buildIndexMemoryFootprintField() {
+		final GraphQLFieldDefinition indexMemoryFootprintField = SystemRootDescriptor.INDEX_MEMORY_FOOTPRINT
+			.to(this.staticEndpointBuilderTransformer)
+			.argument(CatalogQueryHeaderDescriptor.NAME.to(this.argumentBuilderTransformer))
+			.build();
+
+		return new BuiltFieldDescriptor(
+			indexMemoryFootprintField,
+			new AsyncDataFetcher(
+				new IndexMemoryFootprintDataFetcher(this.evita),
+				this.buildingContext.getConfig(),
+				this.buildingContext.getTracingContext(),
+				this.buildingContext.getEvita()
+			)
+		);
+	}
+
 	@Nonnull
 	private BuiltFieldDescriptor buildCreateCatalogField() {
 		final GraphQLFieldDefinition createCatalogField = SystemRootDescriptor.CREATE_CATALOG
@@ -27,8 +27,11 @@ import io.evitadb.externalApi.api.catalog.model.cdc.ChangeCatalogCaptureDescript
 import io.evitadb.externalApi.api.model.EndpointDescriptor;
 import io.evitadb.externalApi.api.system.model.CatalogDescriptor;
 import io.evitadb.externalApi.api.system.model.CatalogUnionDescriptor;
+import io.evitadb.externalApi.api.system.model.IndexMemoryFootprintDescriptor;
+import io.evitadb.externalApi.api.system.model.QueryShapeStatisticsDescriptor;
 import io.evitadb.externalApi.api.system.model.cdc.ChangeSystemCaptureDescriptor;
 
+import static io.evitadb.externalApi.api.model.TypePropertyDataTypeDescriptor.nonNullListRef;
 import static io.evitadb.externalApi.api.model.TypePropertyDataTypeDescriptor.nonNullRef;
 import static io.evitadb.externalApi.api.model.TypePropertyDataTypeDescriptor.nullableListRef;
 import static io.evitadb.externalApi.api.model.TypePropertyDataTypeDescriptor.nullableRef;
@@ -66,6 +69,22 @@ public interface SystemRootDescriptor {
             """)
         .type(nullableListRef(CatalogUnionDescriptor.THIS))
         .build();
+    EndpointDescriptor QUERY_SHAPE_STATISTICS = EndpointDescriptor.builder()
+        .operation("queryShapeStatistics")
+        .description("""
+            Returns aggregated statistics of the query shapes executed in the catalog since it was loaded, ordered by
+            the total time spent descending - i.e. the most expensive query shapes come first.
+            """)
+        .type(nonNullListRef(QueryShapeStatisticsDescriptor.THIS))
+        .build();
+    EndpointDescriptor INDEX_MEMORY_FOOTPRINT = EndpointDescriptor.builder()
+        .operation("indexMemoryFootprint")
+        .description("""
+            Returns estimated heap memory occupied by the in-memory indexes of the catalog, aggregated per entity type,
+            index data structure, reference and attribute.
+            """)
+        .type(nonNullListRef(IndexMemoryFootprintDescriptor.THIS))
+        .build();
 
     EndpointDescriptor CREATE_CATALOG = EndpointDescriptor.builder()
         .operation("createCatalog")
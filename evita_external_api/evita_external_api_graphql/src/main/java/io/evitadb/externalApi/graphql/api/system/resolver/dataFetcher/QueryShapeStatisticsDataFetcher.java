@@ -0,0 +1,58 @@
+/*
+ *
+ *                         _ _        ____  ____
+ *               _____   _(_) |_ __ _|  _ \| __ )
+ *              / _ \ \ / / | __/ _` | | | |  _ \
+ *             |  __/\ V /| | || (_| | |_| | |_) |
+ *              \___| \_/ |_|\__\__,_|____/|____/
+ *
+ *   Copyright (c) 2026
+ *
+ *   Licensed under the Business Source License, Version 1.1 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://github.com/FgForrest/evitaDB/blob/master/LICENSE
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.evitadb.externalApi.graphql.api.system.resolver.dataFetcher;
+
+import graphql.schema.DataFetcher;
+import graphql.schema.DataFetchingEnvironment;
+import io.evitadb.api.CatalogContract;
+import io.evitadb.api.observability.QueryShapeStatistics;
+import io.evitadb.core.Evita;
+import io.evitadb.core.catalog.Catalog;
+import io.evitadb.externalApi.graphql.api.resolver.dataFetcher.ReadDataFetcher;
+import io.evitadb.externalApi.graphql.api.system.model.CatalogQueryHeaderDescriptor;
+import lombok.RequiredArgsConstructor;
+
+import javax.annotation.Nonnull;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Returns aggregated query shape statistics of single catalog by its name.
+ *
+ * @author Lukáš Hornych, FG Forrest a.s. (c) 2026
+ */
+@RequiredArgsConstructor
+public class QueryShapeStatisticsDataFetcher implements DataFetcher<List<QueryShapeStatistics>>, ReadDataFetcher {
+
+    private final Evita evita;
+
+    @Nonnull
+    @Override
+    public List<QueryShapeStatistics> get(DataFetchingEnvironment environment) {
+        final String catalogName = Objects.requireNonNull(environment.getArgument(CatalogQueryHeaderDescriptor.NAME.name()));
+        final CatalogContract catalog = this.evita.getCatalogInstanceOrThrowException(catalogName);
+        return catalog instanceof Catalog theCatalog ?
+            theCatalog.getQueryShapeStatistics() : List.of();
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ *
+ *                         _ _        ____  ____
+ *               _____   _(_) |_ __ _|  _ \| __ )
+ *              / _ \ \ / / | __/ _` | | | |  _ \
+ *             |  __/\ V /| | || (_| | |_| | |_) |
+ *              \___| \_/ |_|\__\__,_|____/|____/
+ *
+ *   Copyright (c) 2026
+ *
+ *   Licensed under the Business Source License, Version 1.1 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://github.com/FgForrest/evitaDB/blob/master/LICENSE
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.evitadb.driver;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Statistics of the client-side entity cache of a single catalog. The cache is enabled by
+ * {@link io.evitadb.driver.config.EvitaClientConfiguration#entityCacheSize()} and the statistics are available via
+ * {@link EvitaClient#getEntityCacheStatistics(String)}.
+ *
+ * @param catalogName               the name of the catalog the cache is attached to
+ * @param hits                      the number of entity fetches served from the cache
+ * @param misses                    the number of entity fetches that had to be sent to the server
+ * @param invalidations             the number of data and schema change captures applied to the cache
+ * @param size                      the current number of cached entities (regardless of the number of their variants)
+ * @param appliedCatalogVersion     the last catalog version whose changes were completely applied to the cache, -1
+ *                                  when the cache is not subscribed to the change capture stream
+ * @param lastInvalidationLagMillis the delay between the commit of the last applied change and its application to
+ *                                  the cache in milliseconds
+ * @param maxInvalidationLagMillis  the maximal observed delay between the commit of a change and its application to
+ *                                  the cache in milliseconds
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+public record EntityCacheStatistics(
+	@Nonnull String catalogName,
+	long hits,
+	long misses,
+	long invalidations,
+	long size,
+	long appliedCatalogVersion,
+	long lastInvalidationLagMillis,
+	long maxInvalidationLagMillis
+) {
+
+	/**
+	 * Returns the ratio of the fetches served from the cache to all fetches, zero when there were no fetches yet.
+	 */
+	public double hitRatio() {
+		final long total = this.hits + this.misses;
+		return total == 0L ? 0.0 : (double) this.hits / total;
+	}
+
+}
@@ -224,6 +224,12 @@ public class EvitaClient implements EvitaContract {
 	 * The key in index is the catalog name.
 	 */
 	private final Map<String, EvitaEntitySchemaCache> entitySchemaCache = new ConcurrentHashMap<>(8);
+	/**
+	 * Index of the optional client-side entity caches, see {@link EvitaEntityCache} for more information.
+	 * The key in index is the catalog name. The index stays empty unless
+	 * {@link EvitaClientConfiguration#entityCacheSize()} is positive.
+	 */
+	private final Map<String, EvitaEntityCache> entityCache = new ConcurrentHashMap<>(8);
 	/**
 	 * Index of the opened and active {@link EvitaClientSession} indexed by their unique {@link UUID}
 	 */
@@ -888,6 +894,30 @@ public class EvitaClient implements EvitaContract {
 		return this.active.get();
 	}
 
+	/**
+	 * Returns the statistics of the client-side entity cache of the passed catalog, or empty result when the cache
+	 * is disabled or hasn't been used for the catalog yet.
+	 *
+	 * @param catalogName the name of the catalog
+	 * @return statistics of the entity cache
+	 */
+	@Nonnull
+	public Optional<EntityCacheStatistics> getEntityCacheStatistics(@Nonnull String catalogName) {
+		return ofNullable(this.entityCache.get(catalogName))
+			.map(EvitaEntityCache::getStatistics);
+	}
+
+	/**
+	 * Returns the client-side entity cache of the passed catalog or null if the cache is disabled.
+	 */
+	@Nullable
+	EvitaEntityCache getEntityCache(@Nonnull String catalogName) {
+		final int entityCacheSize = this.configuration.entityCacheSize();
+		return entityCacheSize > 0 ?
+			this.entityCache.computeIfAbsent(catalogName, name -> new EvitaEntityCache(this, name, entityCacheSize)) :
+			null;
+	}
+
 	@Nonnull
 	@Override
 	public EvitaClientSession createSession(@Nonnull SessionTraits traits) {
@@ -949,6 +979,7 @@ public class EvitaClient implements EvitaContract {
 				.map(UUIDUtil::uuid)
 				.orElseGet(UUIDUtil::randomUUID),
 			UUIDUtil.uuid(grpcResponse.getSessionId()),
+			grpcResponse.getCatalogVersion(),
 			EvitaEnumConverter.toCommitBehavior(grpcResponse.getCommitBehaviour()),
 			traits,
 			evitaSession -> {
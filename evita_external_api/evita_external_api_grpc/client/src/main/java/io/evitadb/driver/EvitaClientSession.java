@@ -72,6 +72,7 @@ import io.evitadb.api.requestResponse.data.mutation.EntityMutation.EntityExisten
 import io.evitadb.api.requestResponse.data.mutation.EntityUpsertMutation;
 import io.evitadb.api.requestResponse.data.mutation.reference.ComparableReferenceKey;
 import io.evitadb.api.requestResponse.data.mutation.reference.ReferenceKey;
+import io.evitadb.api.requestResponse.data.structure.BinaryEntity;
 import io.evitadb.api.requestResponse.data.structure.EntityReference;
 import io.evitadb.api.requestResponse.data.structure.EntityReferenceWithAssignedPrimaryKeys;
 import io.evitadb.api.requestResponse.data.structure.InitialEntityBuilder;
@@ -123,6 +124,7 @@ import io.evitadb.externalApi.grpc.requestResponse.schema.EntitySchemaConverter;
 import io.evitadb.externalApi.grpc.requestResponse.schema.mutation.DelegatingLocalCatalogSchemaMutationConverter;
 import io.evitadb.externalApi.grpc.requestResponse.schema.mutation.catalog.ModifyEntitySchemaMutationConverter;
 import io.evitadb.utils.Assert;
+import io.evitadb.utils.CollectionUtils;
 import io.evitadb.utils.ReflectionLookup;
 import io.grpc.ClientCall;
 import io.grpc.stub.ClientCalls;
@@ -231,6 +233,12 @@ public class EvitaClientSession implements EvitaSessionContract {
 	 * The id is assigned to the catalog when it is created and never changes.
 	 */
 	private final UUID catalogId;
+	/**
+	 * Contains the catalog version the session reads, as reported by the server when the session was created, or `-1`
+	 * when the server didn't report it. The entity cache stamps and serves the entities by this version, so that
+	 * the session never observes an entity fetched by a session reading a different catalog snapshot.
+	 */
+	private final long snapshotCatalogVersion;
 	/**
 	 * Contains information passed at the time session was created that defines its behaviour
 	 */
@@ -279,6 +287,11 @@ public class EvitaClientSession implements EvitaSessionContract {
 	 * This helps keep the streaming connection alive as long as messages are being received.
 	 */
 	private final Duration streamingTimeout;
+	/**
+	 * Coalesces the concurrent `getEntity` calls into batches, null when the batching is disabled or the session is
+	 * not read-only. See {@link EvitaEntityBatcher} for more information.
+	 */
+	@Nullable private final EvitaEntityBatcher entityBatcher;
 	/**
 	 * Future that is instantiated when the session is closed. When initialized, subsequent calls of the close method
 	 * will return the same future. When the future is non-null any calls after {@link #close()} method has been called.
@@ -362,6 +375,7 @@ public class EvitaClientSession implements EvitaSessionContract {
 	 * @param evita            the owning client
 	 * @param unaryChannel     channel for the session's unary request/response stub, with retries
 	 * @param streamingChannel channel for the session's streaming stub, deliberately *without* retries
+	 * @param catalogVersion   catalog version the session reads as reported by the server, non-positive when unknown
 	 */
 	public EvitaClientSession(
 		@Nonnull EvitaClient evita,
@@ -374,6 +388,7 @@ public class EvitaClientSession implements EvitaSessionContract {
 		@Nonnull CatalogState catalogState,
 		@Nonnull UUID catalogId,
 		@Nonnull UUID sessionId,
+		long catalogVersion,
 		@Nonnull CommitBehavior commitBehaviour,
 		@Nonnull SessionTraits sessionTraits,
 		@Nonnull Consumer<EvitaClientSession> onTerminationCallback,
@@ -391,6 +406,7 @@ public class EvitaClientSession implements EvitaSessionContract {
 		this.commitBehaviour = commitBehaviour;
 		this.catalogId = catalogId;
 		this.sessionId = sessionId;
+		this.snapshotCatalogVersion = catalogVersion > 0L ? catalogVersion : -1L;
 		this.sessionTraits = sessionTraits;
 		this.onTerminationCallback = onTerminationCallback;
 		this.callTimeout.add(timeout);
@@ -401,6 +417,13 @@ public class EvitaClientSession implements EvitaSessionContract {
 			timeouts.streamingTimeout(),
 			timeouts.streamingTimeoutUnit().toChronoUnit()
 		);
+		// batches may be shared by concurrent calls only when the session doesn't see its own changes
+		this.entityBatcher = configuration.entityBatchWindowMicros() > 0L && !sessionTraits.isReadWrite() && !sessionTraits.isBinary() ?
+			new EvitaEntityBatcher(
+				configuration.entityBatchWindowMicros(),
+				configuration.entityBatchMaxSize(),
+				this::fetchEntityBatch
+			) : null;
 	}
 
 	@Nonnull
@@ -1117,7 +1140,7 @@ public class EvitaClientSession implements EvitaSessionContract {
 					grpcResponse,
 					grpcRecordPage -> grpcRecordPage.getBinaryEntitiesList()
 						.stream()
-						.map(EntityConverter::parseBinaryEntity)
+						.map(this::parseBinaryEntity)
 						.map(it -> (S) it)
 						.toList()
 				);
@@ -2341,35 +2364,50 @@ public class EvitaClientSession implements EvitaSessionContract {
 	) {
 		assertActive();
 
-		final GrpcEntityRequest.Builder requestBuilder = GrpcEntityRequest
-			.newBuilder()
-			.setEntityType(entityType)
-			.setPrimaryKey(primaryKey)
-			.addAllScopes(
-				evitaRequest.getScopes()
-					.stream()
-					.map(EvitaEnumConverter::toGrpcScope)
-					.toList()
+		// the near cache is used only in read-only sessions that can't see their own uncommitted changes
+		final EvitaEntityCache entityCache = this.sessionTraits.isReadWrite() || this.sessionTraits.isBinary() ?
+			null : this.evita.getEntityCache(this.catalogName);
+		final String contentKey = entityCache == null && this.entityBatcher == null ?
+			null : EvitaEntityCache.toContentKey(evitaRequest.getScopes(), require);
+		if (entityCache != null) {
+			final SealedEntity cachedEntity = entityCache.get(
+				entityType, primaryKey, Objects.requireNonNull(contentKey), this.snapshotCatalogVersion
 			);
-		if (require != null) {
-			final StringWithParameters stringWithParameters = PrettyPrintingVisitor.toStringWithParameterExtraction(require);
-			requestBuilder
-				.setRequire(stringWithParameters.query())
-				.addAllPositionalQueryParams(
-					stringWithParameters.parameters()
-						.stream()
-						.map(QueryConverter::convertQueryParam)
-						.toList()
-				);
+			if (cachedEntity != null) {
+				return Optional.of(typeConverter.apply(expectedType, cachedEntity));
+			}
+		}
+
+		if (this.entityBatcher != null) {
+			// the batch loader stores the fetched entities in the near cache
+			return ofNullable(
+				this.entityBatcher.getEntity(
+					entityType, primaryKey, Objects.requireNonNull(contentKey), evitaRequest.getScopesAsArray(), require
+				)
+			).map(entity -> typeConverter.apply(expectedType, entity));
 		}
 
 		final GrpcEntityResponse grpcResponse = executeWithBlockingEvitaSessionService(
 			evitaSessionService ->
 				evitaSessionService.getEntity(
-					requestBuilder.build()
+					createEntityRequest(entityType, primaryKey, evitaRequest.getScopes(), require)
 				)
 		);
 
+		if (entityCache != null && grpcResponse.hasEntity()) {
+			final SealedEntity fetchedEntity = EntityConverter.toEntity(
+				entity -> this.schemaCache.getEntitySchemaOrThrowException(
+					entity.getEntityType(), entity.getSchemaVersion(), this::fetchEntitySchema, this::getCatalogSchema
+				),
+				evitaRequest,
+				grpcResponse.getEntity(),
+				SealedEntity.class,
+				SEALED_ENTITY_TYPE_CONVERTER
+			);
+			entityCache.put(entityType, primaryKey, contentKey, this.snapshotCatalogVersion, fetchedEntity);
+			return Optional.of(typeConverter.apply(expectedType, fetchedEntity));
+		}
+
 		return grpcResponse.hasEntity() ?
 			Optional.of(
 				EntityConverter.toEntity(
@@ -2384,6 +2422,125 @@ public class EvitaClientSession implements EvitaSessionContract {
 			) : Optional.empty();
 	}
 
+	/**
+	 * Fetches the entities of a single batch collected by {@link EvitaEntityBatcher} and stores them in the near cache
+	 * when it's enabled. The batch of a single entity is fetched by the plain `getEntity` call, larger batches by
+	 * a query with `entityPrimaryKeyInSet` filter.
+	 */
+	@Nonnull
+	private Map<Integer, SealedEntity> fetchEntityBatch(
+		@Nonnull String entityType,
+		@Nonnull String contentKey,
+		@Nonnull Scope[] scopes,
+		@Nullable RequireConstraint[] require,
+		@Nonnull int[] primaryKeys
+	) {
+		assertActive();
+
+		final EntityContentRequire[] contentRequire = require == null ?
+			new EntityContentRequire[0] :
+			Arrays.stream(require)
+				.filter(Objects::nonNull)
+				.map(EntityContentRequire.class::cast)
+				.toArray(EntityContentRequire[]::new);
+		final Query query = Query.query(
+			collection(entityType),
+			filterBy(
+				entityPrimaryKeyInSet(primaryKeys),
+				scope(scopes)
+			),
+			require(
+				page(1, primaryKeys.length),
+				entityFetch(contentRequire)
+			)
+		);
+		final EvitaRequest evitaRequest = new EvitaRequest(query, OffsetDateTime.now(), SealedEntity.class, entityType);
+
+		final EvitaEntityCache entityCache = this.evita.getEntityCache(this.catalogName);
+		final Map<Integer, SealedEntity> entities = CollectionUtils.createHashMap(primaryKeys.length);
+		if (primaryKeys.length == 1) {
+			final GrpcEntityResponse grpcResponse = executeWithBlockingEvitaSessionService(
+				evitaSessionService ->
+					evitaSessionService.getEntity(
+						createEntityRequest(entityType, primaryKeys[0], evitaRequest.getScopes(), require)
+					)
+			);
+			if (grpcResponse.hasEntity()) {
+				entities.put(
+					primaryKeys[0],
+					EntityConverter.toEntity(
+						entity -> this.schemaCache.getEntitySchemaOrThrowException(
+							entity.getEntityType(), entity.getSchemaVersion(), this::fetchEntitySchema, this::getCatalogSchema
+						),
+						evitaRequest,
+						grpcResponse.getEntity(),
+						SealedEntity.class,
+						SEALED_ENTITY_TYPE_CONVERTER
+					)
+				);
+			}
+		} else {
+			for (SealedEntity entity : queryListInternal(query, SealedEntity.class, evitaRequest, SEALED_ENTITY_TYPE_CONVERTER)) {
+				entities.put(entity.getPrimaryKeyOrThrowException(), entity);
+			}
+		}
+
+		if (entityCache != null) {
+			for (Map.Entry<Integer, SealedEntity> entry : entities.entrySet()) {
+				entityCache.put(entityType, entry.getKey(), contentKey, this.snapshotCatalogVersion, entry.getValue());
+			}
+		}
+		return entities;
+	}
+
+	/**
+	 * Converts the binary entity received in the binary session to {@link BinaryEntity} with the entity schema
+	 * of the version the storage parts were written with.
+	 */
+	@Nonnull
+	private <S> S parseBinaryEntity(@Nonnull GrpcBinaryEntity binaryEntity) {
+		return EntityConverter.parseBinaryEntity(
+			binaryEntity,
+			(entityType, schemaVersion) -> this.schemaCache.getEntitySchemaOrThrowException(
+				entityType, schemaVersion, this::fetchEntitySchema, this::getCatalogSchema
+			)
+		);
+	}
+
+	/**
+	 * Creates the gRPC request fetching a single entity with the passed content.
+	 */
+	@Nonnull
+	private static GrpcEntityRequest createEntityRequest(
+		@Nonnull String entityType,
+		int primaryKey,
+		@Nonnull Set<Scope> scopes,
+		@Nullable RequireConstraint[] require
+	) {
+		final GrpcEntityRequest.Builder requestBuilder = GrpcEntityRequest
+			.newBuilder()
+			.setEntityType(entityType)
+			.setPrimaryKey(primaryKey)
+			.addAllScopes(
+				scopes
+					.stream()
+					.map(EvitaEnumConverter::toGrpcScope)
+					.toList()
+			);
+		if (require != null) {
+			final StringWithParameters stringWithParameters = PrettyPrintingVisitor.toStringWithParameterExtraction(require);
+			requestBuilder
+				.setRequire(stringWithParameters.query())
+				.addAllPositionalQueryParams(
+					stringWithParameters.parameters()
+						.stream()
+						.map(QueryConverter::convertQueryParam)
+						.toList()
+				);
+		}
+		return requestBuilder.build();
+	}
+
 	@Nonnull
 	private <S extends Serializable> List<S> queryListInternal(
 		@Nonnull Query query,
@@ -2429,7 +2586,7 @@ public class EvitaClientSession implements EvitaSessionContract {
 				//noinspection unchecked
 				return grpcResponse.getBinaryEntitiesList()
 					.stream()
-					.map(EntityConverter::parseBinaryEntity)
+					.map(this::parseBinaryEntity)
 					.map(it -> (S) it)
 					.toList();
 			}
@@ -2634,7 +2791,7 @@ public class EvitaClientSession implements EvitaSessionContract {
 		} else {
 			if (grpcResponse.hasBinaryEntity()) {
 				// parse the entity!
-				return of(EntityConverter.parseBinaryEntity(grpcResponse.getBinaryEntity()));
+				return of(parseBinaryEntity(grpcResponse.getBinaryEntity()));
 			} else {
 				if (!grpcResponse.hasSealedEntity()) {
 					return empty();
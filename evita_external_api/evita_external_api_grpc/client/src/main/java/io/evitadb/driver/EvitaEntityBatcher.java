@@ -0,0 +1,316 @@
+/*
+ *
+ *                         _ _        ____  ____
+ *               _____   _(_) |_ __ _|  _ \| __ )
+ *              / _ \ \ / / | __/ _` | | | |  _ \
+ *             |  __/\ V /| | || (_| | |_| | |_) |
+ *              \___| \_/ |_|\__\__,_|____/|____/
+ *
+ *   Copyright (c) 2026
+ *
+ *   Licensed under the Business Source License, Version 1.1 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://github.com/FgForrest/evitaDB/blob/master/LICENSE
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.evitadb.driver;
+
+import io.evitadb.api.query.RequireConstraint;
+import io.evitadb.api.requestResponse.data.SealedEntity;
+import io.evitadb.dataType.Scope;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * This class coalesces the concurrent {@link EvitaClientSession#getEntity} calls of a single read-only session.
+ * The calls fetching the same content (scopes and require constraints) of the same entity type that arrive within
+ * a short time window are collected into a single batch and fetched from the server by a single query with
+ * `entityPrimaryKeyInSet` filter. The results are then fanned out to all the waiting callers.
+ *
+ * The first caller of the batch becomes its leader - it waits for the configured time window (or until the batch
+ * reaches its maximal size), seals the batch and executes the server call in its own thread. The other callers
+ * just wait for the result. The concurrent calls for the same entity share a single server call (single-flight) even
+ * if the batch has already been sent to the server - this is safe only because the read-only session always sees
+ * the same catalog version, which is why the batching is never used in read-write sessions.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+@ThreadSafe
+class EvitaEntityBatcher {
+	/**
+	 * The time window in nanoseconds the leader waits for other callers to join the batch.
+	 */
+	private final long windowNanos;
+	/**
+	 * The maximal number of primary keys in a single batch.
+	 */
+	private final int maxBatchSize;
+	/**
+	 * The function that fetches the entities of the sealed batch from the server.
+	 */
+	private final BatchLoader loader;
+	/**
+	 * The batches that are open for new primary keys.
+	 */
+	private final ConcurrentHashMap<BatchKey, Batch> pendingBatches = new ConcurrentHashMap<>(16);
+	/**
+	 * The results of the entities whose batches have been sealed and are being fetched from the server.
+	 */
+	private final ConcurrentHashMap<EntityKey, CompletableFuture<SealedEntity>> inFlight = new ConcurrentHashMap<>(64);
+
+	EvitaEntityBatcher(long windowMicros, int maxBatchSize, @Nonnull BatchLoader loader) {
+		this.windowNanos = TimeUnit.MICROSECONDS.toNanos(windowMicros);
+		this.maxBatchSize = Math.max(1, maxBatchSize);
+		this.loader = loader;
+	}
+
+	/**
+	 * Returns the entity of the passed type and primary key with the requested content or null if the entity doesn't
+	 * exist. The call blocks until the batch the entity was assigned to is fetched from the server.
+	 *
+	 * @param entityType type of the entity
+	 * @param primaryKey primary key of the entity
+	 * @param contentKey content key created by {@link EvitaEntityCache#toContentKey}
+	 * @param scopes     scopes the entity is looked up in
+	 * @param require    the content requirements
+	 * @return fetched entity or null
+	 */
+	@Nullable
+	SealedEntity getEntity(
+		@Nonnull String entityType,
+		int primaryKey,
+		@Nonnull String contentKey,
+		@Nonnull Scope[] scopes,
+		@Nullable RequireConstraint[] require
+	) {
+		final BatchKey batchKey = new BatchKey(entityType, contentKey);
+		final EntityKey entityKey = new EntityKey(batchKey, primaryKey);
+		while (true) {
+			// the same entity is already being fetched - share the result
+			final CompletableFuture<SealedEntity> running = this.inFlight.get(entityKey);
+			if (running != null) {
+				return await(running);
+			}
+
+			final Batch newBatch = new Batch(batchKey, scopes, require);
+			final Batch existingBatch = this.pendingBatches.putIfAbsent(batchKey, newBatch);
+			final Batch batch = existingBatch == null ? newBatch : existingBatch;
+			final CompletableFuture<SealedEntity> result = batch.join(primaryKey);
+			if (result == null) {
+				continue;
+			}
+			if (batch == newBatch) {
+				execute(batch);
+			}
+			return await(result);
+		}
+	}
+
+	/**
+	 * Waits for the end of the batching window, seals the batch and fetches its entities from the server.
+	 */
+	private void execute(@Nonnull Batch batch) {
+		batch.awaitWindow(this.windowNanos);
+		batch.seal();
+
+		final int[] primaryKeys = batch.futures.keySet().stream().mapToInt(Integer::intValue).toArray();
+		if (primaryKeys.length == 0) {
+			// all the callers share the results of the batches already in flight
+			return;
+		}
+		try {
+			final Map<Integer, SealedEntity> entities = this.loader.load(
+				batch.key.entityType(), batch.key.contentKey(), batch.scopes, batch.require, primaryKeys
+			);
+			for (Entry<Integer, CompletableFuture<SealedEntity>> entry : batch.futures.entrySet()) {
+				entry.getValue().complete(entities.get(entry.getKey()));
+			}
+		} catch (Throwable ex) {
+			// the leader receives the exception as well when it awaits its own result
+			for (CompletableFuture<SealedEntity> future : batch.futures.values()) {
+				future.completeExceptionally(ex);
+			}
+		} finally {
+			for (Entry<Integer, CompletableFuture<SealedEntity>> entry : batch.futures.entrySet()) {
+				this.inFlight.remove(new EntityKey(batch.key, entry.getKey()), entry.getValue());
+			}
+		}
+	}
+
+	/**
+	 * Waits for the result and unwraps the exception thrown by the leader of the batch.
+	 */
+	@Nullable
+	private static SealedEntity await(@Nonnull CompletableFuture<SealedEntity> future) {
+		try {
+			return future.join();
+		} catch (CompletionException ex) {
+			if (ex.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			} else if (ex.getCause() instanceof Error error) {
+				throw error;
+			}
+			throw ex;
+		}
+	}
+
+	/**
+	 * Function fetching the entities of a single batch from the server.
+	 */
+	@FunctionalInterface
+	interface BatchLoader {
+
+		/**
+		 * Fetches the entities of the passed type and primary keys with the requested content.
+		 *
+		 * @param entityType  type of the entities
+		 * @param contentKey  content key shared by all entities of the batch
+		 * @param scopes      scopes the entities are looked up in
+		 * @param require     the content requirements
+		 * @param primaryKeys primary keys of the entities
+		 * @return fetched entities indexed by their primary key, missing entities are not present in the map
+		 */
+		@Nonnull
+		Map<Integer, SealedEntity> load(
+			@Nonnull String entityType,
+			@Nonnull String contentKey,
+			@Nonnull Scope[] scopes,
+			@Nullable RequireConstraint[] require,
+			@Nonnull int[] primaryKeys
+		);
+
+	}
+
+	/**
+	 * Identifies the batches that can be fetched by a single query.
+	 */
+	private record BatchKey(@Nonnull String entityType, @Nonnull String contentKey) {
+	}
+
+	/**
+	 * Identifies a single entity with the requested content.
+	 */
+	private record EntityKey(@Nonnull BatchKey batchKey, int primaryKey) {
+	}
+
+	/**
+	 * The primary keys collected within a single batching window.
+	 */
+	private class Batch {
+		private final BatchKey key;
+		private final Scope[] scopes;
+		private final RequireConstraint[] require;
+		private final ReentrantLock lock = new ReentrantLock();
+		private final Condition full = this.lock.newCondition();
+		/**
+		 * Results of the primary keys in the batch, guarded by the lock until the batch is sealed.
+		 */
+		private final Map<Integer, CompletableFuture<SealedEntity>> futures = new LinkedHashMap<>(16);
+		/**
+		 * True when no other primary key can be added to the batch.
+		 */
+		private volatile boolean sealed;
+
+		Batch(@Nonnull BatchKey key, @Nonnull Scope[] scopes, @Nullable RequireConstraint[] require) {
+			this.key = key;
+			this.scopes = scopes;
+			this.require = require;
+		}
+
+		/**
+		 * Adds the primary key to the batch and returns its result, or null if the batch has been already sealed.
+		 * When the entity is already being fetched by a sealed batch, its result is returned instead.
+		 */
+		@Nullable
+		CompletableFuture<SealedEntity> join(int primaryKey) {
+			this.lock.lock();
+			try {
+				if (this.sealed) {
+					return null;
+				}
+				// the batch sealed in the meantime has registered its results before it was removed from pending ones
+				final CompletableFuture<SealedEntity> running = EvitaEntityBatcher.this.inFlight.get(
+					new EntityKey(this.key, primaryKey)
+				);
+				if (running != null) {
+					return running;
+				}
+				final CompletableFuture<SealedEntity> result = this.futures.computeIfAbsent(
+					primaryKey, pk -> new CompletableFuture<>()
+				);
+				if (this.futures.size() >= EvitaEntityBatcher.this.maxBatchSize) {
+					markSealed();
+					this.full.signalAll();
+				}
+				return result;
+			} finally {
+				this.lock.unlock();
+			}
+		}
+
+		/**
+		 * Blocks the leader until the batching window elapses or the batch gets full.
+		 */
+		void awaitWindow(long windowNanos) {
+			this.lock.lock();
+			try {
+				long remaining = windowNanos;
+				while (remaining > 0L && !this.sealed) {
+					remaining = this.full.awaitNanos(remaining);
+				}
+			} catch (InterruptedException e) {
+				// fetch what we have collected so far
+				Thread.currentThread().interrupt();
+			} finally {
+				this.lock.unlock();
+			}
+		}
+
+		/**
+		 * Closes the batch for new primary keys unless it has been sealed already when it got full.
+		 */
+		void seal() {
+			this.lock.lock();
+			try {
+				if (!this.sealed) {
+					markSealed();
+				}
+			} finally {
+				this.lock.unlock();
+			}
+		}
+
+		/**
+		 * Closes the batch for new primary keys, registers its results as in-flight and removes it from the pending
+		 * batches. Must be called under the lock, so that the results are visible to the other callers before they
+		 * can observe the batch as sealed or create a new one.
+		 */
+		private void markSealed() {
+			this.sealed = true;
+			for (Entry<Integer, CompletableFuture<SealedEntity>> entry : this.futures.entrySet()) {
+				EvitaEntityBatcher.this.inFlight.putIfAbsent(new EntityKey(this.key, entry.getKey()), entry.getValue());
+			}
+			EvitaEntityBatcher.this.pendingBatches.remove(this.key, this);
+		}
+	}
+
+}
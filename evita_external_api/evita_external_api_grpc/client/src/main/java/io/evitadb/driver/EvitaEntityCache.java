@@ -0,0 +1,539 @@
+/*
+ *
+ *                         _ _        ____  ____
+ *               _____   _(_) |_ __ _|  _ \| __ )
+ *              / _ \ \ / / | __/ _` | | | |  _ \
+ *             |  __/\ V /| | || (_| | |_| | |_) |
+ *              \___| \_/ |_|\__\__,_|____/|____/
+ *
+ *   Copyright (c) 2026
+ *
+ *   Licensed under the Business Source License, Version 1.1 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://github.com/FgForrest/evitaDB/blob/master/LICENSE
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.evitadb.driver;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.evitadb.api.SessionTraits;
+import io.evitadb.api.query.RequireConstraint;
+import io.evitadb.api.requestResponse.cdc.CaptureArea;
+import io.evitadb.api.requestResponse.cdc.ChangeCaptureContent;
+import io.evitadb.api.requestResponse.cdc.ChangeCapturePublisher;
+import io.evitadb.api.requestResponse.cdc.ChangeCatalogCapture;
+import io.evitadb.api.requestResponse.cdc.ChangeCatalogCaptureCriteria;
+import io.evitadb.api.requestResponse.cdc.ChangeCatalogCaptureRequest;
+import io.evitadb.api.requestResponse.data.SealedEntity;
+import io.evitadb.api.requestResponse.mutation.infrastructure.TransactionMutation;
+import io.evitadb.dataType.Scope;
+import io.evitadb.utils.IOUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Flow.Subscriber;
+import java.util.concurrent.Flow.Subscription;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * This class is an optional near cache of the entities fetched by {@link EvitaClientSession#getEntity} calls in
+ * read-only sessions. The entities are cached by their type, primary key and the requested content (scopes and
+ * the require constraints) so that the hot entities are not fetched over and over again from the server.
+ *
+ * The cache is kept coherent by a change data capture subscription opened in a dedicated session on the first use
+ * of the cache. Each data change of an entity invalidates all its cached variants, each schema change invalidates all
+ * the entities of the affected type. The cache tracks the last catalog version whose changes were completely
+ * applied. The header-only capture stream doesn't tell how many mutations the transaction contains, therefore
+ * a second tiny stream of the transaction captures with bodies is opened in the same session - a version is
+ * complete when the capture of its last top-level mutation (whose index equals the mutation count of
+ * the transaction) has been applied, or at the latest when the first capture of a newer version arrives. The captures
+ * following the last top-level mutation within the same index (local mutations of the entity, nested schema
+ * mutations) never affect anything their parent capture hasn't invalidated already.
+ *
+ * Each entry is stamped with the catalog version the fetching session reads (its snapshot version reported by
+ * the server when the session was created) and it's served only to a session whose snapshot version provably sees
+ * the very same state of the entity - i.e. when there was no change of the entity between the two versions and all
+ * the changes up to the newer of them have already been applied to the cache. A session reading an older snapshot
+ * is therefore never served an entity fetched by a newer session and vice versa. The entries whose fetch overlapped
+ * with an invalidation of the same entity are never stored. When the capture stream terminates (the dedicated
+ * session has been closed, the server restarted), the cache is cleared and stops serving the entities until
+ * the subscription is re-established on the next use.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+@Slf4j
+@ThreadSafe
+class EvitaEntityCache {
+	/**
+	 * Minimal delay between two attempts to open the change capture subscription.
+	 */
+	private static final long RESUBSCRIBE_DELAY_MILLIS = 1000L;
+	/**
+	 * The number of invalidation records kept for the entities relative to the maximal number of cached entities.
+	 */
+	private static final int INVALIDATION_RECORDS_RATIO = 4;
+
+	/**
+	 * The client the cache belongs to.
+	 */
+	private final EvitaClient evita;
+	/**
+	 * The name of the catalog the cache is attached to.
+	 */
+	private final String catalogName;
+	/**
+	 * Cached entities indexed by their type and primary key, each containing the variants differing in the fetched
+	 * content.
+	 */
+	private final Cache<EntityKey, Map<String, CachedEntity>> entities;
+	/**
+	 * The catalog versions of the last change of the recently changed entities. Used to reject the entries whose fetch
+	 * started before the change was applied.
+	 */
+	private final Cache<EntityKey, Long> invalidations;
+	/**
+	 * All entries stamped with a lower catalog version are rejected. The floor is raised when the change of an entity
+	 * type or of the whole catalog arrives, and when an invalidation record is evicted and the exact version of
+	 * the entity change is no longer known.
+	 */
+	private final LongAccumulator invalidationFloor = new LongAccumulator(Math::max, 0L);
+	/**
+	 * The last catalog version whose changes were completely applied to the cache, -1 when the cache is not
+	 * subscribed to the change stream and must not serve any entity.
+	 */
+	private final AtomicLong appliedVersion = new AtomicLong(-1L);
+	/**
+	 * The timestamp of the last attempt to subscribe to the change capture stream.
+	 */
+	private final AtomicLong lastSubscriptionAttempt = new AtomicLong(0L);
+	/**
+	 * The currently active subscriber, null when there is no active subscription.
+	 */
+	private final AtomicReference<CacheSubscriber> subscriber = new AtomicReference<>();
+	/**
+	 * Statistics counters.
+	 */
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder invalidationCount = new LongAdder();
+	private final AtomicLong lastInvalidationLagMillis = new AtomicLong(0L);
+	private final LongAccumulator maxInvalidationLagMillis = new LongAccumulator(Math::max, 0L);
+
+	/**
+	 * Creates a content key distinguishing the variants of the same entity fetched with different requirements.
+	 */
+	@Nonnull
+	static String toContentKey(@Nonnull Collection<Scope> scopes, @Nullable RequireConstraint... require) {
+		return scopes.stream().map(Scope::name).sorted().collect(Collectors.joining(",")) +
+			"|" +
+			(require == null ? "" : Arrays.stream(require).filter(Objects::nonNull).map(Object::toString).collect(Collectors.joining(",")));
+	}
+
+	EvitaEntityCache(@Nonnull EvitaClient evita, @Nonnull String catalogName, int maximumSize) {
+		this.evita = evita;
+		this.catalogName = catalogName;
+		this.entities = CacheBuilder.newBuilder()
+			.maximumSize(maximumSize)
+			.build();
+		this.invalidations = CacheBuilder.newBuilder()
+			.maximumSize((long) maximumSize * INVALIDATION_RECORDS_RATIO)
+			.<EntityKey, Long>removalListener(
+				notification -> {
+					if (notification.wasEvicted() && notification.getValue() != null) {
+						// we no longer know when exactly the entity changed
+						this.invalidationFloor.accumulate(notification.getValue());
+					}
+				}
+			)
+			.build();
+	}
+
+	/**
+	 * Returns the cached entity or null if there is no usable cached variant. The entity is returned only if the entry
+	 * is known to represent the state of the entity in the catalog version the reading session sees.
+	 *
+	 * @param entityType     type of the entity
+	 * @param primaryKey     primary key of the entity
+	 * @param contentKey     content key created by {@link #toContentKey(Collection, RequireConstraint...)}
+	 * @param sessionVersion the catalog version the reading session sees, negative when unknown
+	 * @return cached entity or null
+	 */
+	@Nullable
+	SealedEntity get(@Nonnull String entityType, int primaryKey, @Nonnull String contentKey, long sessionVersion) {
+		final long applied = this.appliedVersion.get();
+		if (applied < 0L) {
+			subscribeIfNecessary();
+			this.misses.increment();
+			return null;
+		}
+		if (sessionVersion >= 0L) {
+			final EntityKey entityKey = new EntityKey(entityType, primaryKey);
+			final Map<String, CachedEntity> variants = this.entities.getIfPresent(entityKey);
+			final CachedEntity cachedEntity = variants == null ? null : variants.get(contentKey);
+			if (cachedEntity != null && isVisible(entityKey, cachedEntity.version(), sessionVersion, applied)) {
+				this.hits.increment();
+				return cachedEntity.entity();
+			}
+		}
+		this.misses.increment();
+		return null;
+	}
+
+	/**
+	 * Stores the entity fetched from the server unless it was changed after the catalog version it has been fetched in.
+	 *
+	 * @param entityType     type of the entity
+	 * @param primaryKey     primary key of the entity
+	 * @param contentKey     content key created by {@link #toContentKey(Collection, RequireConstraint...)}
+	 * @param sessionVersion the catalog version the fetching session sees, negative when unknown
+	 * @param entity         the fetched entity
+	 */
+	void put(@Nonnull String entityType, int primaryKey, @Nonnull String contentKey, long sessionVersion, @Nonnull SealedEntity entity) {
+		if (sessionVersion < 0L || this.appliedVersion.get() < 0L || sessionVersion < this.invalidationFloor.get()) {
+			return;
+		}
+		final EntityKey entityKey = new EntityKey(entityType, primaryKey);
+		final Long invalidatedVersion = this.invalidations.getIfPresent(entityKey);
+		if (invalidatedVersion != null && invalidatedVersion > sessionVersion) {
+			return;
+		}
+		this.entities.asMap()
+			.computeIfAbsent(entityKey, key -> new ConcurrentHashMap<>(4))
+			.put(contentKey, new CachedEntity(sessionVersion, entity));
+		// the invalidation or the disconnection might have raced with the put - re-check it and remove the entry if necessary
+		final Long raceInvalidatedVersion = this.invalidations.getIfPresent(entityKey);
+		if ((raceInvalidatedVersion != null && raceInvalidatedVersion > sessionVersion) ||
+			sessionVersion < this.invalidationFloor.get() ||
+			this.appliedVersion.get() < 0L) {
+			this.entities.invalidate(entityKey);
+		}
+	}
+
+	/**
+	 * Returns true if the entry fetched in `entryVersion` represents the state of the entity in `sessionVersion`, that
+	 * is when all the changes up to the newer of both versions are applied and there was no change of the entity
+	 * between them. The newer changes of the entity remove the entry, so that its mere presence proves there was no
+	 * change between `entryVersion` and the applied version - the older changes must be looked up in the invalidation
+	 * records which are reliable only above the invalidation floor.
+	 */
+	private boolean isVisible(@Nonnull EntityKey entityKey, long entryVersion, long sessionVersion, long applied) {
+		final long floor = this.invalidationFloor.get();
+		if (entryVersion < floor) {
+			return false;
+		} else if (sessionVersion >= entryVersion) {
+			return sessionVersion <= applied;
+		} else {
+			if (entryVersion > applied || sessionVersion < floor) {
+				return false;
+			}
+			final Long invalidatedVersion = this.invalidations.getIfPresent(entityKey);
+			return invalidatedVersion == null || invalidatedVersion <= sessionVersion;
+		}
+	}
+
+	/**
+	 * Returns the current statistics of the cache.
+	 */
+	@Nonnull
+	EntityCacheStatistics getStatistics() {
+		return new EntityCacheStatistics(
+			this.catalogName,
+			this.hits.sum(),
+			this.misses.sum(),
+			this.invalidationCount.sum(),
+			this.entities.size(),
+			this.appliedVersion.get(),
+			this.lastInvalidationLagMillis.get(),
+			this.maxInvalidationLagMillis.get()
+		);
+	}
+
+	/**
+	 * Opens the dedicated session and subscribes to the change capture stream of the catalog unless there is an active
+	 * subscription or the last attempt happened too recently.
+	 */
+	private void subscribeIfNecessary() {
+		if (this.subscriber.get() != null || !this.evita.isActive()) {
+			return;
+		}
+		final long now = System.currentTimeMillis();
+		final long lastAttempt = this.lastSubscriptionAttempt.get();
+		if (now - lastAttempt < RESUBSCRIBE_DELAY_MILLIS || !this.lastSubscriptionAttempt.compareAndSet(lastAttempt, now)) {
+			return;
+		}
+		EvitaClientSession session = null;
+		try {
+			session = this.evita.createSession(new SessionTraits(this.catalogName));
+			final long catalogVersion = session.getCatalogVersion();
+			final CacheSubscriber theSubscriber = new CacheSubscriber(session, catalogVersion);
+			if (this.subscriber.compareAndSet(null, theSubscriber)) {
+				final ChangeCapturePublisher<ChangeCatalogCapture> publisher = session.registerChangeCatalogCapture(
+					ChangeCatalogCaptureRequest.builder()
+						.sinceVersion(catalogVersion + 1)
+						.content(ChangeCaptureContent.HEADER)
+						.build()
+				);
+				publisher.subscribe(theSubscriber);
+				final ChangeCapturePublisher<ChangeCatalogCapture> transactionPublisher = session.registerChangeCatalogCapture(
+					ChangeCatalogCaptureRequest.builder()
+						.sinceVersion(catalogVersion + 1)
+						.criteria(ChangeCatalogCaptureCriteria.builder().infrastructureArea().build())
+						.content(ChangeCaptureContent.BODY)
+						.build()
+				);
+				transactionPublisher.subscribe(new TransactionSubscriber(theSubscriber));
+			} else {
+				IOUtils.closeSafely(session::close);
+			}
+		} catch (RuntimeException ex) {
+			log.warn("Failed to subscribe the entity cache of catalog `{}` to the change capture stream.", this.catalogName, ex);
+			this.subscriber.set(null);
+			if (session != null) {
+				IOUtils.closeSafely(session::close);
+			}
+		}
+	}
+
+	/**
+	 * Applies the change capture to the cache.
+	 */
+	private void apply(@Nonnull CacheSubscriber theSubscriber, @Nonnull ChangeCatalogCapture capture) {
+		final long version = capture.version();
+		switch (capture.area()) {
+			case DATA -> {
+				if (capture.entityType() != null && capture.entityPrimaryKey() != null) {
+					final EntityKey entityKey = new EntityKey(capture.entityType(), capture.entityPrimaryKey());
+					this.invalidations.asMap().merge(entityKey, version, Math::max);
+					this.entities.invalidate(entityKey);
+				} else {
+					invalidateEntityType(capture.entityType(), version);
+				}
+			}
+			case SCHEMA -> invalidateEntityType(capture.entityType(), version);
+			case INFRASTRUCTURE -> {
+				// transaction delimiters carry no entity data
+			}
+		}
+		if (capture.area() != CaptureArea.INFRASTRUCTURE) {
+			this.invalidationCount.increment();
+			final long lag = Math.max(0L, Duration.between(capture.timestamp(), OffsetDateTime.now()).toMillis());
+			this.lastInvalidationLagMillis.set(lag);
+			this.maxInvalidationLagMillis.accumulate(lag);
+		}
+		// first capture of a newer version means all the previous versions were completely applied
+		final CapturePosition position = theSubscriber.position;
+		if (version > position.version()) {
+			this.appliedVersion.accumulateAndGet(version - 1, Math::max);
+		}
+		if (version > position.version() || (version == position.version() && capture.index() > position.index())) {
+			theSubscriber.position = new CapturePosition(version, capture.index());
+			completeIfApplied(theSubscriber, version);
+		}
+	}
+
+	/**
+	 * Marks the version as completely applied when the mutation count of its transaction is known and the capture
+	 * of its last top-level mutation has already been applied. The method is called both from the capture stream and
+	 * from the transaction stream - each of them publishes its progress before checking the other one, so that at
+	 * least one of them always sees both.
+	 */
+	private void completeIfApplied(@Nonnull CacheSubscriber theSubscriber, long version) {
+		final Integer mutationCount = theSubscriber.mutationCounts.get(version);
+		if (mutationCount != null) {
+			final CapturePosition position = theSubscriber.position;
+			if (position.version() > version || (position.version() == version && position.index() >= mutationCount)) {
+				this.appliedVersion.accumulateAndGet(version, Math::max);
+			}
+		}
+		final long applied = this.appliedVersion.get();
+		theSubscriber.mutationCounts.keySet().removeIf(it -> it <= applied);
+	}
+
+	/**
+	 * Invalidates all entities of the passed type or all entities in the cache when the type is not known.
+	 */
+	private void invalidateEntityType(@Nullable String entityType, long version) {
+		this.invalidationFloor.accumulate(version);
+		if (entityType == null) {
+			this.entities.invalidateAll();
+		} else {
+			this.entities.asMap().keySet().removeIf(it -> it.entityType().equals(entityType));
+		}
+	}
+
+	/**
+	 * Clears the cache after the change capture stream has terminated and releases the dedicated session.
+	 */
+	private void disconnect(@Nonnull CacheSubscriber theSubscriber) {
+		if (this.subscriber.compareAndSet(theSubscriber, null)) {
+			this.appliedVersion.set(-1L);
+			this.entities.invalidateAll();
+			this.invalidations.invalidateAll();
+			IOUtils.closeSafely(theSubscriber.session::close);
+		}
+	}
+
+	/**
+	 * Key of the cached entity.
+	 *
+	 * @param entityType type of the entity
+	 * @param primaryKey primary key of the entity
+	 */
+	private record EntityKey(
+		@Nonnull String entityType,
+		int primaryKey
+	) {
+	}
+
+	/**
+	 * Position of the capture in the change capture stream.
+	 *
+	 * @param version catalog version of the capture
+	 * @param index   index of the capture within the transaction
+	 */
+	private record CapturePosition(
+		long version,
+		int index
+	) {
+	}
+
+	/**
+	 * Cached variant of the entity.
+	 *
+	 * @param version catalog version the entry has been stamped with
+	 * @param entity  the cached entity
+	 */
+	private record CachedEntity(
+		long version,
+		@Nonnull SealedEntity entity
+	) {
+	}
+
+	/**
+	 * Subscriber of the change capture stream bound to a single subscription attempt, so that the late notifications
+	 * of a terminated subscription never affect the newer one.
+	 */
+	private class CacheSubscriber implements Subscriber<ChangeCatalogCapture> {
+		/**
+		 * The dedicated session the capture stream is bound to.
+		 */
+		private final EvitaClientSession session;
+		/**
+		 * The catalog version the subscription starts after.
+		 */
+		private final long startVersion;
+		/**
+		 * The mutation counts of the transactions received from the transaction stream indexed by their version.
+		 */
+		private final Map<Long, Integer> mutationCounts = new ConcurrentHashMap<>(16);
+		/**
+		 * The position of the last applied capture, written only from the serial capture callbacks.
+		 */
+		private volatile CapturePosition position;
+
+		CacheSubscriber(@Nonnull EvitaClientSession session, long startVersion) {
+			this.session = session;
+			this.startVersion = startVersion;
+			this.position = new CapturePosition(startVersion, Integer.MAX_VALUE);
+		}
+
+		@Override
+		public void onSubscribe(Subscription subscription) {
+			if (EvitaEntityCache.this.subscriber.get() == this) {
+				// nothing older than the start version may be stored
+				EvitaEntityCache.this.entities.invalidateAll();
+				EvitaEntityCache.this.invalidations.invalidateAll();
+				EvitaEntityCache.this.invalidationFloor.reset();
+				EvitaEntityCache.this.invalidationFloor.accumulate(this.startVersion);
+				EvitaEntityCache.this.appliedVersion.set(this.startVersion);
+				subscription.request(Long.MAX_VALUE);
+			} else {
+				subscription.cancel();
+			}
+		}
+
+		@Override
+		public void onNext(ChangeCatalogCapture item) {
+			if (EvitaEntityCache.this.subscriber.get() == this) {
+				apply(this, item);
+			}
+		}
+
+		@Override
+		public void onError(Throwable throwable) {
+			log.debug("Change capture stream of the entity cache of catalog `{}` failed.", EvitaEntityCache.this.catalogName, throwable);
+			disconnect(this);
+		}
+
+		@Override
+		public void onComplete() {
+			disconnect(this);
+		}
+	}
+
+	/**
+	 * Subscriber of the transaction captures providing the mutation counts of the transactions to the capture
+	 * subscriber it accompanies. The stream only speeds up the completion of the versions - when it fails,
+	 * the versions are completed by the captures of the newer versions as the last resort.
+	 */
+	@RequiredArgsConstructor
+	private class TransactionSubscriber implements Subscriber<ChangeCatalogCapture> {
+		/**
+		 * The capture subscriber this stream accompanies.
+		 */
+		private final CacheSubscriber cacheSubscriber;
+
+		@Override
+		public void onSubscribe(Subscription subscription) {
+			if (EvitaEntityCache.this.subscriber.get() == this.cacheSubscriber) {
+				subscription.request(Long.MAX_VALUE);
+			} else {
+				subscription.cancel();
+			}
+		}
+
+		@Override
+		public void onNext(ChangeCatalogCapture item) {
+			if (EvitaEntityCache.this.subscriber.get() == this.cacheSubscriber &&
+				item.body() instanceof TransactionMutation transactionMutation &&
+				item.version() > EvitaEntityCache.this.appliedVersion.get()) {
+				this.cacheSubscriber.mutationCounts.put(item.version(), transactionMutation.getMutationCount());
+				completeIfApplied(this.cacheSubscriber, item.version());
+			}
+		}
+
+		@Override
+		public void onError(Throwable throwable) {
+			log.debug("Transaction stream of the entity cache of catalog `{}` failed.", EvitaEntityCache.this.catalogName, throwable);
+		}
+
+		@Override
+		public void onComplete() {
+			// the capture stream terminates along with the session
+		}
+	}
+
+}
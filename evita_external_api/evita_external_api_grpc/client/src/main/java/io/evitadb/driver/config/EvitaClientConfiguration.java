@@ -67,6 +67,15 @@ import java.util.concurrent.TimeUnit;
  * @param trackedTaskLimit          The maximum number of server tasks that can be tracked by the client.
  * @param changeCaptureQueueSize    The maximum number of change capture events that can be buffered for each
  *                                  subscriber. If this limit is reached, an error is reported to the subscriber.
+ * @param entityCacheSize           The maximal number of entities kept in the client-side cache of each catalog. The
+ *                                  cache serves repeated `getEntity` calls in read-only sessions and is kept coherent
+ *                                  by a change data capture subscription. Zero (the default) disables the cache.
+ * @param entityBatchWindowMicros   The time window in microseconds during which concurrent `getEntity` calls of
+ *                                  a read-only session fetching the same content of the same entity type are collected
+ *                                  and sent to the server as a single query. Concurrent calls for the same entity
+ *                                  share a single server call. Zero (the default) disables the batching.
+ * @param entityBatchMaxSize        The maximal number of primary keys fetched in a single batch. The batch is sent
+ *                                  immediately when this size is reached, without waiting for the end of the window.
  * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2022
  */
 public record EvitaClientConfiguration(
@@ -78,7 +87,10 @@ public record EvitaClientConfiguration(
 	@Nullable Object openTelemetryInstance,
 	boolean retry,
 	int trackedTaskLimit,
-	int changeCaptureQueueSize
+	int changeCaptureQueueSize,
+	int entityCacheSize,
+	long entityBatchWindowMicros,
+	int entityBatchMaxSize
 ) {
 
 	/**
@@ -336,6 +348,9 @@ public record EvitaClientConfiguration(
 		private int trackedTaskLimit = 100;
 		private boolean retry = false;
 		private int changeCaptureQueueSize = Flow.defaultBufferSize();
+		private int entityCacheSize = 0;
+		private long entityBatchWindowMicros = 0L;
+		private int entityBatchMaxSize = 64;
 		@Nonnull private ThreadPoolOptions threadPool = ThreadPoolOptions.clientThreadPoolBuilder().build();
 
 		Builder() {
@@ -351,6 +366,9 @@ public record EvitaClientConfiguration(
 			this.trackedTaskLimit = configuration.trackedTaskLimit();
 			this.retry = configuration.retry();
 			this.changeCaptureQueueSize = configuration.changeCaptureQueueSize();
+			this.entityCacheSize = configuration.entityCacheSize();
+			this.entityBatchWindowMicros = configuration.entityBatchWindowMicros();
+			this.entityBatchMaxSize = configuration.entityBatchMaxSize();
 		}
 
 		// ========================================================================================
@@ -654,6 +672,43 @@ public record EvitaClientConfiguration(
 			return this;
 		}
 
+		/**
+		 * Sets the maximal number of entities kept in the client-side cache of each catalog. Zero disables the cache.
+		 *
+		 * @param entityCacheSize the maximal number of cached entities per catalog
+		 * @return this builder
+		 */
+		@Nonnull
+		public EvitaClientConfiguration.Builder entityCacheSize(int entityCacheSize) {
+			this.entityCacheSize = entityCacheSize;
+			return this;
+		}
+
+		/**
+		 * Sets the time window in microseconds during which the concurrent `getEntity` calls of a read-only session are
+		 * collected into a single query. Zero disables the batching.
+		 *
+		 * @param entityBatchWindowMicros the batching window in microseconds
+		 * @return this builder
+		 */
+		@Nonnull
+		public EvitaClientConfiguration.Builder entityBatchWindowMicros(long entityBatchWindowMicros) {
+			this.entityBatchWindowMicros = entityBatchWindowMicros;
+			return this;
+		}
+
+		/**
+		 * Sets the maximal number of primary keys fetched in a single batch.
+		 *
+		 * @param entityBatchMaxSize the maximal number of primary keys in a batch
+		 * @return this builder
+		 */
+		@Nonnull
+		public EvitaClientConfiguration.Builder entityBatchMaxSize(int entityBatchMaxSize) {
+			this.entityBatchMaxSize = entityBatchMaxSize;
+			return this;
+		}
+
 		@Nonnull
 		public EvitaClientConfiguration.Builder threadPool(@Nonnull ThreadPoolOptions threadPool) {
 			this.threadPool = threadPool;
@@ -687,7 +742,10 @@ public record EvitaClientConfiguration(
 				this.openTelemetryInstance,
 				this.retry,
 				this.trackedTaskLimit,
-				this.changeCaptureQueueSize
+				this.changeCaptureQueueSize,
+				this.entityCacheSize,
+				this.entityBatchWindowMicros,
+				this.entityBatchMaxSize
 			);
 		}
 	}
@@ -592,6 +592,7 @@ public class EvitaService extends EvitaServiceGrpc.EvitaServiceImplBase {
 					.setCatalogId(session.getCatalogId().toString())
 					.setSessionId(session.getId().toString())
 					.setCatalogState(toGrpcCatalogState(session.getCatalogState()))
+					.setCatalogVersion(session.getCatalogVersion())
 					.setCommitBehaviour(toGrpcCommitBehavior(session.getCommitBehavior()))
 					.setSessionType(sessionType)
 					.build());
@@ -47,6 +47,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.LongSupplier;
+import java.util.function.Supplier;
 
 import static io.evitadb.externalApi.grpc.dataType.EvitaDataTypesConverter.toGrpcOffsetDateTime;
 
@@ -262,11 +263,23 @@ public abstract class AbstractChangeCaptureSubscriber<CAPTURE, RESPONSE>
 
 	@Override
 	public final void onNext(CAPTURE item) {
+		emitCaptureResponse(() -> buildCaptureResponse(item));
+	}
+
+	/**
+	 * Emits the CHANGE response to the client and requests the next item from the publisher. The response is
+	 * obtained lazily, so that it isn't built at all when the stream has already been finalized. Subclasses receiving
+	 * the captures in a form other than {@link #onNext} (e.g. a shared frame with the response already built for
+	 * another subscriber) use this method to emit the response with the same lifecycle handling.
+	 *
+	 * @param responseSupplier supplier of the typed response to emit to the client
+	 */
+	protected final void emitCaptureResponse(@Nonnull Supplier<RESPONSE> responseSupplier) {
 		if (this.streamFinalized.get()) {
 			return;
 		}
 		try {
-			emitOnNext(buildCaptureResponse(item));
+			emitOnNext(responseSupplier.get());
 		} catch (ClosedGrpcStreamException ex) {
 			log.debug("CDC onNext failed (stream likely finalized concurrently): {}", ex.getMessage());
 			markStreamDead(ex);
@@ -25,6 +25,8 @@ package io.evitadb.externalApi.grpc.services.subscriber;
 
 import com.linecorp.armeria.server.ServiceRequestContext;
 import io.evitadb.api.requestResponse.cdc.ChangeCatalogCapture;
+import io.evitadb.core.cdc.ChangeCaptureFrame;
+import io.evitadb.core.cdc.ChangeCaptureFrameSubscriber;
 import io.evitadb.core.executor.Scheduler;
 import io.evitadb.externalApi.grpc.generated.GrpcCaptureResponseType;
 import io.evitadb.externalApi.grpc.generated.GrpcHeartBeat;
@@ -50,16 +52,26 @@ import static io.evitadb.externalApi.grpc.dataType.EvitaDataTypesConverter.toGrp
  * {@link AbstractChangeCaptureSubscriber}; this class only provides the
  * type-specific response message building.
  *
+ * The subscriber receives the captures in {@link ChangeCaptureFrame frames} shared
+ * with the other subscribers of the same publisher, so that the response message
+ * for a particular capture is built only once for all clients of the same version.
+ *
  * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2025
  */
 public class ChangeCatalogCaptureSubscriber
-	extends AbstractChangeCaptureSubscriber<ChangeCatalogCapture, GrpcRegisterChangeCatalogCaptureResponse> {
+	extends AbstractChangeCaptureSubscriber<ChangeCatalogCapture, GrpcRegisterChangeCatalogCaptureResponse>
+	implements ChangeCaptureFrameSubscriber<ChangeCatalogCapture> {
 
 	/**
 	 * The semantic version of the connected client, used to adapt the response format
 	 * for backward compatibility. May be null if the client did not report its version.
 	 */
 	private final SemVer clientVersion;
+	/**
+	 * The key of the response format in the shared {@link ChangeCaptureFrame frames} - clients of the same version
+	 * receive the very same response message.
+	 */
+	private final CaptureFrameFormat frameFormat;
 
 	public ChangeCatalogCaptureSubscriber(
 		@Nonnull Scheduler scheduler,
@@ -78,6 +90,12 @@ public class ChangeCatalogCaptureSubscriber
 			serviceContext
 		);
 		this.clientVersion = clientVersion;
+		this.frameFormat = new CaptureFrameFormat(clientVersion);
+	}
+
+	@Override
+	public void onNextFrame(@Nonnull ChangeCaptureFrame<ChangeCatalogCapture> frame) {
+		emitCaptureResponse(() -> frame.getOrSerialize(this.frameFormat, this::buildCaptureResponse));
 	}
 
 	@Nonnull
@@ -123,4 +141,15 @@ public class ChangeCatalogCaptureSubscriber
 			.setHeartBeat(heartBeat)
 			.build();
 	}
+
+	/**
+	 * Key of the gRPC response format of the catalog captures stored in the shared {@link ChangeCaptureFrame frames}.
+	 *
+	 * @param clientVersion the semantic version of the client the response is adapted to
+	 */
+	private record CaptureFrameFormat(
+		@Nullable SemVer clientVersion
+	) {
+	}
+
 }
@@ -231,7 +231,7 @@ public final class GrpcEvitaAPI {
       "eady\030\001 \001(\010\"\221\001\n\027GrpcEvitaSessionRequest\022\023" +
       "\n\013catalogName\030\001 \001(\t\022Q\n\016commitBehavior\030\002 " +
       "\001(\01629.io.evitadb.externalApi.grpc.genera" +
-      "ted.GrpcCommitBehavior\022\016\n\006dryRun\030\003 \001(\010\"\260" +
+      "ted.GrpcCommitBehavior\022\016\n\006dryRun\030\003 \001(\010\"\310" +
       "\002\n\030GrpcEvitaSessionResponse\022\021\n\tsessionId" +
       "\030\001 \001(\t\022K\n\013sessionType\030\002 \001(\01626.io.evitadb" +
       ".externalApi.grpc.generated.GrpcSessionT" +
@@ -239,198 +239,198 @@ public final class GrpcEvitaAPI {
       "b.externalApi.grpc.generated.GrpcCommitB" +
       "ehavior\022M\n\014catalogState\030\004 \001(\01627.io.evita" +
       "db.externalApi.grpc.generated.GrpcCatalo" +
-      "gState\022\021\n\tcatalogId\030\005 \001(\t\"7\n\"GrpcEvitaSe" +
-      "ssionTerminationRequest\022\021\n\tsessionId\030\002 \001" +
-      "(\t\"9\n#GrpcEvitaSessionTerminationRespons" +
-      "e\022\022\n\nterminated\030\001 \001(\010\"0\n\030GrpcCatalogName" +
-      "sResponse\022\024\n\014catalogNames\030\001 \003(\t\"1\n\032GrpcG" +
-      "etCatalogStateRequest\022\023\n\013catalogName\030\001 \001" +
-      "(\t\"\202\001\n\033GrpcGetCatalogStateResponse\022R\n\014ca" +
-      "talogState\030\001 \001(\01627.io.evitadb.externalAp" +
-      "i.grpc.generated.GrpcCatalogStateH\000\210\001\001B\017" +
-      "\n\r_catalogState\"/\n\030GrpcDefineCatalogRequ" +
-      "est\022\023\n\013catalogName\030\001 \001(\t\",\n\031GrpcDefineCa" +
-      "talogResponse\022\017\n\007success\030\001 \001(\010\"G\n\030GrpcRe" +
-      "nameCatalogRequest\022\023\n\013catalogName\030\001 \001(\t\022" +
-      "\026\n\016newCatalogName\030\002 \001(\t\",\n\031GrpcRenameCat" +
-      "alogResponse\022\017\n\007success\030\001 \001(\010\"a\n\031GrpcRep" +
-      "laceCatalogRequest\022#\n\033catalogNameToBeRep" +
-      "lacedWith\030\001 \001(\t\022\037\n\027catalogNameToBeReplac" +
-      "ed\030\002 \001(\t\"-\n\032GrpcReplaceCatalogResponse\022\017" +
-      "\n\007success\030\001 \001(\010\"7\n GrpcDeleteCatalogIfEx" +
-      "istsRequest\022\023\n\013catalogName\030\001 \001(\t\"4\n!Grpc" +
-      "DeleteCatalogIfExistsResponse\022\017\n\007success" +
-      "\030\001 \001(\010\"4\n\035GrpcMakeCatalogMutableRequest\022" +
-      "\023\n\013catalogName\030\001 \001(\t\"1\n\036GrpcMakeCatalogM" +
-      "utableResponse\022\017\n\007success\030\001 \001(\010\"6\n\037GrpcM" +
-      "akeCatalogImmutableRequest\022\023\n\013catalogNam" +
-      "e\030\001 \001(\t\"3\n GrpcMakeCatalogImmutableRespo" +
-      "nse\022\017\n\007success\030\001 \001(\010\"2\n\033GrpcMakeCatalogA" +
-      "liveRequest\022\023\n\013catalogName\030\001 \001(\t\"/\n\034Grpc" +
-      "MakeCatalogAliveResponse\022\017\n\007success\030\001 \001(" +
-      "\010\"J\n\033GrpcDuplicateCatalogRequest\022\023\n\013cata" +
-      "logName\030\001 \001(\t\022\026\n\016newCatalogName\030\002 \001(\t\"/\n" +
-      "\034GrpcDuplicateCatalogResponse\022\017\n\007success" +
-      "\030\001 \001(\010\"1\n\032GrpcActivateCatalogRequest\022\023\n\013" +
-      "catalogName\030\001 \001(\t\".\n\033GrpcActivateCatalog" +
-      "Response\022\017\n\007success\030\001 \001(\010\"3\n\034GrpcDeactiv" +
-      "ateCatalogRequest\022\023\n\013catalogName\030\001 \001(\t\"0" +
-      "\n\035GrpcDeactivateCatalogResponse\022\017\n\007succe" +
-      "ss\030\001 \001(\010\"g\n\030GrpcApplyMutationRequest\022K\n\010" +
-      "mutation\030\001 \001(\01329.io.evitadb.externalApi." +
-      "grpc.generated.GrpcEngineMutation\"\033\n\031Grp" +
-      "cApplyMutationResponse\"\262\001\n%GrpcApplyMuta" +
-      "tionWithProgressResponse\022\031\n\021progressInPe" +
-      "rcent\030\001 \001(\005\0223\n\016catalogVersion\030\002 \001(\0132\033.go" +
-      "ogle.protobuf.Int64Value\0229\n\024catalogSchem" +
-      "aVersion\030\003 \001(\0132\033.google.protobuf.Int32Va" +
-      "lue\"\270\002\n&GrpcRegisterSystemChangeCaptureR" +
-      "equest\0221\n\014sinceVersion\030\001 \001(\0132\033.google.pr" +
-      "otobuf.Int64Value\022/\n\nsinceIndex\030\002 \001(\0132\033." +
-      "google.protobuf.Int32Value\022P\n\007content\030\003 " +
-      "\001(\0162?.io.evitadb.externalApi.grpc.genera" +
-      "ted.GrpcChangeCaptureContent\022X\n\010criteria" +
-      "\030\004 \003(\0132F.io.evitadb.externalApi.grpc.gen" +
-      "erated.GrpcChangeSystemCaptureCriteria\"\330" +
-      "\002\n\'GrpcRegisterSystemChangeCaptureRespon" +
-      "se\022=\n\004uuid\030\001 \001(\0132/.io.evitadb.externalAp" +
-      "i.grpc.generated.GrpcUuid\022O\n\007capture\030\002 \001" +
-      "(\0132>.io.evitadb.externalApi.grpc.generat" +
-      "ed.GrpcChangeSystemCapture\022T\n\014responseTy" +
-      "pe\030\003 \001(\0162>.io.evitadb.externalApi.grpc.g" +
-      "enerated.GrpcCaptureResponseType\022G\n\thear" +
-      "tBeat\030\004 \001(\01324.io.evitadb.externalApi.grp" +
-      "c.generated.GrpcHeartBeat\"-\n\026GrpcGetProg" +
-      "ressRequest\022\023\n\013catalogName\030\001 \001(\t\"\345\001\n\027Grp" +
-      "cGetProgressResponse\022\r\n\005found\030\001 \001(\010\0226\n\021p" +
-      "rogressInPercent\030\002 \001(\0132\033.google.protobuf" +
-      ".Int32Value\022\023\n\013catalogName\030\003 \001(\t\0223\n\016cata" +
-      "logVersion\030\004 \001(\0132\033.google.protobuf.Int64" +
-      "Value\0229\n\024catalogSchemaVersion\030\005 \001(\0132\033.go" +
-      "ogle.protobuf.Int32Value2\215&\n\014EvitaServic" +
-      "e\022[\n\007IsReady\022\026.google.protobuf.Empty\0328.i" +
-      "o.evitadb.externalApi.grpc.generated.Grp" +
-      "cReadyResponse\022\230\001\n\025CreateReadOnlySession" +
-      "\022>.io.evitadb.externalApi.grpc.generated" +
-      ".GrpcEvitaSessionRequest\032?.io.evitadb.ex" +
+      "gState\022\021\n\tcatalogId\030\005 \001(\t\022\026\n\016catalogVers" +
+      "ion\030\006 \001(\003\"7\n\"GrpcEvitaSessionTermination" +
+      "Request\022\021\n\tsessionId\030\002 \001(\t\"9\n#GrpcEvitaS" +
+      "essionTerminationResponse\022\022\n\nterminated\030" +
+      "\001 \001(\010\"0\n\030GrpcCatalogNamesResponse\022\024\n\014cat" +
+      "alogNames\030\001 \003(\t\"1\n\032GrpcGetCatalogStateRe" +
+      "quest\022\023\n\013catalogName\030\001 \001(\t\"\202\001\n\033GrpcGetCa" +
+      "talogStateResponse\022R\n\014catalogState\030\001 \001(\016" +
+      "27.io.evitadb.externalApi.grpc.generated" +
+      ".GrpcCatalogStateH\000\210\001\001B\017\n\r_catalogState\"" +
+      "/\n\030GrpcDefineCatalogRequest\022\023\n\013catalogNa" +
+      "me\030\001 \001(\t\",\n\031GrpcDefineCatalogResponse\022\017\n" +
+      "\007success\030\001 \001(\010\"G\n\030GrpcRenameCatalogReque" +
+      "st\022\023\n\013catalogName\030\001 \001(\t\022\026\n\016newCatalogNam" +
+      "e\030\002 \001(\t\",\n\031GrpcRenameCatalogResponse\022\017\n\007" +
+      "success\030\001 \001(\010\"a\n\031GrpcReplaceCatalogReque" +
+      "st\022#\n\033catalogNameToBeReplacedWith\030\001 \001(\t\022" +
+      "\037\n\027catalogNameToBeReplaced\030\002 \001(\t\"-\n\032Grpc" +
+      "ReplaceCatalogResponse\022\017\n\007success\030\001 \001(\010\"" +
+      "7\n GrpcDeleteCatalogIfExistsRequest\022\023\n\013c" +
+      "atalogName\030\001 \001(\t\"4\n!GrpcDeleteCatalogIfE" +
+      "xistsResponse\022\017\n\007success\030\001 \001(\010\"4\n\035GrpcMa" +
+      "keCatalogMutableRequest\022\023\n\013catalogName\030\001" +
+      " \001(\t\"1\n\036GrpcMakeCatalogMutableResponse\022\017" +
+      "\n\007success\030\001 \001(\010\"6\n\037GrpcMakeCatalogImmuta" +
+      "bleRequest\022\023\n\013catalogName\030\001 \001(\t\"3\n GrpcM" +
+      "akeCatalogImmutableResponse\022\017\n\007success\030\001" +
+      " \001(\010\"2\n\033GrpcMakeCatalogAliveRequest\022\023\n\013c" +
+      "atalogName\030\001 \001(\t\"/\n\034GrpcMakeCatalogAlive" +
+      "Response\022\017\n\007success\030\001 \001(\010\"J\n\033GrpcDuplica" +
+      "teCatalogRequest\022\023\n\013catalogName\030\001 \001(\t\022\026\n" +
+      "\016newCatalogName\030\002 \001(\t\"/\n\034GrpcDuplicateCa" +
+      "talogResponse\022\017\n\007success\030\001 \001(\010\"1\n\032GrpcAc" +
+      "tivateCatalogRequest\022\023\n\013catalogName\030\001 \001(" +
+      "\t\".\n\033GrpcActivateCatalogResponse\022\017\n\007succ" +
+      "ess\030\001 \001(\010\"3\n\034GrpcDeactivateCatalogReques" +
+      "t\022\023\n\013catalogName\030\001 \001(\t\"0\n\035GrpcDeactivate" +
+      "CatalogResponse\022\017\n\007success\030\001 \001(\010\"g\n\030Grpc" +
+      "ApplyMutationRequest\022K\n\010mutation\030\001 \001(\01329" +
+      ".io.evitadb.externalApi.grpc.generated.G" +
+      "rpcEngineMutation\"\033\n\031GrpcApplyMutationRe" +
+      "sponse\"\262\001\n%GrpcApplyMutationWithProgress" +
+      "Response\022\031\n\021progressInPercent\030\001 \001(\005\0223\n\016c" +
+      "atalogVersion\030\002 \001(\0132\033.google.protobuf.In" +
+      "t64Value\0229\n\024catalogSchemaVersion\030\003 \001(\0132\033" +
+      ".google.protobuf.Int32Value\"\270\002\n&GrpcRegi" +
+      "sterSystemChangeCaptureRequest\0221\n\014sinceV" +
+      "ersion\030\001 \001(\0132\033.google.protobuf.Int64Valu" +
+      "e\022/\n\nsinceIndex\030\002 \001(\0132\033.google.protobuf." +
+      "Int32Value\022P\n\007content\030\003 \001(\0162?.io.evitadb" +
+      ".externalApi.grpc.generated.GrpcChangeCa" +
+      "ptureContent\022X\n\010criteria\030\004 \003(\0132F.io.evit" +
+      "adb.externalApi.grpc.generated.GrpcChang" +
+      "eSystemCaptureCriteria\"\330\002\n\'GrpcRegisterS" +
+      "ystemChangeCaptureResponse\022=\n\004uuid\030\001 \001(\013" +
+      "2/.io.evitadb.externalApi.grpc.generated" +
+      ".GrpcUuid\022O\n\007capture\030\002 \001(\0132>.io.evitadb." +
+      "externalApi.grpc.generated.GrpcChangeSys" +
+      "temCapture\022T\n\014responseType\030\003 \001(\0162>.io.ev" +
+      "itadb.externalApi.grpc.generated.GrpcCap" +
+      "tureResponseType\022G\n\theartBeat\030\004 \001(\01324.io" +
+      ".evitadb.externalApi.grpc.generated.Grpc" +
+      "HeartBeat\"-\n\026GrpcGetProgressRequest\022\023\n\013c" +
+      "atalogName\030\001 \001(\t\"\345\001\n\027GrpcGetProgressResp" +
+      "onse\022\r\n\005found\030\001 \001(\010\0226\n\021progressInPercent" +
+      "\030\002 \001(\0132\033.google.protobuf.Int32Value\022\023\n\013c" +
+      "atalogName\030\003 \001(\t\0223\n\016catalogVersion\030\004 \001(\013" +
+      "2\033.google.protobuf.Int64Value\0229\n\024catalog" +
+      "SchemaVersion\030\005 \001(\0132\033.google.protobuf.In" +
+      "t32Value2\215&\n\014EvitaService\022[\n\007IsReady\022\026.g" +
+      "oogle.protobuf.Empty\0328.io.evitadb.extern" +
+      "alApi.grpc.generated.GrpcReadyResponse\022\230" +
+      "\001\n\025CreateReadOnlySession\022>.io.evitadb.ex" +
       "ternalApi.grpc.generated.GrpcEvitaSessio" +
-      "nResponse\022\231\001\n\026CreateReadWriteSession\022>.i" +
-      "o.evitadb.externalApi.grpc.generated.Grp" +
-      "cEvitaSessionRequest\032?.io.evitadb.extern" +
-      "alApi.grpc.generated.GrpcEvitaSessionRes" +
-      "ponse\022\236\001\n\033CreateBinaryReadOnlySession\022>." +
-      "io.evitadb.externalApi.grpc.generated.Gr" +
-      "pcEvitaSessionRequest\032?.io.evitadb.exter" +
+      "nRequest\032?.io.evitadb.externalApi.grpc.g" +
+      "enerated.GrpcEvitaSessionResponse\022\231\001\n\026Cr" +
+      "eateReadWriteSession\022>.io.evitadb.extern" +
+      "alApi.grpc.generated.GrpcEvitaSessionReq" +
+      "uest\032?.io.evitadb.externalApi.grpc.gener" +
+      "ated.GrpcEvitaSessionResponse\022\236\001\n\033Create" +
+      "BinaryReadOnlySession\022>.io.evitadb.exter" +
       "nalApi.grpc.generated.GrpcEvitaSessionRe" +
-      "sponse\022\237\001\n\034CreateBinaryReadWriteSession\022" +
-      ">.io.evitadb.externalApi.grpc.generated." +
-      "GrpcEvitaSessionRequest\032?.io.evitadb.ext" +
+      "quest\032?.io.evitadb.externalApi.grpc.gene" +
+      "rated.GrpcEvitaSessionResponse\022\237\001\n\034Creat" +
+      "eBinaryReadWriteSession\022>.io.evitadb.ext" +
       "ernalApi.grpc.generated.GrpcEvitaSession" +
-      "Response\022\251\001\n\020TerminateSession\022I.io.evita" +
-      "db.externalApi.grpc.generated.GrpcEvitaS" +
-      "essionTerminationRequest\032J.io.evitadb.ex" +
-      "ternalApi.grpc.generated.GrpcEvitaSessio" +
-      "nTerminationResponse\022j\n\017GetCatalogNames\022" +
-      "\026.google.protobuf.Empty\032?.io.evitadb.ext" +
-      "ernalApi.grpc.generated.GrpcCatalogNames" +
-      "Response\022\230\001\n\017GetCatalogState\022A.io.evitad" +
-      "b.externalApi.grpc.generated.GrpcGetCata" +
-      "logStateRequest\032B.io.evitadb.externalApi" +
-      ".grpc.generated.GrpcGetCatalogStateRespo" +
-      "nse\022\222\001\n\rDefineCatalog\022?.io.evitadb.exter" +
-      "nalApi.grpc.generated.GrpcDefineCatalogR" +
-      "equest\032@.io.evitadb.externalApi.grpc.gen" +
-      "erated.GrpcDefineCatalogResponse\022\252\001\n\025Del" +
-      "eteCatalogIfExists\022G.io.evitadb.external" +
-      "Api.grpc.generated.GrpcDeleteCatalogIfEx" +
-      "istsRequest\032H.io.evitadb.externalApi.grp" +
-      "c.generated.GrpcDeleteCatalogIfExistsRes" +
-      "ponse\022\222\001\n\rApplyMutation\022?.io.evitadb.ext" +
-      "ernalApi.grpc.generated.GrpcApplyMutatio" +
-      "nRequest\032@.io.evitadb.externalApi.grpc.g" +
-      "enerated.GrpcApplyMutationResponse\022\254\001\n\031A" +
-      "pplyMutationWithProgress\022?.io.evitadb.ex" +
-      "ternalApi.grpc.generated.GrpcApplyMutati" +
-      "onRequest\032L.io.evitadb.externalApi.grpc." +
-      "generated.GrpcApplyMutationWithProgressR" +
-      "esponse0\001\022\222\001\n\rRenameCatalog\022?.io.evitadb" +
-      ".externalApi.grpc.generated.GrpcRenameCa" +
-      "talogRequest\032@.io.evitadb.externalApi.gr" +
-      "pc.generated.GrpcRenameCatalogResponse\022\254" +
-      "\001\n\031RenameCatalogWithProgress\022?.io.evitad" +
-      "b.externalApi.grpc.generated.GrpcRenameC" +
-      "atalogRequest\032L.io.evitadb.externalApi.g" +
-      "rpc.generated.GrpcApplyMutationWithProgr" +
-      "essResponse0\001\022\225\001\n\016ReplaceCatalog\022@.io.ev" +
-      "itadb.externalApi.grpc.generated.GrpcRep" +
-      "laceCatalogRequest\032A.io.evitadb.external" +
-      "Api.grpc.generated.GrpcReplaceCatalogRes" +
-      "ponse\022\256\001\n\032ReplaceCatalogWithProgress\022@.i" +
-      "o.evitadb.externalApi.grpc.generated.Grp" +
-      "cReplaceCatalogRequest\032L.io.evitadb.exte" +
-      "rnalApi.grpc.generated.GrpcApplyMutation" +
-      "WithProgressResponse0\001\022\241\001\n\022MakeCatalogMu" +
-      "table\022D.io.evitadb.externalApi.grpc.gene" +
-      "rated.GrpcMakeCatalogMutableRequest\032E.io" +
+      "Request\032?.io.evitadb.externalApi.grpc.ge" +
+      "nerated.GrpcEvitaSessionResponse\022\251\001\n\020Ter" +
+      "minateSession\022I.io.evitadb.externalApi.g" +
+      "rpc.generated.GrpcEvitaSessionTerminatio" +
+      "nRequest\032J.io.evitadb.externalApi.grpc.g" +
+      "enerated.GrpcEvitaSessionTerminationResp" +
+      "onse\022j\n\017GetCatalogNames\022\026.google.protobu" +
+      "f.Empty\032?.io.evitadb.externalApi.grpc.ge" +
+      "nerated.GrpcCatalogNamesResponse\022\230\001\n\017Get" +
+      "CatalogState\022A.io.evitadb.externalApi.gr" +
+      "pc.generated.GrpcGetCatalogStateRequest\032" +
+      "B.io.evitadb.externalApi.grpc.generated." +
+      "GrpcGetCatalogStateResponse\022\222\001\n\rDefineCa" +
+      "talog\022?.io.evitadb.externalApi.grpc.gene" +
+      "rated.GrpcDefineCatalogRequest\032@.io.evit" +
+      "adb.externalApi.grpc.generated.GrpcDefin" +
+      "eCatalogResponse\022\252\001\n\025DeleteCatalogIfExis" +
+      "ts\022G.io.evitadb.externalApi.grpc.generat" +
+      "ed.GrpcDeleteCatalogIfExistsRequest\032H.io" +
       ".evitadb.externalApi.grpc.generated.Grpc" +
-      "MakeCatalogMutableResponse\022\266\001\n\036MakeCatal" +
-      "ogMutableWithProgress\022D.io.evitadb.exter" +
-      "nalApi.grpc.generated.GrpcMakeCatalogMut" +
-      "ableRequest\032L.io.evitadb.externalApi.grp" +
-      "c.generated.GrpcApplyMutationWithProgres" +
-      "sResponse0\001\022\247\001\n\024MakeCatalogImmutable\022F.i" +
+      "DeleteCatalogIfExistsResponse\022\222\001\n\rApplyM" +
+      "utation\022?.io.evitadb.externalApi.grpc.ge" +
+      "nerated.GrpcApplyMutationRequest\032@.io.ev" +
+      "itadb.externalApi.grpc.generated.GrpcApp" +
+      "lyMutationResponse\022\254\001\n\031ApplyMutationWith" +
+      "Progress\022?.io.evitadb.externalApi.grpc.g" +
+      "enerated.GrpcApplyMutationRequest\032L.io.e" +
+      "vitadb.externalApi.grpc.generated.GrpcAp" +
+      "plyMutationWithProgressResponse0\001\022\222\001\n\rRe" +
+      "nameCatalog\022?.io.evitadb.externalApi.grp" +
+      "c.generated.GrpcRenameCatalogRequest\032@.i" +
       "o.evitadb.externalApi.grpc.generated.Grp" +
-      "cMakeCatalogImmutableRequest\032G.io.evitad" +
-      "b.externalApi.grpc.generated.GrpcMakeCat" +
-      "alogImmutableResponse\022\272\001\n MakeCatalogImm" +
-      "utableWithProgress\022F.io.evitadb.external" +
-      "Api.grpc.generated.GrpcMakeCatalogImmuta" +
-      "bleRequest\032L.io.evitadb.externalApi.grpc" +
-      ".generated.GrpcApplyMutationWithProgress" +
-      "Response0\001\022\233\001\n\020MakeCatalogAlive\022B.io.evi" +
-      "tadb.externalApi.grpc.generated.GrpcMake" +
-      "CatalogAliveRequest\032C.io.evitadb.externa" +
-      "lApi.grpc.generated.GrpcMakeCatalogAlive" +
-      "Response\022\262\001\n\034MakeCatalogAliveWithProgres" +
-      "s\022B.io.evitadb.externalApi.grpc.generate" +
-      "d.GrpcMakeCatalogAliveRequest\032L.io.evita" +
-      "db.externalApi.grpc.generated.GrpcApplyM" +
-      "utationWithProgressResponse0\001\022\233\001\n\020Duplic" +
-      "ateCatalog\022B.io.evitadb.externalApi.grpc" +
-      ".generated.GrpcDuplicateCatalogRequest\032C" +
-      ".io.evitadb.externalApi.grpc.generated.G" +
-      "rpcDuplicateCatalogResponse\022\262\001\n\034Duplicat" +
-      "eCatalogWithProgress\022B.io.evitadb.extern" +
-      "alApi.grpc.generated.GrpcDuplicateCatalo" +
-      "gRequest\032L.io.evitadb.externalApi.grpc.g" +
-      "enerated.GrpcApplyMutationWithProgressRe" +
-      "sponse0\001\022\230\001\n\017ActivateCatalog\022A.io.evitad" +
-      "b.externalApi.grpc.generated.GrpcActivat" +
-      "eCatalogRequest\032B.io.evitadb.externalApi" +
-      ".grpc.generated.GrpcActivateCatalogRespo" +
-      "nse\022\260\001\n\033ActivateCatalogWithProgress\022A.io" +
+      "cRenameCatalogResponse\022\254\001\n\031RenameCatalog" +
+      "WithProgress\022?.io.evitadb.externalApi.gr" +
+      "pc.generated.GrpcRenameCatalogRequest\032L." +
+      "io.evitadb.externalApi.grpc.generated.Gr" +
+      "pcApplyMutationWithProgressResponse0\001\022\225\001" +
+      "\n\016ReplaceCatalog\022@.io.evitadb.externalAp" +
+      "i.grpc.generated.GrpcReplaceCatalogReque" +
+      "st\032A.io.evitadb.externalApi.grpc.generat" +
+      "ed.GrpcReplaceCatalogResponse\022\256\001\n\032Replac" +
+      "eCatalogWithProgress\022@.io.evitadb.extern" +
+      "alApi.grpc.generated.GrpcReplaceCatalogR" +
+      "equest\032L.io.evitadb.externalApi.grpc.gen" +
+      "erated.GrpcApplyMutationWithProgressResp" +
+      "onse0\001\022\241\001\n\022MakeCatalogMutable\022D.io.evita" +
+      "db.externalApi.grpc.generated.GrpcMakeCa" +
+      "talogMutableRequest\032E.io.evitadb.externa" +
+      "lApi.grpc.generated.GrpcMakeCatalogMutab" +
+      "leResponse\022\266\001\n\036MakeCatalogMutableWithPro" +
+      "gress\022D.io.evitadb.externalApi.grpc.gene" +
+      "rated.GrpcMakeCatalogMutableRequest\032L.io" +
       ".evitadb.externalApi.grpc.generated.Grpc" +
-      "ActivateCatalogRequest\032L.io.evitadb.exte" +
-      "rnalApi.grpc.generated.GrpcApplyMutation" +
-      "WithProgressResponse0\001\022\236\001\n\021DeactivateCat" +
-      "alog\022C.io.evitadb.externalApi.grpc.gener" +
-      "ated.GrpcDeactivateCatalogRequest\032D.io.e" +
-      "vitadb.externalApi.grpc.generated.GrpcDe" +
-      "activateCatalogResponse\022\264\001\n\035DeactivateCa" +
-      "talogWithProgress\022C.io.evitadb.externalA" +
-      "pi.grpc.generated.GrpcDeactivateCatalogR" +
+      "ApplyMutationWithProgressResponse0\001\022\247\001\n\024" +
+      "MakeCatalogImmutable\022F.io.evitadb.extern" +
+      "alApi.grpc.generated.GrpcMakeCatalogImmu" +
+      "tableRequest\032G.io.evitadb.externalApi.gr" +
+      "pc.generated.GrpcMakeCatalogImmutableRes" +
+      "ponse\022\272\001\n MakeCatalogImmutableWithProgre" +
+      "ss\022F.io.evitadb.externalApi.grpc.generat" +
+      "ed.GrpcMakeCatalogImmutableRequest\032L.io." +
+      "evitadb.externalApi.grpc.generated.GrpcA" +
+      "pplyMutationWithProgressResponse0\001\022\233\001\n\020M" +
+      "akeCatalogAlive\022B.io.evitadb.externalApi" +
+      ".grpc.generated.GrpcMakeCatalogAliveRequ" +
+      "est\032C.io.evitadb.externalApi.grpc.genera" +
+      "ted.GrpcMakeCatalogAliveResponse\022\262\001\n\034Mak" +
+      "eCatalogAliveWithProgress\022B.io.evitadb.e" +
+      "xternalApi.grpc.generated.GrpcMakeCatalo" +
+      "gAliveRequest\032L.io.evitadb.externalApi.g" +
+      "rpc.generated.GrpcApplyMutationWithProgr" +
+      "essResponse0\001\022\233\001\n\020DuplicateCatalog\022B.io." +
+      "evitadb.externalApi.grpc.generated.GrpcD" +
+      "uplicateCatalogRequest\032C.io.evitadb.exte" +
+      "rnalApi.grpc.generated.GrpcDuplicateCata" +
+      "logResponse\022\262\001\n\034DuplicateCatalogWithProg" +
+      "ress\022B.io.evitadb.externalApi.grpc.gener" +
+      "ated.GrpcDuplicateCatalogRequest\032L.io.ev" +
+      "itadb.externalApi.grpc.generated.GrpcApp" +
+      "lyMutationWithProgressResponse0\001\022\230\001\n\017Act" +
+      "ivateCatalog\022A.io.evitadb.externalApi.gr" +
+      "pc.generated.GrpcActivateCatalogRequest\032" +
+      "B.io.evitadb.externalApi.grpc.generated." +
+      "GrpcActivateCatalogResponse\022\260\001\n\033Activate" +
+      "CatalogWithProgress\022A.io.evitadb.externa" +
+      "lApi.grpc.generated.GrpcActivateCatalogR" +
       "equest\032L.io.evitadb.externalApi.grpc.gen" +
       "erated.GrpcApplyMutationWithProgressResp" +
-      "onse0\001\022\276\001\n\033RegisterSystemChangeCapture\022M" +
-      ".io.evitadb.externalApi.grpc.generated.G" +
-      "rpcRegisterSystemChangeCaptureRequest\032N." +
-      "io.evitadb.externalApi.grpc.generated.Gr" +
-      "pcRegisterSystemChangeCaptureResponse0\001\022" +
-      "\216\001\n\013GetProgress\022=.io.evitadb.externalApi" +
-      ".grpc.generated.GrpcGetProgressRequest\032>" +
-      ".io.evitadb.externalApi.grpc.generated.G" +
-      "rpcGetProgressResponse0\001B\014P\001\252\002\007EvitaDBb\006" +
-      "proto3"
+      "onse0\001\022\236\001\n\021DeactivateCatalog\022C.io.evitad" +
+      "b.externalApi.grpc.generated.GrpcDeactiv" +
+      "ateCatalogRequest\032D.io.evitadb.externalA" +
+      "pi.grpc.generated.GrpcDeactivateCatalogR" +
+      "esponse\022\264\001\n\035DeactivateCatalogWithProgres" +
+      "s\022C.io.evitadb.externalApi.grpc.generate" +
+      "d.GrpcDeactivateCatalogRequest\032L.io.evit" +
+      "adb.externalApi.grpc.generated.GrpcApply" +
+      "MutationWithProgressResponse0\001\022\276\001\n\033Regis" +
+      "terSystemChangeCapture\022M.io.evitadb.exte" +
+      "rnalApi.grpc.generated.GrpcRegisterSyste" +
+      "mChangeCaptureRequest\032N.io.evitadb.exter" +
+      "nalApi.grpc.generated.GrpcRegisterSystem" +
+      "ChangeCaptureResponse0\001\022\216\001\n\013GetProgress\022" +
+      "=.io.evitadb.externalApi.grpc.generated." +
+      "GrpcGetProgressRequest\032>.io.evitadb.exte" +
+      "rnalApi.grpc.generated.GrpcGetProgressRe" +
+      "sponse0\001B\014P\001\252\002\007EvitaDBb\006proto3"
     };
     descriptor = com.google.protobuf.Descriptors.FileDescriptor
       .internalBuildGeneratedFileFrom(descriptorData,
@@ -459,7 +459,7 @@ public final class GrpcEvitaAPI {
     internal_static_io_evitadb_externalApi_grpc_generated_GrpcEvitaSessionResponse_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_io_evitadb_externalApi_grpc_generated_GrpcEvitaSessionResponse_descriptor,
-        new java.lang.String[] { "SessionId", "SessionType", "CommitBehaviour", "CatalogState", "CatalogId", });
+        new java.lang.String[] { "SessionId", "SessionType", "CommitBehaviour", "CatalogState", "CatalogId", "CatalogVersion", });
     internal_static_io_evitadb_externalApi_grpc_generated_GrpcEvitaSessionTerminationRequest_descriptor =
       getDescriptor().getMessageTypes().get(3);
     internal_static_io_evitadb_externalApi_grpc_generated_GrpcEvitaSessionTerminationRequest_fieldAccessorTable = new
@@ -247,6 +247,21 @@ private static final long serialVersionUID = 0L;
     }
   }
 
+  public static final int CATALOGVERSION_FIELD_NUMBER = 6;
+  private long catalogVersion_ = 0L;
+  /**
+   * <pre>
+   * Version of the catalog the session reads (read-only sessions see this version for their whole lifetime).
+   * </pre>
+   *
+   * <code>int64 catalogVersion = 6;</code>
+   * @return The catalogVersion.
+   */
+  @java.lang.Override
+  public long getCatalogVersion() {
+    return catalogVersion_;
+  }
+
   private byte memoizedIsInitialized = -1;
   @java.lang.Override
   public final boolean isInitialized() {
@@ -276,6 +291,9 @@ private static final long serialVersionUID = 0L;
     if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(catalogId_)) {
       com.google.protobuf.GeneratedMessageV3.writeString(output, 5, catalogId_);
     }
+    if (catalogVersion_ != 0L) {
+      output.writeInt64(6, catalogVersion_);
+    }
     getUnknownFields().writeTo(output);
   }
 
@@ -303,6 +321,10 @@ private static final long serialVersionUID = 0L;
     if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(catalogId_)) {
       size += com.google.protobuf.GeneratedMessageV3.computeStringSize(5, catalogId_);
     }
+    if (catalogVersion_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(6, catalogVersion_);
+    }
     size += getUnknownFields().getSerializedSize();
     memoizedSize = size;
     return size;
@@ -325,6 +347,8 @@ private static final long serialVersionUID = 0L;
     if (catalogState_ != other.catalogState_) return false;
     if (!getCatalogId()
         .equals(other.getCatalogId())) return false;
+    if (getCatalogVersion()
+        != other.getCatalogVersion()) return false;
     if (!getUnknownFields().equals(other.getUnknownFields())) return false;
     return true;
   }
@@ -346,6 +370,9 @@ private static final long serialVersionUID = 0L;
     hash = (53 * hash) + catalogState_;
     hash = (37 * hash) + CATALOGID_FIELD_NUMBER;
     hash = (53 * hash) + getCatalogId().hashCode();
+    hash = (37 * hash) + CATALOGVERSION_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getCatalogVersion());
     hash = (29 * hash) + getUnknownFields().hashCode();
     memoizedHashCode = hash;
     return hash;
@@ -486,6 +513,7 @@ private static final long serialVersionUID = 0L;
       commitBehaviour_ = 0;
       catalogState_ = 0;
       catalogId_ = "";
+      catalogVersion_ = 0L;
       return this;
     }
 
@@ -534,6 +562,9 @@ private static final long serialVersionUID = 0L;
       if (((from_bitField0_ & 0x00000010) != 0)) {
         result.catalogId_ = catalogId_;
       }
+      if (((from_bitField0_ & 0x00000020) != 0)) {
+        result.catalogVersion_ = catalogVersion_;
+      }
     }
 
     @java.lang.Override
@@ -599,6 +630,9 @@ private static final long serialVersionUID = 0L;
         bitField0_ |= 0x00000010;
         onChanged();
       }
+      if (other.getCatalogVersion() != 0L) {
+        setCatalogVersion(other.getCatalogVersion());
+      }
       this.mergeUnknownFields(other.getUnknownFields());
       onChanged();
       return this;
@@ -650,6 +684,11 @@ private static final long serialVersionUID = 0L;
               bitField0_ |= 0x00000010;
               break;
             } // case 42
+            case 48: {
+              catalogVersion_ = input.readInt64();
+              bitField0_ |= 0x00000020;
+              break;
+            } // case 48
             default: {
               if (!super.parseUnknownField(input, extensionRegistry, tag)) {
                 done = true; // was an endgroup tag
@@ -1079,6 +1118,50 @@ private static final long serialVersionUID = 0L;
       onChanged();
       return this;
     }
+
+    private long catalogVersion_ ;
+    /**
+     * <pre>
+     * Version of the catalog the session reads (read-only sessions see this version for their whole lifetime).
+     * </pre>
+     *
+     * <code>int64 catalogVersion = 6;</code>
+     * @return The catalogVersion.
+     */
+    @java.lang.Override
+    public long getCatalogVersion() {
+      return catalogVersion_;
+    }
+    /**
+     * <pre>
+     * Version of the catalog the session reads (read-only sessions see this version for their whole lifetime).
+     * </pre>
+     *
+     * <code>int64 catalogVersion = 6;</code>
+     * @param value The catalogVersion to set.
+     * @return This builder for chaining.
+     */
+    public Builder setCatalogVersion(long value) {
+
+      catalogVersion_ = value;
+      bitField0_ |= 0x00000020;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Version of the catalog the session reads (read-only sessions see this version for their whole lifetime).
+     * </pre>
+     *
+     * <code>int64 catalogVersion = 6;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearCatalogVersion() {
+      bitField0_ = (bitField0_ & ~0x00000020);
+      catalogVersion_ = 0L;
+      onChanged();
+      return this;
+    }
     @java.lang.Override
     public final Builder setUnknownFields(
         final com.google.protobuf.UnknownFieldSet unknownFields) {
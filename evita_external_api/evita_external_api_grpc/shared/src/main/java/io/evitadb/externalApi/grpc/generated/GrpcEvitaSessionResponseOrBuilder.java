@@ -131,4 +131,14 @@ public interface GrpcEvitaSessionResponseOrBuilder extends
    */
   com.google.protobuf.ByteString
       getCatalogIdBytes();
+
+  /**
+   * <pre>
+   * Version of the catalog the session reads (read-only sessions see this version for their whole lifetime).
+   * </pre>
+   *
+   * <code>int64 catalogVersion = 6;</code>
+   * @return The catalogVersion.
+   */
+  long getCatalogVersion();
 }
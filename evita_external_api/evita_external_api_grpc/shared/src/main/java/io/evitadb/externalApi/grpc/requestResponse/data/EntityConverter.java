@@ -25,6 +25,7 @@ package io.evitadb.externalApi.grpc.requestResponse.data;
 
 import com.google.protobuf.ByteString;
 import com.google.protobuf.Int32Value;
+import com.google.protobuf.UnsafeByteOperations;
 import io.evitadb.api.EntityCollectionContract;
 import io.evitadb.api.SessionTraits.SessionFlags;
 import io.evitadb.api.query.QueryConstraints;
@@ -85,6 +86,7 @@ import lombok.RequiredArgsConstructor;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.io.Serializable;
+import java.nio.ByteBuffer;
 import java.util.*;
 import java.util.Map.Entry;
 import java.util.function.BiFunction;
@@ -568,29 +570,30 @@ public class EntityConverter {
 	 */
 	@Nonnull
 	public static GrpcBinaryEntity toGrpcBinaryEntity(@Nonnull BinaryEntity binaryEntity) {
+		// storage parts are never modified once read from the storage, so they may be wrapped without copying
 		int attributeSize = binaryEntity.getAttributeStorageParts().length;
 		final List<ByteString> attributes = new ArrayList<>(attributeSize);
 		for (int i = 0; i < attributeSize; i++) {
-			attributes.add(ByteString.copyFrom(binaryEntity.getAttributeStorageParts()[i]));
+			attributes.add(UnsafeByteOperations.unsafeWrap(binaryEntity.getAttributeStorageParts()[i]));
 		}
 		int associatedDataSize = binaryEntity.getAssociatedDataStorageParts().length;
 		final List<ByteString> associatedData = new ArrayList<>(associatedDataSize);
 		for (int i = 0; i < associatedDataSize; i++) {
-			associatedData.add(ByteString.copyFrom(binaryEntity.getAssociatedDataStorageParts()[i]));
+			associatedData.add(UnsafeByteOperations.unsafeWrap(binaryEntity.getAssociatedDataStorageParts()[i]));
 		}
 		final GrpcBinaryEntity.Builder binaryEntityBuilder = GrpcBinaryEntity.newBuilder()
 			.setEntityType(binaryEntity.getType())
 			.setPrimaryKey(binaryEntity.getPrimaryKey())
 			.setSchemaVersion(binaryEntity.getSchema().version())
-			.setEntityStoragePart(ByteString.copyFrom(binaryEntity.getEntityStoragePart()))
+			.setEntityStoragePart(UnsafeByteOperations.unsafeWrap(binaryEntity.getEntityStoragePart()))
 			.addAllAttributeStorageParts(attributes)
 			.addAllAssociatedDataStorageParts(associatedData);
 
 		if (binaryEntity.getPriceStoragePart() != null) {
-			binaryEntityBuilder.setPriceStoragePart(ByteString.copyFrom(binaryEntity.getPriceStoragePart()));
+			binaryEntityBuilder.setPriceStoragePart(UnsafeByteOperations.unsafeWrap(binaryEntity.getPriceStoragePart()));
 		}
 		if (binaryEntity.getReferenceStoragePart() != null) {
-			binaryEntityBuilder.setReferenceStoragePart(ByteString.copyFrom(binaryEntity.getReferenceStoragePart()));
+			binaryEntityBuilder.setReferenceStoragePart(UnsafeByteOperations.unsafeWrap(binaryEntity.getReferenceStoragePart()));
 		}
 
 		return binaryEntityBuilder.build();
@@ -689,11 +692,42 @@ public class EntityConverter {
 			.toList();
 	}
 
+	/**
+	 * Converts {@link GrpcBinaryEntity} to the {@link BinaryEntity} carrying the storage parts exactly as they were
+	 * read from the server storage, along with the entity schema of the version the parts were written with.
+	 * The parts are not copied - the {@link BufferedBinaryEntity} shares the memory of the received message via
+	 * read-only buffers.
+	 *
+	 * The storage parts are never deserialized in the driver (neither eagerly nor lazily) - their keys are compressed
+	 * by the catalog-specific key compressor that is available only on the server side. The client that needs
+	 * the entity data in a decoded form must use a session without {@link SessionFlags#BINARY} flag.
+	 *
+	 * @param binaryEntity         entity with binary storage parts received from the server
+	 * @param entitySchemaProvider provider of the entity schema by entity type and schema version
+	 * @return built {@link BinaryEntity}
+	 */
 	@Nonnull
-	public static <T> T parseBinaryEntity(@Nonnull GrpcBinaryEntity binaryEntity) {
-		/* TOBEDONE JNO https://github.com/FgForrest/evitaDB/issues/13 */
-		throw new UnsupportedOperationException(
-			"Parsing of binary entities is not yet supported in gRPC API! Please use the sealed entity form instead."
+	public static <T> T parseBinaryEntity(
+		@Nonnull GrpcBinaryEntity binaryEntity,
+		@Nonnull BiFunction<String, Integer, SealedEntitySchema> entitySchemaProvider
+	) {
+		final ByteBuffer[] attributeStorageParts = new ByteBuffer[binaryEntity.getAttributeStoragePartsCount()];
+		for (int i = 0; i < attributeStorageParts.length; i++) {
+			attributeStorageParts[i] = binaryEntity.getAttributeStorageParts(i).asReadOnlyByteBuffer();
+		}
+		final ByteBuffer[] associatedDataStorageParts = new ByteBuffer[binaryEntity.getAssociatedDataStoragePartsCount()];
+		for (int i = 0; i < associatedDataStorageParts.length; i++) {
+			associatedDataStorageParts[i] = binaryEntity.getAssociatedDataStorageParts(i).asReadOnlyByteBuffer();
+		}
+		//noinspection unchecked
+		return (T) new BufferedBinaryEntity(
+			entitySchemaProvider.apply(binaryEntity.getEntityType(), binaryEntity.getSchemaVersion()),
+			binaryEntity.getPrimaryKey(),
+			binaryEntity.getEntityStoragePart().asReadOnlyByteBuffer(),
+			attributeStorageParts,
+			associatedDataStorageParts,
+			binaryEntity.getPriceStoragePart().isEmpty() ? null : binaryEntity.getPriceStoragePart().asReadOnlyByteBuffer(),
+			binaryEntity.getReferenceStoragePart().isEmpty() ? null : binaryEntity.getReferenceStoragePart().asReadOnlyByteBuffer()
 		);
 	}
 
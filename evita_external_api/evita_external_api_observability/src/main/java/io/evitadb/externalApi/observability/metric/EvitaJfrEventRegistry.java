@@ -33,14 +33,17 @@ import io.evitadb.core.metric.event.cdc.ChangeCatalogCaptureStatisticsPerEntityT
 import io.evitadb.core.metric.event.query.EntityEnrichEvent;
 import io.evitadb.core.metric.event.query.EntityFetchEvent;
 import io.evitadb.core.metric.event.query.FinishedEvent;
+import io.evitadb.core.metric.event.query.QueryShapeStatisticsEvent;
 import io.evitadb.core.metric.event.session.ClosedEvent;
 import io.evitadb.core.metric.event.session.KilledEvent;
 import io.evitadb.core.metric.event.session.OpenedEvent;
 import io.evitadb.core.metric.event.storage.CatalogCheckpointEvent;
 import io.evitadb.core.metric.event.storage.CatalogStatisticsEvent;
 import io.evitadb.core.metric.event.storage.DataFileCompactEvent;
+import io.evitadb.core.metric.event.storage.IndexMemoryFootprintEvent;
 import io.evitadb.core.metric.event.storage.ObservableOutputChangeEvent;
 import io.evitadb.core.metric.event.storage.OffsetIndexFlushEvent;
+import io.evitadb.core.metric.event.storage.OffsetIndexKryoPoolEvent;
 import io.evitadb.core.metric.event.storage.OffsetIndexHistoryKeptEvent;
 import io.evitadb.core.metric.event.storage.OffsetIndexNonFlushedEvent;
 import io.evitadb.core.metric.event.storage.OffsetIndexRecordTypeCountChangedEvent;
@@ -109,12 +112,15 @@ public class EvitaJfrEventRegistry {
 		WalStatisticsEvent.class,
 		WalRotationEvent.class,
 		WalCacheSizeChangedEvent.class,
+		WalTailCacheStatisticsEvent.class,
 		IsolatedWalFileOpenedEvent.class,
 		IsolatedWalFileClosedEvent.class,
 		OffHeapMemoryAllocationChangeEvent.class,
+		ReplicationLagEvent.class,
 
 		// storage events
 		OffsetIndexFlushEvent.class,
+		OffsetIndexKryoPoolEvent.class,
 		DataFileCompactEvent.class,
 		OffsetIndexRecordTypeCountChangedEvent.class,
 		OffsetIndexNonFlushedEvent.class,
@@ -124,6 +130,7 @@ public class EvitaJfrEventRegistry {
 		ReadOnlyHandleClosedEvent.class,
 		CatalogStatisticsEvent.class,
 		CatalogCheckpointEvent.class,
+		IndexMemoryFootprintEvent.class,
 		TrafficRecorderStatisticsEvent.class,
 		TrafficRecorderSkippedRecordsEvent.class,
 
@@ -131,6 +138,7 @@ public class EvitaJfrEventRegistry {
 		FinishedEvent.class,
 		EntityFetchEvent.class,
 		EntityEnrichEvent.class,
+		QueryShapeStatisticsEvent.class,
 
 		// session events
 		OpenedEvent.class,
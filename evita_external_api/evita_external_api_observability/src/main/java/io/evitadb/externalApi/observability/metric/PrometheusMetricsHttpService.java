@@ -31,11 +31,13 @@ import com.linecorp.armeria.server.ServiceRequestContext;
 import io.evitadb.core.Evita;
 import io.evitadb.externalApi.http.CancellationSupport;
 import io.prometheus.metrics.exporter.common.PrometheusScrapeHandler;
+import io.prometheus.metrics.model.registry.PrometheusRegistry;
 
 import javax.annotation.Nonnull;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * This service provides Prometheus metrics in text format. The service mimics original PrometheusServlet behavior.
@@ -43,12 +45,33 @@ import java.util.concurrent.CompletableFuture;
  * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2022
  */
 public class PrometheusMetricsHttpService implements HttpService {
+	/**
+	 * Collector of the query phase histograms registered in the default Prometheus registry. There is only one
+	 * registry per JVM, so the collector of the previously created service must be replaced.
+	 */
+	private static final AtomicReference<QueryPhaseMetricsCollector> QUERY_PHASE_METRICS_COLLECTOR = new AtomicReference<>();
 	private final Evita evita;
 	private final PrometheusScrapeHandler prometheusScrapeHandler;
 
 	public PrometheusMetricsHttpService(@Nonnull Evita evita) {
 		this.evita = evita;
 		this.prometheusScrapeHandler = new PrometheusScrapeHandler();
+		registerQueryPhaseMetricsCollector(evita);
+	}
+
+	/**
+	 * Registers the collector exporting the always-on query phase histograms of the catalogs of passed evitaDB
+	 * instance, replacing the collector registered for the previous instance (if any).
+	 *
+	 * @param evita evita instance
+	 */
+	private static void registerQueryPhaseMetricsCollector(@Nonnull Evita evita) {
+		final QueryPhaseMetricsCollector collector = new QueryPhaseMetricsCollector(evita);
+		final QueryPhaseMetricsCollector previousCollector = QUERY_PHASE_METRICS_COLLECTOR.getAndSet(collector);
+		if (previousCollector != null) {
+			PrometheusRegistry.defaultRegistry.unregister(previousCollector);
+		}
+		PrometheusRegistry.defaultRegistry.register(collector);
 	}
 
 	@Nonnull
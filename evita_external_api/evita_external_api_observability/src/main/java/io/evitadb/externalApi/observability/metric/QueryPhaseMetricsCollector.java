@@ -0,0 +1,112 @@
+/*
+ *
+ *                         _ _        ____  ____
+ *               _____   _(_) |_ __ _|  _ \| __ )
+ *              / _ \ \ / / | __/ _` | | | |  _ \
+ *             |  __/\ V /| | || (_| | |_| | |_) |
+ *              \___| \_/ |_|\__\__,_|____/|____/
+ *
+ *   Copyright (c) 2024-2026
+ *
+ *   Licensed under the Business Source License, Version 1.1 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://github.com/FgForrest/evitaDB/blob/master/LICENSE
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.evitadb.externalApi.observability.metric;
+
+import io.evitadb.api.CatalogContract;
+import io.evitadb.core.Evita;
+import io.evitadb.core.catalog.Catalog;
+import io.evitadb.core.query.statistics.QueryPhaseStatisticsRegistry;
+import io.evitadb.core.query.statistics.QueryPhaseStatisticsRegistry.QueryPhaseHistogram;
+import io.prometheus.metrics.model.registry.MultiCollector;
+import io.prometheus.metrics.model.snapshots.ClassicHistogramBuckets;
+import io.prometheus.metrics.model.snapshots.HistogramSnapshot;
+import io.prometheus.metrics.model.snapshots.HistogramSnapshot.HistogramDataPointSnapshot;
+import io.prometheus.metrics.model.snapshots.Labels;
+import io.prometheus.metrics.model.snapshots.MetricSnapshots;
+import io.prometheus.metrics.model.snapshots.Unit;
+
+import javax.annotation.Nonnull;
+import java.util.List;
+
+/**
+ * Prometheus collector exporting the always-on {@link QueryPhaseStatisticsRegistry query phase histograms} of all
+ * catalogs as the `io_evitadb_query_phase_duration_milliseconds` histogram labelled by catalog, entity type and
+ * phase. The histograms are aggregated by the engine without any JFR event - the collector only converts their
+ * snapshots to the Prometheus model when the metrics are scraped.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+public class QueryPhaseMetricsCollector implements MultiCollector {
+	public static final String METRIC_NAME = "io_evitadb_query_phase_duration_milliseconds";
+	private static final String NOT_APPLICABLE = "N/A";
+	/**
+	 * Upper bounds of the histogram buckets in milliseconds including the mandatory +Inf bucket.
+	 */
+	private static final double[] BUCKET_UPPER_BOUNDS_IN_MILLISECONDS;
+
+	static {
+		final long[] upperBoundsInMicros = QueryPhaseStatisticsRegistry.BUCKET_UPPER_BOUNDS_IN_MICROSECONDS;
+		BUCKET_UPPER_BOUNDS_IN_MILLISECONDS = new double[upperBoundsInMicros.length + 1];
+		for (int i = 0; i < upperBoundsInMicros.length; i++) {
+			BUCKET_UPPER_BOUNDS_IN_MILLISECONDS[i] = upperBoundsInMicros[i] / 1000.0;
+		}
+		BUCKET_UPPER_BOUNDS_IN_MILLISECONDS[upperBoundsInMicros.length] = Double.POSITIVE_INFINITY;
+	}
+
+	private final Evita evita;
+
+	public QueryPhaseMetricsCollector(@Nonnull Evita evita) {
+		this.evita = evita;
+	}
+
+	@Override
+	public MetricSnapshots collect() {
+		final HistogramSnapshot.Builder snapshot = HistogramSnapshot.builder()
+			.name(METRIC_NAME)
+			.unit(new Unit("milliseconds"))
+			.help("Duration of the query phases (planning, prefetch, filtering, sorting and slicing, extra results fabrication and fetching) in milliseconds");
+		for (CatalogContract catalogContract : this.evita.getCatalogs()) {
+			if (catalogContract instanceof Catalog catalog) {
+				catalog.getQueryPhaseStatistics().forEach(
+					histogram -> snapshot.dataPoint(toDataPoint(catalog.getName(), histogram))
+				);
+			}
+		}
+		return new MetricSnapshots(snapshot.build());
+	}
+
+	@Override
+	public List<String> getPrometheusNames() {
+		return List.of(METRIC_NAME);
+	}
+
+	/**
+	 * Converts the engine histogram snapshot to the Prometheus data point.
+	 */
+	@Nonnull
+	private static HistogramDataPointSnapshot toDataPoint(@Nonnull String catalogName, @Nonnull QueryPhaseHistogram histogram) {
+		return HistogramDataPointSnapshot.builder()
+			.classicHistogramBuckets(ClassicHistogramBuckets.of(BUCKET_UPPER_BOUNDS_IN_MILLISECONDS, histogram.bucketCounts()))
+			.sum(histogram.sumInMicroseconds() / 1000.0)
+			.labels(
+				Labels.of(
+					"catalogName", catalogName,
+					"entityType", histogram.entityType() == null ? NOT_APPLICABLE : histogram.entityType(),
+					"phase", histogram.phase().name()
+				)
+			)
+			.build();
+	}
+
+}
@@ -82,6 +82,8 @@ import io.evitadb.externalApi.api.catalog.schemaApi.model.mutation.sortableAttri
 import io.evitadb.externalApi.api.model.mutation.MutationDescriptor;
 import io.evitadb.externalApi.api.system.model.CatalogDescriptor;
 import io.evitadb.externalApi.api.system.model.CatalogUnionDescriptor;
+import io.evitadb.externalApi.api.system.model.IndexMemoryFootprintDescriptor;
+import io.evitadb.externalApi.api.system.model.QueryShapeStatisticsDescriptor;
 import io.evitadb.externalApi.api.system.model.UnusableCatalogDescriptor;
 import io.evitadb.externalApi.api.system.model.cdc.CatalogInstalledIntoLiveViewDescriptor;
 import io.evitadb.externalApi.api.system.model.cdc.CatalogRemovedFromLiveViewDescriptor;
@@ -158,6 +160,8 @@ public class SystemRestBuilder extends FinalRestBuilder<SystemRestBuildingContex
 		this.buildingContext.registerType(CatalogDescriptor.THIS.to(this.objectBuilderTransformer).build());
 		this.buildingContext.registerType(buildCatalogUnion());
 		this.buildingContext.registerType(UnusableCatalogDescriptor.THIS.to(this.objectBuilderTransformer).build());
+		this.buildingContext.registerType(QueryShapeStatisticsDescriptor.THIS.to(this.objectBuilderTransformer).build());
+		this.buildingContext.registerType(IndexMemoryFootprintDescriptor.THIS.to(this.objectBuilderTransformer).build());
 		this.buildingContext.registerType(CreateCatalogRequestDescriptor.THIS.to(this.objectBuilderTransformer).build());
 		this.buildingContext.registerType(UpdateCatalogRequestDescriptor.THIS.to(this.objectBuilderTransformer).build());
 		this.buildingContext.registerType(AttributeElementDescriptor.THIS_INPUT.to(this.objectBuilderTransformer).build());
@@ -199,6 +203,8 @@ public class SystemRestBuilder extends FinalRestBuilder<SystemRestBuildingContex
 		this.buildingContext.registerEndpoint(this.endpointBuilder.buildCreateCatalogEndpoint());
 		this.buildingContext.registerEndpoint(this.endpointBuilder.buildUpdateCatalogEndpoint());
 		this.buildingContext.registerEndpoint(this.endpointBuilder.buildDeleteCatalogEndpoint());
+		this.buildingContext.registerEndpoint(this.endpointBuilder.buildListQueryShapeStatisticsEndpoint());
+		this.buildingContext.registerEndpoint(this.endpointBuilder.buildListIndexMemoryFootprintEndpoint());
 		this.buildingContext.registerEndpoint(this.endpointBuilder.buildChangeSystemCaptureEndpoint());
 	}
 
@@ -25,6 +25,8 @@ package io.evitadb.externalApi.rest.api.system.builder;
 
 import io.evitadb.externalApi.api.system.model.CatalogDescriptor;
 import io.evitadb.externalApi.api.system.model.CatalogUnionDescriptor;
+import io.evitadb.externalApi.api.system.model.IndexMemoryFootprintDescriptor;
+import io.evitadb.externalApi.api.system.model.QueryShapeStatisticsDescriptor;
 import io.evitadb.externalApi.rest.api.dataType.DataTypesConverter;
 import io.evitadb.externalApi.rest.api.model.PropertyDescriptorToOpenApiOperationPathParameterTransformer;
 import io.evitadb.externalApi.rest.api.model.RestRootDescriptor;
@@ -41,6 +43,8 @@ import io.evitadb.externalApi.rest.api.system.resolver.endpoint.CreateCatalogHan
 import io.evitadb.externalApi.rest.api.system.resolver.endpoint.DeleteCatalogHandler;
 import io.evitadb.externalApi.rest.api.system.resolver.endpoint.GetCatalogHandler;
 import io.evitadb.externalApi.rest.api.system.resolver.endpoint.ListCatalogsHandler;
+import io.evitadb.externalApi.rest.api.system.resolver.endpoint.ListIndexMemoryFootprintHandler;
+import io.evitadb.externalApi.rest.api.system.resolver.endpoint.ListQueryShapeStatisticsHandler;
 import io.evitadb.externalApi.rest.api.system.resolver.endpoint.LivenessHandler;
 import io.evitadb.externalApi.rest.api.system.resolver.endpoint.UpdateCatalogHandler;
 import io.evitadb.externalApi.rest.api.system.resolver.endpoint.ChangeSystemCaptureStreamHandler;
@@ -160,6 +164,34 @@ public class SystemEndpointBuilder {
 			.build();
 	}
 
+	@Nonnull
+	public OpenApiSystemEndpoint buildListQueryShapeStatisticsEndpoint() {
+		return newSystemEndpoint()
+			.path(p -> p
+				.staticItem(SystemRootDescriptor.LIST_QUERY_SHAPE_STATISTICS.urlPathItem())
+				.paramItem(CatalogsHeaderDescriptor.NAME.to(this.operationPathParameterBuilderTransformer)))
+			.method(HttpMethod.GET)
+			.operationId(SystemRootDescriptor.LIST_QUERY_SHAPE_STATISTICS.operation())
+			.description(SystemRootDescriptor.LIST_QUERY_SHAPE_STATISTICS.description())
+			.successResponse(nonNull(arrayOf(typeRefTo(QueryShapeStatisticsDescriptor.THIS.name()))))
+			.handler(ListQueryShapeStatisticsHandler::new)
+			.build();
+	}
+
+	@Nonnull
+	public OpenApiSystemEndpoint buildListIndexMemoryFootprintEndpoint() {
+		return newSystemEndpoint()
+			.path(p -> p
+				.staticItem(SystemRootDescriptor.LIST_INDEX_MEMORY_FOOTPRINT.urlPathItem())
+				.paramItem(CatalogsHeaderDescriptor.NAME.to(this.operationPathParameterBuilderTransformer)))
+			.method(HttpMethod.GET)
+			.operationId(SystemRootDescriptor.LIST_INDEX_MEMORY_FOOTPRINT.operation())
+			.description(SystemRootDescriptor.LIST_INDEX_MEMORY_FOOTPRINT.description())
+			.successResponse(nonNull(arrayOf(typeRefTo(IndexMemoryFootprintDescriptor.THIS.name()))))
+			.handler(ListIndexMemoryFootprintHandler::new)
+			.build();
+	}
+
 	@Nonnull
 	public OpenApiSystemEndpoint buildChangeSystemCaptureEndpoint() {
 		return newSystemEndpoint()
@@ -25,7 +25,10 @@ package io.evitadb.externalApi.rest.api.system.model;
 
 import io.evitadb.externalApi.api.model.EndpointDescriptor;
 import io.evitadb.externalApi.api.system.model.CatalogDescriptor;
+import io.evitadb.externalApi.api.system.model.IndexMemoryFootprintDescriptor;
+import io.evitadb.externalApi.api.system.model.QueryShapeStatisticsDescriptor;
 
+import static io.evitadb.externalApi.api.model.TypePropertyDataTypeDescriptor.nonNullListRef;
 import static io.evitadb.externalApi.api.model.TypePropertyDataTypeDescriptor.nonNullRef;
 import static io.evitadb.externalApi.api.model.TypePropertyDataTypeDescriptor.nullableListRef;
 import static io.evitadb.externalApi.api.model.TypePropertyDataTypeDescriptor.nullableRef;
@@ -91,6 +94,24 @@ public interface SystemRootDescriptor {
             """)
         .type(nonNull(Boolean.class))
         .build();
+    EndpointDescriptor LIST_QUERY_SHAPE_STATISTICS = EndpointDescriptor.builder()
+        .operation("listQueryShapeStatistics")
+        .urlPathItem("query-shape-statistics")
+        .description("""
+            Returns aggregated statistics of the query shapes executed in the catalog since it was loaded, ordered by
+            the total time spent descending - i.e. the most expensive query shapes come first.
+            """)
+        .type(nonNullListRef(QueryShapeStatisticsDescriptor.THIS))
+        .build();
+    EndpointDescriptor LIST_INDEX_MEMORY_FOOTPRINT = EndpointDescriptor.builder()
+        .operation("listIndexMemoryFootprint")
+        .urlPathItem("index-memory-footprint")
+        .description("""
+            Returns estimated heap memory occupied by the in-memory indexes of the catalog, aggregated per entity type,
+            index data structure, reference and attribute.
+            """)
+        .type(nonNullListRef(IndexMemoryFootprintDescriptor.THIS))
+        .build();
     EndpointDescriptor CHANGE_SYSTEM_CAPTURE = EndpointDescriptor.builder()
         .operation("registerSystemChangeCapture")
         .urlPathItem("change-captures")
@@ -0,0 +1,115 @@
+/*
+ *
+ *                         _ _        ____  ____
+ *               _____   _(_) |_ __ _|  _ \| __ )
+ *              / _ \ \ / / | __/ _` | | | |  _ \
+ *             |  __/\ V /| | || (_| | |_| | |_) |
+ *              \___| \_/ |_|\__\__,_|____/|____/
+ *
+ *   Copyright (c) 2026
+ *
+ *   Licensed under the Business Source License, Version 1.1 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://github.com/FgForrest/evitaDB/blob/master/LICENSE
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.evitadb.externalApi.rest.api.system.resolver.endpoint;
+
+import com.linecorp.armeria.common.HttpMethod;
+import io.evitadb.api.observability.IndexMemoryFootprint;
+import io.evitadb.core.catalog.Catalog;
+import io.evitadb.externalApi.http.EndpointResponse;
+import io.evitadb.externalApi.http.NotFoundEndpointResponse;
+import io.evitadb.externalApi.http.SuccessEndpointResponse;
+import io.evitadb.externalApi.rest.api.system.model.CatalogsHeaderDescriptor;
+import io.evitadb.externalApi.rest.api.system.resolver.serializer.IndexMemoryFootprintJsonSerializer;
+import io.evitadb.externalApi.rest.exception.RestInternalError;
+import io.evitadb.externalApi.rest.io.JsonRestHandler;
+import io.evitadb.externalApi.rest.io.RestEndpointExecutionContext;
+import io.evitadb.externalApi.rest.metric.event.request.ExecutedEvent;
+import io.evitadb.utils.Assert;
+
+import javax.annotation.Nonnull;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Returns estimated {@link IndexMemoryFootprint} of the indexes of single evitaDB catalog by its name.
+ *
+ * @author Lukáš Hornych, FG Forrest a.s. (c) 2026
+ */
+public class ListIndexMemoryFootprintHandler extends JsonRestHandler<SystemRestHandlingContext> {
+
+	@Nonnull
+	private final IndexMemoryFootprintJsonSerializer indexMemoryFootprintJsonSerializer;
+
+	public ListIndexMemoryFootprintHandler(@Nonnull SystemRestHandlingContext restApiHandlingContext) {
+		super(restApiHandlingContext);
+		this.indexMemoryFootprintJsonSerializer = new IndexMemoryFootprintJsonSerializer(restApiHandlingContext);
+	}
+
+	@Nonnull
+	@Override
+	protected CompletableFuture<EndpointResponse> doHandleRequest(@Nonnull RestEndpointExecutionContext executionContext) {
+		return executionContext.executeAsyncInRequestThreadPool(
+			() -> {
+				final ExecutedEvent requestExecutedEvent = executionContext.requestExecutedEvent();
+
+				final Map<String, Object> parameters = getParametersFromRequest(executionContext);
+				requestExecutedEvent.finishInputDeserialization();
+
+				final String catalogName = (String) parameters.get(CatalogsHeaderDescriptor.NAME.name());
+
+				final Optional<List<IndexMemoryFootprint>> footprint = requestExecutedEvent.measureInternalEvitaDBExecution(() ->
+					this.restHandlingContext.getEvita().getCatalogInstance(catalogName)
+						.filter(Catalog.class::isInstance)
+						.map(it -> ((Catalog) it).getIndexMemoryFootprint()));
+				requestExecutedEvent.finishOperationExecution();
+
+				final Optional<Object> result = footprint.map(it -> convertResultIntoSerializableObject(executionContext, it));
+				requestExecutedEvent.finishResultSerialization();
+
+				return result
+					.map(it -> (EndpointResponse) new SuccessEndpointResponse(it))
+					.orElse(new NotFoundEndpointResponse());
+			}
+		);
+	}
+
+	@Nonnull
+	@Override
+	public Set<HttpMethod> getSupportedHttpMethods() {
+		return Set.of(HttpMethod.GET);
+	}
+
+	@Nonnull
+	@Override
+	public LinkedHashSet<String> getSupportedResponseContentTypes() {
+		return DEFAULT_SUPPORTED_CONTENT_TYPES;
+	}
+
+	@Nonnull
+	@Override
+	protected Object convertResultIntoSerializableObject(@Nonnull RestEndpointExecutionContext exchange, @Nonnull Object footprint) {
+		// Collection<IndexMemoryFootprint>
+		Assert.isPremiseValid(
+			footprint instanceof Collection,
+			() -> new RestInternalError("Expected collection of index memory footprints, but got `" + footprint.getClass().getName() + "`.")
+		);
+		//noinspection unchecked
+		return this.indexMemoryFootprintJsonSerializer.serialize((Collection<IndexMemoryFootprint>) footprint);
+	}
+}
@@ -0,0 +1,73 @@
+/*
+ *
+ *                         _ _        ____  ____
+ *               _____   _(_) |_ __ _|  _ \| __ )
+ *              / _ \ \ / / | __/ _` | | | |  _ \
+ *             |  __/\ V /| | || (_| | |_| | |_) |
+ *              \___| \_/ |_|\__\__,_|____/|____/
+ *
+ *   Copyright (c) 2026
+ *
+ *   Licensed under the Business Source License, Version 1.1 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://github.com/FgForrest/evitaDB/blob/master/LICENSE
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.evitadb.externalApi.rest.api.system.resolver.serializer;
+
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.evitadb.api.observability.IndexMemoryFootprint;
+import io.evitadb.externalApi.api.system.model.IndexMemoryFootprintDescriptor;
+import io.evitadb.externalApi.rest.api.resolver.serializer.ObjectJsonSerializer;
+import io.evitadb.externalApi.rest.io.RestHandlingContext;
+
+import javax.annotation.Nonnull;
+import java.util.Collection;
+
+/**
+ * Handles serializing of {@link IndexMemoryFootprint} into JSON structure
+ *
+ * @author Lukáš Hornych, FG Forrest a.s. (c) 2026
+ */
+public class IndexMemoryFootprintJsonSerializer {
+
+	private final ObjectJsonSerializer objectJsonSerializer;
+
+	public IndexMemoryFootprintJsonSerializer(@Nonnull RestHandlingContext restHandlingContext) {
+		this.objectJsonSerializer = new ObjectJsonSerializer(restHandlingContext.getObjectMapper());
+	}
+
+	@Nonnull
+	public ArrayNode serialize(@Nonnull Collection<IndexMemoryFootprint> footprints) {
+		final ArrayNode arrayNode = this.objectJsonSerializer.arrayNode();
+		footprints.forEach(it -> arrayNode.add(serialize(it)));
+
+		return arrayNode;
+	}
+
+	@Nonnull
+	public ObjectNode serialize(@Nonnull IndexMemoryFootprint footprint) {
+		final ObjectNode rootNode = this.objectJsonSerializer.objectNode();
+		rootNode.putIfAbsent(IndexMemoryFootprintDescriptor.ENTITY_TYPE.name(), this.objectJsonSerializer.serializeObject(footprint.entityType()));
+		if (footprint.referenceName() != null) {
+			rootNode.putIfAbsent(IndexMemoryFootprintDescriptor.REFERENCE_NAME.name(), this.objectJsonSerializer.serializeObject(footprint.referenceName()));
+		}
+		if (footprint.attributeName() != null) {
+			rootNode.putIfAbsent(IndexMemoryFootprintDescriptor.ATTRIBUTE_NAME.name(), this.objectJsonSerializer.serializeObject(footprint.attributeName()));
+		}
+		rootNode.putIfAbsent(IndexMemoryFootprintDescriptor.STRUCTURE.name(), this.objectJsonSerializer.serializeObject(footprint.structure().name()));
+		rootNode.putIfAbsent(IndexMemoryFootprintDescriptor.INDEX_COUNT.name(), this.objectJsonSerializer.serializeObject(footprint.indexCount()));
+		rootNode.putIfAbsent(IndexMemoryFootprintDescriptor.SIZE_IN_BYTES.name(), this.objectJsonSerializer.serializeObject(footprint.sizeInBytes()));
+
+		return rootNode;
+	}
+}
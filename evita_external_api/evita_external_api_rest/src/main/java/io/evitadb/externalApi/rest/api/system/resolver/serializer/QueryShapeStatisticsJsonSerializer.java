@@ -0,0 +1,77 @@
+/*
+ *
+ *                         _ _        ____  ____
+ *               _____   _(_) |_ __ _|  _ \| __ )
+ *              / _ \ \ / / | __/ _` | | | |  _ \
+ *             |  __/\ V /| | || (_| | |_| | |_) |
+ *              \___| \_/ |_|\__\__,_|____/|____/
+ *
+ *   Copyright (c) 2026
+ *
+ *   Licensed under the Business Source License, Version 1.1 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://github.com/FgForrest/evitaDB/blob/master/LICENSE
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.evitadb.externalApi.rest.api.system.resolver.serializer;
+
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.evitadb.api.observability.QueryShapeStatistics;
+import io.evitadb.externalApi.api.system.model.QueryShapeStatisticsDescriptor;
+import io.evitadb.externalApi.rest.api.resolver.serializer.ObjectJsonSerializer;
+import io.evitadb.externalApi.rest.io.RestHandlingContext;
+
+import javax.annotation.Nonnull;
+import java.util.Collection;
+
+/**
+ * Handles serializing of {@link QueryShapeStatistics} into JSON structure
+ *
+ * @author Lukáš Hornych, FG Forrest a.s. (c) 2026
+ */
+public class QueryShapeStatisticsJsonSerializer {
+
+	private final ObjectJsonSerializer objectJsonSerializer;
+
+	public QueryShapeStatisticsJsonSerializer(@Nonnull RestHandlingContext restHandlingContext) {
+		this.objectJsonSerializer = new ObjectJsonSerializer(restHandlingContext.getObjectMapper());
+	}
+
+	@Nonnull
+	public ArrayNode serialize(@Nonnull Collection<QueryShapeStatistics> statistics) {
+		final ArrayNode arrayNode = this.objectJsonSerializer.arrayNode();
+		statistics.forEach(it -> arrayNode.add(serialize(it)));
+
+		return arrayNode;
+	}
+
+	@Nonnull
+	public ObjectNode serialize(@Nonnull QueryShapeStatistics statistics) {
+		final ObjectNode rootNode = this.objectJsonSerializer.objectNode();
+		rootNode.putIfAbsent(QueryShapeStatisticsDescriptor.FINGERPRINT.name(), this.objectJsonSerializer.serializeObject(statistics.fingerprint()));
+		if (statistics.entityType() != null) {
+			rootNode.putIfAbsent(QueryShapeStatisticsDescriptor.ENTITY_TYPE.name(), this.objectJsonSerializer.serializeObject(statistics.entityType()));
+		}
+		rootNode.putIfAbsent(QueryShapeStatisticsDescriptor.SHAPE.name(), this.objectJsonSerializer.serializeObject(statistics.shape()));
+		rootNode.putIfAbsent(QueryShapeStatisticsDescriptor.CALL_COUNT.name(), this.objectJsonSerializer.serializeObject(statistics.callCount()));
+		rootNode.putIfAbsent(QueryShapeStatisticsDescriptor.TOTAL_DURATION_IN_MICROSECONDS.name(), this.objectJsonSerializer.serializeObject(statistics.totalDurationInMicroseconds()));
+		rootNode.putIfAbsent(QueryShapeStatisticsDescriptor.MEAN_DURATION_IN_MICROSECONDS.name(), this.objectJsonSerializer.serializeObject(statistics.meanDurationInMicroseconds()));
+		rootNode.putIfAbsent(QueryShapeStatisticsDescriptor.P99_DURATION_IN_MICROSECONDS.name(), this.objectJsonSerializer.serializeObject(statistics.p99DurationInMicroseconds()));
+		rootNode.putIfAbsent(QueryShapeStatisticsDescriptor.MAX_DURATION_IN_MICROSECONDS.name(), this.objectJsonSerializer.serializeObject(statistics.maxDurationInMicroseconds()));
+		rootNode.putIfAbsent(QueryShapeStatisticsDescriptor.RECORDS_SCANNED.name(), this.objectJsonSerializer.serializeObject(statistics.recordsScanned()));
+		rootNode.putIfAbsent(QueryShapeStatisticsDescriptor.RECORDS_RETURNED.name(), this.objectJsonSerializer.serializeObject(statistics.recordsReturned()));
+		rootNode.putIfAbsent(QueryShapeStatisticsDescriptor.IO_FETCH_COUNT.name(), this.objectJsonSerializer.serializeObject(statistics.ioFetchCount()));
+		rootNode.putIfAbsent(QueryShapeStatisticsDescriptor.IO_FETCHED_SIZE_BYTES.name(), this.objectJsonSerializer.serializeObject(statistics.ioFetchedSizeBytes()));
+
+		return rootNode;
+	}
+}
@@ -0,0 +1,224 @@
+/*
+ *
+ *                         _ _        ____  ____
+ *               _____   _(_) |_ __ _|  _ \| __ )
+ *              / _ \ \ / / | __/ _` | | | |  _ \
+ *             |  __/\ V /| | || (_| | |_| | |_) |
+ *              \___| \_/ |_|\__\__,_|____/|____/
+ *
+ *   Copyright (c) 2026
+ *
+ *   Licensed under the Business Source License, Version 1.1 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://github.com/FgForrest/evitaDB/blob/master/LICENSE
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.evitadb.api.query.visitor;
+
+import io.evitadb.api.query.AttributeConstraint;
+import io.evitadb.api.query.BaseConstraint;
+import io.evitadb.api.query.Constraint;
+import io.evitadb.api.query.ConstraintContainer;
+import io.evitadb.api.query.ConstraintContainerWithSuffix;
+import io.evitadb.api.query.ConstraintVisitor;
+import io.evitadb.api.query.ConstraintWithDefaults;
+import io.evitadb.api.query.ConstraintWithSuffix;
+import io.evitadb.api.query.FacetConstraint;
+import io.evitadb.api.query.HierarchyConstraint;
+import io.evitadb.api.query.Query;
+import io.evitadb.api.query.ReferenceConstraint;
+import io.evitadb.api.query.head.Collection;
+import io.evitadb.utils.ArrayUtils;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.NotThreadSafe;
+import java.io.Serializable;
+
+import static io.evitadb.api.query.Constraint.ARG_CLOSING;
+import static io.evitadb.api.query.Constraint.ARG_OPENING;
+import static java.util.Optional.ofNullable;
+
+/**
+ * This visitor converts {@link Query} to its shape - a compact string that keeps the structure of the query but
+ * abstracts from the concrete values used in it. Queries that differ only in the filtered values, page numbers and
+ * similar parameters share the same shape and can be aggregated together, for example when latencies of the queries
+ * are compared.
+ *
+ * The shape keeps:
+ *
+ * - names of all constraints in their original nesting
+ * - the entity type of the queried collection
+ * - names of the attributes, references, hierarchies and facets the constraints target
+ * - enum arguments (such as order direction or special attribute values), which usually change the way the query
+ *   is evaluated
+ *
+ * All other arguments are replaced with `?` placeholder and consecutive placeholders are collapsed into a single one,
+ * so that variable-length argument lists (e.g. `entityPrimaryKeyInSet(1, 2, 3)`) produce the same shape regardless
+ * of their length.
+ *
+ * Example: `query(collection('product'),filterBy(attributeEquals('code',?)),require(page(?)))`
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+@NotThreadSafe
+public class QueryShapeVisitor implements ConstraintVisitor {
+	/**
+	 * Placeholder used for abstracted argument values.
+	 */
+	private static final char PLACEHOLDER = '?';
+	/**
+	 * Contains the printed shape of the input constraint.
+	 */
+	private final StringBuilder result = new StringBuilder(128);
+
+	/**
+	 * Converts `query` to its shape.
+	 *
+	 * @param query input query
+	 * @return shape of the query
+	 */
+	@Nonnull
+	public static String toShape(@Nonnull Query query) {
+		final QueryShapeVisitor visitor = new QueryShapeVisitor();
+		visitor.traverse(query);
+		return visitor.getResult();
+	}
+
+	/**
+	 * Converts `constraint` to its shape.
+	 *
+	 * @param constraint input constraint
+	 * @return shape of the constraint
+	 */
+	@Nonnull
+	public static String toShape(@Nonnull Constraint<?> constraint) {
+		final QueryShapeVisitor visitor = new QueryShapeVisitor();
+		constraint.accept(visitor);
+		return visitor.getResult();
+	}
+
+	private QueryShapeVisitor() {
+	}
+
+	/**
+	 * Traverses and prints the shape of the entire query.
+	 */
+	public void traverse(@Nonnull Query query) {
+		this.result.append("query").append(ARG_OPENING);
+		final int start = this.result.length();
+		ofNullable(query.getCollection()).ifPresent(this::visitPart);
+		ofNullable(query.getFilterBy()).ifPresent(this::visitPart);
+		ofNullable(query.getOrderBy()).ifPresent(this::visitPart);
+		ofNullable(query.getRequire()).ifPresent(this::visitPart);
+		if (this.result.length() > start) {
+			this.result.setLength(this.result.length() - 1);
+		}
+		this.result.append(ARG_CLOSING);
+	}
+
+	@Override
+	public void visit(@Nonnull Constraint<?> constraint) {
+		this.result.append(constraint.getName()).append(ARG_OPENING);
+		final int start = this.result.length();
+
+		printArguments(constraint);
+
+		if (constraint instanceof ConstraintContainer<?> container) {
+			for (Constraint<?> additionalChild : container.getExplicitAdditionalChildren()) {
+				if (!(container instanceof ConstraintContainerWithSuffix ccws && ccws.isAdditionalChildImplicitForSuffix(additionalChild))) {
+					additionalChild.accept(this);
+					this.result.append(',');
+				}
+			}
+			for (Constraint<?> child : container.getExplicitChildren()) {
+				if (!(container instanceof ConstraintContainerWithSuffix ccws && ccws.isChildImplicitForSuffix(child))) {
+					child.accept(this);
+					this.result.append(',');
+				}
+			}
+		}
+
+		if (this.result.length() > start) {
+			// remove trailing separator
+			this.result.setLength(this.result.length() - 1);
+		}
+		this.result.append(ARG_CLOSING);
+	}
+
+	/**
+	 * Returns the printed shape.
+	 */
+	@Nonnull
+	public String getResult() {
+		return this.result.toString();
+	}
+
+	/*
+		PRIVATE METHODS
+	 */
+
+	/**
+	 * Prints a top-level part of the query followed by a separator.
+	 */
+	private void visitPart(@Nonnull Constraint<?> part) {
+		part.accept(this);
+		this.result.append(',');
+	}
+
+	/**
+	 * Prints the arguments of the constraint, each followed by a separator. Values are replaced by placeholders
+	 * except for classifiers and enums.
+	 */
+	private void printArguments(@Nonnull Constraint<?> constraint) {
+		final Serializable[] arguments = (constraint instanceof ConstraintWithDefaults<?> constraintWithDefaults)
+			? constraintWithDefaults.getArgumentsExcludingDefaults()
+			: constraint.getArguments();
+		final String[] classifiers = getClassifiers(constraint, arguments);
+		boolean lastWasPlaceholder = false;
+		for (int i = 0; i < arguments.length; i++) {
+			final Serializable argument = arguments[i];
+			if (constraint instanceof ConstraintWithSuffix cws && cws.isArgumentImplicitForSuffix(i, argument)) {
+				continue;
+			}
+			if (argument instanceof Enum<?> || (argument instanceof String theString && ArrayUtils.contains(classifiers, theString))) {
+				this.result.append(BaseConstraint.convertToString(argument)).append(',');
+				lastWasPlaceholder = false;
+			} else if (!lastWasPlaceholder) {
+				this.result.append(PLACEHOLDER).append(',');
+				lastWasPlaceholder = true;
+			}
+		}
+	}
+
+	/**
+	 * Returns the string arguments of the constraint that identify the data the constraint targets and thus represent
+	 * a part of the query shape.
+	 */
+	@Nonnull
+	private static String[] getClassifiers(@Nonnull Constraint<?> constraint, @Nonnull Serializable[] arguments) {
+		if (constraint instanceof Collection collection) {
+			return new String[]{collection.getEntityType()};
+		} else if (constraint instanceof AttributeConstraint<?> attributeConstraint) {
+			return attributeConstraint.getAttributeNames();
+		} else if (
+			constraint instanceof ReferenceConstraint<?> ||
+				constraint instanceof HierarchyConstraint<?> ||
+				constraint instanceof FacetConstraint<?>
+		) {
+			// the name of the reference (or the output name of the hierarchy) is always the first argument
+			final String firstString = arguments.length > 0 && arguments[0] instanceof String theString ? theString : null;
+			return firstString == null ? new String[0] : new String[]{firstString};
+		} else {
+			return new String[0];
+		}
+	}
+
+}
@@ -250,7 +250,7 @@ public final class ArrayContainer extends Container implements Cloneable {
 		final int desiredCapacity = Math.min(value1.getCardinality(), value2.getCardinality());
 		ArrayContainer answer = new ArrayContainer(desiredCapacity);
 		answer.cardinality =
-			Util.unsignedIntersect2by2(
+			ContainerKernels.intersect(
 				value1.content,
 				value1.getCardinality(),
 				value2.content,
@@ -284,7 +284,7 @@ public final class ArrayContainer extends Container implements Cloneable {
 	 */
 	@Override
 	public int andCardinality(@Nonnull final ArrayContainer value2) {
-		return Util.unsignedLocalIntersect2by2Cardinality(
+		return ContainerKernels.intersectCardinality(
 			this.content, this.cardinality, value2.content, value2.getCardinality());
 	}
 
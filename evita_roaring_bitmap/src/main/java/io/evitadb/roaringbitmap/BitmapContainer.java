@@ -222,9 +222,7 @@ public final class BitmapContainer extends Container implements Cloneable {
 		int newCardinality = andCardinality(value2);
 		if (newCardinality > ArrayContainer.DEFAULT_MAX_SIZE) {
 			final BitmapContainer answer = new BitmapContainer();
-			for (int k = 0; k < answer.bitmap.length; ++k) {
-				answer.bitmap[k] = this.bitmap[k] & value2.bitmap[k];
-			}
+			ContainerKernels.and(this.bitmap, value2.bitmap, answer.bitmap);
 			answer.cardinality = newCardinality;
 			return answer;
 		}
@@ -271,11 +269,7 @@ public final class BitmapContainer extends Container implements Cloneable {
 	 */
 	@Override
 	public int andCardinality(@Nonnull final BitmapContainer value2) {
-		int newCardinality = 0;
-		for (int k = 0; k < this.bitmap.length; ++k) {
-			newCardinality += Long.bitCount(this.bitmap[k] & value2.bitmap[k]);
-		}
-		return newCardinality;
+		return ContainerKernels.andCardinality(this.bitmap, value2.bitmap);
 	}
 
 	/**
@@ -326,15 +320,10 @@ public final class BitmapContainer extends Container implements Cloneable {
 	@Nonnull
 	@Override
 	public Container andNot(@Nonnull final BitmapContainer value2) {
-		int newCardinality = 0;
-		for (int k = 0; k < this.bitmap.length; ++k) {
-			newCardinality += Long.bitCount(this.bitmap[k] & (~value2.bitmap[k]));
-		}
+		final int newCardinality = ContainerKernels.andNotCardinality(this.bitmap, value2.bitmap);
 		if (newCardinality > ArrayContainer.DEFAULT_MAX_SIZE) {
 			final BitmapContainer answer = new BitmapContainer();
-			for (int k = 0; k < answer.bitmap.length; ++k) {
-				answer.bitmap[k] = this.bitmap[k] & (~value2.bitmap[k]);
-			}
+			ContainerKernels.andNot(this.bitmap, value2.bitmap, answer.bitmap);
 			answer.cardinality = newCardinality;
 			return answer;
 		}
@@ -1575,8 +1564,12 @@ public final class BitmapContainer extends Container implements Cloneable {
 	@Nonnull
 	@Override
 	public Container or(@Nonnull final BitmapContainer value2) {
-		BitmapContainer value1 = this.clone();
-		return value1.ior(value2);
+		final BitmapContainer answer = new BitmapContainer();
+		answer.cardinality = ContainerKernels.or(this.bitmap, value2.bitmap, answer.bitmap);
+		if (answer.isFull()) {
+			return RunContainer.full();
+		}
+		return answer;
 	}
 
 	/**
@@ -0,0 +1,92 @@
+/*
+ * (c) the authors Licensed under the Apache License, Version 2.0.
+ */
+
+package io.evitadb.roaringbitmap;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Entry point of the hottest container kernels - the word-wise `and` / `andNot` / `or` and popcount loops of
+ * {@link BitmapContainer} and the sorted-array intersection of {@link ArrayContainer}.
+ *
+ * This is the baseline (Java 17) variant that always uses the portable {@link ScalarContainerKernels}. The module jar
+ * is multi-release: on Java 21+ the class is replaced by the `META-INF/versions/21` variant, which routes the calls to
+ * SIMD implementations built on the Vector API whenever the `jdk.incubator.vector` module is resolved
+ * (`--add-modules jdk.incubator.vector`), and falls back to the very same scalar kernels otherwise. Both variants share
+ * this exact signature set.
+ */
+final class ContainerKernels {
+
+	private ContainerKernels() {
+		// static utility
+	}
+
+	/**
+	 * Returns `true` when the kernels are executed by the vectorized implementation.
+	 *
+	 * @return always `false` in the baseline variant
+	 */
+	static boolean isVectorized() {
+		return false;
+	}
+
+	/**
+	 * Counts bits set in both `a` and `b`.
+	 */
+	static int andCardinality(@Nonnull final long[] a, @Nonnull final long[] b) {
+		return ScalarContainerKernels.andCardinality(a, b);
+	}
+
+	/**
+	 * Writes `a & b` word by word into `out`.
+	 */
+	static void and(@Nonnull final long[] a, @Nonnull final long[] b, @Nonnull final long[] out) {
+		ScalarContainerKernels.and(a, b, out);
+	}
+
+	/**
+	 * Counts bits set in `a` but not in `b`.
+	 */
+	static int andNotCardinality(@Nonnull final long[] a, @Nonnull final long[] b) {
+		return ScalarContainerKernels.andNotCardinality(a, b);
+	}
+
+	/**
+	 * Writes `a & ~b` word by word into `out`.
+	 */
+	static void andNot(@Nonnull final long[] a, @Nonnull final long[] b, @Nonnull final long[] out) {
+		ScalarContainerKernels.andNot(a, b, out);
+	}
+
+	/**
+	 * Writes `a | b` word by word into `out` and returns the number of bits set in the result.
+	 */
+	static int or(@Nonnull final long[] a, @Nonnull final long[] b, @Nonnull final long[] out) {
+		return ScalarContainerKernels.or(a, b, out);
+	}
+
+	/**
+	 * Intersects two unsigned-ascending sorted arrays into `buffer`.
+	 *
+	 * @return number of values written to `buffer`
+	 */
+	static int intersect(
+		@Nonnull final char[] set1, final int length1,
+		@Nonnull final char[] set2, final int length2,
+		@Nonnull final char[] buffer
+	) {
+		return ScalarContainerKernels.intersect(set1, length1, set2, length2, buffer);
+	}
+
+	/**
+	 * Counts values shared by two unsigned-ascending sorted arrays.
+	 */
+	static int intersectCardinality(
+		@Nonnull final char[] set1, final int length1,
+		@Nonnull final char[] set2, final int length2
+	) {
+		return ScalarContainerKernels.intersectCardinality(set1, length1, set2, length2);
+	}
+
+}
@@ -0,0 +1,101 @@
+/*
+ * (c) the authors Licensed under the Apache License, Version 2.0.
+ */
+
+package io.evitadb.roaringbitmap;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Portable scalar implementations of the hottest container kernels - the word-wise bitmap operations of
+ * {@link BitmapContainer} and the sorted-array intersection of {@link ArrayContainer}. They are always reached through
+ * {@link ContainerKernels}, which may route the calls to a vectorized implementation instead, and they stay the
+ * reference the vectorized variants must produce identical results to.
+ *
+ * All word arrays are expected to have the same length ({@link BitmapContainer#MAX_CAPACITY} / 64 words); the output
+ * array may be the same instance as one of the inputs.
+ */
+final class ScalarContainerKernels {
+
+	private ScalarContainerKernels() {
+		// static utility
+	}
+
+	/**
+	 * Counts bits set in both `a` and `b` via `AND`-then-popcount word steps.
+	 */
+	static int andCardinality(@Nonnull final long[] a, @Nonnull final long[] b) {
+		int cardinality = 0;
+		for (int k = 0; k < a.length; ++k) {
+			cardinality += Long.bitCount(a[k] & b[k]);
+		}
+		return cardinality;
+	}
+
+	/**
+	 * Writes `a & b` word by word into `out`.
+	 */
+	static void and(@Nonnull final long[] a, @Nonnull final long[] b, @Nonnull final long[] out) {
+		for (int k = 0; k < a.length; ++k) {
+			out[k] = a[k] & b[k];
+		}
+	}
+
+	/**
+	 * Counts bits set in `a` but not in `b`.
+	 */
+	static int andNotCardinality(@Nonnull final long[] a, @Nonnull final long[] b) {
+		int cardinality = 0;
+		for (int k = 0; k < a.length; ++k) {
+			cardinality += Long.bitCount(a[k] & (~b[k]));
+		}
+		return cardinality;
+	}
+
+	/**
+	 * Writes `a & ~b` word by word into `out`.
+	 */
+	static void andNot(@Nonnull final long[] a, @Nonnull final long[] b, @Nonnull final long[] out) {
+		for (int k = 0; k < a.length; ++k) {
+			out[k] = a[k] & (~b[k]);
+		}
+	}
+
+	/**
+	 * Writes `a | b` word by word into `out` and returns the number of bits set in the result.
+	 */
+	static int or(@Nonnull final long[] a, @Nonnull final long[] b, @Nonnull final long[] out) {
+		int cardinality = 0;
+		for (int k = 0; k < a.length; ++k) {
+			final long word = a[k] | b[k];
+			out[k] = word;
+			cardinality += Long.bitCount(word);
+		}
+		return cardinality;
+	}
+
+	/**
+	 * Intersects two unsigned-ascending sorted arrays into `buffer`; see {@link Util#unsignedIntersect2by2}.
+	 *
+	 * @return number of values written to `buffer`
+	 */
+	static int intersect(
+		@Nonnull final char[] set1, final int length1,
+		@Nonnull final char[] set2, final int length2,
+		@Nonnull final char[] buffer
+	) {
+		return Util.unsignedIntersect2by2(set1, length1, set2, length2, buffer);
+	}
+
+	/**
+	 * Counts values shared by two unsigned-ascending sorted arrays; see
+	 * {@link Util#unsignedLocalIntersect2by2Cardinality}.
+	 */
+	static int intersectCardinality(
+		@Nonnull final char[] set1, final int length1,
+		@Nonnull final char[] set2, final int length2
+	) {
+		return Util.unsignedLocalIntersect2by2Cardinality(set1, length1, set2, length2);
+	}
+
+}
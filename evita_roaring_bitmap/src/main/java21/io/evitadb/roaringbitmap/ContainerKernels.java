@@ -0,0 +1,139 @@
+/*
+ * (c) the authors Licensed under the Apache License, Version 2.0.
+ */
+
+package io.evitadb.roaringbitmap;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Entry point of the hottest container kernels - the word-wise `and` / `andNot` / `or` and popcount loops of
+ * {@link BitmapContainer} and the sorted-array intersection of {@link ArrayContainer}.
+ *
+ * This is the Java 21+ variant packaged in `META-INF/versions/21` of the multi-release jar. It routes the calls to
+ * {@link VectorizedContainerKernels} when the Vector API is usable - the `jdk.incubator.vector` module must be resolved
+ * (`--add-modules jdk.incubator.vector`) and the preferred vector shape must hold more than one lane - and to
+ * the portable {@link ScalarContainerKernels} otherwise. The decision is made once, when the class is initialized;
+ * the vectorized path can be switched off explicitly by the `evitadb.roaringbitmap.vectorization=false` system
+ * property (e.g. to compare both paths in benchmarks).
+ */
+final class ContainerKernels {
+	/**
+	 * System property that allows to disable the vectorized kernels even when the Vector API is available.
+	 */
+	static final String VECTORIZATION_PROPERTY = "evitadb.roaringbitmap.vectorization";
+	/**
+	 * Name of the module providing the Vector API.
+	 */
+	private static final String VECTOR_MODULE = "jdk.incubator.vector";
+	/**
+	 * Whether the kernels are routed to {@link VectorizedContainerKernels}.
+	 */
+	private static final boolean VECTORIZED = isVectorApiUsable();
+
+	private ContainerKernels() {
+		// static utility
+	}
+
+	/**
+	 * Returns `true` when the kernels are executed by the vectorized implementation.
+	 *
+	 * @return `true` if the Vector API is available and enabled
+	 */
+	static boolean isVectorized() {
+		return VECTORIZED;
+	}
+
+	/**
+	 * Counts bits set in both `a` and `b`.
+	 */
+	static int andCardinality(@Nonnull final long[] a, @Nonnull final long[] b) {
+		return VECTORIZED ?
+			VectorizedContainerKernels.andCardinality(a, b) : ScalarContainerKernels.andCardinality(a, b);
+	}
+
+	/**
+	 * Writes `a & b` word by word into `out`.
+	 */
+	static void and(@Nonnull final long[] a, @Nonnull final long[] b, @Nonnull final long[] out) {
+		if (VECTORIZED) {
+			VectorizedContainerKernels.and(a, b, out);
+		} else {
+			ScalarContainerKernels.and(a, b, out);
+		}
+	}
+
+	/**
+	 * Counts bits set in `a` but not in `b`.
+	 */
+	static int andNotCardinality(@Nonnull final long[] a, @Nonnull final long[] b) {
+		return VECTORIZED ?
+			VectorizedContainerKernels.andNotCardinality(a, b) : ScalarContainerKernels.andNotCardinality(a, b);
+	}
+
+	/**
+	 * Writes `a & ~b` word by word into `out`.
+	 */
+	static void andNot(@Nonnull final long[] a, @Nonnull final long[] b, @Nonnull final long[] out) {
+		if (VECTORIZED) {
+			VectorizedContainerKernels.andNot(a, b, out);
+		} else {
+			ScalarContainerKernels.andNot(a, b, out);
+		}
+	}
+
+	/**
+	 * Writes `a | b` word by word into `out` and returns the number of bits set in the result.
+	 */
+	static int or(@Nonnull final long[] a, @Nonnull final long[] b, @Nonnull final long[] out) {
+		return VECTORIZED ?
+			VectorizedContainerKernels.or(a, b, out) : ScalarContainerKernels.or(a, b, out);
+	}
+
+	/**
+	 * Intersects two unsigned-ascending sorted arrays into `buffer`.
+	 *
+	 * @return number of values written to `buffer`
+	 */
+	static int intersect(
+		@Nonnull final char[] set1, final int length1,
+		@Nonnull final char[] set2, final int length2,
+		@Nonnull final char[] buffer
+	) {
+		return VECTORIZED ?
+			VectorizedContainerKernels.intersect(set1, length1, set2, length2, buffer) :
+			ScalarContainerKernels.intersect(set1, length1, set2, length2, buffer);
+	}
+
+	/**
+	 * Counts values shared by two unsigned-ascending sorted arrays.
+	 */
+	static int intersectCardinality(
+		@Nonnull final char[] set1, final int length1,
+		@Nonnull final char[] set2, final int length2
+	) {
+		return VECTORIZED ?
+			VectorizedContainerKernels.intersectCardinality(set1, length1, set2, length2) :
+			ScalarContainerKernels.intersectCardinality(set1, length1, set2, length2);
+	}
+
+	/**
+	 * Detects whether the Vector API can be used. The module check must precede any access to
+	 * {@link VectorizedContainerKernels}, whose initialization fails with a {@link LinkageError} when the incubator
+	 * module is not part of the boot layer.
+	 */
+	private static boolean isVectorApiUsable() {
+		if (!Boolean.parseBoolean(System.getProperty(VECTORIZATION_PROPERTY, "true"))) {
+			return false;
+		}
+		if (ModuleLayer.boot().findModule(VECTOR_MODULE).isEmpty()) {
+			return false;
+		}
+		try {
+			return VectorizedContainerKernels.isSupported();
+		} catch (LinkageError ex) {
+			return false;
+		}
+	}
+
+}
@@ -0,0 +1,264 @@
+/*
+ * (c) the authors Licensed under the Apache License, Version 2.0.
+ */
+
+package io.evitadb.roaringbitmap;
+
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.ShortVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * SIMD implementations of the {@link ContainerKernels} built on the (incubating) Vector API. The class must only be
+ * touched after {@link ContainerKernels} verified that the `jdk.incubator.vector` module is resolved.
+ *
+ * - bitmap kernels process {@link #LONG_SPECIES} words at a time and count the bits with the lane-wise
+ *   {@link VectorOperators#BIT_COUNT}, accumulating the counts in a vector that is reduced only once at the end
+ * - the array intersection broadcasts each value of the shorter array and compares it with a whole block of
+ *   {@link #SHORT_SPECIES} values of the longer one, so the longer array is scanned block by block instead of value
+ *   by value; equality comparison is sign agnostic, so the unsigned `char` values can be processed as `short` lanes
+ *
+ * Results are identical to {@link ScalarContainerKernels}, which remain the reference implementation.
+ */
+final class VectorizedContainerKernels {
+	/**
+	 * Preferred shape for the bitmap word kernels.
+	 */
+	private static final VectorSpecies<Long> LONG_SPECIES = LongVector.SPECIES_PREFERRED;
+	/**
+	 * Preferred shape for the array value kernels.
+	 */
+	private static final VectorSpecies<Short> SHORT_SPECIES = ShortVector.SPECIES_PREFERRED;
+	/**
+	 * Mirrors the threshold of {@link Util#unsignedIntersect2by2} - for more skewed inputs the one-sided galloping
+	 * intersection beats the block scan.
+	 */
+	private static final int GALLOPING_THRESHOLD = 25;
+
+	private VectorizedContainerKernels() {
+		// static utility
+	}
+
+	/**
+	 * Returns `true` when the preferred vector shapes provide real data parallelism on this platform.
+	 */
+	static boolean isSupported() {
+		return LONG_SPECIES.length() > 1 && SHORT_SPECIES.length() > 1;
+	}
+
+	/**
+	 * Counts bits set in both `a` and `b`.
+	 */
+	static int andCardinality(@Nonnull final long[] a, @Nonnull final long[] b) {
+		final int bound = LONG_SPECIES.loopBound(a.length);
+		LongVector counts = LongVector.zero(LONG_SPECIES);
+		int k = 0;
+		for (; k < bound; k += LONG_SPECIES.length()) {
+			final LongVector words = LongVector.fromArray(LONG_SPECIES, a, k)
+				.and(LongVector.fromArray(LONG_SPECIES, b, k));
+			counts = counts.add(words.lanewise(VectorOperators.BIT_COUNT));
+		}
+		int cardinality = (int) counts.reduceLanes(VectorOperators.ADD);
+		for (; k < a.length; ++k) {
+			cardinality += Long.bitCount(a[k] & b[k]);
+		}
+		return cardinality;
+	}
+
+	/**
+	 * Writes `a & b` word by word into `out`.
+	 */
+	static void and(@Nonnull final long[] a, @Nonnull final long[] b, @Nonnull final long[] out) {
+		final int bound = LONG_SPECIES.loopBound(a.length);
+		int k = 0;
+		for (; k < bound; k += LONG_SPECIES.length()) {
+			LongVector.fromArray(LONG_SPECIES, a, k)
+				.and(LongVector.fromArray(LONG_SPECIES, b, k))
+				.intoArray(out, k);
+		}
+		for (; k < a.length; ++k) {
+			out[k] = a[k] & b[k];
+		}
+	}
+
+	/**
+	 * Counts bits set in `a` but not in `b`.
+	 */
+	static int andNotCardinality(@Nonnull final long[] a, @Nonnull final long[] b) {
+		final int bound = LONG_SPECIES.loopBound(a.length);
+		LongVector counts = LongVector.zero(LONG_SPECIES);
+		int k = 0;
+		for (; k < bound; k += LONG_SPECIES.length()) {
+			final LongVector words = LongVector.fromArray(LONG_SPECIES, a, k)
+				.lanewise(VectorOperators.AND_NOT, LongVector.fromArray(LONG_SPECIES, b, k));
+			counts = counts.add(words.lanewise(VectorOperators.BIT_COUNT));
+		}
+		int cardinality = (int) counts.reduceLanes(VectorOperators.ADD);
+		for (; k < a.length; ++k) {
+			cardinality += Long.bitCount(a[k] & (~b[k]));
+		}
+		return cardinality;
+	}
+
+	/**
+	 * Writes `a & ~b` word by word into `out`.
+	 */
+	static void andNot(@Nonnull final long[] a, @Nonnull final long[] b, @Nonnull final long[] out) {
+		final int bound = LONG_SPECIES.loopBound(a.length);
+		int k = 0;
+		for (; k < bound; k += LONG_SPECIES.length()) {
+			LongVector.fromArray(LONG_SPECIES, a, k)
+				.lanewise(VectorOperators.AND_NOT, LongVector.fromArray(LONG_SPECIES, b, k))
+				.intoArray(out, k);
+		}
+		for (; k < a.length; ++k) {
+			out[k] = a[k] & (~b[k]);
+		}
+	}
+
+	/**
+	 * Writes `a | b` word by word into `out` and returns the number of bits set in the result.
+	 */
+	static int or(@Nonnull final long[] a, @Nonnull final long[] b, @Nonnull final long[] out) {
+		final int bound = LONG_SPECIES.loopBound(a.length);
+		LongVector counts = LongVector.zero(LONG_SPECIES);
+		int k = 0;
+		for (; k < bound; k += LONG_SPECIES.length()) {
+			final LongVector words = LongVector.fromArray(LONG_SPECIES, a, k)
+				.or(LongVector.fromArray(LONG_SPECIES, b, k));
+			words.intoArray(out, k);
+			counts = counts.add(words.lanewise(VectorOperators.BIT_COUNT));
+		}
+		int cardinality = (int) counts.reduceLanes(VectorOperators.ADD);
+		for (; k < a.length; ++k) {
+			final long word = a[k] | b[k];
+			out[k] = word;
+			cardinality += Long.bitCount(word);
+		}
+		return cardinality;
+	}
+
+	/**
+	 * Intersects two unsigned-ascending sorted arrays into `buffer`. Highly skewed inputs are delegated to the
+	 * galloping intersection of {@link Util#unsignedIntersect2by2}.
+	 *
+	 * @return number of values written to `buffer`
+	 */
+	static int intersect(
+		@Nonnull final char[] set1, final int length1,
+		@Nonnull final char[] set2, final int length2,
+		@Nonnull final char[] buffer
+	) {
+		if (length1 * GALLOPING_THRESHOLD < length2 || length2 * GALLOPING_THRESHOLD < length1) {
+			return Util.unsignedIntersect2by2(set1, length1, set2, length2, buffer);
+		}
+		return length1 <= length2 ?
+			blockIntersect(set1, length1, set2, length2, buffer) :
+			blockIntersect(set2, length2, set1, length1, buffer);
+	}
+
+	/**
+	 * Counts values shared by two unsigned-ascending sorted arrays. Highly skewed inputs are counted by galloping
+	 * through the longer array in the same way {@link Util#unsignedIntersect2by2} intersects them.
+	 */
+	static int intersectCardinality(
+		@Nonnull final char[] set1, final int length1,
+		@Nonnull final char[] set2, final int length2
+	) {
+		if (length1 * GALLOPING_THRESHOLD < length2) {
+			return gallopingIntersectCardinality(set1, length1, set2, length2);
+		} else if (length2 * GALLOPING_THRESHOLD < length1) {
+			return gallopingIntersectCardinality(set2, length2, set1, length1);
+		}
+		return length1 <= length2 ?
+			blockIntersect(set1, length1, set2, length2, null) :
+			blockIntersect(set2, length2, set1, length1, null);
+	}
+
+	/**
+	 * Counts values of the `smaller` array present in the `larger` one by advancing through the larger array with
+	 * {@link Util#advanceUntil} - the cardinality counterpart of the one-sided galloping intersection of {@link Util}.
+	 *
+	 * @return number of values in the intersection
+	 */
+	private static int gallopingIntersectCardinality(
+		@Nonnull final char[] smaller, final int smallerLength,
+		@Nonnull final char[] larger, final int largerLength
+	) {
+		if (smallerLength == 0 || largerLength == 0) {
+			return 0;
+		}
+		int count = 0;
+		int j = 0;
+		for (int i = 0; i < smallerLength; i++) {
+			final char value = smaller[i];
+			if (larger[j] < value) {
+				j = Util.advanceUntil(larger, j, largerLength, value);
+				if (j == largerLength) {
+					break;
+				}
+			}
+			if (larger[j] == value) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Intersects the `shorter` array with the `longer` one by comparing each value of the shorter array with a whole
+	 * block of the longer array at once. A block is skipped as soon as its last value is lower than the probed value;
+	 * as both arrays are sorted and free of duplicates, the probed value may only match within the current block.
+	 * The remainder of the longer array that doesn't fill a whole block is processed by a scalar merge.
+	 *
+	 * @param buffer array to write the intersection into, or `null` when only the cardinality is requested
+	 * @return number of values in the intersection
+	 */
+	private static int blockIntersect(
+		@Nonnull final char[] shorter, final int shorterLength,
+		@Nonnull final char[] longer, final int longerLength,
+		@Nullable final char[] buffer
+	) {
+		final int lanes = SHORT_SPECIES.length();
+		int i = 0;
+		int j = 0;
+		int count = 0;
+		while (i < shorterLength && j + lanes <= longerLength) {
+			final char value = shorter[i];
+			if (value > longer[j + lanes - 1]) {
+				j += lanes;
+				continue;
+			}
+			if (ShortVector.fromCharArray(SHORT_SPECIES, longer, j).eq((short) value).anyTrue()) {
+				if (buffer != null) {
+					buffer[count] = value;
+				}
+				count++;
+			}
+			i++;
+		}
+		// scalar merge of the tail that doesn't fill a whole vector
+		while (i < shorterLength && j < longerLength) {
+			final char value = shorter[i];
+			final char other = longer[j];
+			if (value < other) {
+				i++;
+			} else if (value > other) {
+				j++;
+			} else {
+				if (buffer != null) {
+					buffer[count] = value;
+				}
+				count++;
+				i++;
+				j++;
+			}
+		}
+		return count;
+	}
+
+}
@@ -0,0 +1,19 @@
+/*
+ * Vendored subset of RoaringBitmap (Apache-2.0), reshaped for evitaDB.
+ * See the module NOTICE file for attribution and the synced upstream commit.
+ */
+
+/**
+ * evitaDB's vendored, persistent (immutable, structure-sharing) RoaringBitmap.
+ *
+ * Derived from the RoaringBitmap project (https://github.com/RoaringBitmap/RoaringBitmap),
+ * Apache License 2.0. See the LICENSE, AUTHORS and NOTICE files in this module.
+ *
+ * Java 21+ variant of the descriptor: the Vector API is an optional dependency - the vectorized container kernels
+ * are used only when `jdk.incubator.vector` is resolved (`--add-modules jdk.incubator.vector`).
+ */
+module evita.roaringbitmap {
+	requires jsr305;
+	requires static jdk.incubator.vector;
+	exports io.evitadb.roaringbitmap;
+}
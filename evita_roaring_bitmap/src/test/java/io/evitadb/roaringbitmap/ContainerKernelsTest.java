@@ -0,0 +1,160 @@
+package io.evitadb.roaringbitmap;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.TreeSet;
+
+/**
+ * Verifies that {@link ContainerKernels} - whichever implementation it dispatches to on the running JVM - produce
+ * exactly the results of the straightforward word-by-word / merge based computations the containers used before
+ * the kernels were extracted, and that the containers wired to the kernels keep their observable behaviour.
+ */
+@DisplayName("Container kernels")
+public class ContainerKernelsTest {
+
+	private static long[] randomWords(final Random random, final double density) {
+		final long[] words = new long[BitmapContainer.MAX_CAPACITY / 64];
+		for (int i = 0; i < words.length; i++) {
+			long word = 0L;
+			for (int bit = 0; bit < 64; bit++) {
+				if (random.nextDouble() < density) {
+					word |= 1L << bit;
+				}
+			}
+			words[i] = word;
+		}
+		return words;
+	}
+
+	private static char[] randomSortedValues(final Random random, final int count) {
+		final TreeSet<Integer> values = new TreeSet<>();
+		while (values.size() < count) {
+			values.add(random.nextInt(1 << 16));
+		}
+		final char[] result = new char[count];
+		int i = 0;
+		for (Integer value : values) {
+			result[i++] = (char) value.intValue();
+		}
+		return result;
+	}
+
+	@ParameterizedTest(name = "density {0}")
+	@ValueSource(doubles = {0.0, 0.01, 0.3, 0.5, 0.99, 1.0})
+	@DisplayName("bitmap kernels match the word-by-word computation")
+	void shouldMatchWordByWordComputation(final double density) {
+		final Random random = new Random(42 + (long) (density * 100));
+		for (int round = 0; round < 10; round++) {
+			final long[] a = randomWords(random, density);
+			final long[] b = randomWords(random, 1.0 - density / 2);
+
+			final long[] expectedAnd = new long[a.length];
+			final long[] expectedAndNot = new long[a.length];
+			final long[] expectedOr = new long[a.length];
+			int expectedAndCardinality = 0;
+			int expectedAndNotCardinality = 0;
+			int expectedOrCardinality = 0;
+			for (int k = 0; k < a.length; k++) {
+				expectedAnd[k] = a[k] & b[k];
+				expectedAndNot[k] = a[k] & (~b[k]);
+				expectedOr[k] = a[k] | b[k];
+				expectedAndCardinality += Long.bitCount(expectedAnd[k]);
+				expectedAndNotCardinality += Long.bitCount(expectedAndNot[k]);
+				expectedOrCardinality += Long.bitCount(expectedOr[k]);
+			}
+
+			final long[] out = new long[a.length];
+			assertEquals(expectedAndCardinality, ContainerKernels.andCardinality(a, b));
+			ContainerKernels.and(a, b, out);
+			assertArrayEquals(expectedAnd, out);
+			assertEquals(expectedAndNotCardinality, ContainerKernels.andNotCardinality(a, b));
+			ContainerKernels.andNot(a, b, out);
+			assertArrayEquals(expectedAndNot, out);
+			assertEquals(expectedOrCardinality, ContainerKernels.or(a, b, out));
+			assertArrayEquals(expectedOr, out);
+		}
+	}
+
+	@Test
+	@EnabledIfSystemProperty(named = "evitadb.roaringbitmap.vectorization.expected", matches = "true")
+	@DisplayName("vectorized kernels are active when the Vector API is resolved")
+	void shouldDispatchToVectorizedKernels() {
+		assertTrue(ContainerKernels.isVectorized());
+	}
+
+	@ParameterizedTest(name = "{0} vs 4096 values")
+	@ValueSource(ints = {1, 3, 10, 50})
+	@DisplayName("skewed array intersection matches the galloping intersection")
+	void shouldMatchGallopingIntersection(final int count) {
+		final Random random = new Random(count);
+		final char[] a = randomSortedValues(random, count);
+		final char[] b = randomSortedValues(random, 4096);
+		final char[] expected = new char[a.length];
+		final int expectedLength = Util.unsignedIntersect2by2(a, a.length, b, b.length, expected);
+
+		final char[] buffer = new char[a.length];
+		assertEquals(expectedLength, ContainerKernels.intersect(a, a.length, b, b.length, buffer));
+		assertArrayEquals(Arrays.copyOf(expected, expectedLength), Arrays.copyOf(buffer, expectedLength));
+		assertEquals(expectedLength, ContainerKernels.intersectCardinality(a, a.length, b, b.length));
+		assertEquals(expectedLength, ContainerKernels.intersectCardinality(b, b.length, a, a.length));
+	}
+
+	@ParameterizedTest(name = "{0} values")
+	@ValueSource(ints = {0, 1, 7, 31, 64, 500, 4000})
+	@DisplayName("array intersection matches the sorted merge")
+	void shouldMatchSortedMergeIntersection(final int count) {
+		final Random random = new Random(count);
+		for (int otherCount : new int[]{0, 1, 3, count / 2, count, count * 3 + 17}) {
+			final char[] a = randomSortedValues(random, count);
+			final char[] b = randomSortedValues(random, Math.min(otherCount, 4096));
+			final char[] expected = new char[Math.min(a.length, b.length)];
+			final int expectedLength = Util.unsignedIntersect2by2(a, a.length, b, b.length, expected);
+
+			final char[] buffer = new char[Math.min(a.length, b.length)];
+			assertEquals(expectedLength, ContainerKernels.intersect(a, a.length, b, b.length, buffer));
+			assertArrayEquals(expected, buffer);
+			assertEquals(expectedLength, ContainerKernels.intersectCardinality(a, a.length, b, b.length));
+			assertEquals(expectedLength, ContainerKernels.intersectCardinality(b, b.length, a, a.length));
+		}
+	}
+
+	@Test
+	@DisplayName("intersection handles values above the signed short range")
+	void shouldIntersectUnsignedValues() {
+		final char[] a = {1, 5, 32767, 32768, 40000, 65534, 65535};
+		final char[] b = {0, 5, 32768, 40001, 65535};
+		final char[] buffer = new char[5];
+		assertEquals(3, ContainerKernels.intersect(a, a.length, b, b.length, buffer));
+		assertArrayEquals(new char[]{5, 32768, 65535}, Arrays.copyOf(buffer, 3));
+		assertEquals(3, ContainerKernels.intersectCardinality(a, a.length, b, b.length));
+	}
+
+	@Test
+	@DisplayName("bitmap container union saturating all bits turns into a full run container")
+	void shouldReturnFullRunContainerWhenUnionIsFull() {
+		final BitmapContainer lower = new BitmapContainer();
+		final BitmapContainer upper = new BitmapContainer();
+		for (int i = 0; i < (1 << 16); i++) {
+			if (i < (1 << 15)) {
+				lower.add((char) i);
+			} else {
+				upper.add((char) i);
+			}
+		}
+		final Container union = lower.or(upper);
+		assertEquals(RunContainer.full(), union);
+		assertEquals(1 << 15, lower.getCardinality());
+		assertEquals(1 << 15, upper.getCardinality());
+	}
+
+}
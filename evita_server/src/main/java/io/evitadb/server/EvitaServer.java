@@ -36,8 +36,12 @@ import com.fasterxml.jackson.dataformat.yaml.YAMLGenerator.Feature;
 import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
 import io.evitadb.api.configuration.EvitaConfiguration;
 import io.evitadb.api.configuration.ExportOptions;
+import io.evitadb.api.configuration.ReplicaOptions;
 import io.evitadb.api.requestResponse.mutation.conflict.ConflictResolution;
 import io.evitadb.core.Evita;
+import io.evitadb.core.replication.CatalogReplicator;
+import io.evitadb.driver.EvitaClient;
+import io.evitadb.driver.config.EvitaClientConfiguration;
 import io.evitadb.externalApi.configuration.AbstractApiOptions;
 import io.evitadb.externalApi.configuration.ApiOptions;
 import io.evitadb.externalApi.http.ExternalApiProviderRegistrar;
@@ -172,6 +176,14 @@ public class EvitaServer {
 	 * Instance of the web server providing the HTTP endpoints.
 	 */
 	@Getter private ExternalApiServer externalApiServer;
+	/**
+	 * Client connected to the primary server when this server runs as a read-only replica.
+	 */
+	@Nullable private EvitaClient primaryClient;
+	/**
+	 * Replicator keeping the catalogs in sync with the primary server when this server runs as a read-only replica.
+	 */
+	@Nullable private CatalogReplicator replicator;
 	/**
 	 * Reference to a future that is initialized when server is stopped.
 	 */
@@ -662,6 +674,13 @@ public class EvitaServer {
 		);
 		this.evita.management().setConfigurationSupplier(this::serializeConfiguration);
 
+		final ReplicaOptions replicaOptions = this.evitaConfiguration.server().replica();
+		if (replicaOptions.primaryHost() != null) {
+			// replica must catch up with the primary before it starts serving the clients
+			this.evita.loadCatalogsAndWaitUntilFullyInitialized();
+			startReplication(replicaOptions);
+		}
+
 		try {
 			this.externalApiServer.start();
 		} catch (RuntimeException e) {
@@ -671,8 +690,10 @@ public class EvitaServer {
 			getLog().error("Failed to start external APIs.", e);
 		}
 
-		// now schedule catalog loading
-		this.evita.scheduleInitialCatalogLoading();
+		if (this.replicator == null) {
+			// now schedule catalog loading
+			this.evita.scheduleInitialCatalogLoading();
+		}
 	}
 
 	/**
@@ -680,6 +701,7 @@ public class EvitaServer {
 	 */
 	@Nonnull
 	public CompletableFuture<Void> stop() {
+		stopReplication();
 		if (this.stopFuture == null && this.externalApiServer != null) {
 			this.stopFuture = this.externalApiServer.closeAsynchronously()
 				.thenAccept(unused -> ConsoleWriter.write("Server stopped, bye.\n"));
@@ -688,6 +710,46 @@ public class EvitaServer {
 			CompletableFuture.completedFuture(null) : this.stopFuture;
 	}
 
+	/**
+	 * Connects to the primary server, restores the catalogs missing locally from its backups and starts tailing
+	 * its write-ahead log. The evitaDB instance is switched to read-only mode during the bootstrap.
+	 *
+	 * @param replicaOptions the replica configuration
+	 */
+	private void startReplication(@Nonnull ReplicaOptions replicaOptions) {
+		ConsoleWriter.write(
+			"Replicating catalogs from primary server " + replicaOptions.primaryHost() + ":" +
+				replicaOptions.primaryPort() + "\n",
+			ConsoleColor.WHITE
+		);
+		this.primaryClient = new EvitaClient(
+			EvitaClientConfiguration.builder()
+				.clientId("replica-" + this.evitaConfiguration.name())
+				.host(replicaOptions.primaryHost())
+				.port(replicaOptions.primaryPort())
+				.systemApiPort(replicaOptions.primarySystemApiPort())
+				.tlsEnabled(replicaOptions.tlsEnabled())
+				.build()
+		);
+		this.replicator = this.evita.createReplicator(this.primaryClient);
+		this.replicator.bootstrap();
+		this.replicator.start();
+	}
+
+	/**
+	 * Stops tailing the write-ahead log of the primary server and closes the connection to it.
+	 */
+	private void stopReplication() {
+		if (this.replicator != null) {
+			this.replicator.close();
+			this.replicator = null;
+		}
+		if (this.primaryClient != null) {
+			this.primaryClient.close();
+			this.primaryClient = null;
+		}
+	}
+
 	/**
 	 * Method serializes the configuration to a YAML string.
 	 *
@@ -56,6 +56,7 @@ module evita.server {
 	requires evita.common;
 	requires evita.engine;
 	requires evita.external.api.core;
+	requires evita.java.driver;
 	requires ch.qos.logback.classic;
 	requires com.linecorp.armeria;
 }
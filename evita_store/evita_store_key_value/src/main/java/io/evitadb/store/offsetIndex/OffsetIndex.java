@@ -156,7 +156,7 @@ public class OffsetIndex {
 	 * Pool that is usually empty, but may contain large byte arrays that are used as temporary containers during
 	 * decompression of binary records.
 	 */
-	private final Pool<byte[]> decompressionPool;
+	private final StripedObjectPool<byte[]> decompressionPool;
 	/**
 	 * Size of the memory buffer used for write operations, in bytes.
 	 * This buffer size limits the maximum size of individual records that can be written to the offset index.
@@ -414,7 +414,8 @@ public class OffsetIndex {
 					this.totalSizeBytes.set(it.getTotalSizeBytes());
 					this.maxRecordSizeBytes.set(it.getMaxSizeBytes());
 				});
-			this.decompressionPool = new Pool<>(true, false, DECOMPRESSION_ARRAY_POOL_MAXIMUM_CAPACITY) {
+			this.decompressionPool = new StripedObjectPool<>(DECOMPRESSION_ARRAY_POOL_MAXIMUM_CAPACITY) {
+				@Nonnull
 				@Override
 				protected byte[] create() {
 					return new byte[outputBufferSize];
@@ -498,7 +499,8 @@ public class OffsetIndex {
 				this.fileOffsetDescriptor.getReadKryoFactory()
 			);
 			this.writeKryo = this.fileOffsetDescriptor.getWriteKryo();
-			this.decompressionPool = new Pool<>(true, false, DECOMPRESSION_ARRAY_POOL_MAXIMUM_CAPACITY) {
+			this.decompressionPool = new StripedObjectPool<>(DECOMPRESSION_ARRAY_POOL_MAXIMUM_CAPACITY) {
+				@Nonnull
 				@Override
 				protected byte[] create() {
 					return new byte[outputBufferSize];
@@ -568,7 +570,8 @@ public class OffsetIndex {
 			this.fileOffsetDescriptor.getReadKryoFactory()
 		);
 		this.writeKryo = this.fileOffsetDescriptor.getWriteKryo();
-		this.decompressionPool = new Pool<>(true, false, DECOMPRESSION_ARRAY_POOL_MAXIMUM_CAPACITY) {
+		this.decompressionPool = new StripedObjectPool<>(DECOMPRESSION_ARRAY_POOL_MAXIMUM_CAPACITY) {
+			@Nonnull
 			@Override
 			protected byte[] create() {
 				return new byte[outputBufferSize];
@@ -1191,6 +1194,16 @@ public class OffsetIndex {
 			empty();
 	}
 
+	/**
+	 * Returns cumulative statistics of the pool of {@link Kryo} instances used for reading the records.
+	 *
+	 * @return statistics of the read Kryo pool
+	 */
+	@Nonnull
+	public StripedObjectPool.PoolStatistics getReadKryoPoolStatistics() {
+		return this.readKryoPool.getStatistics();
+	}
+
 	/**
 	 * Returns histogram (counts) of particular record types in this index.
 	 *
@@ -2534,20 +2547,22 @@ public class OffsetIndex {
 	}
 
 	/**
-	 * This class is used to safely borrow and return Kryo instances to the pool.
+	 * This class is used to safely borrow and return Kryo instances to the pool. The pool is lock-free and doesn't bind
+	 * the instances to the threads, so that it can be used from many short-lived (virtual) threads - see
+	 * {@link StripedObjectPool} for details.
 	 */
 	@ThreadSafe
-	public static class FileOffsetIndexKryoPool extends Pool<VersionedKryo> {
+	public static class FileOffsetIndexKryoPool extends StripedObjectPool<VersionedKryo> {
 		/**
 		 * Current pool generation - the version counter paired with the factory of the {@link OffsetIndexDescriptor}
 		 * that version belongs to. Held in a single reference so that {@link #create()} can never combine one
-		 * generation's version with another generation's factory, and {@link #free(VersionedKryo)} always compares
+		 * generation's version with another generation's factory, and {@link #accept(VersionedKryo)} always compares
 		 * against a version that actually matches the binding instances were built with.
 		 */
 		private final AtomicReference<Generation> generation;
 
 		public FileOffsetIndexKryoPool(int maxInstancesKept, @Nonnull Function<Long, VersionedKryo> kryoFactory) {
-			super(true, false, maxInstancesKept);
+			super(maxInstancesKept);
 			this.generation = new AtomicReference<>(new Generation(1L, kryoFactory));
 		}
 
@@ -2565,7 +2580,7 @@ public class OffsetIndex {
 
 		/**
 		 * This method will increase version of this pool which makes all previously created {@link VersionedKryo}
-		 * instances obsolete. Borrowed instances will still work but when they are returned back by {@link #free(VersionedKryo)}
+		 * instances obsolete. Borrowed instances will still work but when they are returned back by {@link #free(Object)}
 		 * method they are not accepted back to pool and they are going to be garbage collected. New {@link VersionedKryo}
 		 * instances will be created on their place and these new versions will possibly have new configuration of key
 		 * internal inputs ({@link VersionedKryoKeyInputs}).
@@ -2588,6 +2603,7 @@ public class OffsetIndex {
 		/**
 		 * Creates new instance of {@link VersionedKryo} with current configuration of {@link VersionedKryoKeyInputs}.
 		 */
+		@Nonnull
 		@Override
 		protected VersionedKryo create() {
 			// read the generation exactly once - version and factory must come from the same one
@@ -2596,15 +2612,13 @@ public class OffsetIndex {
 		}
 
 		/**
-		 * Returns borrowed instance back to the pool.
+		 * Accepts the returned instance back to the pool only if it was created by the current generation.
 		 */
 		@Override
-		public void free(VersionedKryo object) {
+		protected boolean accept(@Nonnull VersionedKryo object) {
 			// if object version is the same as actual version, accept it,
 			// otherwise it would be discarded and garbage collected
-			if (object.getVersion() == this.generation.get().version()) {
-				super.free(object);
-			}
+			return object.getVersion() == this.generation.get().version();
 		}
 
 		/**
@@ -0,0 +1,239 @@
+/*
+ *
+ *                         _ _        ____  ____
+ *               _____   _(_) |_ __ _|  _ \| __ )
+ *              / _ \ \ / / | __/ _` | | | |  _ \
+ *             |  __/\ V /| | || (_| | |_| | |_) |
+ *              \___| \_/ |_|\__\__,_|____/|____/
+ *
+ *   Copyright (c) 2026
+ *
+ *   Licensed under the Business Source License, Version 1.1 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://github.com/FgForrest/evitaDB/blob/master/LICENSE
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.evitadb.store.offsetIndex;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.ThreadSafe;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free pool of reusable objects (Kryo instances, byte buffers) that is safe to use from thousands of short-lived
+ * threads, including virtual ones. The pooled objects are kept in a fixed array of slots split into stripes. Each
+ * thread starts looking for a free object (or an empty slot) in the stripe selected by the hash of its thread id and
+ * continues to the other stripes only if its own stripe is exhausted, so that the concurrent threads rarely compete
+ * for the same slot. Nothing is bound to the thread itself - the idle threads don't hold any pooled objects and
+ * the number of kept objects never exceeds the capacity of the pool.
+ *
+ * Only when no stripe has a free object, a new object is created by {@link #create()}, and only when no stripe has
+ * an empty slot, the returned object is discarded and left to the garbage collector. The pool never blocks
+ * the caller.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+@ThreadSafe
+public abstract class StripedObjectPool<T> {
+	/**
+	 * The slots holding the pooled objects, null represents an empty slot.
+	 */
+	private final AtomicReferenceArray<T> slots;
+	/**
+	 * The number of slots in a single stripe.
+	 */
+	private final int slotsPerStripe;
+	/**
+	 * The number of stripes minus one, the number of stripes is always a power of two.
+	 */
+	private final int stripeMask;
+	/**
+	 * Statistics counters.
+	 */
+	private final LongAdder created = new LongAdder();
+	private final LongAdder reused = new LongAdder();
+	private final LongAdder stolen = new LongAdder();
+	private final LongAdder contended = new LongAdder();
+	private final LongAdder discarded = new LongAdder();
+
+	/**
+	 * Selects the stripe for the current thread. The thread id is mixed so that the sequentially assigned ids of
+	 * the threads (virtual threads in particular) spread evenly among the stripes.
+	 */
+	private static int threadHash() {
+		final long threadId = Thread.currentThread().getId();
+		long hash = threadId * 0x9E3779B97F4A7C15L;
+		hash ^= hash >>> 32;
+		return (int) hash;
+	}
+
+	/**
+	 * Creates the pool keeping at most `maximumCapacity` objects (rounded up to the whole stripes).
+	 *
+	 * @param maximumCapacity the maximal number of objects kept in the pool
+	 */
+	protected StripedObjectPool(int maximumCapacity) {
+		final int capacity = Math.max(1, maximumCapacity);
+		final int stripes = Integer.highestOneBit(Math.min(capacity, Runtime.getRuntime().availableProcessors()));
+		this.stripeMask = stripes - 1;
+		this.slotsPerStripe = (capacity + stripes - 1) / stripes;
+		this.slots = new AtomicReferenceArray<>(stripes * this.slotsPerStripe);
+	}
+
+	/**
+	 * Returns an object from the pool or creates a new one if there is no free object in any of the stripes.
+	 * The stripe of the current thread is searched first.
+	 */
+	@Nonnull
+	public T obtain() {
+		final int homeStripe = threadHash() & this.stripeMask;
+		for (int probe = 0; probe <= this.stripeMask; probe++) {
+			final int offset = ((homeStripe + probe) & this.stripeMask) * this.slotsPerStripe;
+			for (int i = 0; i < this.slotsPerStripe; i++) {
+				final T candidate = this.slots.get(offset + i);
+				if (candidate != null) {
+					if (this.slots.compareAndSet(offset + i, candidate, null)) {
+						this.reused.increment();
+						if (probe > 0) {
+							this.stolen.increment();
+						}
+						return candidate;
+					} else {
+						this.contended.increment();
+					}
+				}
+			}
+		}
+		this.created.increment();
+		return create();
+	}
+
+	/**
+	 * Returns the object to the pool. The object is discarded if it's not accepted by {@link #accept(Object)} or
+	 * there is no empty slot in any of the stripes. The stripe of the current thread is searched first.
+	 */
+	public void free(@Nonnull T object) {
+		if (accept(object)) {
+			final int homeStripe = threadHash() & this.stripeMask;
+			for (int probe = 0; probe <= this.stripeMask; probe++) {
+				final int offset = ((homeStripe + probe) & this.stripeMask) * this.slotsPerStripe;
+				for (int i = 0; i < this.slotsPerStripe; i++) {
+					if (this.slots.get(offset + i) == null) {
+						if (this.slots.compareAndSet(offset + i, null, object)) {
+							return;
+						} else {
+							this.contended.increment();
+						}
+					}
+				}
+			}
+		}
+		this.discarded.increment();
+	}
+
+	/**
+	 * Removes all objects from the pool.
+	 */
+	public void clear() {
+		for (int i = 0; i < this.slots.length(); i++) {
+			this.slots.set(i, null);
+		}
+	}
+
+	/**
+	 * Returns the maximal number of objects kept in the pool.
+	 */
+	public int getCapacity() {
+		return this.slots.length();
+	}
+
+	/**
+	 * Returns the number of objects currently kept in the pool. The value is only an estimate when the pool is
+	 * concurrently used.
+	 */
+	public int getFree() {
+		int free = 0;
+		for (int i = 0; i < this.slots.length(); i++) {
+			if (this.slots.get(i) != null) {
+				free++;
+			}
+		}
+		return free;
+	}
+
+	/**
+	 * Returns the cumulative statistics of the pool since its creation.
+	 */
+	@Nonnull
+	public PoolStatistics getStatistics() {
+		return new PoolStatistics(
+			this.created.sum(),
+			this.reused.sum(),
+			this.stolen.sum(),
+			this.contended.sum(),
+			this.discarded.sum()
+		);
+	}
+
+	/**
+	 * Creates a new object when the pool has no free object for the caller.
+	 */
+	@Nonnull
+	protected abstract T create();
+
+	/**
+	 * Decides whether the returned object should be kept in the pool. All objects are accepted by default.
+	 */
+	protected boolean accept(@Nonnull T object) {
+		return true;
+	}
+
+	/**
+	 * Cumulative statistics of the {@link StripedObjectPool}.
+	 *
+	 * @param created   the number of objects created because the pool had no free object in any of its stripes
+	 * @param reused    the number of objects served from the pool
+	 * @param stolen    the number of objects served from a stripe other than the stripe of the caller
+	 * @param contended the number of failed attempts to take or return an object because another thread changed
+	 *                  the same slot concurrently
+	 * @param discarded the number of returned objects that were not kept in the pool because they were not accepted
+	 *                  or the pool was full
+	 */
+	public record PoolStatistics(
+		long created,
+		long reused,
+		long stolen,
+		long contended,
+		long discarded
+	) {
+		/**
+		 * Statistics of the pool that has not been used yet.
+		 */
+		public static final PoolStatistics EMPTY = new PoolStatistics(0L, 0L, 0L, 0L, 0L);
+
+		/**
+		 * Returns the difference of these statistics and the previously observed ones.
+		 */
+		@Nonnull
+		public PoolStatistics minus(@Nonnull PoolStatistics previous) {
+			return new PoolStatistics(
+				this.created - previous.created,
+				this.reused - previous.reused,
+				this.stolen - previous.stolen,
+				this.contended - previous.contended,
+				this.discarded - previous.discarded
+			);
+		}
+
+	}
+
+}
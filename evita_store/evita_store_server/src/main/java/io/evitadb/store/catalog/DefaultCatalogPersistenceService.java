@@ -90,6 +90,7 @@ import io.evitadb.spi.store.catalog.persistence.storageParts.index.GlobalUniqueI
 import io.evitadb.spi.store.catalog.persistence.storageParts.index.GlobalUniqueIndexStoragePart;
 import io.evitadb.spi.store.catalog.persistence.storageParts.index.GlobalUniqueLeafStreamKey;
 import io.evitadb.spi.store.catalog.persistence.storageParts.schema.CatalogSchemaStoragePart;
+import io.evitadb.spi.store.catalog.shared.model.CompositeLogRecordReference;
 import io.evitadb.spi.store.catalog.shared.model.LogRecordReference;
 import io.evitadb.spi.store.catalog.wal.IsolatedWalPersistenceService;
 import io.evitadb.store.catalog.ObsoleteFileMaintainer.DataFilesBulkInfo;
@@ -134,6 +135,7 @@ import io.evitadb.store.wal.AbstractMutationLog;
 import io.evitadb.store.wal.AbstractMutationLog.WalPurgeCallback;
 import io.evitadb.store.wal.CatalogWriteAheadLog;
 import io.evitadb.store.wal.WalKryoConfigurer;
+import io.evitadb.store.wal.supplier.WalSegmentIndex;
 import io.evitadb.utils.ArrayUtils;
 import io.evitadb.utils.ArrayUtils.InsertionPosition;
 import io.evitadb.utils.Assert;
@@ -1606,6 +1608,11 @@ public class DefaultCatalogPersistenceService
 				.map(CatalogBootstrap::timestamp)
 				.orElse(null)
 		).commit();
+		// emit storage file events of the catalog and all its entity collections
+		this.catalogStoragePartPersistenceService.values()
+			.forEach(OffsetIndexStoragePartPersistenceService::emitObservabilityEvents);
+		this.entityCollectionPersistenceServices.values()
+			.forEach(DefaultEntityCollectionPersistenceService::emitObservabilityEvents);
 		// emit WAL events if it exists
 		final CatalogWriteAheadLog theCatalogWal = this.catalogWal;
 		if (theCatalogWal != null) {
@@ -2261,39 +2268,21 @@ public class DefaultCatalogPersistenceService
 		@Nonnull TransactionMutation transactionMutation,
 		@Nonnull LogRecordReference walReference
 	) {
+		final List<OffHeapWithFileBackupReference> offHeapReferences;
 		if (walReference instanceof OffHeapWithFileBackupReference offHeapReference) {
-			this.walWriteLock.lock();
-			try {
-				try (offHeapReference) {
-					if (this.catalogWal == null) {
-						final CatalogHeader<LogFileRecordReference, CollectionFileReference> catalogHeader = getCatalogHeader(
-							catalogVersion);
-						this.catalogWal = getCatalogWriteAheadLog(
-							this.bootstrapUsed.catalogVersion(), this.catalogName, this.walFileNameProvider,
-							this.catalogStoragePath, catalogHeader, this.walKryoPool,
-							this.storageSettings,
-							this.scheduler,
-							this::trimBootstrapFile,
-							this.obsoleteFileMaintainer::createWalPurgeCallback
-						);
-					}
-					Assert.isPremiseValid(
-						offHeapReference.getBuffer().isPresent() || offHeapReference.getFilePath().isPresent(),
-						"Unexpected WAL reference - neither off-heap buffer nor file reference present!"
-					);
-					final CatalogWriteAheadLog theCatalogWal = this.catalogWal;
-					Assert.isPremiseValid(
-						theCatalogWal != null,
-						"Catalog WAL is unexpectedly not present!"
-					);
-
-					final LogFileRecordReference reference = theCatalogWal.appendDeferringSync(
-						transactionMutation, offHeapReference
+			offHeapReferences = List.of(offHeapReference);
+		} else if (walReference instanceof CompositeLogRecordReference compositeReference) {
+			// transaction merged from several commutative ones - the parts are appended back to back
+			offHeapReferences = new ArrayList<>(compositeReference.references().size());
+			for (LogRecordReference part : compositeReference.references()) {
+				if (part instanceof OffHeapWithFileBackupReference offHeapPart) {
+					offHeapReferences.add(offHeapPart);
+				} else {
+					throw new GenericEvitaInternalError(
+						"Unsupported WAL reference type: " + part.getClass() + "!",
+						"Unsupported WAL reference type!"
 					);
-					return Objects.requireNonNull(reference.fileLocation()).recordLength();
 				}
-			} finally {
-				this.walWriteLock.unlock();
 			}
 		} else {
 			throw new GenericEvitaInternalError(
@@ -2301,6 +2290,47 @@ public class DefaultCatalogPersistenceService
 				"Unsupported WAL reference type!"
 			);
 		}
+
+		this.walWriteLock.lock();
+		try {
+			try {
+				if (this.catalogWal == null) {
+					final CatalogHeader<LogFileRecordReference, CollectionFileReference> catalogHeader = getCatalogHeader(
+						catalogVersion);
+					this.catalogWal = getCatalogWriteAheadLog(
+						this.bootstrapUsed.catalogVersion(), this.catalogName, this.walFileNameProvider,
+						this.catalogStoragePath, catalogHeader, this.walKryoPool,
+						this.storageSettings,
+						this.scheduler,
+						this::trimBootstrapFile,
+						this.obsoleteFileMaintainer::createWalPurgeCallback
+					);
+				}
+				for (OffHeapWithFileBackupReference offHeapReference : offHeapReferences) {
+					Assert.isPremiseValid(
+						offHeapReference.getBuffer().isPresent() || offHeapReference.getFilePath().isPresent(),
+						"Unexpected WAL reference - neither off-heap buffer nor file reference present!"
+					);
+				}
+				final CatalogWriteAheadLog theCatalogWal = this.catalogWal;
+				Assert.isPremiseValid(
+					theCatalogWal != null,
+					"Catalog WAL is unexpectedly not present!"
+				);
+
+				final LogFileRecordReference reference = offHeapReferences.size() == 1 ?
+					theCatalogWal.appendDeferringSync(transactionMutation, offHeapReferences.get(0)) :
+					theCatalogWal.appendDeferringSync(transactionMutation, offHeapReferences);
+				return Objects.requireNonNull(reference.fileLocation()).recordLength();
+			} finally {
+				// the isolated WAL contents are discarded regardless of the outcome of the append
+				for (OffHeapWithFileBackupReference offHeapReference : offHeapReferences) {
+					offHeapReference.close();
+				}
+			}
+		} finally {
+			this.walWriteLock.unlock();
+		}
 	}
 
 	@Nonnull
@@ -2805,8 +2835,8 @@ public class DefaultCatalogPersistenceService
 						if (name.equals(getCatalogBootstrapFileName(this.catalogName))) {
 							return false;
 						}
-						// WAL is never removed
-						if (name.endsWith(WAL_FILE_SUFFIX)) {
+						// WAL and its segment indexes are never removed
+						if (name.endsWith(WAL_FILE_SUFFIX) || WalSegmentIndex.isIndexFileName(name)) {
 							return false;
 						}
 						// actual catalog data file is not removed
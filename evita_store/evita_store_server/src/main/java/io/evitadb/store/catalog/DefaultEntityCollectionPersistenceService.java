@@ -969,6 +969,13 @@ public class DefaultEntityCollectionPersistenceService
 		this.storagePartPersistenceService.close();
 	}
 
+	/**
+	 * Method for internal use - emits the observability events of the entity collection storage file.
+	 */
+	public void emitObservabilityEvents() {
+		this.storagePartPersistenceService.emitObservabilityEvents();
+	}
+
 	@Nonnull
 	public OffsetIndexDescriptor flush(long newCatalogVersion, @Nonnull HeaderInfoSupplier headerInfoSupplier) {
 		final long previousVersion = this.storagePartPersistenceService.getVersion();
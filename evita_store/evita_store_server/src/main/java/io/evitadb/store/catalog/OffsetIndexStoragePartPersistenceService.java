@@ -27,6 +27,7 @@ import com.esotericsoftware.kryo.io.ByteBufferOutput;
 import com.esotericsoftware.kryo.io.Input;
 import io.evitadb.core.metric.event.storage.FileType;
 import io.evitadb.core.metric.event.storage.OffsetIndexFlushEvent;
+import io.evitadb.core.metric.event.storage.OffsetIndexKryoPoolEvent;
 import io.evitadb.core.metric.event.storage.OffsetIndexRecordTypeCountChangedEvent;
 import io.evitadb.spi.store.catalog.exception.PersistenceServiceClosed;
 import io.evitadb.spi.store.catalog.persistence.StoragePartPersistenceService;
@@ -39,6 +40,7 @@ import io.evitadb.store.kryo.VersionedKryo;
 import io.evitadb.store.kryo.VersionedKryoKeyInputs;
 import io.evitadb.store.offsetIndex.OffsetIndex;
 import io.evitadb.store.offsetIndex.OffsetIndexDescriptor;
+import io.evitadb.store.offsetIndex.StripedObjectPool.PoolStatistics;
 import io.evitadb.store.offsetIndex.io.CatalogOffHeapMemoryManager;
 import io.evitadb.store.settings.StorageSettings;
 import io.evitadb.store.shared.model.FileLocation;
@@ -108,6 +110,10 @@ public class OffsetIndexStoragePartPersistenceService implements StoragePartPers
 	 * Last observed histogram of record types.
 	 */
 	private Map<String, Integer> lastObservedHistogram;
+	/**
+	 * Statistics of the read Kryo pool observed by the last {@link #emitObservabilityEvents()} call.
+	 */
+	private PoolStatistics lastObservedKryoPoolStatistics = PoolStatistics.EMPTY;
 
 	public OffsetIndexStoragePartPersistenceService(
 		long catalogVersion,
@@ -375,6 +381,31 @@ public class OffsetIndexStoragePartPersistenceService implements StoragePartPers
 		return !this.offsetIndex.isOperative();
 	}
 
+	/**
+	 * Method for internal use - emits the usage of the read Kryo pool since the previous call. The read pool is used
+	 * by the queries regardless of the writes, so the usage is reported periodically rather than on flush. Nothing
+	 * is emitted when the pool was not used in the meantime.
+	 */
+	public void emitObservabilityEvents() {
+		if (this.offsetIndex.isOperative()) {
+			final PoolStatistics kryoPoolStatistics = this.offsetIndex.getReadKryoPoolStatistics();
+			final PoolStatistics kryoPoolStatisticsDelta = kryoPoolStatistics.minus(this.lastObservedKryoPoolStatistics);
+			if (!PoolStatistics.EMPTY.equals(kryoPoolStatisticsDelta)) {
+				new OffsetIndexKryoPoolEvent(
+					this.catalogName,
+					this.fileType,
+					this.name,
+					kryoPoolStatisticsDelta.created(),
+					kryoPoolStatisticsDelta.reused(),
+					kryoPoolStatisticsDelta.stolen(),
+					kryoPoolStatisticsDelta.contended(),
+					kryoPoolStatisticsDelta.discarded()
+				).commit();
+				this.lastObservedKryoPoolStatistics = kryoPoolStatistics;
+			}
+		}
+	}
+
 	@Override
 	public void close() {
 		if (this.offsetIndex.isOperative()) {
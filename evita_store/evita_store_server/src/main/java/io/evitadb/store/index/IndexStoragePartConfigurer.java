@@ -290,6 +290,13 @@ public class IndexStoragePartConfigurer implements Consumer<Kryo> {
 			index++
 		);
 
+		// state of the attribute index backfill jobs scheduled by the schema changes of the entity collection
+		kryo.register(
+			AttributeIndexBackfillStoragePart.class,
+			new SerialVersionBasedSerializer<>(new AttributeIndexBackfillStoragePartSerializer(), AttributeIndexBackfillStoragePart.class),
+			index++
+		);
+
 		Assert.isPremiseValid(index < 700, "Index count overflow.");
 	}
 
@@ -0,0 +1,133 @@
+/*
+ *
+ *                         _ _        ____  ____
+ *               _____   _(_) |_ __ _|  _ \| __ )
+ *              / _ \ \ / / | __/ _` | | | |  _ \
+ *             |  __/\ V /| | || (_| | |_| | |_) |
+ *              \___| \_/ |_|\__\__,_|____/|____/
+ *
+ *   Copyright (c) 2026
+ *
+ *   Licensed under the Business Source License, Version 1.1 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://github.com/FgForrest/evitaDB/blob/master/LICENSE
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.evitadb.store.index.serializer;
+
+import com.esotericsoftware.kryo.Kryo;
+import com.esotericsoftware.kryo.Serializer;
+import com.esotericsoftware.kryo.io.Input;
+import com.esotericsoftware.kryo.io.KryoDataInput;
+import com.esotericsoftware.kryo.io.KryoDataOutput;
+import com.esotericsoftware.kryo.io.Output;
+import io.evitadb.api.requestResponse.schema.AttributeUniquenessType;
+import io.evitadb.dataType.Scope;
+import io.evitadb.index.bitmap.BaseBitmap;
+import io.evitadb.index.bitmap.RoaringBitmapBackedBitmap;
+import io.evitadb.roaringbitmap.PersistentRoaringBitmap;
+import io.evitadb.spi.store.catalog.persistence.storageParts.index.AttributeIndexBackfillStoragePart;
+import io.evitadb.spi.store.catalog.persistence.storageParts.index.AttributeIndexBackfillStoragePart.AttributeIndexBackfillJob;
+import io.evitadb.store.offsetIndex.exception.KryoSerializationException;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+/**
+ * This {@link Serializer} implementation reads/writes {@link AttributeIndexBackfillStoragePart} from/to binary format.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+public class AttributeIndexBackfillStoragePartSerializer extends Serializer<AttributeIndexBackfillStoragePart> {
+
+	@Override
+	public void write(Kryo kryo, Output output, AttributeIndexBackfillStoragePart storagePart) {
+		final List<AttributeIndexBackfillJob> jobs = storagePart.jobs();
+		output.writeVarInt(jobs.size(), true);
+		for (AttributeIndexBackfillJob job : jobs) {
+			output.writeString(job.attributeName());
+			output.writeVarInt(job.indexedUniqueness().size(), true);
+			for (Entry<Scope, AttributeUniquenessType> entry : job.indexedUniqueness().entrySet()) {
+				kryo.writeObject(output, entry.getKey());
+				output.writeString(entry.getValue().name());
+			}
+			writeScopes(kryo, output, job.indexedFilterable());
+			writeScopes(kryo, output, job.indexedSortable());
+			output.writeVarInt(job.entityCount(), true);
+			try {
+				RoaringBitmapBackedBitmap.getRoaringBitmap(job.pendingPrimaryKeys())
+					.serialize(new KryoDataOutput(output));
+			} catch (IOException e) {
+				throw new KryoSerializationException("Cannot store bitmap!", e);
+			}
+		}
+	}
+
+	@Override
+	public AttributeIndexBackfillStoragePart read(Kryo kryo, Input input, Class<? extends AttributeIndexBackfillStoragePart> type) {
+		final int jobCount = input.readVarInt(true);
+		final List<AttributeIndexBackfillJob> jobs = new ArrayList<>(jobCount);
+		for (int i = 0; i < jobCount; i++) {
+			final String attributeName = input.readString();
+			final int uniquenessCount = input.readVarInt(true);
+			final Map<Scope, AttributeUniquenessType> indexedUniqueness = new EnumMap<>(Scope.class);
+			for (int j = 0; j < uniquenessCount; j++) {
+				final Scope scope = kryo.readObject(input, Scope.class);
+				indexedUniqueness.put(scope, AttributeUniquenessType.valueOf(input.readString()));
+			}
+			final Set<Scope> indexedFilterable = readScopes(kryo, input);
+			final Set<Scope> indexedSortable = readScopes(kryo, input);
+			final int entityCount = input.readVarInt(true);
+			final PersistentRoaringBitmap pendingPrimaryKeys = new PersistentRoaringBitmap();
+			try {
+				pendingPrimaryKeys.deserialize(new KryoDataInput(input));
+			} catch (IOException e) {
+				throw new KryoSerializationException("Cannot read bitmap!", e);
+			}
+			jobs.add(
+				new AttributeIndexBackfillJob(
+					attributeName, indexedUniqueness, indexedFilterable, indexedSortable,
+					entityCount, new BaseBitmap(pendingPrimaryKeys)
+				)
+			);
+		}
+		return new AttributeIndexBackfillStoragePart(jobs);
+	}
+
+	/**
+	 * Writes the set of scopes to the output.
+	 */
+	private static void writeScopes(Kryo kryo, Output output, Set<Scope> scopes) {
+		output.writeVarInt(scopes.size(), true);
+		for (Scope scope : scopes) {
+			kryo.writeObject(output, scope);
+		}
+	}
+
+	/**
+	 * Reads the set of scopes from the input.
+	 */
+	private static Set<Scope> readScopes(Kryo kryo, Input input) {
+		final int scopeCount = input.readVarInt(true);
+		final Set<Scope> scopes = EnumSet.noneOf(Scope.class);
+		for (int i = 0; i < scopeCount; i++) {
+			scopes.add(kryo.readObject(input, Scope.class));
+		}
+		return scopes;
+	}
+
+}
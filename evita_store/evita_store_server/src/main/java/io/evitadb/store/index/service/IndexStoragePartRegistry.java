@@ -68,7 +68,8 @@ public class IndexStoragePartRegistry implements StoragePartRegistry {
 			new StoragePartRecord((byte) 43, ChainIndexLeafPagePart.class),
 			new StoragePartRecord((byte) 44, HistogramIndexLeafPagePart.class),
 			new StoragePartRecord((byte) 45, HistogramRangeIndexLeafPagePart.class),
-			new StoragePartRecord((byte) 46, HistogramCardinalityStoragePart.class)
+			new StoragePartRecord((byte) 46, HistogramCardinalityStoragePart.class),
+			new StoragePartRecord((byte) 47, AttributeIndexBackfillStoragePart.class)
 		);
 	}
 
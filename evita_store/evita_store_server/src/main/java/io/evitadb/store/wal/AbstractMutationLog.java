@@ -55,8 +55,12 @@ import io.evitadb.store.settings.StorageSettings;
 import io.evitadb.store.shared.model.FileLocation;
 import io.evitadb.store.wal.supplier.MutationSupplier;
 import io.evitadb.store.wal.supplier.ReverseMutationSupplier;
+import io.evitadb.store.wal.supplier.TailCachedMutationSupplier;
 import io.evitadb.store.wal.supplier.TransactionLocations;
 import io.evitadb.store.wal.supplier.TransactionMutationWithLocation;
+import io.evitadb.store.wal.supplier.WalTailCache;
+import io.evitadb.store.wal.supplier.WalTailCache.WalTailCacheStatistics;
+import io.evitadb.store.wal.supplier.WalSegmentIndex;
 import io.evitadb.store.wal.transaction.TransactionMutationSerializer;
 import io.evitadb.stream.RandomAccessFileInputStream;
 import io.evitadb.utils.Assert;
@@ -260,6 +264,12 @@ public abstract class AbstractMutationLog<T extends Mutation> implements AutoClo
 	 */
 	private final ConcurrentHashMap<Integer, TransactionLocations> transactionLocationsCache =
 		CollectionUtils.createConcurrentHashMap(16);
+	/**
+	 * Off-heap copy of the records of the most recently appended transactions, which allows the readers following
+	 * the head of the WAL (trunk incorporation, change data capture, history listing) to avoid reading the WAL file
+	 * back. The cache is disabled when {@link StorageSettings#walTailCacheSizeBytes()} is zero.
+	 */
+	private final WalTailCache tailCache;
 	/**
 	 * List of pending removals of WAL files that should be removed, but could not be removed yet because the WAL
 	 * records in them were not yet processed.
@@ -749,6 +759,28 @@ public abstract class AbstractMutationLog<T extends Mutation> implements AutoClo
 		return !storageSettings.computeCRC32C();
 	}
 
+	/**
+	 * Writes the sparse {@link WalSegmentIndex} of the just finalized WAL file. The index is only an optimization for
+	 * the readers, so the failure to write it is logged and the rotation continues - readers fall back to scanning
+	 * the WAL file from its beginning.
+	 *
+	 * @param segmentIndexBuilder the builder with entries collected while the WAL file was being written
+	 * @param walFilePath         the path of the WAL file that has been just finalized and closed
+	 * @param walFileLength       the final length of the WAL file including its tail
+	 */
+	private static void writeSegmentIndex(
+		@Nonnull WalSegmentIndex.Builder segmentIndexBuilder,
+		@Nonnull Path walFilePath,
+		long walFileLength
+	) {
+		try {
+			segmentIndexBuilder.write(walFilePath, walFileLength);
+		} catch (IOException ex) {
+			log.warn("Failed to write segment index for WAL file `{}`: {}", walFilePath, ex.getMessage(), ex);
+			WalSegmentIndex.delete(walFilePath);
+		}
+	}
+
 	/**
 	 * Writes the WAL (Write Ahead Log) tail information to the specified WAL file.
 	 * The method writes the first and last change versions specified to the tail of the WAL file,
@@ -835,6 +867,7 @@ public abstract class AbstractMutationLog<T extends Mutation> implements AutoClo
 		);
 		this.maxWalFileSizeBytes = storageSettings.walFileSizeBytes();
 		this.walFileCountKept = storageSettings.walFileCountKept();
+		this.tailCache = new WalTailCache(storageSettings.walTailCacheSizeBytes());
 		this.storageFolder = storageFolder;
 		final AtomicInteger currentWalFileIndex = new AtomicInteger(logRecordReference.fileIndex());
 		try {
@@ -1003,6 +1036,9 @@ public abstract class AbstractMutationLog<T extends Mutation> implements AutoClo
 			);
 			emitWalStatisticsEvent(firstAvailableTransaction.getCommitTimestamp());
 		}
+		if (this.tailCache.isEnabled()) {
+			emitTailCacheStatisticsEvent(this.tailCache.sampleStatistics());
+		}
 	}
 
 	/**
@@ -1080,7 +1116,7 @@ public abstract class AbstractMutationLog<T extends Mutation> implements AutoClo
 		@Nonnull TransactionMutation transactionMutation,
 		@Nonnull OffHeapWithFileBackupReference walReference
 	) {
-		return doAppend(transactionMutation, walReference, true);
+		return doAppend(transactionMutation, List.of(walReference), true);
 	}
 
 	/**
@@ -1103,7 +1139,26 @@ public abstract class AbstractMutationLog<T extends Mutation> implements AutoClo
 		@Nonnull TransactionMutation transactionMutation,
 		@Nonnull OffHeapWithFileBackupReference walReference
 	) {
-		return doAppend(transactionMutation, walReference, false);
+		return doAppend(transactionMutation, List.of(walReference), false);
+	}
+
+	/**
+	 * Variant of {@link #appendDeferringSync(TransactionMutation, OffHeapWithFileBackupReference)} that appends
+	 * the contents of several isolated WALs as a single transaction - the parts are copied one after another in
+	 * the order of the list behind the single leading transaction mutation, whose mutation count and size must
+	 * cover all the parts. Used for transactions merged from several commutative ones by the conflict resolution
+	 * stage.
+	 *
+	 * @param transactionMutation The transaction mutation to append.
+	 * @param walReferences       The references to the isolated WAL contents in the order they are to be written.
+	 * @return the reference to the appended record
+	 */
+	@Nonnull
+	public LogFileRecordReference appendDeferringSync(
+		@Nonnull TransactionMutation transactionMutation,
+		@Nonnull List<OffHeapWithFileBackupReference> walReferences
+	) {
+		return doAppend(transactionMutation, walReferences, false);
 	}
 
 	/**
@@ -1142,7 +1197,7 @@ public abstract class AbstractMutationLog<T extends Mutation> implements AutoClo
 	 * Appends a transaction mutation to the Write-Ahead Log (WAL) file.
 	 *
 	 * @param transactionMutation The transaction mutation to append.
-	 * @param walReference        The reference to the WAL file.
+	 * @param walReferences       The references to the isolated WAL contents written in the order of the list.
 	 * @param syncOnCompletion    whether the append must be durable by the time this method returns
 	 * @return the reference to the appended record
 	 */
@@ -1150,7 +1205,7 @@ public abstract class AbstractMutationLog<T extends Mutation> implements AutoClo
 	@SuppressWarnings("StringConcatenationMissingWhitespace")
 	private LogFileRecordReference doAppend(
 		@Nonnull TransactionMutation transactionMutation,
-		@Nonnull OffHeapWithFileBackupReference walReference,
+		@Nonnull List<OffHeapWithFileBackupReference> walReferences,
 		boolean syncOnCompletion
 	) {
 		Assert.isTrue(
@@ -1164,10 +1219,15 @@ public abstract class AbstractMutationLog<T extends Mutation> implements AutoClo
 					"for maximum WAL file size in evitaDB settings."
 			)
 		);
+		long walReferencesLength = 0L;
+		for (OffHeapWithFileBackupReference walReference : walReferences) {
+			walReferencesLength += walReference.getContentLength();
+		}
+		final long totalReferenceLength = walReferencesLength;
 		Assert.isPremiseValid(
-			walReference.getContentLength() == transactionMutation.getWalSizeInBytes(),
+			totalReferenceLength == transactionMutation.getWalSizeInBytes(),
 			() -> new TransactionException(
-				"Transaction size (`" + transactionMutation.getWalSizeInBytes() + "B`) does not match the WAL reference size (`" + walReference.getContentLength() + "B`)!",
+				"Transaction size (`" + transactionMutation.getWalSizeInBytes() + "B`) does not match the WAL reference size (`" + totalReferenceLength + "B`)!",
 				"Transaction size does not match the WAL reference size!"
 			)
 		);
@@ -1185,6 +1245,7 @@ public abstract class AbstractMutationLog<T extends Mutation> implements AutoClo
 			this.transactionMutationOutputStream.reset();
 			final CurrentMutationLogFile theCurrentWalFile = this.currentWalFile.get();
 			theCurrentWalFile.checkNextVersionMatch(transactionMutation.getVersion());
+			final long recordStartPosition = theCurrentWalFile.getCurrentWalFileSize();
 
 			final ObservableOutput<ByteArrayOutputStream> output = theCurrentWalFile.getOutput();
 			output.reset();
@@ -1202,7 +1263,7 @@ public abstract class AbstractMutationLog<T extends Mutation> implements AutoClo
 			output.flush();
 
 			// write content length first
-			final int contentLength = walReference.getContentLength();
+			final int contentLength = Math.toIntExact(totalReferenceLength);
 			final int contentLengthWithTxMutation = contentLength + record.fileLocation().recordLength();
 
 			this.checksum.update(contentLengthWithTxMutation);
@@ -1216,6 +1277,12 @@ public abstract class AbstractMutationLog<T extends Mutation> implements AutoClo
 			this.checksum.update(transactionMutationAsByteArray, 0, record.fileLocation().recordLength());
 			this.contentLengthBuffer.put(transactionMutationAsByteArray, 0, record.fileLocation().recordLength());
 
+			// the tail cache receives the same bytes as the WAL file (without the length prefix and checksum suffix)
+			final ByteBuffer tailCacheContent = this.tailCache.allocate(contentLengthWithTxMutation);
+			if (tailCacheContent != null) {
+				tailCacheContent.put(transactionMutationAsByteArray, 0, record.fileLocation().recordLength());
+			}
+
 			// first write the contents of the byte buffer as the leading information in the shared WAL
 			int writtenHead = 0;
 			this.contentLengthBuffer.flip(); // Switch the buffer from writing mode to reading mode
@@ -1229,28 +1296,14 @@ public abstract class AbstractMutationLog<T extends Mutation> implements AutoClo
 				"Failed to write content length to WAL file!"
 			);
 
-			// then copy the contents of the isolated WAL into the shared WAL and discard the isolated WAL
+			// then copy the contents of the isolated WALs into the shared WAL and discard the isolated WALs
 			int writtenContent = 0;
-			try (walReference) {
-				if (walReference.getBuffer().isPresent()) {
-					// write the buffer contents from the buffer in case of off heap byte buffer
-					final ByteBuffer byteBuffer = walReference.getBuffer().get();
-					while (byteBuffer.hasRemaining()) {
-						writtenContent += walFileChannel.write(byteBuffer);// Write buffer to file
-					}
-				} else if (walReference.getFilePath().isPresent()) {
-					// write the file contents from the file in case of file reference
-					try (
-						final FileChannel readChannel = FileChannel.open(
-							walReference.getFilePath().get(),
-							StandardOpenOption.READ
-						)
-					) {
-						while (writtenContent < contentLength) {
-							writtenContent += Math.toIntExact(readChannel.transferTo(writtenContent, contentLength, walFileChannel));
-						}
-					}
+			for (OffHeapWithFileBackupReference walReference : walReferences) {
+				if (tailCacheContent != null) {
+					// the copy consumes (and discards) the isolated WAL, so it must be captured first
+					copyIsolatedWalContentsToCache(walReference, tailCacheContent);
 				}
+				writtenContent += copyIsolatedWalContents(walReference, walFileChannel);
 			}
 
 			// verify the expected length of the transaction was written
@@ -1266,7 +1319,11 @@ public abstract class AbstractMutationLog<T extends Mutation> implements AutoClo
 					emitWalStatisticsEvent(transactionMutation.getCommitTimestamp());
 				}
 			);
-			this.checksum.combine(walReference.getChecksum(), walReference.getContentLength());
+			// the parts were written back to back, so folding their checksums in the same order yields
+			// the checksum of the concatenated contents
+			for (OffHeapWithFileBackupReference walReference : walReferences) {
+				this.checksum.combine(walReference.getChecksum(), walReference.getContentLength());
+			}
 
 			final long cumulativeChecksum = this.checksum.getValue();
 			// write cumulative checksum after every transaction
@@ -1289,16 +1346,27 @@ public abstract class AbstractMutationLog<T extends Mutation> implements AutoClo
 			}
 
 			final int writtenLength = writtenHead + writtenContent + AbstractMutationLog.CUMULATIVE_CRC32_SIZE;
+			if (tailCacheContent != null) {
+				this.tailCache.put(
+					transactionMutation.getVersion(),
+					theCurrentWalFile.getWalFileIndex(),
+					new FileLocation(recordStartPosition, writtenLength),
+					cumulativeChecksum,
+					tailCacheContent
+				);
+			}
 			theCurrentWalFile.updateLastWrittenVersion(
 				transactionMutation.getVersion(),
 				writtenLength,
 				cumulativeChecksum
 			);
 
-			// clean up the folder if empty
-			walReference.getFilePath()
-				.map(Path::getParent)
-				.ifPresent(FileUtils::deleteFolderIfEmpty);
+			// clean up the folders if empty
+			for (OffHeapWithFileBackupReference walReference : walReferences) {
+				walReference.getFilePath()
+					.map(Path::getParent)
+					.ifPresent(FileUtils::deleteFolderIfEmpty);
+			}
 
 			return new LogFileRecordReference(
 				this.walFileNameProvider,
@@ -1318,6 +1386,82 @@ public abstract class AbstractMutationLog<T extends Mutation> implements AutoClo
 		}
 	}
 
+	/**
+	 * Copies the contents of a single isolated WAL to the end of the shared WAL file channel and discards
+	 * the isolated WAL afterwards.
+	 *
+	 * @param walReference   the reference to the isolated WAL contents
+	 * @param walFileChannel the channel of the shared WAL file
+	 * @return the number of bytes written
+	 * @throws IOException if the contents cannot be read or written
+	 */
+	private static int copyIsolatedWalContents(
+		@Nonnull OffHeapWithFileBackupReference walReference,
+		@Nonnull FileChannel walFileChannel
+	) throws IOException {
+		int writtenContent = 0;
+		try (walReference) {
+			if (walReference.getBuffer().isPresent()) {
+				// write the buffer contents from the buffer in case of off heap byte buffer
+				final ByteBuffer byteBuffer = walReference.getBuffer().get();
+				while (byteBuffer.hasRemaining()) {
+					writtenContent += walFileChannel.write(byteBuffer);// Write buffer to file
+				}
+			} else if (walReference.getFilePath().isPresent()) {
+				// write the file contents from the file in case of file reference
+				final int contentLength = walReference.getContentLength();
+				try (
+					final FileChannel readChannel = FileChannel.open(
+						walReference.getFilePath().get(),
+						StandardOpenOption.READ
+					)
+				) {
+					while (writtenContent < contentLength) {
+						writtenContent += Math.toIntExact(
+							readChannel.transferTo(writtenContent, contentLength - writtenContent, walFileChannel)
+						);
+					}
+				}
+			}
+		}
+		return writtenContent;
+	}
+
+	/**
+	 * Copies the contents of a single isolated WAL to the buffer of the tail cache without consuming the isolated WAL.
+	 *
+	 * @param walReference the reference to the isolated WAL contents
+	 * @param target       the tail cache buffer to append the contents to
+	 * @throws IOException if the contents cannot be read
+	 */
+	private static void copyIsolatedWalContentsToCache(
+		@Nonnull OffHeapWithFileBackupReference walReference,
+		@Nonnull ByteBuffer target
+	) throws IOException {
+		if (walReference.getBuffer().isPresent()) {
+			target.put(walReference.getBuffer().get().duplicate());
+		} else if (walReference.getFilePath().isPresent()) {
+			final int contentLength = walReference.getContentLength();
+			final ByteBuffer slice = target.slice(target.position(), contentLength);
+			try (
+				final FileChannel readChannel = FileChannel.open(
+					walReference.getFilePath().get(),
+					StandardOpenOption.READ
+				)
+			) {
+				while (slice.hasRemaining()) {
+					if (readChannel.read(slice, slice.position()) < 0) {
+						throw new UnexpectedIOException(
+							"Unexpected end of the isolated WAL file `" + walReference.getFilePath().get() + "`!",
+							"Unexpected end of the isolated WAL file!"
+						);
+					}
+				}
+			}
+			target.position(target.position() + contentLength);
+		}
+	}
+
 	/**
 	 * Gets the reference to a WAL (Write-Ahead Log) file with the last processed WAL record position.
 	 *
@@ -1389,12 +1533,20 @@ public abstract class AbstractMutationLog<T extends Mutation> implements AutoClo
 			// WAL file does not exist or is empty, nothing to read
 			return Stream.empty();
 		} else {
-			final int walFileIndex = resolveWalFileIndex(version);
-			final ReverseMutationSupplier<T> supplier = new ReverseMutationSupplier<>(
-				version, this.walFileNameProvider, this.storageFolder, this.storageSettings,
-				walFileIndex, this.kryoPool, this.transactionLocationsCache,
-				() -> emitCacheSizeEvent(this.transactionLocationsCache.size()),
-				this.walKind
+			final TailCachedMutationSupplier<T> supplier = new TailCachedMutationSupplier<>(
+				version, Long.MAX_VALUE, true,
+				this.tailCache, this.kryoPool, this.storageSettings, null,
+				startVersion -> {
+					final int walFileIndex = resolveWalFileIndex(startVersion);
+					// the version preceding the oldest cached transaction may have been already purged with its WAL file
+					return walFileIndex == -1 ? null : new ReverseMutationSupplier<>(
+						startVersion, this.walFileNameProvider, this.storageFolder, this.storageSettings,
+						walFileIndex, this.kryoPool, this.transactionLocationsCache,
+						() -> emitCacheSizeEvent(this.transactionLocationsCache.size()),
+						this.walKind
+					);
+				},
+				null
 			);
 			this.cutWalCacheTask.schedule();
 			return Stream.generate(supplier)
@@ -1510,6 +1662,7 @@ public abstract class AbstractMutationLog<T extends Mutation> implements AutoClo
 					this.walSyncLock.unlock();
 				}
 			},
+			this.tailCache::clear,
 			this.transactionMutationOutputStream::close,
 			this.cutWalCacheTask::close,
 			this.removeWalFileTask::close
@@ -1542,6 +1695,13 @@ public abstract class AbstractMutationLog<T extends Mutation> implements AutoClo
 	 */
 	protected abstract void emitCacheSizeEvent(int cacheSize);
 
+	/**
+	 * Method fires event with the statistics of the {@link WalTailCache} sampled since the previous emission.
+	 *
+	 * @param statistics the sampled statistics of the tail cache
+	 */
+	protected abstract void emitTailCacheStatisticsEvent(@Nonnull WalTailCacheStatistics statistics);
+
 	/**
 	 * Creates a delayed asynchronous task with the specified parameters.
 	 *
@@ -1839,6 +1999,38 @@ public abstract class AbstractMutationLog<T extends Mutation> implements AutoClo
 		);
 	}
 
+	/**
+	 * Creates a supplier that reads the committed transactions from the {@link WalTailCache} while they are present
+	 * there and falls back to the supplier created by {@link #createSupplier(long, Long)} for the rest.
+	 *
+	 * @param startVersion     the catalog version to start reading from
+	 * @param requestedVersion the minimal catalog version to finish reading
+	 * @return a new supplier
+	 */
+	@Nonnull
+	TailCachedMutationSupplier<T> createTailCachedSupplier(long startVersion, @Nullable Long requestedVersion) {
+		return new TailCachedMutationSupplier<>(
+			startVersion,
+			requestedVersion != null ? requestedVersion : Long.MAX_VALUE,
+			false,
+			this.tailCache, this.kryoPool, this.storageSettings,
+			// greedy readers read everything written so far, so they may end once they pass the last written version
+			requestedVersion == null ? this::getLastWrittenVersion : null,
+			version -> createSupplier(version, requestedVersion),
+			() -> emitCacheSizeEvent(this.transactionLocationsCache.size())
+		);
+	}
+
+	/**
+	 * Returns the tail cache of the WAL - for testing purposes only.
+	 *
+	 * @return the tail cache
+	 */
+	@Nonnull
+	WalTailCache getTailCache() {
+		return this.tailCache;
+	}
+
 	/**
 	 * Removes the obsolete WAL files from the catalog storage path.
 	 */
@@ -1867,6 +2059,7 @@ public abstract class AbstractMutationLog<T extends Mutation> implements AutoClo
 
 			if (!toRemove.isEmpty()) {
 				this.pendingRemovals.removeAll(toRemove);
+				this.tailCache.evictOlderThan(firstVersionToBeKept);
 				updateFirstVersionKept(firstVersionToBeKept);
 			}
 
@@ -2057,7 +2250,10 @@ public abstract class AbstractMutationLog<T extends Mutation> implements AutoClo
 			// the tail must reach the device before the channel is dropped: `close()` does not sync, and
 			// a tail marker outliving the transactions it describes would be read as authoritative
 			forceDurable(theCurrentWalFile.getWalFileChannel());
+			final Path finalizedWalFilePath = theCurrentWalFile.getWalFilePath();
+			final long finalizedWalFileLength = theCurrentWalFile.getWalFileChannel().size();
 			theCurrentWalFile.close();
+			writeSegmentIndex(theCurrentWalFile.getSegmentIndexBuilder(), finalizedWalFilePath, finalizedWalFileLength);
 		} catch (IOException e) {
 			throw new WriteAheadLogCorruptedException(this.walKind,
 				"Failed to close the WAL file channel for WAL file `" + theCurrentWalFile.getWalFilePath() + "`!",
@@ -2138,6 +2334,7 @@ public abstract class AbstractMutationLog<T extends Mutation> implements AutoClo
 							() -> {
 								try {
 									if (walFile.delete()) {
+										WalSegmentIndex.delete(walFile.toPath());
 										AbstractMutationLog.log.debug("Deleted WAL file `{}`!", walFile);
 									} else {
 										throw new IOException(
@@ -2162,6 +2359,7 @@ public abstract class AbstractMutationLog<T extends Mutation> implements AutoClo
 						// been observed inside it, so no reader can be waiting on it and we can
 						// drop it immediately rather than queuing a version-gated removal
 						if (walFile.delete()) {
+							WalSegmentIndex.delete(walFile.toPath());
 							AbstractMutationLog.log.warn(
 								"Deleted orphan tail-less WAL file `{}` left behind by a prior crash: {}",
 								walFile, ex.getMessage()
@@ -2283,7 +2481,7 @@ public abstract class AbstractMutationLog<T extends Mutation> implements AutoClo
 		long startVersion,
 		@Nullable Long requestedVersion
 	) {
-		final MutationSupplier<T> supplier = createSupplier(startVersion, requestedVersion);
+		final TailCachedMutationSupplier<T> supplier = createTailCachedSupplier(startVersion, requestedVersion);
 		this.cutWalCacheTask.schedule();
 		return Stream.generate(supplier)
 			.takeWhile(Objects::nonNull)
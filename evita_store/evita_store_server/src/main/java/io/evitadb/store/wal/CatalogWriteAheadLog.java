@@ -43,12 +43,14 @@ import io.evitadb.core.metric.event.storage.FileType;
 import io.evitadb.core.metric.event.transaction.WalCacheSizeChangedEvent;
 import io.evitadb.core.metric.event.transaction.WalRotationEvent;
 import io.evitadb.core.metric.event.transaction.WalStatisticsEvent;
+import io.evitadb.core.metric.event.transaction.WalTailCacheStatisticsEvent;
 import io.evitadb.spi.store.catalog.wal.model.CatalogTransactionChanges;
 import io.evitadb.spi.store.catalog.wal.model.EntityCollectionChanges;
 import io.evitadb.spi.store.engine.exception.WriteAheadLogCorruptedException.WalKind;
 import io.evitadb.store.model.reference.LogFileRecordReference;
 import io.evitadb.store.settings.StorageSettings;
-import io.evitadb.store.wal.supplier.MutationSupplier;
+import io.evitadb.store.wal.supplier.TailCachedMutationSupplier;
+import io.evitadb.store.wal.supplier.WalTailCache.WalTailCacheStatistics;
 import io.evitadb.utils.CollectionUtils;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
@@ -214,7 +216,7 @@ public class CatalogWriteAheadLog extends AbstractMutationLog<CatalogBoundMutati
 		@Nonnull MaterializedVersionBlock materializedVersionBlock
 	) {
 		try (
-			final MutationSupplier<?> supplier = createSupplier(
+			final TailCachedMutationSupplier<?> supplier = createTailCachedSupplier(
 				materializedVersionBlock.startVersion(), null
 			)
 		) {
@@ -349,6 +351,19 @@ public class CatalogWriteAheadLog extends AbstractMutationLog<CatalogBoundMutati
 		).commit();
 	}
 
+	@Override
+	protected void emitTailCacheStatisticsEvent(@Nonnull WalTailCacheStatistics statistics) {
+		new WalTailCacheStatisticsEvent(
+			this.catalogName,
+			statistics.capacityBytes(),
+			statistics.occupiedBytes(),
+			statistics.cachedTransactions(),
+			statistics.hits(),
+			statistics.misses(),
+			statistics.evictions()
+		).commit();
+	}
+
 	/**
 	 * Represents a triplet of recorded changes in an entity collection.
 	 */
@@ -28,6 +28,7 @@ import io.evitadb.api.requestResponse.mutation.infrastructure.TransactionMutatio
 import io.evitadb.exception.GenericEvitaInternalError;
 import io.evitadb.spi.store.catalog.exception.CatalogWriteAheadLastTransactionMismatchException;
 import io.evitadb.store.kryo.ObservableOutput;
+import io.evitadb.store.wal.supplier.WalSegmentIndex;
 import io.evitadb.utils.Assert;
 import lombok.Getter;
 
@@ -77,6 +78,11 @@ class CurrentMutationLogFile implements Closeable {
 	 * position.
 	 */
 	private long cumulativeChecksum;
+	/**
+	 * Collects the sparse version-to-position entries of the transactions appended to this WAL file, which are
+	 * persisted as {@link WalSegmentIndex} when the file is rotated.
+	 */
+	private final WalSegmentIndex.Builder segmentIndexBuilder = new WalSegmentIndex.Builder();
 	/**
 	 * Field indicates whether the WAL file is closed.
 	 */
@@ -199,6 +205,7 @@ class CurrentMutationLogFile implements Closeable {
 	 */
 	public void updateLastWrittenVersion(long catalogVersion, int writtenLength, long cumulativeChecksum) {
 		checkNextVersionMatch(catalogVersion);
+		this.segmentIndexBuilder.register(catalogVersion, this.currentWalFileSize);
 		this.lastWrittenVersion.set(catalogVersion);
 		this.currentWalFileSize += writtenLength;
 		this.cumulativeChecksum = cumulativeChecksum;
@@ -236,6 +243,16 @@ class CurrentMutationLogFile implements Closeable {
 		return this.cumulativeChecksum;
 	}
 
+	/**
+	 * Returns the builder of the sparse segment index of this WAL file.
+	 *
+	 * @return the segment index builder
+	 */
+	@Nonnull
+	public WalSegmentIndex.Builder getSegmentIndexBuilder() {
+		return this.segmentIndexBuilder;
+	}
+
 	/**
 	 * Closes the current WAL file.
 	 *
@@ -38,11 +38,13 @@ import io.evitadb.core.metric.event.storage.FileType;
 import io.evitadb.core.metric.event.transaction.WalCacheSizeChangedEvent;
 import io.evitadb.core.metric.event.transaction.WalRotationEvent;
 import io.evitadb.core.metric.event.transaction.WalStatisticsEvent;
+import io.evitadb.core.metric.event.transaction.WalTailCacheStatisticsEvent;
 import io.evitadb.spi.store.catalog.wal.model.EngineTransactionChanges;
 import io.evitadb.spi.store.engine.exception.WriteAheadLogCorruptedException.WalKind;
 import io.evitadb.store.model.reference.LogFileRecordReference;
 import io.evitadb.store.settings.StorageSettings;
-import io.evitadb.store.wal.supplier.MutationSupplier;
+import io.evitadb.store.wal.supplier.TailCachedMutationSupplier;
+import io.evitadb.store.wal.supplier.WalTailCache.WalTailCacheStatistics;
 import lombok.extern.slf4j.Slf4j;
 
 import javax.annotation.Nonnull;
@@ -131,7 +133,7 @@ public class EngineMutationLog extends AbstractMutationLog<EngineMutation<?>> {
 		@Nonnull MaterializedVersionBlock materializedVersionBlock
 	) {
 		try (
-			final MutationSupplier<?> supplier = createSupplier(
+			final TailCachedMutationSupplier<?> supplier = createTailCachedSupplier(
 				materializedVersionBlock.startVersion(), null
 			)
 		) {
@@ -208,6 +210,19 @@ public class EngineMutationLog extends AbstractMutationLog<EngineMutation<?>> {
 		new WalCacheSizeChangedEvent(cacheSize).commit();
 	}
 
+	@Override
+	protected void emitTailCacheStatisticsEvent(@Nonnull WalTailCacheStatistics statistics) {
+		new WalTailCacheStatisticsEvent(
+			null,
+			statistics.capacityBytes(),
+			statistics.occupiedBytes(),
+			statistics.cachedTransactions(),
+			statistics.hits(),
+			statistics.misses(),
+			statistics.evictions()
+		).commit();
+	}
+
 	@Nonnull
 	@Override
 	protected DelayedAsyncTask createDelayedAsyncTask(
@@ -69,6 +69,8 @@ import static java.util.Optional.ofNullable;
  *   [transaction mutation data] [individual mutations...] [8-byte cumulative CRC32C]`, repeated per transaction.
  * - **Transaction location caching** — maintains a {@link ConcurrentHashMap} of {@link TransactionLocations}
  *   per WAL file index to enable fast seek to a specific catalog version without full file scans.
+ * - **Segment index lookup** — consults the sparse {@link WalSegmentIndex} persisted next to the finalized WAL files
+ *   to seek close to the requested version when the in-memory cache doesn't know the location (yet or anymore).
  * - **Cumulative checksum tracking** — initializes and maintains a running CRC32C checksum that is validated
  *   against stored values at transaction boundaries.
  * - **WAL file rotation** — transparently moves to the next or previous WAL file when the current one is
@@ -79,7 +81,7 @@ import static java.util.Optional.ofNullable;
  *
  * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2024
  */
-abstract sealed class AbstractMutationSupplier<T extends Mutation> implements Supplier<T>, Closeable
+public abstract sealed class AbstractMutationSupplier<T extends Mutation> implements Supplier<T>, Closeable
 	permits MutationSupplier, ReverseMutationSupplier {
 	/**
 	 * This flag is used to prevent the observable input from reading the next transaction mutation if there is not
@@ -103,9 +105,11 @@ abstract sealed class AbstractMutationSupplier<T extends Mutation> implements Su
 	 */
 	protected final StorageSettings storageSettings;
 	/**
-	 * The cache of already scanned WAL files. The locations might not be complete, but they will be always cover
-	 * the start of the particular WAL file, but they may be later appended with new records that are not yet scanned
-	 * or gradually added to the working WAL file. The index key in this map is the {@link #walFileIndex} of the WAL file.
+	 * The cache of already scanned WAL files. The locations might not be complete, they cover the part of the
+	 * particular WAL file scanned so far (which starts either at the beginning of the file or at the position
+	 * taken from its {@link WalSegmentIndex}), but they may be later appended with new records that are not yet
+	 * scanned or gradually added to the working WAL file. The index key in this map is the {@link #walFileIndex}
+	 * of the WAL file.
 	 */
 	protected final ConcurrentHashMap<Integer, TransactionLocations> transactionLocationsCache;
 	/**
@@ -154,6 +158,16 @@ abstract sealed class AbstractMutationSupplier<T extends Mutation> implements Su
 	 * The number of transactions read from the WAL file.
 	 */
 	@Getter protected int transactionsRead;
+	/**
+	 * The sparse segment index of the WAL file identified by {@link #segmentIndexWalFileIndex}, lazily read from disk
+	 * on first use. Empty when the WAL file has no (valid) segment index - e.g. when it's the WAL file currently being
+	 * appended to.
+	 */
+	@Nullable private Optional<WalSegmentIndex> segmentIndex;
+	/**
+	 * The {@link #walFileIndex} the {@link #segmentIndex} was read for.
+	 */
+	private int segmentIndexWalFileIndex = -1;
 
 	/**
 	 * Calculates the starting position of the next transaction in the WAL file based on the current file position
@@ -247,12 +261,16 @@ abstract sealed class AbstractMutationSupplier<T extends Mutation> implements Su
 				// single WAL file from the nearest cached position.
 				Optional<TransactionMutationWithLocation> initialTransactionMutation;
 				do {
-					// try to start from the nearest cached position (fast path), otherwise
-					// fall back to the beginning of the file (after the initial 8-byte checksum)
-					this.filePosition = ofNullable(this.transactionLocationsCache.get(this.walFileIndex))
-						.filter(it -> !it.wasCut())
-						.map(it -> it.findNearestLocation(version))
-						.orElse((long) CUMULATIVE_CRC32_SIZE);
+					// try to start from the nearest position known either from the cache or from the segment index
+					// of the WAL file (fast path), otherwise fall back to the beginning of the file (after the initial
+					// 8-byte checksum)
+					this.filePosition = Math.max(
+						ofNullable(this.transactionLocationsCache.get(this.walFileIndex))
+							.filter(it -> !it.wasCut())
+							.map(it -> it.findNearestLocation(version))
+							.orElse((long) CUMULATIVE_CRC32_SIZE),
+						findNearestIndexedLocation(version)
+					);
 
 					// seek back by CUMULATIVE_CRC32_SIZE to read the 8-byte checksum preceding the transaction
 					this.observableInput.seekWithUnknownLength(this.filePosition - CUMULATIVE_CRC32_SIZE);
@@ -353,6 +371,24 @@ abstract sealed class AbstractMutationSupplier<T extends Mutation> implements Su
 		return this.observableInput;
 	}
 
+	/**
+	 * Finds the start position of the nearest transaction preceding (or matching) the given catalog version using
+	 * the persisted {@link WalSegmentIndex} of the current WAL file. The index is read lazily once per WAL file.
+	 *
+	 * @param catalogVersion the catalog version to find the nearest location for
+	 * @return the start position of the nearest indexed transaction, or the position of the first transaction in
+	 * the file when the index is not available
+	 */
+	protected long findNearestIndexedLocation(long catalogVersion) {
+		if (this.segmentIndex == null || this.segmentIndexWalFileIndex != this.walFileIndex) {
+			this.segmentIndex = WalSegmentIndex.read(this.walFile.toPath(), this.walFile.length());
+			this.segmentIndexWalFileIndex = this.walFileIndex;
+		}
+		return this.segmentIndex
+			.map(it -> it.findNearestLocation(catalogVersion))
+			.orElse((long) CUMULATIVE_CRC32_SIZE);
+	}
+
 	/**
 	 * Closes the current WAL file and opens the adjacent one, resetting the file position and
 	 * cumulative checksum. The direction is controlled by the {@code delta} parameter.
@@ -276,7 +276,8 @@ public final class ReverseMutationSupplier<T extends Mutation> extends AbstractM
 	 * 1. If the current transaction starts at the very beginning of the WAL file (position ==
 	 *    {@link AbstractMutationLog#CUMULATIVE_CRC32_SIZE CUMULATIVE_CRC32_SIZE}), attempts to move to
 	 *    the previous WAL file. Returns {@code null} if no previous file exists.
-	 * 2. Looks up the nearest cached {@link TransactionLocations} entry for the target version.
+	 * 2. Looks up the nearest cached {@link TransactionLocations} entry or {@link WalSegmentIndex} entry for
+	 *    the target version.
 	 * 3. Scans forward from that cached position, reading and recording each transaction until the target
 	 *    version is found or the end of the file is reached.
 	 *
@@ -295,11 +296,14 @@ public final class ReverseMutationSupplier<T extends Mutation> extends AbstractM
 		}
 		final long previousCatalogVersion = currentTxMutation.getVersion() - 1;
 		// find the nearest known position from cache to avoid scanning from the file start
-		this.filePosition = this.transactionLocationsCache.compute(
-			this.walFileIndex,
-			(index, existing) ->
-				existing == null || existing.wasCut() ? new TransactionLocations() : existing
-		).findNearestLocation(previousCatalogVersion);
+		this.filePosition = Math.max(
+			this.transactionLocationsCache.compute(
+				this.walFileIndex,
+				(index, existing) ->
+					existing == null || existing.wasCut() ? new TransactionLocations() : existing
+			).findNearestLocation(previousCatalogVersion),
+			findNearestIndexedLocation(previousCatalogVersion)
+		);
 
 		Assert.isPremiseValid(
 			this.observableInput != null,
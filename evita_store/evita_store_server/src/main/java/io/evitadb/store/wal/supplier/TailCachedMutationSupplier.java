@@ -0,0 +1,393 @@
+/*
+ *
+ *                         _ _        ____  ____
+ *               _____   _(_) |_ __ _|  _ \| __ )
+ *              / _ \ \ / / | __/ _` | | | |  _ \
+ *             |  __/\ V /| | || (_| | |_| | |_) |
+ *              \___| \_/ |_|\__\__,_|____/|____/
+ *
+ *   Copyright (c) 2026
+ *
+ *   Licensed under the Business Source License, Version 1.1 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://github.com/FgForrest/evitaDB/blob/master/LICENSE
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+
+package io.evitadb.store.wal.supplier;
+
+import com.esotericsoftware.kryo.Kryo;
+import com.esotericsoftware.kryo.util.Pool;
+import io.evitadb.api.requestResponse.mutation.Mutation;
+import io.evitadb.api.requestResponse.mutation.infrastructure.TransactionMutation;
+import io.evitadb.store.kryo.ObservableInput;
+import io.evitadb.store.offsetIndex.model.StorageRecord;
+import io.evitadb.store.settings.StorageSettings;
+import io.evitadb.store.wal.supplier.WalTailCache.CachedTransaction;
+import io.evitadb.utils.Assert;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.Closeable;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import java.util.function.LongFunction;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Supplies {@link Mutation} objects of the committed transactions preferably from the {@link WalTailCache} and falls
+ * back to reading the WAL file with {@link MutationSupplier} (forward) or {@link ReverseMutationSupplier} (reverse)
+ * the moment the next transaction is not found in the cache. The order and the content of the supplied mutations
+ * are the same as if the WAL file was read directly:
+ *
+ * - **forward** - the {@link TransactionMutationWithLocation} followed by its mutations in the order they were
+ *   written, continuing with the transaction with the next catalog version
+ * - **reverse** - the {@link TransactionMutationWithLocation} followed by its mutations in reverse order, continuing
+ *   with the transaction with the previous catalog version
+ *
+ * Once the supplier falls back to the WAL file, it reads the rest of the stream from the file - the cache always
+ * covers the tail of the WAL, so when the forward reader misses the cache, it's lagging behind the cached tail
+ * (and the file reader catches up with it sequentially), and when the reverse reader misses the cache, all
+ * the older transactions are not cached either.
+ *
+ * The cached records are exactly the bytes that were appended to the WAL file and they never leave the process
+ * memory, so the cumulative checksums are not recomputed - only the checksums of the individual records are
+ * verified as usual.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+public final class TailCachedMutationSupplier<T extends Mutation> implements Supplier<T>, Closeable {
+	/**
+	 * The cache of the records of the most recently appended transactions.
+	 */
+	private final WalTailCache tailCache;
+	/**
+	 * The Kryo pool for deserializing the mutations (given by outside).
+	 */
+	private final Pool<Kryo> kryoPool;
+	/**
+	 * The storage options from evita configuration.
+	 */
+	private final StorageSettings storageSettings;
+	/**
+	 * True if the transactions are supplied from the newest to the oldest one.
+	 */
+	private final boolean reverse;
+	/**
+	 * The catalog version the forward supplier must not read past - see {@link MutationSupplier}. The value
+	 * is {@link Long#MAX_VALUE} for greedy reads.
+	 */
+	private final long requestedCatalogVersion;
+	/**
+	 * Supplies the catalog version of the last transaction completely written to the WAL - the forward greedy reader
+	 * ends when it reaches it instead of opening the WAL file just to find out there is nothing more to read.
+	 */
+	@Nullable private final LongSupplier lastWrittenVersionSupplier;
+	/**
+	 * Creates the WAL file supplier starting at the passed catalog version, or returns NULL when the WAL files
+	 * no longer contain the version.
+	 */
+	private final LongFunction<AbstractMutationSupplier<T>> fallbackFactory;
+	/**
+	 * Callback to be executed when the supplier is closed.
+	 */
+	@Nullable private final Runnable onClose;
+	/**
+	 * The catalog version of the transaction that should be supplied next.
+	 */
+	private long nextVersion;
+	/**
+	 * The WAL file supplier that has taken over the reading after the first cache miss.
+	 */
+	@Nullable private AbstractMutationSupplier<T> fallback;
+	/**
+	 * The Kryo instance obtained from {@link #kryoPool} lazily on the first cache hit.
+	 */
+	@Nullable private Kryo kryo;
+	/**
+	 * The input reading the currently supplied cached transaction.
+	 */
+	@Nullable private ObservableInput<InputStream> input;
+	/**
+	 * The number of mutations of the current transaction not yet read from {@link #input} (forward only).
+	 */
+	private int remainingMutations;
+	/**
+	 * The mutations of the current transaction (reverse only) - they must be all deserialized before the last one
+	 * may be returned.
+	 */
+	@Nullable private Mutation[] currentMutations;
+	/**
+	 * The index of the next mutation in {@link #currentMutations} to be returned (reverse only).
+	 */
+	private int currentMutationIndex;
+	/**
+	 * True when the stream has ended.
+	 */
+	private boolean exhausted;
+
+	/**
+	 * Creates a new supplier starting at the given catalog version.
+	 *
+	 * @param catalogVersion             the catalog version of the first supplied transaction
+	 * @param requestedCatalogVersion    the catalog version the forward supplier must not read past, or
+	 *                                   {@link Long#MAX_VALUE} for greedy reads
+	 * @param reverse                    true if the transactions are to be supplied from the newest to the oldest
+	 * @param tailCache                  the cache of the most recently appended transactions
+	 * @param kryoPool                   pool of Kryo instances for deserialization
+	 * @param storageSettings            storage configuration including checksum and compression factories
+	 * @param lastWrittenVersionSupplier supplier of the last completely written version, NULL when the supplier
+	 *                                   must fall back to the WAL file on every cache miss
+	 * @param fallbackFactory            creates the WAL file supplier starting at the given catalog version, or
+	 *                                   returns NULL when the WAL files no longer contain the version
+	 * @param onClose                    optional callback to run when the supplier is closed
+	 */
+	public TailCachedMutationSupplier(
+		long catalogVersion,
+		long requestedCatalogVersion,
+		boolean reverse,
+		@Nonnull WalTailCache tailCache,
+		@Nonnull Pool<Kryo> kryoPool,
+		@Nonnull StorageSettings storageSettings,
+		@Nullable LongSupplier lastWrittenVersionSupplier,
+		@Nonnull LongFunction<AbstractMutationSupplier<T>> fallbackFactory,
+		@Nullable Runnable onClose
+	) {
+		this.nextVersion = catalogVersion;
+		this.requestedCatalogVersion = requestedCatalogVersion;
+		this.reverse = reverse;
+		this.tailCache = tailCache;
+		this.kryoPool = kryoPool;
+		this.storageSettings = storageSettings;
+		this.lastWrittenVersionSupplier = lastWrittenVersionSupplier;
+		this.fallbackFactory = fallbackFactory;
+		this.onClose = onClose;
+		if (!tailCache.isEnabled()) {
+			// there is no point in consulting the cache at all
+			this.fallback = fallbackFactory.apply(catalogVersion);
+			this.exhausted = this.fallback == null;
+		}
+	}
+
+	/**
+	 * Returns true if the supplier has fallen back to reading the WAL file.
+	 */
+	public boolean isReadingWalFile() {
+		return this.fallback != null;
+	}
+
+	@Nullable
+	@Override
+	public T get() {
+		if (this.fallback != null) {
+			return this.fallback.get();
+		} else if (this.exhausted) {
+			return null;
+		} else if (this.remainingMutations > 0) {
+			this.remainingMutations--;
+			//noinspection unchecked
+			return (T) readRecord();
+		} else if (this.currentMutations != null && this.currentMutationIndex >= 0) {
+			//noinspection unchecked
+			return (T) this.currentMutations[this.currentMutationIndex--];
+		} else {
+			return readNextTransaction();
+		}
+	}
+
+	@Override
+	public void close() {
+		if (this.kryo != null) {
+			this.kryoPool.free(this.kryo);
+			this.kryo = null;
+		}
+		if (this.fallback != null) {
+			this.fallback.close();
+		} else if (this.onClose != null) {
+			this.onClose.run();
+		}
+	}
+
+	/**
+	 * Moves to the transaction with {@link #nextVersion} - either reads it from the cache, or ends the stream, or
+	 * hands the reading over to the WAL file supplier.
+	 *
+	 * @return the transaction mutation of the next transaction or NULL if the stream has ended
+	 */
+	@Nullable
+	private T readNextTransaction() {
+		final CachedTransaction cachedTransaction = this.tailCache.find(this.nextVersion);
+		if (cachedTransaction != null) {
+			return readCachedTransaction(cachedTransaction);
+		} else if (
+			!this.reverse &&
+				(this.nextVersion > this.requestedCatalogVersion ||
+					(this.lastWrittenVersionSupplier != null && this.nextVersion > this.lastWrittenVersionSupplier.getAsLong()))
+		) {
+			// nothing more to read
+			this.exhausted = true;
+			return null;
+		} else if (this.reverse && this.nextVersion <= 0L) {
+			// there are no transactions before the first catalog version
+			this.exhausted = true;
+			return null;
+		} else {
+			this.tailCache.recordMiss();
+			final AbstractMutationSupplier<T> theFallback = this.fallbackFactory.apply(this.nextVersion);
+			if (theFallback == null) {
+				this.exhausted = true;
+				return null;
+			}
+			this.fallback = theFallback;
+			final T first = theFallback.get();
+			if (
+				this.reverse &&
+					first instanceof TransactionMutation txMutation &&
+					txMutation.getVersion() > this.nextVersion
+			) {
+				// the requested version is no longer present in the WAL files and the reverse supplier started with
+				// the oldest available transaction that has been already supplied from the cache
+				this.exhausted = true;
+				theFallback.close();
+				this.fallback = null;
+				return null;
+			}
+			return first;
+		}
+	}
+
+	/**
+	 * Starts reading the cached transaction and returns its leading transaction mutation.
+	 *
+	 * @param cachedTransaction the cached transaction to read
+	 * @return the leading transaction mutation enriched with its location in the WAL file
+	 */
+	@Nonnull
+	private T readCachedTransaction(@Nonnull CachedTransaction cachedTransaction) {
+		final ObservableInput<InputStream> theInput = getInput(cachedTransaction.read());
+		final TransactionMutation transactionMutation = (TransactionMutation) readRecord();
+		Assert.isPremiseValid(
+			transactionMutation.getVersion() == cachedTransaction.catalogVersion(),
+			"The cached WAL record of version `" + cachedTransaction.catalogVersion() +
+				"` contains transaction of version `" + transactionMutation.getVersion() + "`!"
+		);
+		final TransactionMutationWithLocation transactionMutationWithLocation = new TransactionMutationWithLocation(
+			transactionMutation,
+			cachedTransaction.transactionSpan(),
+			cachedTransaction.walFileIndex()
+		);
+		transactionMutationWithLocation.withCumulativeChecksum(cachedTransaction.cumulativeChecksum());
+
+		final int mutationCount = transactionMutation.getMutationCount();
+		if (this.reverse) {
+			// mutations of the transaction are returned in reverse order, so they need to be all read upfront
+			final Mutation[] mutations = new Mutation[mutationCount];
+			for (int i = 0; i < mutationCount; i++) {
+				mutations[i] = readRecord();
+			}
+			this.currentMutations = mutations;
+			this.currentMutationIndex = mutationCount - 1;
+			this.nextVersion--;
+		} else {
+			this.remainingMutations = mutationCount;
+			this.nextVersion++;
+		}
+		Assert.isPremiseValid(theInput == this.input, "Input must not change while reading the transaction!");
+		//noinspection unchecked
+		return (T) transactionMutationWithLocation;
+	}
+
+	/**
+	 * Reads the next storage record from the current cached transaction.
+	 *
+	 * @return the deserialized mutation
+	 */
+	@Nonnull
+	private Mutation readRecord() {
+		final Kryo theKryo = Objects.requireNonNull(this.kryo);
+		final StorageRecord<Mutation> storageRecord = StorageRecord.read(
+			Objects.requireNonNull(this.input),
+			(stream, length) -> (Mutation) theKryo.readClassAndObject(stream)
+		);
+		return Objects.requireNonNull(storageRecord.payload());
+	}
+
+	/**
+	 * Returns the input positioned at the start of the passed record contents, the input and the Kryo instance are
+	 * created on first use and reused for all the cached transactions read by this supplier.
+	 *
+	 * @param content the record contents of the cached transaction
+	 * @return the input reading the contents
+	 */
+	@Nonnull
+	private ObservableInput<InputStream> getInput(@Nonnull ByteBuffer content) {
+		if (this.kryo == null) {
+			this.kryo = this.kryoPool.obtain();
+		}
+		final ByteBufferInputStream inputStream = new ByteBufferInputStream(content);
+		if (this.input == null) {
+			this.input = new ObservableInput<>(
+				inputStream,
+				this.storageSettings.createChecksum(),
+				this.storageSettings.createDecompressor().orElse(null)
+			);
+		} else {
+			this.input.setInputStream(inputStream);
+		}
+		return this.input;
+	}
+
+	/**
+	 * Input stream reading the contents of a (direct) byte buffer from its position to its limit.
+	 */
+	private static final class ByteBufferInputStream extends InputStream {
+		private final ByteBuffer buffer;
+
+		ByteBufferInputStream(@Nonnull ByteBuffer buffer) {
+			this.buffer = buffer;
+		}
+
+		@Override
+		public int read() {
+			return this.buffer.hasRemaining() ? this.buffer.get() & 0xFF : -1;
+		}
+
+		@Override
+		public int read(@Nonnull byte[] bytes, int offset, int length) {
+			if (length == 0) {
+				return 0;
+			}
+			final int remaining = this.buffer.remaining();
+			if (remaining == 0) {
+				return -1;
+			}
+			final int toRead = Math.min(remaining, length);
+			this.buffer.get(bytes, offset, toRead);
+			return toRead;
+		}
+
+		@Override
+		public long skip(long n) {
+			final int toSkip = (int) Math.max(0L, Math.min(this.buffer.remaining(), n));
+			this.buffer.position(this.buffer.position() + toSkip);
+			return toSkip;
+		}
+
+		@Override
+		public int available() {
+			return this.buffer.remaining();
+		}
+
+	}
+
+}
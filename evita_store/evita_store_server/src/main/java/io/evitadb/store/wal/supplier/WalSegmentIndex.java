@@ -0,0 +1,287 @@
+/*
+ *
+ *                         _ _        ____  ____
+ *               _____   _(_) |_ __ _|  _ \| __ )
+ *              / _ \ \ / / | __/ _` | | | |  _ \
+ *             |  __/\ V /| | || (_| | |_| | |_) |
+ *              \___| \_/ |_|\__\__,_|____/|____/
+ *
+ *   Copyright (c) 2026
+ *
+ *   Licensed under the Business Source License, Version 1.1 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://github.com/FgForrest/evitaDB/blob/master/LICENSE
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.evitadb.store.wal.supplier;
+
+import io.evitadb.store.wal.AbstractMutationLog;
+import io.evitadb.utils.Assert;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.zip.CRC32C;
+
+/**
+ * Sparse side index of a single finalized (rotated) WAL file. The index maps the catalog version of every
+ * {@link #STRIDE}-th transaction written to the WAL file to the position the transaction starts at, so that
+ * the readers ({@link MutationSupplier}, {@link ReverseMutationSupplier}) can seek close to the requested version
+ * instead of scanning the WAL file from its beginning when the in-memory {@link TransactionLocations} cache has no
+ * (or was cut down to a single) record for the file - typically after a restart or when a CDC subscriber reconnects
+ * with a version far behind the head of the WAL.
+ *
+ * The index lives next to the WAL file in a file with the same name extended with {@link #INDEX_FILE_SUFFIX}. It is
+ * written once, when the WAL file is rotated, and is never modified afterwards. The index is only an optimization -
+ * when it is missing, corrupted, or doesn't match the length of the WAL file it describes, it is ignored and
+ * the readers fall back to the sequential scan.
+ *
+ * File format (big endian):
+ *
+ * - `[8B]` length of the described WAL file in bytes
+ * - `[4B]` number of entries
+ * - `[16B]` × number of entries: catalog version and start position of the transaction, ordered by version
+ * - `[8B]` CRC32C checksum of all preceding bytes
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+@Slf4j
+public final class WalSegmentIndex {
+	/**
+	 * Suffix appended to the WAL file name to get the name of its segment index file.
+	 */
+	public static final String INDEX_FILE_SUFFIX = ".idx";
+	/**
+	 * Every N-th transaction written to the WAL file is recorded in the index.
+	 */
+	public static final int STRIDE = 32;
+	/**
+	 * Size of the fixed header (WAL file length and entry count) in bytes.
+	 */
+	private static final int HEADER_SIZE = 8 + 4;
+	/**
+	 * Size of a single entry (catalog version and start position) in bytes.
+	 */
+	private static final int ENTRY_SIZE = 8 + 8;
+	/**
+	 * Size of the trailing checksum in bytes.
+	 */
+	private static final int CHECKSUM_SIZE = 8;
+	/**
+	 * Suffix of the temporary file the index is written to before it's atomically moved to its final name.
+	 */
+	private static final String TEMP_FILE_SUFFIX = ".tmp";
+	/**
+	 * Catalog versions of the indexed transactions in ascending order.
+	 */
+	private final long[] versions;
+	/**
+	 * Start positions of the indexed transactions, aligned with {@link #versions}.
+	 */
+	private final long[] positions;
+
+	/**
+	 * Returns the path of the segment index file for the given WAL file.
+	 *
+	 * @param walFilePath path of the WAL file
+	 * @return path of the segment index file
+	 */
+	@Nonnull
+	public static Path getIndexFilePath(@Nonnull Path walFilePath) {
+		return walFilePath.resolveSibling(walFilePath.getFileName().toString() + INDEX_FILE_SUFFIX);
+	}
+
+	/**
+	 * Returns true if the file name represents a segment index file (or its not yet finished temporary file).
+	 *
+	 * @param fileName the name of the file
+	 * @return true if the file belongs to a segment index
+	 */
+	public static boolean isIndexFileName(@Nonnull String fileName) {
+		return fileName.endsWith(INDEX_FILE_SUFFIX) || fileName.endsWith(INDEX_FILE_SUFFIX + TEMP_FILE_SUFFIX);
+	}
+
+	/**
+	 * Reads the segment index of the given WAL file. The index is returned only if it exists, its checksum is valid
+	 * and it describes a WAL file of exactly the expected length - i.e. the index cannot refer to a different
+	 * (truncated, replaced, or restored) incarnation of the WAL file with the same name.
+	 *
+	 * @param walFilePath       path of the WAL file the index describes
+	 * @param walFileLength     current length of the WAL file
+	 * @return the index or empty if it is not available or not trustworthy
+	 */
+	@Nonnull
+	public static Optional<WalSegmentIndex> read(@Nonnull Path walFilePath, long walFileLength) {
+		final Path indexFilePath = getIndexFilePath(walFilePath);
+		try {
+			final byte[] content = Files.readAllBytes(indexFilePath);
+			if (content.length < HEADER_SIZE + CHECKSUM_SIZE) {
+				return Optional.empty();
+			}
+			final ByteBuffer buffer = ByteBuffer.wrap(content);
+			final CRC32C crc = new CRC32C();
+			crc.update(content, 0, content.length - CHECKSUM_SIZE);
+			if (crc.getValue() != buffer.getLong(content.length - CHECKSUM_SIZE)) {
+				log.warn("Checksum mismatch in WAL segment index `{}`, the index is ignored.", indexFilePath);
+				return Optional.empty();
+			}
+			if (buffer.getLong() != walFileLength) {
+				// the index describes a different version of the WAL file
+				return Optional.empty();
+			}
+			final int count = buffer.getInt();
+			if (count < 0 || content.length != HEADER_SIZE + count * ENTRY_SIZE + CHECKSUM_SIZE) {
+				return Optional.empty();
+			}
+			final long[] versions = new long[count];
+			final long[] positions = new long[count];
+			for (int i = 0; i < count; i++) {
+				versions[i] = buffer.getLong();
+				positions[i] = buffer.getLong();
+			}
+			return Optional.of(new WalSegmentIndex(versions, positions));
+		} catch (NoSuchFileException ex) {
+			return Optional.empty();
+		} catch (IOException ex) {
+			log.warn("Failed to read WAL segment index `{}`, the index is ignored.", indexFilePath, ex);
+			return Optional.empty();
+		}
+	}
+
+	/**
+	 * Deletes the segment index of the given WAL file if it exists.
+	 *
+	 * @param walFilePath path of the WAL file the index describes
+	 */
+	public static void delete(@Nonnull Path walFilePath) {
+		final Path indexFilePath = getIndexFilePath(walFilePath);
+		try {
+			Files.deleteIfExists(indexFilePath);
+		} catch (IOException ex) {
+			log.warn("Failed to delete WAL segment index `{}`.", indexFilePath, ex);
+		}
+	}
+
+	private WalSegmentIndex(@Nonnull long[] versions, @Nonnull long[] positions) {
+		this.versions = versions;
+		this.positions = positions;
+	}
+
+	/**
+	 * Returns the number of entries in the index.
+	 *
+	 * @return the number of indexed transactions
+	 */
+	public int size() {
+		return this.versions.length;
+	}
+
+	/**
+	 * Finds the start position of the indexed transaction with the highest catalog version that is less than or equal
+	 * to the requested one. Scanning the WAL from this position is guaranteed to reach the requested version.
+	 *
+	 * @param catalogVersion the catalog version to find the nearest location for
+	 * @return the start position of the nearest preceding transaction, or the position of the first transaction
+	 * in the file if no such entry exists
+	 */
+	public long findNearestLocation(long catalogVersion) {
+		final int index = Arrays.binarySearch(this.versions, catalogVersion);
+		if (index >= 0) {
+			return this.positions[index];
+		} else {
+			final int insertionPoint = -index - 1;
+			return insertionPoint == 0 ?
+				AbstractMutationLog.CUMULATIVE_CRC32_SIZE : this.positions[insertionPoint - 1];
+		}
+	}
+
+	/**
+	 * Collects the entries of the segment index while the transactions are being appended to the WAL file and
+	 * writes the index file when the WAL file is rotated. The builder is not thread safe - it relies on the single
+	 * writer of the WAL file.
+	 */
+	public static final class Builder {
+		/**
+		 * Catalog versions of the recorded transactions.
+		 */
+		private long[] versions = new long[16];
+		/**
+		 * Start positions of the recorded transactions.
+		 */
+		private long[] positions = new long[16];
+		/**
+		 * Number of valid entries in {@link #versions} and {@link #positions}.
+		 */
+		private int count;
+		/**
+		 * Number of transactions registered so far.
+		 */
+		private long transactionCount;
+
+		/**
+		 * Registers a transaction appended to the WAL file. Only every {@link #STRIDE}-th transaction is recorded.
+		 *
+		 * @param catalogVersion the catalog version of the transaction
+		 * @param startPosition  the position in the WAL file the transaction starts at
+		 */
+		public void register(long catalogVersion, long startPosition) {
+			if (this.transactionCount++ % STRIDE == 0) {
+				Assert.isPremiseValid(
+					this.count == 0 || this.versions[this.count - 1] < catalogVersion,
+					"WAL segment index entries must be registered in ascending order of catalog versions!"
+				);
+				if (this.count == this.versions.length) {
+					this.versions = Arrays.copyOf(this.versions, this.count * 2);
+					this.positions = Arrays.copyOf(this.positions, this.count * 2);
+				}
+				this.versions[this.count] = catalogVersion;
+				this.positions[this.count] = startPosition;
+				this.count++;
+			}
+		}
+
+		/**
+		 * Writes the segment index of the given (already finalized) WAL file. The index is first written to
+		 * a temporary file, which is then atomically moved to the final location, so that readers never observe
+		 * a partially written index.
+		 *
+		 * @param walFilePath   path of the WAL file the index describes
+		 * @param walFileLength final length of the WAL file including its tail
+		 * @throws IOException when the index file cannot be written
+		 */
+		public void write(@Nonnull Path walFilePath, long walFileLength) throws IOException {
+			final Path indexFilePath = getIndexFilePath(walFilePath);
+			final Path tempFilePath = indexFilePath.resolveSibling(indexFilePath.getFileName().toString() + TEMP_FILE_SUFFIX);
+			final ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + this.count * ENTRY_SIZE + CHECKSUM_SIZE);
+			buffer.putLong(walFileLength);
+			buffer.putInt(this.count);
+			for (int i = 0; i < this.count; i++) {
+				buffer.putLong(this.versions[i]);
+				buffer.putLong(this.positions[i]);
+			}
+			final CRC32C crc = new CRC32C();
+			crc.update(buffer.array(), 0, buffer.position());
+			buffer.putLong(crc.getValue());
+
+			Files.write(tempFilePath, buffer.array());
+			Files.move(tempFilePath, indexFilePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		}
+
+	}
+
+}
@@ -0,0 +1,269 @@
+/*
+ *
+ *                         _ _        ____  ____
+ *               _____   _(_) |_ __ _|  _ \| __ )
+ *              / _ \ \ / / | __/ _` | | | |  _ \
+ *             |  __/\ V /| | || (_| | |_| | |_) |
+ *              \___| \_/ |_|\__\__,_|____/|____/
+ *
+ *   Copyright (c) 2026
+ *
+ *   Licensed under the Business Source License, Version 1.1 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://github.com/FgForrest/evitaDB/blob/master/LICENSE
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+
+package io.evitadb.store.wal.supplier;
+
+import io.evitadb.store.shared.model.FileLocation;
+import io.evitadb.utils.Assert;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Off-heap cache of the serialized records of the most recently appended transactions of a single WAL, keyed by
+ * the catalog version of the transaction. The records are copied to direct byte buffers while they are being
+ * appended to the WAL file, so that the readers of the tail of the WAL (CDC subscribers catching up, replicas,
+ * mutation history) can deserialize them directly without any file I/O - see {@link TailCachedMutationSupplier}.
+ *
+ * The cache holds at most {@link #capacityBytes} of record contents. When a newly appended transaction doesn't fit,
+ * the oldest transactions are evicted - the cache therefore always covers the tail of the WAL. Transactions larger
+ * than the whole capacity are not cached at all. The cache doesn't require the cached versions to be contiguous -
+ * the readers fall back to the WAL file whenever the version they need is not present.
+ *
+ * The memory of an evicted record is released by the garbage collector once the last reader holding its buffer
+ * finishes, so the actually allocated direct memory may temporarily exceed the capacity by the records being read.
+ *
+ * The cache is written by the single thread appending to the WAL and read concurrently by any number of readers.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+@ThreadSafe
+public final class WalTailCache {
+	/**
+	 * Maximal number of bytes of the record contents kept in the cache.
+	 */
+	private final long capacityBytes;
+	/**
+	 * Cached transactions indexed by their catalog version.
+	 */
+	private final ConcurrentSkipListMap<Long, CachedTransaction> transactions = new ConcurrentSkipListMap<>();
+	/**
+	 * Sum of the sizes of the record contents of all {@link #transactions}.
+	 */
+	private final AtomicLong occupiedBytes = new AtomicLong();
+	/**
+	 * Number of transactions read from the cache since the last {@link #sampleStatistics()}.
+	 */
+	private final LongAdder hits = new LongAdder();
+	/**
+	 * Number of reads falling back to the WAL file since the last {@link #sampleStatistics()}.
+	 */
+	private final LongAdder misses = new LongAdder();
+	/**
+	 * Number of transactions evicted because of the capacity since the last {@link #sampleStatistics()}.
+	 */
+	private final LongAdder evictions = new LongAdder();
+
+	public WalTailCache(long capacityBytes) {
+		this.capacityBytes = Math.max(0L, capacityBytes);
+	}
+
+	/**
+	 * Returns true if the cache has non-zero capacity and may hold any transaction at all.
+	 */
+	public boolean isEnabled() {
+		return this.capacityBytes > 0L;
+	}
+
+	/**
+	 * Allocates the off-heap buffer for the record contents of a transaction that is about to be appended.
+	 *
+	 * @param contentLength the length of the record contents (leading transaction mutation and all mutations)
+	 * @return the buffer or NULL if the cache is disabled or the transaction is larger than its capacity
+	 */
+	@Nullable
+	public ByteBuffer allocate(int contentLength) {
+		return this.isEnabled() && contentLength <= this.capacityBytes ?
+			ByteBuffer.allocateDirect(contentLength) : null;
+	}
+
+	/**
+	 * Registers the record contents of a transaction that has been completely written to the WAL file and evicts
+	 * the oldest transactions if the capacity would be exceeded.
+	 *
+	 * @param catalogVersion     the catalog version of the transaction
+	 * @param walFileIndex       the index of the WAL file the transaction was written to
+	 * @param transactionSpan    the location of the whole transaction record in the WAL file
+	 * @param cumulativeChecksum the cumulative checksum written after the transaction
+	 * @param content            the buffer obtained from {@link #allocate(int)} completely filled with the record
+	 *                           contents
+	 */
+	public void put(
+		long catalogVersion,
+		int walFileIndex,
+		@Nonnull FileLocation transactionSpan,
+		long cumulativeChecksum,
+		@Nonnull ByteBuffer content
+	) {
+		Assert.isPremiseValid(
+			!content.hasRemaining(),
+			"The cached WAL record contents must be completely filled!"
+		);
+		content.flip();
+		final CachedTransaction cachedTransaction = new CachedTransaction(
+			catalogVersion, walFileIndex, transactionSpan, cumulativeChecksum, content.asReadOnlyBuffer()
+		);
+		final CachedTransaction replaced = this.transactions.put(catalogVersion, cachedTransaction);
+		long occupied = this.occupiedBytes.addAndGet(
+			content.capacity() - (replaced == null ? 0 : replaced.content().capacity())
+		);
+		while (occupied > this.capacityBytes) {
+			final Map.Entry<Long, CachedTransaction> oldest = this.transactions.pollFirstEntry();
+			if (oldest == null) {
+				break;
+			}
+			occupied = this.occupiedBytes.addAndGet(-oldest.getValue().content().capacity());
+			this.evictions.increment();
+		}
+	}
+
+	/**
+	 * Looks up the cached transaction with the given catalog version and registers a cache hit when found.
+	 *
+	 * @param catalogVersion the catalog version of the transaction
+	 * @return the cached transaction or NULL if it's not cached
+	 */
+	@Nullable
+	public CachedTransaction find(long catalogVersion) {
+		final CachedTransaction cachedTransaction = this.transactions.get(catalogVersion);
+		if (cachedTransaction != null) {
+			this.hits.increment();
+		}
+		return cachedTransaction;
+	}
+
+	/**
+	 * Registers a read that could not be served by the cache and had to fall back to the WAL file.
+	 */
+	public void recordMiss() {
+		this.misses.increment();
+	}
+
+	/**
+	 * Removes all transactions with catalog version lower than the given one - used when the WAL files containing
+	 * them are purged.
+	 *
+	 * @param catalogVersion the first catalog version to be kept
+	 */
+	public void evictOlderThan(long catalogVersion) {
+		Map.Entry<Long, CachedTransaction> oldest;
+		while ((oldest = this.transactions.firstEntry()) != null && oldest.getKey() < catalogVersion) {
+			if (this.transactions.remove(oldest.getKey(), oldest.getValue())) {
+				this.occupiedBytes.addAndGet(-oldest.getValue().content().capacity());
+			}
+		}
+	}
+
+	/**
+	 * Removes all transactions from the cache.
+	 */
+	public void clear() {
+		evictOlderThan(Long.MAX_VALUE);
+	}
+
+	/**
+	 * Returns the number of cached transactions.
+	 */
+	public int size() {
+		return this.transactions.size();
+	}
+
+	/**
+	 * Returns the number of bytes occupied by the record contents of the cached transactions.
+	 */
+	public long getOccupiedBytes() {
+		return this.occupiedBytes.get();
+	}
+
+	/**
+	 * Returns the current statistics of the cache and resets the hit, miss and eviction counters.
+	 */
+	@Nonnull
+	public WalTailCacheStatistics sampleStatistics() {
+		return new WalTailCacheStatistics(
+			this.capacityBytes,
+			this.occupiedBytes.get(),
+			this.transactions.size(),
+			this.hits.sumThenReset(),
+			this.misses.sumThenReset(),
+			this.evictions.sumThenReset()
+		);
+	}
+
+	/**
+	 * Serialized record of a single cached transaction.
+	 *
+	 * @param catalogVersion     the catalog version of the transaction
+	 * @param walFileIndex       the index of the WAL file the transaction was written to
+	 * @param transactionSpan    the location of the whole transaction record in the WAL file
+	 * @param cumulativeChecksum the cumulative checksum written after the transaction
+	 * @param content            read-only buffer with the leading transaction mutation record followed by
+	 *                           the records of all the mutations, exactly as written to the WAL file
+	 */
+	public record CachedTransaction(
+		long catalogVersion,
+		int walFileIndex,
+		@Nonnull FileLocation transactionSpan,
+		long cumulativeChecksum,
+		@Nonnull ByteBuffer content
+	) {
+
+		/**
+		 * Returns a new buffer over the record contents with independent position, so that multiple readers may
+		 * read the same transaction concurrently.
+		 */
+		@Nonnull
+		public ByteBuffer read() {
+			return this.content.duplicate();
+		}
+
+	}
+
+	/**
+	 * Snapshot of the cache statistics.
+	 *
+	 * @param capacityBytes      the capacity of the cache in bytes
+	 * @param occupiedBytes      the bytes occupied by the cached transactions
+	 * @param cachedTransactions the number of cached transactions
+	 * @param hits               the number of transactions read from the cache since the previous snapshot
+	 * @param misses             the number of reads falling back to the WAL file since the previous snapshot
+	 * @param evictions          the number of evicted transactions since the previous snapshot
+	 */
+	public record WalTailCacheStatistics(
+		long capacityBytes,
+		long occupiedBytes,
+		int cachedTransactions,
+		long hits,
+		long misses,
+		long evictions
+	) {
+	}
+
+}
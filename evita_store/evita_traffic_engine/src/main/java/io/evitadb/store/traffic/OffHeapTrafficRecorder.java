@@ -85,6 +85,7 @@ import java.time.OffsetDateTime;
 import java.util.Arrays;
 import java.util.EnumMap;
 import java.util.Map;
+import java.util.Objects;
 import java.util.PrimitiveIterator.OfInt;
 import java.util.Queue;
 import java.util.UUID;
@@ -238,6 +239,24 @@ public class OffHeapTrafficRecorder
 	 */
 	private volatile long samplingRecordedBaseline;
 	private volatile long samplingSampledOutBaseline;
+	/**
+	 * When true, the sampling decision is postponed to {@link #closeSession} - all sessions are recorded into
+	 * the memory buffer and only those that were not marked as retained (see {@link #retainIfValuable}) are
+	 * subject to {@link #samplingPercentage} when they finish.
+	 */
+	private boolean adaptiveSampling;
+	/**
+	 * Operations taking at least this number of milliseconds mark their session as retained in adaptive mode.
+	 */
+	private long adaptiveLatencyThresholdInMillis;
+	/**
+	 * Operations fetching at least this number of bytes mark their session as retained in adaptive mode.
+	 */
+	private long adaptiveFetchedSizeThresholdInBytes;
+	/**
+	 * Registry of recently seen query shapes used in adaptive mode, NULL when adaptive sampling is disabled.
+	 */
+	@Nullable private RecentQueryShapes recentQueryShapes;
 	/**
 	 * Contains reference to the asynchronous task executor that clears finalized session memory blocks and writes
 	 * them to disk buffer.
@@ -349,8 +368,8 @@ public class OffHeapTrafficRecorder
 
 	@Override
 	public void createSession(@Nonnull UUID sessionId, long catalogVersion, @Nonnull OffsetDateTime created) {
-		// test sampling rate
-		if (this.samplingPercentage > 0 && computeCurrentSamplingRate() <= this.samplingPercentage) {
+		// test sampling rate - in adaptive mode the decision is postponed until the session is closed
+		if (this.samplingPercentage > 0 && (this.adaptiveSampling || computeCurrentSamplingRate() <= this.samplingPercentage)) {
 			final SessionTraffic sessionTraffic = new SessionTraffic(
 				sessionId,
 				catalogVersion,
@@ -390,6 +409,17 @@ public class OffHeapTrafficRecorder
 		final SessionTraffic sessionTraffic = this.trackedSessionsIndex.remove(sessionId);
 		if (sessionTraffic != null && !sessionTraffic.isFinished()) {
 			final byte[] bufferToReturn = sessionTraffic.finish();
+			if (
+				this.adaptiveSampling &&
+					!sessionTraffic.isRetained() &&
+					finishedWithError == null &&
+					computeCurrentSamplingRate() > this.samplingPercentage
+			) {
+				// the session contains only frequent and cheap operations and the recorded fraction already meets
+				// the configured target - throw its data away
+				sampleOutSession(sessionTraffic, bufferToReturn);
+				return;
+			}
 			sessionTraffic.record(
 				new SessionCloseContainer(
 					sessionId,
@@ -742,6 +772,11 @@ public class OffHeapTrafficRecorder
 		this.catalogName = catalogName;
 		this.fileManagementService = fileManagementService;
 		this.samplingPercentage = recordingOptions.trafficSamplingPercentage();
+		this.adaptiveSampling = recordingOptions.adaptiveSampling();
+		this.adaptiveLatencyThresholdInMillis = recordingOptions.adaptiveSamplingLatencyThresholdInMilliseconds();
+		this.adaptiveFetchedSizeThresholdInBytes = recordingOptions.adaptiveSamplingFetchedSizeThresholdInBytes();
+		this.recentQueryShapes = this.adaptiveSampling ?
+			new RecentQueryShapes(recordingOptions.adaptiveSamplingShapeRetentionInMilliseconds()) : null;
 
 		final long trafficMemoryBufferSizeInBytes = recordingOptions.trafficMemoryBufferSizeInBytes();
 		Assert.isPremiseValid(
@@ -911,6 +946,48 @@ public class OffHeapTrafficRecorder
 		this.freeMemoryTask.schedule();
 	}
 
+	/**
+	 * Throws away the data of the finished session that was sampled out in adaptive mode. Unlike
+	 * {@link #discardSession} this is not a failure - the records are counted under the benign SAMPLING reason,
+	 * so that they lower the {@link #computeCurrentSamplingRate() current sampling rate} the same way as sessions
+	 * skipped at creation do.
+	 *
+	 * @param sessionTraffic the finished session to throw away
+	 * @param bufferToReturn the copy buffer of the session to be returned to the pool
+	 */
+	private void sampleOutSession(@Nonnull SessionTraffic sessionTraffic, @Nonnull byte[] bufferToReturn) {
+		sessionTraffic.close();
+		this.copyBufferPool.free(bufferToReturn);
+		this.missedRecordsByReason.get(TrafficRecorderMissReason.SAMPLING).addAndGet(sessionTraffic.getRecordCount());
+		final OfInt memoryBlockIds = sessionTraffic.getMemoryBlockIds();
+		while (memoryBlockIds.hasNext()) {
+			this.freeBlocks.offer(memoryBlockIds.nextInt());
+		}
+	}
+
+	/**
+	 * Marks the session as retained (exempt from sampling in adaptive mode) when the recorded operation is worth
+	 * keeping for tuning purposes - i.e. it's slow, fetches a lot of data, failed, or it's a query of a shape that
+	 * hasn't been seen recently.
+	 *
+	 * @param sessionTraffic the session the container is recorded to
+	 * @param container      the container that is about to be recorded
+	 */
+	private void retainIfValuable(@Nonnull SessionTraffic sessionTraffic, @Nonnull TrafficRecording container) {
+		if (
+			container.durationInMilliseconds() >= this.adaptiveLatencyThresholdInMillis ||
+				container.ioFetchedSizeBytes() >= this.adaptiveFetchedSizeThresholdInBytes ||
+				container.finishedWithError() != null ||
+				(
+					container instanceof QueryContainer queryContainer &&
+						Objects.requireNonNull(this.recentQueryShapes)
+							.registerAndCheckNovel(queryContainer.query(), System.currentTimeMillis())
+				)
+		) {
+			sessionTraffic.markRetained();
+		}
+	}
+
 	/**
 	 * Calculates the current sampling rate as a percentage since the last {@link #setSamplingPercentage}
 	 * rebaseline. The rate is the ratio of recorded records to the total of recorded records and records
@@ -995,6 +1072,9 @@ public class OffHeapTrafficRecorder
 	) {
 		if (sessionTraffic != null && !sessionTraffic.isFinished()) {
 			final T container = containerFactory.apply(sessionTraffic);
+			if (this.adaptiveSampling && !sessionTraffic.isRetained()) {
+				retainIfValuable(sessionTraffic, container);
+			}
 			sessionTraffic.record(
 				container,
 				ex -> discardSession(sessionTraffic, TrafficRecorderMissReason.MEMORY_SHORTAGE),
@@ -0,0 +1,115 @@
+/*
+ *
+ *                         _ _        ____  ____
+ *               _____   _(_) |_ __ _|  _ \| __ )
+ *              / _ \ \ / / | __/ _` | | | |  _ \
+ *             |  __/\ V /| | || (_| | |_| | |_) |
+ *              \___| \_/ |_|\__\__,_|____/|____/
+ *
+ *   Copyright (c) 2026
+ *
+ *   Licensed under the Business Source License, Version 1.1 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://github.com/FgForrest/evitaDB/blob/master/LICENSE
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.evitadb.store.traffic;
+
+import io.evitadb.api.query.Query;
+import io.evitadb.api.query.visitor.QueryShapeVisitor;
+import io.evitadb.utils.CollectionUtils;
+
+import javax.annotation.Nonnull;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of query shapes (see {@link QueryShapeVisitor}) observed by the {@link OffHeapTrafficRecorder} in adaptive
+ * sampling mode. The registry remembers when each shape was last seen, so that the recorder can always keep sessions
+ * that contain a query of a shape not seen within the retention window and downsample the sessions consisting only of
+ * frequent shapes.
+ *
+ * The registry is bounded - when it grows over {@link #MAX_SHAPES} entries, the shapes not seen within the retention
+ * window are evicted, and if that doesn't help (the workload consists of an unusual number of distinct shapes), the
+ * registry is cleared completely. In that case several sessions are kept unnecessarily, which is a safe outcome.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+final class RecentQueryShapes {
+	/**
+	 * Maximal number of distinct shapes remembered by the registry.
+	 */
+	static final int MAX_SHAPES = 4096;
+	/**
+	 * Time in milliseconds for which the shape is considered recently seen.
+	 */
+	private final long retentionInMillis;
+	/**
+	 * Index of the shapes and the epoch milliseconds when they were last registered as novel.
+	 */
+	private final ConcurrentHashMap<String, Long> lastSeen = CollectionUtils.createConcurrentHashMap(256);
+
+	RecentQueryShapes(long retentionInMillis) {
+		this.retentionInMillis = retentionInMillis;
+	}
+
+	/**
+	 * Registers the shape of the query and returns true if the shape was not seen within the retention window. Only
+	 * the first caller observing a novel shape gets true - concurrent sessions executing the same new query shape are
+	 * not all considered novel.
+	 *
+	 * @param query the query to register
+	 * @param now   current time in epoch milliseconds
+	 * @return true if the shape of the query was not seen recently
+	 */
+	boolean registerAndCheckNovel(@Nonnull Query query, long now) {
+		final String shape = QueryShapeVisitor.toShape(query);
+		final long[] previous = new long[]{Long.MIN_VALUE};
+		this.lastSeen.compute(
+			shape,
+			(key, seen) -> {
+				if (seen == null || now - seen >= this.retentionInMillis) {
+					return now;
+				} else {
+					previous[0] = seen;
+					return seen;
+				}
+			}
+		);
+		final boolean novel = previous[0] == Long.MIN_VALUE;
+		if (novel && this.lastSeen.size() > MAX_SHAPES) {
+			evict(now);
+		}
+		return novel;
+	}
+
+	/**
+	 * Returns the number of remembered shapes.
+	 *
+	 * @return the number of remembered shapes
+	 */
+	int size() {
+		return this.lastSeen.size();
+	}
+
+	/**
+	 * Evicts the shapes that were not seen within the retention window. If the registry is still over the limit
+	 * afterwards, it's cleared completely.
+	 *
+	 * @param now current time in epoch milliseconds
+	 */
+	private void evict(long now) {
+		this.lastSeen.values().removeIf(seen -> now - seen >= this.retentionInMillis);
+		if (this.lastSeen.size() > MAX_SHAPES) {
+			this.lastSeen.clear();
+		}
+	}
+
+}
@@ -155,6 +155,11 @@ public class SessionTraffic implements Closeable {
 	 * Flag indicating whether the session is finished.
 	 */
 	@Getter private FinishReason finished;
+	/**
+	 * Flag indicating that the session contains a record that makes it worth keeping regardless of the sampling
+	 * rate (used in adaptive sampling mode of {@link OffHeapTrafficRecorder}).
+	 */
+	private volatile boolean retained;
 
 	/**
 	 * Extracts the source query UUID from the specified query container's labels, if present.
@@ -263,6 +268,22 @@ public class SessionTraffic implements Closeable {
 		this.recordsMissedOut++;
 	}
 
+	/**
+	 * Marks the session as worth keeping regardless of the sampling rate.
+	 */
+	public void markRetained() {
+		this.retained = true;
+	}
+
+	/**
+	 * Returns true if the session was marked as worth keeping regardless of the sampling rate.
+	 *
+	 * @return true if the session must not be sampled out
+	 */
+	public boolean isRetained() {
+		return this.retained;
+	}
+
 	/**
 	 * Returns iterator over all registered memory block ids containing queries and mutations of this session in correct
 	 * order.
@@ -44,7 +44,10 @@ import io.evitadb.api.requestResponse.data.InstanceEditor;
 import io.evitadb.api.requestResponse.data.ReferenceContract;
 import io.evitadb.api.requestResponse.data.SealedEntity;
 import io.evitadb.api.requestResponse.data.mutation.EntityMutation;
+import io.evitadb.api.requestResponse.data.mutation.EntityMutation.EntityExistence;
+import io.evitadb.api.requestResponse.data.mutation.EntityUpsertMutation;
 import io.evitadb.api.requestResponse.data.mutation.attribute.ApplyDeltaAttributeMutation;
+import io.evitadb.api.requestResponse.data.mutation.attribute.UpsertAttributeMutation;
 import io.evitadb.api.requestResponse.data.mutation.reference.ReferenceAttributeMutation;
 import io.evitadb.api.requestResponse.data.mutation.reference.ReferenceKey;
 import io.evitadb.api.requestResponse.mutation.EngineMutation;
@@ -429,6 +432,57 @@ public class EvitaTransactionalFunctionalTest implements EvitaTestSupport {
 		return catalogVersion;
 	}
 
+	/**
+	 * Fetches the product with all its content.
+	 *
+	 * @param evita         the evita instance to read from
+	 * @param productSchema the product schema identifying the entity type
+	 * @param primaryKey    the primary key of the product
+	 * @return the fetched product
+	 */
+	@Nonnull
+	private static SealedEntity fetchProduct(
+		@Nonnull Evita evita,
+		@Nonnull SealedEntitySchema productSchema,
+		int primaryKey
+	) {
+		return evita.queryCatalog(
+			TEST_CATALOG,
+			session -> {
+				return session.getEntity(productSchema.getName(), primaryKey, entityFetchAllContent()).orElseThrow();
+			}
+		);
+	}
+
+	/**
+	 * Returns the version of the priority attribute of the product.
+	 *
+	 * @param product the product to read the attribute from
+	 * @return the version of the priority attribute
+	 */
+	private static int getPriorityVersion(@Nonnull SealedEntity product) {
+		return product.getAttributeValue(ATTRIBUTE_PRIORITY).orElseThrow().version();
+	}
+
+	/**
+	 * Creates separate upserts of the same product, each of them setting the next value of the priority attribute.
+	 *
+	 * @param productSchema the product schema identifying the entity type
+	 * @param primaryKey    the primary key of the product to update
+	 * @return the upserts in the order they should be applied
+	 */
+	@Nonnull
+	private static List<EntityMutation> createPriorityUpdates(@Nonnull SealedEntitySchema productSchema, int primaryKey) {
+		return Stream.of(10L, 20L, 30L)
+			.map(
+				priority -> (EntityMutation) new EntityUpsertMutation(
+					productSchema.getName(), primaryKey, EntityExistence.MUST_EXIST,
+					new UpsertAttributeMutation(ATTRIBUTE_PRIORITY, priority)
+				)
+			)
+			.toList();
+	}
+
 	/* ======================================================================================== */
 	/* STATIC HELPER METHODS */
 	/* ======================================================================================== */
@@ -777,21 +831,7 @@ public class EvitaTransactionalFunctionalTest implements EvitaTestSupport {
 		final EntitySchemaContract productSchema = catalogSchema.getEntitySchema(Entities.PRODUCT).orElseThrow();
 		evita.close();
 
-		final Path catalogDirectory = cfg.storage().storageDirectory().resolve(TEST_CATALOG);
-		final CatalogWriteAheadLog wal = new CatalogWriteAheadLog(
-			0L,
-			TEST_CATALOG,
-			new LogFileRecordReference(index -> CatalogPersistenceService.getWalFileName(TEST_CATALOG, index)),
-			catalogDirectory,
-			this.catalogKryoPool,
-			new StorageSettings(
-				StorageOptions.builder().build(),
-				TransactionOptions.builder().build()
-			),
-			Mockito.mock(Scheduler.class),
-			Functions.noOpLongConsumer(),
-			null
-		);
+		final CatalogWriteAheadLog wal = openCatalogWal(cfg);
 
 		// create WAL file with a few contents first
 		final Map<Long, List<EntityContract>> generatedEntities = appendWal(
@@ -825,6 +865,131 @@ public class EvitaTransactionalFunctionalTest implements EvitaTestSupport {
 		thirdInstance.close();
 	}
 
+	@DisplayName("Trunk incorporation should produce the same versions the committing session observed.")
+	@UseDataSet(value = TRANSACTIONAL_DATA_SET, destroyAfterTest = true)
+	@Test
+	void shouldKeepVersionsObservedInSessionAfterTrunkIncorporation(EvitaContract evita, SealedEntitySchema productSchema) {
+		final int primaryKey = evita.updateCatalog(
+			TEST_CATALOG,
+			session -> {
+				return this.dataGenerator.generateEntities(
+						productSchema,
+						(entityType, faker) -> RANDOM_ENTITY_PICKER.apply(entityType, session, faker),
+						SEED
+					)
+					.limit(1)
+					.map(session::upsertAndFetchEntity)
+					.findFirst()
+					.orElseThrow()
+					.getPrimaryKeyOrThrowException();
+			}
+		);
+
+		// several upserts of the same product in each of two consecutive transactions
+		long priority = 0L;
+		for (int transaction = 0; transaction < 2; transaction++) {
+			final long firstPriority = priority;
+			final SealedEntity observedInSession = evita.updateCatalog(
+				TEST_CATALOG,
+				session -> {
+					SealedEntity lastUpserted = null;
+					for (long i = 1; i <= 3; i++) {
+						lastUpserted = session.upsertAndFetchEntity(
+							session.getEntity(productSchema.getName(), primaryKey, entityFetchAllContent())
+								.orElseThrow()
+								.openForWrite()
+								.setAttribute(ATTRIBUTE_PRIORITY, firstPriority + i),
+							entityFetchAllContent()
+						);
+					}
+					return lastUpserted;
+				}
+			);
+			priority += 3;
+
+			final SealedEntity incorporated = evita.queryCatalog(
+				TEST_CATALOG,
+				session -> {
+					return session.getEntity(productSchema.getName(), primaryKey, entityFetchAllContent()).orElseThrow();
+				}
+			);
+			assertEquals(priority, (Long) incorporated.getAttribute(ATTRIBUTE_PRIORITY));
+			assertEquals(observedInSession.version(), incorporated.version());
+			assertEquals(getPriorityVersion(observedInSession), getPriorityVersion(incorporated));
+		}
+	}
+
+	@DisplayName("Live trunk incorporation and WAL replay after the restart should produce the same versions.")
+	@UseDataSet(value = TRANSACTIONAL_DATA_SET, destroyAfterTest = true)
+	@Test
+	void shouldProduceSameVersionsInLiveIncorporationAndWalReplay(Evita evita, SealedEntitySchema productSchema) {
+		// seed two products with the same starting state of the priority attribute
+		final List<SealedEntity> products = evita.updateCatalog(
+			TEST_CATALOG,
+			session -> {
+				return this.dataGenerator.generateEntities(
+						productSchema,
+						(entityType, faker) -> RANDOM_ENTITY_PICKER.apply(entityType, session, faker),
+						SEED
+					)
+					.limit(2)
+					.map(session::upsertAndFetchEntity)
+					.toList();
+			}
+		);
+		final int replayedPk = products.get(0).getPrimaryKeyOrThrowException();
+		final int livePk = products.get(1).getPrimaryKeyOrThrowException();
+		evita.updateCatalog(
+			TEST_CATALOG,
+			session -> {
+				setPriority(session, productSchema, replayedPk, 0L);
+				setPriority(session, productSchema, livePk, 0L);
+			}
+		);
+		final SealedEntity replayedBefore = fetchProduct(evita, productSchema, replayedPk);
+		final SealedEntity liveBefore = fetchProduct(evita, productSchema, livePk);
+		final long catalogVersion = evita.queryCatalog(TEST_CATALOG, EvitaSessionContract::getCatalogVersion);
+
+		// close evita and write the transaction updating the first product several times directly to the WAL
+		final EvitaConfiguration cfg = evita.getConfiguration();
+		evita.close();
+		final CatalogWriteAheadLog wal = openCatalogWal(cfg);
+		appendWalTransaction(
+			createIsolatedWalService(this.offHeapMemoryManager), wal, catalogVersion + 1,
+			createPriorityUpdates(productSchema, replayedPk)
+		);
+
+		// the restart replays the transaction from the WAL
+		final Evita restarted = new Evita(cfg);
+		try {
+			restarted.waitUntilFullyInitialized();
+			assertEquals(catalogVersion + 1, verifyCatalogContents(restarted, Map.of(), catalogVersion + 1));
+
+			// the same transaction updating the second product is incorporated live
+			restarted.updateCatalog(
+				TEST_CATALOG,
+				session -> {
+					createPriorityUpdates(productSchema, livePk).forEach(session::upsertEntity);
+				}
+			);
+
+			final SealedEntity replayedAfter = fetchProduct(restarted, productSchema, replayedPk);
+			final SealedEntity liveAfter = fetchProduct(restarted, productSchema, livePk);
+			assertEquals(30L, (Long) replayedAfter.getAttribute(ATTRIBUTE_PRIORITY));
+			assertEquals(30L, (Long) liveAfter.getAttribute(ATTRIBUTE_PRIORITY));
+			assertEquals(
+				replayedAfter.version() - replayedBefore.version(),
+				liveAfter.version() - liveBefore.version()
+			);
+			assertEquals(
+				getPriorityVersion(replayedAfter) - getPriorityVersion(replayedBefore),
+				getPriorityVersion(liveAfter) - getPriorityVersion(liveBefore)
+			);
+		} finally {
+			restarted.close();
+		}
+	}
+
 	/* ======================================================================================== */
 	/* WAL PROCESSING AND RECOVERY TESTS */
 	/* ======================================================================================== */
@@ -3920,28 +4085,7 @@ public class EvitaTransactionalFunctionalTest implements EvitaTestSupport {
 		final EvitaSession mockSession = Mockito.mock(EvitaSession.class);
 		Mockito.when(mockSession.getCatalogSchema()).thenReturn(catalogSchema);
 
-		final Path isolatedWalFilePath = Path.of(System.getProperty("java.io.tmpdir"))
-			.resolve("evita")
-			.resolve(getClass().getSimpleName())
-			.resolve("isolatedWal.tmp");
-		// delete if exists
-		isolatedWalFilePath.toFile().delete();
-
-		final DefaultIsolatedWalService walPersistenceService = new DefaultIsolatedWalService(
-			TEST_CATALOG,
-			UUID.randomUUID(),
-			new ConflictResolution(ConflictPolicy.NONE),
-			KryoFactory.createKryo(WalKryoConfigurer.INSTANCE),
-			new WriteOnlyOffHeapWithFileBackupHandle(
-				isolatedWalFilePath,
-				StorageOptions.DEFAULT_OUTPUT_BUFFER_SIZE,
-				false,
-				this.observableOutputKeeper,
-				offHeapMemoryManager,
-				Crc32CChecksumFactory.INSTANCE,
-				CompressionFactory.NO_COMPRESSION
-			)
-		);
+		final DefaultIsolatedWalService walPersistenceService = createIsolatedWalService(offHeapMemoryManager);
 
 		final Map<Long, List<EntityContract>> entitiesInMutations = CollectionUtils.createHashMap(
 			transactionSizes.length);
@@ -3957,21 +4101,9 @@ public class EvitaTransactionalFunctionalTest implements EvitaTestSupport {
 				.collect(Collectors.toCollection(LinkedList::new));
 
 			final long catalogVersion = baseCatalogVersion + i + 1;
-			for (InstanceWithMutation entity : entities) {
-				walPersistenceService.write(catalogVersion, entity.mutation());
-			}
-
-			final OffHeapWithFileBackupReference walReference = walPersistenceService.getWalReference();
-			final TransactionMutation transactionMutation = new TransactionMutation(
-				UUIDUtil.randomUUID(),
-				catalogVersion,
-				entities.size(),
-				walReference.getContentLength(),
-				OffsetDateTime.now()
-			);
-			wal.append(
-				transactionMutation,
-				walReference
+			appendWalTransaction(
+				walPersistenceService, wal, catalogVersion,
+				entities.stream().map(InstanceWithMutation::mutation).toList()
 			);
 
 			entitiesInMutations.put(
@@ -3984,6 +4116,94 @@ public class EvitaTransactionalFunctionalTest implements EvitaTestSupport {
 		return entitiesInMutations;
 	}
 
+	/**
+	 * Opens the WAL of the test catalog stored in the directory of the passed configuration.
+	 *
+	 * @param cfg the configuration of the closed evita instance
+	 * @return the catalog WAL to append to
+	 */
+	@Nonnull
+	private CatalogWriteAheadLog openCatalogWal(@Nonnull EvitaConfiguration cfg) {
+		return new CatalogWriteAheadLog(
+			0L,
+			TEST_CATALOG,
+			new LogFileRecordReference(index -> CatalogPersistenceService.getWalFileName(TEST_CATALOG, index)),
+			cfg.storage().storageDirectory().resolve(TEST_CATALOG),
+			this.catalogKryoPool,
+			new StorageSettings(
+				StorageOptions.builder().build(),
+				TransactionOptions.builder().build()
+			),
+			Mockito.mock(Scheduler.class),
+			Functions.noOpLongConsumer(),
+			null
+		);
+	}
+
+	/**
+	 * Creates the isolated WAL service the mutations of the appended transactions are written into first.
+	 *
+	 * @param offHeapMemoryManager the off-heap memory manager to use for WAL operations
+	 * @return the isolated WAL service backed by a fresh temporary file
+	 */
+	@Nonnull
+	private DefaultIsolatedWalService createIsolatedWalService(@Nonnull CatalogOffHeapMemoryManager offHeapMemoryManager) {
+		final Path isolatedWalFilePath = Path.of(System.getProperty("java.io.tmpdir"))
+			.resolve("evita")
+			.resolve(getClass().getSimpleName())
+			.resolve("isolatedWal.tmp");
+		// delete if exists
+		isolatedWalFilePath.toFile().delete();
+
+		return new DefaultIsolatedWalService(
+			TEST_CATALOG,
+			UUID.randomUUID(),
+			new ConflictResolution(ConflictPolicy.NONE),
+			KryoFactory.createKryo(WalKryoConfigurer.INSTANCE),
+			new WriteOnlyOffHeapWithFileBackupHandle(
+				isolatedWalFilePath,
+				StorageOptions.DEFAULT_OUTPUT_BUFFER_SIZE,
+				false,
+				this.observableOutputKeeper,
+				offHeapMemoryManager,
+				Crc32CChecksumFactory.INSTANCE,
+				CompressionFactory.NO_COMPRESSION
+			)
+		);
+	}
+
+	/**
+	 * Appends a single transaction consisting of the passed mutations to the catalog WAL.
+	 *
+	 * @param walPersistenceService the isolated WAL service the mutations are written into first
+	 * @param wal                   the catalog WAL to append to
+	 * @param catalogVersion        the catalog version of the transaction
+	 * @param mutations             the mutations of the transaction
+	 */
+	private static void appendWalTransaction(
+		@Nonnull DefaultIsolatedWalService walPersistenceService,
+		@Nonnull CatalogWriteAheadLog wal,
+		long catalogVersion,
+		@Nonnull List<EntityMutation> mutations
+	) {
+		for (EntityMutation mutation : mutations) {
+			walPersistenceService.write(catalogVersion, mutation);
+		}
+
+		final OffHeapWithFileBackupReference walReference = walPersistenceService.getWalReference();
+		final TransactionMutation transactionMutation = new TransactionMutation(
+			UUIDUtil.randomUUID(),
+			catalogVersion,
+			mutations.size(),
+			walReference.getContentLength(),
+			OffsetDateTime.now()
+		);
+		wal.append(
+			transactionMutation,
+			walReference
+		);
+	}
+
 	/**
 	 * A record that pairs an entity reference with the catalog version in which it was created or modified.
 	 * Used for tracking when entities become visible in the catalog during concurrent operations.
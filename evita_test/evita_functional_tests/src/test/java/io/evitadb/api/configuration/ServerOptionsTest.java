@@ -136,7 +136,7 @@ class ServerOptionsTest {
 					.DEFAULT_CLOSE_SESSIONS_AFTER_SECONDS_OF_INACTIVITY,
 				ServerOptions
 					.DEFAULT_DROP_COLLATION_KEYS_AFTER_SECONDS_OF_INACTIVITY,
-				null, null,
+				null, null, null,
 				false, false
 			);
 
@@ -161,12 +161,13 @@ class ServerOptionsTest {
 					.DEFAULT_CLOSE_SESSIONS_AFTER_SECONDS_OF_INACTIVITY,
 				ServerOptions
 					.DEFAULT_DROP_COLLATION_KEYS_AFTER_SECONDS_OF_INACTIVITY,
-				null, null,
+				null, null, null,
 				false, false
 			);
 
 			assertNotNull(options.changeDataCapture());
 			assertNotNull(options.trafficRecording());
+			assertNotNull(options.replica());
 		}
 	}
 
@@ -191,6 +192,15 @@ class ServerOptionsTest {
 
 			assertFalse(options.quiet());
 		}
+
+		@Test
+		@DisplayName("should not be replica by default")
+		void shouldNotBeReplicaByDefault() {
+			final ServerOptions options =
+				ServerOptions.builder().build();
+
+			assertNull(options.replica().primaryHost());
+		}
 	}
 
 	@Nested
@@ -211,6 +221,11 @@ class ServerOptionsTest {
 					.closeSessionsAfterSecondsOfInactivity(
 						300
 					)
+					.replica(
+						ReplicaOptions.builder()
+							.primaryHost("primary.example.com")
+							.build()
+					)
 					.readOnly(true)
 					.quiet(true)
 					.build();
@@ -230,6 +245,10 @@ class ServerOptionsTest {
 				300,
 				copy.closeSessionsAfterSecondsOfInactivity()
 			);
+			assertEquals(
+				"primary.example.com",
+				copy.replica().primaryHost()
+			);
 			assertTrue(copy.readOnly());
 			assertTrue(copy.quiet());
 		}
@@ -101,6 +101,14 @@ class TransactionOptionsTest {
 				TransactionOptions.DEFAULT_CONFLICT_RESOLUTION,
 				options.conflictPolicy()
 			);
+			assertEquals(
+				TransactionOptions.DEFAULT_DELTA_BATCHING_WINDOW,
+				options.deltaBatchingWindowInMillis()
+			);
+			assertEquals(
+				TransactionOptions.DEFAULT_WAL_TAIL_CACHE_SIZE,
+				options.walTailCacheSizeBytes()
+			);
 		}
 	}
 
@@ -279,6 +287,46 @@ class TransactionOptionsTest {
 				1024, options.conflictRingBufferSize()
 			);
 		}
+
+		@Test
+		@DisplayName(
+			"should override delta batching window"
+		)
+		void shouldOverrideDeltaBatchingWindowInMillis() {
+			final TransactionOptions options =
+				TransactionOptions.builder()
+					.deltaBatchingWindowInMillis(5)
+					.build();
+
+			assertEquals(
+				5, options.deltaBatchingWindowInMillis()
+			);
+			assertEquals(
+				5,
+				TransactionOptions.builder(options).build()
+					.deltaBatchingWindowInMillis()
+			);
+		}
+
+		@Test
+		@DisplayName(
+			"should override WAL tail cache size"
+		)
+		void shouldOverrideWalTailCacheSizeBytes() {
+			final TransactionOptions options =
+				TransactionOptions.builder()
+					.walTailCacheSizeBytes(1_048_576)
+					.build();
+
+			assertEquals(
+				1_048_576, options.walTailCacheSizeBytes()
+			);
+			assertEquals(
+				1_048_576,
+				TransactionOptions.builder(options).build()
+					.walTailCacheSizeBytes()
+			);
+		}
 	}
 
 	@Nested
@@ -421,7 +469,9 @@ class TransactionOptionsTest {
 					TransactionOptions.DEFAULT_CHECKPOINT_INTERVAL,
 					TransactionOptions
 						.DEFAULT_CONFLICT_RING_BUFFER_SIZE,
-					TransactionOptions.DEFAULT_CONFLICT_RESOLUTION
+					TransactionOptions.DEFAULT_CONFLICT_RESOLUTION,
+					TransactionOptions.DEFAULT_DELTA_BATCHING_WINDOW,
+					TransactionOptions.DEFAULT_WAL_TAIL_CACHE_SIZE
 				);
 
 			assertEquals(
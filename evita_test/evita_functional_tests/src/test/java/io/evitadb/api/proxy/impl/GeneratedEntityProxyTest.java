@@ -0,0 +1,181 @@
+/*
+ *
+ *                         _ _        ____  ____
+ *               _____   _(_) |_ __ _|  _ \| __ )
+ *              / _ \ \ / / | __/ _` | | | |  _ \
+ *             |  __/\ V /| | || (_| | |_| | |_) |
+ *              \___| \_/ |_|\__\__,_|____/|____/
+ *
+ *   Copyright (c) 2026
+ *
+ *   Licensed under the Business Source License, Version 1.1 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://github.com/FgForrest/evitaDB/blob/master/LICENSE
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.evitadb.api.proxy.impl;
+
+import io.evitadb.api.APITestConstants;
+import io.evitadb.api.proxy.SealedEntityProxy;
+import io.evitadb.api.proxy.mock.EmptyEntitySchemaAccessor;
+import io.evitadb.api.requestResponse.data.EntityContract;
+import io.evitadb.api.requestResponse.data.annotation.Attribute;
+import io.evitadb.api.requestResponse.data.annotation.AttributeRef;
+import io.evitadb.api.requestResponse.data.annotation.EntityRef;
+import io.evitadb.api.requestResponse.data.annotation.PrimaryKeyRef;
+import io.evitadb.api.requestResponse.data.structure.InitialEntityBuilder;
+import io.evitadb.api.requestResponse.schema.AttributeSchemaEditor;
+import io.evitadb.api.requestResponse.schema.CatalogEvolutionMode;
+import io.evitadb.api.requestResponse.schema.EntitySchemaContract;
+import io.evitadb.api.requestResponse.schema.builder.InternalEntitySchemaBuilder;
+import io.evitadb.api.requestResponse.schema.dto.CatalogSchema;
+import io.evitadb.api.requestResponse.schema.dto.EntitySchema;
+import io.evitadb.utils.NamingConvention;
+import io.evitadb.utils.ReflectionLookup;
+import io.evitadb.utils.ReflectionLookup.ReflectionCachingBehaviour;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import javax.annotation.Nonnull;
+import java.io.Serializable;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.function.Function;
+
+import static io.evitadb.test.TestTags.CONTRACT;
+import static io.evitadb.test.TestTags.PROXY;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Tests that {@link ProxycianFactory} prefers the proxies generated at compile time (see
+ * {@link AbstractGeneratedEntityProxy}) over the runtime generated ones. The generated class is written by hand
+ * here in the same shape as {@link io.evitadb.api.proxy.processor.EntityProxyProcessor} produces it.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+@DisplayName("Compile-time generated entity proxy")
+@Tag(CONTRACT)
+@Tag(PROXY)
+class GeneratedEntityProxyTest {
+	private static final String PRODUCT = "product";
+	private static final String ATTRIBUTE_CODE = "code";
+	private static final String ATTRIBUTE_ACTIVE = "active";
+	private static final CatalogSchema CATALOG_SCHEMA = CatalogSchema._internalBuild(
+		APITestConstants.TEST_CATALOG, NamingConvention.generate(APITestConstants.TEST_CATALOG), null,
+		EnumSet.allOf(CatalogEvolutionMode.class), EmptyEntitySchemaAccessor.INSTANCE
+	);
+
+	@Test
+	@DisplayName("should use the generated proxy class for the contract")
+	void shouldUseGeneratedProxyClass() {
+		final GeneratedProduct product = createProxyFactory()
+			.createEntityProxy(GeneratedProduct.class, createProduct(), Map.of());
+
+		assertInstanceOf(GeneratedProduct.EvitaGeneratedProxy.class, product);
+		assertInstanceOf(SealedEntityProxy.class, product);
+		assertSame(GeneratedProduct.class, ((SealedEntityProxy) product).getProxyClass());
+		assertEquals(1, product.getId());
+		assertEquals("P-1", product.getCode());
+		assertEquals(1, ((SealedEntityProxy) product).getPrimaryKey());
+	}
+
+	@Test
+	@DisplayName("should apply default value of missing boolean attribute")
+	void shouldApplyDefaultValueOfMissingBooleanAttribute() {
+		final GeneratedProduct product = createProxyFactory()
+			.createEntityProxy(GeneratedProduct.class, createProduct(), Map.of());
+
+		assertFalse(product.isActive());
+	}
+
+	@Test
+	@DisplayName("should expose no builder until entity is modified")
+	void shouldExposeNoBuilderUntilModified() {
+		final SealedEntityProxy product = (SealedEntityProxy) createProxyFactory()
+			.createEntityProxy(GeneratedProduct.class, createProduct(), Map.of());
+
+		assertFalse(product.getEntityBuilderWithCallback(SealedEntityProxy.Propagation.DEEP).isPresent());
+		product.entityBuilder().setAttribute(ATTRIBUTE_CODE, "P-2");
+		assertEquals("P-2", ((GeneratedProduct) product).getCode());
+		assertNull(product.getEntityBuilderWithCallback(SealedEntityProxy.Propagation.DEEP).orElseThrow().upsertCallback());
+	}
+
+	@Nonnull
+	private static ProxycianFactory createProxyFactory() {
+		return new ProxycianFactory(new ReflectionLookup(ReflectionCachingBehaviour.CACHE));
+	}
+
+	@Nonnull
+	private static EntityContract createProduct() {
+		final EntitySchemaContract schema = new InternalEntitySchemaBuilder(
+			CATALOG_SCHEMA,
+			EntitySchema._internalBuild(PRODUCT)
+		)
+			.withAttribute(ATTRIBUTE_CODE, String.class)
+			.withAttribute(ATTRIBUTE_ACTIVE, Boolean.class, AttributeSchemaEditor::nullable)
+			.toInstance();
+		return new InitialEntityBuilder(schema, 1)
+			.setAttribute(ATTRIBUTE_CODE, "P-1")
+			.toInstance();
+	}
+
+	/**
+	 * Read-only contract with the hand-written counterpart of the generated proxy class.
+	 */
+	@EntityRef(PRODUCT)
+	public interface GeneratedProduct extends Serializable {
+
+		@PrimaryKeyRef
+		int getId();
+
+		@AttributeRef(ATTRIBUTE_CODE)
+		String getCode();
+
+		@Attribute
+		boolean isActive();
+
+		/**
+		 * Nested class's binary name is `GeneratedProduct$EvitaGeneratedProxy`, which matches the convention.
+		 */
+		final class EvitaGeneratedProxy extends AbstractGeneratedEntityProxy implements GeneratedProduct {
+			private static final long serialVersionUID = 1L;
+			public static final Function<EntityContract, GeneratedProduct> FACTORY = EvitaGeneratedProxy::new;
+			private static final AttributeGetter ATTRIBUTE_GETTER_0 = new AttributeGetter("code", String.class);
+			private static final AttributeGetter ATTRIBUTE_GETTER_1 = new AttributeGetter("active", boolean.class);
+
+			private EvitaGeneratedProxy(EntityContract entity) {
+				super(GeneratedProduct.class, entity);
+			}
+
+			@Override
+			public int getId() {
+				return entity().getPrimaryKeyOrThrowException();
+			}
+
+			@Override
+			public String getCode() {
+				return (String) ATTRIBUTE_GETTER_0.get(entity());
+			}
+
+			@Override
+			public boolean isActive() {
+				return (Boolean) ATTRIBUTE_GETTER_1.get(entity());
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,297 @@
+/*
+ *
+ *                         _ _        ____  ____
+ *               _____   _(_) |_ __ _|  _ \| __ )
+ *              / _ \ \ / / | __/ _` | | | |  _ \
+ *             |  __/\ V /| | || (_| | |_| | |_) |
+ *              \___| \_/ |_|\__\__,_|____/|____/
+ *
+ *   Copyright (c) 2026
+ *
+ *   Licensed under the Business Source License, Version 1.1 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://github.com/FgForrest/evitaDB/blob/master/LICENSE
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.evitadb.api.proxy.processor;
+
+import io.evitadb.api.APITestConstants;
+import io.evitadb.api.proxy.SealedEntityProxy;
+import io.evitadb.api.proxy.impl.AbstractGeneratedEntityProxy;
+import io.evitadb.api.proxy.impl.ProxycianFactory;
+import io.evitadb.api.proxy.mock.EmptyEntitySchemaAccessor;
+import io.evitadb.api.requestResponse.data.EntityContract;
+import io.evitadb.api.requestResponse.data.structure.InitialEntityBuilder;
+import io.evitadb.api.requestResponse.schema.Cardinality;
+import io.evitadb.api.requestResponse.schema.CatalogEvolutionMode;
+import io.evitadb.api.requestResponse.schema.EntityAttributeSchemaEditor.EntityAttributeSchemaBuilder;
+import io.evitadb.api.requestResponse.schema.EntitySchemaContract;
+import io.evitadb.api.requestResponse.schema.builder.InternalEntitySchemaBuilder;
+import io.evitadb.api.requestResponse.schema.dto.CatalogSchema;
+import io.evitadb.api.requestResponse.schema.dto.EntitySchema;
+import io.evitadb.utils.NamingConvention;
+import io.evitadb.utils.ReflectionLookup;
+import io.evitadb.utils.ReflectionLookup.ReflectionCachingBehaviour;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.annotation.Nonnull;
+import javax.annotation.processing.Processor;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaCompiler.CompilationTask;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static io.evitadb.test.TestTags.CONTRACT;
+import static io.evitadb.test.TestTags.PROXY;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests {@link EntityProxyProcessor} by running it in the system Java compiler on a sample contract and using
+ * the generated proxy class via {@link ProxycianFactory}.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+@DisplayName("Entity proxy annotation processor")
+@Tag(CONTRACT)
+@Tag(PROXY)
+class EntityProxyProcessorTest {
+	private static final String PRODUCT = "product";
+	private static final String ATTRIBUTE_CODE = "code";
+	private static final String ATTRIBUTE_ACTIVE = "active";
+	private static final String REFERENCE_BRAND = "brand";
+	private static final String REFERENCE_TAGS = "tags";
+	private static final String CONTRACT_NAME = "io.evitadb.test.generated.SampleProduct";
+	private static final String CONTRACT_SOURCE = """
+		package io.evitadb.test.generated;
+
+		import io.evitadb.api.requestResponse.data.annotation.Attribute;
+		import io.evitadb.api.requestResponse.data.annotation.AttributeRef;
+		import io.evitadb.api.requestResponse.data.annotation.EntityRef;
+		import io.evitadb.api.requestResponse.data.annotation.PrimaryKeyRef;
+		import io.evitadb.api.requestResponse.data.annotation.ReferenceRef;
+
+		import java.io.Serializable;
+		import java.util.List;
+		import java.util.Set;
+
+		@EntityRef("product")
+		public interface SampleProduct extends Serializable {
+
+			@PrimaryKeyRef
+			int getId();
+
+			@AttributeRef("code")
+			String getCode();
+
+			@Attribute
+			boolean isActive();
+
+			@ReferenceRef("brand")
+			Integer getBrand();
+
+			@ReferenceRef("tags")
+			List<Integer> getTags();
+
+			@ReferenceRef("tags")
+			Set<Integer> getTagSet();
+
+			@ReferenceRef("tags")
+			int[] getTagIds();
+
+		}
+		""";
+	private static final CatalogSchema CATALOG_SCHEMA = CatalogSchema._internalBuild(
+		APITestConstants.TEST_CATALOG, NamingConvention.generate(APITestConstants.TEST_CATALOG), null,
+		EnumSet.allOf(CatalogEvolutionMode.class), EmptyEntitySchemaAccessor.INSTANCE
+	);
+
+	@Test
+	@DisplayName("should generate proxy class the factory picks up")
+	void shouldGenerateProxyClassUsedByFactory(@TempDir Path outputDirectory) throws Exception {
+		try (URLClassLoader classLoader = compileContract(outputDirectory)) {
+			final Class<?> contract = classLoader.loadClass(CONTRACT_NAME);
+			final Class<?> generatedClass = classLoader.loadClass(
+				CONTRACT_NAME + AbstractGeneratedEntityProxy.GENERATED_CLASS_SUFFIX
+			);
+			assertTrue(AbstractGeneratedEntityProxy.class.isAssignableFrom(generatedClass));
+
+			final EntitySchemaContract schema = createSchema(whichIs -> {});
+			final Object product = createProxyFactory().createEntityProxy(contract, createProduct(schema, 1), Map.of());
+
+			assertInstanceOf(generatedClass, product);
+			assertSame(contract, ((SealedEntityProxy) product).getProxyClass());
+			assertEquals(1, contract.getMethod("getId").invoke(product));
+			assertEquals("P-1", contract.getMethod("getCode").invoke(product));
+			assertEquals(false, contract.getMethod("isActive").invoke(product));
+			assertEquals(10, contract.getMethod("getBrand").invoke(product));
+			assertEquals(List.of(100, 101), contract.getMethod("getTags").invoke(product));
+			assertEquals(Set.of(100, 101), contract.getMethod("getTagSet").invoke(product));
+			assertArrayEquals(new int[]{100, 101}, (int[]) contract.getMethod("getTagIds").invoke(product));
+		}
+	}
+
+	@Test
+	@DisplayName("should return no referenced primary keys when entity has no references")
+	void shouldReturnNoReferencedPrimaryKeysWhenEntityHasNoReferences(@TempDir Path outputDirectory) throws Exception {
+		try (URLClassLoader classLoader = compileContract(outputDirectory)) {
+			final Class<?> contract = classLoader.loadClass(CONTRACT_NAME);
+			final EntitySchemaContract schema = createSchema(whichIs -> {});
+			final Object product = createProxyFactory().createEntityProxy(
+				contract, new InitialEntityBuilder(schema, 1).toInstance(), Map.of()
+			);
+
+			assertNull(contract.getMethod("getBrand").invoke(product));
+			assertEquals(List.of(), contract.getMethod("getTags").invoke(product));
+			assertArrayEquals(new int[0], (int[]) contract.getMethod("getTagIds").invoke(product));
+		}
+	}
+
+	@Test
+	@DisplayName("should be discoverable as annotation processor service")
+	void shouldBeDiscoverableAsAnnotationProcessorService() {
+		assertTrue(
+			ServiceLoader.load(Processor.class, EntityProxyProcessor.class.getClassLoader())
+				.stream()
+				.anyMatch(it -> it.type() == EntityProxyProcessor.class)
+		);
+	}
+
+	@Test
+	@DisplayName("should resolve attribute schema again when entity comes with another schema")
+	void shouldResolveAttributeSchemaAgainForAnotherSchema(@TempDir Path outputDirectory) throws Exception {
+		try (URLClassLoader classLoader = compileContract(outputDirectory)) {
+			final Class<?> contract = classLoader.loadClass(CONTRACT_NAME);
+			final ProxycianFactory proxyFactory = createProxyFactory();
+
+			final EntitySchemaContract schema = createSchema(whichIs -> {});
+			final Object first = proxyFactory.createEntityProxy(contract, createProduct(schema, 1), Map.of());
+			final Object second = proxyFactory.createEntityProxy(contract, createProduct(schema, 2), Map.of());
+			assertEquals("P-1", contract.getMethod("getCode").invoke(first));
+			assertEquals("P-2", contract.getMethod("getCode").invoke(second));
+			assertEquals(false, contract.getMethod("isActive").invoke(second));
+
+			final EntitySchemaContract changedSchema = createSchema(whichIs -> whichIs.withDefaultValue(true));
+			final Object changed = proxyFactory.createEntityProxy(contract, createProduct(changedSchema, 3), Map.of());
+			assertEquals(true, contract.getMethod("isActive").invoke(changed));
+			assertEquals(false, contract.getMethod("isActive").invoke(first));
+		}
+	}
+
+	/**
+	 * Compiles the sample contract with {@link EntityProxyProcessor} into the output directory and returns the class
+	 * loader of the compiled classes.
+	 */
+	@Nonnull
+	private static URLClassLoader compileContract(@Nonnull Path outputDirectory) throws Exception {
+		final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		assertNotNull(compiler, "The tests must run on JDK, not JRE.");
+		final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+		try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, StandardCharsets.UTF_8)) {
+			final String classPath = Stream.of(System.getProperty("java.class.path"), System.getProperty("jdk.module.path"))
+				.filter(it -> it != null && !it.isBlank())
+				.collect(Collectors.joining(File.pathSeparator));
+			final CompilationTask task = compiler.getTask(
+				null, fileManager, diagnostics,
+				List.of("-classpath", classPath, "-d", outputDirectory.toString()),
+				null,
+				List.of(new SourceFile(CONTRACT_NAME, CONTRACT_SOURCE))
+			);
+			task.setProcessors(List.of(new EntityProxyProcessor()));
+			assertTrue(task.call(), () -> diagnostics.getDiagnostics().toString());
+		}
+		final Path generatedClassFile = outputDirectory.resolve(
+			CONTRACT_NAME.replace('.', File.separatorChar) + AbstractGeneratedEntityProxy.GENERATED_CLASS_SUFFIX + ".class"
+		);
+		assertTrue(Files.exists(generatedClassFile));
+		assertFalse(
+			diagnostics.getDiagnostics().stream().anyMatch(it -> it.getMessage(null).contains("will be generated at runtime")),
+			() -> diagnostics.getDiagnostics().toString()
+		);
+		return new URLClassLoader(
+			new URL[]{outputDirectory.toUri().toURL()},
+			EntityProxyProcessorTest.class.getClassLoader()
+		);
+	}
+
+	@Nonnull
+	private static ProxycianFactory createProxyFactory() {
+		return new ProxycianFactory(new ReflectionLookup(ReflectionCachingBehaviour.CACHE));
+	}
+
+	@Nonnull
+	private static EntitySchemaContract createSchema(@Nonnull Consumer<EntityAttributeSchemaBuilder> activeAttributeDecorator) {
+		return new InternalEntitySchemaBuilder(
+			CATALOG_SCHEMA,
+			EntitySchema._internalBuild(PRODUCT)
+		)
+			.withAttribute(ATTRIBUTE_CODE, String.class)
+			.withAttribute(ATTRIBUTE_ACTIVE, Boolean.class, activeAttributeDecorator.andThen(EntityAttributeSchemaBuilder::nullable))
+			.withReferenceTo(REFERENCE_BRAND, REFERENCE_BRAND, Cardinality.ZERO_OR_ONE)
+			.withReferenceTo(REFERENCE_TAGS, REFERENCE_TAGS, Cardinality.ZERO_OR_MORE)
+			.toInstance();
+	}
+
+	@Nonnull
+	private static EntityContract createProduct(@Nonnull EntitySchemaContract schema, int primaryKey) {
+		return new InitialEntityBuilder(schema, primaryKey)
+			.setAttribute(ATTRIBUTE_CODE, "P-" + primaryKey)
+			.setReference(REFERENCE_BRAND, 10)
+			.setReference(REFERENCE_TAGS, 100)
+			.setReference(REFERENCE_TAGS, 101)
+			.toInstance();
+	}
+
+	/**
+	 * Java source held in memory.
+	 */
+	private static class SourceFile extends SimpleJavaFileObject {
+		private final String source;
+
+		SourceFile(@Nonnull String className, @Nonnull String source) {
+			super(URI.create("string:///" + className.replace('.', '/') + Kind.SOURCE.extension), Kind.SOURCE);
+			this.source = source;
+		}
+
+		@Override
+		public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+			return this.source;
+		}
+	}
+
+}
@@ -0,0 +1,119 @@
+/*
+ *
+ *                         _ _        ____  ____
+ *               _____   _(_) |_ __ _|  _ \| __ )
+ *              / _ \ \ / / | __/ _` | | | |  _ \
+ *             |  __/\ V /| | || (_| | |_| | |_) |
+ *              \___| \_/ |_|\__\__,_|____/|____/
+ *
+ *   Copyright (c) 2026
+ *
+ *   Licensed under the Business Source License, Version 1.1 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://github.com/FgForrest/evitaDB/blob/master/LICENSE
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.evitadb.api.query.visitor;
+
+import io.evitadb.api.query.Query;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static io.evitadb.api.query.Query.query;
+import static io.evitadb.api.query.QueryConstraints.*;
+import static io.evitadb.api.query.order.OrderDirection.DESC;
+import static io.evitadb.test.TestTags.CONTRACT;
+import static io.evitadb.test.TestTags.QUERY;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+/**
+ * Tests for {@link QueryShapeVisitor} verifying that queries differing only in their literal arguments share
+ * the same shape.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+@DisplayName("QueryShapeVisitor functionality")
+@Tag(CONTRACT)
+@Tag(QUERY)
+class QueryShapeVisitorTest {
+
+	@Test
+	@DisplayName("Should replace literal arguments with placeholders")
+	void shouldReplaceLiteralArgumentsWithPlaceholders() {
+		assertEquals(
+			"query(collection('Product'),filterBy(and(attributeEquals('code',?),entityPrimaryKeyInSet(?),priceInPriceLists(?))),orderBy(attributeNatural('name',DESC)),require(page(?),entityFetch(attributeContentAll())))",
+			QueryShapeVisitor.toShape(createQuery("abc", new Integer[]{1, 2, 3}, 1, 20))
+		);
+	}
+
+	@Test
+	@DisplayName("Should produce the same shape for queries differing only in values")
+	void shouldProduceSameShapeForQueriesDifferingInValues() {
+		assertEquals(
+			QueryShapeVisitor.toShape(createQuery("abc", new Integer[]{1, 2, 3}, 1, 20)),
+			QueryShapeVisitor.toShape(createQuery("xyz", new Integer[]{7}, 3, 50))
+		);
+	}
+
+	@Test
+	@DisplayName("Should keep names of referenced schemas")
+	void shouldKeepReferenceNames() {
+		assertEquals(
+			"query(collection('Product'),filterBy(referenceHaving('brand',entityPrimaryKeyInSet(?)),hierarchyWithin('categories',entityPrimaryKeyInSet(?)),facetHaving('parameter',entityPrimaryKeyInSet(?))))",
+			QueryShapeVisitor.toShape(
+				query(
+					collection("Product"),
+					filterBy(
+						referenceHaving("brand", entityPrimaryKeyInSet(5)),
+						hierarchyWithin("categories", entityPrimaryKeyInSet(8)),
+						facetHaving("parameter", entityPrimaryKeyInSet(9))
+					)
+				)
+			)
+		);
+	}
+
+	@Test
+	@DisplayName("Should distinguish queries targeting different attributes")
+	void shouldDistinguishDifferentAttributes() {
+		assertNotEquals(
+			QueryShapeVisitor.toShape(attributeEquals("code", "abc")),
+			QueryShapeVisitor.toShape(attributeEquals("name", "abc"))
+		);
+	}
+
+	@Test
+	@DisplayName("Should collapse multiple literal arguments into single placeholder")
+	void shouldCollapseMultipleArguments() {
+		assertEquals("attributeBetween('age',?)", QueryShapeVisitor.toShape(attributeBetween("age", 1, 5)));
+	}
+
+	private static Query createQuery(String code, Integer[] primaryKeys, int pageNumber, int pageSize) {
+		return query(
+			collection("Product"),
+			filterBy(
+				and(
+					attributeEquals("code", code),
+					entityPrimaryKeyInSet(primaryKeys),
+					priceInPriceLists(pageNumber == 1 ? new String[]{"basic", "vip"} : new String[]{"basic"})
+				)
+			),
+			orderBy(attributeNatural("name", DESC)),
+			require(
+				page(pageNumber, pageSize),
+				entityFetch(attributeContentAll())
+			)
+		);
+	}
+
+}
@@ -64,6 +64,9 @@ import io.evitadb.api.requestResponse.schema.mutation.engine.DuplicateCatalogMut
 import io.evitadb.api.requestResponse.schema.mutation.engine.SetCatalogStateMutation;
 import io.evitadb.api.task.TaskStatus;
 import io.evitadb.api.task.TaskStatus.TaskSimplifiedState;
+import io.evitadb.core.catalog.Catalog;
+import io.evitadb.core.collection.AttributeIndexBackfill;
+import io.evitadb.core.collection.EntityCollection;
 import io.evitadb.core.exception.AttributeNotFilterableException;
 import io.evitadb.core.exception.AttributeNotSortableException;
 import io.evitadb.core.exception.CatalogCorruptedException;
@@ -111,6 +114,7 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Currency;
 import java.util.List;
@@ -1659,6 +1663,361 @@ class EvitaTest implements EvitaTestSupport {
 		assertFalse(theCollectionFile.exists());
 	}
 
+	/**
+	 * Tests that read-only sessions with bounded staleness share a single catalog snapshot.
+	 *
+	 * The test verifies that:
+	 * - A session with bounded staleness opened after a commit is bound to the snapshot of the previous session
+	 * - A regular read-only session opened at the same time sees the latest catalog version
+	 * - Read-write sessions ignore the bounded staleness and always see the latest version
+	 */
+	@Test
+	@DisplayName("Share catalog snapshot among sessions with bounded staleness")
+	void shouldBindSessionsWithBoundedStalenessToSharedSnapshot() {
+		setupCatalogWithProductAndCategory();
+
+		this.evita.updateCatalog(
+			TEST_CATALOG, EvitaSessionContract::goLiveAndClose
+		);
+
+		final SessionTraits staleTraits = new SessionTraits(TEST_CATALOG).withMaxStaleness(Duration.ofHours(1));
+		try (final EvitaSessionContract firstSession = this.evita.createSession(staleTraits)) {
+			final long snapshotVersion = firstSession.getCatalogVersion();
+
+			this.evita.updateCatalog(
+				TEST_CATALOG, session -> {
+					session.defineEntitySchema(Entities.BRAND);
+				}
+			);
+
+			try (
+				final EvitaSessionContract secondSession = this.evita.createSession(staleTraits);
+				final EvitaSessionContract latestSession = this.evita.createReadOnlySession(TEST_CATALOG);
+				final EvitaSessionContract writeSession = this.evita.createSession(
+					new SessionTraits(TEST_CATALOG, SessionFlags.READ_WRITE).withMaxStaleness(Duration.ofHours(1))
+				)
+			) {
+				assertEquals(snapshotVersion, secondSession.getCatalogVersion());
+				assertFalse(secondSession.getAllEntityTypes().contains(Entities.BRAND));
+				assertTrue(latestSession.getCatalogVersion() > snapshotVersion);
+				assertTrue(latestSession.getAllEntityTypes().contains(Entities.BRAND));
+				assertEquals(latestSession.getCatalogVersion(), writeSession.getCatalogVersion());
+			}
+		}
+	}
+
+	/**
+	 * Tests that a session with bounded staleness is never bound to a snapshot older than it accepts.
+	 *
+	 * The test verifies that:
+	 * - Once the shared snapshot gets older than the accepted staleness, a new session sees the latest version
+	 * - Sessions with looser staleness opened afterwards share the new snapshot
+	 */
+	@Test
+	@DisplayName("Refresh shared catalog snapshot once the staleness bound is exceeded")
+	void shouldRefreshSharedSnapshotWhenStalenessBoundIsExceeded() throws InterruptedException {
+		setupCatalogWithProductAndCategory();
+
+		this.evita.updateCatalog(
+			TEST_CATALOG, EvitaSessionContract::goLiveAndClose
+		);
+
+		final SessionTraits staleTraits = new SessionTraits(TEST_CATALOG).withMaxStaleness(Duration.ofMillis(50));
+		try (final EvitaSessionContract firstSession = this.evita.createSession(staleTraits)) {
+			final long snapshotVersion = firstSession.getCatalogVersion();
+
+			this.evita.updateCatalog(
+				TEST_CATALOG, session -> {
+					session.defineEntitySchema(Entities.BRAND);
+				}
+			);
+
+			Thread.sleep(100);
+
+			try (
+				final EvitaSessionContract secondSession = this.evita.createSession(staleTraits);
+				final EvitaSessionContract thirdSession = this.evita.createSession(
+					new SessionTraits(TEST_CATALOG).withMaxStaleness(Duration.ofHours(1))
+				)
+			) {
+				assertTrue(secondSession.getCatalogVersion() > snapshotVersion);
+				assertTrue(secondSession.getAllEntityTypes().contains(Entities.BRAND));
+				assertEquals(secondSession.getCatalogVersion(), thirdSession.getCatalogVersion());
+			}
+		}
+	}
+
+	/**
+	 * Tests that making an existing attribute filterable and sortable in an alive catalog backfills its indexes
+	 * in the background.
+	 *
+	 * The test verifies that:
+	 * - The schema change is committed immediately and the backfill of already stored entities is scheduled
+	 * - The backfill finishes in the background without any further client interaction
+	 * - Once the backfill finishes, the attribute can be used for filtering and sorting of all entities
+	 */
+	@Test
+	@DisplayName("Backfill attribute indexes in background after the attribute is made filterable")
+	void shouldBackfillAttributeIndexesInBackground() throws InterruptedException {
+		this.evita.updateCatalog(
+			TEST_CATALOG, session -> {
+				session.defineEntitySchema(Entities.PRODUCT)
+					.withoutGeneratedPrimaryKey()
+					.withAttribute(ATTRIBUTE_NAME, String.class)
+					.updateVia(session);
+			}
+		);
+		this.evita.updateCatalog(
+			TEST_CATALOG, EvitaSessionContract::goLiveAndClose
+		);
+		final int entityCount = AttributeIndexBackfill.BATCH_SIZE * 2 + 1;
+		this.evita.updateCatalog(
+			TEST_CATALOG, session -> {
+				for (int i = 1; i <= entityCount; i++) {
+					session.upsertEntity(
+						session.createNewEntity(Entities.PRODUCT, i).setAttribute(ATTRIBUTE_NAME, "name" + i)
+					);
+				}
+			}
+		);
+
+		this.evita.updateCatalog(
+			TEST_CATALOG, session -> {
+				session.getEntitySchemaOrThrowException(Entities.PRODUCT)
+					.openForWrite()
+					.withAttribute(ATTRIBUTE_NAME, String.class, whichIs -> whichIs.filterable().sortable())
+					.updateVia(session);
+			}
+		);
+		final long schemaChangeVersion = getCatalogVersion();
+
+		final long deadline = System.currentTimeMillis() + 30_000L;
+		while (!getAttributeIndexBackfill(Entities.PRODUCT).isEmpty() && System.currentTimeMillis() < deadline) {
+			Thread.sleep(50);
+		}
+		assertTrue(getAttributeIndexBackfill(Entities.PRODUCT).isEmpty());
+		// the idle catalog completes the backfill in a single catalog version
+		assertTrue(getCatalogVersion() <= schemaChangeVersion + 1);
+
+		this.evita.queryCatalog(
+			TEST_CATALOG, session -> {
+				assertEquals(
+					List.of(entityCount),
+					session.queryList(
+						query(
+							collection(Entities.PRODUCT),
+							filterBy(attributeEquals(ATTRIBUTE_NAME, "name" + entityCount))
+						),
+						EntityReference.class
+					).stream().map(EntityReference::getPrimaryKey).toList()
+				);
+				assertEquals(
+					entityCount,
+					session.queryList(
+						query(
+							collection(Entities.PRODUCT),
+							orderBy(attributeNatural(ATTRIBUTE_NAME)),
+							require(page(1, entityCount))
+						),
+						EntityReference.class
+					).size()
+				);
+			}
+		);
+	}
+
+	/**
+	 * Tests that the change of the attribute traits during the running backfill of the same attribute is merged into
+	 * the running backfill.
+	 *
+	 * The test verifies that:
+	 * - The second schema change is committed without re-indexing the pending entities synchronously
+	 * - The entities pending in the first backfill and the entities already re-indexed by it are both backfilled
+	 * - Once the backfill finishes, the attribute can be used for filtering and sorting of all entities
+	 */
+	@Test
+	@DisplayName("Merge the trait change into the running attribute index backfill")
+	void shouldMergeTraitChangeIntoRunningBackfill() throws InterruptedException {
+		this.evita.updateCatalog(
+			TEST_CATALOG, session -> {
+				session.defineEntitySchema(Entities.PRODUCT)
+					.withoutGeneratedPrimaryKey()
+					.withAttribute(ATTRIBUTE_NAME, String.class)
+					.updateVia(session);
+			}
+		);
+		this.evita.updateCatalog(
+			TEST_CATALOG, EvitaSessionContract::goLiveAndClose
+		);
+		final int entityCount = AttributeIndexBackfill.BATCH_SIZE * 3 + 1;
+		this.evita.updateCatalog(
+			TEST_CATALOG, session -> {
+				for (int i = 1; i <= entityCount; i++) {
+					session.upsertEntity(
+						session.createNewEntity(Entities.PRODUCT, i).setAttribute(ATTRIBUTE_NAME, "name" + i)
+					);
+				}
+			}
+		);
+
+		this.evita.updateCatalog(
+			TEST_CATALOG, session -> {
+				session.getEntitySchemaOrThrowException(Entities.PRODUCT)
+					.openForWrite()
+					.withAttribute(ATTRIBUTE_NAME, String.class, AttributeSchemaEditor::filterable)
+					.updateVia(session);
+			}
+		);
+		this.evita.updateCatalog(
+			TEST_CATALOG, session -> {
+				session.getEntitySchemaOrThrowException(Entities.PRODUCT)
+					.openForWrite()
+					.withAttribute(ATTRIBUTE_NAME, String.class, whichIs -> whichIs.filterable().sortable())
+					.updateVia(session);
+			}
+		);
+
+		final long deadline = System.currentTimeMillis() + 30_000L;
+		while (!getAttributeIndexBackfill(Entities.PRODUCT).isEmpty() && System.currentTimeMillis() < deadline) {
+			Thread.sleep(50);
+		}
+		assertTrue(getAttributeIndexBackfill(Entities.PRODUCT).isEmpty());
+
+		this.evita.queryCatalog(
+			TEST_CATALOG, session -> {
+				for (int primaryKey : new int[]{1, entityCount}) {
+					assertEquals(
+						List.of(primaryKey),
+						session.queryList(
+							query(
+								collection(Entities.PRODUCT),
+								filterBy(attributeEquals(ATTRIBUTE_NAME, "name" + primaryKey))
+							),
+							EntityReference.class
+						).stream().map(EntityReference::getPrimaryKey).toList()
+					);
+				}
+				assertEquals(
+					entityCount,
+					session.queryList(
+						query(
+							collection(Entities.PRODUCT),
+							orderBy(attributeNatural(ATTRIBUTE_NAME)),
+							require(page(1, entityCount))
+						),
+						EntityReference.class
+					).size()
+				);
+			}
+		);
+	}
+
+	/**
+	 * Tests that making an existing attribute unique in an alive catalog is validated synchronously.
+	 *
+	 * The test verifies that:
+	 * - The schema change fails immediately when the stored entities share the same attribute value
+	 * - The failed schema change is reverted and leaves no pending backfill behind
+	 * - The schema change succeeds once the values are distinct and the unique index is usable right away
+	 */
+	@Test
+	@DisplayName("Validate uniqueness synchronously when the attribute is made unique")
+	void shouldValidateUniquenessSynchronouslyWhenAttributeIsMadeUnique() {
+		this.evita.updateCatalog(
+			TEST_CATALOG, session -> {
+				session.defineEntitySchema(Entities.PRODUCT)
+					.withoutGeneratedPrimaryKey()
+					.withAttribute(ATTRIBUTE_NAME, String.class)
+					.updateVia(session);
+			}
+		);
+		this.evita.updateCatalog(
+			TEST_CATALOG, EvitaSessionContract::goLiveAndClose
+		);
+		final int entityCount = AttributeIndexBackfill.BATCH_SIZE + 1;
+		this.evita.updateCatalog(
+			TEST_CATALOG, session -> {
+				for (int i = 1; i <= entityCount; i++) {
+					session.upsertEntity(
+						session.createNewEntity(Entities.PRODUCT, i)
+							.setAttribute(ATTRIBUTE_NAME, i == entityCount ? "name1" : "name" + i)
+					);
+				}
+			}
+		);
+
+		assertThrows(
+			UniqueValueViolationException.class,
+			() -> this.evita.updateCatalog(
+				TEST_CATALOG, session -> {
+					session.getEntitySchemaOrThrowException(Entities.PRODUCT)
+						.openForWrite()
+						.withAttribute(ATTRIBUTE_NAME, String.class, AttributeSchemaEditor::unique)
+						.updateVia(session);
+				}
+			)
+		);
+		assertTrue(getAttributeIndexBackfill(Entities.PRODUCT).isEmpty());
+		this.evita.queryCatalog(
+			TEST_CATALOG, session -> {
+				assertFalse(
+					session.getEntitySchemaOrThrowException(Entities.PRODUCT)
+						.getAttribute(ATTRIBUTE_NAME)
+						.orElseThrow()
+						.isUnique()
+				);
+			}
+		);
+
+		this.evita.updateCatalog(
+			TEST_CATALOG, session -> {
+				session.upsertEntity(
+					session.getEntity(Entities.PRODUCT, entityCount, attributeContentAll())
+						.orElseThrow()
+						.openForWrite()
+						.setAttribute(ATTRIBUTE_NAME, "name" + entityCount)
+				);
+			}
+		);
+		this.evita.updateCatalog(
+			TEST_CATALOG, session -> {
+				session.getEntitySchemaOrThrowException(Entities.PRODUCT)
+					.openForWrite()
+					.withAttribute(ATTRIBUTE_NAME, String.class, AttributeSchemaEditor::unique)
+					.updateVia(session);
+			}
+		);
+		assertTrue(getAttributeIndexBackfill(Entities.PRODUCT).isEmpty());
+		this.evita.queryCatalog(
+			TEST_CATALOG, session -> {
+				assertEquals(
+					List.of(entityCount),
+					session.queryList(
+						query(
+							collection(Entities.PRODUCT),
+							filterBy(attributeEquals(ATTRIBUTE_NAME, "name" + entityCount))
+						),
+						EntityReference.class
+					).stream().map(EntityReference::getPrimaryKey).toList()
+				);
+			}
+		);
+	}
+
+	private long getCatalogVersion() {
+		return this.evita.queryCatalog(
+			TEST_CATALOG, (Function<EvitaSessionContract, Long>) EvitaSessionContract::getCatalogVersion
+		);
+	}
+
+	@Nonnull
+	private AttributeIndexBackfill getAttributeIndexBackfill(@Nonnull String entityType) {
+		return ((Catalog) this.evita.getCatalogInstanceOrThrowException(TEST_CATALOG))
+			.getCollectionForEntityInternal(entityType)
+			.map(EntityCollection::getAttributeIndexBackfill)
+			.orElse(AttributeIndexBackfill.EMPTY);
+	}
+
 	/**
 	 * Tests that an entity collection can be created and replaced within a transaction.
 	 *
@@ -5372,6 +5731,7 @@ class EvitaTest implements EvitaTestSupport {
 					formerServerOptions.dropCollationKeysAfterSecondsOfInactivity(),
 					formerServerOptions.changeDataCapture(),
 					formerServerOptions.trafficRecording(),
+					formerServerOptions.replica(),
 					formerServerOptions.readOnly(),
 					formerServerOptions.quiet()
 				),
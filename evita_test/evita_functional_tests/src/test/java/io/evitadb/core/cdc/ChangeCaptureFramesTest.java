@@ -0,0 +1,151 @@
+/*
+ *
+ *                         _ _        ____  ____
+ *               _____   _(_) |_ __ _|  _ \| __ )
+ *              / _ \ \ / / | __/ _` | | | |  _ \
+ *             |  __/\ V /| | || (_| | |_| | |_) |
+ *              \___| \_/ |_|\__\__,_|____/|____/
+ *
+ *   Copyright (c) 2026
+ *
+ *   Licensed under the Business Source License, Version 1.1 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://github.com/FgForrest/evitaDB/blob/master/LICENSE
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+
+package io.evitadb.core.cdc;
+
+import io.evitadb.api.requestResponse.cdc.CaptureArea;
+import io.evitadb.api.requestResponse.cdc.ChangeCaptureContent;
+import io.evitadb.api.requestResponse.cdc.ChangeCatalogCapture;
+import io.evitadb.api.requestResponse.cdc.Operation;
+import io.evitadb.api.requestResponse.mutation.infrastructure.TransactionMutation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.evitadb.test.TestTags.CDC;
+import static io.evitadb.test.TestTags.ENGINE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Tests for {@link ChangeCaptureFrames} and {@link ChangeCaptureFrame} verifying that the wire representation
+ * of a capture is computed only once and shared among the subscribers.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+@DisplayName("Change capture frames should")
+@Tag(ENGINE)
+@Tag(CDC)
+class ChangeCaptureFramesTest {
+
+	@Test
+	@DisplayName("serialize the capture only once per format")
+	void shouldSerializeCaptureOnlyOncePerFormat() {
+		final ChangeCaptureFrameStatistics statistics = new ChangeCaptureFrameStatistics();
+		final ChangeCaptureFrames<ChangeCatalogCapture> frames = new ChangeCaptureFrames<>(statistics, 10);
+		final ChangeCatalogCapture capture = createCapture(1L, 0);
+		final AtomicInteger serializations = new AtomicInteger();
+
+		final ChangeCaptureFrame<ChangeCatalogCapture> frame = frames.getFrame(capture, ChangeCaptureContent.BODY);
+		assertSame(frame, frames.getFrame(capture, ChangeCaptureContent.BODY));
+
+		final Object first = frame.getOrSerialize("A", c -> "A" + serializations.incrementAndGet());
+		final Object second = frame.getOrSerialize("A", c -> "A" + serializations.incrementAndGet());
+		final Object other = frame.getOrSerialize("B", c -> "B" + serializations.incrementAndGet());
+
+		assertSame(first, second);
+		assertEquals("B2", other);
+		assertEquals(2, serializations.get());
+		assertEquals(2L, statistics.sumSerializedThenReset());
+		assertEquals(1L, statistics.sumReusedThenReset());
+		// the counters carry only the increments since the last emission
+		assertEquals(0L, statistics.sumSerializedThenReset());
+		assertEquals(0L, statistics.sumReusedThenReset());
+	}
+
+	@Test
+	@DisplayName("keep separate frames for different content levels")
+	void shouldKeepSeparateFramesForDifferentContent() {
+		final ChangeCaptureFrames<ChangeCatalogCapture> frames = new ChangeCaptureFrames<>(
+			new ChangeCaptureFrameStatistics(), 10
+		);
+		final ChangeCatalogCapture capture = createCapture(1L, 0);
+
+		final ChangeCaptureFrame<ChangeCatalogCapture> body = frames.getFrame(capture, ChangeCaptureContent.BODY);
+		final ChangeCaptureFrame<ChangeCatalogCapture> header = frames.getFrame(capture, ChangeCaptureContent.HEADER);
+
+		assertNotSame(body, header);
+		assertEquals(ChangeCaptureContent.BODY, body.getContent());
+		assertEquals(ChangeCaptureContent.HEADER, header.getContent());
+		assertEquals(2, frames.size());
+	}
+
+	@Test
+	@DisplayName("forget frames outside the tracked version range")
+	void shouldForgetFramesOutsideTrackedRange() {
+		final ChangeCaptureFrames<ChangeCatalogCapture> frames = new ChangeCaptureFrames<>(
+			new ChangeCaptureFrameStatistics(), 100
+		);
+		for (long version = 1; version <= 5; version++) {
+			for (int index = 0; index < 3; index++) {
+				frames.getFrame(createCapture(version, index), ChangeCaptureContent.BODY);
+			}
+		}
+		assertEquals(15, frames.size());
+
+		frames.forgetUntil(2L);
+		assertEquals(12, frames.size());
+
+		frames.forgetAfter(4L);
+		assertEquals(9, frames.size());
+
+		frames.clear();
+		assertEquals(0, frames.size());
+	}
+
+	@Test
+	@DisplayName("evict the oldest frames when the limit is exceeded")
+	void shouldEvictOldestFramesWhenLimitIsExceeded() {
+		final ChangeCaptureFrames<ChangeCatalogCapture> frames = new ChangeCaptureFrames<>(
+			new ChangeCaptureFrameStatistics(), 3
+		);
+		final ChangeCatalogCapture oldest = createCapture(1L, 0);
+		final ChangeCaptureFrame<ChangeCatalogCapture> oldestFrame = frames.getFrame(oldest, ChangeCaptureContent.BODY);
+		for (int index = 1; index < 4; index++) {
+			frames.getFrame(createCapture(1L, index), ChangeCaptureContent.BODY);
+		}
+
+		assertEquals(3, frames.size());
+		assertNotSame(oldestFrame, frames.getFrame(oldest, ChangeCaptureContent.BODY));
+	}
+
+	private static ChangeCatalogCapture createCapture(long version, int index) {
+		return new ChangeCatalogCapture(
+			version,
+			index,
+			OffsetDateTime.now(),
+			CaptureArea.INFRASTRUCTURE,
+			null,
+			null,
+			Operation.TRANSACTION,
+			new TransactionMutation(UUID.randomUUID(), version, 1, 0L, OffsetDateTime.now())
+		);
+	}
+
+}
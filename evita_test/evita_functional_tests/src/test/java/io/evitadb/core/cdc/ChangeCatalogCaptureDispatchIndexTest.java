@@ -0,0 +1,140 @@
+/*
+ *
+ *                         _ _        ____  ____
+ *               _____   _(_) |_ __ _|  _ \| __ )
+ *              / _ \ \ / / | __/ _` | | | |  _ \
+ *             |  __/\ V /| | || (_| | |_| | |_) |
+ *              \___| \_/ |_|\__\__,_|____/|____/
+ *
+ *   Copyright (c) 2026
+ *
+ *   Licensed under the Business Source License, Version 1.1 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://github.com/FgForrest/evitaDB/blob/master/LICENSE
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+
+package io.evitadb.core.cdc;
+
+import io.evitadb.api.requestResponse.cdc.ChangeCatalogCaptureCriteria;
+import io.evitadb.api.requestResponse.data.mutation.EntityMutation.EntityExistence;
+import io.evitadb.api.requestResponse.data.mutation.EntityRemoveMutation;
+import io.evitadb.api.requestResponse.data.mutation.EntityUpsertMutation;
+import io.evitadb.api.requestResponse.mutation.CatalogBoundMutation;
+import io.evitadb.api.requestResponse.mutation.infrastructure.TransactionMutation;
+import io.evitadb.api.requestResponse.schema.mutation.catalog.CreateEntitySchemaMutation;
+import io.evitadb.api.requestResponse.schema.mutation.catalog.ModifyCatalogSchemaDescriptionMutation;
+import io.evitadb.api.requestResponse.schema.mutation.catalog.ModifyEntitySchemaMutation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static io.evitadb.test.TestTags.CDC;
+import static io.evitadb.test.TestTags.ENGINE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests for {@link ChangeCatalogCaptureDispatchIndex} verifying that the mutations are routed only to the targets
+ * whose criteria can match them.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+@DisplayName("CDC dispatch index should")
+@Tag(ENGINE)
+@Tag(CDC)
+class ChangeCatalogCaptureDispatchIndexTest {
+	private static final Map<String, ChangeCatalogCriteriaBundle> TARGETS = Map.of(
+		"all", ChangeCatalogCriteriaBundle.CATCH_ALL,
+		"infrastructure", bundle(ChangeCatalogCaptureCriteria.builder().infrastructureArea().build()),
+		"allData", bundle(ChangeCatalogCaptureCriteria.builder().dataArea().build()),
+		"productData", bundle(ChangeCatalogCaptureCriteria.builder().dataArea(site -> site.entityType("product")).build()),
+		"productOrBrandData", bundle(
+			ChangeCatalogCaptureCriteria.builder().dataArea(site -> site.entityType("product")).build(),
+			ChangeCatalogCaptureCriteria.builder().dataArea(site -> site.entityType("brand")).build()
+		),
+		"allSchema", bundle(ChangeCatalogCaptureCriteria.builder().schemaArea().build()),
+		"productSchema", bundle(ChangeCatalogCaptureCriteria.builder().schemaArea(site -> site.entityType("product")).build()),
+		"productDataAndSchema", bundle(
+			ChangeCatalogCaptureCriteria.builder().dataArea(site -> site.entityType("product")).build(),
+			ChangeCatalogCaptureCriteria.builder().schemaArea(site -> site.entityType("product")).build()
+		)
+	);
+	private static final ChangeCatalogCaptureDispatchIndex<String> INDEX = ChangeCatalogCaptureDispatchIndex.create(
+		TARGETS.keySet(), TARGETS::get
+	);
+
+	@Test
+	@DisplayName("dispatch transaction mutations to all targets")
+	void shouldDispatchTransactionMutationToAllTargets() {
+		assertEquals(
+			sorted(TARGETS.keySet()),
+			route(new TransactionMutation(UUID.randomUUID(), 1L, 1, 0L, OffsetDateTime.now()))
+		);
+	}
+
+	@Test
+	@DisplayName("dispatch entity mutations by entity type")
+	void shouldDispatchEntityMutationsByEntityType() {
+		assertEquals(
+			List.of("all", "allData", "productData", "productDataAndSchema", "productOrBrandData"),
+			route(new EntityUpsertMutation("product", 1, EntityExistence.MAY_EXIST))
+		);
+		assertEquals(
+			List.of("all", "allData", "productOrBrandData"),
+			route(new EntityRemoveMutation("brand", 1))
+		);
+		assertEquals(
+			List.of("all", "allData"),
+			route(new EntityUpsertMutation("category", 1, EntityExistence.MAY_EXIST))
+		);
+	}
+
+	@Test
+	@DisplayName("dispatch schema mutations by entity type")
+	void shouldDispatchSchemaMutationsByEntityType() {
+		assertEquals(
+			List.of("all", "allSchema", "productDataAndSchema", "productSchema"),
+			route(new ModifyEntitySchemaMutation("product"))
+		);
+		assertEquals(
+			List.of("all", "allSchema"),
+			route(new CreateEntitySchemaMutation("brand"))
+		);
+		assertEquals(
+			List.of("all", "allSchema"),
+			route(new ModifyCatalogSchemaDescriptionMutation("description"))
+		);
+	}
+
+	private static List<String> route(CatalogBoundMutation mutation) {
+		final List<String> targets = new ArrayList<>();
+		INDEX.forEachTarget(mutation, targets::add);
+		return sorted(targets);
+	}
+
+	private static List<String> sorted(Iterable<String> targets) {
+		final List<String> result = new ArrayList<>();
+		targets.forEach(result::add);
+		result.sort(String::compareTo);
+		return result;
+	}
+
+	private static ChangeCatalogCriteriaBundle bundle(ChangeCatalogCaptureCriteria... criteria) {
+		return new ChangeCatalogCriteriaBundle(criteria);
+	}
+
+}
@@ -0,0 +1,141 @@
+/*
+ *
+ *                         _ _        ____  ____
+ *               _____   _(_) |_ __ _|  _ \| __ )
+ *              / _ \ \ / / | __/ _` | | | |  _ \
+ *             |  __/\ V /| | || (_| | |_| | |_) |
+ *              \___| \_/ |_|\__\__,_|____/|____/
+ *
+ *   Copyright (c) 2026
+ *
+ *   Licensed under the Business Source License, Version 1.1 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://github.com/FgForrest/evitaDB/blob/master/LICENSE
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.evitadb.core.metric;
+
+import io.evitadb.core.metric.LatencyHistogram.Summary;
+import io.evitadb.test.TestTags;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Verifies the bucketing and the percentiles of the {@link LatencyHistogram}.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+@DisplayName("Latency histogram")
+@Tag(TestTags.OBSERVABILITY)
+class LatencyHistogramTest {
+
+	@Test
+	@DisplayName("should keep small values in exact buckets")
+	void shouldKeepSmallValuesInExactBuckets() {
+		for (int value = 0; value < 32; value++) {
+			assertEquals(value, LatencyHistogram.getBucketIndex(value));
+			assertEquals(value, LatencyHistogram.getBucketUpperBound(value));
+		}
+		// from 32 on, the buckets start to widen
+		assertEquals(LatencyHistogram.getBucketIndex(32), LatencyHistogram.getBucketIndex(33));
+		assertEquals(33L, LatencyHistogram.getBucketUpperBound(LatencyHistogram.getBucketIndex(32)));
+	}
+
+	@Test
+	@DisplayName("should place each value into the bucket bounding it with limited relative error")
+	void shouldPlaceValuesIntoBoundingBuckets() {
+		final Random random = new Random(42);
+		final long[] values = new long[10_000];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = (random.nextLong() >>> 1) >>> random.nextInt(63);
+		}
+		for (long value : values) {
+			final int index = LatencyHistogram.getBucketIndex(value);
+			final long upperBound = LatencyHistogram.getBucketUpperBound(index);
+			assertTrue(upperBound >= value, "Upper bound " + upperBound + " is lower than " + value);
+			if (index > 0) {
+				assertTrue(LatencyHistogram.getBucketUpperBound(index - 1) < value, "Value " + value + " belongs to the previous bucket.");
+			}
+			assertTrue(upperBound - value <= value / 16, "Bucket of " + value + " is too wide: " + upperBound);
+		}
+		// the highest value must not overflow
+		assertEquals(Long.MAX_VALUE, LatencyHistogram.getBucketUpperBound(LatencyHistogram.getBucketIndex(Long.MAX_VALUE)));
+	}
+
+	@Test
+	@DisplayName("should report zeros when nothing was recorded")
+	void shouldReportZerosWhenEmpty() {
+		final LatencyHistogram histogram = new LatencyHistogram();
+		assertEquals(0L, histogram.getValueAtPercentile(50.0));
+		assertEquals(new Summary(0L, 0L, 0L, 0L, 0L, 0L, 0L), histogram.getSummary());
+	}
+
+	@Test
+	@DisplayName("should compute exact statistics and bounded percentiles")
+	void shouldComputePercentiles() {
+		final LatencyHistogram histogram = new LatencyHistogram();
+		IntStream.rangeClosed(1, 100).forEach(histogram::record);
+
+		final Summary summary = histogram.getSummary();
+		assertEquals(100L, summary.count());
+		assertEquals(1L, summary.min());
+		assertEquals(50L, summary.mean());
+		assertEquals(100L, summary.max());
+		// the percentiles are the upper bounds of the buckets - the 50th value shares the bucket with the 51st
+		assertEquals(51L, summary.p50());
+		assertEquals(91L, summary.p90());
+		assertEquals(99L, summary.p99());
+		assertEquals(100L, histogram.getValueAtPercentile(100.0));
+		assertEquals(1L, histogram.getValueAtPercentile(0.1));
+	}
+
+	@Test
+	@DisplayName("should stay within the relative error for random values")
+	void shouldStayWithinRelativeError() {
+		final Random random = new Random(7);
+		final LatencyHistogram histogram = new LatencyHistogram();
+		final long[] values = new long[5_000];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = (long) Math.abs(random.nextGaussian() * 1_000_000.0);
+			histogram.record(values[i]);
+		}
+		Arrays.sort(values);
+		for (double percentile : new double[]{50.0, 90.0, 99.0, 99.9}) {
+			final long exact = values[(int) Math.ceil(percentile / 100.0 * values.length) - 1];
+			final long reported = histogram.getValueAtPercentile(percentile);
+			assertTrue(
+				reported >= exact && reported - exact <= exact / 16,
+				"Percentile " + percentile + " reported as " + reported + " but exact value is " + exact
+			);
+		}
+	}
+
+	@Test
+	@DisplayName("should record negative values as zero")
+	void shouldRecordNegativeValuesAsZero() {
+		final LatencyHistogram histogram = new LatencyHistogram();
+		histogram.record(-5L);
+		histogram.record(10L);
+		final Summary summary = histogram.getSummary();
+		assertEquals(0L, summary.min());
+		assertEquals(5L, summary.mean());
+		assertEquals(0L, summary.p50());
+	}
+
+}
@@ -130,6 +130,65 @@ class AndFormulaTest {
 		}
 	}
 
+	@Nested
+	@DisplayName("Cardinality without materialization")
+	class CardinalityTest {
+
+		@Test
+		@DisplayName("should count intersection of bitmaps without memoizing the result")
+		void shouldCountIntersectionWithoutMaterialization() {
+			final AndFormula formula = new AndFormula(
+				INDEX_TRANSACTION_ID,
+				new ArrayBitmap(1, 3, 4, 5, 8),
+				new ArrayBitmap(1, 2, 4, 8),
+				new ArrayBitmap(1, 2, 3, 4, 5)
+			);
+
+			assertEquals(2, formula.computeCardinality());
+			assertNull(formula.getMemoizedResult());
+			assertEquals(formula.compute().size(), formula.computeCardinality());
+		}
+
+		@Test
+		@DisplayName("should count intersection of formulas")
+		void shouldCountIntersectionOfFormulas() {
+			final AndFormula formula = new AndFormula(
+				new ConstantFormula(new ArrayBitmap(new CompositeIntArray(1, 3, 4, 5, 8))),
+				new ConstantFormula(new ArrayBitmap(new CompositeIntArray(1, 2, 4, 8)))
+			);
+
+			assertEquals(3, formula.computeCardinality());
+			assertNull(formula.getMemoizedResult());
+		}
+
+		@Test
+		@DisplayName("should count zero when one of the bitmaps is empty")
+		void shouldCountZeroForEmptyBitmap() {
+			assertEquals(
+				0,
+				new AndFormula(
+					INDEX_TRANSACTION_ID,
+					new ArrayBitmap(1, 3, 4, 5, 8),
+					new ArrayBitmap()
+				).computeCardinality()
+			);
+		}
+
+		@Test
+		@DisplayName("should reset memoized cardinality on clearMemory")
+		void shouldResetCardinalityOnClearMemory() {
+			final AndFormula formula = new AndFormula(
+				INDEX_TRANSACTION_ID,
+				new ArrayBitmap(1, 2, 3),
+				new ArrayBitmap(2, 3, 4)
+			);
+
+			assertEquals(2, formula.computeCardinality());
+			formula.clearMemory();
+			assertEquals(2, formula.computeCardinality());
+		}
+	}
+
 	@Nested
 	@DisplayName("Memoization")
 	class MemoizationTest {
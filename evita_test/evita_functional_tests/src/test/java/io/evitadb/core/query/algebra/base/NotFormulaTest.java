@@ -111,6 +111,42 @@ class NotFormulaTest {
 		}
 	}
 
+	@Nested
+	@DisplayName("Cardinality without materialization")
+	class CardinalityTest {
+
+		@Test
+		@DisplayName("should count difference of bitmaps without memoizing the result")
+		void shouldCountDifferenceWithoutMaterialization() {
+			final NotFormula formula = new NotFormula(
+				new BaseBitmap(2, 7, 9),
+				new BaseBitmap(1, 2, 3, 4)
+			);
+
+			assertEquals(3, formula.computeCardinality());
+			assertNull(formula.getMemoizedResult());
+			assertEquals(formula.compute().size(), formula.computeCardinality());
+		}
+
+		@Test
+		@DisplayName("should count difference of formulas")
+		void shouldCountDifferenceOfFormulas() {
+			final NotFormula formula = new NotFormula(
+				new ConstantFormula(new ArrayBitmap(new CompositeIntArray(1, 2))),
+				new ConstantFormula(new ArrayBitmap(new CompositeIntArray(1, 2, 3, 4)))
+			);
+
+			assertEquals(2, formula.computeCardinality());
+			assertNull(formula.getMemoizedResult());
+		}
+
+		@Test
+		@DisplayName("should count zero for empty superset")
+		void shouldCountZeroForEmptySuperset() {
+			assertEquals(0, new NotFormula(new BaseBitmap(1, 2), new BaseBitmap()).computeCardinality());
+		}
+	}
+
 	@Nested
 	@DisplayName("Memoization")
 	class MemoizationTest {
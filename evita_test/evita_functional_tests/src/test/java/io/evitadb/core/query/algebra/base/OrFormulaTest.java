@@ -162,6 +162,38 @@ class OrFormulaTest {
 		}
 	}
 
+	@Nested
+	@DisplayName("Cardinality without materialization")
+	class CardinalityTest {
+
+		@Test
+		@DisplayName("should count union of bitmaps without memoizing the result")
+		void shouldCountUnionWithoutMaterialization() {
+			final OrFormula formula = new OrFormula(
+				INDEX_TRANSACTION_ID,
+				new BaseBitmap(1, 3, 4, 5, 8),
+				new BaseBitmap(1, 2, 4, 8),
+				new BaseBitmap(1, 2, 3, 4, 5)
+			);
+
+			assertEquals(6, formula.computeCardinality());
+			assertNull(formula.getMemoizedResult());
+			assertEquals(formula.compute().size(), formula.computeCardinality());
+		}
+
+		@Test
+		@DisplayName("should count union of formulas")
+		void shouldCountUnionOfFormulas() {
+			final OrFormula formula = new OrFormula(
+				new ConstantFormula(new ArrayBitmap(new CompositeIntArray(1, 3, 5))),
+				new ConstantFormula(new ArrayBitmap(new CompositeIntArray(3, 5, 8)))
+			);
+
+			assertEquals(4, formula.computeCardinality());
+			assertNull(formula.getMemoizedResult());
+		}
+	}
+
 	@Nested
 	@DisplayName("Memoization")
 	class MemoizationTest {
@@ -0,0 +1,140 @@
+/*
+ *
+ *                         _ _        ____  ____
+ *               _____   _(_) |_ __ _|  _ \| __ )
+ *              / _ \ \ / / | __/ _` | | | |  _ \
+ *             |  __/\ V /| | || (_| | |_| | |_) |
+ *              \___| \_/ |_|\__\__,_|____/|____/
+ *
+ *   Copyright (c) 2026
+ *
+ *   Licensed under the Business Source License, Version 1.1 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://github.com/FgForrest/evitaDB/blob/master/LICENSE
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+
+package io.evitadb.core.query.algebra.price;
+
+import io.evitadb.core.query.algebra.price.filteredPriceRecords.FilteredPriceRecords.SortingForm;
+import io.evitadb.core.query.algebra.price.filteredPriceRecords.ResolvedFilteredPriceRecords;
+import io.evitadb.index.price.model.priceRecord.PriceRecord;
+import io.evitadb.index.price.model.priceRecord.PriceRecordContract;
+import io.evitadb.roaringbitmap.PersistentRoaringBitmap;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import javax.annotation.Nonnull;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.evitadb.test.TestTags.ENGINE;
+import static io.evitadb.test.TestTags.PRICE;
+import static io.evitadb.test.TestTags.QUERY;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * This test verifies {@link FilteredPriceRecordsLookupCache} behaviour.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+@DisplayName("FilteredPriceRecordsLookupCache tests")
+@Tag(ENGINE)
+@Tag(QUERY)
+@Tag(PRICE)
+class FilteredPriceRecordsLookupCacheTest {
+	private static final PriceRecord[] PRICE_RECORDS = {
+		createPriceRecord(1, 100),
+		createPriceRecord(2, 200),
+		createPriceRecord(4, 400)
+	};
+
+	@Test
+	@DisplayName("Should resolve the lookup only once for equal entity primary keys and same accessors")
+	void shouldResolveLookupOnlyOnce() {
+		final AtomicInteger resolutions = new AtomicInteger();
+		final List<FilteredPriceRecordAccessor> accessors = List.of(createAccessor(resolutions));
+		final FilteredPriceRecordsLookupCache tested = new FilteredPriceRecordsLookupCache();
+
+		assertNull(tested.get(PersistentRoaringBitmap.bitmapOf(1, 2, 3, 4), accessors));
+
+		final FilteredPriceRecordsLookupResult first = tested.getOrCompute(
+			PersistentRoaringBitmap.bitmapOf(1, 2, 3, 4), accessors, null
+		);
+		assertArrayEquals(PRICE_RECORDS, first.getPriceRecords());
+		assertNotNull(first.getNotFoundEntities());
+		assertEquals(1, first.getNotFoundEntities().size());
+		assertEquals(3, first.getNotFoundEntities().getFirst());
+
+		// equal (but not the same) bitmap and the same accessor instances in another collection
+		final FilteredPriceRecordsLookupResult second = tested.getOrCompute(
+			PersistentRoaringBitmap.bitmapOf(1, 2, 3, 4), List.copyOf(accessors), null
+		);
+		assertSame(first, second);
+		assertSame(first, tested.get(PersistentRoaringBitmap.bitmapOf(1, 2, 3, 4), accessors));
+		assertEquals(1, resolutions.get());
+	}
+
+	@Test
+	@DisplayName("Should resolve the lookup again for different entity primary keys")
+	void shouldResolveLookupForDifferentEntities() {
+		final AtomicInteger resolutions = new AtomicInteger();
+		final List<FilteredPriceRecordAccessor> accessors = List.of(createAccessor(resolutions));
+		final FilteredPriceRecordsLookupCache tested = new FilteredPriceRecordsLookupCache();
+
+		final FilteredPriceRecordsLookupResult first = tested.getOrCompute(
+			PersistentRoaringBitmap.bitmapOf(1, 2), accessors, null
+		);
+		final FilteredPriceRecordsLookupResult second = tested.getOrCompute(
+			PersistentRoaringBitmap.bitmapOf(2, 4), accessors, null
+		);
+		assertNotSame(first, second);
+		assertArrayEquals(new PriceRecordContract[]{PRICE_RECORDS[1], PRICE_RECORDS[2]}, second.getPriceRecords());
+		assertNull(second.getNotFoundEntities());
+		assertEquals(2, resolutions.get());
+	}
+
+	@Test
+	@DisplayName("Should resolve the lookup again for different accessor instances")
+	void shouldResolveLookupForDifferentAccessors() {
+		final AtomicInteger resolutions = new AtomicInteger();
+		final FilteredPriceRecordsLookupCache tested = new FilteredPriceRecordsLookupCache();
+
+		final FilteredPriceRecordsLookupResult first = tested.getOrCompute(
+			PersistentRoaringBitmap.bitmapOf(1, 2), List.of(createAccessor(resolutions)), null
+		);
+		final FilteredPriceRecordsLookupResult second = tested.getOrCompute(
+			PersistentRoaringBitmap.bitmapOf(1, 2), List.of(createAccessor(resolutions)), null
+		);
+		assertNotSame(first, second);
+		assertEquals(2, resolutions.get());
+	}
+
+	@Nonnull
+	private static FilteredPriceRecordAccessor createAccessor(@Nonnull AtomicInteger resolutions) {
+		return context -> {
+			resolutions.incrementAndGet();
+			return new ResolvedFilteredPriceRecords(PRICE_RECORDS, SortingForm.ENTITY_PK);
+		};
+	}
+
+	@Nonnull
+	private static PriceRecord createPriceRecord(int entityPrimaryKey, int price) {
+		return new PriceRecord(entityPrimaryKey, entityPrimaryKey, entityPrimaryKey, price, price);
+	}
+
+}
@@ -0,0 +1,212 @@
+/*
+ *
+ *                         _ _        ____  ____
+ *               _____   _(_) |_ __ _|  _ \| __ )
+ *              / _ \ \ / / | __/ _` | | | |  _ \
+ *             |  __/\ V /| | || (_| | |_| | |_) |
+ *              \___| \_/ |_|\__\__,_|____/|____/
+ *
+ *   Copyright (c) 2026
+ *
+ *   Licensed under the Business Source License, Version 1.1 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://github.com/FgForrest/evitaDB/blob/master/LICENSE
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+
+package io.evitadb.core.query.extraResult.translator.histogram.producer;
+
+import io.evitadb.api.query.require.HistogramBehavior;
+import io.evitadb.api.query.require.QueryPriceMode;
+import io.evitadb.core.query.algebra.base.ConstantFormula;
+import io.evitadb.core.query.algebra.price.FilteredPriceRecordAccessor;
+import io.evitadb.core.query.algebra.price.filteredPriceRecords.FilteredPriceRecords.SortingForm;
+import io.evitadb.core.query.algebra.price.filteredPriceRecords.ResolvedFilteredPriceRecords;
+import io.evitadb.core.query.extraResult.translator.histogram.cache.CacheableHistogram;
+import io.evitadb.core.query.extraResult.translator.histogram.cache.CacheableHistogramContract;
+import io.evitadb.index.bitmap.BaseBitmap;
+import io.evitadb.index.bitmap.RoaringBitmapBackedBitmap;
+import io.evitadb.index.price.model.priceRecord.PriceRecord;
+import io.evitadb.index.price.model.priceRecord.PriceRecordContract;
+import io.evitadb.roaringbitmap.PersistentRoaringBitmap;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import javax.annotation.Nonnull;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
+
+import static io.evitadb.test.TestTags.ENGINE;
+import static io.evitadb.test.TestTags.HISTOGRAM;
+import static io.evitadb.test.TestTags.PRICE;
+import static io.evitadb.test.TestTags.QUERY;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * This test verifies that {@link PriceHistogramComputer} folding streamed price amounts produces exactly the same
+ * histogram as bucketing the fully materialized and sorted price record array.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+@DisplayName("PriceHistogramComputer tests")
+@Tag(ENGINE)
+@Tag(QUERY)
+@Tag(HISTOGRAM)
+@Tag(PRICE)
+class PriceHistogramComputerTest {
+	private static final int INDEXED_PRICE_PLACES = 2;
+	private static final int BUCKET_COUNT = 20;
+
+	@ParameterizedTest(name = "{0}")
+	@EnumSource(HistogramBehavior.class)
+	@DisplayName("Should fold prices of the filtering result into the same histogram as the materialized records")
+	void shouldComputeSameHistogramAsMaterializedRecords(@Nonnull HistogramBehavior behavior) {
+		final Random random = new Random(42);
+		final PriceRecord[] priceRecords = generatePriceRecords(random, 5_000);
+		final BaseBitmap filteringResult = selectEntities(random, priceRecords, 0.6);
+
+		final PriceHistogramComputer computer = new PriceHistogramComputer(
+			BUCKET_COUNT, behavior, INDEXED_PRICE_PLACES, QueryPriceMode.WITH_TAX,
+			new ConstantFormula(filteringResult), null,
+			List.of(createAccessor(priceRecords))
+		);
+
+		assertHistogramEquals(
+			computeReferenceHistogram(behavior, QueryPriceMode.WITH_TAX, priceRecords, filteringResult),
+			computer.compute()
+		);
+	}
+
+	@ParameterizedTest(name = "{0}")
+	@EnumSource(HistogramBehavior.class)
+	@DisplayName("Should include entities filtered out by price between exactly once")
+	void shouldIncludeFilteredOutEntitiesExactlyOnce(@Nonnull HistogramBehavior behavior) {
+		final Random random = new Random(7);
+		final PriceRecord[] priceRecords = generatePriceRecords(random, 5_000);
+		final BaseBitmap filteringResult = selectEntities(random, priceRecords, 0.3);
+		// the relaxed formula overlaps the filtering result on purpose
+		final BaseBitmap relaxedResult = selectEntities(random, priceRecords, 0.5);
+		final BaseBitmap union = new BaseBitmap(
+			PersistentRoaringBitmap.or(
+				RoaringBitmapBackedBitmap.getRoaringBitmap(filteringResult),
+				RoaringBitmapBackedBitmap.getRoaringBitmap(relaxedResult)
+			)
+		);
+
+		final PriceHistogramComputer computer = new PriceHistogramComputer(
+			BUCKET_COUNT, behavior, INDEXED_PRICE_PLACES, QueryPriceMode.WITHOUT_TAX,
+			new ConstantFormula(filteringResult), new ConstantFormula(relaxedResult),
+			List.of(createAccessor(priceRecords))
+		);
+
+		assertHistogramEquals(
+			computeReferenceHistogram(behavior, QueryPriceMode.WITHOUT_TAX, priceRecords, union),
+			computer.compute()
+		);
+	}
+
+	/**
+	 * Generates price records for consecutive entity primary keys - some entities have more prices, some none.
+	 */
+	@Nonnull
+	private static PriceRecord[] generatePriceRecords(@Nonnull Random random, int entityCount) {
+		final List<PriceRecord> result = new ArrayList<>(entityCount * 2);
+		int priceId = 0;
+		for (int entityPk = 1; entityPk <= entityCount; entityPk++) {
+			final int priceCount = random.nextInt(3);
+			for (int i = 0; i < priceCount; i++) {
+				// limited amount of distinct prices so that the folding really aggregates something
+				final int priceWithoutTax = (1 + random.nextInt(800)) * 50;
+				result.add(new PriceRecord(++priceId, priceId, entityPk, (int) (priceWithoutTax * 1.21), priceWithoutTax));
+			}
+		}
+		return result.toArray(PriceRecord[]::new);
+	}
+
+	/**
+	 * Selects random share of entities from the price records (plus few entities without any price).
+	 */
+	@Nonnull
+	private static BaseBitmap selectEntities(@Nonnull Random random, @Nonnull PriceRecord[] priceRecords, double share) {
+		final BaseBitmap result = new BaseBitmap();
+		final int lastEntityPk = priceRecords[priceRecords.length - 1].entityPrimaryKey();
+		for (int entityPk = 1; entityPk <= lastEntityPk; entityPk++) {
+			if (random.nextDouble() < share) {
+				result.add(entityPk);
+			}
+		}
+		return result;
+	}
+
+	@Nonnull
+	private static FilteredPriceRecordAccessor createAccessor(@Nonnull PriceRecord[] priceRecords) {
+		final ResolvedFilteredPriceRecords filteredPriceRecords = new ResolvedFilteredPriceRecords(priceRecords, SortingForm.ENTITY_PK);
+		return context -> filteredPriceRecords;
+	}
+
+	/**
+	 * Computes the histogram the original way - materializes all price records of the entities, sorts them by price
+	 * and buckets every single record.
+	 */
+	@Nonnull
+	private static CacheableHistogramContract computeReferenceHistogram(
+		@Nonnull HistogramBehavior behavior,
+		@Nonnull QueryPriceMode queryPriceMode,
+		@Nonnull PriceRecord[] priceRecords,
+		@Nonnull BaseBitmap entities
+	) {
+		final ToIntFunction<PriceRecordContract> priceRetriever = queryPriceMode == QueryPriceMode.WITH_TAX ?
+			PriceRecordContract::priceWithTax : PriceRecordContract::priceWithoutTax;
+		final PriceRecordContract[] matchingRecords = Arrays.stream(priceRecords)
+			.filter(it -> entities.contains(it.entityPrimaryKey()))
+			.sorted(Comparator.comparingInt(priceRetriever))
+			.toArray(PriceRecordContract[]::new);
+		final IntFunction<BigDecimal> toBigDecimal = value -> new BigDecimal(value).scaleByPowerOfTen(-1 * INDEXED_PRICE_PLACES);
+		final ToIntFunction<BigDecimal> fromBigDecimal = value -> value.scaleByPowerOfTen(INDEXED_PRICE_PLACES).intValueExact();
+		final HistogramDataCruncherContract<PriceRecordContract> cruncher = switch (behavior) {
+			case STANDARD -> new HistogramDataCruncher<>(
+				"price histogram", BUCKET_COUNT, INDEXED_PRICE_PLACES, matchingRecords,
+				priceRetriever, value -> 1, toBigDecimal, fromBigDecimal
+			);
+			case OPTIMIZED -> HistogramDataCruncher.createOptimalHistogram(
+				"price histogram", BUCKET_COUNT, INDEXED_PRICE_PLACES, matchingRecords,
+				priceRetriever, value -> 1, toBigDecimal, fromBigDecimal
+			);
+			case EQUALIZED -> new EqualizedHistogramDataCruncher<>(
+				"price histogram", BUCKET_COUNT, INDEXED_PRICE_PLACES, matchingRecords,
+				priceRetriever, value -> 1, toBigDecimal, EqualizedHistogramDataCruncher.BucketCountMode.EXACT
+			);
+			case EQUALIZED_OPTIMIZED -> new EqualizedHistogramDataCruncher<>(
+				"price histogram", BUCKET_COUNT, INDEXED_PRICE_PLACES, matchingRecords,
+				priceRetriever, value -> 1, toBigDecimal, EqualizedHistogramDataCruncher.BucketCountMode.ADAPTIVE
+			);
+		};
+		return new CacheableHistogram(cruncher.getHistogram(), cruncher.getMaxValue());
+	}
+
+	private static void assertHistogramEquals(
+		@Nonnull CacheableHistogramContract expected,
+		@Nonnull CacheableHistogramContract actual
+	) {
+		assertEquals(expected.getMax(), actual.getMax());
+		assertArrayEquals(expected.getBuckets(), actual.getBuckets());
+	}
+
+}
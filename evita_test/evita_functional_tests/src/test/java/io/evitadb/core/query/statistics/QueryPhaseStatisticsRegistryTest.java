@@ -0,0 +1,117 @@
+/*
+ *
+ *                         _ _        ____  ____
+ *               _____   _(_) |_ __ _|  _ \| __ )
+ *              / _ \ \ / / | __/ _` | | | |  _ \
+ *             |  __/\ V /| | || (_| | |_| | |_) |
+ *              \___| \_/ |_|\__\__,_|____/|____/
+ *
+ *   Copyright (c) 2026
+ *
+ *   Licensed under the Business Source License, Version 1.1 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://github.com/FgForrest/evitaDB/blob/master/LICENSE
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.evitadb.core.query.statistics;
+
+import io.evitadb.api.requestResponse.extraResult.QueryTelemetry.QueryPhase;
+import io.evitadb.core.query.statistics.QueryPhaseStatisticsRegistry.QueryPhaseHistogram;
+import io.evitadb.test.TestTags;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Verifies the {@link QueryPhaseTimer} and the aggregation of the {@link QueryPhaseStatisticsRegistry}.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+@DisplayName("Query phase statistics registry")
+@Tag(TestTags.ENGINE)
+@Tag(TestTags.QUERY)
+class QueryPhaseStatisticsRegistryTest {
+
+	private static int slotOf(QueryPhase phase) {
+		for (int i = 0; i < QueryPhaseTimer.REPORTED_PHASES.length; i++) {
+			if (QueryPhaseTimer.REPORTED_PHASES[i] == phase) {
+				return i;
+			}
+		}
+		throw new IllegalArgumentException("Phase " + phase + " is not reported!");
+	}
+
+	@Test
+	@DisplayName("should measure only the reported phases that were entered")
+	void shouldMeasureOnlyEnteredPhases() {
+		final QueryPhaseTimer timer = new QueryPhaseTimer();
+		timer.push(QueryPhase.PLANNING);
+		timer.push(QueryPhase.PLANNING_FILTER);
+		timer.pop();
+		timer.pop();
+		timer.push(QueryPhase.EXECUTION);
+		timer.push(QueryPhase.EXECUTION_FILTER);
+		timer.pop();
+		timer.pop();
+
+		assertTrue(timer.getDurationInNanos(slotOf(QueryPhase.PLANNING)) >= 0L);
+		assertTrue(timer.getDurationInNanos(slotOf(QueryPhase.EXECUTION_FILTER)) >= 0L);
+		assertTrue(timer.getDurationInNanos(slotOf(QueryPhase.FETCHING)) < 0L);
+		assertTrue(timer.getDurationInNanos(slotOf(QueryPhase.EXECUTION_SORT_AND_SLICE)) < 0L);
+	}
+
+	@Test
+	@DisplayName("should ignore unbalanced pop and survive deep nesting")
+	void shouldIgnoreUnbalancedPop() {
+		final QueryPhaseTimer timer = new QueryPhaseTimer();
+		timer.pop();
+		for (int i = 0; i < 100; i++) {
+			timer.push(QueryPhase.EXECUTION_FILTER_NESTED_QUERY);
+		}
+		timer.push(QueryPhase.FETCHING);
+		for (int i = 0; i < 101; i++) {
+			timer.pop();
+		}
+		assertTrue(timer.getDurationInNanos(slotOf(QueryPhase.FETCHING)) >= 0L);
+	}
+
+	@Test
+	@DisplayName("should aggregate phase histograms per entity type")
+	void shouldAggregatePhaseHistogramsPerEntityType() {
+		final QueryPhaseStatisticsRegistry registry = new QueryPhaseStatisticsRegistry();
+		for (int i = 0; i < 3; i++) {
+			final QueryPhaseTimer timer = new QueryPhaseTimer();
+			timer.push(QueryPhase.PLANNING);
+			timer.pop();
+			registry.record(i < 2 ? "Product" : null, timer);
+		}
+
+		final List<QueryPhaseHistogram> histograms = new ArrayList<>();
+		registry.forEach(histograms::add);
+		assertEquals(2, histograms.size());
+
+		final QueryPhaseHistogram product = histograms.stream().filter(it -> "Product".equals(it.entityType())).findFirst().orElseThrow();
+		assertEquals(QueryPhase.PLANNING, product.phase());
+		assertEquals(2L, product.count());
+		assertEquals(QueryPhaseStatisticsRegistry.BUCKET_UPPER_BOUNDS_IN_MICROSECONDS.length + 1, product.bucketCounts().length);
+
+		final QueryPhaseHistogram noEntityType = histograms.stream().filter(it -> it.entityType() == null).findFirst().orElseThrow();
+		assertNull(noEntityType.entityType());
+		assertEquals(1L, noEntityType.count());
+	}
+}
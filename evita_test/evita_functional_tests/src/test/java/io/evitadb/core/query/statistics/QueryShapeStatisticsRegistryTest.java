@@ -0,0 +1,121 @@
+/*
+ *
+ *                         _ _        ____  ____
+ *               _____   _(_) |_ __ _|  _ \| __ )
+ *              / _ \ \ / / | __/ _` | | | |  _ \
+ *             |  __/\ V /| | || (_| | |_| | |_) |
+ *              \___| \_/ |_|\__\__,_|____/|____/
+ *
+ *   Copyright (c) 2026
+ *
+ *   Licensed under the Business Source License, Version 1.1 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://github.com/FgForrest/evitaDB/blob/master/LICENSE
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.evitadb.core.query.statistics;
+
+import io.evitadb.api.observability.QueryShapeStatistics;
+import io.evitadb.api.query.Query;
+import io.evitadb.test.TestTags;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static io.evitadb.api.query.Query.query;
+import static io.evitadb.api.query.QueryConstraints.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Verifies the aggregation of the {@link QueryShapeStatisticsRegistry}.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+@DisplayName("Query shape statistics registry")
+@Tag(TestTags.ENGINE)
+@Tag(TestTags.QUERY)
+class QueryShapeStatisticsRegistryTest {
+
+	private static Query productByCode(String code) {
+		return query(
+			collection("Product"),
+			filterBy(attributeEquals("code", code))
+		);
+	}
+
+	private static Query productsByPriceBetween(int from, int to) {
+		return query(
+			collection("Product"),
+			filterBy(attributeBetween("price", from, to))
+		);
+	}
+
+	@Test
+	@DisplayName("should aggregate queries differing only in constants to a single shape")
+	void shouldAggregateQueriesOfSameShape() {
+		final QueryShapeStatisticsRegistry registry = new QueryShapeStatisticsRegistry();
+		registry.record("Product", productByCode("A"), 1_000_000L, 10, 1, 1, 100);
+		registry.record("Product", productByCode("B"), 3_000_000L, 20, 1, 2, 300);
+
+		final List<QueryShapeStatistics> statistics = registry.getStatistics();
+		assertEquals(1, statistics.size());
+
+		final QueryShapeStatistics shape = statistics.get(0);
+		assertEquals("Product", shape.entityType());
+		assertEquals(2L, shape.callCount());
+		assertEquals(4_000L, shape.totalDurationInMicroseconds());
+		assertEquals(2_000L, shape.meanDurationInMicroseconds());
+		assertEquals(30L, shape.recordsScanned());
+		assertEquals(2L, shape.recordsReturned());
+		assertEquals(3L, shape.ioFetchCount());
+		assertEquals(400L, shape.ioFetchedSizeBytes());
+	}
+
+	@Test
+	@DisplayName("should order shapes by the total time spent descending and respect the limit")
+	void shouldOrderShapesByTotalDuration() {
+		final QueryShapeStatisticsRegistry registry = new QueryShapeStatisticsRegistry();
+		registry.record("Product", productByCode("A"), 1_000_000L, 1, 1, 0, 0);
+		registry.record("Product", productsByPriceBetween(1, 10), 5_000_000L, 100, 10, 0, 0);
+
+		final List<QueryShapeStatistics> statistics = registry.getStatistics();
+		assertEquals(2, statistics.size());
+		assertEquals(5_000L, statistics.get(0).totalDurationInMicroseconds());
+		assertEquals(1_000L, statistics.get(1).totalDurationInMicroseconds());
+		assertEquals(statistics.get(0), registry.getStatistics(1).get(0));
+		assertEquals(1, registry.getStatistics(1).size());
+	}
+
+	@Test
+	@DisplayName("should accumulate shapes exceeding the limit into the other bucket")
+	void shouldAccumulateOverflowingShapesIntoOtherBucket() {
+		final QueryShapeStatisticsRegistry registry = new QueryShapeStatisticsRegistry();
+		for (int i = 0; i <= QueryShapeStatisticsRegistry.MAX_SHAPES; i++) {
+			registry.record(
+				"Product",
+				query(collection("Product"), filterBy(attributeEquals("attribute" + i, "value"))),
+				1_000L, 1, 1, 0, 0
+			);
+		}
+
+		final List<QueryShapeStatistics> statistics = registry.getStatistics();
+		assertEquals(QueryShapeStatisticsRegistry.MAX_SHAPES + 1, statistics.size());
+		final QueryShapeStatistics other = statistics.stream()
+			.filter(it -> QueryShapeStatisticsRegistry.OTHER_SHAPES.equals(it.shape()))
+			.findFirst()
+			.orElseThrow();
+		assertEquals(1L, other.callCount());
+		assertNull(other.entityType());
+	}
+}
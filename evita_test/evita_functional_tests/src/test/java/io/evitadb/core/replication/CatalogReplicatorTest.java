@@ -0,0 +1,413 @@
+/*
+ *
+ *                         _ _        ____  ____
+ *               _____   _(_) |_ __ _|  _ \| __ )
+ *              / _ \ \ / / | __/ _` | | | |  _ \
+ *             |  __/\ V /| | || (_| | |_| | |_) |
+ *              \___| \_/ |_|\__\__,_|____/|____/
+ *
+ *   Copyright (c) 2026
+ *
+ *   Licensed under the Business Source License, Version 1.1 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://github.com/FgForrest/evitaDB/blob/master/LICENSE
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.evitadb.core.replication;
+
+import io.evitadb.api.EvitaContract;
+import io.evitadb.api.EvitaSessionContract;
+import io.evitadb.api.configuration.EvitaConfiguration;
+import io.evitadb.api.configuration.ReplicaOptions;
+import io.evitadb.api.configuration.ServerOptions;
+import io.evitadb.api.exception.ReadOnlyException;
+import io.evitadb.api.requestResponse.cdc.ChangeCatalogCapture;
+import io.evitadb.api.requestResponse.cdc.ChangeCatalogCaptureRequest;
+import io.evitadb.core.Evita;
+import io.evitadb.test.EvitaTestSupport;
+import io.evitadb.test.EvitaTestSupport.TestPaths;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import javax.annotation.Nonnull;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static io.evitadb.api.query.QueryConstraints.attributeContent;
+import static io.evitadb.test.TestConstants.TEST_CATALOG;
+import static io.evitadb.test.TestTags.ENGINE;
+import static io.evitadb.test.TestTags.TRANSACTION;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * This test verifies that {@link CatalogReplicator} keeps the catalog of a read-only replica in sync with the catalog
+ * of the primary instance. Both instances are embedded {@link Evita} engines.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+@Tag(ENGINE)
+@Tag(TRANSACTION)
+@DisplayName("Catalog replication from the primary instance")
+class CatalogReplicatorTest implements EvitaTestSupport {
+	private static final String ENTITY_PRODUCT = "product";
+	private static final String ATTRIBUTE_CODE = "code";
+	private static final long POLL_INTERVAL_MILLIS = 50L;
+	private static final long TIMEOUT_MILLIS = 30_000L;
+
+	private TestPaths primaryPaths;
+	private TestPaths replicaPaths;
+	private Evita primary;
+	private Evita replica;
+	private CatalogReplicator replicator;
+
+	@BeforeEach
+	void setUp() {
+		this.primaryPaths = createTestPaths("CatalogReplicatorTest_primary");
+		this.replicaPaths = createTestPaths("CatalogReplicatorTest_replica");
+		this.primary = new Evita(newTestEvitaConfigurationBuilder(this.primaryPaths).build());
+		this.primary.defineCatalog(TEST_CATALOG);
+		this.primary.updateCatalog(
+			TEST_CATALOG,
+			session -> {
+				session.defineEntitySchema(ENTITY_PRODUCT)
+					.withoutGeneratedPrimaryKey()
+					.withAttribute(ATTRIBUTE_CODE, String.class)
+					.updateVia(session);
+			}
+		);
+		this.primary.updateCatalog(TEST_CATALOG, EvitaSessionContract::goLiveAndClose);
+		upsertProduct(1);
+		upsertProduct(2);
+
+		this.replica = new Evita(createReplicaConfiguration(1000));
+	}
+
+	@AfterEach
+	void tearDown() {
+		if (this.replicator != null) {
+			this.replicator.close();
+		}
+		this.replica.close();
+		this.primary.close();
+		cleanupTestPaths(this.replicaPaths);
+		cleanupTestPaths(this.primaryPaths);
+	}
+
+	@Test
+	@DisplayName("should bootstrap the catalog from the primary and switch to read-only mode")
+	void shouldBootstrapCatalogFromPrimary() {
+		this.replicator = this.replica.createReplicator(this.primary);
+		this.replicator.bootstrap();
+
+		assertTrue(this.replica.isReadOnly());
+		assertEquals(getCatalogVersion(this.primary), getCatalogVersion(this.replica));
+		assertProductReplicated(1);
+		assertProductReplicated(2);
+		assertThrows(
+			ReadOnlyException.class,
+			() -> this.replica.updateCatalog(TEST_CATALOG, session -> {
+				session.createNewEntity(ENTITY_PRODUCT, 3).upsertVia(session);
+			})
+		);
+	}
+
+	@Test
+	@DisplayName("should catch up with the primary transaction by transaction")
+	void shouldCatchUpWithPrimary() {
+		this.replicator = this.replica.createReplicator(this.primary);
+		this.replicator.bootstrap();
+
+		for (int i = 3; i <= 6; i++) {
+			upsertProduct(i);
+		}
+		this.primary.updateCatalog(
+			TEST_CATALOG,
+			session -> {
+				session.getEntity(ENTITY_PRODUCT, 1, attributeContent())
+					.orElseThrow()
+					.openForWrite()
+					.setAttribute(ATTRIBUTE_CODE, "changed")
+					.upsertVia(session);
+				session.deleteEntity(ENTITY_PRODUCT, 2);
+			}
+		);
+
+		assertFalse(this.replicator.poll());
+
+		assertEquals(getCatalogVersion(this.primary), getCatalogVersion(this.replica));
+		assertEquals("changed", getProductCode(this.replica, 1));
+		assertNull(getProductCode(this.replica, 2));
+		for (int i = 3; i <= 6; i++) {
+			assertProductReplicated(i);
+		}
+		assertFalse(this.replicator.isDiverged(TEST_CATALOG));
+	}
+
+	@Test
+	@DisplayName("should apply at most the configured number of transactions in a single poll")
+	void shouldLimitTransactionsPerPoll() {
+		this.replica.close();
+		this.replica = new Evita(createReplicaConfiguration(2));
+		this.replicator = this.replica.createReplicator(this.primary);
+		this.replicator.bootstrap();
+
+		final long bootstrapVersion = getCatalogVersion(this.replica);
+		for (int i = 3; i <= 7; i++) {
+			upsertProduct(i);
+		}
+
+		assertTrue(this.replicator.poll());
+		assertEquals(bootstrapVersion + 2, getCatalogVersion(this.replica));
+		assertTrue(this.replicator.poll());
+		assertEquals(bootstrapVersion + 4, getCatalogVersion(this.replica));
+		assertFalse(this.replicator.poll());
+		assertEquals(getCatalogVersion(this.primary), getCatalogVersion(this.replica));
+	}
+
+	@Test
+	@DisplayName("should stop replicating the catalog when the replica diverges from the primary")
+	void shouldStopReplicationWhenReplicaDiverges() {
+		final EvitaContract primaryMissingTransaction = createPrimarySkippingVersion(getCatalogVersion(this.primary) + 1);
+		this.replicator = this.replica.createReplicator(primaryMissingTransaction);
+		this.replicator.bootstrap();
+
+		final long bootstrapVersion = getCatalogVersion(this.replica);
+		upsertProduct(3);
+		upsertProduct(4);
+		upsertProduct(5);
+
+		// transaction with product 3 is never delivered, so the product 4 is applied with the version of product 3
+		assertFalse(this.replicator.poll());
+		assertTrue(this.replicator.isDiverged(TEST_CATALOG));
+		assertEquals(bootstrapVersion + 1, getCatalogVersion(this.replica));
+		assertProductReplicated(4);
+
+		// diverged catalog is no longer replicated
+		upsertProduct(6);
+		assertFalse(this.replicator.poll());
+		assertEquals(bootstrapVersion + 1, getCatalogVersion(this.replica));
+		assertNull(getProductCode(this.replica, 5));
+	}
+
+	@Test
+	@DisplayName("should replicate the catalog created on the primary after the bootstrap and survive its removal")
+	void shouldReplicateCatalogCreatedAfterBootstrap() {
+		this.replicator = this.replica.createReplicator(this.primary);
+		this.replicator.bootstrap();
+
+		final String otherCatalog = TEST_CATALOG + "_other";
+		this.primary.defineCatalog(otherCatalog);
+		this.primary.updateCatalog(
+			otherCatalog,
+			session -> {
+				session.defineEntitySchema(ENTITY_PRODUCT)
+					.withoutGeneratedPrimaryKey()
+					.withAttribute(ATTRIBUTE_CODE, String.class)
+					.updateVia(session);
+			}
+		);
+		this.primary.updateCatalog(otherCatalog, EvitaSessionContract::goLiveAndClose);
+		this.primary.updateCatalog(
+			otherCatalog,
+			session -> {
+				session.createNewEntity(ENTITY_PRODUCT, 1)
+					.setAttribute(ATTRIBUTE_CODE, "other")
+					.upsertVia(session);
+			}
+		);
+
+		assertFalse(this.replicator.poll());
+		assertTrue(this.replica.getCatalogNames().contains(otherCatalog));
+		assertEquals(
+			"other",
+			this.replica.queryCatalog(
+				otherCatalog,
+				(Function<EvitaSessionContract, String>) session -> session
+					.getEntity(ENTITY_PRODUCT, 1, attributeContent())
+					.map(it -> (String) it.getAttribute(ATTRIBUTE_CODE))
+					.orElse(null)
+			)
+		);
+
+		// removal of the catalog is not replicated, the replica keeps serving the last replicated state
+		this.primary.deleteCatalogIfExists(otherCatalog);
+		upsertProduct(3);
+		assertFalse(this.replicator.poll());
+		assertTrue(this.replica.getCatalogNames().contains(otherCatalog));
+		assertProductReplicated(3);
+	}
+
+	@Test
+	@DisplayName("should suspend and continue tailing the primary when paused and resumed")
+	void shouldPauseAndResumePolling() {
+		this.replicator = this.replica.createReplicator(this.primary);
+		this.replicator.bootstrap();
+		this.replicator.start();
+
+		upsertProduct(3);
+		waitUntil(() -> getProductCode(this.replica, 3) != null);
+
+		this.replicator.pause();
+		assertTrue(this.replicator.isPaused());
+		// let the poll that might have been already planned finish
+		sleep(POLL_INTERVAL_MILLIS * 4);
+		final long pausedVersion = getCatalogVersion(this.replica);
+
+		upsertProduct(4);
+		sleep(POLL_INTERVAL_MILLIS * 10);
+		assertEquals(pausedVersion, getCatalogVersion(this.replica));
+		assertNull(getProductCode(this.replica, 4));
+
+		this.replicator.resume();
+		assertFalse(this.replicator.isPaused());
+		waitUntil(() -> getProductCode(this.replica, 4) != null);
+		assertEquals(getCatalogVersion(this.primary), getCatalogVersion(this.replica));
+	}
+
+	/**
+	 * Creates the configuration of the replica instance tailing the primary.
+	 */
+	@Nonnull
+	private EvitaConfiguration createReplicaConfiguration(int maxTransactionsPerPoll) {
+		return newTestEvitaConfigurationBuilder(this.replicaPaths)
+			.server(
+				ServerOptions.builder()
+					.replica(
+						ReplicaOptions.builder()
+							.primaryHost("localhost")
+							.pollIntervalInMilliseconds(POLL_INTERVAL_MILLIS)
+							.maxTransactionsPerPoll(maxTransactionsPerPoll)
+							.build()
+					)
+					.build()
+			)
+			.build();
+	}
+
+	/**
+	 * Creates a view of the primary instance whose change data capture never returns the transaction of the passed
+	 * version, simulating a replica that missed a transaction.
+	 */
+	@Nonnull
+	private EvitaContract createPrimarySkippingVersion(long skippedVersion) {
+		return (EvitaContract) Proxy.newProxyInstance(
+			EvitaContract.class.getClassLoader(),
+			new Class<?>[]{EvitaContract.class},
+			(proxy, method, args) -> {
+				if ("queryCatalog".equals(method.getName()) && args[1] instanceof Function<?, ?> logic) {
+					//noinspection unchecked
+					final Function<EvitaSessionContract, Object> queryLogic = (Function<EvitaSessionContract, Object>) logic;
+					return this.primary.queryCatalog(
+						(String) args[0],
+						session -> queryLogic.apply(createSessionSkippingVersion(session, skippedVersion))
+					);
+				}
+				return invoke(method, this.primary, args);
+			}
+		);
+	}
+
+	/**
+	 * Creates a view of the session that filters out the change captures of the passed version.
+	 */
+	@Nonnull
+	private static EvitaSessionContract createSessionSkippingVersion(
+		@Nonnull EvitaSessionContract session,
+		long skippedVersion
+	) {
+		return (EvitaSessionContract) Proxy.newProxyInstance(
+			EvitaSessionContract.class.getClassLoader(),
+			new Class<?>[]{EvitaSessionContract.class},
+			(proxy, method, args) -> {
+				if ("getMutationsHistoryForward".equals(method.getName()) &&
+					args.length == 1 && args[0] instanceof ChangeCatalogCaptureRequest) {
+					//noinspection unchecked
+					final Stream<ChangeCatalogCapture> captures = (Stream<ChangeCatalogCapture>) invoke(method, session, args);
+					return captures.filter(it -> it.version() != skippedVersion);
+				}
+				return invoke(method, session, args);
+			}
+		);
+	}
+
+	private static Object invoke(@Nonnull Method method, @Nonnull Object target, Object[] args) throws Throwable {
+		try {
+			return method.invoke(target, args);
+		} catch (InvocationTargetException ex) {
+			throw ex.getCause();
+		}
+	}
+
+	private void upsertProduct(int primaryKey) {
+		this.primary.updateCatalog(
+			TEST_CATALOG,
+			session -> {
+				session.createNewEntity(ENTITY_PRODUCT, primaryKey)
+					.setAttribute(ATTRIBUTE_CODE, "product-" + primaryKey)
+					.upsertVia(session);
+			}
+		);
+	}
+
+	private void assertProductReplicated(int primaryKey) {
+		assertEquals(getProductCode(this.primary, primaryKey), getProductCode(this.replica, primaryKey));
+		assertEquals("product-" + primaryKey, getProductCode(this.replica, primaryKey));
+	}
+
+	private static String getProductCode(@Nonnull Evita evita, int primaryKey) {
+		return evita.queryCatalog(
+			TEST_CATALOG,
+			(Function<EvitaSessionContract, String>) session -> session
+				.getEntity(ENTITY_PRODUCT, primaryKey, attributeContent())
+				.map(it -> (String) it.getAttribute(ATTRIBUTE_CODE))
+				.orElse(null)
+		);
+	}
+
+	private static long getCatalogVersion(@Nonnull Evita evita) {
+		return evita.queryCatalog(
+			TEST_CATALOG,
+			(Function<EvitaSessionContract, Long>) EvitaSessionContract::getCatalogVersion
+		);
+	}
+
+	private static void waitUntil(@Nonnull BooleanSupplier condition) {
+		final long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+		while (!condition.getAsBoolean()) {
+			if (System.currentTimeMillis() > deadline) {
+				fail("Replica didn't catch up with the primary in " + TIMEOUT_MILLIS + " ms!");
+			}
+			sleep(POLL_INTERVAL_MILLIS);
+		}
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			fail(e);
+		}
+	}
+
+}
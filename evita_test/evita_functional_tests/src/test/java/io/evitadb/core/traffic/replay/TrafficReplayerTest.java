@@ -0,0 +1,313 @@
+/*
+ *
+ *                         _ _        ____  ____
+ *               _____   _(_) |_ __ _|  _ \| __ )
+ *              / _ \ \ / / | __/ _` | | | |  _ \
+ *             |  __/\ V /| | || (_| | |_| | |_) |
+ *              \___| \_/ |_|\__\__,_|____/|____/
+ *
+ *   Copyright (c) 2026
+ *
+ *   Licensed under the Business Source License, Version 1.1 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://github.com/FgForrest/evitaDB/blob/master/LICENSE
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.evitadb.core.traffic.replay;
+
+import io.evitadb.api.EvitaContract;
+import io.evitadb.api.EvitaSessionContract;
+import io.evitadb.api.SessionTraits;
+import io.evitadb.api.query.Query;
+import io.evitadb.api.query.QueryUtils;
+import io.evitadb.api.query.filter.EntityPrimaryKeyInSet;
+import io.evitadb.api.requestResponse.data.mutation.EntityMutation;
+import io.evitadb.api.requestResponse.data.mutation.EntityMutation.EntityExistence;
+import io.evitadb.api.requestResponse.data.mutation.EntityUpsertMutation;
+import io.evitadb.api.requestResponse.trafficRecording.Label;
+import io.evitadb.api.requestResponse.trafficRecording.MutationContainer;
+import io.evitadb.api.requestResponse.trafficRecording.QueryContainer;
+import io.evitadb.api.requestResponse.trafficRecording.TrafficRecording;
+import io.evitadb.api.requestResponse.trafficRecording.TrafficRecordingCaptureRequest.TrafficRecordingType;
+import io.evitadb.core.traffic.replay.TrafficReplayReport.ShapeStatistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+import javax.annotation.Nonnull;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static io.evitadb.api.query.Query.query;
+import static io.evitadb.api.query.QueryConstraints.*;
+import static io.evitadb.test.TestTags.ENGINE;
+import static io.evitadb.test.TestTags.TRAFFIC_ENGINE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Verifies the {@link TrafficReplayer} against a mocked target evitaDB instance - grouping of the recordings by
+ * sessions, the order of the replayed operations, handling of the mutations, the timed replay and its cancellation.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+@Tag(ENGINE)
+@Tag(TRAFFIC_ENGINE)
+@DisplayName("Traffic replayer")
+class TrafficReplayerTest {
+	private static final String CATALOG_NAME = "testCatalog";
+	private static final OffsetDateTime ORIGIN = OffsetDateTime.parse("2026-01-01T10:00:00+01:00");
+
+	/**
+	 * Primary keys of the replayed queries in the order they were issued.
+	 */
+	private final List<Integer> replayedQueries = Collections.synchronizedList(new ArrayList<>());
+	/**
+	 * Nano time of the replayed queries by their primary key.
+	 */
+	private final Map<Integer, Long> replayTimes = new ConcurrentHashMap<>();
+	private final List<SessionTraits> createdSessions = Collections.synchronizedList(new ArrayList<>());
+	private EvitaContract evita;
+	private EvitaSessionContract session;
+
+	@BeforeEach
+	void setUp() {
+		this.evita = Mockito.mock(EvitaContract.class);
+		this.session = Mockito.mock(EvitaSessionContract.class);
+		Mockito.when(this.evita.createSession(ArgumentMatchers.any())).thenAnswer(invocation -> {
+			this.createdSessions.add(invocation.getArgument(0));
+			return this.session;
+		});
+		Mockito.when(this.session.query(ArgumentMatchers.any(Query.class), ArgumentMatchers.any())).thenAnswer(invocation -> {
+			final int primaryKey = getPrimaryKey(invocation.getArgument(0));
+			this.replayTimes.put(primaryKey, System.nanoTime());
+			this.replayedQueries.add(primaryKey);
+			return null;
+		});
+	}
+
+	@Test
+	@DisplayName("should replay sessions one by one in the order of their operations")
+	void shouldReplaySessionsInOrder() {
+		final UUID first = UUID.randomUUID();
+		final UUID second = UUID.randomUUID();
+		final TrafficReplayReport report = new TrafficReplayer(
+			this.evita, CATALOG_NAME, TrafficReplayer.MAX_THROUGHPUT, 1, false
+		).replay(
+			Stream.of(
+				queryRecording(second, 21, 5L),
+				queryRecording(first, 11, 0L),
+				queryRecording(second, 22, 15L),
+				queryRecording(first, 12, 10L),
+				queryRecording(first, 13, 20L)
+			),
+			null
+		);
+
+		// the first session started earlier, so it's replayed first; the order within the sessions is kept
+		assertEquals(List.of(11, 12, 13, 21, 22), this.replayedQueries);
+		assertEquals(2, report.sessionCount());
+		assertEquals(5L, report.replayedRecords());
+		assertEquals(0L, report.failedRecords());
+		assertEquals(0L, report.skippedRecords());
+		assertEquals(2, this.createdSessions.size());
+		assertTrue(this.createdSessions.stream().noneMatch(SessionTraits::isReadWrite));
+
+		// queries differing only in constants share the shape
+		assertEquals(1, report.shapes().size());
+		final ShapeStatistics shape = report.shapes().get(0);
+		assertEquals(TrafficRecordingType.QUERY, shape.type());
+		assertEquals(5L, shape.count());
+		assertEquals(5L, shape.replayed().count());
+		assertEquals(TimeUnit.MILLISECONDS.toNanos(6), shape.recorded().max());
+	}
+
+	@Test
+	@DisplayName("should skip mutations unless requested")
+	void shouldSkipMutations() {
+		final UUID sessionId = UUID.randomUUID();
+		final TrafficReplayReport report = new TrafficReplayer(
+			this.evita, CATALOG_NAME, TrafficReplayer.MAX_THROUGHPUT, 4, false
+		).replay(
+			Stream.of(queryRecording(sessionId, 1, 0L), mutationRecording(sessionId, 10L), queryRecording(sessionId, 2, 20L)),
+			null
+		);
+
+		assertEquals(List.of(1, 2), this.replayedQueries);
+		assertEquals(2L, report.replayedRecords());
+		assertEquals(1L, report.skippedRecords());
+		assertFalse(this.createdSessions.get(0).isReadWrite());
+		Mockito.verify(this.session, Mockito.never()).applyMutation(ArgumentMatchers.any(EntityMutation.class));
+	}
+
+	@Test
+	@DisplayName("should replay mutations in read-write session when requested")
+	void shouldReplayMutations() {
+		final UUID sessionId = UUID.randomUUID();
+		final TrafficReplayReport report = new TrafficReplayer(
+			this.evita, CATALOG_NAME, TrafficReplayer.MAX_THROUGHPUT, 4, true
+		).replay(
+			Stream.of(queryRecording(sessionId, 1, 0L), mutationRecording(sessionId, 10L), queryRecording(sessionId, 2, 20L)),
+			null
+		);
+
+		assertEquals(3L, report.replayedRecords());
+		assertEquals(0L, report.skippedRecords());
+		assertTrue(this.createdSessions.get(0).isReadWrite());
+		final ArgumentCaptor<EntityMutation> mutationCaptor = ArgumentCaptor.forClass(EntityMutation.class);
+		Mockito.verify(this.session).applyMutation(mutationCaptor.capture());
+		assertEquals("product", mutationCaptor.getValue().getEntityType());
+		assertTrue(
+			report.shapes().stream().anyMatch(it -> it.type() == TrafficRecordingType.MUTATION && it.count() == 1L)
+		);
+	}
+
+	@Test
+	@DisplayName("should count failed operations")
+	void shouldCountFailedOperations() {
+		Mockito.doThrow(new IllegalStateException("simulated failure"))
+			.when(this.session).query(ArgumentMatchers.any(Query.class), ArgumentMatchers.any());
+		final TrafficReplayReport report = new TrafficReplayer(
+			this.evita, CATALOG_NAME, TrafficReplayer.MAX_THROUGHPUT, 1, false
+		).replay(Stream.of(queryRecording(UUID.randomUUID(), 1, 0L)), null);
+
+		assertEquals(1L, report.replayedRecords());
+		assertEquals(1L, report.failedRecords());
+		assertEquals(1L, report.shapes().get(0).failed());
+	}
+
+	@Test
+	@DisplayName("should issue operations at their recorded time divided by the speed factor")
+	void shouldScheduleOperationsByTheirRecordedTime() {
+		final UUID sessionId = UUID.randomUUID();
+		final TrafficReplayReport report = new TrafficReplayer(
+			this.evita, CATALOG_NAME, 2.0, 1, false
+		).replay(
+			Stream.of(queryRecording(sessionId, 1, 0L), queryRecording(sessionId, 2, 400L), queryRecording(sessionId, 3, 600L)),
+			null
+		);
+
+		assertEquals(List.of(1, 2, 3), this.replayedQueries);
+		// 400 ms and 600 ms at double speed
+		assertTrue(elapsedMillis(1, 2) >= 190L, "Second operation replayed too early: " + elapsedMillis(1, 2));
+		assertTrue(elapsedMillis(1, 3) >= 290L, "Third operation replayed too early: " + elapsedMillis(1, 3));
+		assertTrue(report.duration().compareTo(Duration.ofMillis(290)) >= 0);
+		assertEquals(2.0, report.speedFactor());
+	}
+
+	@Test
+	@DisplayName("should report the lag when the replay can't keep up with the schedule")
+	void shouldReportLag() {
+		Mockito.doAnswer(invocation -> {
+			this.replayedQueries.add(getPrimaryKey(invocation.getArgument(0)));
+			Thread.sleep(300L);
+			return null;
+		}).when(this.session).query(ArgumentMatchers.any(Query.class), ArgumentMatchers.any());
+		final UUID sessionId = UUID.randomUUID();
+		final TrafficReplayReport report = new TrafficReplayer(
+			this.evita, CATALOG_NAME, 1.0, 1, false
+		).replay(
+			Stream.of(queryRecording(sessionId, 1, 0L), queryRecording(sessionId, 2, 10L)),
+			null
+		);
+
+		assertEquals(List.of(1, 2), this.replayedQueries);
+		// the second operation was scheduled 10 ms after the first one, which took 300 ms
+		assertTrue(
+			report.maxLag().compareTo(Duration.ofMillis(250)) >= 0,
+			"Lag not reported: " + report.maxLag()
+		);
+	}
+
+	@Test
+	@DisplayName("should stop replaying when cancelled")
+	void shouldStopReplayingWhenCancelled() {
+		final UUID sessionId = UUID.randomUUID();
+		final AtomicBoolean cancelled = new AtomicBoolean();
+		final TrafficReplayer replayer = new TrafficReplayer(this.evita, CATALOG_NAME, 1.0, 1, false);
+		final long start = System.nanoTime();
+		assertThrows(
+			CancellationException.class,
+			() -> replayer.replay(
+				Stream.of(queryRecording(sessionId, 1, 0L), queryRecording(sessionId, 2, 10_000L), queryRecording(sessionId, 3, 20_000L)),
+				progress -> {},
+				() -> {
+					// cancel the replay as soon as the first operation is replayed
+					if (!this.replayedQueries.isEmpty()) {
+						cancelled.set(true);
+					}
+					return cancelled.get();
+				}
+			)
+		);
+
+		assertEquals(List.of(1), this.replayedQueries);
+		// the replay must not wait for the scheduled time of the next operation
+		assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 5_000L);
+	}
+
+	private long elapsedMillis(int fromPrimaryKey, int toPrimaryKey) {
+		return TimeUnit.NANOSECONDS.toMillis(this.replayTimes.get(toPrimaryKey) - this.replayTimes.get(fromPrimaryKey));
+	}
+
+	private static int getPrimaryKey(@Nonnull Query query) {
+		final EntityPrimaryKeyInSet primaryKeyInSet = QueryUtils.findFilter(query, EntityPrimaryKeyInSet.class);
+		return primaryKeyInSet.getPrimaryKeys()[0];
+	}
+
+	@Nonnull
+	private static TrafficRecording queryRecording(@Nonnull UUID sessionId, int primaryKey, long offsetMillis) {
+		return new QueryContainer(
+			sessionId,
+			primaryKey,
+			"test query",
+			query(
+				collection("product"),
+				filterBy(entityPrimaryKeyInSet(primaryKey))
+			),
+			new Label[0],
+			ORIGIN.plus(Duration.ofMillis(offsetMillis)),
+			primaryKey % 8,
+			1, 0, 0,
+			new int[]{primaryKey},
+			null
+		);
+	}
+
+	@Nonnull
+	private static TrafficRecording mutationRecording(@Nonnull UUID sessionId, long offsetMillis) {
+		return new MutationContainer(
+			sessionId,
+			0,
+			ORIGIN.plus(Duration.ofMillis(offsetMillis)),
+			1,
+			new EntityUpsertMutation("product", 1, EntityExistence.MAY_EXIST),
+			null
+		);
+	}
+
+}
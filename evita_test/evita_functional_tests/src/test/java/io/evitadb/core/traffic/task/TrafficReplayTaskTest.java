@@ -0,0 +1,249 @@
+/*
+ *
+ *                         _ _        ____  ____
+ *               _____   _(_) |_ __ _|  _ \| __ )
+ *              / _ \ \ / / | __/ _` | | | |  _ \
+ *             |  __/\ V /| | || (_| | |_| | |_) |
+ *              \___| \_/ |_|\__\__,_|____/|____/
+ *
+ *   Copyright (c) 2026
+ *
+ *   Licensed under the Business Source License, Version 1.1 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://github.com/FgForrest/evitaDB/blob/master/LICENSE
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.evitadb.core.traffic.task;
+
+import io.evitadb.api.EvitaContract;
+import io.evitadb.api.EvitaSessionContract;
+import io.evitadb.api.SessionTraits;
+import io.evitadb.api.exception.IndexNotReady;
+import io.evitadb.api.file.FileForFetch;
+import io.evitadb.api.query.Query;
+import io.evitadb.api.requestResponse.trafficRecording.Label;
+import io.evitadb.api.requestResponse.trafficRecording.QueryContainer;
+import io.evitadb.api.requestResponse.trafficRecording.TrafficRecording;
+import io.evitadb.core.traffic.TrafficRecordingEngine;
+import io.evitadb.core.traffic.replay.TrafficReplayer;
+import io.evitadb.spi.export.ExportService;
+import io.evitadb.spi.export.model.ExportFileHandle;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+import javax.annotation.Nonnull;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import static io.evitadb.api.query.Query.query;
+import static io.evitadb.api.query.QueryConstraints.*;
+import static io.evitadb.test.TestTags.ENGINE;
+import static io.evitadb.test.TestTags.EXPORT;
+import static io.evitadb.test.TestTags.TRAFFIC_ENGINE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Verifies {@link TrafficReplayTask} driven directly against a stubbed {@link TrafficRecordingEngine}, a mocked
+ * target evitaDB instance and an in-memory export file:
+ *
+ * - a finished replay stores the CSV report and returns the finished {@link FileForFetch},
+ * - a cancelled task stops the replay before the next operation and stores no report.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+@Tag(ENGINE)
+@Tag(TRAFFIC_ENGINE)
+@Tag(EXPORT)
+@DisplayName("TrafficReplayTask")
+class TrafficReplayTaskTest {
+	private static final String CATALOG_NAME = "testCatalog";
+	private static final String TARGET_CATALOG_NAME = "targetCatalog";
+	private static final OffsetDateTime ORIGIN = OffsetDateTime.parse("2026-01-01T10:00:00+01:00");
+
+	private TrafficRecordingEngine engine;
+	private EvitaContract evita;
+	private EvitaSessionContract session;
+	private ExportService exportService;
+	private InMemoryExportFileHandle handle;
+
+	@BeforeEach
+	void setUp() {
+		this.engine = Mockito.mock(TrafficRecordingEngine.class);
+		this.evita = Mockito.mock(EvitaContract.class);
+		this.session = Mockito.mock(EvitaSessionContract.class);
+		Mockito.when(this.evita.createSession(ArgumentMatchers.any())).thenReturn(this.session);
+		this.handle = new InMemoryExportFileHandle(UUID.randomUUID());
+		this.exportService = Mockito.mock(ExportService.class);
+		Mockito.when(
+			this.exportService.storeFile(
+				ArgumentMatchers.anyString(), ArgumentMatchers.any(), ArgumentMatchers.anyString(), ArgumentMatchers.any()
+			)
+		).thenReturn(this.handle);
+	}
+
+	@Test
+	@DisplayName("A finished replay stores the report and returns the finished file")
+	void shouldReplayTrafficAndStoreReport() throws Exception {
+		final FileForFetch finishedFile = fileForFetch(this.handle.fileId());
+		this.handle.fileForFetchFuture().complete(finishedFile);
+		final UUID sessionId = UUID.randomUUID();
+		// the index of the recordings is not built on the first attempt
+		Mockito.when(this.engine.getRecordings(ArgumentMatchers.any()))
+			.thenThrow(new IndexNotReady(50))
+			.thenReturn(Stream.of(queryRecording(sessionId, 1, 0L), queryRecording(sessionId, 2, 10L)));
+
+		final TrafficReplayTask task = createTask();
+		// move the task out of WAITING_FOR_PRECONDITION into QUEUED so execute() actually runs the callable
+		task.transitionToIssued();
+		final FileForFetch result = task.call();
+
+		assertSame(finishedFile, result);
+		assertEquals(100, task.getStatus().progress());
+		final ArgumentCaptor<SessionTraits> traitsCaptor = ArgumentCaptor.forClass(SessionTraits.class);
+		Mockito.verify(this.evita).createSession(traitsCaptor.capture());
+		assertEquals(TARGET_CATALOG_NAME, traitsCaptor.getValue().catalogName());
+		Mockito.verify(this.session, Mockito.times(2)).query(ArgumentMatchers.any(Query.class), ArgumentMatchers.any());
+
+		final String[] csvLines = this.handle.getContent().split("\n");
+		assertEquals(2, csvLines.length);
+		assertTrue(csvLines[0].startsWith("type;shape;count;failed;"));
+		assertTrue(csvLines[1].startsWith("QUERY;"));
+		assertTrue(csvLines[1].contains(";2;0;"));
+	}
+
+	@Test
+	@DisplayName("A cancelled task stops the replay and stores no report")
+	void shouldStopReplayWhenCancelled() throws Exception {
+		final UUID sessionId = UUID.randomUUID();
+		Mockito.when(this.engine.getRecordings(ArgumentMatchers.any()))
+			.thenReturn(
+				Stream.of(
+					queryRecording(sessionId, 1, 0L),
+					queryRecording(sessionId, 2, 10L),
+					queryRecording(sessionId, 3, 20L)
+				)
+			);
+		final TrafficReplayTask task = createTask();
+		final AtomicReference<TrafficReplayTask> taskRef = new AtomicReference<>(task);
+		Mockito.when(this.session.query(ArgumentMatchers.any(Query.class), ArgumentMatchers.any())).thenAnswer(invocation -> {
+			taskRef.get().cancel();
+			return null;
+		});
+
+		// move the task out of WAITING_FOR_PRECONDITION into QUEUED so execute() actually runs the callable
+		task.transitionToIssued();
+		assertThrows(CancellationException.class, task::call);
+
+		assertTrue(task.getFutureResult().isCancelled());
+		Mockito.verify(this.session, Mockito.times(1)).query(ArgumentMatchers.any(Query.class), ArgumentMatchers.any());
+		Mockito.verify(this.exportService, Mockito.never()).storeFile(
+			ArgumentMatchers.anyString(), ArgumentMatchers.any(), ArgumentMatchers.anyString(), ArgumentMatchers.any()
+		);
+	}
+
+	@Nonnull
+	private TrafficReplayTask createTask() {
+		return new TrafficReplayTask(
+			CATALOG_NAME, TARGET_CATALOG_NAME, null,
+			TrafficReplayer.MAX_THROUGHPUT, 1, false,
+			this.evita, this.engine, this.exportService
+		);
+	}
+
+	@Nonnull
+	private static TrafficRecording queryRecording(@Nonnull UUID sessionId, int primaryKey, long offsetMillis) {
+		return new QueryContainer(
+			sessionId,
+			primaryKey,
+			"test query",
+			query(
+				collection("product"),
+				filterBy(entityPrimaryKeyInSet(primaryKey))
+			),
+			new Label[0],
+			ORIGIN.plus(Duration.ofMillis(offsetMillis)),
+			1,
+			1, 0, 0,
+			new int[]{primaryKey},
+			null
+		);
+	}
+
+	@Nonnull
+	private static FileForFetch fileForFetch(@Nonnull UUID fileId) {
+		return new FileForFetch(
+			fileId, "traffic_replay.csv", null, "text/csv",
+			1L, OffsetDateTime.now(), null
+		);
+	}
+
+	/**
+	 * {@link ExportFileHandle} keeping the written content in memory.
+	 */
+	private static class InMemoryExportFileHandle implements ExportFileHandle {
+		private final UUID fileId;
+		private final ByteArrayOutputStream content = new ByteArrayOutputStream();
+		private final CompletableFuture<FileForFetch> future = new CompletableFuture<>();
+
+		private InMemoryExportFileHandle(@Nonnull UUID fileId) {
+			this.fileId = fileId;
+		}
+
+		@Nonnull
+		@Override
+		public UUID fileId() {
+			return this.fileId;
+		}
+
+		@Nonnull
+		@Override
+		public CompletableFuture<FileForFetch> fileForFetchFuture() {
+			return this.future;
+		}
+
+		@Override
+		public long size() {
+			return this.content.size();
+		}
+
+		@Nonnull
+		@Override
+		public OutputStream outputStream() {
+			return this.content;
+		}
+
+		@Override
+		public void close() {
+			// no-op
+		}
+
+		@Nonnull
+		String getContent() {
+			return this.content.toString(StandardCharsets.UTF_8);
+		}
+	}
+}
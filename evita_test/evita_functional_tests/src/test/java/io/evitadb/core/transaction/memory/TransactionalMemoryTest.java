@@ -23,9 +23,13 @@
 
 package io.evitadb.core.transaction.memory;
 
+import io.evitadb.api.requestResponse.mutation.Mutation;
 import io.evitadb.core.exception.StaleTransactionMemoryException;
+import io.evitadb.core.transaction.Transaction;
+import io.evitadb.core.transaction.TransactionHandler;
 import io.evitadb.exception.EvitaInvalidUsageException;
 import io.evitadb.exception.GenericEvitaInternalError;
+import io.evitadb.index.map.MapChanges;
 import io.evitadb.index.map.TransactionalMap;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -35,12 +39,19 @@ import org.junit.jupiter.api.Test;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.io.Serial;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static io.evitadb.test.TestTags.ENGINE;
 import static io.evitadb.test.TestTags.TRANSACTION;
@@ -353,6 +364,126 @@ class TransactionalMemoryTest {
 		);
 	}
 
+	@Test
+	@DisplayName("Independent producers are merged in parallel with the same result as sequentially")
+	void shouldMergeIndependentProducersInParallel() {
+		final ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			final List<TransactionalMap<String, Integer>> tested = createIndependentMaps(64);
+			final List<Map<String, Integer>> committed = mergeInParallel(tested, executor);
+
+			assertEquals(tested.size(), committed.size());
+			for (int i = 0; i < tested.size(); i++) {
+				// the original stays untouched
+				assertNull(tested.get(i).get("b"));
+				// the committed copy contains the change and is in the order of the producers
+				assertEquals(i, committed.get(i).get("a"));
+				assertEquals(i * 2, committed.get(i).get("b"));
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	@DisplayName("Parallel merge is finished by the calling thread when the executor rejects the workers")
+	void shouldMergeIndependentProducersInCallingThreadWhenExecutorRejects() {
+		final List<TransactionalMap<String, Integer>> tested = createIndependentMaps(8);
+		final List<Map<String, Integer>> committed = mergeInParallel(
+			tested,
+			command -> {
+				throw new RejectedExecutionException("Saturated!");
+			}
+		);
+
+		for (int i = 0; i < tested.size(); i++) {
+			assertEquals(i * 2, committed.get(i).get("b"));
+		}
+	}
+
+	@Test
+	@DisplayName("Failure of a single producer in the parallel merge is propagated to the calling thread")
+	void shouldPropagateFailureOfParallelMerge() {
+		final ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			final List<TransactionalMap<String, Integer>> tested = createIndependentMaps(16);
+			tested.set(7, new FailingMap(Map.of("a", 7)));
+			final IllegalStateException ex = assertThrows(
+				IllegalStateException.class,
+				() -> mergeInParallel(tested, executor)
+			);
+			assertEquals("Merge failed!", ex.getMessage());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Creates independent transactional maps, i-th of them containing the `a` key mapped to `i`.
+	 */
+	@Nonnull
+	private static List<TransactionalMap<String, Integer>> createIndependentMaps(int count) {
+		final List<TransactionalMap<String, Integer>> maps = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			final Map<String, Integer> delegate = new HashMap<>(4);
+			delegate.put("a", i);
+			maps.add(new TransactionalMap<>(delegate));
+		}
+		return maps;
+	}
+
+	/**
+	 * Puts the `b` key mapped to `2 * i` to each of the passed maps in a transaction and merges them in parallel
+	 * during the commit of that transaction. Verifies that no layer was left behind.
+	 */
+	@Nonnull
+	private static List<Map<String, Integer>> mergeInParallel(
+		@Nonnull List<TransactionalMap<String, Integer>> tested,
+		@Nonnull Executor executor
+	) {
+		final AtomicReference<Transaction> transaction = new AtomicReference<>();
+		final AtomicReference<List<Map<String, Integer>>> committed = new AtomicReference<>();
+		transaction.set(
+			new Transaction(
+				UUID.randomUUID(),
+				new TransactionHandler() {
+					@Override
+					public void registerMutation(@Nonnull Mutation mutation) {
+						// no-op
+					}
+
+					@Override
+					public void commit(@Nonnull TransactionalLayerMaintainer transactionalLayer) {
+						committed.set(
+							transactionalLayer.getStateCopiesWithCommittedChanges(
+								tested,
+								executor,
+								merge -> Transaction.executeInTransactionIfProvided(transaction.get(), merge, false)
+							)
+						);
+						transactionalLayer.verifyLayerWasFullySwept();
+					}
+
+					@Override
+					public void rollback(@Nonnull TransactionalLayerMaintainer transactionalLayer, @Nullable Throwable cause) {
+						// no-op
+					}
+				},
+				false
+			)
+		);
+		Transaction.executeInTransactionIfProvided(
+			transaction.get(),
+			() -> {
+				for (int i = 0; i < tested.size(); i++) {
+					tested.get(i).put("b", i * 2);
+				}
+				transaction.get().close();
+			}
+		);
+		return committed.get();
+	}
+
 	/**
 	 * No-op finalizer used to obtain a bare {@link TransactionalMemory} / {@link TransactionalLayerMaintainer} for
 	 * the lower-level maintainer tests that do not assert commit / rollback behaviour.
@@ -394,6 +525,26 @@ class TransactionalMemoryTest {
 		}
 	}
 
+	/**
+	 * {@link TransactionalMap} variant whose merge always fails.
+	 */
+	private static class FailingMap extends TransactionalMap<String, Integer> {
+		@Serial private static final long serialVersionUID = -3004826137749512087L;
+
+		FailingMap(@Nonnull Map<String, Integer> delegate) {
+			super(delegate);
+		}
+
+		@Nonnull
+		@Override
+		public Map<String, Integer> createCopyWithMergedTransactionalMemory(
+			@Nullable MapChanges<String, Integer> layer,
+			@Nonnull TransactionalLayerMaintainer transactionalLayer
+		) {
+			throw new IllegalStateException("Merge failed!");
+		}
+	}
+
 	/**
 	 * Producer whose {@link #createCopyWithMergedTransactionalMemory(Void, TransactionalLayerMaintainer)} re-enters
 	 * {@link TransactionalLayerMaintainer#getStateCopyWithCommittedChangesWithoutDiscardingState} on the same
@@ -24,11 +24,15 @@
 package io.evitadb.core.transaction.stage;
 
 import io.evitadb.api.CommitProgressRecord;
+import io.evitadb.api.requestResponse.data.AttributesContract.AttributeKey;
+import io.evitadb.api.requestResponse.mutation.conflict.AttributeDeltaConflictKey;
 import io.evitadb.api.requestResponse.mutation.conflict.ConflictKey;
+import io.evitadb.api.requestResponse.mutation.infrastructure.TransactionMutation;
 import io.evitadb.core.catalog.Catalog;
 import io.evitadb.core.executor.ObservableExecutorService;
 import io.evitadb.core.transaction.TransactionManager;
 import io.evitadb.core.transaction.stage.ConflictResolutionAndWalAppendingTransactionStage.ConflictResolutionAndWalAppendingTransactionTask;
+import io.evitadb.spi.store.catalog.shared.model.CompositeLogRecordReference;
 import io.evitadb.spi.store.catalog.shared.model.LogRecordReference;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -370,6 +374,266 @@ class ConflictResolutionAndWalAppendingTransactionStageTest {
 		verify(tm, times(1)).appendWalAndDiscard(any(), any(), any());
 	}
 
+	/**
+	 * Commutative transactions arriving within the delta batching window must end up in a single synthesized
+	 * transaction - one catalog version, one WAL append carrying the isolated WALs of all of them in arrival
+	 * order - while every client is acknowledged separately. A non-commutative transaction closes the window and
+	 * is accepted right behind the merged one, so the relative order is preserved.
+	 */
+	@Test
+	@DisplayName("should merge commutative transactions into one catalog version and acknowledge each of them")
+	void shouldMergeCommutativeTransactionsIntoSingleVersion() throws Exception {
+		final AtomicLong lastAssigned = new AtomicLong(0L);
+		final AtomicLong lastWritten = new AtomicLong(0L);
+		final TransactionManager tm = buildTransactionManagerMock(lastAssigned, lastWritten);
+		final List<TransactionMutation> appended = Collections.synchronizedList(new ArrayList<>());
+		final List<LogRecordReference> appendedReferences = Collections.synchronizedList(new ArrayList<>());
+
+		doNothing().when(tm).identifyConflicts(anyLong(), anyLong(), any(), any());
+		doAnswer(inv -> {
+			appended.add(inv.getArgument(1));
+			appendedReferences.add(inv.getArgument(2));
+			return 0L;
+		}).when(tm).appendWalAndDiscard(any(), any(), any());
+
+		// the window is long enough never to expire during the test - the plain transaction closes it
+		final ConflictResolutionAndWalAppendingTransactionStage stage =
+			new ConflictResolutionAndWalAppendingTransactionStage(
+				Runnable::run,
+				100,
+				60_000L,
+				tm,
+				(task, ex) -> {}
+			);
+
+		final ConflictResolutionAndWalAppendingTransactionTask d1 = newDeltaTask(1, 3, 100L);
+		final ConflictResolutionAndWalAppendingTransactionTask d2 = newDeltaTask(1, 2, 50L);
+		final ConflictResolutionAndWalAppendingTransactionTask d3 = newDeltaTask(2, 1, 25L);
+		feed(stage, d1);
+		feed(stage, d2);
+		feed(stage, d3);
+
+		assertTrue(appended.isEmpty(), "Commutative transactions must be held back within the window");
+
+		final ConflictResolutionAndWalAppendingTransactionTask plain = newTask();
+		feed(stage, plain);
+
+		assertEquals(2, appended.size(), "The held back transactions must be appended as one transaction");
+		final TransactionMutation merged = appended.get(0);
+		assertEquals(1L, merged.getVersion());
+		assertEquals(d1.transactionId(), merged.getTransactionId());
+		assertEquals(6, merged.getMutationCount());
+		assertEquals(175L, merged.getWalSizeInBytes());
+		assertEquals(
+			List.of(d1.walReference(), d2.walReference(), d3.walReference()),
+			((CompositeLogRecordReference) appendedReferences.get(0)).references()
+		);
+		assertEquals(2L, appended.get(1).getVersion());
+		assertEquals(plain.transactionId(), appended.get(1).getTransactionId());
+
+		for (ConflictResolutionAndWalAppendingTransactionTask task : List.of(d1, d2, d3)) {
+			assertEquals(
+				1L,
+				task.commitProgress().onWalAppended().toCompletableFuture().get(10, TimeUnit.SECONDS).catalogVersion(),
+				"Every merged transaction must be acknowledged with the shared catalog version"
+			);
+		}
+		assertEquals(
+			2L,
+			plain.commitProgress().onWalAppended().toCompletableFuture().get(10, TimeUnit.SECONDS).catalogVersion()
+		);
+	}
+
+	/**
+	 * A merged transaction whose conflict examination fails must be rejected alone - the rest of the batch is
+	 * still accepted as a single transaction.
+	 */
+	@Test
+	@DisplayName("should reject only the conflicting member of the delta batch")
+	void shouldRejectOnlyConflictingMemberOfDeltaBatch() throws Exception {
+		final AtomicLong lastAssigned = new AtomicLong(0L);
+		final AtomicLong lastWritten = new AtomicLong(0L);
+		final TransactionManager tm = buildTransactionManagerMock(lastAssigned, lastWritten);
+		final List<TransactionMutation> appended = Collections.synchronizedList(new ArrayList<>());
+
+		final ConflictResolutionAndWalAppendingTransactionTask d1 = newDeltaTask(1, 1, 10L);
+		final ConflictResolutionAndWalAppendingTransactionTask d2 = newDeltaTask(1, 1, 10L);
+		final ConflictResolutionAndWalAppendingTransactionTask d3 = newDeltaTask(1, 1, 10L);
+		doAnswer(inv -> {
+			if (inv.getArgument(3) == d2.conflictKeys()) {
+				throw new RuntimeException("simulated conflict");
+			}
+			return null;
+		}).when(tm).identifyConflicts(anyLong(), anyLong(), any(), any());
+		doAnswer(inv -> {
+			appended.add(inv.getArgument(1));
+			return 0L;
+		}).when(tm).appendWalAndDiscard(any(), any(), any());
+
+		final ConflictResolutionAndWalAppendingTransactionStage stage =
+			new ConflictResolutionAndWalAppendingTransactionStage(
+				Runnable::run,
+				100,
+				60_000L,
+				tm,
+				(task, ex) -> {}
+			);
+		feed(stage, d1);
+		feed(stage, d2);
+		feed(stage, d3);
+		feed(stage, newTask());
+
+		assertTrue(d2.commitProgress().onConflictResolved().toCompletableFuture().isCompletedExceptionally());
+		assertEquals(2, appended.size());
+		assertEquals(2, appended.get(0).getMutationCount());
+		assertEquals(1L, d1.commitProgress().onWalAppended().toCompletableFuture().get(10, TimeUnit.SECONDS).catalogVersion());
+		assertEquals(1L, d3.commitProgress().onWalAppended().toCompletableFuture().get(10, TimeUnit.SECONDS).catalogVersion());
+		assertEquals(2L, lastAssigned.get(), "The merged transaction and the plain one take one version each");
+	}
+
+	/**
+	 * Without any further transaction arriving, the held back ones must be accepted once the window elapses.
+	 */
+	@Test
+	@DisplayName("should accept held back commutative transactions once the window elapses")
+	void shouldFlushDeltaBatchWhenWindowElapses() throws Exception {
+		final AtomicLong lastAssigned = new AtomicLong(0L);
+		final AtomicLong lastWritten = new AtomicLong(0L);
+		final TransactionManager tm = buildTransactionManagerMock(lastAssigned, lastWritten);
+		final AtomicInteger appendCount = new AtomicInteger();
+
+		doNothing().when(tm).identifyConflicts(anyLong(), anyLong(), any(), any());
+		doAnswer(inv -> {
+			appendCount.incrementAndGet();
+			return 0L;
+		}).when(tm).appendWalAndDiscard(any(), any(), any());
+
+		final ConflictResolutionAndWalAppendingTransactionStage stage =
+			new ConflictResolutionAndWalAppendingTransactionStage(
+				Runnable::run,
+				100,
+				20L,
+				tm,
+				(task, ex) -> {}
+			);
+		final ConflictResolutionAndWalAppendingTransactionTask d1 = newDeltaTask(1, 1, 10L);
+		final ConflictResolutionAndWalAppendingTransactionTask d2 = newDeltaTask(1, 1, 10L);
+		feed(stage, d1);
+		feed(stage, d2);
+
+		assertEquals(1L, d1.commitProgress().onWalAppended().toCompletableFuture().get(10, TimeUnit.SECONDS).catalogVersion());
+		assertEquals(1L, d2.commitProgress().onWalAppended().toCompletableFuture().get(10, TimeUnit.SECONDS).catalogVersion());
+		assertEquals(1, appendCount.get());
+	}
+
+	/**
+	 * When the upstream publisher completes, no further transaction arrives to close the window - the held back
+	 * transactions must be accepted right away instead of waiting for the window to elapse.
+	 */
+	@Test
+	@DisplayName("should accept held back commutative transactions when the stage completes")
+	void shouldFlushDeltaBatchOnComplete() throws Exception {
+		final AtomicLong lastAssigned = new AtomicLong(0L);
+		final AtomicLong lastWritten = new AtomicLong(0L);
+		final TransactionManager tm = buildTransactionManagerMock(lastAssigned, lastWritten);
+		final AtomicInteger appendCount = new AtomicInteger();
+
+		doNothing().when(tm).identifyConflicts(anyLong(), anyLong(), any(), any());
+		doAnswer(inv -> {
+			appendCount.incrementAndGet();
+			return 0L;
+		}).when(tm).appendWalAndDiscard(any(), any(), any());
+
+		// the window is long enough never to expire during the test
+		final ConflictResolutionAndWalAppendingTransactionStage stage =
+			new ConflictResolutionAndWalAppendingTransactionStage(
+				Runnable::run,
+				100,
+				60_000L,
+				tm,
+				(task, ex) -> {}
+			);
+		final ConflictResolutionAndWalAppendingTransactionTask d1 = newDeltaTask(1, 1, 10L);
+		final ConflictResolutionAndWalAppendingTransactionTask d2 = newDeltaTask(2, 1, 10L);
+		feed(stage, d1);
+		feed(stage, d2);
+		assertEquals(0, appendCount.get(), "Commutative transactions must be held back within the window");
+
+		stage.onComplete();
+
+		assertTrue(stage.isCompleted());
+		assertEquals(1, appendCount.get());
+		assertEquals(1L, d1.commitProgress().onWalAppended().toCompletableFuture().get(10, TimeUnit.SECONDS).catalogVersion());
+		assertEquals(1L, d2.commitProgress().onWalAppended().toCompletableFuture().get(10, TimeUnit.SECONDS).catalogVersion());
+	}
+
+	/**
+	 * Closing the stage must accept the held back transactions right away and only once.
+	 */
+	@Test
+	@DisplayName("should accept held back commutative transactions when the stage is closed")
+	void shouldFlushDeltaBatchOnClose() throws Exception {
+		final AtomicLong lastAssigned = new AtomicLong(0L);
+		final AtomicLong lastWritten = new AtomicLong(0L);
+		final TransactionManager tm = buildTransactionManagerMock(lastAssigned, lastWritten);
+		final AtomicInteger appendCount = new AtomicInteger();
+
+		doNothing().when(tm).identifyConflicts(anyLong(), anyLong(), any(), any());
+		doAnswer(inv -> {
+			appendCount.incrementAndGet();
+			return 0L;
+		}).when(tm).appendWalAndDiscard(any(), any(), any());
+
+		final ConflictResolutionAndWalAppendingTransactionStage stage =
+			new ConflictResolutionAndWalAppendingTransactionStage(
+				Runnable::run,
+				100,
+				60_000L,
+				tm,
+				(task, ex) -> {}
+			);
+		final ConflictResolutionAndWalAppendingTransactionTask d1 = newDeltaTask(1, 1, 10L);
+		final ConflictResolutionAndWalAppendingTransactionTask d2 = newDeltaTask(2, 1, 10L);
+		feed(stage, d1);
+		feed(stage, d2);
+
+		stage.close();
+		// the batch is already flushed, closing again (or completing) must not append anything more
+		stage.close();
+		stage.onComplete();
+
+		assertEquals(1, appendCount.get());
+		assertEquals(1L, lastAssigned.get());
+		assertEquals(1L, d1.commitProgress().onWalAppended().toCompletableFuture().get(10, TimeUnit.SECONDS).catalogVersion());
+		assertEquals(1L, d2.commitProgress().onWalAppended().toCompletableFuture().get(10, TimeUnit.SECONDS).catalogVersion());
+	}
+
+	/**
+	 * Builds a commit task touching only a single commutative (delta) conflict key.
+	 */
+	private static ConflictResolutionAndWalAppendingTransactionTask newDeltaTask(
+		int entityPrimaryKey,
+		int mutationCount,
+		long walSizeInBytes
+	) {
+		final Set<ConflictKey> conflictKeys = Set.of(
+			new AttributeDeltaConflictKey(
+				"product", entityPrimaryKey, new AttributeKey("stock"), 1, null, false
+			)
+		);
+		return new ConflictResolutionAndWalAppendingTransactionTask(
+			CATALOG_NAME,
+			0L,
+			UUID.randomUUID(),
+			mutationCount,
+			walSizeInBytes,
+			0,
+			conflictKeys,
+			new LogRecordReference() {},
+			new CommitProgressRecord()
+		);
+	}
+
 	/**
 	 * Builds a minimally populated commit task — the test only cares about the catalog-version
 	 * bookkeeping side-effects driven by the mocked `TransactionManager`, so mutation counts, WAL
@@ -0,0 +1,247 @@
+/*
+ *
+ *                         _ _        ____  ____
+ *               _____   _(_) |_ __ _|  _ \| __ )
+ *              / _ \ \ / / | __/ _` | | | |  _ \
+ *             |  __/\ V /| | || (_| | |_| | |_) |
+ *              \___| \_/ |_|\__\__,_|____/|____/
+ *
+ *   Copyright (c) 2026
+ *
+ *   Licensed under the Business Source License, Version 1.1 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://github.com/FgForrest/evitaDB/blob/master/LICENSE
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.evitadb.driver;
+
+import io.evitadb.api.query.RequireConstraint;
+import io.evitadb.api.requestResponse.data.SealedEntity;
+import io.evitadb.dataType.Scope;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.evitadb.test.TestTags.DRIVER;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * This test verifies the functionality of the {@link EvitaEntityBatcher} class.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+@Tag(DRIVER)
+class EvitaEntityBatcherTest {
+	private static final String ENTITY_TYPE = "product";
+	private static final String CONTENT_KEY = "LIVE|";
+	private static final Scope[] SCOPES = new Scope[]{Scope.LIVE};
+	private static final long WINDOW_MICROS = TimeUnit.MILLISECONDS.toMicros(200);
+
+	private final List<int[]> loadedBatches = new CopyOnWriteArrayList<>();
+	private final Map<Integer, SealedEntity> entities = new HashMap<>();
+
+	@Test
+	void shouldFetchSingleEntity() {
+		final EvitaEntityBatcher tested = new EvitaEntityBatcher(1, 64, this::load);
+		final SealedEntity entity = registerEntity(1);
+
+		assertSame(entity, tested.getEntity(ENTITY_TYPE, 1, CONTENT_KEY, SCOPES, null));
+		assertNull(tested.getEntity(ENTITY_TYPE, 2, CONTENT_KEY, SCOPES, null));
+		assertEquals(2, this.loadedBatches.size());
+	}
+
+	@Test
+	void shouldBatchConcurrentCallsForDifferentPrimaryKeys() throws Exception {
+		final EvitaEntityBatcher tested = new EvitaEntityBatcher(WINDOW_MICROS, 64, this::load);
+		for (int i = 1; i <= 10; i++) {
+			registerEntity(i);
+		}
+
+		final List<SealedEntity> results = fetchConcurrently(tested, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+
+		assertEquals(1, this.loadedBatches.size());
+		assertEquals(10, this.loadedBatches.get(0).length);
+		for (int i = 0; i < 10; i++) {
+			assertSame(this.entities.get(i + 1), results.get(i));
+		}
+	}
+
+	@Test
+	void shouldCoalesceConcurrentCallsForTheSamePrimaryKey() throws Exception {
+		final EvitaEntityBatcher tested = new EvitaEntityBatcher(WINDOW_MICROS, 64, this::load);
+		final SealedEntity entity = registerEntity(7);
+
+		final List<SealedEntity> results = fetchConcurrently(tested, 7, 7, 7, 7, 7);
+
+		assertEquals(1, this.loadedBatches.size());
+		assertEquals(1, this.loadedBatches.get(0).length);
+		results.forEach(it -> assertSame(entity, it));
+	}
+
+	@Test
+	void shouldSplitBatchesExceedingMaximalSize() throws Exception {
+		final EvitaEntityBatcher tested = new EvitaEntityBatcher(WINDOW_MICROS, 4, this::load);
+		for (int i = 1; i <= 8; i++) {
+			registerEntity(i);
+		}
+
+		final List<SealedEntity> results = fetchConcurrently(tested, 1, 2, 3, 4, 5, 6, 7, 8);
+
+		assertTrue(this.loadedBatches.size() >= 2);
+		this.loadedBatches.forEach(it -> assertTrue(it.length <= 4));
+		for (int i = 0; i < 8; i++) {
+			assertSame(this.entities.get(i + 1), results.get(i));
+		}
+	}
+
+	@Test
+	void shouldShareInFlightResultOfBatchSealedWhenFull() throws Exception {
+		// the window is long enough so that the batch is sealed only by the caller that fills it up
+		final long longWindowMicros = TimeUnit.SECONDS.toMicros(30);
+		final ExecutorService executor = Executors.newFixedThreadPool(3);
+		try {
+			for (int i = 0; i < 50; i++) {
+				this.loadedBatches.clear();
+				final CountDownLatch release = new CountDownLatch(1);
+				final EvitaEntityBatcher tested = new EvitaEntityBatcher(
+					longWindowMicros, 2,
+					(entityType, contentKey, scopes, require, primaryKeys) -> {
+						try {
+							release.await(10, TimeUnit.SECONDS);
+						} catch (InterruptedException e) {
+							Thread.currentThread().interrupt();
+						}
+						return load(entityType, contentKey, scopes, require, primaryKeys);
+					}
+				);
+				registerEntity(1);
+				registerEntity(2);
+
+				final CountDownLatch start = new CountDownLatch(1);
+				final CountDownLatch entered = new CountDownLatch(3);
+				final List<Future<SealedEntity>> futures = new ArrayList<>(3);
+				for (int primaryKey : new int[]{1, 2, 2}) {
+					futures.add(
+						executor.submit(() -> {
+							start.await();
+							entered.countDown();
+							return tested.getEntity(ENTITY_TYPE, primaryKey, CONTENT_KEY, SCOPES, null);
+						})
+					);
+				}
+				start.countDown();
+				entered.await(10, TimeUnit.SECONDS);
+				// let all callers join or await the batch while it is being fetched
+				Thread.sleep(20);
+				release.countDown();
+				for (Future<SealedEntity> future : futures) {
+					future.get(10, TimeUnit.SECONDS);
+				}
+
+				assertEquals(1, this.loadedBatches.size(), "Iteration " + i);
+				assertEquals(2, this.loadedBatches.get(0).length, "Iteration " + i);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void shouldPropagateLoaderExceptionToAllCallers() throws Exception {
+		final AtomicInteger calls = new AtomicInteger();
+		final EvitaEntityBatcher tested = new EvitaEntityBatcher(
+			WINDOW_MICROS, 64,
+			(entityType, contentKey, scopes, require, primaryKeys) -> {
+				calls.incrementAndGet();
+				throw new IllegalStateException("Server unavailable!");
+			}
+		);
+
+		final ExecutorService executor = Executors.newFixedThreadPool(3);
+		try {
+			final List<Future<SealedEntity>> futures = new ArrayList<>(3);
+			for (int pk = 1; pk <= 3; pk++) {
+				final int primaryKey = pk;
+				futures.add(executor.submit(() -> tested.getEntity(ENTITY_TYPE, primaryKey, CONTENT_KEY, SCOPES, null)));
+			}
+			for (Future<SealedEntity> future : futures) {
+				final Exception ex = assertThrows(Exception.class, () -> future.get(10, TimeUnit.SECONDS));
+				assertTrue(ex.getCause() instanceof IllegalStateException);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+		assertTrue(calls.get() >= 1);
+	}
+
+	private SealedEntity registerEntity(int primaryKey) {
+		final SealedEntity entity = Mockito.mock(SealedEntity.class);
+		this.entities.put(primaryKey, entity);
+		return entity;
+	}
+
+	private Map<Integer, SealedEntity> load(
+		String entityType,
+		String contentKey,
+		Scope[] scopes,
+		RequireConstraint[] require,
+		int[] primaryKeys
+	) {
+		this.loadedBatches.add(primaryKeys);
+		final Map<Integer, SealedEntity> result = new HashMap<>(primaryKeys.length);
+		Arrays.stream(primaryKeys)
+			.filter(this.entities::containsKey)
+			.forEach(pk -> result.put(pk, this.entities.get(pk)));
+		return result;
+	}
+
+	private List<SealedEntity> fetchConcurrently(EvitaEntityBatcher tested, int... primaryKeys) throws Exception {
+		final ExecutorService executor = Executors.newFixedThreadPool(primaryKeys.length);
+		try {
+			final CountDownLatch start = new CountDownLatch(1);
+			final List<Future<SealedEntity>> futures = new ArrayList<>(primaryKeys.length);
+			for (int primaryKey : primaryKeys) {
+				futures.add(
+					executor.submit(() -> {
+						start.await();
+						return tested.getEntity(ENTITY_TYPE, primaryKey, CONTENT_KEY, SCOPES, null);
+					})
+				);
+			}
+			start.countDown();
+			final List<SealedEntity> results = new ArrayList<>(primaryKeys.length);
+			for (Future<SealedEntity> future : futures) {
+				results.add(future.get(10, TimeUnit.SECONDS));
+			}
+			return results;
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+}
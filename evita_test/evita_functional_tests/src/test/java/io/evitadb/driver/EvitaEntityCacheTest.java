@@ -0,0 +1,370 @@
+/*
+ *
+ *                         _ _        ____  ____
+ *               _____   _(_) |_ __ _|  _ \| __ )
+ *              / _ \ \ / / | __/ _` | | | |  _ \
+ *             |  __/\ V /| | || (_| | |_| | |_) |
+ *              \___| \_/ |_|\__\__,_|____/|____/
+ *
+ *   Copyright (c) 2026
+ *
+ *   Licensed under the Business Source License, Version 1.1 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://github.com/FgForrest/evitaDB/blob/master/LICENSE
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.evitadb.driver;
+
+import io.evitadb.api.SessionTraits;
+import io.evitadb.api.requestResponse.cdc.CaptureArea;
+import io.evitadb.api.requestResponse.cdc.ChangeCaptureContent;
+import io.evitadb.api.requestResponse.cdc.ChangeCapturePublisher;
+import io.evitadb.api.requestResponse.cdc.ChangeCatalogCapture;
+import io.evitadb.api.requestResponse.cdc.ChangeCatalogCaptureRequest;
+import io.evitadb.api.requestResponse.cdc.Operation;
+import io.evitadb.api.requestResponse.data.SealedEntity;
+import io.evitadb.api.requestResponse.mutation.infrastructure.TransactionMutation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import javax.annotation.Nonnull;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow.Subscriber;
+import java.util.concurrent.Flow.Subscription;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static io.evitadb.test.TestTags.DRIVER;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+
+/**
+ * This test verifies the consistency guarantees of the {@link EvitaEntityCache} class. The change capture stream is
+ * simulated by driving the subscriber the cache registers in the mocked client session.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+@Tag(DRIVER)
+class EvitaEntityCacheTest {
+	private static final String CATALOG_NAME = "testCatalog";
+	private static final String ENTITY_TYPE = "product";
+	private static final String CONTENT_KEY = "LIVE|";
+
+	private final List<Subscriber<? super ChangeCatalogCapture>> subscribers = new CopyOnWriteArrayList<>();
+	private final List<Subscriber<? super ChangeCatalogCapture>> transactionSubscribers = new CopyOnWriteArrayList<>();
+	private final AtomicLong catalogVersion = new AtomicLong(10L);
+	private EvitaClient evita;
+	private EvitaEntityCache tested;
+
+	@SuppressWarnings("unchecked")
+	@BeforeEach
+	void setUp() {
+		this.evita = Mockito.mock(EvitaClient.class);
+		Mockito.when(this.evita.isActive()).thenReturn(true);
+		Mockito.when(this.evita.createSession(any(SessionTraits.class))).thenAnswer(
+			invocation -> {
+				final EvitaClientSession session = Mockito.mock(EvitaClientSession.class);
+				Mockito.when(session.getCatalogVersion()).thenReturn(this.catalogVersion.get());
+				Mockito.when(session.registerChangeCatalogCapture(any(ChangeCatalogCaptureRequest.class))).thenAnswer(
+					registerInvocation -> {
+						final ChangeCatalogCaptureRequest request = registerInvocation.getArgument(0);
+						final List<Subscriber<? super ChangeCatalogCapture>> target =
+							request.content() == ChangeCaptureContent.BODY ? this.transactionSubscribers : this.subscribers;
+						final ChangeCapturePublisher<ChangeCatalogCapture> publisher = Mockito.mock(ChangeCapturePublisher.class);
+						Mockito.doAnswer(
+							subscribeInvocation -> {
+								target.add(subscribeInvocation.getArgument(0));
+								return null;
+							}
+						).when(publisher).subscribe(any());
+						return publisher;
+					}
+				);
+				return session;
+			}
+		);
+		this.tested = new EvitaEntityCache(this.evita, CATALOG_NAME, 100);
+	}
+
+	@DisplayName("Nothing should be cached nor served until the change capture subscription is established")
+	@Test
+	void shouldNotCacheBeforeSubscription() {
+		final SealedEntity entity = Mockito.mock(SealedEntity.class);
+		this.tested.put(ENTITY_TYPE, 1, CONTENT_KEY, 10L, entity);
+		assertNull(this.tested.get(ENTITY_TYPE, 1, CONTENT_KEY, 10L));
+		assertEquals(1, this.subscribers.size());
+
+		this.tested.put(ENTITY_TYPE, 1, CONTENT_KEY, 10L, entity);
+		assertNull(this.tested.get(ENTITY_TYPE, 1, CONTENT_KEY, 10L));
+
+		subscribe(0);
+		this.tested.put(ENTITY_TYPE, 1, CONTENT_KEY, 10L, entity);
+		assertSame(entity, this.tested.get(ENTITY_TYPE, 1, CONTENT_KEY, 10L));
+	}
+
+	@DisplayName("Entry should be served only to sessions seeing the same state of the entity")
+	@Test
+	void shouldServeEntryOnlyToSessionsOfMatchingSnapshot() {
+		connect();
+		final SealedEntity entity = Mockito.mock(SealedEntity.class);
+		this.tested.put(ENTITY_TYPE, 1, CONTENT_KEY, 10L, entity);
+
+		assertSame(entity, this.tested.get(ENTITY_TYPE, 1, CONTENT_KEY, 10L));
+		// changes of version 11 have not been applied yet
+		assertNull(this.tested.get(ENTITY_TYPE, 1, CONTENT_KEY, 11L));
+		// the subscription started after version 10, older changes are unknown
+		assertNull(this.tested.get(ENTITY_TYPE, 1, CONTENT_KEY, 9L));
+		// unknown session version never hits the cache
+		assertNull(this.tested.get(ENTITY_TYPE, 1, CONTENT_KEY, -1L));
+
+		// the change of another entity in version 11 doesn't affect the entry
+		emit(0, dataCapture(11L, 2));
+		emit(0, dataCapture(12L, 3));
+		assertSame(entity, this.tested.get(ENTITY_TYPE, 1, CONTENT_KEY, 11L));
+		assertNull(this.tested.get(ENTITY_TYPE, 1, CONTENT_KEY, 12L));
+	}
+
+	@DisplayName("Entry fetched by a newer session should not be served to an older session that sees a different state")
+	@Test
+	void shouldNotServeNewerEntryToOlderSession() {
+		connect();
+		emit(0, dataCapture(11L, 1));
+		emit(0, dataCapture(12L, 2));
+
+		final SealedEntity entity = Mockito.mock(SealedEntity.class);
+		this.tested.put(ENTITY_TYPE, 1, CONTENT_KEY, 11L, entity);
+		assertSame(entity, this.tested.get(ENTITY_TYPE, 1, CONTENT_KEY, 11L));
+		// the entity changed in version 11, session reading version 10 must see the former state
+		assertNull(this.tested.get(ENTITY_TYPE, 1, CONTENT_KEY, 10L));
+
+		final SealedEntity otherEntity = Mockito.mock(SealedEntity.class);
+		this.tested.put(ENTITY_TYPE, 3, CONTENT_KEY, 11L, otherEntity);
+		// the entity didn't change since the start of the subscription
+		assertSame(otherEntity, this.tested.get(ENTITY_TYPE, 3, CONTENT_KEY, 10L));
+	}
+
+	@DisplayName("Entity change should invalidate the entry and reject the stale entries")
+	@Test
+	void shouldInvalidateChangedEntity() {
+		connect();
+		final SealedEntity entity = Mockito.mock(SealedEntity.class);
+		this.tested.put(ENTITY_TYPE, 1, CONTENT_KEY, 10L, entity);
+
+		emit(0, dataCapture(11L, 1));
+		emit(0, dataCapture(12L, 2));
+		assertNull(this.tested.get(ENTITY_TYPE, 1, CONTENT_KEY, 10L));
+		assertNull(this.tested.get(ENTITY_TYPE, 1, CONTENT_KEY, 11L));
+
+		// the entity fetched by a session reading the former version is rejected
+		this.tested.put(ENTITY_TYPE, 1, CONTENT_KEY, 10L, entity);
+		assertNull(this.tested.get(ENTITY_TYPE, 1, CONTENT_KEY, 10L));
+		assertNull(this.tested.get(ENTITY_TYPE, 1, CONTENT_KEY, 11L));
+
+		final SealedEntity changedEntity = Mockito.mock(SealedEntity.class);
+		this.tested.put(ENTITY_TYPE, 1, CONTENT_KEY, 11L, changedEntity);
+		assertSame(changedEntity, this.tested.get(ENTITY_TYPE, 1, CONTENT_KEY, 11L));
+
+		// schema change drops all entities of the type
+		emit(0, schemaCapture(13L));
+		emit(0, dataCapture(14L, 2));
+		assertNull(this.tested.get(ENTITY_TYPE, 1, CONTENT_KEY, 13L));
+		this.tested.put(ENTITY_TYPE, 1, CONTENT_KEY, 12L, changedEntity);
+		assertNull(this.tested.get(ENTITY_TYPE, 1, CONTENT_KEY, 13L));
+	}
+
+	@DisplayName("Version should become servable as soon as the last mutation of its transaction has been applied")
+	@Test
+	void shouldServeLastVersionWhenItsTransactionIsComplete() {
+		connect();
+		this.transactionSubscribers.get(0).onSubscribe(Mockito.mock(Subscription.class));
+		final SealedEntity entity = Mockito.mock(SealedEntity.class);
+
+		// the mutation count arrives before the captures of the transaction
+		emitTransaction(0, 11L, 2);
+		emit(0, transactionCapture(11L));
+		emit(0, dataCapture(11L, 1, 1));
+		this.tested.put(ENTITY_TYPE, 1, CONTENT_KEY, 11L, entity);
+		assertNull(this.tested.get(ENTITY_TYPE, 1, CONTENT_KEY, 11L));
+		emit(0, dataCapture(11L, 2, 2));
+		emit(0, dataCapture(11L, 2, 2));
+		assertEquals(11L, this.tested.getStatistics().appliedCatalogVersion());
+		assertSame(entity, this.tested.get(ENTITY_TYPE, 1, CONTENT_KEY, 11L));
+
+		// the mutation count arrives after the captures of the transaction
+		emit(0, transactionCapture(12L));
+		emit(0, dataCapture(12L, 1, 1));
+		assertNull(this.tested.get(ENTITY_TYPE, 1, CONTENT_KEY, 12L));
+		emitTransaction(0, 12L, 1);
+		assertEquals(12L, this.tested.getStatistics().appliedCatalogVersion());
+		assertNull(this.tested.get(ENTITY_TYPE, 1, CONTENT_KEY, 12L));
+		this.tested.put(ENTITY_TYPE, 1, CONTENT_KEY, 12L, entity);
+		assertSame(entity, this.tested.get(ENTITY_TYPE, 1, CONTENT_KEY, 12L));
+		assertNull(this.tested.get(ENTITY_TYPE, 1, CONTENT_KEY, 11L));
+	}
+
+	@DisplayName("Entry stored concurrently with the invalidation should never be served to the newer sessions")
+	@Test
+	void shouldNotKeepEntryRacingWithInvalidation() throws Exception {
+		final ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			for (int i = 0; i < 200; i++) {
+				this.subscribers.clear();
+				this.tested = new EvitaEntityCache(this.evita, CATALOG_NAME, 100);
+				connect();
+
+				final SealedEntity entity = Mockito.mock(SealedEntity.class);
+				final CountDownLatch start = new CountDownLatch(1);
+				final Future<?> put = executor.submit(
+					() -> {
+						awaitQuietly(start);
+						this.tested.put(ENTITY_TYPE, 1, CONTENT_KEY, 10L, entity);
+					}
+				);
+				final Future<?> invalidate = executor.submit(
+					() -> {
+						awaitQuietly(start);
+						emit(0, dataCapture(11L, 1));
+					}
+				);
+				start.countDown();
+				put.get();
+				invalidate.get();
+				emit(0, dataCapture(12L, 2));
+
+				assertNull(this.tested.get(ENTITY_TYPE, 1, CONTENT_KEY, 11L), "Iteration " + i);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@DisplayName("Cache should be cleared on stream termination and resubscribe on the next use")
+	@Test
+	void shouldResubscribeAfterStreamTermination() throws Exception {
+		connect();
+		final SealedEntity entity = Mockito.mock(SealedEntity.class);
+		this.tested.put(ENTITY_TYPE, 1, CONTENT_KEY, 10L, entity);
+		assertSame(entity, this.tested.get(ENTITY_TYPE, 1, CONTENT_KEY, 10L));
+
+		this.subscribers.get(0).onComplete();
+		assertNull(this.tested.get(ENTITY_TYPE, 1, CONTENT_KEY, 10L));
+		assertEquals(0L, this.tested.getStatistics().size());
+
+		// entries are not stored while disconnected
+		this.tested.put(ENTITY_TYPE, 1, CONTENT_KEY, 10L, entity);
+
+		this.catalogVersion.set(20L);
+		final long deadline = System.currentTimeMillis() + 5000L;
+		while (this.subscribers.size() < 2 && System.currentTimeMillis() < deadline) {
+			assertNull(this.tested.get(ENTITY_TYPE, 1, CONTENT_KEY, 10L));
+			Thread.sleep(50L);
+		}
+		assertEquals(2, this.subscribers.size());
+		subscribe(1);
+
+		// the state before the new subscription is unknown
+		assertNull(this.tested.get(ENTITY_TYPE, 1, CONTENT_KEY, 10L));
+		this.tested.put(ENTITY_TYPE, 1, CONTENT_KEY, 15L, entity);
+		assertNull(this.tested.get(ENTITY_TYPE, 1, CONTENT_KEY, 20L));
+
+		final SealedEntity newEntity = Mockito.mock(SealedEntity.class);
+		this.tested.put(ENTITY_TYPE, 1, CONTENT_KEY, 20L, newEntity);
+		assertSame(newEntity, this.tested.get(ENTITY_TYPE, 1, CONTENT_KEY, 20L));
+
+		// late notifications of the terminated subscription are ignored
+		emit(0, dataCapture(21L, 1));
+		emit(0, dataCapture(22L, 2));
+		this.subscribers.get(0).onComplete();
+		assertSame(newEntity, this.tested.get(ENTITY_TYPE, 1, CONTENT_KEY, 20L));
+	}
+
+	/**
+	 * Triggers the subscription and confirms it.
+	 */
+	private void connect() {
+		assertNull(this.tested.get(ENTITY_TYPE, 0, CONTENT_KEY, this.catalogVersion.get()));
+		assertTrue(this.subscribers.size() > 0);
+		subscribe(this.subscribers.size() - 1);
+	}
+
+	/**
+	 * Confirms the subscription of the subscriber at the passed index.
+	 */
+	private void subscribe(int index) {
+		this.subscribers.get(index).onSubscribe(Mockito.mock(Subscription.class));
+	}
+
+	/**
+	 * Sends the capture to the subscriber at the passed index.
+	 */
+	private void emit(int index, @Nonnull ChangeCatalogCapture capture) {
+		this.subscribers.get(index).onNext(capture);
+	}
+
+	/**
+	 * Sends the transaction capture with the mutation count to the transaction subscriber at the passed index.
+	 */
+	private void emitTransaction(int index, long version, int mutationCount) {
+		this.transactionSubscribers.get(index).onNext(
+			new ChangeCatalogCapture(
+				version, 0, OffsetDateTime.now(), CaptureArea.INFRASTRUCTURE, null, null, Operation.TRANSACTION,
+				new TransactionMutation(UUID.randomUUID(), version, mutationCount, 0L, OffsetDateTime.now())
+			)
+		);
+	}
+
+	@Nonnull
+	private static ChangeCatalogCapture transactionCapture(long version) {
+		return new ChangeCatalogCapture(
+			version, 0, OffsetDateTime.now(), CaptureArea.INFRASTRUCTURE, null, null, Operation.TRANSACTION, null
+		);
+	}
+
+	@Nonnull
+	private static ChangeCatalogCapture dataCapture(long version, int primaryKey) {
+		return dataCapture(version, 0, primaryKey);
+	}
+
+	@Nonnull
+	private static ChangeCatalogCapture dataCapture(long version, int index, int primaryKey) {
+		return new ChangeCatalogCapture(
+			version, index, OffsetDateTime.now(), CaptureArea.DATA, ENTITY_TYPE, primaryKey, Operation.UPSERT, null
+		);
+	}
+
+	@Nonnull
+	private static ChangeCatalogCapture schemaCapture(long version) {
+		return new ChangeCatalogCapture(
+			version, 0, OffsetDateTime.now(), CaptureArea.SCHEMA, ENTITY_TYPE, null, Operation.UPSERT, null
+		);
+	}
+
+	private static void awaitQuietly(@Nonnull CountDownLatch latch) {
+		try {
+			latch.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+}
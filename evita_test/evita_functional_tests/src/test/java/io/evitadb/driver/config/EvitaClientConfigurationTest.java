@@ -61,6 +61,9 @@ class EvitaClientConfigurationTest {
 		assertFalse(config.retry());
 		assertEquals(100, config.trackedTaskLimit());
 		assertTrue(config.changeCaptureQueueSize() > 0);
+		assertEquals(0, config.entityCacheSize());
+		assertEquals(0L, config.entityBatchWindowMicros());
+		assertEquals(64, config.entityBatchMaxSize());
 	}
 
 	@Nested
@@ -208,6 +211,30 @@ class EvitaClientConfigurationTest {
 			assertEquals(500, config.changeCaptureQueueSize());
 		}
 
+		@Test
+		@DisplayName("should set entity cache size via builder")
+		void shouldSetEntityCacheSizeViaBuilder() {
+			final EvitaClientConfiguration config =
+				EvitaClientConfiguration.builder()
+					.entityCacheSize(10_000)
+					.build();
+
+			assertEquals(10_000, config.entityCacheSize());
+		}
+
+		@Test
+		@DisplayName("should set entity batching via builder")
+		void shouldSetEntityBatchingViaBuilder() {
+			final EvitaClientConfiguration config =
+				EvitaClientConfiguration.builder()
+					.entityBatchWindowMicros(500L)
+					.entityBatchMaxSize(32)
+					.build();
+
+			assertEquals(500L, config.entityBatchWindowMicros());
+			assertEquals(32, config.entityBatchMaxSize());
+		}
+
 		@Test
 		@DisplayName("should set tracked task limit via builder")
 		void shouldSetTrackedTaskLimitViaBuilder() {
@@ -696,6 +723,9 @@ class EvitaClientConfigurationTest {
 				EvitaClientConfiguration.builder()
 					.openTelemetryInstance(otelInstance)
 					.changeCaptureQueueSize(999)
+					.entityCacheSize(50)
+					.entityBatchWindowMicros(250L)
+					.entityBatchMaxSize(16)
 					.reflectionCachingBehaviour(ReflectionCachingBehaviour.NO_CACHE)
 					.trackedTaskLimit(77)
 					.retry(true)
@@ -705,6 +735,9 @@ class EvitaClientConfigurationTest {
 
 			assertSame(otelInstance, copy.openTelemetryInstance());
 			assertEquals(999, copy.changeCaptureQueueSize());
+			assertEquals(50, copy.entityCacheSize());
+			assertEquals(250L, copy.entityBatchWindowMicros());
+			assertEquals(16, copy.entityBatchMaxSize());
 			assertEquals(ReflectionCachingBehaviour.NO_CACHE, copy.reflectionLookupBehaviour());
 			assertEquals(77, copy.trackedTaskLimit());
 			assertTrue(copy.retry());
@@ -56,6 +56,7 @@ import io.evitadb.api.requestResponse.schema.dto.EntityAttributeSchema;
 import io.evitadb.api.requestResponse.schema.dto.EntitySchema;
 import io.evitadb.api.requestResponse.schema.dto.EntitySortableAttributeCompoundSchema;
 import io.evitadb.api.requestResponse.schema.ReferenceIndexType;
+import io.evitadb.api.requestResponse.schema.SealedEntitySchema;
 import io.evitadb.api.requestResponse.schema.dto.ReferenceSchema;
 import io.evitadb.api.requestResponse.schema.mutation.reference.ScopedReferenceIndexType;
 import io.evitadb.dataType.DateTimeRange;
@@ -75,6 +76,7 @@ import org.mockito.Mockito;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.math.BigDecimal;
+import java.nio.ByteBuffer;
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
@@ -93,8 +95,11 @@ import static io.evitadb.test.TestTags.GRPC;
 import static io.evitadb.test.TestTags.EXTERNAL_API;
 import static io.evitadb.test.TestTags.PRICE;
 import static io.evitadb.test.TestTags.QUERY;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -160,6 +165,57 @@ class EntityConverterTest {
 		GrpcAssertions.assertBinaryEntity(binaryEntity, grpcBinaryEntity);
 	}
 
+	@Test
+	void parseBinaryEntity() {
+		final BinaryEntity binaryEntity = new BinaryEntity(
+			createEntitySchema(), 1,
+			new byte[]{1, 2, 3},
+			new byte[][]{new byte[]{1, 2, 3}, new byte[]{4, 5, 6}},
+			new byte[][]{new byte[]{7, 8, 9}},
+			null,
+			new byte[]{1, 2, 3},
+			new BinaryEntity[0]
+		);
+		final GrpcBinaryEntity grpcBinaryEntity = EntityConverter.toGrpcBinaryEntity(binaryEntity);
+
+		final SealedEntitySchema entitySchema = Mockito.mock(SealedEntitySchema.class);
+		Mockito.when(entitySchema.getName()).thenReturn(binaryEntity.getType());
+		final BinaryEntity parsedEntity = EntityConverter.parseBinaryEntity(
+			grpcBinaryEntity,
+			(entityType, schemaVersion) -> {
+				assertEquals(binaryEntity.getType(), entityType);
+				assertEquals(binaryEntity.getSchema().version(), schemaVersion.intValue());
+				return entitySchema;
+			}
+		);
+
+		assertEquals(binaryEntity.getPrimaryKey(), parsedEntity.getPrimaryKey());
+		assertSame(entitySchema, parsedEntity.getSchema());
+		assertNull(parsedEntity.getPriceStoragePart());
+		assertEquals(2, parsedEntity.getAttributeStorageParts().length);
+		assertEquals(1, parsedEntity.getAssociatedDataStorageParts().length);
+		GrpcAssertions.assertBinaryEntity(parsedEntity, grpcBinaryEntity);
+
+		// the parts share the memory of the received message
+		final ByteBuffer entityStoragePart = parsedEntity.getEntityStoragePartBuffer();
+		assertTrue(entityStoragePart.isReadOnly());
+		assertEquals(grpcBinaryEntity.getEntityStoragePart().asReadOnlyByteBuffer(), entityStoragePart);
+		assertNull(parsedEntity.getPriceStoragePartBuffer());
+		assertEquals(
+			grpcBinaryEntity.getReferenceStoragePart().asReadOnlyByteBuffer(),
+			parsedEntity.getReferenceStoragePartBuffer()
+		);
+		assertEquals(2, parsedEntity.getAttributeStoragePartBuffers().length);
+		assertEquals(
+			grpcBinaryEntity.getAssociatedDataStorageParts(0).asReadOnlyByteBuffer(),
+			parsedEntity.getAssociatedDataStoragePartBuffers()[0]
+		);
+		// the byte array accessors copy the part once and leave the buffer intact
+		assertArrayEquals(new byte[]{1, 2, 3}, parsedEntity.getEntityStoragePart());
+		assertSame(parsedEntity.getEntityStoragePart(), parsedEntity.getEntityStoragePart());
+		assertEquals(3, parsedEntity.getEntityStoragePartBuffer().remaining());
+	}
+
 	@Test
 	void buildGrpcPrice() {
 		final Price price = new Price(
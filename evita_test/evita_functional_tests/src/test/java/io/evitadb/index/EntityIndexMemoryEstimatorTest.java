@@ -0,0 +1,135 @@
+/*
+ *
+ *                         _ _        ____  ____
+ *               _____   _(_) |_ __ _|  _ \| __ )
+ *              / _ \ \ / / | __/ _` | | | |  _ \
+ *             |  __/\ V /| | || (_| | |_| | |_) |
+ *              \___| \_/ |_|\__\__,_|____/|____/
+ *
+ *   Copyright (c) 2023-2026
+ *
+ *   Licensed under the Business Source License, Version 1.1 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://github.com/FgForrest/evitaDB/blob/master/LICENSE
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.evitadb.index;
+
+import io.evitadb.api.observability.IndexMemoryFootprint;
+import io.evitadb.api.observability.IndexMemoryFootprint.IndexStructure;
+import io.evitadb.dataType.Scope;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import javax.annotation.Nonnull;
+import java.util.List;
+
+import static io.evitadb.test.TestTags.INDEXING;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link EntityIndexMemoryEstimator} verifying the aggregation of the estimates over multiple entity
+ * indexes and the accounting of the individual index data structures.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+@DisplayName("Entity index memory estimator")
+@Tag(INDEXING)
+class EntityIndexMemoryEstimatorTest {
+	private static final String ENTITY_TYPE = "Product";
+
+	@Nonnull
+	private static GlobalEntityIndex createIndex(int primaryKey, int recordCount) {
+		final GlobalEntityIndex index = new GlobalEntityIndex(
+			primaryKey,
+			ENTITY_TYPE,
+			new EntityIndexKey(EntityIndexType.GLOBAL, Scope.LIVE)
+		);
+		for (int i = 1; i <= recordCount; i++) {
+			index.insertPrimaryKeyIfMissing(i);
+		}
+		return index;
+	}
+
+	@Nonnull
+	private static IndexMemoryFootprint findFootprint(
+		@Nonnull List<IndexMemoryFootprint> footprints,
+		@Nonnull IndexStructure structure
+	) {
+		return footprints.stream()
+			.filter(it -> it.structure() == structure)
+			.findFirst()
+			.orElseThrow();
+	}
+
+	@Test
+	@DisplayName("should report only entity ids for index without any other data")
+	void shouldReportOnlyEntityIdsForPlainIndex() {
+		final List<IndexMemoryFootprint> footprints = EntityIndexMemoryEstimator.estimate(
+			ENTITY_TYPE, List.of(createIndex(1, 100))
+		);
+
+		assertEquals(1, footprints.size());
+		final IndexMemoryFootprint footprint = footprints.get(0);
+		assertEquals(ENTITY_TYPE, footprint.entityType());
+		assertEquals(IndexStructure.ENTITY_IDS, footprint.structure());
+		assertEquals(1, footprint.indexCount());
+		assertTrue(footprint.sizeInBytes() > 0L);
+	}
+
+	@Test
+	@DisplayName("should estimate bigger size for bigger bitmap")
+	void shouldEstimateBiggerSizeForBiggerBitmap() {
+		final long smallSize = EntityIndexMemoryEstimator.estimate(ENTITY_TYPE, List.of(createIndex(1, 10)))
+			.get(0).sizeInBytes();
+		final long bigSize = EntityIndexMemoryEstimator.estimate(ENTITY_TYPE, List.of(createIndex(1, 10_000)))
+			.get(0).sizeInBytes();
+
+		assertTrue(bigSize > smallSize, "Expected " + bigSize + " to be bigger than " + smallSize);
+	}
+
+	@Test
+	@DisplayName("should aggregate the same structures of multiple indexes")
+	void shouldAggregateMultipleIndexes() {
+		final GlobalEntityIndex first = createIndex(1, 100);
+		final GlobalEntityIndex second = createIndex(2, 1_000);
+		final long firstSize = EntityIndexMemoryEstimator.estimate(ENTITY_TYPE, List.of(first)).get(0).sizeInBytes();
+		final long secondSize = EntityIndexMemoryEstimator.estimate(ENTITY_TYPE, List.of(second)).get(0).sizeInBytes();
+
+		final List<IndexMemoryFootprint> footprints = EntityIndexMemoryEstimator.estimate(
+			ENTITY_TYPE, List.of(first, second)
+		);
+
+		assertEquals(1, footprints.size());
+		assertEquals(2, footprints.get(0).indexCount());
+		assertEquals(firstSize + secondSize, footprints.get(0).sizeInBytes());
+	}
+
+	@Test
+	@DisplayName("should account hierarchy nodes and order results by size")
+	void shouldAccountHierarchyNodes() {
+		final GlobalEntityIndex index = createIndex(1, 1);
+		for (int i = 1; i <= 50; i++) {
+			index.addNode(i, i == 1 ? null : 1);
+		}
+
+		final List<IndexMemoryFootprint> footprints = EntityIndexMemoryEstimator.estimate(ENTITY_TYPE, List.of(index));
+
+		assertEquals(2, footprints.size());
+		final IndexMemoryFootprint hierarchy = findFootprint(footprints, IndexStructure.HIERARCHY);
+		assertEquals(50L * EntityIndexMemoryEstimator.HIERARCHY_NODE_SIZE, hierarchy.sizeInBytes());
+		assertEquals(IndexStructure.HIERARCHY, footprints.get(0).structure());
+		assertTrue(footprints.get(0).sizeInBytes() >= footprints.get(1).sizeInBytes());
+	}
+
+}
@@ -30,6 +30,8 @@ import io.evitadb.roaringbitmap.PersistentRoaringBitmap;
 import io.evitadb.roaringbitmap.RoaringBitmapWriter;
 import org.junit.jupiter.api.Tag;
 
+import java.util.Random;
+
 import static io.evitadb.test.TestTags.INDEXING;
 import static io.evitadb.test.TestTags.DATA_TYPE;
 
@@ -119,6 +121,62 @@ class RoaringBitmapBackedBitmapTest {
 		Assertions.assertArrayEquals(new int[]{42}, new BaseBitmap(rebuilt).getArray());
 	}
 
+	@Test
+	@DisplayName("should prefer galloping when the smallest bitmap is tiny compared to the others")
+	void shouldPreferGallopingForTinySmallestBitmap() {
+		final PersistentRoaringBitmap tiny = creatRoaringBitmap(5, 70_000, 1_000_000);
+		final PersistentRoaringBitmap large = PersistentRoaringBitmap.bitmapOfRange(0, 2_000_000);
+		Assertions.assertTrue(
+			RoaringBitmapBackedBitmap.isGallopingPreferred(new PersistentRoaringBitmap[]{large, tiny})
+		);
+		Assertions.assertFalse(
+			RoaringBitmapBackedBitmap.isGallopingPreferred(new PersistentRoaringBitmap[]{large, large})
+		);
+		Assertions.assertFalse(
+			RoaringBitmapBackedBitmap.isGallopingPreferred(new PersistentRoaringBitmap[]{large, tiny, tiny})
+		);
+
+		final Bitmap result = RoaringBitmapBackedBitmap.and(new PersistentRoaringBitmap[]{large, tiny});
+		Assertions.assertArrayEquals(new int[]{5, 70_000, 1_000_000}, result.getArray());
+		Assertions.assertEquals(
+			3, RoaringBitmapBackedBitmap.andCardinality(new PersistentRoaringBitmap[]{large, tiny})
+		);
+	}
+
+	@Test
+	@DisplayName("galloping and container-wise AND should produce identical results")
+	void shouldProduceSameResultsWithBothConjunctionStrategies() {
+		final Random random = new Random(42);
+		for (int round = 0; round < 50; round++) {
+			final PersistentRoaringBitmap[] bitmaps = new PersistentRoaringBitmap[2 + random.nextInt(3)];
+			for (int i = 0; i < bitmaps.length; i++) {
+				final int count = i == 0 ? 1 + random.nextInt(100) : 1 + random.nextInt(200_000);
+				final PersistentRoaringBitmap bitmap = new PersistentRoaringBitmap();
+				for (int j = 0; j < count; j++) {
+					// include negative record ids so that unsigned ordering is exercised too
+					bitmap.add(random.nextInt(400_000) - 100_000);
+				}
+				bitmaps[i] = bitmap;
+			}
+			final int[] expected = RoaringBitmapBackedBitmap.andByContainers(bitmaps).getArray();
+			Assertions.assertArrayEquals(expected, RoaringBitmapBackedBitmap.andByGalloping(bitmaps).getArray());
+			Assertions.assertArrayEquals(expected, RoaringBitmapBackedBitmap.and(bitmaps).getArray());
+			Assertions.assertEquals(expected.length, RoaringBitmapBackedBitmap.andCardinality(bitmaps));
+		}
+	}
+
+	@Test
+	@DisplayName("galloping AND should return empty bitmap when there is no common value")
+	void shouldReturnEmptyBitmapWhenGallopingFindsNothing() {
+		final Bitmap result = RoaringBitmapBackedBitmap.andByGalloping(
+			new PersistentRoaringBitmap[]{
+				creatRoaringBitmap(1, 3, 5),
+				creatRoaringBitmap(2, 4, 6, 8, 10)
+			}
+		);
+		Assertions.assertTrue(result.isEmpty());
+	}
+
 	private static PersistentRoaringBitmap creatRoaringBitmap(int... ints) {
 		final RoaringBitmapWriter<PersistentRoaringBitmap> writer = RoaringBitmapBackedBitmap.buildWriter();
 		writer.addMany(ints);
@@ -47,19 +47,25 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 
+import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Random;
+import java.util.Set;
 import java.util.function.UnaryOperator;
 
 import static io.evitadb.utils.AssertionUtils.assertStateAfterCommit;
 import static io.evitadb.utils.AssertionUtils.assertStateAfterRollback;
+import static java.util.Optional.ofNullable;
 import static org.junit.jupiter.api.Assertions.*;
 import static io.evitadb.test.TestTags.INDEXING;
 import static io.evitadb.test.TestTags.HIERARCHY;
@@ -546,6 +552,294 @@ class HierarchyIndexTest implements TimeBoundedTestSupport {
 
 	}
 
+	@Nested
+	@DisplayName("Maintained node statistics")
+	class MaintainedStatisticsTest {
+		private static final Locale CZ = new Locale("cs");
+		private static final Locale EN = Locale.ENGLISH;
+
+		@Test
+		@DisplayName("should count all descendants and children of the unfiltered tree")
+		void shouldCountDescendantsOfUnfilteredTree() {
+			final HierarchyIndex index = HierarchyIndexTest.this.hierarchyIndex;
+			assertEquals(8, index.getDescendantCount(6, null));
+			assertEquals(2, index.getChildrenCount(6, null));
+			assertEquals(3, index.getDescendantCount(7, null));
+			assertEquals(3, index.getDescendantCount(9, null));
+			assertEquals(0, index.getDescendantCount(12, null));
+			assertEquals(0, index.getChildrenCount(12, null));
+			assertStatisticsMatchTree(index, Collections.emptyMap());
+		}
+
+		@Test
+		@DisplayName("should count all descendants having the locale")
+		void shouldCountLocalizedDescendants() {
+			final HierarchyIndex index = HierarchyIndexTest.this.hierarchyIndex;
+			final Map<Locale, Set<Integer>> locales = new HashMap<>();
+			for (int pk : new int[]{6, 3, 1, 8, 10}) {
+				addLocale(index, locales, pk, CZ);
+			}
+			// node 9 lacks the locale, but its child 10 is still counted in its ancestors
+			assertEquals(4, index.getDescendantCount(6, CZ));
+			assertEquals(2, index.getChildrenCount(6, CZ));
+			assertEquals(1, index.getDescendantCount(8, CZ));
+			assertEquals(0, index.getChildrenCount(8, CZ));
+			assertEquals(1, index.getDescendantCount(9, CZ));
+			assertEquals(0, index.getDescendantCount(6, EN));
+			assertStatisticsMatchTree(index, locales);
+
+			addLocale(index, locales, 9, CZ);
+			assertEquals(5, index.getDescendantCount(6, CZ));
+			assertEquals(2, index.getDescendantCount(8, CZ));
+			assertEquals(1, index.getChildrenCount(8, CZ));
+			assertStatisticsMatchTree(index, locales);
+
+			// node 1 keeps being counted in node 6 even though its parent lost the locale
+			removeLocale(index, locales, 3, CZ);
+			assertEquals(4, index.getDescendantCount(6, CZ));
+			assertEquals(1, index.getChildrenCount(6, CZ));
+			assertEquals(1, index.getDescendantCount(3, CZ));
+			assertStatisticsMatchTree(index, locales);
+		}
+
+		@Test
+		@DisplayName("should keep statistics when nodes are moved, orphaned and re-attached")
+		void shouldMaintainStatisticsOnTreeChanges() {
+			final HierarchyIndex index = HierarchyIndexTest.this.hierarchyIndex;
+			final Map<Locale, Set<Integer>> locales = new HashMap<>();
+			for (int pk = 0; pk <= 12; pk++) {
+				addLocale(index, locales, pk, pk % 3 == 0 ? EN : CZ);
+				if (pk % 2 == 0) {
+					addLocale(index, locales, pk, CZ);
+				}
+			}
+			assertStatisticsMatchTree(index, locales);
+
+			// move subtree
+			index.addNode(9, 5);
+			assertEquals(0, index.getDescendantCount(8, null));
+			assertEquals(7, index.getDescendantCount(7, null));
+			assertStatisticsMatchTree(index, locales);
+
+			// orphan the subtree
+			index.removeNode(7);
+			assertEquals(0, index.getDescendantCount(5, null));
+			assertStatisticsMatchTree(index, locales);
+
+			// re-attach the orphans
+			index.addNode(7, 6);
+			assertEquals(12, index.getDescendantCount(6, null));
+			assertStatisticsMatchTree(index, locales);
+		}
+
+		@Test
+		@DisplayName("should keep statistics consistent during random modifications")
+		void shouldMaintainStatisticsDuringRandomModifications() {
+			final Random random = new Random(42);
+			final HierarchyIndex index = new HierarchyIndex();
+			final Map<Locale, Set<Integer>> locales = new HashMap<>();
+			final Locale[] availableLocales = {CZ, EN};
+			final Set<Integer> placedNodes = new HashSet<>();
+			for (int i = 0; i < 2000; i++) {
+				final int pk = random.nextInt(60);
+				final int operation = random.nextInt(10);
+				if (operation < 4) {
+					final int parent = random.nextInt(70);
+					if (parent != pk) {
+						index.addNode(pk, parent >= 60 ? null : parent);
+						placedNodes.add(pk);
+					}
+				} else if (operation < 5) {
+					if (placedNodes.remove(pk)) {
+						index.removeNode(pk);
+					}
+				} else if (operation < 8) {
+					addLocale(index, locales, pk, availableLocales[random.nextInt(availableLocales.length)]);
+				} else {
+					removeLocale(index, locales, pk, availableLocales[random.nextInt(availableLocales.length)]);
+				}
+				assertStatisticsMatchTree(index, locales);
+			}
+
+			// the statistics computed from scratch when the index is loaded must be equal to the maintained ones
+			final HierarchyIndexStoragePart storagePart = (HierarchyIndexStoragePart) index.createStoragePart(1);
+			final Map<Locale, Bitmap> entityIdsByLanguage = new HashMap<>();
+			locales.forEach(
+				(locale, pks) -> entityIdsByLanguage.put(
+					locale, new BaseBitmap(pks.stream().mapToInt(Integer::intValue).toArray())
+				)
+			);
+			final HierarchyIndex loadedIndex = new HierarchyIndex(
+				storagePart.getRoots(), storagePart.getLevelIndex(), storagePart.getItemIndex(), storagePart.getOrphans(),
+				entityIdsByLanguage
+			);
+			for (int pk = 0; pk < 60; pk++) {
+				for (Locale locale : new Locale[]{null, CZ, EN}) {
+					assertEquals(index.getDescendantCount(pk, locale), loadedIndex.getDescendantCount(pk, locale));
+					assertEquals(index.getChildrenCount(pk, locale), loadedIndex.getChildrenCount(pk, locale));
+				}
+			}
+		}
+
+		@Test
+		@DisplayName("should match localized counts computed by the statistics formula for mixed locales")
+		void shouldMatchFormulaCountsForMixedLocales() {
+			final Random random = new Random(7);
+			final HierarchyIndex index = new HierarchyIndex();
+			final Map<Locale, Set<Integer>> locales = new HashMap<>();
+			final Locale[] availableLocales = {CZ, EN, Locale.GERMAN};
+			for (int pk = 0; pk < 80; pk++) {
+				index.addNode(pk, pk == 0 || random.nextInt(8) == 0 ? null : random.nextInt(pk));
+				// each node has a random (possibly empty) subset of locales
+				for (Locale locale : availableLocales) {
+					if (random.nextBoolean()) {
+						addLocale(index, locales, pk, locale);
+					}
+				}
+			}
+			for (int i = 0; i < 500; i++) {
+				final int pk = random.nextInt(80);
+				final Locale locale = availableLocales[random.nextInt(availableLocales.length)];
+				switch (random.nextInt(3)) {
+					case 0 -> {
+						final int parent = random.nextInt(90);
+						if (parent != pk) {
+							index.addNode(pk, parent >= 80 ? null : parent);
+						}
+					}
+					case 1 -> addLocale(index, locales, pk, locale);
+					default -> removeLocale(index, locales, pk, locale);
+				}
+				for (int node : index.listHierarchyNodesFromRoot().getArray()) {
+					// mirrors `and(localizedEntities, not(node, subtreeOf(node)))` used when no statistics are maintained
+					final int[] subtree = index.listHierarchyNodesFromParent(
+						node, HierarchyFilteringPredicate.ACCEPT_ALL_NODES_PREDICATE
+					).getArray();
+					for (Locale checkedLocale : availableLocales) {
+						final Set<Integer> nodesWithLocale = locales.getOrDefault(checkedLocale, Collections.emptySet());
+						assertEquals(
+							Arrays.stream(subtree).filter(nodesWithLocale::contains).count(),
+							index.getDescendantCount(node, checkedLocale),
+							"Descendant count of " + node + " in " + checkedLocale + " doesn't match!"
+						);
+					}
+				}
+			}
+		}
+
+		@Test
+		@DisplayName("committed state reflects locale changes")
+		void shouldCommitLocaleChanges() {
+			final HierarchyIndex index = HierarchyIndexTest.this.hierarchyIndex;
+			index.addNodeLocale(8, CZ);
+			assertStateAfterCommit(
+				index,
+				original -> {
+					original.addNodeLocale(9, CZ);
+					original.addNodeLocale(10, CZ);
+					assertEquals(2, original.getDescendantCount(8, CZ));
+				},
+				(original, committed) -> {
+					assertNotSame(original, committed);
+					assertEquals(0, original.getDescendantCount(8, CZ));
+					assertEquals(2, committed.getDescendantCount(8, CZ));
+					assertEquals(1, committed.getChildrenCount(9, CZ));
+				}
+			);
+		}
+
+		@Test
+		@DisplayName("rolled back locale changes leave statistics intact")
+		void shouldRollbackLocaleChanges() {
+			final HierarchyIndex index = HierarchyIndexTest.this.hierarchyIndex;
+			assertStateAfterRollback(
+				index,
+				original -> {
+					original.addNodeLocale(3, CZ);
+					original.removeNode(8);
+				},
+				(original, committed) -> {
+					assertNull(committed);
+					assertEquals(0, original.getDescendantCount(6, CZ));
+					assertEquals(8, original.getDescendantCount(6, null));
+				}
+			);
+		}
+
+		private static void addLocale(
+			@Nonnull HierarchyIndex index,
+			@Nonnull Map<Locale, Set<Integer>> locales,
+			int entityPrimaryKey,
+			@Nonnull Locale locale
+		) {
+			index.addNodeLocale(entityPrimaryKey, locale);
+			locales.computeIfAbsent(locale, loc -> new HashSet<>()).add(entityPrimaryKey);
+		}
+
+		private static void removeLocale(
+			@Nonnull HierarchyIndex index,
+			@Nonnull Map<Locale, Set<Integer>> locales,
+			int entityPrimaryKey,
+			@Nonnull Locale locale
+		) {
+			index.removeNodeLocale(entityPrimaryKey, locale);
+			ofNullable(locales.get(locale)).ifPresent(it -> it.remove(entityPrimaryKey));
+		}
+
+		/**
+		 * Verifies maintained statistics of all attached nodes against the counts computed by traversing the tree.
+		 */
+		private static void assertStatisticsMatchTree(
+			@Nonnull HierarchyIndex index,
+			@Nonnull Map<Locale, Set<Integer>> locales
+		) {
+			final Set<Locale> allLocales = new HashSet<>(locales.keySet());
+			allLocales.add(EN);
+			for (int node : index.listHierarchyNodesFromRoot().getArray()) {
+				assertEquals(
+					countDescendants(index, node, null), index.getDescendantCount(node, null),
+					"Descendant count of " + node + " doesn't match!"
+				);
+				assertEquals(
+					getChildren(index, node).length, index.getChildrenCount(node, null),
+					"Children count of " + node + " doesn't match!"
+				);
+				for (Locale locale : allLocales) {
+					final Set<Integer> nodesWithLocale = locales.getOrDefault(locale, Collections.emptySet());
+					assertEquals(
+						countDescendants(index, node, nodesWithLocale), index.getDescendantCount(node, locale),
+						"Descendant count of " + node + " in " + locale + " doesn't match!"
+					);
+					assertEquals(
+						Arrays.stream(getChildren(index, node)).filter(nodesWithLocale::contains).count(),
+						index.getChildrenCount(node, locale),
+						"Children count of " + node + " in " + locale + " doesn't match!"
+					);
+				}
+			}
+		}
+
+		private static int countDescendants(@Nonnull HierarchyIndex index, int node, @Nullable Set<Integer> nodesWithLocale) {
+			int count = 0;
+			for (int child : getChildren(index, node)) {
+				if (nodesWithLocale == null || nodesWithLocale.contains(child)) {
+					count++;
+				}
+				count += countDescendants(index, child, nodesWithLocale);
+			}
+			return count;
+		}
+
+		@Nonnull
+		private static int[] getChildren(@Nonnull HierarchyIndex index, int node) {
+			// the method returns the parent node along with its children
+			return Arrays.stream(index.getHierarchyNodesForParent(node).getArray())
+				.filter(it -> it != node)
+				.toArray();
+		}
+
+	}
+
 	@Nested
 	@DisplayName("STM commit behavior")
 	class StmCommitTest {
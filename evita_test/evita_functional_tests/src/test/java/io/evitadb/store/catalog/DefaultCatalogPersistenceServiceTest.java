@@ -897,7 +897,9 @@ class DefaultCatalogPersistenceServiceTest implements EvitaTestSupport {
 			TransactionOptions.DEFAULT_FLUSH_FREQUENCY,
 			TransactionOptions.DEFAULT_CHECKPOINT_INTERVAL,
 			TransactionOptions.DEFAULT_CONFLICT_RING_BUFFER_SIZE,
-			TransactionOptions.DEFAULT_CONFLICT_RESOLUTION
+			TransactionOptions.DEFAULT_CONFLICT_RESOLUTION,
+			TransactionOptions.DEFAULT_DELTA_BATCHING_WINDOW,
+			TransactionOptions.DEFAULT_WAL_TAIL_CACHE_SIZE
 		);
 	}
 
@@ -0,0 +1,221 @@
+/*
+ *
+ *                         _ _        ____  ____
+ *               _____   _(_) |_ __ _|  _ \| __ )
+ *              / _ \ \ / / | __/ _` | | | |  _ \
+ *             |  __/\ V /| | || (_| | |_| | |_) |
+ *              \___| \_/ |_|\__\__,_|____/|____/
+ *
+ *   Copyright (c) 2026
+ *
+ *   Licensed under the Business Source License, Version 1.1 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://github.com/FgForrest/evitaDB/blob/master/LICENSE
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.evitadb.store.offsetIndex;
+
+import io.evitadb.store.offsetIndex.StripedObjectPool.PoolStatistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.evitadb.test.TestTags.STORAGE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * This test verifies the functionality of the {@link StripedObjectPool} class.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+@Tag(STORAGE)
+@DisplayName("Striped object pool")
+class StripedObjectPoolTest {
+
+	@Test
+	@DisplayName("should reuse the returned object")
+	void shouldReuseReturnedObject() {
+		final CountingPool tested = new CountingPool(4);
+		final PooledObject first = tested.obtain();
+		tested.free(first);
+
+		assertSame(first, tested.obtain());
+		assertEquals(new PoolStatistics(1, 1, 0, 0, 0), tested.getStatistics());
+	}
+
+	@Test
+	@DisplayName("should create a new object when the pool is empty")
+	void shouldCreateNewObjectWhenPoolIsEmpty() {
+		final CountingPool tested = new CountingPool(4);
+		final PooledObject first = tested.obtain();
+		final PooledObject second = tested.obtain();
+
+		assertNotSame(first, second);
+		assertEquals(2, tested.getStatistics().created());
+	}
+
+	@Test
+	@DisplayName("should never keep more objects than its capacity")
+	void shouldNeverKeepMoreObjectsThanCapacity() {
+		final CountingPool tested = new CountingPool(4);
+		final List<PooledObject> borrowed = new ArrayList<>(64);
+		for (int i = 0; i < 64; i++) {
+			borrowed.add(tested.obtain());
+		}
+		borrowed.forEach(tested::free);
+
+		assertEquals(tested.getCapacity(), tested.getFree());
+		assertEquals(64 - tested.getCapacity(), tested.getStatistics().discarded());
+	}
+
+	@Test
+	@DisplayName("should keep all objects up to its capacity returned from a single thread")
+	void shouldKeepAllObjectsReturnedFromSingleThread() {
+		final CountingPool tested = new CountingPool(64);
+		final List<PooledObject> borrowed = new ArrayList<>(tested.getCapacity());
+		for (int i = 0; i < tested.getCapacity(); i++) {
+			borrowed.add(tested.obtain());
+		}
+		borrowed.forEach(tested::free);
+
+		assertEquals(tested.getCapacity(), tested.getFree());
+		assertEquals(0, tested.getStatistics().discarded());
+	}
+
+	@Test
+	@DisplayName("should reuse objects returned by another thread without creating new ones")
+	void shouldReuseObjectsReturnedByAnotherThread() throws Exception {
+		final CountingPool tested = new CountingPool(64);
+		final int count = tested.getCapacity();
+		final ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			executor.submit(() -> {
+				final List<PooledObject> borrowed = new ArrayList<>(count);
+				for (int i = 0; i < count; i++) {
+					borrowed.add(tested.obtain());
+				}
+				borrowed.forEach(tested::free);
+			}).get(30, TimeUnit.SECONDS);
+		} finally {
+			executor.shutdownNow();
+		}
+
+		for (int i = 0; i < count; i++) {
+			tested.obtain();
+		}
+
+		final PoolStatistics statistics = tested.getStatistics();
+		assertEquals(count, statistics.created());
+		assertEquals(count, statistics.reused());
+		assertTrue(statistics.stolen() <= statistics.reused());
+		assertEquals(0, statistics.discarded());
+		assertEquals(0, tested.getFree());
+	}
+
+	@Test
+	@DisplayName("should discard objects that are not accepted")
+	void shouldDiscardObjectsThatAreNotAccepted() {
+		final CountingPool tested = new CountingPool(4) {
+			@Override
+			protected boolean accept(@Nonnull PooledObject object) {
+				return false;
+			}
+		};
+		tested.free(tested.obtain());
+
+		assertEquals(0, tested.getFree());
+		assertEquals(1, tested.getStatistics().discarded());
+	}
+
+	@Test
+	@DisplayName("should drop all objects on clear")
+	void shouldDropAllObjectsOnClear() {
+		final CountingPool tested = new CountingPool(4);
+		tested.free(tested.obtain());
+		tested.clear();
+
+		assertEquals(0, tested.getFree());
+	}
+
+	@Test
+	@DisplayName("should never hand out the same object to two threads at once")
+	void shouldNeverHandOutSameObjectToTwoThreadsAtOnce() throws Exception {
+		final CountingPool tested = new CountingPool(8);
+		final int threads = 64;
+		final ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			final CountDownLatch start = new CountDownLatch(1);
+			final List<Future<?>> futures = new ArrayList<>(threads);
+			for (int i = 0; i < threads; i++) {
+				futures.add(
+					executor.submit(() -> {
+						start.await();
+						for (int j = 0; j < 10_000; j++) {
+							final PooledObject object = tested.obtain();
+							assertEquals(1, object.borrowers.incrementAndGet());
+							assertEquals(0, object.borrowers.decrementAndGet());
+							tested.free(object);
+						}
+						return null;
+					})
+				);
+			}
+			start.countDown();
+			for (Future<?> future : futures) {
+				future.get(30, TimeUnit.SECONDS);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+
+		final PoolStatistics statistics = tested.getStatistics();
+		assertEquals(threads * 10_000L, statistics.created() + statistics.reused());
+		assertTrue(tested.getFree() <= tested.getCapacity());
+	}
+
+	/**
+	 * Object that tracks the number of threads holding it.
+	 */
+	private static class PooledObject {
+		private final AtomicInteger borrowers = new AtomicInteger();
+	}
+
+	/**
+	 * Pool creating plain {@link PooledObject}s.
+	 */
+	private static class CountingPool extends StripedObjectPool<PooledObject> {
+
+		CountingPool(int maximumCapacity) {
+			super(maximumCapacity);
+		}
+
+		@Nonnull
+		@Override
+		protected PooledObject create() {
+			return new PooledObject();
+		}
+
+	}
+
+}
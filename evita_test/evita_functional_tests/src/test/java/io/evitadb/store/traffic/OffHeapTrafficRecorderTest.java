@@ -28,6 +28,7 @@ import com.google.common.collect.Lists;
 import io.evitadb.api.configuration.StorageOptions;
 import io.evitadb.api.configuration.TrafficRecordingOptions;
 import io.evitadb.api.exception.IndexNotReady;
+import io.evitadb.api.query.Query;
 import io.evitadb.api.query.head.Label;
 import io.evitadb.api.query.order.OrderDirection;
 import io.evitadb.api.requestResponse.data.mutation.EntityMutation.EntityExistence;
@@ -1111,6 +1112,106 @@ public class OffHeapTrafficRecorderTest implements EvitaTestSupport {
 		}
 	}
 
+	@Test
+	@DisplayName("Adaptive sampling keeps slow, expensive and novel sessions and downsamples frequent cheap ones")
+	void shouldKeepValuableSessionsInAdaptiveSamplingMode() throws Exception {
+		final Path work = getPathInTargetDirectory(UUID.randomUUID() + "/work");
+		work.toFile().mkdirs();
+		final OffHeapTrafficRecorder recorder = new OffHeapTrafficRecorder(2_048);
+		final StorageOptions storageOptions = StorageOptions.builder()
+			.outputBufferSize(2_048)
+			.workDirectory(work)
+			.build();
+		recorder.init(
+			TEST_CATALOG,
+			new FileManagementService(storageOptions),
+			new Scheduler(new ImmediateScheduledThreadPoolExecutor()),
+			storageOptions,
+			TrafficRecordingOptions.builder()
+				.enabled(true)
+				.trafficSamplingPercentage(1)
+				.trafficMemoryBufferSizeInBytes(32_768L)
+				.trafficDiskBufferSizeInBytes(65_536L)
+				.adaptiveSampling(true)
+				.adaptiveSamplingLatencyThresholdInMilliseconds(1_000L)
+				.adaptiveSamplingFetchedSizeThresholdInBytes(1_048_576L)
+				.build(),
+			Long.MAX_VALUE
+		);
+		try (recorder) {
+			final AtomicLong finishedSessions = (AtomicLong) readField(recorder, "finishedSessions");
+			final Query frequentQuery = query(
+				collection(Entities.PRODUCT),
+				filterBy(entityPrimaryKeyInSet(1, 2, 3))
+			);
+
+			// the first session with a new shape is kept, the following cheap ones of the same shape are sampled out
+			for (int i = 0; i < 10; i++) {
+				final UUID sessionId = UUIDUtil.randomUUID();
+				recorder.createSession(sessionId, 1, OffsetDateTime.now());
+				recorder.recordQuery(
+					sessionId, "frequent", frequentQuery, new Label[0], OffsetDateTime.now(),
+					3, 1, 100, new int[]{1, 2, 3}, null
+				);
+				recorder.closeSession(sessionId, null);
+			}
+			assertEquals(1L, finishedSessions.get());
+			assertTrue(sumReasonCounters(recorder, "missedRecordsByReason") > 0);
+
+			// slow query of the frequent shape is kept
+			final UUID slowSessionId = UUIDUtil.randomUUID();
+			recorder.createSession(slowSessionId, 1, OffsetDateTime.now());
+			recorder.recordQuery(
+				slowSessionId, "slow", frequentQuery, new Label[0], OffsetDateTime.now().minusSeconds(5),
+				3, 1, 100, new int[]{1, 2, 3}, null
+			);
+			recorder.closeSession(slowSessionId, null);
+			assertEquals(2L, finishedSessions.get());
+
+			// expensive fetch is kept
+			final UUID expensiveSessionId = UUIDUtil.randomUUID();
+			recorder.createSession(expensiveSessionId, 1, OffsetDateTime.now());
+			recorder.recordFetch(
+				expensiveSessionId, frequentQuery, OffsetDateTime.now(), 50, 2_097_152, 1, null
+			);
+			recorder.closeSession(expensiveSessionId, null);
+			assertEquals(3L, finishedSessions.get());
+
+			// query of a new shape is kept
+			final UUID novelSessionId = UUIDUtil.randomUUID();
+			recorder.createSession(novelSessionId, 1, OffsetDateTime.now());
+			recorder.recordQuery(
+				novelSessionId, "novel",
+				query(
+					collection(Entities.PRODUCT),
+					filterBy(attributeEquals("code", "abc"))
+				),
+				new Label[0], OffsetDateTime.now(),
+				1, 1, 100, new int[]{1}, null
+			);
+			recorder.closeSession(novelSessionId, null);
+			assertEquals(4L, finishedSessions.get());
+
+			// session finished with an error is kept
+			final UUID failedSessionId = UUIDUtil.randomUUID();
+			recorder.createSession(failedSessionId, 1, OffsetDateTime.now());
+			recorder.closeSession(failedSessionId, "Error");
+			assertEquals(5L, finishedSessions.get());
+
+			// all the memory of the sampled out sessions was returned and only the kept sessions reach the disk
+			recorder.drainFinalizedSessionsToDisk();
+			final DiskRingBuffer diskBuffer = (DiskRingBuffer) readField(recorder, "diskBuffer");
+			@SuppressWarnings("unchecked") final Deque<SessionLocation> sessionLocations =
+				(Deque<SessionLocation>) readField(diskBuffer, "sessionLocations");
+			assertEquals(5, sessionLocations.size());
+			@SuppressWarnings("unchecked") final Collection<Integer> freeBlocks =
+				(Collection<Integer>) readField(recorder, "freeBlocks");
+			assertEquals(16, freeBlocks.size());
+		} finally {
+			FileUtils.deleteDirectory(work);
+		}
+	}
+
 	/**
 	 * Builds a fully initialized, isolated {@link OffHeapTrafficRecorder} with the given block, memory and
 	 * disk buffer sizes, a 100% sampling rate and a disabled background drain ({@code Long.MAX_VALUE} flush
@@ -55,7 +55,10 @@ import io.evitadb.store.shared.kryo.KryoFactory;
 import io.evitadb.store.shared.model.FileLocation;
 import io.evitadb.store.wal.AbstractMutationLog.FirstAndLastVersionsInWalFile;
 import io.evitadb.store.wal.supplier.MutationSupplier;
+import io.evitadb.store.wal.supplier.TailCachedMutationSupplier;
 import io.evitadb.store.wal.supplier.TransactionMutationWithLocation;
+import io.evitadb.store.wal.supplier.WalTailCache;
+import io.evitadb.store.wal.supplier.WalTailCache.WalTailCacheStatistics;
 import io.evitadb.test.EvitaTestSupport;
 import io.evitadb.test.generator.DataGenerator;
 import io.evitadb.utils.CollectionUtils;
@@ -305,6 +308,31 @@ public class CatalogWriteAheadLogIntegrationTest implements EvitaTestSupport {
 		);
 	}
 
+	@Nonnull
+	private CatalogWriteAheadLog createCatalogWriteAheadLogWithTailCache(long walFileSizeBytes, long walTailCacheSizeBytes) {
+		return new CatalogWriteAheadLog(
+			0L,
+			TEST_CATALOG,
+			new LogFileRecordReference(index -> getWalFileName(TEST_CATALOG, index)),
+			this.walDirectory,
+			this.catalogKryoPool,
+			new StorageSettings(
+				StorageOptions.builder()
+					.compress(false)
+					.build(),
+				TransactionOptions.builder()
+					.walFileCountKept(5)
+					.walFileSizeBytes(walFileSizeBytes)
+					.walTailCacheSizeBytes(walTailCacheSizeBytes)
+					.build()
+			),
+			Mockito.mock(Scheduler.class),
+			this.offsetConsumer,
+			firstActiveCatalogVersion -> {
+			}
+		);
+	}
+
 	private void createCachedSupplierReadAndVerifyFrom(
 		Map<Long, List<Mutation>> txInMutations, int[] transactionSizes, int index
 	) {
@@ -480,6 +508,108 @@ public class CatalogWriteAheadLogIntegrationTest implements EvitaTestSupport {
 		}
 	}
 
+	/**
+	 * Nested tests for reading the WAL through the off-heap tail cache.
+	 */
+	@Nested
+	@DisplayName("WAL Tail Cache Tests")
+	class WalTailCacheTests {
+
+		@Test
+		@DisplayName("should serve committed mutations from the tail cache")
+		void shouldServeCommittedMutationsFromTailCache() throws IOException {
+			CatalogWriteAheadLogIntegrationTest.this.wal.close();
+			CatalogWriteAheadLogIntegrationTest.this.wal = createCatalogWriteAheadLogWithTailCache(Long.MAX_VALUE, 10_000_000);
+
+			final int[] transactionSizes = {10, 15, 20, 15, 10};
+			final Map<Long, List<Mutation>> txInMutations = writeWal(
+				CatalogWriteAheadLogIntegrationTest.this.bigOffHeapMemoryManager, transactionSizes);
+			final WalTailCache tailCache = CatalogWriteAheadLogIntegrationTest.this.wal.getTailCache();
+			assertEquals(transactionSizes.length, tailCache.size());
+
+			readAndVerifyWal(txInMutations, transactionSizes, 0);
+			readAndVerifyWal(txInMutations, transactionSizes, 2);
+			readAndVerifyWalInReverse(txInMutations, transactionSizes, 4);
+			assertCachedReadMatchesWalFile(1);
+
+			final WalTailCacheStatistics statistics = tailCache.sampleStatistics();
+			assertTrue(statistics.hits() > 0);
+			assertEquals(0, statistics.misses());
+			assertEquals(0, statistics.evictions());
+			assertEquals(statistics.occupiedBytes(), tailCache.getOccupiedBytes());
+		}
+
+		@Test
+		@DisplayName("should fall back to WAL file when the oldest transactions were evicted from the tail cache")
+		void shouldFallBackToWalFileWhenTransactionsAreEvicted() throws IOException {
+			CatalogWriteAheadLogIntegrationTest.this.wal.close();
+			CatalogWriteAheadLogIntegrationTest.this.wal = createCatalogWriteAheadLogWithTailCache(Long.MAX_VALUE, 20_000);
+
+			final int[] transactionSizes = {10, 15, 20, 15, 10, 5, 10};
+			final Map<Long, List<Mutation>> txInMutations = writeWal(
+				CatalogWriteAheadLogIntegrationTest.this.bigOffHeapMemoryManager, transactionSizes);
+			final WalTailCache tailCache = CatalogWriteAheadLogIntegrationTest.this.wal.getTailCache();
+			assertTrue(tailCache.size() > 0);
+			assertTrue(tailCache.size() < transactionSizes.length);
+			assertTrue(tailCache.getOccupiedBytes() <= 20_000);
+
+			readAndVerifyWal(txInMutations, transactionSizes, 0);
+			readAndVerifyWalInReverse(txInMutations, transactionSizes, 6);
+			assertCachedReadMatchesWalFile(1);
+
+			final WalTailCacheStatistics statistics = tailCache.sampleStatistics();
+			assertTrue(statistics.misses() > 0);
+			assertTrue(statistics.evictions() > 0);
+		}
+
+		@Test
+		@DisplayName("should read WAL over multiple files through the tail cache")
+		void shouldReadWalOverMultipleFilesThroughTailCache() throws IOException {
+			CatalogWriteAheadLogIntegrationTest.this.wal.close();
+			CatalogWriteAheadLogIntegrationTest.this.wal = createCatalogWriteAheadLogWithTailCache(16_384, 10_000_000);
+
+			final int[] transactionSizes = {10, 15, 20, 15, 10};
+			final Map<Long, List<Mutation>> txInMutations = writeWal(
+				CatalogWriteAheadLogIntegrationTest.this.bigOffHeapMemoryManager, transactionSizes);
+
+			for (int i = 0; i < transactionSizes.length; i++) {
+				readAndVerifyWal(txInMutations, transactionSizes, i);
+			}
+			readAndVerifyWalInReverse(txInMutations, transactionSizes, 4);
+			assertCachedReadMatchesWalFile(1);
+		}
+
+		/**
+		 * Reads the WAL both through the tail cache and directly from the WAL file and verifies that both readers
+		 * return the same mutations, transaction locations and cumulative checksums.
+		 *
+		 * @param startVersion the catalog version to start reading from
+		 */
+		private void assertCachedReadMatchesWalFile(long startVersion) {
+			final CatalogWriteAheadLog theWal = CatalogWriteAheadLogIntegrationTest.this.wal;
+			try (
+				final TailCachedMutationSupplier<CatalogBoundMutation> cachedSupplier = theWal.createTailCachedSupplier(startVersion, null);
+				final MutationSupplier<CatalogBoundMutation> fileSupplier = theWal.createSupplier(startVersion, null)
+			) {
+				CatalogBoundMutation expected;
+				do {
+					expected = fileSupplier.get();
+					final CatalogBoundMutation actual = cachedSupplier.get();
+					if (expected instanceof TransactionMutationWithLocation expectedTx) {
+						final TransactionMutationWithLocation actualTx = assertInstanceOf(
+							TransactionMutationWithLocation.class, actual
+						);
+						assertTransactionMutationEquals(expectedTx, actualTx);
+						assertEquals(expectedTx.getTransactionSpan(), actualTx.getTransactionSpan());
+						assertEquals(expectedTx.getWalFileIndex(), actualTx.getWalFileIndex());
+					} else {
+						assertEquals(expected, actual);
+					}
+				} while (expected != null);
+			}
+		}
+	}
+
 	/**
 	 * Nested tests for transaction lookup functionality.
 	 */
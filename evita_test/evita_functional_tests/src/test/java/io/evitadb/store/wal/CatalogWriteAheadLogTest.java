@@ -41,6 +41,7 @@ import io.evitadb.store.offsetIndex.io.CatalogOffHeapMemoryManager;
 import io.evitadb.store.offsetIndex.io.OffHeapWithFileBackupReference;
 import io.evitadb.store.settings.StorageSettings;
 import io.evitadb.store.shared.kryo.KryoFactory;
+import io.evitadb.store.wal.supplier.WalSegmentIndex;
 import io.evitadb.test.EvitaTestSupport;
 import io.evitadb.utils.Crc32CWrapper;
 import io.evitadb.utils.FileUtils;
@@ -919,6 +920,76 @@ class CatalogWriteAheadLogTest implements EvitaTestSupport {
 		}
 	}
 
+	/**
+	 * Nested tests for the sparse segment index written next to the WAL file on rotation.
+	 */
+	@Nested
+	@DisplayName("WAL Segment Index Tests")
+	class WalSegmentIndexTests {
+
+		@Test
+		@DisplayName("should write segment index of the finalized WAL file on rotation")
+		void shouldWriteSegmentIndexOnRotation() throws IOException {
+			CatalogWriteAheadLogTest.this.tested.close();
+			cleanTestSubDirectory(CatalogWriteAheadLogTest.class.getSimpleName());
+			CatalogWriteAheadLogTest.this.walDirectory.toFile().mkdirs();
+
+			final Path firstWalFilePath = CatalogWriteAheadLogTest.this.walDirectory.resolve(getWalFileName(TEST_CATALOG, 0));
+			final Path secondWalFilePath = CatalogWriteAheadLogTest.this.walDirectory.resolve(getWalFileName(TEST_CATALOG, 1));
+
+			int transactionsInFirstFile = 0;
+			try (CatalogWriteAheadLog wal = createTestWalWithCustomSize(32_768L)) {
+				int transactionVersion = 1;
+				while (!Files.exists(secondWalFilePath)) {
+					final TransactionWithData txData = createTestTransaction(transactionVersion - 1, 200);
+					wal.append(txData.mutation(), txData.data());
+					transactionVersion++;
+					if (transactionVersion > 1000) {
+						throw new AssertionError("WAL rotation did not occur within expected number of transactions");
+					}
+				}
+				// the last appended transaction triggered the rotation and landed in the second file
+				transactionsInFirstFile = transactionVersion - 2;
+			}
+
+			assertTrue(
+				Files.exists(WalSegmentIndex.getIndexFilePath(firstWalFilePath)),
+				"Segment index of the rotated WAL file should exist"
+			);
+			assertFalse(
+				Files.exists(WalSegmentIndex.getIndexFilePath(secondWalFilePath)),
+				"Segment index of the WAL file being appended to should not exist"
+			);
+
+			final long firstWalFileLength = firstWalFilePath.toFile().length();
+			final WalSegmentIndex segmentIndex = WalSegmentIndex.read(firstWalFilePath, firstWalFileLength)
+				.orElseThrow();
+			assertEquals(
+				(transactionsInFirstFile + WalSegmentIndex.STRIDE - 1) / WalSegmentIndex.STRIDE,
+				segmentIndex.size()
+			);
+
+			// all the transactions have the same size, so the indexed positions are evenly spaced
+			final long firstPosition = segmentIndex.findNearestLocation(1L);
+			final long secondPosition = segmentIndex.findNearestLocation(1L + WalSegmentIndex.STRIDE);
+			assertEquals(AbstractMutationLog.CUMULATIVE_CRC32_SIZE, firstPosition);
+			assertTrue(secondPosition > firstPosition);
+			assertEquals(secondPosition, segmentIndex.findNearestLocation(WalSegmentIndex.STRIDE * 2L));
+			assertEquals(
+				firstPosition + 2 * (secondPosition - firstPosition),
+				segmentIndex.findNearestLocation(1L + 2L * WalSegmentIndex.STRIDE)
+			);
+
+			// the index describing a WAL file of a different length must be ignored
+			assertTrue(WalSegmentIndex.read(firstWalFilePath, firstWalFileLength + 1).isEmpty());
+
+			// Clean directory and recreate WAL for tearDown
+			cleanTestSubDirectory(CatalogWriteAheadLogTest.class.getSimpleName());
+			CatalogWriteAheadLogTest.this.walDirectory.toFile().mkdirs();
+			CatalogWriteAheadLogTest.this.tested = createTestWal();
+		}
+	}
+
 	/**
 	 * Functional interface for operations that can throw IOException.
 	 */
@@ -0,0 +1,78 @@
+/*
+ *
+ *                         _ _        ____  ____
+ *               _____   _(_) |_ __ _|  _ \| __ )
+ *              / _ \ \ / / | __/ _` | | | |  _ \
+ *             |  __/\ V /| | || (_| | |_| | |_) |
+ *              \___| \_/ |_|\__\__,_|____/|____/
+ *
+ *   Copyright (c) 2026
+ *
+ *   Licensed under the Business Source License, Version 1.1 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://github.com/FgForrest/evitaDB/blob/master/LICENSE
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+
+package io.evitadb.performance.cdc;
+
+import io.evitadb.performance.cdc.state.ChangeCatalogCaptureDispatchState;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark measuring the cost of dispatching the mutations of a single transaction to the shared CDC
+ * publishers as a function of the number of distinct subscription criteria. It compares the original broadcast
+ * dispatch - every mutation is evaluated by the predicates of all the publishers - with the dispatch routed by
+ * {@link io.evitadb.core.cdc.ChangeCatalogCaptureDispatchIndex}.
+ *
+ * The subscriptions are spread evenly over the entity types, so that with the broadcast dispatch the cost per
+ * mutation grows linearly with `subscriptionCount`, while with the indexed dispatch it grows only with the number of
+ * subscriptions observing the entity type of the mutation. The per-publisher work equals to the work of
+ * `ChangeCatalogCaptureSharedPublisher#processMutation` without the ring buffer.
+ *
+ * ## Suggested invocation
+ *
+ * ```bash
+ * java -cp evita_test/evita_performance_tests/target/benchmarks.jar \
+ *     io.evitadb.performance.BenchmarkRunner ChangeCatalogCaptureDispatchBenchmark \
+ *     -prof gc
+ * ```
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1)
+@Threads(1)
+public class ChangeCatalogCaptureDispatchBenchmark {
+
+	/**
+	 * Dispatches all mutations of a single transaction (the transaction mutation followed by the entity mutations)
+	 * to the publishers and consumes the produced captures.
+	 */
+	@Benchmark
+	public void dispatchTransaction(ChangeCatalogCaptureDispatchState state, Blackhole blackhole) {
+		state.dispatchTransaction(blackhole);
+	}
+
+}
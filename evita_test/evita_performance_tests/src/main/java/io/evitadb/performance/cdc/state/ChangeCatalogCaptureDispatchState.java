@@ -0,0 +1,200 @@
+/*
+ *
+ *                         _ _        ____  ____
+ *               _____   _(_) |_ __ _|  _ \| __ )
+ *              / _ \ \ / / | __/ _` | | | |  _ \
+ *             |  __/\ V /| | || (_| | |_| | |_) |
+ *              \___| \_/ |_|\__\__,_|____/|____/
+ *
+ *   Copyright (c) 2026
+ *
+ *   Licensed under the Business Source License, Version 1.1 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://github.com/FgForrest/evitaDB/blob/master/LICENSE
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+
+package io.evitadb.performance.cdc.state;
+
+import io.evitadb.api.requestResponse.cdc.ChangeCaptureContent;
+import io.evitadb.api.requestResponse.cdc.ChangeCatalogCaptureCriteria;
+import io.evitadb.api.requestResponse.data.mutation.EntityMutation.EntityExistence;
+import io.evitadb.api.requestResponse.data.mutation.EntityUpsertMutation;
+import io.evitadb.api.requestResponse.data.mutation.attribute.UpsertAttributeMutation;
+import io.evitadb.api.requestResponse.mutation.CatalogBoundMutation;
+import io.evitadb.api.requestResponse.mutation.MutationPredicate;
+import io.evitadb.api.requestResponse.mutation.MutationPredicateContext;
+import io.evitadb.api.requestResponse.mutation.infrastructure.TransactionMutation;
+import io.evitadb.core.cdc.ChangeCatalogCaptureDispatchIndex;
+import io.evitadb.core.cdc.ChangeCatalogCriteriaBundle;
+import io.evitadb.performance.cdc.ChangeCatalogCaptureDispatchBenchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.annotation.Nonnull;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * JMH state for {@link ChangeCatalogCaptureDispatchBenchmark}.
+ *
+ * The state creates `subscriptionCount` distinct data-area subscriptions, each observing a particular attribute of
+ * one of {@link #ENTITY_TYPE_COUNT} entity types, and a transaction of {@link #MUTATIONS_PER_TRANSACTION} entity
+ * upserts of random entity types.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+@State(Scope.Benchmark)
+public class ChangeCatalogCaptureDispatchState {
+	/**
+	 * Number of entity types the subscriptions and the mutations are spread over.
+	 */
+	private static final int ENTITY_TYPE_COUNT = 50;
+	/**
+	 * Number of entity mutations in the dispatched transaction.
+	 */
+	private static final int MUTATIONS_PER_TRANSACTION = 100;
+	/**
+	 * Number of attributes upserted by each entity mutation.
+	 */
+	private static final int ATTRIBUTES_PER_MUTATION = 4;
+
+	/**
+	 * The number of distinct subscription criteria (i.e. shared publishers).
+	 */
+	@Param({"10", "100", "1000"})
+	public int subscriptionCount;
+
+	/**
+	 * The dispatch strategy.
+	 */
+	@Param({"BROADCAST", "INDEXED"})
+	public DispatchStrategy dispatch;
+
+	/**
+	 * All publishers (targets) of the dispatch.
+	 */
+	private List<Target> targets;
+	/**
+	 * The dispatch index of the {@link #targets}.
+	 */
+	private ChangeCatalogCaptureDispatchIndex<Target> index;
+	/**
+	 * The transaction mutation followed by the entity mutations of the transaction.
+	 */
+	private CatalogBoundMutation[] mutations;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		final Random random = new Random(42);
+		this.targets = new ArrayList<>(this.subscriptionCount);
+		for (int i = 0; i < this.subscriptionCount; i++) {
+			final String entityType = "entity" + (i % ENTITY_TYPE_COUNT);
+			final String attributeName = "attribute" + (i / ENTITY_TYPE_COUNT);
+			this.targets.add(
+				new Target(
+					new ChangeCatalogCriteriaBundle(
+						new ChangeCatalogCaptureCriteria[]{
+							ChangeCatalogCaptureCriteria.builder()
+								.dataArea(site -> site.entityType(entityType).containerName(attributeName))
+								.build()
+						}
+					)
+				)
+			);
+		}
+		this.index = ChangeCatalogCaptureDispatchIndex.create(this.targets, Target::criteria);
+
+		this.mutations = new CatalogBoundMutation[MUTATIONS_PER_TRANSACTION + 1];
+		this.mutations[0] = new TransactionMutation(
+			UUID.randomUUID(), 1L, MUTATIONS_PER_TRANSACTION, 0L, OffsetDateTime.now()
+		);
+		for (int i = 1; i <= MUTATIONS_PER_TRANSACTION; i++) {
+			final List<UpsertAttributeMutation> attributeMutations = new ArrayList<>(ATTRIBUTES_PER_MUTATION);
+			for (int j = 0; j < ATTRIBUTES_PER_MUTATION; j++) {
+				attributeMutations.add(new UpsertAttributeMutation("attribute" + j, "value" + i));
+			}
+			this.mutations[i] = new EntityUpsertMutation(
+				"entity" + random.nextInt(ENTITY_TYPE_COUNT), i, EntityExistence.MAY_EXIST, attributeMutations
+			);
+		}
+	}
+
+	/**
+	 * Dispatches all mutations of the transaction to the targets using the configured strategy.
+	 *
+	 * @param blackhole the blackhole consuming the produced captures
+	 */
+	public void dispatchTransaction(@Nonnull Blackhole blackhole) {
+		for (int i = 0; i < this.mutations.length; i++) {
+			final CatalogBoundMutation mutation = this.mutations[i];
+			final int mutationIndex = i;
+			if (this.dispatch == DispatchStrategy.BROADCAST) {
+				for (Target target : this.targets) {
+					target.process(mutation, mutationIndex, blackhole);
+				}
+			} else {
+				this.index.forEachTarget(mutation, target -> target.process(mutation, mutationIndex, blackhole));
+			}
+		}
+	}
+
+	/**
+	 * The dispatch strategy being measured.
+	 */
+	public enum DispatchStrategy {
+		/**
+		 * Every mutation is passed to all the targets.
+		 */
+		BROADCAST,
+		/**
+		 * Every mutation is passed only to the targets returned by the dispatch index.
+		 */
+		INDEXED
+	}
+
+	/**
+	 * Simplified shared publisher - evaluates its predicate the same way the shared publisher does, but consumes
+	 * the captures instead of storing them in the ring buffer.
+	 *
+	 * @param criteria  the criteria of the publisher
+	 * @param predicate the predicate created from the criteria
+	 */
+	private record Target(
+		@Nonnull ChangeCatalogCriteriaBundle criteria,
+		@Nonnull MutationPredicate predicate
+	) {
+
+		Target(@Nonnull ChangeCatalogCriteriaBundle criteria) {
+			this(criteria, criteria.createPredicate(null, null));
+		}
+
+		/**
+		 * Converts the mutation to the captures matching the predicate of the target.
+		 */
+		void process(@Nonnull CatalogBoundMutation mutation, int mutationIndex, @Nonnull Blackhole blackhole) {
+			if (!(mutation instanceof TransactionMutation)) {
+				final MutationPredicateContext context = this.predicate.getContext();
+				context.skip(mutationIndex - 1 - context.getIndex());
+			}
+			mutation.toChangeCatalogCapture(this.predicate, ChangeCaptureContent.BODY).forEach(blackhole::consume);
+		}
+
+	}
+
+}
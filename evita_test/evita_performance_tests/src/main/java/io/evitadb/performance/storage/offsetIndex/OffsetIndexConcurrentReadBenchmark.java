@@ -0,0 +1,85 @@
+/*
+ *
+ *                         _ _        ____  ____
+ *               _____   _(_) |_ __ _|  _ \| __ )
+ *              / _ \ \ / / | __/ _` | | | |  _ \
+ *             |  __/\ V /| | || (_| | |_| | |_) |
+ *              \___| \_/ |_|\__\__,_|____/|____/
+ *
+ *   Copyright (c) 2026
+ *
+ *   Licensed under the Business Source License, Version 1.1 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://github.com/FgForrest/evitaDB/blob/master/LICENSE
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.evitadb.performance.storage.offsetIndex;
+
+import io.evitadb.store.offsetIndex.OffsetIndex;
+import io.evitadb.store.offsetIndex.StripedObjectPool;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark for concurrent {@link OffsetIndex#get(long, long, Class)} calls. Every read borrows a Kryo instance
+ * and a decompression buffer from the {@link StripedObjectPool}s of the `OffsetIndex`, so with many reader threads
+ * the benchmark measures mostly the contention of these pools rather than the disk access (the source file is small
+ * enough to be kept in the page cache).
+ *
+ * The benchmark runs with 64 threads (`@Threads(64)`) to simulate a burst of concurrent queries - compare the
+ * throughput with a run with `-t 1` to see how well the pools scale. The pool usage statistics are printed
+ * at the end of each trial.
+ *
+ * ## Suggested invocation
+ *
+ * ```bash
+ * java -cp evita_test/evita_performance_tests/target/benchmarks.jar \
+ *     io.evitadb.performance.BenchmarkRunner OffsetIndexConcurrentReadBenchmark \
+ *     -prof gc
+ * ```
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 10, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgsAppend = {
+	"-Xmx4g",
+	"-XX:+UseG1GC",
+	"-XX:+AlwaysPreTouch"
+})
+@Threads(64)
+public class OffsetIndexConcurrentReadBenchmark {
+
+	/**
+	 * Reads a random record of the source `OffsetIndex`. The record is consumed by a `Blackhole` so JIT does not
+	 * eliminate the read as dead.
+	 */
+	@Benchmark
+	public void readRandomRecord(OffsetIndexConcurrentReadBenchmarkState state, Blackhole blackhole) {
+		final int primaryKey = 1 + ThreadLocalRandom.current().nextInt(state.recordCount);
+		blackhole.consume(
+			state.getOffsetIndex().get(state.getCatalogVersion(), primaryKey, RawBytesStoragePart.class)
+		);
+	}
+
+}
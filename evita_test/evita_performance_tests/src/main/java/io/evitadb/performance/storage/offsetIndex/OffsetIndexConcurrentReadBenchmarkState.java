@@ -0,0 +1,216 @@
+/*
+ *
+ *                         _ _        ____  ____
+ *               _____   _(_) |_ __ _|  _ \| __ )
+ *              / _ \ \ / / | __/ _` | | | |  _ \
+ *             |  __/\ V /| | || (_| | |_| | |_) |
+ *              \___| \_/ |_|\__\__,_|____/|____/
+ *
+ *   Copyright (c) 2026
+ *
+ *   Licensed under the Business Source License, Version 1.1 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://github.com/FgForrest/evitaDB/blob/master/LICENSE
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.evitadb.performance.storage.offsetIndex;
+
+import io.evitadb.api.configuration.StorageOptions;
+import io.evitadb.api.configuration.TransactionOptions;
+import io.evitadb.core.executor.Scheduler;
+import io.evitadb.store.entity.EntityStoragePartConfigurer;
+import io.evitadb.store.kryo.ObservableOutputKeeper;
+import io.evitadb.store.kryo.VersionedKryo;
+import io.evitadb.store.kryo.VersionedKryoKeyInputs;
+import io.evitadb.store.model.header.EntityCollectionFileHeader;
+import io.evitadb.store.offsetIndex.OffsetIndex;
+import io.evitadb.store.offsetIndex.OffsetIndexDescriptor;
+import io.evitadb.store.offsetIndex.io.WriteOnlyFileHandle;
+import io.evitadb.store.offsetIndex.model.OffsetIndexRecordTypeRegistry;
+import io.evitadb.store.schema.SchemaKryoConfigurer;
+import io.evitadb.store.settings.StorageSettings;
+import io.evitadb.store.shared.kryo.VersionedKryoFactory;
+import io.evitadb.utils.FileUtils;
+import io.evitadb.utils.IOUtils;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.function.Function;
+
+/**
+ * JMH state for {@link OffsetIndexConcurrentReadBenchmark}.
+ *
+ * The state builds a populated {@link OffsetIndex} file on disk once per trial and keeps it open for all the reader
+ * threads. The records are {@link RawBytesStoragePart}s of `payloadSize` random bytes, so that the cost of a single
+ * read is dominated by the deserialization and not by the disk access.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+@State(Scope.Benchmark)
+public class OffsetIndexConcurrentReadBenchmarkState {
+
+	private static final String ENTITY_TYPE = "benchmark";
+
+	/**
+	 * Total number of records inserted into the `OffsetIndex`.
+	 */
+	@Param({"10000"})
+	public int recordCount;
+
+	/**
+	 * Size of the payload of a single record in bytes.
+	 */
+	@Param({"256", "4096"})
+	public int payloadSize;
+
+	/**
+	 * Toggles the `ZipCompressionFactory` path, which borrows a decompression buffer from the pool for every read.
+	 */
+	@Param({"true", "false"})
+	public boolean compression;
+
+	private Path benchmarkRoot;
+	private StorageSettings storageSettings;
+	private ObservableOutputKeeper observableOutputKeeper;
+	private ScheduledThreadPoolExecutor schedulerExecutor;
+	private WriteOnlyFileHandle writeHandle;
+	private OffsetIndex offsetIndex;
+	private long catalogVersion;
+
+	/**
+	 * Builds the `OffsetIndex` file once per benchmark trial.
+	 */
+	@Setup(Level.Trial)
+	public void setUpTrial() throws IOException {
+		this.benchmarkRoot = Files.createTempDirectory("evita-offsetIndex-read-bench");
+
+		final OffsetIndexRecordTypeRegistry recordTypeRegistry = new OffsetIndexRecordTypeRegistry();
+		recordTypeRegistry.registerFileOffsetIndexType((byte) 99, RawBytesStoragePart.class);
+		this.storageSettings = new StorageSettings(
+			StorageOptions.builder(StorageOptions.temporary())
+				.compress(this.compression)
+				.build(),
+			TransactionOptions.builder().build()
+		);
+
+		this.schedulerExecutor = new ScheduledThreadPoolExecutor(1);
+		this.schedulerExecutor.setContinueExistingPeriodicTasksAfterShutdownPolicy(false);
+		this.schedulerExecutor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+		this.schedulerExecutor.setRemoveOnCancelPolicy(true);
+		this.observableOutputKeeper = ObservableOutputKeeper._internalBuild(
+			new Scheduler(this.schedulerExecutor)
+		);
+		this.writeHandle = new WriteOnlyFileHandle(
+			this.benchmarkRoot.resolve("source.kryo"),
+			this.storageSettings.outputBufferSize(),
+			this.storageSettings.syncWrites(),
+			this.storageSettings,
+			this.storageSettings,
+			this.observableOutputKeeper
+		);
+		this.offsetIndex = new OffsetIndex(
+			0L,
+			new OffsetIndexDescriptor(
+				new EntityCollectionFileHeader(ENTITY_TYPE, 1, 0),
+				createKryoFactory(),
+				1.0,
+				0L
+			),
+			this.storageSettings.outputBufferSize(),
+			this.storageSettings.maxOpenedReadHandlesOrDefault(),
+			this.storageSettings.lockTimeoutSeconds(),
+			this.storageSettings.waitOnCloseSeconds(),
+			this.storageSettings,
+			this.storageSettings,
+			recordTypeRegistry,
+			this.writeHandle,
+			null,
+			null
+		);
+
+		final Random random = new Random(42L);
+		for (int primaryKey = 1; primaryKey <= this.recordCount; primaryKey++) {
+			final byte[] data = new byte[this.payloadSize];
+			random.nextBytes(data);
+			this.offsetIndex.put(0L, new RawBytesStoragePart(primaryKey, data));
+		}
+		this.offsetIndex.flush(0L);
+		this.catalogVersion = 0L;
+	}
+
+	/**
+	 * Prints the Kryo pool statistics, closes the `OffsetIndex` and removes the trial directory.
+	 */
+	@TearDown(Level.Trial)
+	public void tearDownTrial() {
+		if (this.offsetIndex != null) {
+			System.err.println("[OffsetIndexConcurrentReadBenchmark] " + this.offsetIndex.getReadKryoPoolStatistics());
+			IOUtils.closeQuietly(this.offsetIndex::close);
+			this.offsetIndex = null;
+		}
+		if (this.writeHandle != null) {
+			IOUtils.closeQuietly(this.writeHandle::close);
+			this.writeHandle = null;
+		}
+		if (this.observableOutputKeeper != null) {
+			IOUtils.closeQuietly(this.observableOutputKeeper::close);
+			this.observableOutputKeeper = null;
+		}
+		if (this.schedulerExecutor != null) {
+			this.schedulerExecutor.shutdownNow();
+			this.schedulerExecutor = null;
+		}
+		if (this.benchmarkRoot != null) {
+			FileUtils.deleteDirectory(this.benchmarkRoot);
+			this.benchmarkRoot = null;
+		}
+	}
+
+	/**
+	 * Returns the `OffsetIndex` shared by all the reader threads.
+	 */
+	@Nonnull
+	public OffsetIndex getOffsetIndex() {
+		return this.offsetIndex;
+	}
+
+	/**
+	 * Returns the catalog version the records were written in.
+	 */
+	public long getCatalogVersion() {
+		return this.catalogVersion;
+	}
+
+	@Nonnull
+	private static Function<VersionedKryoKeyInputs, VersionedKryo> createKryoFactory() {
+		return keyInputs -> VersionedKryoFactory.createKryo(
+			keyInputs.version(),
+			SchemaKryoConfigurer.INSTANCE
+				.andThen(new EntityStoragePartConfigurer(keyInputs.keyCompressor()))
+				.andThen(kryo -> kryo.register(
+					RawBytesStoragePart.class,
+					new RawBytesStoragePartSerializer(),
+					999
+				))
+		);
+	}
+
+}
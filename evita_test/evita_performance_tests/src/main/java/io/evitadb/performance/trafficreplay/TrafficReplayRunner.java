@@ -0,0 +1,193 @@
+/*
+ *
+ *                         _ _        ____  ____
+ *               _____   _(_) |_ __ _|  _ \| __ )
+ *              / _ \ \ / / | __/ _` | | | |  _ \
+ *             |  __/\ V /| | || (_| | |_| | |_) |
+ *              \___| \_/ |_|\__\__,_|____/|____/
+ *
+ *   Copyright (c) 2026
+ *
+ *   Licensed under the Business Source License, Version 1.1 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://github.com/FgForrest/evitaDB/blob/master/LICENSE
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.evitadb.performance.trafficreplay;
+
+import io.evitadb.api.requestResponse.trafficRecording.TrafficRecording;
+import io.evitadb.api.requestResponse.trafficRecording.TrafficRecordingCaptureRequest;
+import io.evitadb.api.requestResponse.trafficRecording.TrafficRecordingContent;
+import io.evitadb.core.traffic.replay.TrafficReplayReport;
+import io.evitadb.core.traffic.replay.TrafficReplayer;
+import io.evitadb.driver.EvitaClient;
+import io.evitadb.driver.config.ClientTimeoutOptions;
+import io.evitadb.driver.config.ClientTlsOptions;
+import io.evitadb.driver.config.EvitaClientConfiguration;
+import io.evitadb.store.traffic.InputStreamTrafficRecordReader;
+import io.evitadb.stream.RandomAccessFileInputStream;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * Standalone load generator replaying a traffic recording exported from a production evitaDB server (the zip archive
+ * produced by the traffic recording export or by the traffic recorder task) against a running evitaDB server.
+ *
+ * The recorded sessions are replayed by {@link TrafficReplayer} through the Java driver (gRPC) against the target
+ * catalog, either at the original pace multiplied by the speed factor, or as fast as possible (speed factor `0`).
+ * Only read operations are replayed unless `--mutations` is passed. The program prints latency statistics per query
+ * shape - recorded versus replayed - and writes them as CSV next to the recording (`<recording>.replay.csv`), so that
+ * the results of two releases can be compared.
+ *
+ * Usage: {@code TrafficReplayRunner <recording.zip> <catalog> [host] [port] [speedFactor] [parallelism] [--mutations]}
+ * (defaults: localhost 5555 1 64). The server is expected to accept plaintext gRPC (`tlsMode=RELAXED`).
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+public class TrafficReplayRunner {
+
+	/**
+	 * Program entry point. See class-level documentation for the full description.
+	 *
+	 * @param args command line arguments
+	 */
+	public static void main(@Nonnull final String[] args) throws IOException {
+		final List<String> arguments = new ArrayList<>(Arrays.asList(args));
+		final boolean replayMutations = arguments.remove("--mutations");
+		if (arguments.size() < 2) {
+			System.err.println(
+				"Usage: TrafficReplayRunner <recording.zip> <catalog> [host] [port] [speedFactor] [parallelism] [--mutations]"
+			);
+			System.exit(1);
+		}
+		final Path recordingPath = Path.of(arguments.get(0));
+		final String catalogName = arguments.get(1);
+		final String host = arguments.size() > 2 ? arguments.get(2) : "localhost";
+		final int port = arguments.size() > 3 ? Integer.parseInt(arguments.get(3)) : 5555;
+		final double speedFactor = arguments.size() > 4 ? Double.parseDouble(arguments.get(4)) : 1.0;
+		final int parallelism = arguments.size() > 5 ? Integer.parseInt(arguments.get(5)) : 64;
+
+		final Path workDirectory = Files.createTempDirectory("evitaTrafficReplay");
+		final List<InputStreamTrafficRecordReader> readers = new ArrayList<>(16);
+		try (final EvitaClient client = new EvitaClient(clientConfiguration(host, port))) {
+			for (Path recordingFile : extractRecordingFiles(recordingPath, workDirectory)) {
+				readers.add(
+					new InputStreamTrafficRecordReader(
+						new RandomAccessFileInputStream(new RandomAccessFile(recordingFile.toFile(), "r"))
+					)
+				);
+			}
+			final TrafficRecordingCaptureRequest request = TrafficRecordingCaptureRequest.builder()
+				.content(TrafficRecordingContent.BODY)
+				.build();
+			final Stream<TrafficRecording> recordings = readers.stream()
+				.flatMap(reader -> reader.getRecordings(request));
+
+			System.out.printf(
+				"Replaying `%s` against catalog `%s` at %s:%d (speed: %s, parallelism: %d, mutations: %s)%n",
+				recordingPath, catalogName, host, port,
+				speedFactor > 0 ? speedFactor + "x" : "max throughput", parallelism, replayMutations
+			);
+			final TrafficReplayReport report = new TrafficReplayer(
+				client, catalogName, speedFactor, parallelism, replayMutations
+			).replay(
+				recordings,
+				progress -> System.out.printf("\rReplayed %d %% of sessions", progress)
+			);
+			System.out.println();
+			System.out.println(report);
+
+			final Path reportPath = recordingPath.resolveSibling(recordingPath.getFileName() + ".replay.csv");
+			Files.writeString(reportPath, report.toCsv(), StandardCharsets.UTF_8);
+			System.out.println("Report written to: " + reportPath);
+		} finally {
+			for (InputStreamTrafficRecordReader reader : readers) {
+				reader.close();
+			}
+			try (final Stream<Path> files = Files.walk(workDirectory)) {
+				files.sorted(Comparator.reverseOrder()).forEach(it -> it.toFile().delete());
+			}
+		}
+	}
+
+	/**
+	 * Extracts the binary recording chunks from the exported zip archive into the work directory. The chunks are
+	 * returned in the order of the archive, which matches the order the sessions were recorded in.
+	 *
+	 * @param recordingPath path to the exported zip archive
+	 * @param workDirectory directory to extract the chunks into
+	 * @return paths of the extracted chunks
+	 */
+	@Nonnull
+	private static List<Path> extractRecordingFiles(@Nonnull Path recordingPath, @Nonnull Path workDirectory) throws IOException {
+		final List<Path> recordingFiles = new ArrayList<>(16);
+		try (
+			final InputStream inputStream = Files.newInputStream(recordingPath);
+			final ZipInputStream zipInputStream = new ZipInputStream(inputStream)
+		) {
+			ZipEntry nextEntry;
+			while ((nextEntry = zipInputStream.getNextEntry()) != null) {
+				if (nextEntry.getName().endsWith(".bin")) {
+					final Path recordingFile = workDirectory.resolve(Path.of(nextEntry.getName()).getFileName());
+					Files.copy(zipInputStream, recordingFile, StandardCopyOption.REPLACE_EXISTING);
+					recordingFiles.add(recordingFile);
+				}
+				zipInputStream.closeEntry();
+			}
+		}
+		return recordingFiles;
+	}
+
+	/**
+	 * Builds the client configuration used to connect to the server. The timeouts are generous because the replayed
+	 * production queries may be expensive.
+	 *
+	 * @param host server host
+	 * @param port server gRPC (and system API) port
+	 * @return the assembled client configuration
+	 */
+	@Nonnull
+	private static EvitaClientConfiguration clientConfiguration(@Nonnull final String host, final int port) {
+		return EvitaClientConfiguration.builder()
+			.host(host)
+			.port(port)
+			.systemApiPort(port)
+			.tls(
+				ClientTlsOptions.builder()
+					.tlsEnabled(false)
+					.mtlsEnabled(false)
+					.build()
+			)
+			.timeouts(
+				ClientTimeoutOptions.builder()
+					.timeout(5, TimeUnit.MINUTES)
+					.streamingTimeout(5, TimeUnit.MINUTES)
+					.build()
+			)
+			.build();
+	}
+
+}
@@ -0,0 +1,176 @@
+/*
+ *
+ *                         _ _        ____  ____
+ *               _____   _(_) |_ __ _|  _ \| __ )
+ *              / _ \ \ / / | __/ _` | | | |  _ \
+ *             |  __/\ V /| | || (_| | |_| | |_) |
+ *              \___| \_/ |_|\__\__,_|____/|____/
+ *
+ *   Copyright (c) 2026
+ *
+ *   Licensed under the Business Source License, Version 1.1 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *   https://github.com/FgForrest/evitaDB/blob/master/LICENSE
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+
+package io.evitadb.spike;
+
+import io.evitadb.index.bitmap.RoaringBitmapBackedBitmap;
+import io.evitadb.roaringbitmap.FastAggregation;
+import io.evitadb.roaringbitmap.PersistentRoaringBitmap;
+import io.evitadb.roaringbitmap.RoaringBitmapWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.annotation.Nonnull;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the two conjunction strategies of {@link RoaringBitmapBackedBitmap#and(PersistentRoaringBitmap[])} on
+ * distributions that mimic the real `AndFormula` inputs: one selective operand (e.g. `entityPrimaryKeyInSet` with
+ * a few dozen ids, or a rare attribute value) intersected with several large operands (the scope / locale / price
+ * list "superset" bitmaps holding most of the collection).
+ *
+ * - {@code containerWise} - {@link RoaringBitmapBackedBitmap#andByContainers}: the classic roaring AND that
+ *   intersects bitmaps container by container.
+ * - {@code galloping} - {@link RoaringBitmapBackedBitmap#andByGalloping}: leapfrog intersection driven by the smallest
+ *   bitmap that skips through the others via `PeekableIntIterator#advanceIfNeeded`.
+ * - {@code adaptive} - {@link RoaringBitmapBackedBitmap#and}: the production entry point choosing between the two.
+ * - {@code containerWiseCardinality} / {@code adaptiveCardinality} - the same comparison for the count-only path.
+ *
+ * The `smallCardinality` sweep crosses {@link RoaringBitmapBackedBitmap#GALLOPING_MAX_CARDINALITY}, and the large
+ * operands are generated either dense (90 % of the id space - bitmap containers) or sparse (2 % - array
+ * containers), so the break-even points used by the adaptive strategy can be verified with data.
+ *
+ * Results (single large operand, abbreviated; the break-even lies between 100 and 250 ids of the selective operand):
+ *
+ * Benchmark                                   (largeDensityPercent)  (largeOperands)  (smallCardinality)  Mode     Score  Units
+ * ConjunctionStrategyBenchmark.containerWise                      2                1                  30  avgt     4.837  us/op
+ * ConjunctionStrategyBenchmark.containerWise                      2                1                 100  avgt     7.570  us/op
+ * ConjunctionStrategyBenchmark.containerWise                      2                1                 250  avgt     8.566  us/op
+ * ConjunctionStrategyBenchmark.containerWise                      2                1                4000  avgt    46.828  us/op
+ * ConjunctionStrategyBenchmark.containerWise                     90                1                  30  avgt     5.412  us/op
+ * ConjunctionStrategyBenchmark.containerWise                     90                1                 100  avgt     5.539  us/op
+ * ConjunctionStrategyBenchmark.containerWise                     90                1                 250  avgt     7.686  us/op
+ * ConjunctionStrategyBenchmark.containerWise                     90                1                4000  avgt    21.255  us/op
+ * ConjunctionStrategyBenchmark.galloping                          2                1                  30  avgt     2.018  us/op
+ * ConjunctionStrategyBenchmark.galloping                          2                1                 100  avgt     5.248  us/op
+ * ConjunctionStrategyBenchmark.galloping                          2                1                 250  avgt    12.546  us/op
+ * ConjunctionStrategyBenchmark.galloping                          2                1                4000  avgt   162.673  us/op
+ * ConjunctionStrategyBenchmark.galloping                         90                1                  30  avgt     1.884  us/op
+ * ConjunctionStrategyBenchmark.galloping                         90                1                 100  avgt     4.296  us/op
+ * ConjunctionStrategyBenchmark.galloping                         90                1                 250  avgt     7.918  us/op
+ * ConjunctionStrategyBenchmark.galloping                         90                1                4000  avgt    88.691  us/op
+ *
+ * Run through JMH's own runner (the benchmarks jar uses a custom main):
+ * {@code java -cp evita_test/evita_performance_tests/target/benchmarks.jar org.openjdk.jmh.Main
+ * io\.evitadb\.spike\.ConjunctionStrategyBenchmark}.
+ *
+ * @author Jan Novotný (novotny@fg.cz), FG Forrest a.s. (c) 2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConjunctionStrategyBenchmark {
+
+	public static void main(String[] args) throws Exception {
+		org.openjdk.jmh.Main.main(args);
+	}
+
+	@Benchmark
+	public int containerWise(ConjunctionState state) {
+		return RoaringBitmapBackedBitmap.andByContainers(state.bitmaps).size();
+	}
+
+	@Benchmark
+	public int galloping(ConjunctionState state) {
+		return RoaringBitmapBackedBitmap.andByGalloping(state.bitmaps).size();
+	}
+
+	@Benchmark
+	public int adaptive(ConjunctionState state) {
+		return RoaringBitmapBackedBitmap.and(state.bitmaps).size();
+	}
+
+	@Benchmark
+	public int containerWiseCardinality(ConjunctionState state) {
+		return FastAggregation.andCardinality(state.bitmaps);
+	}
+
+	@Benchmark
+	public int adaptiveCardinality(ConjunctionState state) {
+		return RoaringBitmapBackedBitmap.andCardinality(state.bitmaps);
+	}
+
+	@State(Scope.Benchmark)
+	public static class ConjunctionState {
+		/** Size of the id space the operands are drawn from (a mid-size catalog). */
+		private static final int ID_SPACE = 2_000_000;
+
+		/** Cardinality of the selective operand. */
+		@Param({"30", "100", "250", "500", "4000", "50000"})
+		private int smallCardinality;
+
+		/** Number of large operands intersected with the selective one. */
+		@Param({"1", "3"})
+		private int largeOperands;
+
+		/** Share of the id space (in percent) populated in each large operand. */
+		@Param({"2", "90"})
+		private int largeDensityPercent;
+
+		/** Operands of the conjunction - the selective one first, followed by the large ones. */
+		PersistentRoaringBitmap[] bitmaps;
+
+		@Setup(Level.Trial)
+		public void setUp() {
+			final Random random = new Random(42);
+			this.bitmaps = new PersistentRoaringBitmap[this.largeOperands + 1];
+			// the selective operand is the first one, exactly like AndFormula sorts its inputs by estimated cost
+			this.bitmaps[0] = generate(random, this.smallCardinality, ID_SPACE);
+			for (int i = 1; i < this.bitmaps.length; i++) {
+				this.bitmaps[i] = generate(random, ID_SPACE / 100 * this.largeDensityPercent, ID_SPACE);
+			}
+		}
+
+		/**
+		 * Generates a bitmap with approximately `cardinality` ids spread uniformly over the id space.
+		 */
+		@Nonnull
+		private static PersistentRoaringBitmap generate(@Nonnull Random random, int cardinality, int idSpace) {
+			final RoaringBitmapWriter<PersistentRoaringBitmap> writer = RoaringBitmapWriter.writer()
+				.constantMemory()
+				.runCompress(false)
+				.get();
+			final double probability = (double) cardinality / idSpace;
+			for (int i = 0; i < idSpace; i++) {
+				if (random.nextDouble() < probability) {
+					writer.add(i);
+				}
+			}
+			return writer.get();
+		}
+	}
+
+}